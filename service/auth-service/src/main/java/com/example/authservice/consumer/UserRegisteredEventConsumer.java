@@ -49,7 +49,8 @@ public class UserRegisteredEventConsumer {
 	)
 	@KafkaListener(
 		topics = EventTypeConstants.TOPIC_USER_REGISTERED,
-		groupId = "${spring.kafka.consumer.group-id}"
+		groupId = "${spring.kafka.consumer.group-id}",
+		concurrency = "${spring.kafka.listener.concurrency:3}"
 	)
 	public void consume(
 		@Payload UserRegisteredEvent event,
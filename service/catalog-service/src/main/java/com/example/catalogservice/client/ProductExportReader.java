@@ -0,0 +1,91 @@
+package com.example.catalogservice.client;
+
+import com.example.catalogservice.client.dto.CatalogSyncProductResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Response;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * product-service 카탈로그 내보내기 스트림 리더
+ *
+ * NDJSON(한 줄에 상품 하나)을 한 줄씩 읽어 batchSize 단위로 묶어 전달하므로,
+ * 전체 상품 수와 관계없이 한 번에 배치 하나만큼만 메모리에 올린다.
+ * - 스트림 마지막 줄은 {"end":true,"count":N} 트레일러다. 연결이 중간에 끊겨도 그때까지 읽은 줄은 정상 EOF처럼 보이므로,
+ *   트레일러가 없거나 상품 수가 맞지 않으면 IOException을 던져 일부만 담긴 인덱스로 전환되지 않게 한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductExportReader {
+
+    private static final int EXPORT_CHUNK_SIZE = 500;
+    private static final String TRAILER_FIELD = "end";
+
+    private final ProductServiceClient productServiceClient;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 상품을 productId 오름차순으로 읽는다.
+     *
+     * @param batchSize 한 번에 전달할 상품 수
+     * @param batchHandler 배치 처리 함수 - false를 반환하면 읽기를 중단한다
+     */
+    public void read(int batchSize, Predicate<List<CatalogSyncProductResponse>> batchHandler) throws IOException {
+        try (Response response = productServiceClient.streamProductsForSync(EXPORT_CHUNK_SIZE)) {
+            if (response.status() != 200 || response.body() == null) {
+                throw new IOException("Product export stream failed: status=" + response.status());
+            }
+
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(response.body().asInputStream(), StandardCharsets.UTF_8))) {
+                List<CatalogSyncProductResponse> batch = new ArrayList<>(batchSize);
+                long count = 0;
+                JsonNode trailer = null;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    if (trailer != null) {
+                        throw new IOException("Product export stream has data after trailer: read=" + count);
+                    }
+                    JsonNode node = objectMapper.readTree(line);
+                    if (node.path(TRAILER_FIELD).asBoolean(false)) {
+                        trailer = node;
+                        continue;
+                    }
+                    batch.add(objectMapper.treeToValue(node, CatalogSyncProductResponse.class));
+                    count++;
+                    if (batch.size() >= batchSize) {
+                        if (!batchHandler.test(batch)) {
+                            log.info("Product export stream reading stopped by handler");
+                            return;
+                        }
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+                if (trailer == null) {
+                    throw new IOException("Product export stream ended without trailer: read=" + count);
+                }
+                long expected = trailer.path("count").asLong(-1);
+                if (expected != count) {
+                    throw new IOException("Product export stream count mismatch: expected=" + expected + ", read=" + count);
+                }
+                if (!batch.isEmpty()) {
+                    batchHandler.test(batch);
+                }
+            }
+        }
+    }
+}
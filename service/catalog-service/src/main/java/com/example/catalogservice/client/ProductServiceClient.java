@@ -1,9 +1,9 @@
 package com.example.catalogservice.client;
 
 import com.example.catalogservice.client.dto.CatalogSyncCategoryResponse;
-import com.example.catalogservice.client.dto.CatalogSyncProductResponse;
-import com.example.catalogservice.client.dto.PageResponse;
+import com.example.catalogservice.client.dto.CatalogSyncChangesResponse;
 import com.example.catalogservice.controller.dto.ProductDetailResponse;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,15 +14,31 @@ import java.util.List;
 @FeignClient(name = "product-service", url = "${product-service.url}")
 public interface ProductServiceClient {
 
-    @GetMapping("/api/internal/products/sync")
-    PageResponse<CatalogSyncProductResponse> getProductsForSync(
-            @RequestParam("page") int page,
-            @RequestParam("size") int size
-    );
+    /**
+     * 카탈로그 동기화용 상품 NDJSON 스트림 - 본문은 ProductExportReader로 읽는다
+     */
+    @GetMapping("/api/internal/products/sync/stream")
+    Response streamProductsForSync(@RequestParam("chunkSize") int chunkSize);
+
+    /**
+     * 증분 동기화용 상품 변경 조회 - 커서 (updatedAfter, afterProductId) 이후 수정된 상품과 툼스톤
+     *
+     * @param updatedAfter ISO-8601 수정일시
+     */
+    @GetMapping("/api/internal/products/sync/changes")
+    CatalogSyncChangesResponse getProductChangesForSync(@RequestParam("updatedAfter") String updatedAfter,
+                                                        @RequestParam(value = "afterProductId", required = false) Long afterProductId,
+                                                        @RequestParam("size") int size);
 
     @GetMapping("/api/internal/categories/sync")
     List<CatalogSyncCategoryResponse> getCategoriesForSync();
 
     @GetMapping("/api/admin/products/{productId}")
     ProductDetailResponse getProductDetail(@PathVariable("productId") Long productId);
+
+    /**
+     * 상품 상세 일괄 조회 - 최대 100개, 존재하지 않는 상품은 결과에서 제외된다
+     */
+    @GetMapping("/api/internal/products/details")
+    List<ProductDetailResponse> getProductDetails(@RequestParam("productIds") List<Long> productIds);
 }
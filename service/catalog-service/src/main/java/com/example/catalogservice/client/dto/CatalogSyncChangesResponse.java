@@ -0,0 +1,26 @@
+package com.example.catalogservice.client.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 증분 동기화용 상품 변경 페이지 - 다음 요청은 nextUpdatedAt/nextProductId를 커서로 사용한다
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CatalogSyncChangesResponse {
+
+    /** 색인할 상품 (ACTIVE 상태이고 진열 중) */
+    private List<CatalogSyncProductResponse> products;
+    /** 카탈로그에서 삭제할 상품 ID (툼스톤) */
+    private List<Long> deletedProductIds;
+    private LocalDateTime nextUpdatedAt;
+    private Long nextProductId;
+    private boolean hasNext;
+}
@@ -0,0 +1,51 @@
+package com.example.catalogservice.config;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+
+/**
+ * Kafka 리스너 설정
+ *
+ * 배치 리스너 컨테이너 팩토리 - poll 한 번에 받은 레코드를 한 번에 처리하는 리스너용.
+ * 배치 리스너는 @RetryableTopic을 쓸 수 없으므로 같은 재시도 정책을 에러 핸들러로 구성한다.
+ * - 리스너가 BatchListenerFailedException으로 실패한 레코드를 알리면 그 앞까지 커밋하고, 실패한 레코드부터 다시 처리한다
+ * - 재시도는 3회 (지수 백오프 1초 -> 2초 -> 4초), 모두 실패하면 원본 토픽 + DLT_SUFFIX 토픽으로 보낸다
+ */
+@Configuration
+public class KafkaConfig {
+
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchKafkaListenerContainerFactory";
+    public static final String DLT_SUFFIX = "-dlt";
+
+    private static final int MAX_RETRIES = 3;
+    private static final long INITIAL_BACKOFF_MILLIS = 1000;
+    private static final double BACKOFF_MULTIPLIER = 2.0;
+    private static final long MAX_BACKOFF_MILLIS = 10000;
+
+    @Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            KafkaTemplate<String, Object> kafkaTemplate) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, exception) -> new TopicPartition(record.topic() + DLT_SUFFIX, -1));
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(MAX_RETRIES);
+        backOff.setInitialInterval(INITIAL_BACKOFF_MILLIS);
+        backOff.setMultiplier(BACKOFF_MULTIPLIER);
+        backOff.setMaxInterval(MAX_BACKOFF_MILLIS);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, backOff));
+        return factory;
+    }
+}
@@ -1,41 +1,53 @@
 package com.example.catalogservice.config;
 
-import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.example.catalogservice.infrastructure.redis.CatalogRedisSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
 public class RedisConfig {
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       CatalogRedisSerializer catalogRedisSerializer) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        objectMapper.activateDefaultTyping(
-                objectMapper.getPolymorphicTypeValidator(),
-                ObjectMapper.DefaultTyping.NON_FINAL,
-                JsonTypeInfo.As.PROPERTY
-        );
-
-        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
-
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(jsonSerializer);
+        template.setValueSerializer(catalogRedisSerializer);
         template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(jsonSerializer);
+        template.setHashValueSerializer(catalogRedisSerializer);
 
         template.afterPropertiesSet();
         return template;
     }
+
+    /**
+     * 카탈로그 캐시 값 직렬화기 - 바이너리/JSON 값을 모두 읽고, format 형식으로 쓴다.
+     * 기본값은 JSON이다. 바이너리를 읽지 못하는 이전 버전 인스턴스와 함께 떠 있는 순차 배포 중에도 안전하며,
+     * 모든 인스턴스가 배포된 뒤 catalog.redis.codec.format=BINARY로 전환한다.
+     */
+    @Bean
+    public CatalogRedisSerializer catalogRedisSerializer(
+            @Value("${catalog.redis.codec.format:JSON}") CatalogRedisSerializer.Format format,
+            @Value("${catalog.redis.codec.compression-threshold:1024}") int compressionThreshold,
+            MeterRegistry meterRegistry) {
+        return new CatalogRedisSerializer(format, compressionThreshold, meterRegistry);
+    }
+
+    /**
+     * 인스턴스 간 변경 전파용 Redis pub/sub 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
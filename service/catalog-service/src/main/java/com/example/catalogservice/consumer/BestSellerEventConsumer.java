@@ -0,0 +1,72 @@
+package com.example.catalogservice.consumer;
+
+import com.example.catalogservice.consumer.event.OrderCancelledEvent;
+import com.example.catalogservice.consumer.event.OrderCreatedEvent;
+import com.example.catalogservice.service.BestSellerService;
+import io.github.springwolf.bindings.kafka.annotations.KafkaAsyncOperationBinding;
+import io.github.springwolf.core.asyncapi.annotations.AsyncListener;
+import io.github.springwolf.core.asyncapi.annotations.AsyncMessage;
+import io.github.springwolf.core.asyncapi.annotations.AsyncOperation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.PartitionOffset;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 이벤트 컨슈머 (베스트셀러 집계)
+ *
+ * 소비 방식:
+ * - 판매량은 인스턴스 메모리에 집계하므로 모든 인스턴스가 주문 이벤트 전체를 받아야 한다.
+ *   그룹 관리(리밸런스) 없이 토픽의 모든 파티션을 직접 할당받고, 기동 시 파티션 끝으로 이동해 최신 이벤트부터 읽는다
+ *   (이전 판매량은 체크포인트로 복원)
+ * - 커밋 오프셋은 쓰지 않으므로 그룹 ID는 고정값 하나만 쓴다 (재기동마다 컨슈머 그룹이 새로 생기지 않는다)
+ * - 메모리 집계는 실패하지 않으므로 재시도/DLQ를 두지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BestSellerEventConsumer {
+
+    private static final String GROUP_ID = "${spring.kafka.consumer.group-id:catalog-service}-best-seller";
+
+    private final BestSellerService bestSellerService;
+
+    @AsyncListener(
+            operation = @AsyncOperation(
+                    channelName = "order.created",
+                    description = "주문 생성 이벤트 구독 - 베스트셀러 판매량 집계",
+                    message = @AsyncMessage(
+                            messageId = "orderCreatedEvent",
+                            name = "OrderCreatedEvent"
+                    )
+            )
+    )
+    @KafkaAsyncOperationBinding
+    @KafkaListener(groupId = GROUP_ID, topicPartitions = @TopicPartition(topic = "order.created",
+            partitionOffsets = @PartitionOffset(partition = "*", initialOffset = "0", seekPosition = "END")))
+    public void consumeOrderCreatedEvent(@Payload OrderCreatedEvent event) {
+        log.debug("Received order.created event for best sellers: orderId={}", event.getOrderId());
+        bestSellerService.recordOrder(event);
+    }
+
+    @AsyncListener(
+            operation = @AsyncOperation(
+                    channelName = "order.cancelled",
+                    description = "주문 취소 이벤트 구독 - 베스트셀러 판매량에서 취소 수량 차감",
+                    message = @AsyncMessage(
+                            messageId = "orderCancelledEvent",
+                            name = "OrderCancelledEvent"
+                    )
+            )
+    )
+    @KafkaAsyncOperationBinding
+    @KafkaListener(groupId = GROUP_ID, topicPartitions = @TopicPartition(topic = "order.cancelled",
+            partitionOffsets = @PartitionOffset(partition = "*", initialOffset = "0", seekPosition = "END")))
+    public void consumeOrderCancelledEvent(@Payload OrderCancelledEvent event) {
+        log.debug("Received order.cancelled event for best sellers: orderId={}", event.getOrderId());
+        bestSellerService.recordCancellation(event);
+    }
+}
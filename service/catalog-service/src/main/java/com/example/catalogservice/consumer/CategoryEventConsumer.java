@@ -61,7 +61,7 @@ public class CategoryEventConsumer {
             include = {Exception.class},
             topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
     )
-    @KafkaListener(topics = "category.created", groupId = "${spring.kafka.consumer.group-id:catalog-service}")
+    @KafkaListener(topics = "category.created", groupId = "${spring.kafka.consumer.group-id:catalog-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeCategoryCreatedEvent(
             @Payload CategoryCreatedEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -101,7 +101,7 @@ public class CategoryEventConsumer {
             include = {Exception.class},
             topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
     )
-    @KafkaListener(topics = "category.updated", groupId = "${spring.kafka.consumer.group-id:catalog-service}")
+    @KafkaListener(topics = "category.updated", groupId = "${spring.kafka.consumer.group-id:catalog-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeCategoryUpdatedEvent(
             @Payload CategoryUpdatedEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -141,7 +141,7 @@ public class CategoryEventConsumer {
             include = {Exception.class},
             topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
     )
-    @KafkaListener(topics = "category.deleted", groupId = "${spring.kafka.consumer.group-id:catalog-service}")
+    @KafkaListener(topics = "category.deleted", groupId = "${spring.kafka.consumer.group-id:catalog-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeCategoryDeletedEvent(
             @Payload CategoryDeletedEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
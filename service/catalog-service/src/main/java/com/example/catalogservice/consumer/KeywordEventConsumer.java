@@ -60,7 +60,7 @@ public class KeywordEventConsumer {
             include = {Exception.class},
             topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
     )
-    @KafkaListener(topics = "keyword.created", groupId = "${spring.kafka.consumer.group-id:catalog-service}")
+    @KafkaListener(topics = "keyword.created", groupId = "${spring.kafka.consumer.group-id:catalog-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeKeywordCreatedEvent(
             @Payload KeywordCreatedEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -101,7 +101,7 @@ public class KeywordEventConsumer {
             include = {Exception.class},
             topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
     )
-    @KafkaListener(topics = "keyword.deleted", groupId = "${spring.kafka.consumer.group-id:catalog-service}")
+    @KafkaListener(topics = "keyword.deleted", groupId = "${spring.kafka.consumer.group-id:catalog-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeKeywordDeletedEvent(
             @Payload KeywordDeletedEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
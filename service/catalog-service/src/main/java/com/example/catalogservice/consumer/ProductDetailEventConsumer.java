@@ -2,7 +2,7 @@ package com.example.catalogservice.consumer;
 
 import com.example.catalogservice.consumer.event.ProductCreatedEvent;
 import com.example.catalogservice.consumer.event.ProductUpdatedEvent;
-import com.example.catalogservice.service.ProductDetailService;
+import com.example.catalogservice.service.ProductDetailRefreshScheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.DltHandler;
@@ -23,7 +23,10 @@ import org.springframework.stereotype.Component;
  *
  * Data Enrichment 패턴:
  * - 이벤트에는 최소한의 정보(productId)만 사용
- * - product-service 상세 API를 호출하여 전체 데이터를 가져온 뒤 Redis에 캐싱
+ * - 갱신 요청을 {@link ProductDetailRefreshScheduler}에 등록하면, 짧은 시간 안의 같은 상품 이벤트를 합쳐
+ *   product-service 일괄 조회로 전체 데이터를 가져온 뒤 Redis에 캐싱한다 (갱신 실패 재시도도 스케줄러가 담당)
+ * - 리스너는 요청 등록 후 바로 반환하므로 오프셋은 캐시 갱신 전에 커밋된다.
+ *   대신 스케줄러가 재시도를 다 쓴 상품을 product.updated DLT로 보내므로, 갱신 실패도 아래 DLT 핸들러로 모인다
  *
  * 재시도 전략:
  * - 총 4회 시도 (원본 1회 + 재시도 3회)
@@ -37,7 +40,7 @@ public class ProductDetailEventConsumer {
 
     private static final String GROUP_ID = "${spring.kafka.consumer.group-id:catalog-service}-detail";
 
-    private final ProductDetailService productDetailService;
+    private final ProductDetailRefreshScheduler refreshScheduler;
 
     @RetryableTopic(
             attempts = "4",
@@ -52,7 +55,7 @@ public class ProductDetailEventConsumer {
             retryTopicSuffix = "-detail-retry",
             dltTopicSuffix = "-detail-dlt"
     )
-    @KafkaListener(topics = "product.created", groupId = GROUP_ID)
+    @KafkaListener(topics = "product.created", groupId = GROUP_ID, concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeProductCreatedEvent(
             @Payload ProductCreatedEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -62,10 +65,10 @@ public class ProductDetailEventConsumer {
                 event.getProductId(), topic, offset);
 
         try {
-            productDetailService.refreshCache(event.getProductId());
-            log.info("[Detail] Successfully cached product.created: productId={}", event.getProductId());
+            refreshScheduler.request(event.getProductId());
+            log.debug("[Detail] Scheduled cache refresh for product.created: productId={}", event.getProductId());
         } catch (Exception e) {
-            log.error("[Detail] Failed to cache product.created: productId={}", event.getProductId(), e);
+            log.error("[Detail] Failed to schedule cache refresh for product.created: productId={}", event.getProductId(), e);
             throw e;
         }
     }
@@ -83,7 +86,7 @@ public class ProductDetailEventConsumer {
             retryTopicSuffix = "-detail-retry",
             dltTopicSuffix = "-detail-dlt"
     )
-    @KafkaListener(topics = "product.updated", groupId = GROUP_ID)
+    @KafkaListener(topics = "product.updated", groupId = GROUP_ID, concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeProductUpdatedEvent(
             @Payload ProductUpdatedEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -93,10 +96,10 @@ public class ProductDetailEventConsumer {
                 event.getProductId(), topic, offset);
 
         try {
-            productDetailService.refreshCache(event.getProductId());
-            log.info("[Detail] Successfully cached product.updated: productId={}", event.getProductId());
+            refreshScheduler.request(event.getProductId());
+            log.debug("[Detail] Scheduled cache refresh for product.updated: productId={}", event.getProductId());
         } catch (Exception e) {
-            log.error("[Detail] Failed to cache product.updated: productId={}", event.getProductId(), e);
+            log.error("[Detail] Failed to schedule cache refresh for product.updated: productId={}", event.getProductId(), e);
             throw e;
         }
     }
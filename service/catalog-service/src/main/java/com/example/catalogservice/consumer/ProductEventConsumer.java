@@ -1,5 +1,6 @@
 package com.example.catalogservice.consumer;
 
+import com.example.catalogservice.config.KafkaConfig;
 import com.example.catalogservice.consumer.event.ProductCreatedEvent;
 import com.example.catalogservice.consumer.event.ProductUpdatedEvent;
 import com.example.catalogservice.service.ProductSyncService;
@@ -9,27 +10,35 @@ import io.github.springwolf.core.asyncapi.annotations.AsyncMessage;
 import io.github.springwolf.core.asyncapi.annotations.AsyncOperation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.annotation.DltHandler;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.annotation.RetryableTopic;
-import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
 /**
  * Product 이벤트 컨슈머
  *
- * 재시도 전략:
+ * 재시도 전략 ({@link KafkaConfig#BATCH_LISTENER_CONTAINER_FACTORY}):
  * - 총 4회 시도 (원본 1회 + 재시도 3회)
  * - 지수 백오프: 1초 -> 2초 -> 4초
- * - 모든 재시도 실패 시 DLQ(Dead Letter Queue)로 전송
+ * - 모든 재시도 실패 시 실패한 레코드만 DLQ(Dead Letter Queue)로 전송
  *
  * 멱등성:
  * - Elasticsearch는 document ID 기반 upsert로 동작하므로
  *   같은 productId로 여러 번 저장해도 결과가 동일함 (자연적 멱등성)
+ *
+ * 색인:
+ * - 배치 리스너로 poll 한 번에 받은 이벤트를 ProductBulkIndexer가 상품별로 합쳐 bulk 요청으로 반영한다
+ * - 리스너는 bulk 요청이 끝난 뒤에 반환되므로 오프셋은 색인 이후에만 커밋된다.
+ *   일부 상품이 실패하면 실패한 첫 레코드 앞까지만 커밋한다
  */
 @Slf4j
 @Component
@@ -49,33 +58,14 @@ public class ProductEventConsumer {
             )
     )
     @KafkaAsyncOperationBinding
-    @RetryableTopic(
-            attempts = "4",
-            backoff = @Backoff(
-                    delay = 1000,
-                    multiplier = 2.0,
-                    maxDelay = 10000
-            ),
-            autoCreateTopics = "false",
-            include = {Exception.class},
-            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
-    )
-    @KafkaListener(topics = "product.created", groupId = "${spring.kafka.consumer.group-id:catalog-service}")
-    public void consumeProductCreatedEvent(
-            @Payload ProductCreatedEvent event,
-            @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
-            @Header(value = KafkaHeaders.OFFSET, required = false) Long offset
-    ) {
-        log.info("Received product.created event: productId={}, topic={}, offset={}",
-                event.getProductId(), topic, offset);
+    @KafkaListener(topics = "product.created", groupId = "${spring.kafka.consumer.group-id:catalog-service}", concurrency = "${spring.kafka.listener.concurrency:3}",
+            containerFactory = KafkaConfig.BATCH_LISTENER_CONTAINER_FACTORY)
+    public void consumeProductCreatedEvents(List<ConsumerRecord<String, ProductCreatedEvent>> records) {
+        log.info("Received product.created events: count={}, first={}", records.size(), position(records));
 
-        try {
-            productSyncService.indexProduct(event);
-            log.info("Successfully processed product.created event: productId={}", event.getProductId());
-        } catch (Exception e) {
-            log.error("Failed to process product.created event: productId={}", event.getProductId(), e);
-            throw e;
-        }
+        List<ProductCreatedEvent> events = values(records);
+        failOnFirstFailure(records, productSyncService.indexProducts(events), ProductCreatedEvent::getProductId);
+        log.info("Successfully processed product.created events: count={}", events.size());
     }
 
     @AsyncListener(
@@ -89,33 +79,47 @@ public class ProductEventConsumer {
             )
     )
     @KafkaAsyncOperationBinding
-    @RetryableTopic(
-            attempts = "4",
-            backoff = @Backoff(
-                    delay = 1000,
-                    multiplier = 2.0,
-                    maxDelay = 10000
-            ),
-            autoCreateTopics = "false",
-            include = {Exception.class},
-            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
-    )
-    @KafkaListener(topics = "product.updated", groupId = "${spring.kafka.consumer.group-id:catalog-service}")
-    public void consumeProductUpdatedEvent(
-            @Payload ProductUpdatedEvent event,
-            @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
-            @Header(value = KafkaHeaders.OFFSET, required = false) Long offset
-    ) {
-        log.info("Received product.updated event: productId={}, topic={}, offset={}",
-                event.getProductId(), topic, offset);
+    @KafkaListener(topics = "product.updated", groupId = "${spring.kafka.consumer.group-id:catalog-service}", concurrency = "${spring.kafka.listener.concurrency:3}",
+            containerFactory = KafkaConfig.BATCH_LISTENER_CONTAINER_FACTORY)
+    public void consumeProductUpdatedEvents(List<ConsumerRecord<String, ProductUpdatedEvent>> records) {
+        log.info("Received product.updated events: count={}, first={}", records.size(), position(records));
+
+        List<ProductUpdatedEvent> events = values(records);
+        failOnFirstFailure(records, productSyncService.updateProducts(events), ProductUpdatedEvent::getProductId);
+        log.info("Successfully processed product.updated events: count={}", events.size());
+    }
+
+    private static <T> List<T> values(List<ConsumerRecord<String, T>> records) {
+        return records.stream().map(ConsumerRecord::value).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * 실패한 상품의 첫 레코드를 에러 핸들러에 알린다 - 그 앞의 레코드까지 오프셋을 커밋하고, 그 레코드부터 다시 처리한다
+     * (뒤의 성공한 레코드는 다시 색인되지만 upsert라 결과가 같다)
+     */
+    private static <T> void failOnFirstFailure(List<ConsumerRecord<String, T>> records,
+                                               Map<Long, RuntimeException> failures,
+                                               Function<T, Long> productId) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < records.size(); i++) {
+            T event = records.get(i).value();
+            RuntimeException failure = event != null ? failures.get(productId.apply(event)) : null;
+            if (failure != null) {
+                log.error("Failed to process {} event: productId={}, offset={}, failed={}",
+                        records.get(i).topic(), productId.apply(event), records.get(i).offset(), failures.keySet(), failure);
+                throw new BatchListenerFailedException(failure.getMessage(), failure, i);
+            }
+        }
+    }
 
-        try {
-            productSyncService.updateProduct(event);
-            log.info("Successfully processed product.updated event: productId={}", event.getProductId());
-        } catch (Exception e) {
-            log.error("Failed to process product.updated event: productId={}", event.getProductId(), e);
-            throw e;
+    private static String position(List<? extends ConsumerRecord<?, ?>> records) {
+        if (records.isEmpty()) {
+            return "-";
         }
+        ConsumerRecord<?, ?> first = records.get(0);
+        return first.topic() + "-" + first.partition() + "@" + first.offset();
     }
 
     /**
@@ -130,13 +134,14 @@ public class ProductEventConsumer {
      * DLQ 메시지는 Kafka UI 또는 모니터링 도구를 통해 확인하고
      * 수동으로 재처리할 수 있습니다.
      */
-    @DltHandler
+    @KafkaListener(topics = {"product.created" + KafkaConfig.DLT_SUFFIX, "product.updated" + KafkaConfig.DLT_SUFFIX},
+            groupId = "${spring.kafka.consumer.group-id:catalog-service}")
     public void handleDlt(
             @Payload Object payload,
             @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(value = KafkaHeaders.OFFSET, required = false) Long offset,
-            @Header(value = KafkaHeaders.ORIGINAL_TOPIC, required = false) String originalTopic,
-            @Header(value = KafkaHeaders.EXCEPTION_MESSAGE, required = false) String exceptionMessage
+            @Header(value = KafkaHeaders.DLT_ORIGINAL_TOPIC, required = false) String originalTopic,
+            @Header(value = KafkaHeaders.DLT_EXCEPTION_MESSAGE, required = false) String exceptionMessage
     ) {
         log.error("""
                 ========================================
@@ -0,0 +1,54 @@
+package com.example.catalogservice.consumer.event;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 취소 이벤트 - 베스트셀러 판매량에서 취소 수량을 뺀다
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderCancelledEvent {
+
+    private Long orderId;
+    private String orderNumber;
+    private String cancellationReason;  // USER_REQUEST, ADMIN_CANCEL, SYSTEM_TIMEOUT 등
+    private Long userId;
+    private List<CancelledOrderItem> cancelledItems;
+
+    /**
+     * 원래 주문 시각 - 판매량을 주문이 더해진 버킷에서 뺀다
+     */
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSSSS")
+    private LocalDateTime orderedAt;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSSSS")
+    private LocalDateTime cancelledAt;
+
+    /**
+     * 취소된 주문 항목
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CancelledOrderItem {
+        private Long orderItemId;
+        private Long productId;
+        private Long skuId;
+        private String productName;
+        private String productCode;
+        private Integer quantity;
+        private BigDecimal unitPrice;
+        private BigDecimal totalPrice;
+    }
+}
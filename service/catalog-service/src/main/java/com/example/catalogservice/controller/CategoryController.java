@@ -1,15 +1,20 @@
 package com.example.catalogservice.controller;
 
+import com.example.catalogservice.domain.CategoryIndex;
 import com.example.catalogservice.domain.CategoryTreeNode;
 import com.example.catalogservice.service.CategorySyncService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 
 @Tag(name = "Category", description = "카테고리 조회 API")
@@ -20,10 +25,20 @@ public class CategoryController {
 
     private final CategorySyncService categorySyncService;
 
-    @Operation(summary = "카테고리 트리 조회", description = "계층 구조의 카테고리 트리를 조회합니다.")
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+
+    @Operation(summary = "카테고리 트리 조회", description = "계층 구조의 카테고리 트리를 조회합니다. "
+            + "카테고리 버전을 ETag로 응답하며, If-None-Match가 현재 버전과 같으면 본문 없이 304를 반환합니다. "
+            + "ETag와 본문은 같은 인메모리 스냅샷에서 만듭니다.")
     @GetMapping("/tree")
-    public ResponseEntity<List<CategoryTreeNode>> getCategoryTree() {
-        List<CategoryTreeNode> tree = categorySyncService.getCategoryTree();
-        return ResponseEntity.ok(tree);
+    public ResponseEntity<List<CategoryTreeNode>> getCategoryTree(WebRequest request) {
+        // ETag와 본문을 같은 스냅샷에서 만들어야 버전과 다른 트리를 그 버전의 ETag로 응답하지 않는다
+        CategoryIndex index = categorySyncService.getCategoryIndex();
+        String etag = "\"category-tree-" + index.getVersion() + "\"";
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CACHE_CONTROL).build();
+        }
+
+        return ResponseEntity.ok().eTag(etag).cacheControl(CACHE_CONTROL).body(index.getTree());
     }
 }
@@ -1,25 +1,39 @@
 package com.example.catalogservice.controller;
 
+import com.example.catalogservice.controller.dto.BestSellerResponse;
+import com.example.catalogservice.controller.dto.CursorResponse;
 import com.example.catalogservice.controller.dto.PageResponse;
+import com.example.catalogservice.controller.dto.ProductCardResponse;
 import com.example.catalogservice.controller.dto.ProductDetailResponse;
 import com.example.catalogservice.controller.dto.ProductResponse;
 import com.example.catalogservice.controller.dto.ProductSearchRequest;
+import com.example.catalogservice.controller.dto.TrendingKeywordResponse;
+import com.example.catalogservice.domain.CursorPage;
+import com.example.catalogservice.domain.ProductSearchResult;
 import com.example.catalogservice.domain.document.ProductDocument;
+import com.example.catalogservice.service.BestSellerService;
 import com.example.catalogservice.service.ProductDetailService;
 import com.example.catalogservice.service.ProductSearchService;
+import com.example.catalogservice.service.ProductViewTracker;
+import com.example.catalogservice.service.SearchQueryRecorder;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.stream.IntStream;
 
 @Tag(name = "Product", description = "상품 조회 API")
 @RestController
@@ -29,17 +43,87 @@ public class ProductController {
 
     private final ProductSearchService productSearchService;
     private final ProductDetailService productDetailService;
+    private final ProductViewTracker productViewTracker;
+    private final BestSellerService bestSellerService;
+    private final SearchQueryRecorder searchQueryRecorder;
 
-    @Operation(summary = "상품 상세 조회", description = "상품 ID로 상품 상세 정보를 조회합니다. Redis 캐시 → product-service API 순으로 조회합니다.")
+    private static final int MAX_CARD_BATCH_SIZE = 100;
+    /** 상세 로컬 캐시의 재조회 주기(30초)와 맞춘다 */
+    private static final CacheControl DETAIL_CACHE_CONTROL = CacheControl.maxAge(Duration.ofSeconds(30)).cachePublic();
+
+    @Operation(summary = "상품 상세 조회", description = "상품 ID로 상품 상세 정보를 조회합니다. Redis 캐시 → product-service API 순으로 조회합니다. "
+            + "캐시에 저장할 때 계산한 본문 해시로 ETag를 응답하며, If-None-Match의 상품 상세가 바뀌지 않았으면 본문 없이 304를 반환합니다.")
     @GetMapping("/{productId}")
     public ResponseEntity<ProductDetailResponse> getProductDetail(
-            @Parameter(description = "상품 ID", required = true) @PathVariable("productId") Long productId
+            @Parameter(description = "상품 ID", required = true) @PathVariable("productId") Long productId,
+            WebRequest request
     ) {
-        ProductDetailResponse response = productDetailService.getProductDetail(productId);
-        if (response == null) {
+        ProductDetailService.CachedProductDetail cached = productDetailService.getCachedProductDetail(productId);
+        if (cached == null) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(response);
+        productViewTracker.record(productId);
+
+        ProductDetailResponse response = cached.detail();
+        if (cached.contentHash() == null) {
+            return ResponseEntity.ok().cacheControl(DETAIL_CACHE_CONTROL).body(response);
+        }
+        String etag = etag(productId, cached.contentHash());
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(DETAIL_CACHE_CONTROL)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(DETAIL_CACHE_CONTROL)
+                .body(response);
+    }
+
+    @Operation(summary = "상품 카드 일괄 조회", description = "여러 상품의 카드 정보를 요청 순서대로 한 번에 조회합니다. "
+            + "로컬 캐시 → Redis(MGET) → product-service 일괄 조회 순으로 채우며, 존재하지 않는 상품은 결과에서 제외됩니다. 최대 "
+            + MAX_CARD_BATCH_SIZE + "개")
+    @GetMapping("/cards")
+    public ResponseEntity<List<ProductCardResponse>> getProductCards(
+            @Parameter(description = "상품 ID 목록", required = true) @RequestParam("productIds") List<Long> productIds
+    ) {
+        if (productIds.size() > MAX_CARD_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<ProductCardResponse> cards = productDetailService.getProductDetails(productIds).stream()
+                .map(ProductCardResponse::from)
+                .toList();
+        return ResponseEntity.ok(cards);
+    }
+
+    @Operation(summary = "베스트셀러 조회", description = "최근 24시간 주문 수량(취소 차감) 기준 판매 상위 상품을 조회합니다. "
+            + "categoryId를 주면 하위 카테고리 상품을 포함한 카테고리 순위를 반환합니다. 순위는 1분마다 갱신되며 판매량은 추정값입니다. 최대 "
+            + BestSellerService.MAX_SIZE + "개")
+    @GetMapping("/best-sellers")
+    public ResponseEntity<List<BestSellerResponse>> getBestSellers(
+            @Parameter(description = "카테고리 ID (없으면 전체)") @RequestParam(name = "categoryId", required = false) Long categoryId,
+            @Parameter(description = "조회 개수") @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        if (size < 1 || size > BestSellerService.MAX_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<BestSellerService.BestSeller> bestSellers = bestSellerService.getBestSellers(categoryId, size);
+        return ResponseEntity.ok(IntStream.range(0, bestSellers.size())
+                .mapToObj(i -> BestSellerResponse.of(i + 1, bestSellers.get(i)))
+                .toList());
+    }
+
+    @Operation(summary = "인기 검색어 조회", description = "최근 1시간 동안 결과가 있었던 검색어를 검색 횟수 순으로 조회합니다. "
+            + "검색 횟수는 표본으로 집계한 추정값입니다. 최대 " + SearchQueryRecorder.MAX_SIZE + "개")
+    @GetMapping("/trending-keywords")
+    public ResponseEntity<List<TrendingKeywordResponse>> getTrendingKeywords(
+            @Parameter(description = "조회 개수") @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        if (size < 1 || size > SearchQueryRecorder.MAX_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(TrendingKeywordResponse.ranked(searchQueryRecorder.getTrendingKeywords(size)));
     }
 
     @Operation(summary = "상품명 자동완성", description = "입력된 키워드로 시작하는 상품명을 최대 5개까지 반환합니다.")
@@ -51,7 +135,8 @@ public class ProductController {
         return ResponseEntity.ok(suggestions);
     }
 
-    @Operation(summary = "상품 목록 조회", description = "검색 필터와 페이지네이션을 적용하여 상품 목록을 조회합니다.")
+    @Operation(summary = "상품 목록 조회", description = "검색 필터와 페이지네이션을 적용하여 상품 목록을 조회합니다. "
+            + "facets=true이면 하위 카테고리별, 가격 구간별, 상태별 상품 수를 같은 검색에서 함께 반환합니다.")
     @GetMapping
     public ResponseEntity<PageResponse<ProductResponse>> getProducts(
             @Parameter(description = "상품명 (부분 검색)") @RequestParam(name = "productName", required = false) String productName,
@@ -61,7 +146,8 @@ public class ProductController {
             @Parameter(description = "최대 가격") @RequestParam(name = "maxPrice", required = false) Long maxPrice,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(name = "page", required = false, defaultValue = "0") Integer page,
             @Parameter(description = "페이지 크기") @RequestParam(name = "size", required = false, defaultValue = "20") Integer size,
-            @Parameter(description = "정렬 기준 (예: createdAt,desc)") @RequestParam(name = "sort", required = false) String sort
+            @Parameter(description = "정렬 기준 (예: createdAt,desc / popularity,desc - 최근 판매량순)") @RequestParam(name = "sort", required = false) String sort,
+            @Parameter(description = "패싯 포함 여부") @RequestParam(name = "facets", required = false, defaultValue = "false") boolean facets
     ) {
         ProductSearchRequest request = ProductSearchRequest.builder()
                 .productName(productName)
@@ -74,9 +160,51 @@ public class ProductController {
                 .sort(sort)
                 .build();
 
+        if (facets) {
+            ProductSearchResult result = productSearchService.searchProductsWithFacets(request);
+            return ResponseEntity.ok(PageResponse.from(result.getProducts(), ProductResponse::from, result.getFacets()));
+        }
+
         Page<ProductDocument> products = productSearchService.searchProducts(request);
         PageResponse<ProductResponse> response = PageResponse.from(products, ProductResponse::from);
 
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "상품 목록 커서 조회", description = "검색 필터를 적용하여 상품 목록을 커서(search_after) 방식으로 조회합니다. "
+            + "응답의 nextCursor를 다음 요청에 전달하면 이어서 조회하며, 깊은 페이지도 첫 페이지와 같은 비용으로 조회합니다. "
+            + "point-in-time 커서가 만료되면 410을 반환하므로 첫 페이지부터 다시 조회합니다.")
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorResponse<ProductResponse>> scrollProducts(
+            @Parameter(description = "상품명 (부분 검색)") @RequestParam(name = "productName", required = false) String productName,
+            @Parameter(description = "카테고리 ID") @RequestParam(name = "categoryId", required = false) Long categoryId,
+            @Parameter(description = "상품 상태 (ACTIVE, INACTIVE, SOLD_OUT)") @RequestParam(name = "status", required = false) String status,
+            @Parameter(description = "최소 가격") @RequestParam(name = "minPrice", required = false) Long minPrice,
+            @Parameter(description = "최대 가격") @RequestParam(name = "maxPrice", required = false) Long maxPrice,
+            @Parameter(description = "조회 크기") @RequestParam(name = "size", required = false, defaultValue = "20") Integer size,
+            @Parameter(description = "정렬 기준 (예: createdAt,desc / popularity,desc - 최근 판매량순)") @RequestParam(name = "sort", required = false) String sort,
+            @Parameter(description = "이전 응답의 nextCursor (첫 조회는 생략)") @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "첫 페이지 직후의 스냅샷으로 끝까지 조회할지 여부 (point-in-time, 요청이 많으면 스냅샷 없이 조회)") @RequestParam(name = "pit", required = false, defaultValue = "false") boolean pit
+    ) {
+        ProductSearchRequest request = ProductSearchRequest.builder()
+                .productName(productName)
+                .categoryId(categoryId)
+                .status(status)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .size(size)
+                .sort(sort)
+                .build();
+
+        CursorPage<ProductDocument> products = productSearchService.searchProductsAfter(request, cursor, pit);
+        return ResponseEntity.ok(CursorResponse.from(products, ProductResponse::from));
+    }
+
+    /**
+     * 상품 상세 ETag - 캐시에 넣을 때 계산해 둔 본문 전체의 해시.
+     * 재고/이미지/옵션 변경은 상품 updatedAt을 바꾸지 않으므로 타임스탬프(Last-Modified) 대신 본문으로 비교한다.
+     */
+    private static String etag(Long productId, String contentHash) {
+        return "\"product-" + productId + "-" + contentHash + "\"";
+    }
 }
@@ -1,6 +1,7 @@
 package com.example.catalogservice.controller;
 
 import com.example.catalogservice.service.ProductSyncService;
+import com.example.catalogservice.service.ProductSyncService.DeltaSyncResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -24,5 +25,13 @@ public class ProductSyncController {
         return ResponseEntity.ok(new FullSyncResponse(syncedCount, "Full sync completed successfully"));
     }
 
+    @Operation(summary = "증분 상품 동기화",
+            description = "마지막 워터마크 이후 수정된 상품만 Elasticsearch에 반영하고, 비활성/진열 중지 상품은 삭제합니다. "
+                    + "전체 동기화나 다른 인스턴스의 증분 동기화가 실행 중이면 건너뜁니다.")
+    @PostMapping("/delta")
+    public ResponseEntity<DeltaSyncResult> deltaSync() {
+        return ResponseEntity.ok(productSyncService.deltaSync());
+    }
+
     public record FullSyncResponse(int syncedCount, String message) {}
 }
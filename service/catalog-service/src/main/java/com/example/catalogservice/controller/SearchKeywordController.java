@@ -0,0 +1,41 @@
+package com.example.catalogservice.controller;
+
+import com.example.catalogservice.controller.dto.TrendingKeywordResponse;
+import com.example.catalogservice.service.SearchQueryRecorder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 검색어 운영 API (내부용)
+ *
+ * 결과 없는 검색어는 사용자가 입력한 원문이므로 공개 API(/api/catalog)로 노출하지 않는다.
+ */
+@Tag(name = "Search Keyword", description = "검색어 운영 API")
+@RestController
+@RequestMapping("/api/internal/search-keywords")
+@RequiredArgsConstructor
+public class SearchKeywordController {
+
+    private final SearchQueryRecorder searchQueryRecorder;
+
+    @Operation(summary = "결과 없는 검색어 조회", description = "최근 1시간 동안 검색 결과가 없었던 검색어를 검색 횟수 순으로 조회합니다. "
+            + "검색 횟수는 표본으로 집계한 추정값입니다. 최대 " + SearchQueryRecorder.MAX_SIZE + "개")
+    @GetMapping("/zero-result")
+    public ResponseEntity<List<TrendingKeywordResponse>> getZeroResultKeywords(
+            @Parameter(description = "조회 개수") @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        if (size < 1 || size > SearchQueryRecorder.MAX_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(TrendingKeywordResponse.ranked(searchQueryRecorder.getZeroResultKeywords(size)));
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.catalogservice.controller.dto;
+
+import com.example.catalogservice.service.BestSellerService;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 베스트셀러 - 순위와 최근 24시간 판매 수량 추정값
+ */
+@Getter
+@Builder
+public class BestSellerResponse {
+
+    private int rank;
+    private Long productId;
+    private String productName;
+    private long salesCount;
+
+    public static BestSellerResponse of(int rank, BestSellerService.BestSeller bestSeller) {
+        return BestSellerResponse.builder()
+                .rank(rank)
+                .productId(bestSeller.productId())
+                .productName(bestSeller.productName())
+                .salesCount(bestSeller.sales())
+                .build();
+    }
+}
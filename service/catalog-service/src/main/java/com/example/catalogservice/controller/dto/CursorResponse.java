@@ -0,0 +1,31 @@
+package com.example.catalogservice.controller.dto;
+
+import com.example.catalogservice.domain.CursorPage;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Builder
+public class CursorResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static <T, R> CursorResponse<R> from(CursorPage<T> page, Function<T, R> converter) {
+        List<R> content = page.getContent().stream()
+                .map(converter)
+                .toList();
+
+        return CursorResponse.<R>builder()
+                .content(content)
+                .size(content.size())
+                .nextCursor(page.getNextCursor())
+                .hasNext(page.hasNext())
+                .build();
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.catalogservice.controller.dto;
 
+import com.example.catalogservice.domain.SearchFacets;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
@@ -19,6 +21,12 @@ public class PageResponse<T> {
     private boolean first;
     private boolean last;
 
+    /**
+     * 검색 패싯 (요청한 경우에만 포함)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private SearchFacets facets;
+
     public static <T> PageResponse<T> from(Page<T> page) {
         return PageResponse.<T>builder()
                 .content(page.getContent())
@@ -32,6 +40,10 @@ public class PageResponse<T> {
     }
 
     public static <T, R> PageResponse<R> from(Page<T> page, Function<T, R> converter) {
+        return from(page, converter, null);
+    }
+
+    public static <T, R> PageResponse<R> from(Page<T> page, Function<T, R> converter, SearchFacets facets) {
         List<R> content = page.getContent().stream()
                 .map(converter)
                 .toList();
@@ -44,6 +56,7 @@ public class PageResponse<T> {
                 .totalPages(page.getTotalPages())
                 .first(page.isFirst())
                 .last(page.isLast())
+                .facets(facets)
                 .build();
     }
 }
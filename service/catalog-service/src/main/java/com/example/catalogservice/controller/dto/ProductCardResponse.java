@@ -0,0 +1,50 @@
+package com.example.catalogservice.controller.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 상품 카드 - 최근 본 상품, 찜 목록, 추천 등 목록 위젯에 필요한 요약 정보
+ */
+@Getter
+@Builder
+public class ProductCardResponse {
+
+    private Long productId;
+    private String productName;
+    private Long basePrice;
+    private Long salePrice;
+    private String status;
+    private String primaryImageUrl;
+
+    public static ProductCardResponse from(ProductDetailResponse detail) {
+        return ProductCardResponse.builder()
+                .productId(detail.getProductId())
+                .productName(detail.getProductName())
+                .basePrice(detail.getBasePrice())
+                .salePrice(detail.getSalePrice())
+                .status(detail.getStatus())
+                .primaryImageUrl(primaryImageUrl(detail.getImages()))
+                .build();
+    }
+
+    /**
+     * 대표 이미지, 없으면 표시 순서가 가장 앞선 이미지
+     */
+    private static String primaryImageUrl(List<ProductDetailResponse.ImageResponse> images) {
+        if (images == null || images.isEmpty()) {
+            return null;
+        }
+        return images.stream()
+                .filter(Objects::nonNull)
+                .min(Comparator.comparing((ProductDetailResponse.ImageResponse image) -> !Boolean.TRUE.equals(image.getIsPrimary()))
+                        .thenComparing(ProductDetailResponse.ImageResponse::getDisplayOrder,
+                                Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(ProductDetailResponse.ImageResponse::getImageUrl)
+                .orElse(null);
+    }
+}
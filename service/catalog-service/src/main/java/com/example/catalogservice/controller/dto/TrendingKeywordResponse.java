@@ -0,0 +1,35 @@
+package com.example.catalogservice.controller.dto;
+
+import com.example.catalogservice.service.SearchQueryRecorder;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 검색어 순위 - 순위와 최근 1시간 검색 횟수 추정값
+ */
+@Getter
+@Builder
+public class TrendingKeywordResponse {
+
+    private int rank;
+    private String keyword;
+    private long count;
+
+    public static TrendingKeywordResponse of(int rank, SearchQueryRecorder.TrendingKeyword keyword) {
+        return TrendingKeywordResponse.builder()
+                .rank(rank)
+                .keyword(keyword.keyword())
+                .count(keyword.count())
+                .build();
+    }
+
+    /** 순서대로 1위부터 순위를 매긴다 */
+    public static List<TrendingKeywordResponse> ranked(List<SearchQueryRecorder.TrendingKeyword> keywords) {
+        return IntStream.range(0, keywords.size())
+                .mapToObj(i -> of(i + 1, keywords.get(i)))
+                .toList();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.catalogservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 자동완성 색인 변경 - 이벤트를 처리한 인스턴스가 Redis 채널로 모든 인스턴스에 전파한다
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AutocompleteChange {
+
+    public enum Type {
+        /** 상품명 등록/변경 */
+        PRODUCT,
+        KEYWORD_ADDED,
+        KEYWORD_REMOVED,
+        /** 상품 삭제 - 상품명과 키워드를 모두 뺀다 */
+        PRODUCT_REMOVED,
+        /** 전체 재구성 요청 */
+        REBUILD
+    }
+
+    private Type type;
+    private Long productId;
+    private String productName;
+    private String keyword;
+}
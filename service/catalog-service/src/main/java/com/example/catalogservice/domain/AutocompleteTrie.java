@@ -0,0 +1,265 @@
+package com.example.catalogservice.domain;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 자동완성 접두어 트라이
+ *
+ * 추천어(상품명, 검색 키워드)를 단어 경계마다 잘라 넣으므로 "노트"는 "삼성 노트북"의 두 번째 단어로도 찾는다.
+ * 각 노드는 하위 추천어 중 가중치 상위 K개를 미리 계산해 두므로 조회는 접두어 길이만큼 내려가면 끝난다.
+ * - 쓰기는 synchronized로 직렬화하고, 변경된 추천어의 경로만 아래에서 위로 상위 K개를 다시 계산한다
+ *   (노드의 상위 K개 = 그 노드에서 끝나는 추천어 + 자식 노드 상위 K개의 합집합 중 상위 K개).
+ *   노드의 상위 K개가 바뀌지 않으면 조상도 바뀌지 않으므로 거기서 멈춘다
+ * - 전체 적재는 {@link #beginBulkLoad()} ~ {@link #finishBulkLoad()} 사이에 추천어만 넣고, 끝날 때 후위 순회로 모든 노드의 상위 K개를 한 번씩 계산한다
+ *   (추천어마다 경로를 다시 계산하면 루트는 매번 모든 자식의 목록을 합쳐 정렬하므로 적재 시간이 추천어 수에 비해 크게 늘어난다)
+ * - 읽기는 잠금 없이 각 노드의 불변 상위 K개 목록(volatile)을 읽는다
+ * - 키는 최대 {@link #MAX_KEY_LENGTH}자까지만 색인한다. 더 긴 접두어는 조회하지 않는다 (호출 측에서 대체 경로 사용)
+ * - 가중치 보정값({@link #setBoosts})은 이미 있는 추천어에만 더한다. 보정값만으로 추천어를 만들거나 남겨 두지 않는다
+ */
+public final class AutocompleteTrie {
+
+    public static final int MAX_KEY_LENGTH = 20;
+    private static final int MAX_WORD_OFFSETS = 5;
+
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingLong(Suggestion::weight).reversed()
+            .thenComparingInt(suggestion -> suggestion.text().length())
+            .thenComparing(Suggestion::key);
+
+    private final int topK;
+    private final Node root = new Node();
+    private final Map<String, Suggestion> suggestions = new ConcurrentHashMap<>();
+    // 전체 적재 중이면 상위 K개 계산을 미룬다 (guarded by this)
+    private boolean bulkLoading;
+    // 추천어(정규화한 키) -> 가중치 보정값 (guarded by this)
+    private Map<String, Long> boosts = Map.of();
+
+    public AutocompleteTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * 추천어와 가중치
+     *
+     * @param key    정규화한 추천어 (소문자, 공백 정리)
+     * @param text   표시할 추천어 (처음 등록된 표기)
+     * @param weight 순위 가중치 (인기도)
+     */
+    public record Suggestion(String key, String text, long weight) {
+    }
+
+    /**
+     * 추천어 가중치를 delta만큼 바꾼다. 보정값을 뺀 가중치가 0 이하가 되면 추천어를 제거한다.
+     */
+    public synchronized void add(String text, long delta) {
+        String key = normalize(text);
+        if (key.isEmpty() || delta == 0) {
+            return;
+        }
+
+        Suggestion previous = suggestions.get(key);
+        long boost = boosts.getOrDefault(key, 0L);
+        long weight = (previous != null ? previous.weight() - boost : 0) + delta;
+        if (weight <= 0) {
+            if (previous != null) {
+                suggestions.remove(key);
+                for (String indexKey : indexKeys(key)) {
+                    update(indexKey, previous, null);
+                }
+            }
+            return;
+        }
+
+        replace(new Suggestion(key, previous != null ? previous.text() : text.trim(), weight + boost), previous);
+    }
+
+    /**
+     * 가중치 보정값(0 이상)을 바꾼다 - 이전 보정값과의 차이를 이미 있는 추천어에만 반영하고, 없는 키는 나중에 추천어가 생길 때 더한다
+     *
+     * @param next 정규화한 키 -> 보정값
+     */
+    public synchronized void setBoosts(Map<String, Long> next) {
+        Map<String, Long> previous = boosts;
+        boosts = Map.copyOf(next);
+
+        Set<String> keys = new LinkedHashSet<>(previous.keySet());
+        keys.addAll(boosts.keySet());
+        for (String key : keys) {
+            Suggestion suggestion = suggestions.get(key);
+            long delta = boosts.getOrDefault(key, 0L) - previous.getOrDefault(key, 0L);
+            if (suggestion != null && delta != 0) {
+                replace(new Suggestion(key, suggestion.text(), suggestion.weight() + delta), suggestion);
+            }
+        }
+    }
+
+    /**
+     * 전체 적재 시작 - {@link #finishBulkLoad()} 전까지 add는 추천어만 바꾸고 상위 K개를 계산하지 않는다.
+     * 적재 중에는 조회 결과가 맞지 않으므로 적재가 끝난 트라이만 조회에 내보낸다.
+     */
+    public synchronized void beginBulkLoad() {
+        bulkLoading = true;
+    }
+
+    /**
+     * 전체 적재 완료 - 후위 순회로 모든 노드의 상위 K개를 한 번씩 계산하고 빈 노드를 정리한다
+     */
+    public synchronized void finishBulkLoad() {
+        if (!bulkLoading) {
+            return;
+        }
+        computeTopRecursively(root);
+        bulkLoading = false;
+    }
+
+    /**
+     * 접두어로 시작하는 단어를 포함한 추천어를 가중치 순으로 반환한다
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            return List.of();
+        }
+
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        List<Suggestion> top = node.top;
+        return top.size() <= limit ? top : top.subList(0, limit);
+    }
+
+    public Suggestion get(String text) {
+        return suggestions.get(normalize(text));
+    }
+
+    public int size() {
+        return suggestions.size();
+    }
+
+    /**
+     * 대소문자와 공백 차이를 없앤 비교용 키
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private void replace(Suggestion next, Suggestion previous) {
+        suggestions.put(next.key(), next);
+        for (String indexKey : indexKeys(next.key())) {
+            update(indexKey, previous, next);
+        }
+    }
+
+    /**
+     * 추천어의 단어 시작 위치마다 잘라낸 색인 키 ("삼성 노트북" -> "삼성 노트북", "노트북")
+     */
+    private static Set<String> indexKeys(String key) {
+        Set<String> keys = new LinkedHashSet<>();
+        int start = 0;
+        while (start >= 0 && keys.size() < MAX_WORD_OFFSETS) {
+            String suffix = key.substring(start);
+            keys.add(suffix.length() > MAX_KEY_LENGTH ? suffix.substring(0, MAX_KEY_LENGTH) : suffix);
+            int space = key.indexOf(' ', start);
+            start = space >= 0 ? space + 1 : -1;
+        }
+        return keys;
+    }
+
+    /**
+     * 색인 키 경로의 끝 노드에서 추천어를 교체하고, 경로를 아래에서 위로 다시 계산한다.
+     * 전체 적재 중이면 끝 노드의 추천어만 바꾼다.
+     */
+    private void update(String indexKey, Suggestion previous, Suggestion next) {
+        Node[] path = new Node[indexKey.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < indexKey.length(); i++) {
+            Node parent = path[i];
+            Node child = parent.children.get(indexKey.charAt(i));
+            if (child == null) {
+                if (next == null) {
+                    return;
+                }
+                child = new Node();
+                parent.children.put(indexKey.charAt(i), child);
+            }
+            path[i + 1] = child;
+        }
+
+        Node end = path[indexKey.length()];
+        if (previous != null) {
+            end.terminals.remove(previous.key());
+        }
+        if (next != null) {
+            end.terminals.put(next.key(), next);
+        }
+        if (bulkLoading) {
+            return;
+        }
+
+        for (int depth = indexKey.length(); depth >= 0; depth--) {
+            Node node = path[depth];
+            List<Suggestion> top = computeTop(node);
+            // 비어 있는 노드는 정리
+            if (depth > 0 && node.terminals.isEmpty() && node.children.isEmpty()) {
+                path[depth - 1].children.remove(indexKey.charAt(depth - 1));
+            }
+            if (top.equals(node.top)) {
+                // 상위 K개가 같으면 조상의 상위 K개도 같다
+                return;
+            }
+            node.top = top;
+        }
+    }
+
+    private void computeTopRecursively(Node node) {
+        node.children.entrySet().removeIf(entry -> {
+            Node child = entry.getValue();
+            computeTopRecursively(child);
+            return child.terminals.isEmpty() && child.children.isEmpty();
+        });
+        node.top = computeTop(node);
+    }
+
+    private List<Suggestion> computeTop(Node node) {
+        // 추천어 없이 자식 하나로 이어지는 노드(대부분의 노드)는 자식의 목록을 그대로 쓴다 (불변 목록)
+        if (node.terminals.isEmpty() && node.children.size() == 1) {
+            return node.children.values().iterator().next().top;
+        }
+        Map<String, Suggestion> candidates = new HashMap<>(node.terminals);
+        for (Node child : node.children.values()) {
+            for (Suggestion suggestion : child.top) {
+                candidates.putIfAbsent(suggestion.key(), suggestion);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Suggestion[] sorted = candidates.values().toArray(new Suggestion[0]);
+        Arrays.sort(sorted, RANKING);
+        return List.of(Arrays.copyOf(sorted, Math.min(topK, sorted.length)));
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new ConcurrentHashMap<>();
+        // 이 노드에서 끝나는 색인 키의 추천어 (쓰기 스레드만 접근)
+        private final Map<String, Suggestion> terminals = new HashMap<>(1);
+        private volatile List<Suggestion> top = List.of();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.catalogservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 베스트셀러 판매량 윈도우 체크포인트 ({@link SlidingTopK.Snapshot}을 Redis에 저장하는 형태)
+ *
+ * 버킷 길이나 스케치 크기가 현재 설정과 다르면 복원하지 않는다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BestSellerCheckpoint {
+
+    private Long bucketMillis;
+    private Integer sketchWidth;
+    private Integer sketchDepth;
+    private Long currentBucket;
+    private List<long[]> buckets;
+    private List<Long> candidates;
+}
@@ -0,0 +1,191 @@
+package com.example.catalogservice.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카테고리 트리 스냅샷 (불변)
+ *
+ * display:tree를 한 번 순회해 만든 조회용 인덱스로, 생성 이후에는 변경되지 않는다.
+ * 카테고리가 바뀌면 새 스냅샷을 만들어 통째로 교체하므로 조회 측은 잠금 없이 읽는다.
+ * - id -> 노드
+ * - id -> 자신과 모든 하위 카테고리 ID (전위 순회 순서)
+ * - id -> 루트부터 자신까지의 경로
+ * - 루트 카테고리 ID (표시 순서)
+ */
+public final class CategoryIndex {
+
+    public static final CategoryIndex EMPTY = new CategoryIndex(0L, List.of(), Map.of(), Map.of(), Map.of());
+
+    private final long version;
+    private final List<Long> rootIds;
+    private final Map<Long, CategoryTreeNode> nodes;
+    private final Map<Long, List<Long>> descendantIds;
+    private final Map<Long, List<Long>> ancestorPaths;
+
+    private CategoryIndex(long version,
+                          List<Long> rootIds,
+                          Map<Long, CategoryTreeNode> nodes,
+                          Map<Long, List<Long>> descendantIds,
+                          Map<Long, List<Long>> ancestorPaths) {
+        this.version = version;
+        this.rootIds = rootIds;
+        this.nodes = nodes;
+        this.descendantIds = descendantIds;
+        this.ancestorPaths = ancestorPaths;
+    }
+
+    /**
+     * 계층 트리로 스냅샷을 만든다
+     *
+     * @param version 스냅샷을 만든 시점의 카테고리 버전
+     * @param tree    루트 노드 목록
+     */
+    public static CategoryIndex of(long version, List<CategoryTreeNode> tree) {
+        Map<Long, CategoryTreeNode> nodes = new HashMap<>();
+        Map<Long, List<Long>> descendantIds = new HashMap<>();
+        Map<Long, List<Long>> ancestorPaths = new HashMap<>();
+        List<Long> rootIds = new ArrayList<>();
+
+        if (tree != null) {
+            for (CategoryTreeNode root : tree) {
+                rootIds.add(root.getCategoryId());
+                index(root, List.of(), nodes, descendantIds, ancestorPaths);
+            }
+        }
+        return new CategoryIndex(version, List.copyOf(rootIds), Map.copyOf(nodes), Map.copyOf(descendantIds), Map.copyOf(ancestorPaths));
+    }
+
+    private static List<Long> index(CategoryTreeNode node,
+                                    List<Long> parentPath,
+                                    Map<Long, CategoryTreeNode> nodes,
+                                    Map<Long, List<Long>> descendantIds,
+                                    Map<Long, List<Long>> ancestorPaths) {
+        Long categoryId = node.getCategoryId();
+
+        List<Long> path = new ArrayList<>(parentPath.size() + 1);
+        path.addAll(parentPath);
+        path.add(categoryId);
+        List<Long> ancestorPath = List.copyOf(path);
+
+        List<Long> ids = new ArrayList<>();
+        ids.add(categoryId);
+        if (node.getChildren() != null) {
+            for (CategoryTreeNode child : node.getChildren()) {
+                ids.addAll(index(child, ancestorPath, nodes, descendantIds, ancestorPaths));
+            }
+        }
+
+        List<Long> subtree = List.copyOf(ids);
+        nodes.put(categoryId, node);
+        ancestorPaths.put(categoryId, ancestorPath);
+        descendantIds.put(categoryId, subtree);
+        return subtree;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * 스냅샷을 만든 계층 트리 (루트 노드 목록, 표시 순서)
+     */
+    public List<CategoryTreeNode> getTree() {
+        return rootIds.stream().map(nodes::get).toList();
+    }
+
+    /**
+     * 카테고리 노드 조회, 없으면 null
+     */
+    public CategoryTreeNode getNode(Long categoryId) {
+        return nodes.get(categoryId);
+    }
+
+    /**
+     * 자신과 모든 하위 카테고리 ID, 없으면 null
+     */
+    public List<Long> getDescendantIds(Long categoryId) {
+        return descendantIds.get(categoryId);
+    }
+
+    /**
+     * 루트부터 자신까지의 카테고리 ID 경로, 없으면 null
+     */
+    public List<Long> getAncestorPath(Long categoryId) {
+        return ancestorPaths.get(categoryId);
+    }
+
+    /**
+     * 직계 하위 카테고리 ID (표시 순서), categoryId가 null이면 루트 카테고리, 없는 카테고리면 빈 목록
+     */
+    public List<Long> getChildIds(Long categoryId) {
+        if (categoryId == null) {
+            return rootIds;
+        }
+        CategoryTreeNode node = nodes.get(categoryId);
+        if (node == null || node.getChildren() == null) {
+            return List.of();
+        }
+        return node.getChildren().stream()
+                .map(CategoryTreeNode::getCategoryId)
+                .toList();
+    }
+
+    /**
+     * 전체 카테고리의 조상 경로 (id -> 루트부터 자신까지)
+     */
+    public Map<Long, List<Long>> getAncestorPaths() {
+        return ancestorPaths;
+    }
+
+    /**
+     * 상품의 카테고리 경로 - 상품이 속한 카테고리들의 조상 경로 합집합.
+     * 스냅샷에 없는 카테고리는 자기 자신만 포함한다.
+     */
+    public List<Long> getCategoryPath(Collection<Long> categoryIds) {
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> path = new LinkedHashSet<>();
+        for (Long categoryId : categoryIds) {
+            if (categoryId == null) {
+                continue;
+            }
+            List<Long> ancestors = ancestorPaths.get(categoryId);
+            if (ancestors != null) {
+                path.addAll(ancestors);
+            } else {
+                path.add(categoryId);
+            }
+        }
+        return List.copyOf(path);
+    }
+
+    /**
+     * 이 스냅샷과 비교해 조상 경로가 바뀐(이동된) 카테고리 ID
+     */
+    public Set<Long> findMovedCategories(CategoryIndex next) {
+        Set<Long> moved = new LinkedHashSet<>();
+        ancestorPaths.forEach((categoryId, path) -> {
+            List<Long> nextPath = next.getAncestorPath(categoryId);
+            if (nextPath != null && !nextPath.equals(path)) {
+                moved.add(categoryId);
+            }
+        });
+        return moved;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.catalogservice.domain;
+
+import java.util.Arrays;
+
+/**
+ * Count-Min Sketch - 키 종류 수와 관계없이 고정 메모리(width x depth)로 키별 빈도를 근사한다.
+ *
+ * 행마다 다른 해시로 고른 칸에 더하고, 추정값은 행별 칸의 최솟값이다.
+ * - 다른 키와 칸을 공유하므로 추정값은 실제 값보다 크거나 같다 (빈도 총합 N에 대해 오차는 대략 e * N / width 이하)
+ * - 음수 delta(취소)도 더할 수 있다. 추정값이 음수가 되면 0으로 본다
+ * - 같은 크기의 스케치는 칸끼리 더하고 빼서 합치거나 구간을 빼낼 수 있다 (슬라이딩 윈도우)
+ * - 동기화하지 않는다. 호출 측에서 잠근다
+ */
+public final class CountMinSketch {
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L
+    };
+
+    private final int width;
+    private final int depth;
+    private final long[] counts;
+
+    public CountMinSketch(int width, int depth) {
+        this(width, depth, new long[width * depth]);
+    }
+
+    private CountMinSketch(int width, int depth, long[] counts) {
+        if (width <= 0 || depth <= 0 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("Invalid sketch size: width=" + width + ", depth=" + depth);
+        }
+        if (counts.length != width * depth) {
+            throw new IllegalArgumentException("Sketch counts do not match size: length=" + counts.length);
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counts = counts;
+    }
+
+    /**
+     * 저장해 둔 칸 값으로 복원한다 ({@link #counts()})
+     */
+    public static CountMinSketch of(int width, int depth, long[] counts) {
+        return new CountMinSketch(width, depth, counts.clone());
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int depth() {
+        return depth;
+    }
+
+    public void add(long key, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        for (int row = 0; row < depth; row++) {
+            counts[index(row, key)] += delta;
+        }
+    }
+
+    public long estimate(long key) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counts[index(row, key)]);
+        }
+        return Math.max(min, 0);
+    }
+
+    /**
+     * 다른 스케치를 칸별로 더한다 (sign = -1이면 뺀다)
+     */
+    public void merge(CountMinSketch other, int sign) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("Cannot merge sketches of different size");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += sign * other.counts[i];
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+    }
+
+    /**
+     * 칸 값 복사본 (체크포인트용)
+     */
+    public long[] counts() {
+        return counts.clone();
+    }
+
+    private int index(int row, long key) {
+        return row * width + (int) Long.remainderUnsigned(mix(key ^ SEEDS[row]), width);
+    }
+
+    /**
+     * splitmix64 마무리 단계 - 연속된 상품 ID도 칸에 고르게 흩어지게 한다
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
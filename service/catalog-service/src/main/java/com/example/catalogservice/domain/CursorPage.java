@@ -0,0 +1,21 @@
+package com.example.catalogservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 조회 결과 - 한 번에 읽은 목록과 다음 조회에 사용할 커서 (마지막이면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> content;
+    private String nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.catalogservice.domain;
+
+import com.example.catalogservice.domain.document.ProductDocument;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+/**
+ * 패싯을 포함한 상품 검색 결과
+ */
+@Getter
+@AllArgsConstructor
+public class ProductSearchResult {
+
+    private Page<ProductDocument> products;
+    private SearchFacets facets;
+}
@@ -0,0 +1,68 @@
+package com.example.catalogservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 상품 검색 패싯 - 검색 조건에 해당하는 상품의 카테고리별 수, 가격 구간별 수, 상태별 수
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchFacets {
+
+    /**
+     * 선택한 카테고리의 직계 하위 카테고리별 상품 수 (카테고리 미선택 시 루트 카테고리), 표시 순서
+     */
+    private List<CategoryCount> categories;
+
+    /**
+     * 판매가 구간별 상품 수, 가격 오름차순
+     */
+    private List<PriceBucket> priceRanges;
+
+    /**
+     * 상태별 상품 수, 많은 순
+     */
+    private List<StatusCount> statuses;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CategoryCount {
+
+        private Long categoryId;
+        private String categoryName;
+        private long count;
+    }
+
+    /**
+     * 판매가 구간 [from, to)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class PriceBucket {
+
+        private long from;
+        private long to;
+        private long count;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class StatusCount {
+
+        private String status;
+        private long count;
+    }
+}
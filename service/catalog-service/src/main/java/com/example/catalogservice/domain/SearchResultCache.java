@@ -0,0 +1,22 @@
+package com.example.catalogservice.domain;
+
+import com.example.catalogservice.domain.document.ProductDocument;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 상품 검색 결과 캐시 항목 - 한 페이지의 상품 목록과 전체 건수
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResultCache {
+
+    private List<ProductDocument> content;
+    private long totalElements;
+}
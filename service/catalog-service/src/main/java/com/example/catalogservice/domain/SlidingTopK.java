@@ -0,0 +1,197 @@
+package com.example.catalogservice.domain;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.ToLongFunction;
+
+/**
+ * 슬라이딩 윈도우 빈도 상위 K개 (heavy hitters)
+ *
+ * 윈도우를 같은 길이의 버킷으로 나누고 버킷마다 {@link CountMinSketch}를 둔다.
+ * 윈도우 전체 스케치는 버킷 스케치의 합으로 유지하다가, 버킷이 윈도우를 벗어나면 그 버킷만 빼낸다.
+ * - 키 종류가 아무리 많아도 메모리는 버킷 수 x 스케치 크기 + 후보 K개로 고정된다
+ * - 상위 K개 후보는 추정값 순 트리(최솟값이 맨 앞)로 유지한다. 더해진 키의 추정값이 후보 최솟값보다 크면 최솟값을 밀어낸다
+ * - 버킷이 넘어갈 때 후보 추정값을 다시 계산하고 0이 된 후보는 뺀다
+ * - 시각은 호출 측이 넘긴다. 이벤트 시각을 따로 넘기면 그 시각의 버킷에 더한다 (취소를 원래 주문의 버킷에서 빼는 용도)
+ * - 체크포인트({@link Snapshot})는 버킷 스케치와 후보 키만 저장하고, 복원 시 윈도우 스케치와 추정값을 다시 계산한다
+ *
+ * @param <K> 키 - 스케치 칸은 hasher로 고른다
+ */
+public final class SlidingTopK<K extends Comparable<K>> {
+
+    private final long bucketMillis;
+    private final int capacity;
+    private final ToLongFunction<K> hasher;
+    private final CountMinSketch[] buckets;
+    private final CountMinSketch window;
+    private long currentBucket = Long.MIN_VALUE;
+
+    private final Map<K, Long> counts = new HashMap<>();
+    private final TreeSet<Entry<K>> ranking = new TreeSet<>(Comparator
+            .comparingLong((Entry<K> entry) -> entry.count())
+            .thenComparing(Entry::key));
+
+    /**
+     * @param bucketMillis 버킷 길이 (윈도우 길이 = bucketMillis x bucketCount)
+     * @param capacity     유지할 후보 수 K
+     */
+    public SlidingTopK(long bucketMillis, int bucketCount, int sketchWidth, int sketchDepth, int capacity,
+                       ToLongFunction<K> hasher) {
+        this.bucketMillis = bucketMillis;
+        this.capacity = capacity;
+        this.hasher = hasher;
+        this.buckets = new CountMinSketch[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new CountMinSketch(sketchWidth, sketchDepth);
+        }
+        this.window = new CountMinSketch(sketchWidth, sketchDepth);
+    }
+
+    /**
+     * 키와 윈도우 추정 빈도
+     */
+    public record Entry<K>(K key, long count) {
+    }
+
+    /**
+     * @param currentBucket 마지막으로 더한 버킷 번호 (epoch millis / bucketMillis)
+     * @param buckets       버킷 스케치 칸 값 (버킷 번호 % 버킷 수 순서)
+     * @param candidates    상위 K개 후보 키
+     */
+    public record Snapshot<K>(long currentBucket, List<long[]> buckets, List<K> candidates) {
+    }
+
+    /**
+     * 키 빈도에 delta를 더한다 (음수면 뺀다)
+     */
+    public synchronized void add(K key, long delta, long nowMillis) {
+        add(key, delta, nowMillis, nowMillis);
+    }
+
+    /**
+     * eventMillis가 속한 버킷의 키 빈도에 delta를 더한다.
+     * 이미 윈도우를 벗어난 시각이면 반영하지 않고, 현재 버킷보다 뒤의 시각(서버 간 시계 차이)은 현재 버킷에 더한다.
+     *
+     * @return 반영했는지
+     */
+    public synchronized boolean add(K key, long delta, long eventMillis, long nowMillis) {
+        advance(nowMillis);
+        long bucket = Math.min(Math.floorDiv(eventMillis, bucketMillis), currentBucket);
+        if (bucket <= currentBucket - buckets.length) {
+            return false;
+        }
+        long hash = hasher.applyAsLong(key);
+        buckets[slot(bucket)].add(hash, delta);
+        window.add(hash, delta);
+        offer(key, window.estimate(hash));
+        return true;
+    }
+
+    /**
+     * 윈도우 추정 빈도 상위 limit개 (빈도 내림차순)
+     */
+    public synchronized List<Entry<K>> top(int limit, long nowMillis) {
+        advance(nowMillis);
+        List<Entry<K>> top = new ArrayList<>(Math.min(limit, ranking.size()));
+        Iterator<Entry<K>> iterator = ranking.descendingIterator();
+        while (iterator.hasNext() && top.size() < limit) {
+            top.add(iterator.next());
+        }
+        return top;
+    }
+
+    public synchronized long estimate(K key, long nowMillis) {
+        advance(nowMillis);
+        return window.estimate(hasher.applyAsLong(key));
+    }
+
+    public synchronized Snapshot<K> snapshot() {
+        List<long[]> bucketCounts = new ArrayList<>(buckets.length);
+        for (CountMinSketch bucket : buckets) {
+            bucketCounts.add(bucket.counts());
+        }
+        return new Snapshot<>(currentBucket, bucketCounts, List.copyOf(counts.keySet()));
+    }
+
+    /**
+     * 체크포인트로 상태를 바꾼다. 그 사이 지난 버킷은 nowMillis 기준으로 윈도우에서 빠진다.
+     *
+     * @throws IllegalArgumentException 체크포인트의 버킷 수나 스케치 크기가 다른 경우
+     */
+    public synchronized void restore(Snapshot<K> snapshot, long nowMillis) {
+        if (snapshot.buckets().size() != buckets.length) {
+            throw new IllegalArgumentException("Snapshot bucket count does not match: " + snapshot.buckets().size());
+        }
+        CountMinSketch[] restored = new CountMinSketch[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            restored[i] = CountMinSketch.of(window.width(), window.depth(), snapshot.buckets().get(i));
+        }
+
+        window.clear();
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = restored[i];
+            window.merge(restored[i], 1);
+        }
+        currentBucket = snapshot.currentBucket();
+        counts.clear();
+        ranking.clear();
+        snapshot.candidates().forEach(key -> offer(key, window.estimate(hasher.applyAsLong(key))));
+        advance(nowMillis);
+    }
+
+    private void advance(long nowMillis) {
+        long bucket = Math.floorDiv(nowMillis, bucketMillis);
+        if (currentBucket == Long.MIN_VALUE) {
+            currentBucket = bucket;
+            return;
+        }
+        if (bucket <= currentBucket) {
+            return;
+        }
+
+        long expired = Math.min(bucket - currentBucket, buckets.length);
+        for (long i = 1; i <= expired; i++) {
+            CountMinSketch next = buckets[slot(currentBucket + i)];
+            window.merge(next, -1);
+            next.clear();
+        }
+        currentBucket = bucket;
+        rescore();
+    }
+
+    private void rescore() {
+        List<K> keys = List.copyOf(counts.keySet());
+        counts.clear();
+        ranking.clear();
+        keys.forEach(key -> offer(key, window.estimate(hasher.applyAsLong(key))));
+    }
+
+    private void offer(K key, long count) {
+        Long previous = counts.remove(key);
+        if (previous != null) {
+            ranking.remove(new Entry<>(key, previous));
+        }
+        if (count <= 0) {
+            return;
+        }
+        if (counts.size() >= capacity) {
+            Entry<K> min = ranking.first();
+            if (count <= min.count()) {
+                return;
+            }
+            ranking.pollFirst();
+            counts.remove(min.key());
+        }
+        counts.put(key, count);
+        ranking.add(new Entry<>(key, count));
+    }
+
+    private int slot(long bucket) {
+        return (int) Math.floorMod(bucket, (long) buckets.length);
+    }
+}
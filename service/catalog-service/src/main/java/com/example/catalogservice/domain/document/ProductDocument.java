@@ -53,6 +53,13 @@ public class ProductDocument {
     @Field(type = FieldType.Long)
     private List<Long> categoryIds;
 
+    /**
+     * 카테고리 경로 - categoryIds 각각의 루트부터 자신까지의 카테고리 ID 합집합.
+     * 어느 계층의 카테고리로 필터링하든 term 쿼리 하나로 조회할 수 있도록 keyword로 색인한다.
+     */
+    @Field(type = FieldType.Keyword)
+    private List<Long> categoryPath;
+
     /**
      * 검색 키워드 배열
      */
@@ -62,6 +69,13 @@ public class ProductDocument {
     @Field(type = FieldType.Nested)
     private List<SkuInfo> skus;
 
+    /**
+     * 인기도 - 최근 판매량 추정값. 베스트셀러 집계가 주기적으로 이 필드만 부분 갱신하며,
+     * 상품 이벤트/증분 동기화는 값이 없는 필드를 덮어쓰지 않으므로 유지된다
+     */
+    @Field(type = FieldType.Long)
+    private Long popularity;
+
     @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_millis)
     private LocalDateTime createdAt;
 
@@ -0,0 +1,11 @@
+package com.example.catalogservice.exception;
+
+/**
+ * 커서의 point-in-time이 만료되어 이어서 조회할 수 없는 경우 (410 Gone)
+ */
+public class CursorExpiredException extends RuntimeException {
+
+    public CursorExpiredException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
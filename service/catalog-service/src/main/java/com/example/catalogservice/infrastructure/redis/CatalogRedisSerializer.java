@@ -0,0 +1,144 @@
+package com.example.catalogservice.infrastructure.redis;
+
+import com.example.catalogservice.infrastructure.redis.CatalogValueTypes.ValueType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+/**
+ * 카탈로그 Redis 값 직렬화기
+ *
+ * 기본 타이핑을 켠 JSON(GenericJackson2JsonRedisSerializer)은 값마다 클래스 이름과 필드 이름을 반복해 저장한다.
+ * 카탈로그 캐시 값({@link CatalogValueTypes})은 타입 ID와 필드 사전 번호만 남기는 바이너리 형식({@link CompactBinaryCodec})으로 저장하고,
+ * 큰 값은 압축한다. 문자열은 JSON 이스케이프 없이 UTF-8 그대로 저장한다.
+ * - 읽기는 첫 바이트로 형식을 구분하므로 기존 JSON 값과 바이너리 값을 모두 읽는다 (기존 캐시는 TTL/재동기화로 자연히 교체된다)
+ * - 등록되지 않은 타입과 숫자/불리언은 JSON으로 저장한다 (INCR로 올리는 버전 카운터와 호환)
+ * - 여러 인스턴스를 순차 배포할 때는 모든 인스턴스가 두 형식을 읽을 수 있게 된 뒤 바이너리 쓰기를 켠다
+ *   (기본값 catalog.redis.codec.format=JSON으로 배포 후 BINARY로 전환)
+ *
+ * 지표:
+ * - catalog.redis.codec.reads{format=binary|json}: 형식별 읽기 수 (json 읽기가 0에 가까워지면 전환 완료)
+ * - catalog.redis.codec.fallbacks: 바이너리로 쓰지 못해 JSON으로 저장한 수
+ */
+@Slf4j
+public class CatalogRedisSerializer implements RedisSerializer<Object> {
+
+    /**
+     * 쓰기 형식
+     */
+    public enum Format {
+        BINARY,
+        JSON
+    }
+
+    private final Format writeFormat;
+    private final GenericJackson2JsonRedisSerializer jsonSerializer;
+    private final CompactBinaryCodec binaryCodec;
+
+    private final Counter binaryReads;
+    private final Counter jsonReads;
+    private final Counter fallbacks;
+
+    /**
+     * @param writeFormat          쓰기 형식
+     * @param compressionThreshold 이 크기(바이트) 이상인 바이너리 값은 압축한다
+     */
+    public CatalogRedisSerializer(Format writeFormat, int compressionThreshold, MeterRegistry meterRegistry) {
+        this.writeFormat = writeFormat;
+        this.jsonSerializer = new GenericJackson2JsonRedisSerializer(createJsonObjectMapper());
+        this.binaryCodec = new CompactBinaryCodec(createBinaryObjectMapper(), compressionThreshold);
+
+        this.binaryReads = readCounter(meterRegistry, "binary");
+        this.jsonReads = readCounter(meterRegistry, "json");
+        this.fallbacks = Counter.builder("catalog.redis.codec.fallbacks")
+                .description("바이너리로 쓰지 못해 JSON으로 저장한 값 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기존 JSON 형식 - 클래스 이름을 값에 포함한다
+     */
+    private static ObjectMapper createJsonObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(
+                objectMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+        return objectMapper;
+    }
+
+    /**
+     * 바이너리 형식 - 타입은 타입 ID로 정해지므로 타입 정보 없이, null 필드는 생략하고, 날짜는 숫자 배열로 쓴다
+     */
+    private static ObjectMapper createBinaryObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        return objectMapper;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null || writeFormat == Format.JSON) {
+            return jsonSerializer.serialize(value);
+        }
+
+        if (value instanceof String text) {
+            return binaryCodec.encodeString(text);
+        }
+        ValueType type = CatalogValueTypes.find(value.getClass());
+        if (type == null) {
+            return jsonSerializer.serialize(value);
+        }
+
+        try {
+            return binaryCodec.encode(value, type);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to write binary Redis value, falling back to JSON: type={}", type.type().getSimpleName(), e);
+            fallbacks.increment();
+            return jsonSerializer.serialize(value);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        if (!CompactBinaryCodec.isBinary(bytes)) {
+            jsonReads.increment();
+            return jsonSerializer.deserialize(bytes);
+        }
+
+        binaryReads.increment();
+        try {
+            return binaryCodec.decode(bytes);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Could not read binary Redis value", e);
+        }
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String format) {
+        return Counter.builder("catalog.redis.codec.reads")
+                .description("Redis 값 형식별 읽기 수")
+                .tag("format", format)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.catalogservice.infrastructure.redis;
+
+import com.example.catalogservice.controller.dto.ProductDetailResponse;
+import com.example.catalogservice.domain.AutocompleteChange;
+import com.example.catalogservice.domain.BestSellerCheckpoint;
+import com.example.catalogservice.domain.CategoryCache;
+import com.example.catalogservice.domain.SearchFacets;
+import com.example.catalogservice.domain.SearchResultCache;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 바이너리 코덱으로 저장하는 카탈로그 Redis 값 타입 목록
+ *
+ * 클래스 이름 대신 타입 ID를 저장하고, 타입마다 자주 쓰는 필드 이름을 미리 사전으로 등록해 두어 값에는 사전 번호만 남긴다.
+ * - 타입 ID와 필드 이름 순서는 이미 저장된 값을 읽는 기준이므로 바꾸거나 지우지 않는다. 새 타입/필드는 뒤에 추가만 한다
+ * - 사전에 없는 필드도 저장할 수 있다 (값 안에 이름을 한 번 기록하고 이후 번호로 참조)
+ * - 목록에 없는 타입과 숫자/불리언은 기존 JSON 형식으로 저장한다 (INCR 대상 카운터는 숫자 문자열이어야 한다)
+ */
+final class CatalogValueTypes {
+
+    /**
+     * 문자열은 Jackson을 거치지 않고 UTF-8 그대로 저장한다
+     */
+    static final int STRING_ID = 0;
+
+    static final List<ValueType> TYPES = List.of(
+            new ValueType(1, ProductDetailResponse.class, List.of(
+                    "productId", "productName", "productCode", "description", "basePrice", "salePrice", "status",
+                    "isDisplayed", "optionGroups", "skus", "images", "categories", "createdAt", "updatedAt",
+                    "id", "optionGroupName", "displayOrder", "optionValues", "optionValueName",
+                    "skuCode", "price", "stockQty", "optionValueIds",
+                    "fileId", "imageUrl", "isPrimary", "categoryId", "categoryName")),
+            new ValueType(2, CategoryCache.class, List.of(
+                    "categoryId", "parentId", "categoryName", "displayOrder", "depth", "createdAt", "updatedAt")),
+            new ValueType(3, SearchResultCache.class, List.of(
+                    "content", "totalElements",
+                    "productId", "productName", "description", "basePrice", "salePrice", "status",
+                    "primaryImageUrl", "categoryIds", "categoryPath", "searchKeywords", "skus", "createdAt", "updatedAt",
+                    "skuId", "skuCode", "price", "stockQty")),
+            new ValueType(4, SearchFacets.class, List.of(
+                    "categories", "priceRanges", "statuses", "categoryId", "categoryName", "count", "from", "to",
+                    "status")),
+            new ValueType(5, AutocompleteChange.class, List.of(
+                    "type", "productId", "productName", "keyword")),
+            new ValueType(6, BestSellerCheckpoint.class, List.of(
+                    "bucketMillis", "sketchWidth", "sketchDepth", "currentBucket", "buckets", "candidates"))
+    );
+
+    private static final Map<Class<?>, ValueType> BY_CLASS = new HashMap<>();
+    private static final Map<Integer, ValueType> BY_ID = new HashMap<>();
+
+    static {
+        for (ValueType type : TYPES) {
+            if (type.id() == STRING_ID || BY_ID.put(type.id(), type) != null) {
+                throw new IllegalStateException("Duplicate catalog value type id: " + type.id());
+            }
+            if (Set.copyOf(type.names()).size() != type.names().size()) {
+                throw new IllegalStateException("Duplicate field name in catalog value type: " + type.id());
+            }
+            BY_CLASS.put(type.type(), type);
+        }
+    }
+
+    private CatalogValueTypes() {
+    }
+
+    /**
+     * @return 등록된 타입, 없으면 null
+     */
+    static ValueType find(Class<?> type) {
+        return BY_CLASS.get(type);
+    }
+
+    static ValueType get(int id) {
+        ValueType type = BY_ID.get(id);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown catalog value type id: " + id);
+        }
+        return type;
+    }
+
+    /**
+     * @param id    저장되는 타입 ID
+     * @param type  값 클래스
+     * @param names 필드 이름 사전 (순서가 번호)
+     */
+    record ValueType(int id, Class<?> type, List<String> names) {
+    }
+}
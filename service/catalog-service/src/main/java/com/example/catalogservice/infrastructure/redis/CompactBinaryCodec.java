@@ -0,0 +1,363 @@
+package com.example.catalogservice.infrastructure.redis;
+
+import com.example.catalogservice.infrastructure.redis.CatalogValueTypes.ValueType;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 카탈로그 값의 간결한 바이너리 형식
+ *
+ * 값을 Jackson 토큰 스트림(TokenBuffer)으로 직렬화한 뒤 토큰마다 1바이트 태그와 가변 길이 정수로 기록한다.
+ * 읽을 때는 같은 토큰 스트림을 복원해 등록된 타입으로 역직렬화하므로 클래스 이름 같은 타입 정보가 값에 들어가지 않는다.
+ *
+ * 형식: [MAGIC][flags][타입 ID varint]([원본 길이 varint])[본문]
+ * - MAGIC은 0x80 이상이라 JSON 텍스트(ASCII로 시작)와 첫 바이트로 구분된다
+ * - 필드 이름은 타입별 사전 번호로 기록하고, 사전에 없는 이름은 처음 한 번만 문자열로 기록한 뒤 번호로 참조한다
+ * - 정수는 zigzag varint, null 필드는 기록하지 않고, 날짜는 숫자 배열로 기록한다
+ * - 본문이 compressionThreshold 이상이고 압축해서 작아지면 Deflate로 압축한다 (flags에 표시, 원본 길이를 함께 기록)
+ */
+final class CompactBinaryCodec {
+
+    static final byte MAGIC = (byte) 0xCB;
+    private static final int FLAG_DEFLATE = 1;
+
+    private static final int START_OBJECT = 1;
+    private static final int END_OBJECT = 2;
+    private static final int START_ARRAY = 3;
+    private static final int END_ARRAY = 4;
+    private static final int FIELD_NEW = 5;
+    private static final int FIELD_REF = 6;
+    private static final int STRING = 7;
+    private static final int INT = 8;
+    private static final int DOUBLE = 9;
+    private static final int TRUE = 10;
+    private static final int FALSE = 11;
+    private static final int NULL = 12;
+    private static final int BIG_INTEGER = 13;
+    private static final int DECIMAL = 14;
+
+    private final ObjectMapper objectMapper;
+    private final int compressionThreshold;
+    private final Map<Integer, Map<String, Integer>> nameIndexes = new HashMap<>();
+
+    CompactBinaryCodec(ObjectMapper objectMapper, int compressionThreshold) {
+        this.objectMapper = objectMapper;
+        this.compressionThreshold = compressionThreshold;
+        for (ValueType type : CatalogValueTypes.TYPES) {
+            Map<String, Integer> index = new HashMap<>();
+            for (String name : type.names()) {
+                index.put(name, index.size());
+            }
+            nameIndexes.put(type.id(), Map.copyOf(index));
+        }
+    }
+
+    static boolean isBinary(byte[] bytes) {
+        return bytes.length > 0 && bytes[0] == MAGIC;
+    }
+
+    byte[] encodeString(String value) {
+        return frame(CatalogValueTypes.STRING_ID, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    byte[] encode(Object value, ValueType type) throws IOException {
+        TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+        objectMapper.writeValue(tokens, value);
+
+        Output out = new Output(256);
+        Map<String, Integer> names = new HashMap<>(nameIndexes.get(type.id()));
+        try (JsonParser parser = tokens.asParser(objectMapper)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                switch (token) {
+                    case START_OBJECT -> out.write(START_OBJECT);
+                    case END_OBJECT -> out.write(END_OBJECT);
+                    case START_ARRAY -> out.write(START_ARRAY);
+                    case END_ARRAY -> out.write(END_ARRAY);
+                    case FIELD_NAME -> {
+                        String name = parser.currentName();
+                        Integer index = names.get(name);
+                        if (index != null) {
+                            out.write(FIELD_REF);
+                            out.writeVarint(index);
+                        } else {
+                            out.write(FIELD_NEW);
+                            out.writeString(name);
+                            names.put(name, names.size());
+                        }
+                    }
+                    case VALUE_STRING -> {
+                        out.write(STRING);
+                        out.writeString(parser.getText());
+                    }
+                    case VALUE_NUMBER_INT -> {
+                        if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                            out.write(BIG_INTEGER);
+                            out.writeString(parser.getBigIntegerValue().toString());
+                        } else {
+                            out.write(INT);
+                            out.writeVarint(zigzag(parser.getLongValue()));
+                        }
+                    }
+                    case VALUE_NUMBER_FLOAT -> {
+                        if (parser.getNumberType() == JsonParser.NumberType.BIG_DECIMAL) {
+                            out.write(DECIMAL);
+                            out.writeString(parser.getDecimalValue().toString());
+                        } else {
+                            out.write(DOUBLE);
+                            out.writeLong(Double.doubleToRawLongBits(parser.getDoubleValue()));
+                        }
+                    }
+                    case VALUE_TRUE -> out.write(TRUE);
+                    case VALUE_FALSE -> out.write(FALSE);
+                    case VALUE_NULL -> out.write(NULL);
+                    default -> throw new IllegalArgumentException("Unsupported token for binary codec: " + token);
+                }
+            }
+        }
+        return frame(type.id(), out.toByteArray());
+    }
+
+    Object decode(byte[] bytes) throws IOException {
+        Input in = new Input(bytes, 1);
+        int flags = in.read();
+        int typeId = (int) in.readVarint();
+        byte[] body;
+        if ((flags & FLAG_DEFLATE) != 0) {
+            int length = (int) in.readVarint();
+            body = inflate(bytes, in.position, length);
+        } else {
+            body = Arrays.copyOfRange(bytes, in.position, bytes.length);
+        }
+
+        if (typeId == CatalogValueTypes.STRING_ID) {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+
+        ValueType type = CatalogValueTypes.get(typeId);
+        List<String> names = new ArrayList<>(type.names());
+        TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+        Input reader = new Input(body, 0);
+        while (reader.hasRemaining()) {
+            int tag = reader.read();
+            switch (tag) {
+                case START_OBJECT -> tokens.writeStartObject();
+                case END_OBJECT -> tokens.writeEndObject();
+                case START_ARRAY -> tokens.writeStartArray();
+                case END_ARRAY -> tokens.writeEndArray();
+                case FIELD_NEW -> {
+                    String name = reader.readString();
+                    names.add(name);
+                    tokens.writeFieldName(name);
+                }
+                case FIELD_REF -> tokens.writeFieldName(names.get((int) reader.readVarint()));
+                case STRING -> tokens.writeString(reader.readString());
+                case INT -> {
+                    long value = unzigzag(reader.readVarint());
+                    if (value == (int) value) {
+                        tokens.writeNumber((int) value);
+                    } else {
+                        tokens.writeNumber(value);
+                    }
+                }
+                case DOUBLE -> tokens.writeNumber(Double.longBitsToDouble(reader.readLong()));
+                case TRUE -> tokens.writeBoolean(true);
+                case FALSE -> tokens.writeBoolean(false);
+                case NULL -> tokens.writeNull();
+                case BIG_INTEGER -> tokens.writeNumber(new BigInteger(reader.readString()));
+                case DECIMAL -> tokens.writeNumber(new BigDecimal(reader.readString()));
+                default -> throw new IOException("Unknown binary codec tag: " + tag);
+            }
+        }
+
+        try (JsonParser parser = tokens.asParser(objectMapper)) {
+            return objectMapper.readValue(parser, type.type());
+        }
+    }
+
+    private byte[] frame(int typeId, byte[] body) {
+        byte[] compressed = body.length >= compressionThreshold ? deflate(body) : null;
+        boolean deflated = compressed != null && compressed.length < body.length;
+
+        Output out = new Output((deflated ? compressed.length : body.length) + 12);
+        out.write(MAGIC);
+        out.write(deflated ? FLAG_DEFLATE : 0);
+        out.writeVarint(typeId);
+        if (deflated) {
+            out.writeVarint(body.length);
+            out.write(compressed, compressed.length);
+        } else {
+            out.write(body, body.length);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] body) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+            byte[] buffer = new byte[body.length];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == buffer.length) {
+                    // 압축해도 작아지지 않음
+                    return null;
+                }
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes, int offset, int length) throws IOException {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(bytes, offset, bytes.length - offset);
+            byte[] body = new byte[length];
+            int read = 0;
+            while (read < length) {
+                int n = inflater.inflate(body, read, length - read);
+                if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new IOException("Truncated compressed value");
+                }
+                read += n;
+            }
+            return body;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted compressed value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Output {
+
+        private byte[] buffer;
+        private int size;
+
+        Output(int capacity) {
+            this.buffer = new byte[capacity];
+        }
+
+        void write(int value) {
+            ensure(1);
+            buffer[size++] = (byte) value;
+        }
+
+        void write(byte[] bytes, int length) {
+            ensure(length);
+            System.arraycopy(bytes, 0, buffer, size, length);
+            size += length;
+        }
+
+        void writeVarint(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        void writeLong(long value) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            write(bytes, bytes.length);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensure(int length) {
+            if (size + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + length));
+            }
+        }
+    }
+
+    private static final class Input {
+
+        private final byte[] buffer;
+        private int position;
+
+        Input(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        boolean hasRemaining() {
+            return position < buffer.length;
+        }
+
+        int read() throws IOException {
+            if (position >= buffer.length) {
+                throw new IOException("Unexpected end of binary value");
+            }
+            return buffer[position++] & 0xFF;
+        }
+
+        long readVarint() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = read();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint");
+        }
+
+        long readLong() throws IOException {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | read();
+            }
+            return value;
+        }
+
+        String readString() throws IOException {
+            int length = (int) readVarint();
+            if (length < 0 || position + length > buffer.length) {
+                throw new IOException("Unexpected end of binary value");
+            }
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package com.example.catalogservice.service;
+
+import com.example.catalogservice.domain.AutocompleteChange;
+import com.example.catalogservice.domain.AutocompleteTrie;
+import com.example.catalogservice.domain.document.ProductDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품명/검색 키워드 자동완성
+ *
+ * 키 입력마다 Elasticsearch를 조회하지 않도록 인스턴스 메모리의 접두어 트라이({@link AutocompleteTrie})로 추천어를 찾는다.
+ * - 추천어 가중치(인기도)는 해당 상품명/키워드를 가진 상품 수에 인기 검색어 보정값({@link SearchQueryRecorder})을 더한 값.
+ *   보정값은 상품명/키워드로 있는 추천어에만 더한다 (사용자가 입력한 검색어를 그대로 추천어로 내보내지 않는다)
+ * - 기동 시(준비 완료 전 워밍업)와 전체 동기화 후 Elasticsearch의 상품 문서로 새 트라이를 만들어 교체한다
+ * - 놓친 변경 메시지(Redis 채널은 전달을 보장하지 않는다)로 어긋난 트라이는 RESYNC_INTERVAL마다 전체 재구성으로 바로잡는다
+ * - 상품/키워드 이벤트는 상품별 상태와 비교한 차이만 트라이에 반영한다 (같은 변경을 여러 번 적용해도 결과가 같다)
+ * - 이벤트는 컨슈머 그룹의 한 인스턴스에만 도착하므로 Redis 채널로 변경을 전파해 모든 인스턴스가 같은 트라이를 유지한다
+ * - 인기 검색어 보정값은 인스턴스마다 자기가 받은 검색으로 계산하므로 전파하지 않는다
+ * - 트라이가 준비되기 전이나 색인 길이를 넘는 접두어는 호출 측이 Elasticsearch로 대체 조회한다
+ *
+ * 지표:
+ * - catalog.autocomplete.requests{source=index|fallback}: 트라이/대체 경로 조회 수
+ * - catalog.autocomplete.suggestions: 트라이의 추천어 수
+ * - catalog.autocomplete.rebuild: 트라이 전체 재구성 시간
+ */
+@Slf4j
+@Service
+public class AutocompleteService implements MessageListener {
+
+    static final String CHANNEL = "catalog:autocomplete:changes";
+    static final int TOP_K = 10;
+    static final Duration RESYNC_INTERVAL = Duration.ofMinutes(30);
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ScheduledExecutorService executor;
+
+    private volatile IndexState state = new IndexState();
+    private volatile boolean ready;
+    // 재구성 중 도착한 변경 - 새 트라이로 교체하기 전에 다시 적용한다 (guarded by this)
+    private List<AutocompleteChange> pendingDuringRebuild;
+    // 인기 검색어(정규화한 키) -> 가중치 보정값, 새 트라이로 교체할 때 다시 더한다 (guarded by this)
+    private Map<String, Long> queryBoosts = Map.of();
+
+    private final Counter indexRequests;
+    private final Counter fallbackRequests;
+    private final Timer rebuildTimer;
+
+    public AutocompleteService(ElasticsearchOperations elasticsearchOperations,
+                               RedisTemplate<String, Object> redisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               MeterRegistry meterRegistry) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.redisTemplate = redisTemplate;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "autocomplete-builder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+
+        this.indexRequests = requestCounter(meterRegistry, "index");
+        this.fallbackRequests = requestCounter(meterRegistry, "fallback");
+        Gauge.builder("catalog.autocomplete.suggestions", this, service -> service.state.trie.size())
+                .description("자동완성 트라이의 추천어 수")
+                .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("catalog.autocomplete.rebuild")
+                .description("자동완성 트라이 전체 재구성 시간")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        // 기동 시 재구성은 CatalogWarmup이 요청하므로 첫 주기적 재구성은 RESYNC_INTERVAL 뒤에 실행한다
+        executor.scheduleWithFixedDelay(this::rebuild,
+                RESYNC_INTERVAL.toMillis(), RESYNC_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 접두어로 추천어를 찾는다
+     *
+     * @return 추천어 (가중치 순), 트라이로 답할 수 없으면 empty - 호출 측에서 Elasticsearch로 조회한다
+     */
+    public Optional<List<String>> suggest(String prefix, int limit) {
+        if (!ready || AutocompleteTrie.normalize(prefix).length() > AutocompleteTrie.MAX_KEY_LENGTH) {
+            fallbackRequests.increment();
+            return Optional.empty();
+        }
+
+        indexRequests.increment();
+        return Optional.of(state.trie.suggest(prefix, limit).stream()
+                .map(AutocompleteTrie.Suggestion::text)
+                .toList());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 상품 등록/수정 반영 (상품명)
+     */
+    public void productChanged(Long productId, String productName) {
+        publish(AutocompleteChange.builder()
+                .type(AutocompleteChange.Type.PRODUCT)
+                .productId(productId)
+                .productName(productName)
+                .build());
+    }
+
+    public void keywordAdded(Long productId, String keyword) {
+        publish(AutocompleteChange.builder()
+                .type(AutocompleteChange.Type.KEYWORD_ADDED)
+                .productId(productId)
+                .keyword(keyword)
+                .build());
+    }
+
+    public void keywordRemoved(Long productId, String keyword) {
+        publish(AutocompleteChange.builder()
+                .type(AutocompleteChange.Type.KEYWORD_REMOVED)
+                .productId(productId)
+                .keyword(keyword)
+                .build());
+    }
+
+    /**
+     * 상품 삭제 반영 (상품명과 키워드)
+     */
+    public void productRemoved(Long productId) {
+        publish(AutocompleteChange.builder()
+                .type(AutocompleteChange.Type.PRODUCT_REMOVED)
+                .productId(productId)
+                .build());
+    }
+
+    /**
+     * 모든 인스턴스에 트라이 재구성을 요청한다 (전체 동기화 후)
+     */
+    public void requestRebuild() {
+        publish(AutocompleteChange.builder().type(AutocompleteChange.Type.REBUILD).build());
+    }
+
+    /**
+     * 변경을 이 인스턴스에 바로 반영하고 다른 인스턴스에 전파한다.
+     * 자신이 보낸 메시지도 다시 수신하지만 같은 변경의 재적용은 결과가 같다.
+     */
+    private void publish(AutocompleteChange change) {
+        apply(change);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, change);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish autocomplete change: type={}, productId={}",
+                    change.getType(), change.getProductId(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object value = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (value instanceof AutocompleteChange change) {
+                apply(change);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply autocomplete change from channel", e);
+        }
+    }
+
+    void apply(AutocompleteChange change) {
+        if (change.getType() == AutocompleteChange.Type.REBUILD) {
+            rebuildAsync();
+            return;
+        }
+        synchronized (this) {
+            state.apply(change);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        }
+    }
+
+    /**
+     * 인기 검색어 가중치 보정값을 바꾼다 - 상품명/키워드로 이미 있는 추천어에만 더한다 (검색어만으로 추천어를 만들지 않는다)
+     */
+    public synchronized void updateQueryBoosts(Map<String, Long> boosts) {
+        queryBoosts = Map.copyOf(boosts);
+        state.trie.setBoosts(queryBoosts);
+    }
+
+    /**
+     * 트라이 재구성을 빌더 스레드에 맡긴다 - 기동 시에는 {@link CatalogWarmup}이 준비 완료 전에 호출하고 끝날 때까지 기다린다
+     *
+     * @return 재구성이 끝나면(실패 포함) 완료되는 future
+     */
+    CompletableFuture<Void> rebuildAsync() {
+        return CompletableFuture.runAsync(this::rebuild, executor);
+    }
+
+    /**
+     * Elasticsearch의 전체 상품 문서로 새 트라이를 만들어 교체한다
+     */
+    void rebuild() {
+        synchronized (this) {
+            if (pendingDuringRebuild != null) {
+                return;
+            }
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        long startedAt = System.nanoTime();
+        IndexState next = new IndexState();
+        next.trie.beginBulkLoad();
+        try {
+            NativeQuery query = NativeQuery.builder()
+                    .withQuery(q -> q.matchAll(m -> m))
+                    .withSourceFilter(new FetchSourceFilter(
+                            true, new String[]{"productId", "productName", "searchKeywords"}, null))
+                    .withPageable(PageRequest.of(0, LOAD_BATCH_SIZE))
+                    .build();
+
+            try (SearchHitsIterator<ProductDocument> hits =
+                         elasticsearchOperations.searchForStream(query, ProductDocument.class)) {
+                while (hits.hasNext()) {
+                    ProductDocument product = hits.next().getContent();
+                    next.load(Long.valueOf(product.getProductId()), product.getProductName(), product.getSearchKeywords());
+                }
+            }
+            // 상위 K개는 적재가 끝난 뒤 한 번에 계산한다. 재구성 중 도착한 변경은 아래에서 경로 단위로 반영한다
+            next.trie.finishBulkLoad();
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild autocomplete index", e);
+            synchronized (this) {
+                pendingDuringRebuild = null;
+            }
+            return;
+        }
+
+        synchronized (this) {
+            pendingDuringRebuild.forEach(next::apply);
+            pendingDuringRebuild = null;
+            next.trie.setBoosts(queryBoosts);
+            state = next;
+            ready = true;
+        }
+        rebuildTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        log.info("Autocomplete index rebuilt: products={}, suggestions={}, took={}ms",
+                next.products.size(), next.trie.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("catalog.autocomplete.requests")
+                .description("자동완성 조회 수")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 트라이와 상품별 상품명/키워드 상태 - 변경을 상품 상태와 비교해 트라이 가중치 차이로 반영한다.
+     * 호출 측에서 동기화한다.
+     */
+    private static final class IndexState {
+
+        private final AutocompleteTrie trie = new AutocompleteTrie(TOP_K);
+        private final Map<Long, ProductTerms> products = new HashMap<>();
+
+        void load(Long productId, String productName, Collection<String> keywords) {
+            ProductTerms terms = products.computeIfAbsent(productId, id -> new ProductTerms());
+            setName(terms, productName);
+            if (keywords != null) {
+                keywords.forEach(keyword -> addKeyword(terms, keyword));
+            }
+        }
+
+        void apply(AutocompleteChange change) {
+            if (change.getProductId() == null) {
+                return;
+            }
+            if (change.getType() == AutocompleteChange.Type.PRODUCT_REMOVED) {
+                remove(change.getProductId());
+                return;
+            }
+            ProductTerms terms = products.computeIfAbsent(change.getProductId(), id -> new ProductTerms());
+            switch (change.getType()) {
+                case PRODUCT -> setName(terms, change.getProductName());
+                case KEYWORD_ADDED -> addKeyword(terms, change.getKeyword());
+                case KEYWORD_REMOVED -> removeKeyword(terms, change.getKeyword());
+                default -> {
+                }
+            }
+        }
+
+        private void remove(Long productId) {
+            ProductTerms terms = products.remove(productId);
+            if (terms == null) {
+                return;
+            }
+            if (terms.name != null) {
+                trie.add(terms.name, -1);
+            }
+            terms.keywords.values().forEach(keyword -> trie.add(keyword, -1));
+        }
+
+        private void setName(ProductTerms terms, String productName) {
+            if (AutocompleteTrie.normalize(productName).equals(AutocompleteTrie.normalize(terms.name))) {
+                return;
+            }
+            if (terms.name != null) {
+                trie.add(terms.name, -1);
+            }
+            terms.name = productName;
+            if (productName != null) {
+                trie.add(productName, 1);
+            }
+        }
+
+        private void addKeyword(ProductTerms terms, String keyword) {
+            String key = AutocompleteTrie.normalize(keyword);
+            if (!key.isEmpty() && terms.keywords.putIfAbsent(key, keyword) == null) {
+                trie.add(keyword, 1);
+            }
+        }
+
+        private void removeKeyword(ProductTerms terms, String keyword) {
+            String removed = terms.keywords.remove(AutocompleteTrie.normalize(keyword));
+            if (removed != null) {
+                trie.add(removed, -1);
+            }
+        }
+    }
+
+    private static final class ProductTerms {
+
+        private String name;
+        // 정규화한 키워드 -> 원래 표기
+        private final Map<String, String> keywords = new LinkedHashMap<>();
+    }
+}
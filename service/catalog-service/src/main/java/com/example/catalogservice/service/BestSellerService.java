@@ -0,0 +1,386 @@
+package com.example.catalogservice.service;
+
+import com.example.catalogservice.consumer.event.OrderCancelledEvent;
+import com.example.catalogservice.consumer.event.OrderCreatedEvent;
+import com.example.catalogservice.domain.BestSellerCheckpoint;
+import com.example.catalogservice.domain.SlidingTopK;
+import com.example.catalogservice.domain.document.ProductDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 실시간 베스트셀러 집계
+ *
+ * 주문 생성/취소 이벤트로 최근 24시간(BUCKET x BUCKET_COUNT) 동안의 상품별 판매 수량을 {@link SlidingTopK}(버킷별 Count-Min Sketch + 상위 K개 후보)로 근사한다.
+ * - 모든 인스턴스가 주문 이벤트 전체를 각자 소비해 같은 집계를 메모리에 가진다 ({@code BestSellerEventConsumer})
+ * - REFRESH_INTERVAL마다 후보 상품의 카테고리 경로를 Elasticsearch에서 읽어 카테고리별 상위 MAX_SIZE개 순위를 새로 만든다.
+ *   조회는 이 순위 스냅샷만 읽으므로 요청마다 Redis/Elasticsearch 호출이 없다
+ * - 순위를 만든 뒤 리스(Redis 키)를 가진 한 인스턴스만 집계를 Redis에 체크포인트하고, 판매량을 상품 문서의 popularity로 부분 갱신한다.
+ *   후보에 없는데 popularity가 남은 상품은 update-by-query로 0으로 되돌린다 (이전 순위를 메모리에 두지 않으므로 재시작, 리스 이동 뒤에도 남지 않는다).
+ *   전체 재색인으로 값이 사라져도 다음 주기에 다시 채워진다
+ * - 기동 시 체크포인트로 복원하므로 재배포 후에도 윈도우가 처음부터 다시 쌓이지 않는다 (체크포인트 이후 기동 전까지의 주문은 빠진다)
+ * - 주문은 주문 시각의 버킷에 더하고, 취소는 원래 주문 시각(orderedAt)의 버킷에서 뺀다.
+ *   주문이 이미 윈도우를 벗어났거나 주문 시각이 없는 취소는 무시한다 (다른 주문의 판매량을 줄이지 않는다)
+ * - 주문 이벤트가 중복 전달되면 중복 집계된다 (순위용 근사치)
+ *
+ * 지표:
+ * - catalog.best-seller.events{type=created|cancelled|cancel-ignored}: 반영한 주문 이벤트 수, 윈도우 밖 주문이라 무시한 취소 수
+ * - catalog.best-seller.ranked: 최근 순위 스냅샷의 상품 수
+ * - catalog.best-seller.refresh{result=success|failure}: 순위 갱신(체크포인트, popularity 갱신 포함) 시간
+ */
+@Slf4j
+@Service
+public class BestSellerService {
+
+    public static final int MAX_SIZE = 100;
+
+    static final String CHECKPOINT_KEY = "catalog:best-seller:checkpoint";
+    static final String LEASE_KEY = "catalog:best-seller:lease";
+    static final Duration BUCKET = Duration.ofHours(1);
+    static final int BUCKET_COUNT = 24;
+    static final int SKETCH_WIDTH = 2048;
+    static final int SKETCH_DEPTH = 4;
+    static final int CANDIDATES = 1000;
+    static final Duration REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+    private static final Duration LEASE_TTL = REFRESH_INTERVAL.multipliedBy(3);
+    private static final Duration CHECKPOINT_TTL = BUCKET.multipliedBy(BUCKET_COUNT).plus(BUCKET);
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ProductBulkIndexer productBulkIndexer;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final LongSupplier clock;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final SlidingTopK<Long> sales;
+    private ScheduledExecutorService scheduler;
+
+    private volatile Ranking ranking = Ranking.EMPTY;
+
+    private final Counter createdEvents;
+    private final Counter cancelledEvents;
+    private final Counter ignoredCancellations;
+    private final Timer refreshSuccessTimer;
+    private final Timer refreshFailureTimer;
+
+    @Autowired
+    public BestSellerService(ElasticsearchOperations elasticsearchOperations,
+                             ProductBulkIndexer productBulkIndexer,
+                             RedisTemplate<String, Object> redisTemplate,
+                             MeterRegistry meterRegistry) {
+        this(elasticsearchOperations, productBulkIndexer, redisTemplate, meterRegistry, System::currentTimeMillis);
+    }
+
+    BestSellerService(ElasticsearchOperations elasticsearchOperations,
+                      ProductBulkIndexer productBulkIndexer,
+                      RedisTemplate<String, Object> redisTemplate,
+                      MeterRegistry meterRegistry,
+                      LongSupplier clock) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.productBulkIndexer = productBulkIndexer;
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+        this.sales = new SlidingTopK<>(BUCKET.toMillis(), BUCKET_COUNT, SKETCH_WIDTH, SKETCH_DEPTH, CANDIDATES, Long::longValue);
+
+        this.createdEvents = eventCounter(meterRegistry, "created");
+        this.cancelledEvents = eventCounter(meterRegistry, "cancelled");
+        this.ignoredCancellations = eventCounter(meterRegistry, "cancel-ignored");
+        Gauge.builder("catalog.best-seller.ranked", this, service -> service.ranking.overall().size())
+                .description("베스트셀러 순위 스냅샷의 상품 수")
+                .register(meterRegistry);
+        this.refreshSuccessTimer = refreshTimer(meterRegistry, "success");
+        this.refreshFailureTimer = refreshTimer(meterRegistry, "failure");
+    }
+
+    /**
+     * 베스트셀러 상품과 윈도우 판매량 추정값
+     */
+    public record BestSeller(Long productId, String productName, long sales) {
+    }
+
+    /**
+     * 순위 스냅샷 - 전체 순위와 카테고리(조상 포함)별 순위
+     */
+    record Ranking(List<BestSeller> overall, Map<Long, List<BestSeller>> byCategory) {
+        static final Ranking EMPTY = new Ranking(List.of(), Map.of());
+    }
+
+    @PostConstruct
+    void start() {
+        restore();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "best-seller-ranking");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refreshSafely, 0, REFRESH_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        // 리스를 가진 인스턴스는 마지막 상태를 남기고 리스를 바로 넘긴다
+        try {
+            if (Objects.equals(redisTemplate.opsForValue().get(LEASE_KEY), instanceId)) {
+                checkpoint();
+                redisTemplate.delete(LEASE_KEY);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to hand over best seller lease, it expires in {}", LEASE_TTL, e);
+        }
+    }
+
+    /**
+     * 주문 생성 - 주문 항목의 수량을 판매량에 더한다
+     */
+    public void recordOrder(OrderCreatedEvent event) {
+        if (event.getOrderItems() == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        long orderedAt = event.getOrderedAt() != null ? toEpochMilli(event.getOrderedAt()) : now;
+        event.getOrderItems().forEach(item -> add(item.getProductId(), item.getQuantity(), orderedAt, now));
+        createdEvents.increment();
+    }
+
+    /**
+     * 주문 취소 - 취소 항목의 수량을 원래 주문 시각의 버킷에서 뺀다.
+     * 주문이 윈도우를 벗어났으면 판매량에 남아 있지 않으므로 무시한다.
+     */
+    public void recordCancellation(OrderCancelledEvent event) {
+        if (event.getCancelledItems() == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        boolean applied = event.getOrderedAt() != null;
+        if (applied) {
+            long orderedAt = toEpochMilli(event.getOrderedAt());
+            for (OrderCancelledEvent.CancelledOrderItem item : event.getCancelledItems()) {
+                applied &= add(item.getProductId(), item.getQuantity() != null ? -item.getQuantity() : null, orderedAt, now);
+            }
+        }
+        if (!applied) {
+            log.debug("Ignored cancellation outside the best seller window: orderId={}, orderedAt={}",
+                    event.getOrderId(), event.getOrderedAt());
+            ignoredCancellations.increment();
+            return;
+        }
+        cancelledEvents.increment();
+    }
+
+    /**
+     * @return 윈도우를 벗어난 시각이라 반영하지 못했으면 false
+     */
+    private boolean add(Long productId, Integer quantity, long eventMillis, long now) {
+        if (productId == null || quantity == null || quantity == 0) {
+            return true;
+        }
+        return sales.add(productId, quantity, eventMillis, now);
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 최근 판매량 상위 상품
+     *
+     * @param categoryId 카테고리 (하위 카테고리 상품 포함), null이면 전체
+     * @param size       최대 {@link #MAX_SIZE}
+     */
+    public List<BestSeller> getBestSellers(Long categoryId, int size) {
+        Ranking current = ranking;
+        List<BestSeller> bestSellers = categoryId == null
+                ? current.overall()
+                : current.byCategory().getOrDefault(categoryId, List.of());
+        return bestSellers.subList(0, Math.min(size, bestSellers.size()));
+    }
+
+    private void refreshSafely() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("Unexpected error while refreshing best seller ranking", e);
+        }
+    }
+
+    /**
+     * 순위 스냅샷을 새로 만들고, 리스를 가졌으면 체크포인트와 popularity를 갱신한다
+     */
+    void refresh() {
+        long startedAt = System.nanoTime();
+        try {
+            List<SlidingTopK.Entry<Long>> top = sales.top(CANDIDATES, clock.getAsLong());
+            ranking = buildRanking(top);
+
+            if (holdsLease()) {
+                checkpoint();
+                pushPopularity(top);
+            }
+            refreshSuccessTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            refreshFailureTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            log.warn("Failed to refresh best seller ranking, keeping previous ranking", e);
+        }
+    }
+
+    private Ranking buildRanking(List<SlidingTopK.Entry<Long>> top) {
+        if (top.isEmpty()) {
+            return Ranking.EMPTY;
+        }
+        Map<Long, ProductDocument> products = loadProducts(top.stream().map(SlidingTopK.Entry::key).toList());
+
+        List<BestSeller> overall = new ArrayList<>();
+        Map<Long, List<BestSeller>> byCategory = new HashMap<>();
+        for (SlidingTopK.Entry<Long> entry : top) {
+            // 색인에 없는 상품(삭제, 진열 중지)은 순위에서 뺀다
+            ProductDocument product = products.get(entry.key());
+            if (product == null) {
+                continue;
+            }
+            BestSeller bestSeller = new BestSeller(entry.key(), product.getProductName(), entry.count());
+            if (overall.size() < MAX_SIZE) {
+                overall.add(bestSeller);
+            }
+            if (product.getCategoryPath() != null) {
+                for (Long categoryId : product.getCategoryPath()) {
+                    List<BestSeller> categoryRanking = byCategory.computeIfAbsent(categoryId, id -> new ArrayList<>());
+                    if (categoryRanking.size() < MAX_SIZE) {
+                        categoryRanking.add(bestSeller);
+                    }
+                }
+            }
+        }
+        Map<Long, List<BestSeller>> immutableByCategory = new HashMap<>();
+        byCategory.forEach((categoryId, bestSellers) -> immutableByCategory.put(categoryId, List.copyOf(bestSellers)));
+        return new Ranking(List.copyOf(overall), Map.copyOf(immutableByCategory));
+    }
+
+    private Map<Long, ProductDocument> loadProducts(List<Long> productIds) {
+        NativeQuery query = NativeQuery.builder()
+                .withIds(productIds.stream().map(String::valueOf).toList())
+                .withSourceFilter(new FetchSourceFilter(
+                        true, new String[]{"productId", "productName", "categoryPath"}, null))
+                .build();
+
+        Map<Long, ProductDocument> products = new HashMap<>();
+        for (MultiGetItem<ProductDocument> item : elasticsearchOperations.multiGet(query, ProductDocument.class)) {
+            if (item.hasItem()) {
+                ProductDocument product = item.getItem();
+                products.put(Long.valueOf(product.getProductId()), product);
+            }
+        }
+        return products;
+    }
+
+    private void pushPopularity(List<SlidingTopK.Entry<Long>> top) {
+        Map<Long, Long> popularity = new LinkedHashMap<>();
+        top.forEach(entry -> popularity.put(entry.key(), entry.count()));
+
+        int skipped = productBulkIndexer.updatePopularity(popularity);
+        long reset = productBulkIndexer.resetPopularityExcept(popularity.keySet());
+        log.debug("Updated product popularity: products={}, skipped={}, reset={}", popularity.size(), skipped, reset);
+    }
+
+    /**
+     * 리스를 새로 얻거나 이미 가지고 있으면 연장한다. 리스를 가진 인스턴스가 내려가면 LEASE_TTL 뒤 다른 인스턴스가 넘겨받는다.
+     */
+    private boolean holdsLease() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LEASE_KEY, instanceId, LEASE_TTL))) {
+                return true;
+            }
+            if (Objects.equals(redisTemplate.opsForValue().get(LEASE_KEY), instanceId)) {
+                redisTemplate.expire(LEASE_KEY, LEASE_TTL);
+                return true;
+            }
+            return false;
+        } catch (RuntimeException e) {
+            log.warn("Failed to check best seller lease", e);
+            return false;
+        }
+    }
+
+    private void checkpoint() {
+        SlidingTopK.Snapshot<Long> snapshot = sales.snapshot();
+        BestSellerCheckpoint checkpoint = BestSellerCheckpoint.builder()
+                .bucketMillis(BUCKET.toMillis())
+                .sketchWidth(SKETCH_WIDTH)
+                .sketchDepth(SKETCH_DEPTH)
+                .currentBucket(snapshot.currentBucket())
+                .buckets(snapshot.buckets())
+                .candidates(snapshot.candidates())
+                .build();
+        try {
+            redisTemplate.opsForValue().set(CHECKPOINT_KEY, checkpoint, CHECKPOINT_TTL);
+        } catch (RuntimeException e) {
+            log.warn("Failed to checkpoint best seller counts", e);
+        }
+    }
+
+    /**
+     * Redis 체크포인트로 판매량을 복원한다. 설정이 다르거나 읽지 못하면 빈 집계로 시작한다.
+     */
+    void restore() {
+        try {
+            Object value = redisTemplate.opsForValue().get(CHECKPOINT_KEY);
+            if (!(value instanceof BestSellerCheckpoint checkpoint)) {
+                return;
+            }
+            if (!Objects.equals(checkpoint.getBucketMillis(), BUCKET.toMillis())
+                    || !Objects.equals(checkpoint.getSketchWidth(), SKETCH_WIDTH)
+                    || !Objects.equals(checkpoint.getSketchDepth(), SKETCH_DEPTH)) {
+                log.info("Ignoring best seller checkpoint with different settings");
+                return;
+            }
+            sales.restore(new SlidingTopK.Snapshot<>(
+                    checkpoint.getCurrentBucket(), checkpoint.getBuckets(), checkpoint.getCandidates()), clock.getAsLong());
+            log.info("Restored best seller counts from checkpoint: candidates={}", checkpoint.getCandidates().size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to restore best seller checkpoint, starting with empty counts", e);
+        }
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("catalog.best-seller.events")
+                .description("베스트셀러 집계에 반영한 주문 이벤트 수")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private static Timer refreshTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("catalog.best-seller.refresh")
+                .description("베스트셀러 순위 갱신 시간")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
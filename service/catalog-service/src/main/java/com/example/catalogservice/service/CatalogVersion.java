@@ -0,0 +1,187 @@
+package com.example.catalogservice.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 카탈로그 버전 카운터
+ *
+ * 상품/키워드/카테고리 변경이 반영될 때마다 Redis 카운터를 올린다.
+ * 검색 결과 캐시는 이 버전을 키에 포함하므로, 버전이 바뀌면 이전 항목은 더 이상 조회되지 않고 TTL로 정리된다.
+ * 같은 버전이 다른 카탈로그 상태에 다시 쓰이면 안 되므로 버전은 "epoch.counter" 토큰으로 관리한다.
+ * - Redis 해시(KEY)에 counter와 epoch를 함께 두고, 키가 없으면 카운터를 만들 때 임의의 epoch를 같이 만든다 (Lua 스크립트로 원자적으로 처리)
+ *   키가 유실되어 카운터가 처음부터 다시 시작해도 epoch가 달라 이전 캐시 키와 겹치지 않는다
+ * - 같은 epoch 안에서는 max(로컬, Redis)만 반영해 버전이 뒤로 가지 않는다
+ * - 요청마다 Redis를 조회하지 않도록 버전을 로컬에 두고 REFRESH_INTERVAL마다 다시 읽는다
+ *   (다른 인스턴스에서 올린 버전은 최대 REFRESH_INTERVAL 뒤에 반영된다)
+ * - Redis 장애 시에는 변경 이벤트 처리를 실패시키지 않고 로컬 증가분을 인스턴스 ID와 함께 토큰에 붙여 이 인스턴스의 캐시만 무효화한다.
+ *   다음 갱신 때 Redis 카운터를 한 번 올려 로컬 증가분을 정리한다
+ * - 상품/키워드 bulk 쓰기는 refresh를 기다리지 않으므로, 버전을 바로 올린 뒤 SETTLE_DELAY(인덱스 refresh 간격 + 여유)가 지나면 한 번 더 올린다.
+ *   그 사이 refresh 전의 문서로 만든 검색 캐시는 최대 SETTLE_DELAY 동안만 쓰인다 (연속된 변경은 마지막 변경 기준으로 한 번만 올린다)
+ */
+@Slf4j
+@Component
+public class CatalogVersion {
+
+    static final String KEY = "catalog:search-version";
+    static final Duration SETTLE_DELAY = Duration.ofSeconds(2);
+    private static final long REFRESH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    // KEYS[1] = 버전 해시, ARGV[1] = 키가 없을 때 쓸 epoch, ARGV[2] = 증가량 (0이면 조회만)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> INCREMENT_SCRIPT = RedisScript.of("""
+            local counter = redis.call('HINCRBY', KEYS[1], 'counter', ARGV[2])
+            redis.call('HSETNX', KEYS[1], 'epoch', ARGV[1])
+            return {redis.call('HGET', KEYS[1], 'epoch'), counter}
+            """, List.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final long settleDelayNanos;
+    private final ScheduledExecutorService scheduler;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 다음 지연 증가 시각 - 변경이 이어지면 뒤로 미룬다 (guarded by this)
+    private long settleAtNanos;
+    private boolean settleScheduled;
+
+    private final AtomicReference<Version> version = new AtomicReference<>(new Version("local-" + instanceId, 0, 0));
+    private volatile long refreshedAt;
+    private volatile boolean loaded;
+
+    @Autowired
+    public CatalogVersion(RedisTemplate<String, Object> redisTemplate) {
+        this(redisTemplate, SETTLE_DELAY);
+    }
+
+    CatalogVersion(RedisTemplate<String, Object> redisTemplate, Duration settleDelay) {
+        this.redisTemplate = redisTemplate;
+        this.settleDelayNanos = settleDelay.toNanos();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-version");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 현재 카탈로그 버전 토큰 - 검색 캐시 키의 접두사로 쓴다
+     */
+    public String current() {
+        long now = System.nanoTime();
+        if (!loaded || now - refreshedAt >= REFRESH_INTERVAL_NANOS) {
+            refreshedAt = now;
+            loaded = true;
+            refresh();
+        }
+        return version.get().token(instanceId);
+    }
+
+    /**
+     * 카탈로그 변경 반영 후 호출 - 버전을 올려 이전 검색 결과 캐시를 무효화하고, SETTLE_DELAY 뒤에 한 번 더 올린다
+     */
+    public void increment() {
+        bump();
+        scheduleSettle();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private synchronized void scheduleSettle() {
+        settleAtNanos = System.nanoTime() + settleDelayNanos;
+        if (!settleScheduled) {
+            settleScheduled = true;
+            scheduler.schedule(this::settle, settleDelayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void settle() {
+        synchronized (this) {
+            long remaining = settleAtNanos - System.nanoTime();
+            if (remaining > 0) {
+                scheduler.schedule(this::settle, remaining, TimeUnit.NANOSECONDS);
+                return;
+            }
+            settleScheduled = false;
+        }
+        bump();
+    }
+
+    private void bump() {
+        if (!apply(1)) {
+            version.updateAndGet(Version::withLocalBump);
+        }
+    }
+
+    private void refresh() {
+        // 로컬에서만 올린 버전이 남아 있으면 Redis 카운터를 올려 다른 인스턴스에도 반영한다
+        apply(version.get().localBumps() > 0 ? 1 : 0);
+    }
+
+    /**
+     * Redis 카운터를 delta만큼 올리고 결과를 로컬 버전에 반영한다
+     *
+     * @return Redis 반영 성공 여부
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private boolean apply(long delta) {
+        try {
+            // 결과 목록의 epoch(bulk string)도 문자열로 읽는다
+            List<?> result = redisTemplate.execute(INCREMENT_SCRIPT, RedisSerializer.string(), (RedisSerializer) RedisSerializer.string(),
+                    List.of(KEY), UUID.randomUUID().toString(), String.valueOf(delta));
+            if (result != null && result.size() == 2
+                    && result.get(0) instanceof String epoch && result.get(1) instanceof Number counter) {
+                version.updateAndGet(local -> local.merge(epoch, counter.longValue(), delta > 0));
+                return true;
+            }
+            log.warn("Unexpected catalog version result from Redis: {}", result);
+        } catch (RuntimeException e) {
+            log.warn("Failed to update catalog version in Redis, using local version={}",
+                    version.get().token(instanceId), e);
+        }
+        return false;
+    }
+
+    /**
+     * 로컬 버전
+     *
+     * @param epoch      Redis 카운터가 만들어질 때 정해진 epoch
+     * @param counter    epoch 안에서 마지막으로 본 Redis 카운터
+     * @param localBumps Redis에 반영하지 못한 로컬 증가 횟수
+     */
+    record Version(String epoch, long counter, long localBumps) {
+
+        Version merge(String redisEpoch, long redisCounter, boolean incremented) {
+            // Redis 카운터를 올렸다면 로컬 증가분도 그 안에 반영된 것으로 본다
+            long pending = incremented ? 0 : localBumps;
+            if (!epoch.equals(redisEpoch)) {
+                return new Version(redisEpoch, redisCounter, pending);
+            }
+            return new Version(epoch, Math.max(counter, redisCounter), pending);
+        }
+
+        Version withLocalBump() {
+            return new Version(epoch, counter, localBumps + 1);
+        }
+
+        String token(String instanceId) {
+            String token = epoch + "." + counter;
+            return localBumps == 0 ? token : token + "." + instanceId + "." + localBumps;
+        }
+    }
+}
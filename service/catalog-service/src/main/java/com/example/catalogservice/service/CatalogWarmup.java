@@ -0,0 +1,213 @@
+package com.example.catalogservice.service;
+
+import com.example.catalogservice.controller.dto.ProductDetailResponse;
+import com.example.catalogservice.domain.CategoryIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 기동 시 캐시 워밍업
+ *
+ * 배포 직후 빈 로컬 상태로 트래픽을 받으면 첫 요청들이 Redis/product-service 지연을 그대로 겪으므로,
+ * 준비 완료(actuator readiness) 전에 자주 읽는 데이터를 미리 읽어 둔다.
+ * ApplicationReadyEvent 리스너는 readiness가 ACCEPTING_TRAFFIC으로 바뀌기 전에 동기로 실행되므로 워밍업이 끝날 때까지 준비 완료가 미뤄진다.
+ * - 카테고리: 인메모리 카테고리 스냅샷을 Redis에서 읽는다
+ * - 카테고리 경로: categoryPath가 없는 예전 상품 문서를 스냅샷 기준으로 채운다 (채우기 전에는 카테고리 필터/패싯에서 빠진다)
+ * - 상품 상세: 오늘/어제 많이 조회된 상품 상위 topProducts개를 L1과 Redis에 채운다 ({@link ProductViewTracker})
+ * - 자동완성, 카테고리 경로: 먼저 시작해 두고 다른 단계와 함께 진행한 뒤 끝날 때까지 기다린다
+ * - 전체 시간은 budget 안으로 제한한다. 넘으면 남은 단계를 건너뛰고 준비 완료로 넘어간다
+ *   (진행 중인 트라이 재구성과 경로 채우기는 계속되고, 그동안 자동완성은 Elasticsearch로 대체 조회한다)
+ * - 단계 실패는 로그와 지표만 남기고 기동을 막지 않는다
+ *
+ * 지표:
+ * - catalog.warmup.duration{result=completed|timeout}: 워밍업 전체 시간
+ * - catalog.warmup.step{step=category|category-path|products|autocomplete, result=success|failure|timeout}: 단계별 시간
+ * - catalog.warmup.products: 미리 읽어 둔 상품 수
+ */
+@Slf4j
+@Component
+public class CatalogWarmup {
+
+    private static final int PRODUCT_BATCH_SIZE = 100;
+
+    private final CategorySyncService categorySyncService;
+    private final CategoryPathUpdater categoryPathUpdater;
+    private final ProductDetailService productDetailService;
+    private final ProductViewTracker productViewTracker;
+    private final AutocompleteService autocompleteService;
+    private final MeterRegistry meterRegistry;
+    private final Duration budget;
+    private final int topProducts;
+
+    private final Counter warmedProducts;
+
+    public CatalogWarmup(CategorySyncService categorySyncService,
+                         CategoryPathUpdater categoryPathUpdater,
+                         ProductDetailService productDetailService,
+                         ProductViewTracker productViewTracker,
+                         AutocompleteService autocompleteService,
+                         MeterRegistry meterRegistry,
+                         @Value("${catalog.warmup.budget:30s}") Duration budget,
+                         @Value("${catalog.warmup.top-products:500}") int topProducts) {
+        this.categorySyncService = categorySyncService;
+        this.categoryPathUpdater = categoryPathUpdater;
+        this.productDetailService = productDetailService;
+        this.productViewTracker = productViewTracker;
+        this.autocompleteService = autocompleteService;
+        this.meterRegistry = meterRegistry;
+        this.budget = budget;
+        this.topProducts = topProducts;
+
+        this.warmedProducts = Counter.builder("catalog.warmup.products")
+                .description("기동 시 미리 읽어 둔 상품 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 다른 ApplicationReadyEvent 리스너(색인 별칭 초기화 등)가 끝난 뒤 실행한다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onApplicationReady() {
+        warmUp();
+    }
+
+    /**
+     * @return 모든 단계가 budget 안에 끝났으면 true (단계 실패 포함)
+     */
+    boolean warmUp() {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + budget.toNanos();
+        log.info("Catalog warm-up started: budget={}, topProducts={}", budget, topProducts);
+
+        long autocompleteStartedAt = System.nanoTime();
+        CompletableFuture<Void> autocomplete = autocompleteService.rebuildAsync();
+
+        CategoryIndex categoryIndex = warmCategories();
+        long categoryPathStartedAt = System.nanoTime();
+        CompletableFuture<Void> categoryPaths = categoryPathUpdater.backfillMissingPaths(categoryIndex);
+
+        boolean completed = warmProducts(deadline);
+        completed &= awaitCategoryPaths(categoryPaths, categoryPathStartedAt, deadline);
+        completed &= awaitAutocomplete(autocomplete, autocompleteStartedAt, deadline);
+
+        String result = completed ? "completed" : "timeout";
+        long elapsed = System.nanoTime() - startedAt;
+        Timer.builder("catalog.warmup.duration")
+                .description("기동 시 캐시 워밍업 전체 시간")
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        if (completed) {
+            log.info("Catalog warm-up completed: took={}ms", TimeUnit.NANOSECONDS.toMillis(elapsed));
+        } else {
+            log.warn("Catalog warm-up exceeded budget, becoming ready with a partially warmed cache: budget={}", budget);
+        }
+        return completed;
+    }
+
+    private CategoryIndex warmCategories() {
+        long startedAt = System.nanoTime();
+        try {
+            // 카테고리 스냅샷은 Redis 실패 시 빈 스냅샷으로 대체되고 다음 확인 주기에 다시 읽는다
+            CategoryIndex index = categorySyncService.getCategoryIndex();
+            recordStep("category", "success", startedAt);
+            log.info("Warmed category index: categories={}", index.size());
+            return index;
+        } catch (RuntimeException e) {
+            recordStep("category", "failure", startedAt);
+            log.warn("Failed to warm category index", e);
+            return CategoryIndex.EMPTY;
+        }
+    }
+
+    private boolean awaitCategoryPaths(CompletableFuture<Void> categoryPaths, long startedAt, long deadline) {
+        try {
+            categoryPaths.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            recordStep("category-path", "timeout", startedAt);
+            log.warn("Category path backfill still running at budget, continuing in background");
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recordStep("category-path", "failure", startedAt);
+            return true;
+        } catch (ExecutionException e) {
+            recordStep("category-path", "failure", startedAt);
+            log.warn("Failed to backfill category paths", e.getCause());
+            return true;
+        }
+        recordStep("category-path", "success", startedAt);
+        return true;
+    }
+
+    private boolean warmProducts(long deadline) {
+        long startedAt = System.nanoTime();
+        int warmed = 0;
+        try {
+            List<Long> productIds = productViewTracker.topViewed(topProducts);
+            for (int from = 0; from < productIds.size(); from += PRODUCT_BATCH_SIZE) {
+                if (System.nanoTime() >= deadline) {
+                    recordStep("products", "timeout", startedAt);
+                    log.warn("Product detail warm-up stopped at budget: warmed={}, candidates={}", warmed, productIds.size());
+                    return false;
+                }
+                List<Long> batch = productIds.subList(from, Math.min(from + PRODUCT_BATCH_SIZE, productIds.size()));
+                List<ProductDetailResponse> details = productDetailService.getProductDetails(batch);
+                warmed += details.size();
+                warmedProducts.increment(details.size());
+            }
+            recordStep("products", "success", startedAt);
+            log.info("Warmed product details: warmed={}, candidates={}", warmed, productIds.size());
+        } catch (RuntimeException e) {
+            recordStep("products", "failure", startedAt);
+            log.warn("Failed to warm product details: warmed={}", warmed, e);
+        }
+        return true;
+    }
+
+    private boolean awaitAutocomplete(CompletableFuture<Void> autocomplete, long startedAt, long deadline) {
+        try {
+            autocomplete.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            recordStep("autocomplete", "timeout", startedAt);
+            log.warn("Autocomplete warm-up still running at budget, continuing in background");
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recordStep("autocomplete", "failure", startedAt);
+            return true;
+        } catch (ExecutionException e) {
+            recordStep("autocomplete", "failure", startedAt);
+            log.warn("Failed to warm autocomplete index", e.getCause());
+            return true;
+        }
+        // 재구성 실패는 rebuild 안에서 로그를 남기고 트라이가 준비되지 않은 채로 끝난다
+        recordStep("autocomplete", autocompleteService.isReady() ? "success" : "failure", startedAt);
+        return true;
+    }
+
+    private void recordStep(String step, String result, long startedAt) {
+        Timer.builder("catalog.warmup.step")
+                .description("기동 시 캐시 워밍업 단계별 시간")
+                .tag("step", step)
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+}
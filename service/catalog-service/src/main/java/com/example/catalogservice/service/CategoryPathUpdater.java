@@ -0,0 +1,189 @@
+package com.example.catalogservice.service;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.example.catalogservice.domain.CategoryIndex;
+import com.example.catalogservice.domain.document.ProductDocument;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.ScriptType;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 상품 카테고리 경로(categoryPath) 갱신기
+ *
+ * 카테고리가 다른 부모로 이동하면 그 카테고리와 하위 카테고리에 속한 상품의 categoryPath가 달라진다.
+ * 이동된 서브트리의 상품만 update-by-query로 다시 계산하며, 이벤트 처리를 지연시키지 않도록 백그라운드에서 실행한다.
+ * - 작업은 단일 스레드에서 순서대로 실행되므로 연속된 이동도 마지막 트리 기준으로 반영된다
+ * - 버전 충돌(동시에 색인 중인 상품)은 update-by-query 중에는 건너뛰고, 충돌이 남아 있으면 같은 요청을 MAX_CONFLICT_RETRIES번까지 다시 실행한다.
+ *   충돌한 상품은 이벤트 색인 시점의 스냅샷(이동 전일 수 있음)으로 계산된 경로를 가지므로, 다시 실행해 최신 스냅샷으로 맞춘다 (스크립트는 멱등이라 재실행해도 안전하다)
+ * - 갱신이 끝나면 카탈로그 버전을 올려 이전 검색 결과 캐시를 무효화한다
+ * - categoryPath 도입 전에 색인된 상품(필드 없음)은 기동 시 {@link #backfillMissingPaths}로 채운다.
+ *   채워진 상품은 다시 대상이 되지 않으므로 여러 인스턴스가 실행해도 처음 한 번만 갱신한다
+ */
+@Slf4j
+@Component
+public class CategoryPathUpdater {
+
+    /**
+     * 상품의 categoryIds 각각에 대해 params.paths의 조상 경로를 합쳐 categoryPath를 다시 만든다.
+     * params.paths에 없는 카테고리는 자기 자신만 포함한다.
+     */
+    static final String UPDATE_SCRIPT = """
+            List path = new ArrayList();
+            if (ctx._source.categoryIds != null) {
+              for (def id : ctx._source.categoryIds) {
+                if (id == null) { continue; }
+                def ancestors = params.paths.get(String.valueOf(id));
+                if (ancestors == null) { ancestors = [id]; }
+                for (def ancestor : ancestors) {
+                  long value = ((Number) ancestor).longValue();
+                  if (!path.contains(value)) { path.add(value); }
+                }
+              }
+            }
+            ctx._source.categoryPath = path;
+            """;
+
+    static final int MAX_CONFLICT_RETRIES = 3;
+    private static final long CONFLICT_RETRY_BACKOFF_MILLIS = 200;
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final CatalogVersion catalogVersion;
+    private final ExecutorService executor;
+
+    public CategoryPathUpdater(ElasticsearchOperations elasticsearchOperations, CatalogVersion catalogVersion) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.catalogVersion = catalogVersion;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "category-path-updater");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 이동된 카테고리의 서브트리에 속한 상품의 categoryPath를 백그라운드에서 갱신한다
+     *
+     * @param movedCategoryIds 조상 경로가 바뀐 카테고리 ID
+     * @param index            이동이 반영된 카테고리 스냅샷
+     * @return 갱신 완료 시 끝나는 future (실패는 로그로만 남기고 정상 완료한다)
+     */
+    public CompletableFuture<Void> updatePaths(Collection<Long> movedCategoryIds, CategoryIndex index) {
+        Set<Long> affectedCategoryIds = new LinkedHashSet<>();
+        for (Long categoryId : movedCategoryIds) {
+            List<Long> descendants = index.getDescendantIds(categoryId);
+            if (descendants != null) {
+                affectedCategoryIds.addAll(descendants);
+            }
+        }
+        if (affectedCategoryIds.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        log.info("Scheduling category path update: moved={}, affectedCategories={}",
+                movedCategoryIds, affectedCategoryIds.size());
+        return CompletableFuture.runAsync(() -> update(affectedCategoryIds, index), executor);
+    }
+
+    /**
+     * categoryPath가 없는 상품(필드 도입 전 색인)의 categoryPath를 백그라운드에서 채운다
+     *
+     * 카테고리 스냅샷이 비어 있으면 조상 경로를 계산할 수 없으므로 건너뛴다
+     * (자기 카테고리만 채우면 다시 대상이 되지 않아 상위 카테고리 필터에서 계속 빠진다).
+     *
+     * @return 갱신 완료 시 끝나는 future (실패는 로그로만 남기고 정상 완료한다)
+     */
+    public CompletableFuture<Void> backfillMissingPaths(CategoryIndex index) {
+        if (index.isEmpty()) {
+            log.warn("Skipping category path backfill, category index is empty");
+            return CompletableFuture.completedFuture(null);
+        }
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q
+                        .bool(b -> b
+                                .filter(f -> f.exists(e -> e.field("categoryIds")))
+                                .mustNot(m -> m.exists(e -> e.field("categoryPath")))
+                        )
+                )
+                .build();
+        return CompletableFuture.runAsync(() -> update(query, index, "backfill"), executor);
+    }
+
+    private void update(Set<Long> affectedCategoryIds, CategoryIndex index) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q
+                        .terms(t -> t
+                                .field("categoryIds")
+                                .terms(tv -> tv.value(affectedCategoryIds.stream()
+                                        .map(id -> FieldValue.of(id.longValue()))
+                                        .toList()))
+                        )
+                )
+                .build();
+        update(query, index, "affectedCategories=" + affectedCategoryIds);
+    }
+
+    private void update(NativeQuery query, CategoryIndex index, String target) {
+        try {
+            Map<String, Object> paths = new HashMap<>();
+            index.getAncestorPaths().forEach((categoryId, path) -> paths.put(String.valueOf(categoryId), path));
+
+            UpdateQuery updateQuery = UpdateQuery.builder(query)
+                    .withScriptType(ScriptType.INLINE)
+                    .withScript(UPDATE_SCRIPT)
+                    .withLang("painless")
+                    .withParams(Map.of("paths", paths))
+                    .withAbortOnVersionConflict(false)
+                    // 검색에 보인 뒤에 카탈로그 버전을 올린다 (update_by_query는 wait_for를 지원하지 않는다)
+                    .withRefreshPolicy(RefreshPolicy.IMMEDIATE)
+                    .build();
+
+            IndexCoordinates products = elasticsearchOperations.getIndexCoordinatesFor(ProductDocument.class);
+            ByQueryResponse response = elasticsearchOperations.updateByQuery(updateQuery, products);
+            for (int retry = 1; retry <= MAX_CONFLICT_RETRIES && response.getVersionConflicts() > 0; retry++) {
+                log.info("Retrying category path update after version conflicts: {}, versionConflicts={}, retry={}",
+                        target, response.getVersionConflicts(), retry);
+                Thread.sleep(CONFLICT_RETRY_BACKOFF_MILLIS * retry);
+                response = elasticsearchOperations.updateByQuery(updateQuery, products);
+            }
+
+            if (response.getFailures() != null && !response.getFailures().isEmpty()) {
+                log.error("Category path update finished with failures: {}, updated={}, failures={}",
+                        target, response.getUpdated(), response.getFailures().size());
+            } else if (response.getVersionConflicts() > 0) {
+                log.warn("Category path update left version conflicts after retries: {}, updated={}, versionConflicts={}",
+                        target, response.getUpdated(), response.getVersionConflicts());
+            } else {
+                log.info("Category path update completed: {}, updated={}, took={}ms",
+                        target, response.getUpdated(), response.getTook());
+            }
+            catalogVersion.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Category path update interrupted: {}", target);
+        } catch (RuntimeException e) {
+            log.error("Category path update failed: {}", target, e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -6,6 +6,7 @@ import com.example.catalogservice.consumer.event.CategoryCreatedEvent;
 import com.example.catalogservice.consumer.event.CategoryDeletedEvent;
 import com.example.catalogservice.consumer.event.CategoryUpdatedEvent;
 import com.example.catalogservice.domain.CategoryCache;
+import com.example.catalogservice.domain.CategoryIndex;
 import com.example.catalogservice.domain.CategoryTreeNode;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -13,14 +14,22 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,12 +39,37 @@ public class CategorySyncService {
 
     private final ProductServiceClient productServiceClient;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final CatalogVersion catalogVersion;
+    private final CategoryPathUpdater categoryPathUpdater;
 
     private static final String KEY_PREFIX = "catalog:category:";
-    private static final String KEY_TEMP_PREFIX = "catalog:category:temp:";
-    private static final String KEY_OLD_PREFIX = "catalog:category:old:";
+    private static final String KEY_DATA_PREFIX = "catalog:category:data:";
+    private static final String KEY_DATA_SEQUENCE = "catalog:category:data:seq";
+    private static final String KEY_CURRENT = "catalog:category:current";
     private static final String KEY_INDEX_ALL = "catalog:category:index:all";
     private static final String KEY_DISPLAY_TREE = "catalog:category:display:tree";
+    private static final String KEY_INDEX_VERSION = "catalog:category:index:version";
+
+    /**
+     * 버전 해시 도입 전 레이아웃의 키 (카테고리별 키, rename용 temp/old 키)
+     */
+    private static final List<String> LEGACY_KEY_PATTERNS = List.of(
+            KEY_PREFIX + "[0-9]*", KEY_PREFIX + "temp:*", KEY_PREFIX + "old:*");
+
+    /**
+     * 한 HSET 명령에 담는 필드 수 - 큰 명령 하나로 Redis가 오래 멈추지 않도록 나눠서 파이프라인으로 보낸다
+     */
+    private static final int WRITE_BATCH_SIZE = 500;
+    private static final int SCAN_BATCH_SIZE = 500;
+    private static final int MAX_UPDATE_ATTEMPTS = 5;
+
+    /**
+     * 다른 인스턴스가 반영한 카테고리 변경을 확인하는 주기 (Kafka 컨슈머 그룹 특성상 이벤트는 한 인스턴스만 처리한다)
+     */
+    private static final long INDEX_CHECK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicReference<CategoryIndex> categoryIndex = new AtomicReference<>();
+    private volatile long indexCheckedAt;
 
     private final ObjectMapper objectMapper = createObjectMapper();
 
@@ -47,19 +81,25 @@ public class CategorySyncService {
     }
 
     /**
-     * Rename 전략 기반 Full Sync.
-     * 1. 새 데이터를 temp 키에 저장
-     * 2. 기존 키들을 old 키로 rename
-     * 3. temp 키들을 정규 키로 rename
-     * 4. old 키들 삭제
-     * 5. index:all에 전체 목록 JSON 저장
-     * 6. display:tree에 계층 트리 구조 저장
+     * 버전 해시 기반 Full Sync.
+     * 카테고리는 동기화마다 새 버전 해시(catalog:category:data:{version}, 필드 = 카테고리 ID)에 저장하고,
+     * current 포인터를 바꿔 한 번에 교체한다. 카테고리 수와 무관하게 Redis 왕복은 몇 번뿐이며 KEYS를 쓰지 않는다.
+     * 1. 새 버전 번호 발급 (INCR)
+     * 2. 새 버전 해시에 전체 카테고리 저장 (HSET을 나눠 파이프라인 한 번으로 전송)
+     * 3. MULTI/EXEC로 current 포인터, index:all, display:tree, 카테고리 버전을 함께 교체
+     *    - 조회하는 쪽은 이전 버전 또는 새 버전 전체만 보게 된다
+     * 4. 이전 버전 해시를 UNLINK로 삭제 (메모리 해제는 Redis 백그라운드 스레드에서 수행)
+     *    이전 포인터가 없으면(첫 동기화) 이전 레이아웃의 카테고리별 키를 SCAN으로 찾아 정리
+     * 5. 인메모리 카테고리 스냅샷 교체
+     *    이동된 카테고리가 있으면 해당 상품의 categoryPath를 백그라운드에서 갱신
      *
-     * 이 방식은 삭제된 카테고리도 자동으로 처리된다.
+     * 새 버전에 없는 카테고리는 이전 해시와 함께 사라지므로 삭제된 카테고리도 자동으로 처리된다.
+     * 교체 전에 실패하면 새 버전 해시만 지우고 기존 데이터는 그대로 둔다.
      */
     public int fullSync() {
-        log.info("Starting category full sync with rename strategy");
+        log.info("Starting category full sync");
 
+        String pendingDataKey = null;
         try {
             // 1. product-service에서 카테고리 목록 조회
             List<CatalogSyncCategoryResponse> categories = productServiceClient.getCategoriesForSync();
@@ -70,59 +110,47 @@ public class CategorySyncService {
             }
 
             log.info("Fetched {} categories from product-service", categories.size());
+            CategoryIndex previousIndex = getCategoryIndex();
 
-            // 2. 새 데이터를 temp 키에 저장
             List<CategoryCache> categoryList = categories.stream()
                     .map(this::toCategoryCache)
                     .toList();
+            List<CategoryTreeNode> tree = buildTree(categoryList);
+            String indexAllJson = toJson(categoryList, "index:all");
+            String treeJson = toJson(tree, "display:tree");
 
-            for (CategoryCache category : categoryList) {
-                String tempKey = KEY_TEMP_PREFIX + category.getCategoryId();
-                redisTemplate.opsForValue().set(tempKey, category);
-            }
-
-            log.info("Saved {} categories to temp keys", categoryList.size());
-
-            // 3. 기존 키들을 old 키로 rename
-            Set<String> existingKeys = scanKeys(KEY_PREFIX + "[0-9]*");
-            for (String existingKey : existingKeys) {
-                String categoryId = existingKey.substring(KEY_PREFIX.length());
-                String oldKey = KEY_OLD_PREFIX + categoryId;
-                redisTemplate.rename(existingKey, oldKey);
-            }
-
-            log.info("Renamed {} existing keys to old keys", existingKeys.size());
-
-            // 4. temp 키들을 정규 키로 rename
-            Set<String> tempKeys = scanKeys(KEY_TEMP_PREFIX + "*");
-            for (String tempKey : tempKeys) {
-                String categoryId = tempKey.substring(KEY_TEMP_PREFIX.length());
-                String regularKey = KEY_PREFIX + categoryId;
-                redisTemplate.rename(tempKey, regularKey);
+            // 2. 새 버전 해시에 저장
+            Long dataVersion = redisTemplate.opsForValue().increment(KEY_DATA_SEQUENCE);
+            if (dataVersion == null) {
+                throw new IllegalStateException("Failed to allocate category data version");
             }
+            pendingDataKey = KEY_DATA_PREFIX + dataVersion;
+            writeDataHash(pendingDataKey, categoryList);
+            log.info("Saved {} categories to {}", categoryList.size(), pendingDataKey);
 
-            log.info("Renamed {} temp keys to regular keys", tempKeys.size());
+            // 3. 포인터 교체
+            List<Object> results = swapCurrent(dataVersion, indexAllJson, treeJson);
+            pendingDataKey = null;
+            Long previousDataVersion = toLong(results.get(0));
+            Long indexVersion = toLong(results.get(results.size() - 1));
 
-            // 5. old 키들 삭제
-            Set<String> oldKeys = scanKeys(KEY_OLD_PREFIX + "*");
-            if (!oldKeys.isEmpty()) {
-                redisTemplate.delete(oldKeys);
-                log.info("Deleted {} old keys", oldKeys.size());
-            }
+            // 4. 이전 데이터 정리
+            removePreviousData(previousDataVersion, dataVersion);
 
-            // 6. index:all에 전체 목록 JSON 저장
-            saveIndexAll(categoryList);
+            // 5. 인메모리 카테고리 스냅샷 교체
+            publishIndex(previousIndex, indexVersion, tree);
+            catalogVersion.increment();
 
-            // 7. display:tree에 계층 트리 구조 저장
-            saveDisplayTree(categoryList);
-
-            log.info("Category full sync completed successfully. Total categories synced: {}", categoryList.size());
+            log.info("Category full sync completed successfully. Total categories synced: {}, dataVersion={}",
+                    categoryList.size(), dataVersion);
             return categoryList.size();
 
         } catch (Exception e) {
             log.error("Category full sync failed", e);
-            // 실패 시 temp 키 정리
-            cleanupTempKeys();
+            // 교체 전 실패 시 새 버전 해시 정리
+            if (pendingDataKey != null) {
+                cleanupDataHash(pendingDataKey);
+            }
             throw new RuntimeException("Category full sync failed", e);
         }
     }
@@ -139,28 +167,117 @@ public class CategorySyncService {
                 .build();
     }
 
-    private Set<String> scanKeys(String pattern) {
-        Set<String> keys = redisTemplate.keys(pattern);
-        return keys != null ? keys : Set.of();
+    private void writeDataHash(String dataKey, List<CategoryCache> categoryList) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (int from = 0; from < categoryList.size(); from += WRITE_BATCH_SIZE) {
+                    Map<String, Object> fields = new HashMap<>();
+                    for (CategoryCache category : categoryList.subList(from,
+                            Math.min(from + WRITE_BATCH_SIZE, categoryList.size()))) {
+                        fields.put(String.valueOf(category.getCategoryId()), category);
+                    }
+                    ops.opsForHash().putAll(dataKey, fields);
+                }
+                return null;
+            }
+        });
     }
 
-    private void saveIndexAll(List<CategoryCache> categoryList) {
+    /**
+     * current 포인터와 조회용 키를 한 트랜잭션으로 교체한다
+     *
+     * @return EXEC 결과 - 첫 번째는 이전 포인터 값, 마지막은 올라간 카테고리 버전
+     */
+    private List<Object> swapCurrent(long dataVersion, String indexAllJson, String treeJson) {
+        List<Object> results = redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.multi();
+                ops.opsForValue().getAndSet(KEY_CURRENT, dataVersion);
+                ops.opsForValue().set(KEY_INDEX_ALL, indexAllJson);
+                ops.opsForValue().set(KEY_DISPLAY_TREE, treeJson);
+                ops.opsForValue().increment(KEY_INDEX_VERSION);
+                return ops.exec();
+            }
+        });
+        if (results == null || results.isEmpty()) {
+            throw new IllegalStateException("Category data swap transaction was discarded");
+        }
+        return results;
+    }
+
+    private void removePreviousData(Long previousDataVersion, long dataVersion) {
         try {
-            String json = objectMapper.writeValueAsString(categoryList);
-            redisTemplate.opsForValue().set(KEY_INDEX_ALL, json);
-            log.info("Saved index:all with {} categories", categoryList.size());
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize category list to JSON", e);
-            throw new RuntimeException("Failed to save index:all", e);
+            if (previousDataVersion == null) {
+                long deleted = 0;
+                for (String pattern : LEGACY_KEY_PATTERNS) {
+                    deleted += unlinkMatching(pattern);
+                }
+                if (deleted > 0) {
+                    log.info("Removed {} category keys of the previous layout", deleted);
+                }
+            } else if (previousDataVersion != dataVersion) {
+                redisTemplate.unlink(KEY_DATA_PREFIX + previousDataVersion);
+                log.info("Removed previous category data: {}", KEY_DATA_PREFIX + previousDataVersion);
+            }
+        } catch (RuntimeException e) {
+            // 이미 새 버전으로 교체되었으므로 정리 실패는 동기화를 실패시키지 않는다
+            log.warn("Failed to remove previous category data: version={}", previousDataVersion, e);
         }
     }
 
-    private void cleanupTempKeys() {
-        Set<String> tempKeys = scanKeys(KEY_TEMP_PREFIX + "*");
-        if (!tempKeys.isEmpty()) {
-            redisTemplate.delete(tempKeys);
-            log.info("Cleaned up {} temp keys after failure", tempKeys.size());
+    /**
+     * SCAN 커서로 패턴에 맞는 키를 찾아 배치 단위로 UNLINK 한다 (KEYS처럼 Redis를 멈추지 않는다)
+     */
+    private long unlinkMatching(String pattern) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_BATCH_SIZE).build();
+        long deleted = 0;
+        List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= SCAN_BATCH_SIZE) {
+                    deleted += unlink(batch);
+                    batch.clear();
+                }
+            }
         }
+        if (!batch.isEmpty()) {
+            deleted += unlink(batch);
+        }
+        return deleted;
+    }
+
+    private long unlink(List<String> keys) {
+        Long unlinked = redisTemplate.unlink(keys);
+        return unlinked != null ? unlinked : 0L;
+    }
+
+    private void cleanupDataHash(String dataKey) {
+        try {
+            redisTemplate.unlink(dataKey);
+            log.info("Cleaned up {} after failure", dataKey);
+        } catch (RuntimeException e) {
+            log.warn("Failed to clean up {} after failure", dataKey, e);
+        }
+    }
+
+    private String toJson(Object value, String target) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize {} to JSON", target, e);
+            throw new RuntimeException("Failed to save " + target, e);
+        }
+    }
+
+    private static Long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
     }
 
     /**
@@ -183,11 +300,14 @@ public class CategorySyncService {
     }
 
     /**
-     * 조회용: 단일 카테고리 조회
+     * 조회용: 단일 카테고리 조회 (current 포인터가 가리키는 버전 해시에서 조회)
      */
     public CategoryCache getCategoryById(Long categoryId) {
-        String key = KEY_PREFIX + categoryId;
-        Object value = redisTemplate.opsForValue().get(key);
+        Long dataVersion = toLong(redisTemplate.opsForValue().get(KEY_CURRENT));
+        if (dataVersion == null) {
+            return null;
+        }
+        Object value = redisTemplate.opsForHash().get(KEY_DATA_PREFIX + dataVersion, String.valueOf(categoryId));
         if (value instanceof CategoryCache) {
             return (CategoryCache) value;
         }
@@ -232,18 +352,6 @@ public class CategorySyncService {
                 .build();
     }
 
-    private void saveDisplayTree(List<CategoryCache> categoryList) {
-        try {
-            List<CategoryTreeNode> tree = buildTree(categoryList);
-            String json = objectMapper.writeValueAsString(tree);
-            redisTemplate.opsForValue().set(KEY_DISPLAY_TREE, json);
-            log.info("Saved display:tree with {} root categories", tree.size());
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize category tree to JSON", e);
-            throw new RuntimeException("Failed to save display:tree", e);
-        }
-    }
-
     /**
      * 조회용: 카테고리 트리 조회
      */
@@ -266,6 +374,7 @@ public class CategorySyncService {
     /**
      * 특정 카테고리 ID와 모든 하위 카테고리 ID를 반환한다.
      * 상위 카테고리로 검색 시 하위 카테고리 상품도 함께 조회하기 위해 사용.
+     * 인메모리 스냅샷에 미리 계산해 둔 목록을 반환하므로 요청마다 Redis 조회나 트리 순회가 없다.
      *
      * @param categoryId 조회할 카테고리 ID
      * @return 해당 카테고리 ID와 모든 하위 카테고리 ID 목록 (자신 포함)
@@ -275,122 +384,122 @@ public class CategorySyncService {
             return List.of();
         }
 
-        List<CategoryTreeNode> tree = getCategoryTree();
-        if (tree.isEmpty()) {
-            return List.of(categoryId);
-        }
-
-        List<Long> result = new ArrayList<>();
-        CategoryTreeNode targetNode = findNodeInTree(tree, categoryId);
-
-        if (targetNode != null) {
-            collectAllCategoryIds(targetNode, result);
-        } else {
-            // 트리에서 찾지 못한 경우 해당 ID만 반환
-            result.add(categoryId);
-        }
-
-        return result;
+        List<Long> ids = getCategoryIndex().getDescendantIds(categoryId);
+        // 트리에서 찾지 못한 경우 해당 ID만 반환
+        return ids != null ? ids : List.of(categoryId);
     }
 
     /**
-     * 트리에서 특정 카테고리 ID를 가진 노드를 찾는다.
+     * 인메모리 카테고리 스냅샷 조회.
+     * 이 인스턴스가 처리한 변경은 즉시 교체되고, 다른 인스턴스가 처리한 변경은
+     * INDEX_CHECK_INTERVAL마다 카테고리 버전을 확인해 display:tree에서 다시 읽는다.
      */
-    private CategoryTreeNode findNodeInTree(List<CategoryTreeNode> nodes, Long categoryId) {
-        if (nodes == null) {
-            return null;
+    public CategoryIndex getCategoryIndex() {
+        CategoryIndex current = categoryIndex.get();
+        long now = System.nanoTime();
+        if (current == null || now - indexCheckedAt >= INDEX_CHECK_INTERVAL_NANOS) {
+            indexCheckedAt = now;
+            return refreshIndex(current);
         }
+        return current;
+    }
 
-        for (CategoryTreeNode node : nodes) {
-            if (node.getCategoryId().equals(categoryId)) {
-                return node;
+    private CategoryIndex refreshIndex(CategoryIndex current) {
+        try {
+            Object value = redisTemplate.opsForValue().get(KEY_INDEX_VERSION);
+            long version = value instanceof Number number ? number.longValue() : 0L;
+            if (current != null && current.getVersion() == version) {
+                return current;
             }
-            if (node.getChildren() != null) {
-                CategoryTreeNode found = findNodeInTree(node.getChildren(), categoryId);
-                if (found != null) {
-                    return found;
-                }
+
+            CategoryIndex loaded = CategoryIndex.of(version, getCategoryTree());
+            // 읽는 동안 이 인스턴스가 새 스냅샷을 교체했다면 그쪽을 유지한다
+            if (categoryIndex.compareAndSet(current, loaded)) {
+                log.info("Loaded category index: version={}, categories={}", version, loaded.size());
+                return loaded;
             }
+            return categoryIndex.get();
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh category index from Redis, using current snapshot", e);
+            return current != null ? current : CategoryIndex.EMPTY;
         }
-        return null;
     }
 
     /**
-     * 노드와 모든 하위 노드의 카테고리 ID를 수집한다.
+     * 새 트리로 스냅샷을 교체한다. 카테고리 버전은 Redis 반영과 같은 트랜잭션에서 올렸으므로 다른 인스턴스도 다시 읽는다.
+     * 이전 스냅샷과 비교해 이동된 카테고리가 있으면 상품의 categoryPath 갱신을 예약한다.
      */
-    private void collectAllCategoryIds(CategoryTreeNode node, List<Long> ids) {
-        ids.add(node.getCategoryId());
-        if (node.getChildren() != null) {
-            for (CategoryTreeNode child : node.getChildren()) {
-                collectAllCategoryIds(child, ids);
-            }
+    private void publishIndex(CategoryIndex previous, Long version, List<CategoryTreeNode> tree) {
+        CategoryIndex index = CategoryIndex.of(version != null ? version : 0L, tree);
+        categoryIndex.set(index);
+        indexCheckedAt = System.nanoTime();
+        log.info("Published category index: version={}, categories={}", index.getVersion(), index.size());
+
+        Set<Long> movedCategoryIds = previous.findMovedCategories(index);
+        if (!movedCategoryIds.isEmpty()) {
+            categoryPathUpdater.updatePaths(movedCategoryIds, index);
         }
     }
 
     /**
      * 카테고리 생성 이벤트 처리
-     * 개별 카테고리를 Redis에 저장하고 index:all, display:tree를 재구성한다.
+     * 현재 버전 해시에 카테고리를 저장하고 index:all, display:tree를 재구성한다.
      */
     public void syncCategory(CategoryCreatedEvent event) {
         log.info("Processing category created event: categoryId={}", event.getCategoryId());
 
-        CategoryCache category = CategoryCache.builder()
+        applyCategoryChange(event.getCategoryId(), categories -> CategoryCache.builder()
                 .categoryId(event.getCategoryId())
                 .parentId(event.getParentId())
                 .categoryName(event.getCategoryName())
                 .displayOrder(event.getDisplayOrder())
-                .depth(calculateDepth(event.getParentId()))
+                .depth(calculateDepth(event.getParentId(), categories))
                 .createdAt(event.getCreatedAt())
-                .build();
+                .build());
 
-        String key = KEY_PREFIX + category.getCategoryId();
-        redisTemplate.opsForValue().set(key, category);
-
-        rebuildIndexAndTree();
+        catalogVersion.increment();
         log.info("Category created event processed: categoryId={}", event.getCategoryId());
     }
 
     /**
      * 카테고리 수정 이벤트 처리
-     * 개별 카테고리를 업데이트하고 index:all, display:tree를 재구성한다.
+     * 현재 버전 해시의 카테고리를 업데이트하고 index:all, display:tree를 재구성한다.
      */
     public void updateCategory(CategoryUpdatedEvent event) {
         log.info("Processing category updated event: categoryId={}", event.getCategoryId());
 
-        CategoryCache existingCategory = getCategoryById(event.getCategoryId());
-        if (existingCategory == null) {
-            log.warn("Category not found for update: categoryId={}, will create new", event.getCategoryId());
-        }
-
-        CategoryCache category = CategoryCache.builder()
-                .categoryId(event.getCategoryId())
-                .parentId(event.getParentId())
-                .categoryName(event.getCategoryName())
-                .displayOrder(event.getDisplayOrder())
-                .depth(calculateDepth(event.getParentId()))
-                .createdAt(existingCategory != null ? existingCategory.getCreatedAt() : null)
-                .updatedAt(event.getUpdatedAt())
-                .build();
-
-        String key = KEY_PREFIX + category.getCategoryId();
-        redisTemplate.opsForValue().set(key, category);
+        applyCategoryChange(event.getCategoryId(), categories -> {
+            CategoryCache existingCategory = categories.get(event.getCategoryId());
+            if (existingCategory == null) {
+                log.warn("Category not found for update: categoryId={}, will create new", event.getCategoryId());
+            }
 
-        rebuildIndexAndTree();
+            return CategoryCache.builder()
+                    .categoryId(event.getCategoryId())
+                    .parentId(event.getParentId())
+                    .categoryName(event.getCategoryName())
+                    .displayOrder(event.getDisplayOrder())
+                    .depth(calculateDepth(event.getParentId(), categories))
+                    .createdAt(existingCategory != null ? existingCategory.getCreatedAt() : null)
+                    .updatedAt(event.getUpdatedAt())
+                    .build();
+        });
+
+        catalogVersion.increment();
         log.info("Category updated event processed: categoryId={}", event.getCategoryId());
     }
 
     /**
      * 카테고리 삭제 이벤트 처리
-     * 개별 카테고리를 삭제하고 index:all, display:tree를 재구성한다.
+     * 현재 버전 해시에서 카테고리를 삭제하고 index:all, display:tree를 재구성한다.
      */
     public void deleteCategory(CategoryDeletedEvent event) {
         log.info("Processing category deleted event: categoryId={}", event.getCategoryId());
 
-        String key = KEY_PREFIX + event.getCategoryId();
-        Boolean deleted = redisTemplate.delete(key);
+        boolean deleted = applyCategoryChange(event.getCategoryId(), categories -> null);
 
-        if (Boolean.TRUE.equals(deleted)) {
-            rebuildIndexAndTree();
+        if (deleted) {
+            catalogVersion.increment();
             log.info("Category deleted event processed: categoryId={}", event.getCategoryId());
         } else {
             log.warn("Category not found for deletion: categoryId={}", event.getCategoryId());
@@ -400,12 +509,12 @@ public class CategorySyncService {
     /**
      * 부모 카테고리 ID를 기반으로 depth를 계산한다.
      */
-    private int calculateDepth(Long parentId) {
+    private int calculateDepth(Long parentId, Map<Long, CategoryCache> categories) {
         if (parentId == null) {
             return 0;
         }
 
-        CategoryCache parent = getCategoryById(parentId);
+        CategoryCache parent = categories.get(parentId);
         if (parent == null) {
             log.warn("Parent category not found: parentId={}, assuming depth=1", parentId);
             return 1;
@@ -415,27 +524,114 @@ public class CategorySyncService {
     }
 
     /**
-     * 현재 Redis에 저장된 모든 개별 카테고리 키를 스캔하여
-     * index:all과 display:tree를 재구성한다.
+     * 현재 버전 해시의 카테고리 하나를 바꾸고 index:all, display:tree를 재구성한 뒤 인메모리 스냅샷을 교체한다.
+     * 해시 전체를 HGETALL 한 번으로 읽고, 카테고리/조회용 키/카테고리 버전을 MULTI/EXEC로 함께 반영한다.
+     * current 포인터와 해시를 WATCH 하므로 그 사이 다른 변경(전체 동기화 포함)이 끼어들면 다시 읽어서 재시도한다.
+     * current 포인터가 없으면(전체 동기화 전) 빈 해시에서 시작하면 카테고리 하나뿐인 트리를 발행하게 되므로,
+     * 대신 전체 동기화를 실행한다. 이벤트는 product-service 커밋 후 발행되므로 전체 동기화 결과에 이미 반영되어 있다.
+     *
+     * @param change 현재 카테고리 맵(ID -> 카테고리)으로 저장할 카테고리를 만든다. null이면 삭제
+     * @return 반영 여부 (없는 카테고리 삭제는 false)
      */
-    private void rebuildIndexAndTree() {
-        Set<String> categoryKeys = scanKeys(KEY_PREFIX + "[0-9]*");
-        List<CategoryCache> categoryList = new ArrayList<>();
+    private boolean applyCategoryChange(Long categoryId, Function<Map<Long, CategoryCache>, CategoryCache> change) {
+        CategoryIndex previousIndex = getCategoryIndex();
+        for (int attempt = 1; attempt <= MAX_UPDATE_ATTEMPTS; attempt++) {
+            CategoryUpdate update = redisTemplate.execute(new SessionCallback<CategoryUpdate>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> CategoryUpdate execute(RedisOperations<K, V> operations) {
+                    return applyCategoryChange((RedisOperations<String, Object>) operations, categoryId, change);
+                }
+            });
+
+            if (update == null) {
+                log.info("Category change conflicted with a concurrent update, retrying: categoryId={}, attempt={}",
+                        categoryId, attempt);
+                continue;
+            }
+            if (update == CategoryUpdate.NOT_INITIALIZED) {
+                return initializeWithFullSync(categoryId);
+            }
+            if (!update.changed()) {
+                return false;
+            }
+            publishIndex(previousIndex, update.indexVersion(), update.tree());
+            return true;
+        }
+        throw new IllegalStateException("Category change failed after " + MAX_UPDATE_ATTEMPTS
+                + " attempts due to concurrent updates: categoryId=" + categoryId);
+    }
 
-        for (String key : categoryKeys) {
-            Object value = redisTemplate.opsForValue().get(key);
+    private boolean initializeWithFullSync(Long categoryId) {
+        log.warn("Category data is not initialized, running full sync instead of a partial update: categoryId={}",
+                categoryId);
+        if (fullSync() == 0) {
+            throw new IllegalStateException(
+                    "Category data is not initialized and product-service returned no categories: categoryId="
+                            + categoryId);
+        }
+        return true;
+    }
+
+    /**
+     * @return 반영 결과, 트랜잭션이 취소되면(WATCH 충돌) null, current 포인터가 없으면 NOT_INITIALIZED
+     */
+    private CategoryUpdate applyCategoryChange(RedisOperations<String, Object> ops, Long categoryId,
+                                               Function<Map<Long, CategoryCache>, CategoryCache> change) {
+        ops.watch(KEY_CURRENT);
+        Long dataVersion = toLong(ops.opsForValue().get(KEY_CURRENT));
+        if (dataVersion == null) {
+            ops.unwatch();
+            return CategoryUpdate.NOT_INITIALIZED;
+        }
+        String dataKey = KEY_DATA_PREFIX + dataVersion;
+        ops.watch(dataKey);
+
+        Map<Long, CategoryCache> categories = new HashMap<>();
+        ops.opsForHash().entries(dataKey).values().forEach(value -> {
             if (value instanceof CategoryCache category) {
-                categoryList.add(category);
+                categories.put(category.getCategoryId(), category);
             }
+        });
+
+        CategoryCache updated = change.apply(categories);
+        if (updated == null && !categories.containsKey(categoryId)) {
+            ops.unwatch();
+            return CategoryUpdate.UNCHANGED;
         }
+        if (updated != null) {
+            categories.put(categoryId, updated);
+        } else {
+            categories.remove(categoryId);
+        }
+
+        List<CategoryCache> categoryList = categories.values().stream()
+                .sorted(Comparator.comparing(CategoryCache::getCategoryId))
+                .toList();
+        List<CategoryTreeNode> tree = buildTree(categoryList);
+        String indexAllJson = toJson(categoryList, "index:all");
+        String treeJson = toJson(tree, "display:tree");
 
-        if (!categoryList.isEmpty()) {
-            saveIndexAll(categoryList);
-            saveDisplayTree(categoryList);
+        ops.multi();
+        if (updated != null) {
+            ops.opsForHash().put(dataKey, String.valueOf(categoryId), updated);
         } else {
-            // 모든 카테고리가 삭제된 경우 빈 목록으로 저장
-            redisTemplate.opsForValue().set(KEY_INDEX_ALL, "[]");
-            redisTemplate.opsForValue().set(KEY_DISPLAY_TREE, "[]");
+            ops.opsForHash().delete(dataKey, String.valueOf(categoryId));
         }
+        ops.opsForValue().set(KEY_INDEX_ALL, indexAllJson);
+        ops.opsForValue().set(KEY_DISPLAY_TREE, treeJson);
+        ops.opsForValue().increment(KEY_INDEX_VERSION);
+        List<Object> results = ops.exec();
+
+        if (results == null || results.isEmpty()) {
+            return null;
+        }
+        return new CategoryUpdate(true, toLong(results.get(results.size() - 1)), tree);
+    }
+
+    private record CategoryUpdate(boolean changed, Long indexVersion, List<CategoryTreeNode> tree) {
+
+        static final CategoryUpdate UNCHANGED = new CategoryUpdate(false, null, List.of());
+        static final CategoryUpdate NOT_INITIALIZED = new CategoryUpdate(false, null, null);
     }
 }
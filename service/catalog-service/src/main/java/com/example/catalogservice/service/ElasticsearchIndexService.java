@@ -12,6 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.Settings;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.stereotype.Service;
 
@@ -34,6 +35,8 @@ public class ElasticsearchIndexService {
     public static final String ALIAS_NAME = "products";
     private static final String INDEX_PREFIX = "products_";
     private static final DateTimeFormatter INDEX_SUFFIX_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmssSSS");
+    private static final String DEFAULT_REFRESH_INTERVAL = "1s";
+    private static final String DEFAULT_NUMBER_OF_REPLICAS = "1";
 
     /**
      * 새 인덱스를 생성하고 인덱스 이름을 반환한다.
@@ -55,6 +58,49 @@ public class ElasticsearchIndexService {
         return newIndexName;
     }
 
+    /**
+     * 대량 색인 전에 refresh와 replica를 끈다.
+     * 색인 도중 세그먼트 refresh와 replica 복제 비용을 없애 bulk 처리량을 높인다.
+     *
+     * @return 복원에 사용할 기존 설정
+     */
+    public BulkIndexSettings disableRefreshAndReplicas(String indexName) throws IOException {
+        Settings current = elasticsearchOperations.indexOps(IndexCoordinates.of(indexName))
+                .getSettings(true)
+                .flatten();
+        BulkIndexSettings previous = new BulkIndexSettings(
+                valueOrDefault(current.getString("index.refresh_interval"), DEFAULT_REFRESH_INTERVAL),
+                valueOrDefault(current.getString("index.number_of_replicas"), DEFAULT_NUMBER_OF_REPLICAS));
+
+        elasticsearchClient.indices().putSettings(p -> p
+                .index(indexName)
+                .settings(s -> s
+                        .refreshInterval(t -> t.time("-1"))
+                        .numberOfReplicas("0")));
+
+        log.info("Disabled refresh and replicas for bulk indexing: index={}, previous={}", indexName, previous);
+        return previous;
+    }
+
+    /**
+     * 대량 색인 후 refresh와 replica 설정을 복원하고 refresh를 수행한다.
+     * alias 전환 전에 호출하여 전환 직후부터 검색 가능한 상태를 보장한다.
+     */
+    public void restoreRefreshAndReplicas(String indexName, BulkIndexSettings previous) throws IOException {
+        BulkIndexSettings target = previous != null
+                ? previous
+                : new BulkIndexSettings(DEFAULT_REFRESH_INTERVAL, DEFAULT_NUMBER_OF_REPLICAS);
+
+        elasticsearchClient.indices().putSettings(p -> p
+                .index(indexName)
+                .settings(s -> s
+                        .refreshInterval(t -> t.time(target.refreshInterval()))
+                        .numberOfReplicas(target.numberOfReplicas())));
+        elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).refresh();
+
+        log.info("Restored index settings after bulk indexing: index={}, settings={}", indexName, target);
+    }
+
     /**
      * alias를 새 인덱스로 전환한다.
      * 기존 인덱스에서 alias를 제거하고 새 인덱스에 alias를 추가한다.
@@ -136,7 +182,13 @@ public class ElasticsearchIndexService {
         return elasticsearchClient.indices().existsAlias(e -> e.name(aliasName)).value();
     }
 
+    private String valueOrDefault(String value, String defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
     private String generateIndexName() {
         return INDEX_PREFIX + LocalDateTime.now().format(INDEX_SUFFIX_FORMATTER);
     }
+
+    public record BulkIndexSettings(String refreshInterval, String numberOfReplicas) {}
 }
@@ -0,0 +1,141 @@
+package com.example.catalogservice.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * 컨슈머 스레드들의 변경을 키별로 합쳐 한 번의 bulk 요청으로 보내는 버퍼 (group commit)
+ *
+ * - 진행 중인 요청이 없으면 먼저 도착한 호출 스레드가 묶음을 보낸다
+ * - 보내기 전에 최대 maxDelay 동안, 또는 묶음의 키가 maxBatchSize개가 될 때까지 다른 변경을 기다린다
+ * - 요청이 진행되는 동안 도착한 변경은 다음 묶음에 쌓이고, 같은 키의 변경은 merge 함수로 합쳐진다
+ * - 호출 스레드는 자신의 키가 반영되거나 실패할 때까지 대기하므로, 리스너가 반환된 뒤에만 오프셋이 커밋된다
+ *
+ * @param <K> 문서 키
+ * @param <V> 키별로 합쳐진 변경
+ */
+final class GroupCommitBuffer<K, V> {
+
+    private final Function<Map<K, V>, Map<K, RuntimeException>> writer;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+
+    private final Object lock = new Object();
+    private Batch<K, V> pending = new Batch<>();
+    private boolean flushing;
+
+    /**
+     * @param writer 묶음을 반영하고 실패한 키별 예외를 반환하는 함수
+     * @param maxBatchSize 이 개수의 키가 모이면 대기 없이 보낸다
+     * @param maxDelayMillis 묶음을 보내기 전 다른 변경을 기다리는 최대 시간 (0이면 기다리지 않음)
+     */
+    GroupCommitBuffer(Function<Map<K, V>, Map<K, RuntimeException>> writer, int maxBatchSize, long maxDelayMillis) {
+        this.writer = writer;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+    }
+
+    /**
+     * 변경을 묶음에 추가하고 반영될 때까지 기다린다
+     *
+     * @param key 문서 키
+     * @param merge 같은 묶음에 있던 기존 변경(없으면 null)에 이번 변경을 합치는 함수
+     * @throws RuntimeException 이 키의 반영이 실패한 경우 writer가 돌려준 예외
+     */
+    void submit(K key, UnaryOperator<V> merge) {
+        Batch<K, V> batch;
+        boolean flusher;
+        synchronized (lock) {
+            batch = pending;
+            batch.values.compute(key, (k, previous) -> merge.apply(previous));
+            batch.submitted++;
+            if (batch.values.size() >= maxBatchSize) {
+                lock.notifyAll();
+            }
+
+            try {
+                while (flushing && !batch.taken) {
+                    lock.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for bulk write: key=" + key, e);
+            }
+
+            flusher = !batch.taken;
+            if (flusher) {
+                flushing = true;
+                awaitMoreChanges(batch);
+                batch.taken = true;
+                pending = new Batch<>();
+            }
+        }
+
+        if (flusher) {
+            try {
+                batch.result.complete(write(batch.values));
+            } catch (Error e) {
+                batch.result.completeExceptionally(e);
+                throw e;
+            } finally {
+                synchronized (lock) {
+                    flushing = false;
+                    lock.notifyAll();
+                }
+            }
+        }
+
+        RuntimeException failure = batch.result.join().get(key);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * 반영을 기다리는 변경 수
+     */
+    int pendingCount() {
+        synchronized (lock) {
+            return pending.submitted;
+        }
+    }
+
+    /**
+     * lock을 잡은 상태에서 호출된다. wait 중에는 lock이 풀리므로 다른 스레드가 같은 묶음에 변경을 추가할 수 있다.
+     */
+    private void awaitMoreChanges(Batch<K, V> batch) {
+        long deadline = System.nanoTime() + maxDelayNanos;
+        long remaining;
+        while (batch.values.size() < maxBatchSize && (remaining = deadline - System.nanoTime()) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+            } catch (InterruptedException e) {
+                // 묶음에 이미 다른 스레드의 변경이 있으므로 대기만 멈추고 반영은 계속한다
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private Map<K, RuntimeException> write(Map<K, V> values) {
+        try {
+            return writer.apply(values);
+        } catch (RuntimeException e) {
+            Map<K, RuntimeException> failures = new LinkedHashMap<>();
+            values.keySet().forEach(key -> failures.put(key, e));
+            return failures;
+        }
+    }
+
+    private static final class Batch<K, V> {
+
+        private final Map<K, V> values = new LinkedHashMap<>();
+        private final CompletableFuture<Map<K, RuntimeException>> result = new CompletableFuture<>();
+        private int submitted;
+        private boolean taken;
+    }
+}
@@ -3,20 +3,63 @@ package com.example.catalogservice.service;
 import com.example.catalogservice.consumer.event.KeywordCreatedEvent;
 import com.example.catalogservice.consumer.event.KeywordDeletedEvent;
 import com.example.catalogservice.domain.document.ProductDocument;
-import com.example.catalogservice.repository.ProductSearchRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.ScriptType;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-
+import java.util.Map;
+
+/**
+ * 검색 키워드 동기화 서비스
+ *
+ * 키워드 이벤트를 상품 문서 전체 저장이 아닌 searchKeywords 배열에 대한 스크립트 부분 업데이트로 반영한다.
+ * - 문서의 다른 필드(skus 포함)는 건드리지 않고, 조회와 저장 사이에 들어온 다른 변경을 덮어쓰지 않는다
+ * - 키워드 이벤트는 키워드 ID로 파티셔닝되므로 같은 상품의 이벤트가 여러 컨슈머 스레드에서 동시에 도착한다.
+ *   bulk 요청이 진행되는 동안 들어온 변경은 모아 두었다가 다음 요청에서 상품별 업데이트 하나로 합쳐 보낸다 ({@link GroupCommitBuffer})
+ * - 호출 스레드는 자신의 변경이 반영되거나 실패할 때까지 대기하므로 Kafka 재시도/DLQ 동작은 기존과 같다
+ * - bulk 요청은 refresh를 기다리지 않는다 (리스너 스레드를 refresh 간격만큼 붙잡지 않도록).
+ *   카탈로그 버전은 바로 올리고, {@link CatalogVersion}이 refresh 간격이 지난 뒤 한 번 더 올린다
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class KeywordSyncService {
 
-    private final ProductSearchRepository productSearchRepository;
+    static final String UPDATE_SCRIPT = """
+            def keywords = ctx._source.searchKeywords;
+            if (keywords == null) {
+                keywords = new ArrayList();
+                ctx._source.searchKeywords = keywords;
+            }
+            boolean changed = keywords.removeIf(k -> params.remove.contains(k));
+            for (def keyword : params.add) {
+                if (!keywords.contains(keyword)) {
+                    keywords.add(keyword);
+                    changed = true;
+                }
+            }
+            if (!changed) {
+                ctx.op = 'noop';
+            }
+            """;
+
+    private static final int RETRY_ON_CONFLICT = 3;
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final CatalogVersion catalogVersion;
+    private final AutocompleteService autocompleteService;
+
+    // 상품 ID -> (키워드 -> 추가 여부), 같은 키워드에 대한 변경은 마지막 것만 남긴다
+    private final GroupCommitBuffer<String, Map<String, Boolean>> pendingChanges =
+            new GroupCommitBuffer<>(this::flush, Integer.MAX_VALUE, 0);
 
     /**
      * 키워드 생성 이벤트 처리 - 상품 문서의 searchKeywords 배열에 키워드 추가
@@ -25,33 +68,9 @@ public class KeywordSyncService {
         String productId = String.valueOf(event.getProductId());
         log.info("Adding keyword to product: productId={}, keyword={}", productId, event.getKeyword());
 
-        ProductDocument document = productSearchRepository.findById(productId)
-                .orElseThrow(() -> new IllegalStateException(
-                        "Product not found in Elasticsearch: productId=" + productId));
-
-        List<String> keywords = document.getSearchKeywords() != null
-                ? new ArrayList<>(document.getSearchKeywords())
-                : new ArrayList<>();
-
-        if (!keywords.contains(event.getKeyword())) {
-            keywords.add(event.getKeyword());
-        }
-
-        ProductDocument updated = ProductDocument.builder()
-                .productId(document.getProductId())
-                .productName(document.getProductName())
-                .description(document.getDescription())
-                .basePrice(document.getBasePrice())
-                .salePrice(document.getSalePrice())
-                .status(document.getStatus())
-                .primaryImageUrl(document.getPrimaryImageUrl())
-                .categoryIds(document.getCategoryIds())
-                .searchKeywords(keywords)
-                .createdAt(document.getCreatedAt())
-                .updatedAt(document.getUpdatedAt())
-                .build();
-
-        productSearchRepository.save(updated);
+        apply(productId, event.getKeyword(), true);
+        catalogVersion.increment();
+        autocompleteService.keywordAdded(event.getProductId(), event.getKeyword());
         log.info("Successfully added keyword to product: productId={}, keyword={}", productId, event.getKeyword());
     }
 
@@ -62,31 +81,68 @@ public class KeywordSyncService {
         String productId = String.valueOf(event.getProductId());
         log.info("Removing keyword from product: productId={}, keyword={}", productId, event.getKeyword());
 
-        ProductDocument document = productSearchRepository.findById(productId)
-                .orElseThrow(() -> new IllegalStateException(
-                        "Product not found in Elasticsearch: productId=" + productId));
-
-        List<String> keywords = document.getSearchKeywords() != null
-                ? new ArrayList<>(document.getSearchKeywords())
-                : new ArrayList<>();
-
-        keywords.remove(event.getKeyword());
-
-        ProductDocument updated = ProductDocument.builder()
-                .productId(document.getProductId())
-                .productName(document.getProductName())
-                .description(document.getDescription())
-                .basePrice(document.getBasePrice())
-                .salePrice(document.getSalePrice())
-                .status(document.getStatus())
-                .primaryImageUrl(document.getPrimaryImageUrl())
-                .categoryIds(document.getCategoryIds())
-                .searchKeywords(keywords)
-                .createdAt(document.getCreatedAt())
-                .updatedAt(document.getUpdatedAt())
-                .build();
-
-        productSearchRepository.save(updated);
+        apply(productId, event.getKeyword(), false);
+        catalogVersion.increment();
+        autocompleteService.keywordRemoved(event.getProductId(), event.getKeyword());
         log.info("Successfully removed keyword from product: productId={}, keyword={}", productId, event.getKeyword());
     }
+
+    private void apply(String productId, String keyword, boolean add) {
+        pendingChanges.submit(productId, changes -> {
+            Map<String, Boolean> merged = changes != null ? changes : new LinkedHashMap<>();
+            merged.remove(keyword);
+            merged.put(keyword, add);
+            return merged;
+        });
+    }
+
+    /**
+     * 반영을 기다리는 변경 수
+     */
+    int pendingChangeCount() {
+        return pendingChanges.pendingCount();
+    }
+
+    /**
+     * 상품별 스크립트 업데이트를 bulk 요청 하나로 보낸다
+     *
+     * @return 실패한 상품 ID별 예외
+     */
+    private Map<String, RuntimeException> flush(Map<String, Map<String, Boolean>> changesByProduct) {
+        List<UpdateQuery> queries = new ArrayList<>(changesByProduct.size());
+        changesByProduct.forEach((productId, changes) -> queries.add(toUpdateQuery(productId, changes)));
+
+        try {
+            elasticsearchOperations.bulkUpdate(queries, ProductDocument.class);
+            log.debug("Applied keyword changes: products={}", queries.size());
+            return Map.of();
+        } catch (BulkFailureException e) {
+            Map<String, RuntimeException> failures = new HashMap<>();
+            e.getFailedDocuments().forEach((productId, details) -> failures.put(productId,
+                    details.status() != null && details.status() == 404
+                            ? new IllegalStateException("Product not found in Elasticsearch: productId=" + productId)
+                            : new IllegalStateException("Failed to update keywords: productId=" + productId
+                            + ", reason=" + details.errorMessage())));
+            log.warn("Keyword bulk update partially failed: products={}, failed={}", queries.size(), failures.keySet());
+            return failures;
+        }
+    }
+
+    private static UpdateQuery toUpdateQuery(String productId, Map<String, Boolean> changes) {
+        List<String> add = new ArrayList<>();
+        List<String> remove = new ArrayList<>();
+        changes.forEach((keyword, isAdd) -> (isAdd ? add : remove).add(keyword));
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("add", add);
+        params.put("remove", remove);
+
+        return UpdateQuery.builder(productId)
+                .withScriptType(ScriptType.INLINE)
+                .withScript(UPDATE_SCRIPT)
+                .withLang("painless")
+                .withParams(params)
+                .withRetryOnConflict(RETRY_ON_CONFLICT)
+                .build();
+    }
 }
@@ -0,0 +1,214 @@
+package com.example.catalogservice.service;
+
+import com.example.catalogservice.domain.document.ProductDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.ScriptType;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 이벤트 bulk 색인기
+ *
+ * 상품 생성/수정 이벤트를 문서 전체 저장 대신 부분 upsert(doc_as_upsert)로 모아서 반영한다.
+ * - 컨슈머가 poll 한 번에 받은 이벤트 묶음을 넘기면, 같은 상품에 대한 변경은 하나로 합쳐지고 나중에 도착한 값이 우선한다
+ * - 합친 상품은 MAX_BATCH_SIZE개씩 bulk 요청으로 보낸다
+ * - 이벤트에 없는 필드(createdAt, searchKeywords)는 기존 문서 값을 유지하므로 사전 조회(findById)가 필요 없다
+ * - 실패한 상품을 돌려주므로 호출 측(배치 리스너)은 성공한 레코드까지만 오프셋을 커밋하고 나머지를 재시도한다
+ * - bulk 요청은 refresh를 기다리지 않는다. 호출 측이 이어서 카탈로그 버전을 올리고,
+ *   {@link CatalogVersion}이 refresh 간격이 지난 뒤 한 번 더 올려 refresh 전의 문서가 담긴 검색 캐시를 버린다
+ *
+ * 지표:
+ * - catalog.product.index.bulk: bulk 요청 소요 시간
+ * - catalog.product.index.batch.size: bulk 요청 하나에 담긴 상품 수
+ * - catalog.product.index.merged: 같은 상품의 다른 변경과 합쳐진 이벤트 수
+ */
+@Slf4j
+@Component
+public class ProductBulkIndexer {
+
+    static final int MAX_BATCH_SIZE = 200;
+
+    private static final int RETRY_ON_CONFLICT = 3;
+
+    /**
+     * 상품 이벤트가 항상 값을 가지는 필드 - 이벤트 값이 null이면 문서에서도 null로 덮어쓴다.
+     * 그 외 필드(createdAt, updatedAt, searchKeywords)는 값이 있을 때만 반영한다.
+     */
+    private static final List<String> EVENT_FIELDS = List.of(
+            "productName", "description", "basePrice", "salePrice", "status",
+            "primaryImageUrl", "categoryIds", "categoryPath", "skus");
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchConverter elasticsearchConverter;
+    private final int maxBatchSize;
+
+    private final Timer bulkTimer;
+    private final DistributionSummary batchSize;
+    private final Counter mergedCounter;
+
+    @Autowired
+    public ProductBulkIndexer(ElasticsearchOperations elasticsearchOperations,
+                              ElasticsearchConverter elasticsearchConverter,
+                              MeterRegistry meterRegistry) {
+        this(elasticsearchOperations, elasticsearchConverter, meterRegistry, MAX_BATCH_SIZE);
+    }
+
+    ProductBulkIndexer(ElasticsearchOperations elasticsearchOperations,
+                       ElasticsearchConverter elasticsearchConverter,
+                       MeterRegistry meterRegistry,
+                       int maxBatchSize) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.elasticsearchConverter = elasticsearchConverter;
+        this.maxBatchSize = maxBatchSize;
+
+        this.bulkTimer = Timer.builder("catalog.product.index.bulk")
+                .description("상품 이벤트 bulk 색인 시간")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("catalog.product.index.batch.size")
+                .description("bulk 요청 하나에 담긴 상품 수")
+                .register(meterRegistry);
+        this.mergedCounter = Counter.builder("catalog.product.index.merged")
+                .description("같은 상품의 다른 변경과 합쳐진 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상품 문서 여러 개를 부분 upsert한다. 같은 상품의 문서는 순서대로 합쳐 하나의 업데이트로 보낸다.
+     *
+     * @return 색인에 실패한 상품 ID별 예외 (모두 성공하면 빈 맵)
+     */
+    public Map<String, RuntimeException> upsertAll(List<ProductDocument> documents) {
+        Map<String, Document> fieldsByProductId = new LinkedHashMap<>();
+        for (ProductDocument document : documents) {
+            Document fields = toPartialDocument(document);
+            fieldsByProductId.merge(document.getProductId(), fields, (previous, next) -> {
+                mergedCounter.increment();
+                previous.putAll(next);
+                return previous;
+            });
+        }
+
+        Map<String, RuntimeException> failures = new LinkedHashMap<>();
+        List<String> productIds = new ArrayList<>(fieldsByProductId.keySet());
+        for (int from = 0; from < productIds.size(); from += maxBatchSize) {
+            Map<String, Document> chunk = new LinkedHashMap<>();
+            productIds.subList(from, Math.min(from + maxBatchSize, productIds.size()))
+                    .forEach(productId -> chunk.put(productId, fieldsByProductId.get(productId)));
+            failures.putAll(flush(chunk));
+        }
+        return failures;
+    }
+
+    /**
+     * 상품 문서의 인기도만 bulk 요청 하나로 갱신한다. 문서가 없는 상품(삭제, 미색인)은 만들지 않고 건너뛴다.
+     *
+     * @return 갱신하지 못한 상품 수
+     */
+    public int updatePopularity(Map<Long, Long> popularityByProductId) {
+        if (popularityByProductId.isEmpty()) {
+            return 0;
+        }
+        List<UpdateQuery> queries = new ArrayList<>(popularityByProductId.size());
+        popularityByProductId.forEach((productId, popularity) -> {
+            Document fields = Document.create();
+            fields.put("popularity", popularity);
+            queries.add(UpdateQuery.builder(String.valueOf(productId))
+                    .withDocument(fields)
+                    .withRetryOnConflict(RETRY_ON_CONFLICT)
+                    .build());
+        });
+
+        try {
+            elasticsearchOperations.bulkUpdate(queries, ProductDocument.class);
+            return 0;
+        } catch (BulkFailureException e) {
+            log.debug("Skipped popularity update for products: productIds={}", e.getFailedDocuments().keySet());
+            return e.getFailedDocuments().size();
+        }
+    }
+
+    /**
+     * keepProductIds 밖에서 popularity가 남아 있는 상품을 update-by-query로 0으로 되돌린다.
+     * 이전 순위를 기억하지 않고 색인 상태로 판단하므로 재시작이나 리스 이동 뒤에도 순위에서 빠진 상품이 남지 않는다.
+     * 버전 충돌로 건너뛴 상품은 조건이 그대로이므로 다음 호출에서 다시 처리된다.
+     *
+     * @return 되돌린 상품 수
+     */
+    public long resetPopularityExcept(Collection<Long> keepProductIds) {
+        List<String> keepIds = keepProductIds.stream().map(String::valueOf).toList();
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q
+                        .bool(b -> b
+                                .filter(f -> f.range(r -> r.number(n -> n.field("popularity").gt(0.0))))
+                                .mustNot(m -> m.ids(i -> i.values(keepIds)))
+                        )
+                )
+                .build();
+        UpdateQuery updateQuery = UpdateQuery.builder(query)
+                .withScriptType(ScriptType.INLINE)
+                .withScript("ctx._source.popularity = 0")
+                .withLang("painless")
+                .withAbortOnVersionConflict(false)
+                .build();
+
+        ByQueryResponse response = elasticsearchOperations.updateByQuery(updateQuery,
+                elasticsearchOperations.getIndexCoordinatesFor(ProductDocument.class));
+        return response.getUpdated();
+    }
+
+    private Document toPartialDocument(ProductDocument document) {
+        Document fields = elasticsearchConverter.mapObject(document);
+        EVENT_FIELDS.forEach(field -> fields.putIfAbsent(field, null));
+        return fields;
+    }
+
+    private Map<String, RuntimeException> flush(Map<String, Document> documents) {
+        List<UpdateQuery> queries = new ArrayList<>(documents.size());
+        documents.forEach((productId, fields) -> queries.add(UpdateQuery.builder(productId)
+                .withDocument(fields)
+                .withDocAsUpsert(true)
+                .withRetryOnConflict(RETRY_ON_CONFLICT)
+                .build()));
+
+        long startedAt = System.nanoTime();
+        try {
+            elasticsearchOperations.bulkUpdate(queries, ProductDocument.class);
+            log.debug("Bulk indexed product events: products={}", queries.size());
+            return Map.of();
+        } catch (BulkFailureException e) {
+            Map<String, RuntimeException> failures = new HashMap<>();
+            e.getFailedDocuments().forEach((productId, details) -> failures.put(productId,
+                    new IllegalStateException("Failed to index product: productId=" + productId
+                            + ", reason=" + details.errorMessage())));
+            log.warn("Product bulk index partially failed: products={}, failed={}", queries.size(), failures.keySet());
+            return failures;
+        } catch (RuntimeException e) {
+            log.warn("Product bulk index failed: products={}", queries.size(), e);
+            Map<String, RuntimeException> failures = new LinkedHashMap<>();
+            documents.keySet().forEach(productId -> failures.put(productId, e));
+            return failures;
+        } finally {
+            bulkTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            batchSize.record(queries.size());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.catalogservice.service;
+
+import com.example.catalogservice.service.ProductSyncService.DeltaSyncResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 증분 동기화 스케줄러
+ *
+ * INTERVAL마다 {@link ProductSyncService#deltaSync()}를 실행해 product-service와 Elasticsearch의 불일치를 복구한다.
+ * 이벤트 유실이나 색인 실패로 생긴 차이를 전체 재색인 없이 워터마크 이후 변경분만으로 맞춘다.
+ * - 실행은 인스턴스마다 예약되지만 Redis 락으로 한 번에 한 인스턴스만 실제로 동기화한다
+ * - 실패는 로그와 지표로만 남기고 다음 주기에 워터마크부터 다시 시도한다
+ *
+ * 지표:
+ * - catalog.product.delta.sync{result=success|skipped|failure}: 증분 동기화 소요 시간
+ * - catalog.product.delta.products{change=upserted|deleted}: 반영한 상품 수
+ * - catalog.product.delta.lag: 마지막으로 확인한 워터마크와 현재 시각의 차이 (초)
+ */
+@Slf4j
+@Component
+public class ProductDeltaSyncScheduler {
+
+    static final Duration INTERVAL = Duration.ofMinutes(5);
+
+    private final ProductSyncService productSyncService;
+    private final Clock clock;
+    private ScheduledExecutorService scheduler;
+    private volatile LocalDateTime lastWatermark;
+
+    private final Timer successTimer;
+    private final Timer skippedTimer;
+    private final Timer failureTimer;
+    private final Counter upsertedCounter;
+    private final Counter deletedCounter;
+
+    public ProductDeltaSyncScheduler(ProductSyncService productSyncService, MeterRegistry meterRegistry) {
+        this(productSyncService, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    ProductDeltaSyncScheduler(ProductSyncService productSyncService, MeterRegistry meterRegistry, Clock clock) {
+        this.productSyncService = productSyncService;
+        this.clock = clock;
+
+        this.successTimer = syncTimer(meterRegistry, "success");
+        this.skippedTimer = syncTimer(meterRegistry, "skipped");
+        this.failureTimer = syncTimer(meterRegistry, "failure");
+        this.upsertedCounter = productCounter(meterRegistry, "upserted");
+        this.deletedCounter = productCounter(meterRegistry, "deleted");
+        Gauge.builder("catalog.product.delta.lag", this, ProductDeltaSyncScheduler::lagSeconds)
+                .description("증분 동기화 워터마크와 현재 시각의 차이 (초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-delta-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::run, INTERVAL.toMillis(), INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 증분 동기화 한 번 실행
+     */
+    void run() {
+        long startedAt = System.nanoTime();
+        try {
+            DeltaSyncResult result = productSyncService.deltaSync();
+            if (result.skipped()) {
+                skippedTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                return;
+            }
+            upsertedCounter.increment(result.upserted());
+            deletedCounter.increment(result.deleted());
+            lastWatermark = result.watermark();
+            successTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            failureTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            log.error("Product delta sync failed, will retry in {}", INTERVAL, e);
+        }
+    }
+
+    private double lagSeconds() {
+        LocalDateTime watermark = lastWatermark;
+        if (watermark == null) {
+            return Double.NaN;
+        }
+        return Duration.between(watermark, LocalDateTime.now(clock)).toSeconds();
+    }
+
+    private static Timer syncTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("catalog.product.delta.sync")
+                .description("상품 증분 동기화 시간")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter productCounter(MeterRegistry meterRegistry, String change) {
+        return Counter.builder("catalog.product.delta.products")
+                .description("증분 동기화로 반영한 상품 수")
+                .tag("change", change)
+                .register(meterRegistry);
+    }
+}
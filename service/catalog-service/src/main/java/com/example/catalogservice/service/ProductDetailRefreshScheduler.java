@@ -0,0 +1,277 @@
+package com.example.catalogservice.service;
+
+import com.example.catalogservice.consumer.event.ProductUpdatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 상품 상세 캐시 갱신 스케줄러 (debounce)
+ *
+ * 상품 생성/수정 이벤트마다 product-service를 호출하지 않고, 상품별로 갱신 요청을 모아 두었다가 한 번에 갱신한다.
+ * - 같은 상품의 요청은 하나로 합쳐진다. 마지막 요청 후 QUIET_MILLIS 동안 새 요청이 없거나,
+ *   첫 요청 후 MAX_DELAY_MILLIS가 지나면 갱신 대상이 된다 (연속 수정 중에도 MAX_DELAY_MILLIS 안에는 반영)
+ * - 갱신 대상은 최대 MAX_BATCH_SIZE개씩 product-service 일괄 조회 한 번과 Redis 파이프라인 한 번으로 갱신한다
+ * - 실패한 묶음은 지수 백오프(1초 -> 2초 -> 4초)로 최대 MAX_ATTEMPTS회 시도한 뒤,
+ *   상품별로 컨슈머의 DLT(DEAD_LETTER_TOPIC)에 보낸다. 다른 컨슈머의 재시도 실패 메시지와 같은 곳에 남아 재처리할 수 있다
+ * - 요청은 인스턴스 메모리에만 있으므로 컨슈머는 요청 등록 후 바로 반환한다.
+ *   종료 시 남은 요청은 대기 시간과 관계없이 갱신을 시도하고, 비정상 종료 시 남은 요청은 TTL 만료까지 이전 값이 보인다
+ *
+ * 지표:
+ * - catalog.product.detail.refresh.requests: 갱신 요청(이벤트) 수
+ * - catalog.product.detail.refresh.merged: 대기 중인 같은 상품 요청과 합쳐진 수
+ * - catalog.product.detail.refresh.pending: 대기 중인 상품 수
+ * - catalog.product.detail.refresh.batch.size: 일괄 갱신 한 번에 담긴 상품 수
+ * - catalog.product.detail.refresh.failures{result=retried|dead-lettered}: 실패해 재시도/DLT로 보낸 상품 수
+ */
+@Slf4j
+@Component
+public class ProductDetailRefreshScheduler {
+
+    static final long QUIET_MILLIS = 2_000;
+    static final long MAX_DELAY_MILLIS = 10_000;
+    static final int MAX_BATCH_SIZE = 100;
+    static final int MAX_ATTEMPTS = 4;
+    static final String ORIGINAL_TOPIC = "product.updated";
+    static final String DEAD_LETTER_TOPIC = ORIGINAL_TOPIC + "-detail-dlt";
+
+    private static final long TICK_MILLIS = 200;
+    private static final long RETRY_BASE_DELAY_MILLIS = 1_000;
+
+    private final ProductDetailService productDetailService;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final long quietMillis;
+    private final long maxDelayMillis;
+    private final int maxBatchSize;
+    private final LongSupplier clock;
+    private final Map<Long, PendingRefresh> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    private final Counter requestCounter;
+    private final Counter mergedCounter;
+    private final DistributionSummary batchSize;
+    private final Counter retriedCounter;
+    private final Counter deadLetteredCounter;
+
+    @Autowired
+    public ProductDetailRefreshScheduler(ProductDetailService productDetailService,
+                                         KafkaTemplate<String, Object> kafkaTemplate,
+                                         MeterRegistry meterRegistry) {
+        this(productDetailService, kafkaTemplate, meterRegistry,
+                QUIET_MILLIS, MAX_DELAY_MILLIS, MAX_BATCH_SIZE, System::currentTimeMillis);
+    }
+
+    ProductDetailRefreshScheduler(ProductDetailService productDetailService,
+                                  KafkaTemplate<String, Object> kafkaTemplate,
+                                  MeterRegistry meterRegistry,
+                                  long quietMillis, long maxDelayMillis, int maxBatchSize,
+                                  LongSupplier clock) {
+        this.productDetailService = productDetailService;
+        this.kafkaTemplate = kafkaTemplate;
+        this.quietMillis = quietMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.clock = clock;
+
+        this.requestCounter = Counter.builder("catalog.product.detail.refresh.requests")
+                .description("상품 상세 캐시 갱신 요청 수")
+                .register(meterRegistry);
+        this.mergedCounter = Counter.builder("catalog.product.detail.refresh.merged")
+                .description("대기 중인 같은 상품 요청과 합쳐진 갱신 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("catalog.product.detail.refresh.pending", pending, Map::size)
+                .description("갱신을 기다리는 상품 수")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("catalog.product.detail.refresh.batch.size")
+                .description("일괄 갱신 한 번에 담긴 상품 수")
+                .register(meterRegistry);
+        this.retriedCounter = failureCounter(meterRegistry, "retried");
+        this.deadLetteredCounter = failureCounter(meterRegistry, "dead-lettered");
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-detail-refresh-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushDueSafely, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        if (!pending.isEmpty()) {
+            log.info("Flushing pending product detail refreshes on shutdown: count={}", pending.size());
+            flush(Long.MAX_VALUE, true);
+        }
+    }
+
+    /**
+     * 상품 상세 캐시 갱신 요청 - 대기 중인 같은 상품 요청과 합쳐지고, 갱신은 스케줄러 스레드에서 실행된다
+     */
+    public void request(Long productId) {
+        long now = clock.getAsLong();
+        requestCounter.increment();
+        pending.merge(productId, PendingRefresh.first(now), (previous, next) -> {
+            mergedCounter.increment();
+            return previous.touched(now);
+        });
+    }
+
+    /**
+     * 대기 중인 상품 수
+     */
+    int pendingCount() {
+        return pending.size();
+    }
+
+    private void flushDueSafely() {
+        try {
+            flushDue();
+        } catch (RuntimeException e) {
+            log.error("Unexpected error while refreshing product detail cache", e);
+        }
+    }
+
+    /**
+     * 갱신 시점이 된 상품들을 묶음 단위로 갱신한다
+     */
+    void flushDue() {
+        flush(clock.getAsLong(), false);
+    }
+
+    private void flush(long now, boolean ignoreWindow) {
+        while (true) {
+            Map<Long, PendingRefresh> batch = takeDue(now, ignoreWindow);
+            if (batch.isEmpty()) {
+                return;
+            }
+            refresh(batch, now);
+            if (batch.size() < maxBatchSize) {
+                return;
+            }
+        }
+    }
+
+    private Map<Long, PendingRefresh> takeDue(long now, boolean ignoreWindow) {
+        Map<Long, PendingRefresh> batch = new LinkedHashMap<>();
+        for (Map.Entry<Long, PendingRefresh> entry : pending.entrySet()) {
+            if (batch.size() >= maxBatchSize) {
+                break;
+            }
+            PendingRefresh refresh = entry.getValue();
+            boolean due = ignoreWindow || refresh.dueAt(quietMillis, maxDelayMillis) <= now;
+            // 그 사이 새 요청이 합쳐졌으면 remove가 실패하고 다음 주기에 다시 확인한다
+            if (due && pending.remove(entry.getKey(), refresh)) {
+                batch.put(entry.getKey(), refresh);
+            }
+        }
+        return batch;
+    }
+
+    private void refresh(Map<Long, PendingRefresh> batch, long now) {
+        batchSize.record(batch.size());
+        try {
+            productDetailService.refreshCaches(new ArrayList<>(batch.keySet()));
+        } catch (RuntimeException e) {
+            List<Long> exhausted = new ArrayList<>();
+            batch.forEach((productId, refresh) -> {
+                int attempts = refresh.attempts() + 1;
+                if (attempts >= MAX_ATTEMPTS) {
+                    exhausted.add(productId);
+                    return;
+                }
+                long retryAt = now + RETRY_BASE_DELAY_MILLIS * (1L << (attempts - 1));
+                // 재시도 대기 중 새 요청이 들어와 있으면 새 요청의 일정을 따른다
+                pending.merge(productId, refresh.retried(attempts, retryAt), (current, retry) -> current);
+                retriedCounter.increment();
+            });
+            if (exhausted.isEmpty()) {
+                log.warn("Failed to refresh product detail cache, will retry: count={}", batch.size(), e);
+            } else {
+                log.error("Failed to refresh product detail cache, sending to {}: productIds={}",
+                        DEAD_LETTER_TOPIC, exhausted, e);
+                exhausted.forEach(productId -> deadLetter(productId, e));
+            }
+        }
+    }
+
+    /**
+     * 재시도를 다 쓴 상품을 DLT로 보낸다 - 컨슈머의 DLT 핸들러가 받아 기록하고, 필요하면 원본 토픽으로 다시 보내 재처리한다
+     */
+    private void deadLetter(Long productId, RuntimeException cause) {
+        ProducerRecord<String, Object> record = new ProducerRecord<>(DEAD_LETTER_TOPIC, String.valueOf(productId),
+                ProductUpdatedEvent.builder().productId(productId).build());
+        record.headers().add(KafkaHeaders.DLT_ORIGINAL_TOPIC, ORIGINAL_TOPIC.getBytes(StandardCharsets.UTF_8));
+        record.headers().add(KafkaHeaders.DLT_EXCEPTION_MESSAGE,
+                String.valueOf(cause.getMessage()).getBytes(StandardCharsets.UTF_8));
+        deadLetteredCounter.increment();
+        try {
+            kafkaTemplate.send(record).whenComplete((result, e) -> {
+                if (e != null) {
+                    log.error("Failed to send product detail refresh to {}: productId={}", DEAD_LETTER_TOPIC, productId, e);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to send product detail refresh to {}: productId={}", DEAD_LETTER_TOPIC, productId, e);
+        }
+    }
+
+    private static Counter failureCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("catalog.product.detail.refresh.failures")
+                .description("상품 상세 캐시 갱신 실패 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param firstRequestedAt 합쳐진 요청 중 첫 요청 시각
+     * @param lastRequestedAt  마지막 요청 시각
+     * @param attempts         실패한 갱신 시도 수
+     * @param retryAt          재시도 가능 시각 (실패 전에는 0)
+     */
+    private record PendingRefresh(long firstRequestedAt, long lastRequestedAt, int attempts, long retryAt) {
+
+        static PendingRefresh first(long now) {
+            return new PendingRefresh(now, now, 0, 0);
+        }
+
+        PendingRefresh touched(long now) {
+            return new PendingRefresh(firstRequestedAt, now, attempts, retryAt);
+        }
+
+        PendingRefresh retried(int attempts, long retryAt) {
+            return new PendingRefresh(firstRequestedAt, lastRequestedAt, attempts, retryAt);
+        }
+
+        long dueAt(long quietMillis, long maxDelayMillis) {
+            long debounced = Math.min(lastRequestedAt + quietMillis, firstRequestedAt + maxDelayMillis);
+            return Math.max(debounced, retryAt);
+        }
+    }
+}
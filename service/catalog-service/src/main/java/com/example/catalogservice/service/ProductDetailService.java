@@ -2,56 +2,422 @@ package com.example.catalogservice.service;
 
 import com.example.catalogservice.client.ProductServiceClient;
 import com.example.catalogservice.controller.dto.ProductDetailResponse;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 상품 상세 조회
+ *
+ * 로컬(Caffeine) L1 -> Redis L2 -> product-service 순서로 조회한다.
+ * - 같은 상품의 동시 미스는 한 번의 로드로 합친다 (나머지 요청은 진행 중인 로드 결과를 함께 받는다)
+ * - 로컬 값이 LOCAL_REFRESH_AFTER를 지나면 기존 값을 그대로 응답하고 백그라운드에서 Redis/product-service로 다시 읽는다.
+ *   Redis TTL이 만료되어도 인스턴스마다 백그라운드 로드 한 번만 product-service를 호출하고, 요청 스레드는 기다리지 않는다
+ * - 백그라운드 로드가 실패하면 기존 값을 계속 응답한다 (LOCAL_EXPIRE까지)
+ * - 여러 상품 조회(getProductDetails)는 L1 미스를 Redis MGET 한 번, 그래도 없는 상품을 product-service 일괄 조회로 채운다
+ * - 이벤트로 갱신한 값(refreshCaches)은 이 인스턴스의 L1과 Redis에 바로 반영되고, 다른 인스턴스의 L1에는 LOCAL_REFRESH_AFTER 안에 반영된다
+ * - Redis 장애 시에는 L1과 product-service만으로 동작한다
+ * - L1에 넣을 때 상세 본문의 해시를 함께 계산해 두어, 조건부 요청(ETag)은 요청마다 직렬화하지 않고 이 해시와 비교한다
+ *
+ * 지표:
+ * - catalog.product.detail.cache.requests{result=local|shared|redis|miss}: 계층별 적중/미스 수 (일괄 조회는 상품 단위)
+ *   (shared: 다른 요청이 진행 중인 로드 결과를 함께 받은 수, 백그라운드 재조회는 요청이 아니므로 세지 않는다)
+ * - catalog.product.detail.cache.hit.ratio{tier=local|redis}: L1은 전체 요청 중, L2는 L1 미스 중 적중 비율
+ * - catalog.product.detail.cache.load: product-service 조회 시간 (단건/일괄)
+ * - catalog.product.detail.cache.refreshes{result=success|failure}: 백그라운드 재조회 수
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ProductDetailService {
 
     private static final String CACHE_KEY_PREFIX = "product:detail:";
     private static final Duration CACHE_TTL = Duration.ofMinutes(30);
+    private static final Duration LOCAL_REFRESH_AFTER = Duration.ofSeconds(30);
+    private static final Duration LOCAL_EXPIRE = Duration.ofMinutes(10);
+    private static final long LOCAL_MAX_SIZE = 10_000;
+    private static final int REFRESH_THREADS = 4;
+    private static final int BULK_FETCH_SIZE = 100;
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final ProductServiceClient productServiceClient;
+    private final Executor refreshExecutor;
+    private final ObjectMapper objectMapper;
+    private final LoadingCache<Long, CachedProductDetail> localCache;
+
+    private final Counter localHits;
+    private final Counter sharedHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final Timer loadTimer;
+    private final Counter refreshSuccesses;
+    private final Counter refreshFailures;
+
+    @Autowired
+    public ProductDetailService(RedisTemplate<String, Object> redisTemplate,
+                                ProductServiceClient productServiceClient,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        this(redisTemplate, productServiceClient, objectMapper, meterRegistry, Ticker.systemTicker(), newRefreshExecutor());
+    }
+
+    ProductDetailService(RedisTemplate<String, Object> redisTemplate,
+                         ProductServiceClient productServiceClient,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         Ticker ticker,
+                         Executor refreshExecutor) {
+        this.redisTemplate = redisTemplate;
+        this.productServiceClient = productServiceClient;
+        this.objectMapper = objectMapper;
+        this.refreshExecutor = refreshExecutor;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(LOCAL_MAX_SIZE)
+                .refreshAfterWrite(LOCAL_REFRESH_AFTER)
+                .expireAfterWrite(LOCAL_EXPIRE)
+                .executor(refreshExecutor)
+                .ticker(ticker)
+                .build(new LocalLoader());
+
+        this.localHits = requestCounter(meterRegistry, "local");
+        this.sharedHits = requestCounter(meterRegistry, "shared");
+        this.redisHits = requestCounter(meterRegistry, "redis");
+        this.misses = requestCounter(meterRegistry, "miss");
+        Gauge.builder("catalog.product.detail.cache.hit.ratio", this, ProductDetailService::localHitRatio)
+                .description("상품 상세 캐시 계층별 적중 비율")
+                .tag("tier", "local")
+                .register(meterRegistry);
+        Gauge.builder("catalog.product.detail.cache.hit.ratio", this, ProductDetailService::redisHitRatio)
+                .description("상품 상세 캐시 계층별 적중 비율")
+                .tag("tier", "redis")
+                .register(meterRegistry);
+        this.loadTimer = Timer.builder("catalog.product.detail.cache.load")
+                .description("product-service 상세 조회 시간")
+                .register(meterRegistry);
+        this.refreshSuccesses = refreshCounter(meterRegistry, "success");
+        this.refreshFailures = refreshCounter(meterRegistry, "failure");
+    }
 
     /**
-     * Data Enrichment 패턴: 이벤트 수신 시 product-service API를 호출하여
-     * 상세 데이터를 가져온 뒤 Redis에 캐싱한다.
+     * Data Enrichment 패턴: 이벤트로 모인 상품들의 상세 데이터를 product-service 일괄 조회 API로 가져온 뒤
+     * 파이프라인 한 번으로 Redis에 캐싱한다 ({@link ProductDetailRefreshScheduler})
+     *
+     * @return 캐싱한 상품 수 (product-service에 없는 상품은 제외)
      */
-    public void refreshCache(Long productId) {
-        String cacheKey = CACHE_KEY_PREFIX + productId;
+    public int refreshCaches(Collection<Long> productIds) {
+        List<ProductDetailResponse> responses = fetchAll(List.copyOf(productIds));
+        if (responses.isEmpty()) {
+            return 0;
+        }
 
-        log.info("Refreshing product detail cache: productId={}", productId);
-        ProductDetailResponse response = productServiceClient.getProductDetail(productId);
+        writeRedisAll(responses);
+        responses.forEach(response -> localCache.put(response.getProductId(), cache(response)));
 
-        if (response != null) {
-            redisTemplate.opsForValue().set(cacheKey, response, CACHE_TTL);
-            log.info("Product detail cache refreshed: productId={}", productId);
+        log.info("Product detail cache refreshed: requested={}, cached={}", productIds.size(), responses.size());
+        return responses.size();
+    }
+
+    /**
+     * 여러 상품 상세 일괄 조회 - L1 -> Redis MGET -> product-service 일괄 조회 순서로 빈 상품만 채운다
+     * - 요청 순서를 유지하고 중복 ID는 한 번만 포함한다
+     * - 어디에도 없는 상품은 결과에서 빠진다. product-service 조회가 실패하면 캐시에서 찾은 상품만 반환한다
+     */
+    public List<ProductDetailResponse> getProductDetails(List<Long> productIds) {
+        Set<Long> ids = new LinkedHashSet<>(productIds);
+        Map<Long, ProductDetailResponse> found = new HashMap<>();
+        localCache.getAllPresent(ids).forEach((id, cached) -> found.put(id, cached.detail()));
+        localHits.increment(found.size());
+
+        List<Long> remaining = missing(ids, found);
+        if (!remaining.isEmpty()) {
+            Map<Long, ProductDetailResponse> cached = readRedisAll(remaining);
+            redisHits.increment(cached.size());
+            cached.forEach((id, response) -> localCache.put(id, cache(response)));
+            found.putAll(cached);
+            remaining = missing(remaining, found);
         }
+
+        if (!remaining.isEmpty()) {
+            misses.increment(remaining.size());
+            List<ProductDetailResponse> fetched = fetchAllSafely(remaining);
+            if (!fetched.isEmpty()) {
+                try {
+                    writeRedisAll(fetched);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to write product details to Redis: count={}", fetched.size(), e);
+                }
+                fetched.forEach(response -> {
+                    localCache.put(response.getProductId(), cache(response));
+                    found.put(response.getProductId(), response);
+                });
+            }
+        }
+
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     public ProductDetailResponse getProductDetail(Long productId) {
+        CachedProductDetail cached = getCachedProductDetail(productId);
+        return cached != null ? cached.detail() : null;
+    }
+
+    /**
+     * 상품 상세와 L1에 넣을 때 계산해 둔 본문 해시를 함께 조회한다
+     *
+     * @return 상품이 없으면 null
+     */
+    public CachedProductDetail getCachedProductDetail(Long productId) {
+        CachedProductDetail cached = localCache.getIfPresent(productId);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+
+        // 같은 상품의 로드가 진행 중이면 그 결과를 기다린다 - loader가 실행되지 않은 요청은 shared
+        AtomicInteger loads = new AtomicInteger();
+        CachedProductDetail loaded = localCache.get(productId, id -> {
+            loads.incrementAndGet();
+            return cache(load(id, true));
+        });
+        if (loads.get() == 0) {
+            sharedHits.increment();
+        }
+        return loaded;
+    }
+
+    /**
+     * Redis -> product-service 순서로 조회하고, product-service에서 읽은 값은 Redis에 저장한다
+     *
+     * @param request 요청 경로의 조회인지 - 백그라운드 재조회는 계층별 적중/미스 지표에 넣지 않는다
+     */
+    private ProductDetailResponse load(Long productId, boolean request) {
         String cacheKey = CACHE_KEY_PREFIX + productId;
 
-        Object cached = redisTemplate.opsForValue().get(cacheKey);
-        if (cached instanceof ProductDetailResponse response) {
+        ProductDetailResponse cached = readRedis(cacheKey);
+        if (cached != null) {
             log.debug("Cache hit for product: {}", productId);
-            return response;
+            if (request) {
+                redisHits.increment();
+            }
+            return cached;
         }
 
         log.debug("Cache miss for product: {}, fetching from product-service", productId);
+        if (request) {
+            misses.increment();
+        }
+        long startedAt = System.nanoTime();
         ProductDetailResponse response = productServiceClient.getProductDetail(productId);
+        loadTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
 
         if (response != null) {
+            writeRedis(cacheKey, response);
+        }
+        return response;
+    }
+
+    /**
+     * L1 값 생성 - 상세 JSON의 MD5를 함께 저장한다
+     *
+     * @return response가 null이면 null (Caffeine은 null을 저장하지 않는다)
+     */
+    private CachedProductDetail cache(ProductDetailResponse response) {
+        if (response == null) {
+            return null;
+        }
+        try {
+            return new CachedProductDetail(response, DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(response)));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to hash product detail: productId={}", response.getProductId(), e);
+            return new CachedProductDetail(response, null);
+        }
+    }
+
+    private ProductDetailResponse readRedis(String cacheKey) {
+        try {
+            Object value = redisTemplate.opsForValue().get(cacheKey);
+            return value instanceof ProductDetailResponse response ? response : null;
+        } catch (RuntimeException e) {
+            log.warn("Failed to read product detail from Redis: key={}", cacheKey, e);
+            return null;
+        }
+    }
+
+    private Map<Long, ProductDetailResponse> readRedisAll(List<Long> productIds) {
+        List<String> keys = productIds.stream().map(id -> CACHE_KEY_PREFIX + id).toList();
+        try {
+            List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+            Map<Long, ProductDetailResponse> cached = new HashMap<>();
+            if (values != null) {
+                for (int i = 0; i < values.size(); i++) {
+                    if (values.get(i) instanceof ProductDetailResponse response) {
+                        cached.put(productIds.get(i), response);
+                    }
+                }
+            }
+            return cached;
+        } catch (RuntimeException e) {
+            log.warn("Failed to read product details from Redis: count={}", keys.size(), e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * product-service 일괄 조회 API를 BULK_FETCH_SIZE 단위로 호출한다
+     */
+    private List<ProductDetailResponse> fetchAll(List<Long> productIds) {
+        List<ProductDetailResponse> responses = new ArrayList<>(productIds.size());
+        for (int from = 0; from < productIds.size(); from += BULK_FETCH_SIZE) {
+            List<Long> chunk = productIds.subList(from, Math.min(from + BULK_FETCH_SIZE, productIds.size()));
+            long startedAt = System.nanoTime();
+            responses.addAll(productServiceClient.getProductDetails(chunk));
+            loadTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        return responses;
+    }
+
+    private List<ProductDetailResponse> fetchAllSafely(List<Long> productIds) {
+        try {
+            return fetchAll(productIds);
+        } catch (RuntimeException e) {
+            log.warn("Failed to fetch product details from product-service: count={}", productIds.size(), e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 파이프라인 한 번으로 Redis에 저장한다
+     */
+    private void writeRedisAll(List<ProductDetailResponse> responses) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (ProductDetailResponse response : responses) {
+                    ops.opsForValue().set(CACHE_KEY_PREFIX + response.getProductId(), response, CACHE_TTL);
+                }
+                return null;
+            }
+        });
+    }
+
+    private static List<Long> missing(Collection<Long> productIds, Map<Long, ProductDetailResponse> found) {
+        return productIds.stream()
+                .filter(id -> !found.containsKey(id))
+                .toList();
+    }
+
+    private void writeRedis(String cacheKey, ProductDetailResponse response) {
+        try {
             redisTemplate.opsForValue().set(cacheKey, response, CACHE_TTL);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write product detail to Redis: key={}", cacheKey, e);
         }
+    }
 
-        return response;
+    double localHitRatio() {
+        double total = localHits.count() + sharedHits.count() + redisHits.count() + misses.count();
+        return total == 0 ? 0 : localHits.count() / total;
+    }
+
+    double redisHitRatio() {
+        double total = redisHits.count() + misses.count();
+        return total == 0 ? 0 : redisHits.count() / total;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static ExecutorService newRefreshExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(REFRESH_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "product-detail-refresh-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("catalog.product.detail.cache.requests")
+                .description("상품 상세 캐시 조회 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("catalog.product.detail.cache.refreshes")
+                .description("상품 상세 로컬 캐시 백그라운드 재조회 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로컬 캐시 로더 - 백그라운드 재조회(reload)가 실패하면 Caffeine이 기존 값을 유지한다
+     */
+    private final class LocalLoader implements CacheLoader<Long, CachedProductDetail> {
+
+        @Override
+        public CachedProductDetail load(Long productId) {
+            return cache(ProductDetailService.this.load(productId, true));
+        }
+
+        @Override
+        public CachedProductDetail reload(Long productId, CachedProductDetail oldValue) {
+            try {
+                CachedProductDetail reloaded = cache(ProductDetailService.this.load(productId, false));
+                refreshSuccesses.increment();
+                return reloaded;
+            } catch (RuntimeException e) {
+                // 예외로 끝내야 쓰기 시각이 갱신되지 않아 LOCAL_EXPIRE 이후에는 기존 값도 만료된다
+                refreshFailures.increment();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * L1 캐시 값
+     *
+     * @param detail      상품 상세
+     * @param contentHash 상세 JSON의 MD5 (ETag 용, 계산에 실패하면 null)
+     */
+    public record CachedProductDetail(ProductDetailResponse detail, String contentHash) {
     }
 }
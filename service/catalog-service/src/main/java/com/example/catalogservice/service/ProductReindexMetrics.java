@@ -0,0 +1,113 @@
+package com.example.catalogservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 재색인 파이프라인 지표
+ *
+ * - catalog.reindex.batches.read: 현재 실행에서 상품 스트림으로부터 읽은 배치 수
+ * - catalog.reindex.products.indexed: 현재 실행에서 색인된 상품 수
+ * - catalog.reindex.throughput: 현재(또는 마지막) 실행의 초당 색인 상품 수
+ * - catalog.reindex.queue.depth: 스트림 읽기와 writer 사이 대기 중인 배치 수
+ * - catalog.reindex.backpressure: 큐가 가득 차 스트림 읽기가 대기한 시간
+ * - catalog.reindex.read / catalog.reindex.bulk: 배치 읽기, bulk 색인 소요 시간
+ */
+@Component
+public class ProductReindexMetrics {
+
+    private final AtomicLong batchesRead = new AtomicLong();
+    private final AtomicLong productsIndexed = new AtomicLong();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicLong startedAtNanos = new AtomicLong();
+    private final AtomicLong finishedAtNanos = new AtomicLong();
+
+    private final Counter productsCounter;
+    private final Timer readTimer;
+    private final Timer bulkTimer;
+    private final Timer backPressureTimer;
+
+    public ProductReindexMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("catalog.reindex.batches.read", batchesRead, AtomicLong::get)
+                .description("현재 재색인에서 읽은 배치 수")
+                .register(meterRegistry);
+        Gauge.builder("catalog.reindex.products.indexed", productsIndexed, AtomicLong::get)
+                .description("현재 재색인에서 색인된 상품 수")
+                .register(meterRegistry);
+        Gauge.builder("catalog.reindex.queue.depth", queueDepth, AtomicInteger::get)
+                .description("bulk 색인을 기다리는 배치 수")
+                .register(meterRegistry);
+        Gauge.builder("catalog.reindex.throughput", this, ProductReindexMetrics::throughput)
+                .description("초당 색인 상품 수")
+                .baseUnit("products/s")
+                .register(meterRegistry);
+
+        this.productsCounter = Counter.builder("catalog.reindex.products")
+                .description("재색인으로 색인된 누적 상품 수")
+                .register(meterRegistry);
+        this.readTimer = Timer.builder("catalog.reindex.read")
+                .description("product-service 상품 스트림에서 배치 하나를 읽는 시간")
+                .register(meterRegistry);
+        this.bulkTimer = Timer.builder("catalog.reindex.bulk")
+                .description("Elasticsearch bulk 색인 시간")
+                .register(meterRegistry);
+        this.backPressureTimer = Timer.builder("catalog.reindex.backpressure")
+                .description("큐가 가득 차 스트림 읽기가 대기한 시간")
+                .register(meterRegistry);
+    }
+
+    void start() {
+        batchesRead.set(0);
+        productsIndexed.set(0);
+        queueDepth.set(0);
+        finishedAtNanos.set(0);
+        startedAtNanos.set(System.nanoTime());
+    }
+
+    void finish() {
+        finishedAtNanos.set(System.nanoTime());
+    }
+
+    void recordRead(long elapsedNanos) {
+        batchesRead.incrementAndGet();
+        readTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordBackPressure(long waitedNanos) {
+        backPressureTimer.record(waitedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordBulk(int products, long elapsedNanos) {
+        productsIndexed.addAndGet(products);
+        productsCounter.increment(products);
+        bulkTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordQueueDepth(int depth) {
+        queueDepth.set(depth);
+    }
+
+    long batchesRead() {
+        return batchesRead.get();
+    }
+
+    double throughput() {
+        long started = startedAtNanos.get();
+        if (started == 0) {
+            return 0;
+        }
+        long finished = finishedAtNanos.get();
+        long elapsedNanos = (finished != 0 ? finished : System.nanoTime()) - started;
+        if (elapsedNanos <= 0) {
+            return 0;
+        }
+        return productsIndexed.get() / (elapsedNanos / 1_000_000_000.0);
+    }
+}
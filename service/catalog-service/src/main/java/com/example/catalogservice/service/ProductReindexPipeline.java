@@ -0,0 +1,202 @@
+package com.example.catalogservice.service;
+
+import com.example.catalogservice.client.dto.CatalogSyncProductResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 전체 재색인 파이프라인
+ *
+ * 상품 스트림 읽기와 bulk 색인(writer)을 동시에 실행하고, 둘 사이를 크기가 제한된 큐로 연결한다.
+ * - 호출 스레드가 product-service 내보내기 스트림을 배치 단위로 읽어 큐에 넣는다
+ * - 큐가 가득 차면 스트림 읽기는 writer가 따라올 때까지 대기한다 (back-pressure)
+ * - 어느 단계에서든 실패하면 나머지 작업을 멈추고 첫 번째 예외를 던진다
+ *
+ * 실행마다 새로 생성하며, 실행이 끝나면 스레드를 모두 정리한다.
+ */
+@Slf4j
+final class ProductReindexPipeline {
+
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+
+    // 빈 배치는 큐에 넣지 않으므로 빈 리스트 인스턴스를 종료 신호로 사용한다
+    private static final List<CatalogSyncProductResponse> END_OF_STREAM = Collections.emptyList();
+
+    private final BatchSource source;
+    private final Consumer<List<CatalogSyncProductResponse>> bulkWriter;
+    private final int writerCount;
+    private final BlockingQueue<List<CatalogSyncProductResponse>> queue;
+    private final ProductReindexMetrics metrics;
+
+    private final AtomicLong indexedCount = new AtomicLong();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /**
+     * 배치 공급원 - 배치를 순서대로 handler에 넘기고, handler가 false를 반환하면 중단한다
+     */
+    @FunctionalInterface
+    interface BatchSource {
+        void read(Predicate<List<CatalogSyncProductResponse>> handler) throws Exception;
+    }
+
+    ProductReindexPipeline(BatchSource source,
+                           Consumer<List<CatalogSyncProductResponse>> bulkWriter,
+                           int writerCount, int queueCapacity,
+                           ProductReindexMetrics metrics) {
+        this.source = source;
+        this.bulkWriter = bulkWriter;
+        this.writerCount = writerCount;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.metrics = metrics;
+    }
+
+    /**
+     * 파이프라인 실행
+     *
+     * @return 색인된 상품 수
+     */
+    int run() {
+        metrics.start();
+        ExecutorService writers = Executors.newFixedThreadPool(writerCount, namedThreadFactory("reindex-writer-"));
+        try {
+            List<Future<?>> writerTasks = new ArrayList<>(writerCount);
+            for (int i = 0; i < writerCount; i++) {
+                writerTasks.add(writers.submit(this::writeBatches));
+            }
+
+            readSource();
+
+            for (int i = 0; i < writerCount; i++) {
+                enqueue(END_OF_STREAM);
+            }
+            awaitAll(writerTasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        } finally {
+            writers.shutdownNow();
+            metrics.finish();
+        }
+
+        Throwable cause = failure.get();
+        if (cause != null) {
+            throw new IllegalStateException("Reindex pipeline failed", cause);
+        }
+
+        log.info("Reindex pipeline finished: products={}, batches={}, throughput={}/s",
+                indexedCount.get(), metrics.batchesRead(), String.format("%.1f", metrics.throughput()));
+        return Math.toIntExact(indexedCount.get());
+    }
+
+    private void readSource() {
+        long[] readStartedAt = {System.nanoTime()};
+        try {
+            source.read(batch -> {
+                metrics.recordRead(System.nanoTime() - readStartedAt[0]);
+                try {
+                    return batch.isEmpty() || enqueue(batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failure.compareAndSet(null, e);
+                    return false;
+                } finally {
+                    readStartedAt[0] = System.nanoTime();
+                }
+            });
+        } catch (Exception e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private void writeBatches() {
+        try {
+            while (true) {
+                List<CatalogSyncProductResponse> batch = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                metrics.recordQueueDepth(queue.size());
+                if (batch == null) {
+                    if (failure.get() != null) {
+                        return;
+                    }
+                    continue;
+                }
+                if (batch == END_OF_STREAM) {
+                    return;
+                }
+
+                long startedAt = System.nanoTime();
+                bulkWriter.accept(batch);
+                metrics.recordBulk(batch.size(), System.nanoTime() - startedAt);
+                long total = indexedCount.addAndGet(batch.size());
+
+                log.info("Synced {} products (total: {}, batches read: {})",
+                        batch.size(), total, metrics.batchesRead());
+            }
+        } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    /**
+     * 큐에 배치를 넣는다. 큐가 가득 차 있으면 대기하며, 대기 중 실패가 발생하면 포기한다.
+     *
+     * @return 큐에 넣었으면 true
+     */
+    private boolean enqueue(List<CatalogSyncProductResponse> batch) throws InterruptedException {
+        if (failure.get() != null) {
+            return false;
+        }
+        if (queue.offer(batch)) {
+            metrics.recordQueueDepth(queue.size());
+            return true;
+        }
+
+        long waitStartedAt = System.nanoTime();
+        try {
+            while (!queue.offer(batch, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (failure.get() != null) {
+                    return false;
+                }
+            }
+            metrics.recordQueueDepth(queue.size());
+            return true;
+        } finally {
+            metrics.recordBackPressure(System.nanoTime() - waitStartedAt);
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> futures) throws InterruptedException {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                // 작업 내부에서 예외를 모두 failure로 수집하므로 여기까지 오지 않는다
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
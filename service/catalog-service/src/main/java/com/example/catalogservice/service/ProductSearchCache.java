@@ -0,0 +1,315 @@
+package com.example.catalogservice.service;
+
+import com.example.catalogservice.controller.dto.ProductSearchRequest;
+import com.example.catalogservice.domain.SearchFacets;
+import com.example.catalogservice.domain.SearchResultCache;
+import com.example.catalogservice.domain.document.ProductDocument;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 상품 검색 결과 캐시
+ *
+ * 정규화한 검색 조건(키워드, 카테고리, 상태, 가격 범위, 정렬, 페이지)을 키로 검색 결과 한 페이지를 캐싱한다.
+ * - 로컬(Caffeine) -> Redis -> Elasticsearch 순서로 조회하고, 하위 계층에서 찾은 결과는 상위 계층에 채운다
+ * - 키에 카탈로그 버전을 포함하므로 상품/키워드/카테고리 변경 시 이전 결과는 자동으로 무효화된다
+ * - Redis 장애 시에는 로컬 캐시와 Elasticsearch만으로 동작한다
+ * - 패싯은 정렬/페이지와 무관하므로 필터 조건만을 키로 따로 캐싱해 같은 목록의 다른 페이지와 공유한다
+ *
+ * 지표:
+ * - catalog.search.cache.requests{result=local|redis|miss}: 계층별 적중/미스 수
+ * - catalog.search.cache.hit.ratio: 전체 요청 중 캐시 적중 비율
+ * - catalog.search.cache.lookup{tier}: 캐시 적중 시 조회 시간
+ * - catalog.search.cache.load: 캐시 미스 시 Elasticsearch 검색 시간
+ * - catalog.search.cache.latency.saved: 적중으로 절약한 시간 (평균 검색 시간 - 캐시 조회 시간)의 누적
+ * - catalog.search.facets.cache.requests{result=local|redis|miss}: 패싯 캐시 계층별 적중/미스 수
+ */
+@Slf4j
+@Component
+public class ProductSearchCache {
+
+    private static final String KEY_PREFIX = "catalog:search:";
+    private static final String FACETS_KEY_PREFIX = "catalog:search:facets:";
+    private static final Duration REDIS_TTL = Duration.ofMinutes(10);
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(30);
+    private static final long LOCAL_MAX_SIZE = 10_000;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CatalogVersion catalogVersion;
+    private final Cache<String, SearchResultCache> localCache;
+    private final Cache<String, SearchFacets> localFacetsCache;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final Timer localLookupTimer;
+    private final Timer redisLookupTimer;
+    private final Timer loadTimer;
+    private final Counter latencySaved;
+    private final Counter facetsLocalHits;
+    private final Counter facetsRedisHits;
+    private final Counter facetsMisses;
+
+    public ProductSearchCache(RedisTemplate<String, Object> redisTemplate,
+                              CatalogVersion catalogVersion,
+                              MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.catalogVersion = catalogVersion;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(LOCAL_MAX_SIZE)
+                .expireAfterWrite(LOCAL_TTL)
+                .build();
+        this.localFacetsCache = Caffeine.newBuilder()
+                .maximumSize(LOCAL_MAX_SIZE)
+                .expireAfterWrite(LOCAL_TTL)
+                .build();
+
+        this.localHits = requestCounter(meterRegistry, "local");
+        this.redisHits = requestCounter(meterRegistry, "redis");
+        this.misses = requestCounter(meterRegistry, "miss");
+        Gauge.builder("catalog.search.cache.hit.ratio", this, ProductSearchCache::hitRatio)
+                .description("검색 결과 캐시 적중 비율")
+                .register(meterRegistry);
+
+        this.localLookupTimer = lookupTimer(meterRegistry, "local");
+        this.redisLookupTimer = lookupTimer(meterRegistry, "redis");
+        this.loadTimer = Timer.builder("catalog.search.cache.load")
+                .description("캐시 미스 시 Elasticsearch 검색 시간")
+                .register(meterRegistry);
+        this.latencySaved = Counter.builder("catalog.search.cache.latency.saved")
+                .description("캐시 적중으로 절약한 검색 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        this.facetsLocalHits = facetsRequestCounter(meterRegistry, "local");
+        this.facetsRedisHits = facetsRequestCounter(meterRegistry, "redis");
+        this.facetsMisses = facetsRequestCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * 캐시된 검색 결과를 반환하고, 없으면 loader로 검색한 뒤 캐싱한다
+     */
+    public Page<ProductDocument> get(ProductSearchRequest request, Supplier<Page<ProductDocument>> loader) {
+        String cacheKey = catalogVersion.current() + ":" + normalize(request);
+        Pageable pageable = request.toPageable();
+
+        long startedAt = System.nanoTime();
+        SearchResultCache cached = localCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            recordHit(localHits, localLookupTimer, startedAt);
+            return toPage(cached, pageable);
+        }
+
+        String redisKey = redisKey(cacheKey);
+        cached = readRedis(redisKey);
+        if (cached != null) {
+            localCache.put(cacheKey, cached);
+            recordHit(redisHits, redisLookupTimer, startedAt);
+            return toPage(cached, pageable);
+        }
+
+        misses.increment();
+        long loadStartedAt = System.nanoTime();
+        Page<ProductDocument> page = loader.get();
+        loadTimer.record(System.nanoTime() - loadStartedAt, TimeUnit.NANOSECONDS);
+
+        SearchResultCache result = SearchResultCache.builder()
+                .content(new ArrayList<>(page.getContent()))
+                .totalElements(page.getTotalElements())
+                .build();
+        localCache.put(cacheKey, result);
+        writeRedis(redisKey, result);
+        return page;
+    }
+
+    /**
+     * 캐시된 패싯 조회, 없으면 null
+     */
+    public SearchFacets getFacets(ProductSearchRequest request) {
+        String cacheKey = facetsCacheKey(request);
+        SearchFacets cached = localFacetsCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            facetsLocalHits.increment();
+            return cached;
+        }
+
+        String redisKey = FACETS_KEY_PREFIX + md5(cacheKey);
+        try {
+            Object value = redisTemplate.opsForValue().get(redisKey);
+            if (value instanceof SearchFacets facets) {
+                localFacetsCache.put(cacheKey, facets);
+                facetsRedisHits.increment();
+                return facets;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to read search facets from Redis: key={}", redisKey, e);
+        }
+
+        facetsMisses.increment();
+        return null;
+    }
+
+    /**
+     * 검색으로 계산한 패싯을 캐싱한다
+     */
+    public void putFacets(ProductSearchRequest request, SearchFacets facets) {
+        String cacheKey = facetsCacheKey(request);
+        localFacetsCache.put(cacheKey, facets);
+
+        String redisKey = FACETS_KEY_PREFIX + md5(cacheKey);
+        try {
+            redisTemplate.opsForValue().set(redisKey, facets, REDIS_TTL);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write search facets to Redis: key={}", redisKey, e);
+        }
+    }
+
+    private String facetsCacheKey(ProductSearchRequest request) {
+        return catalogVersion.current() + ":" + normalizeFilters(request);
+    }
+
+    /**
+     * 같은 결과를 내는 요청이 같은 키를 갖도록 검색 조건을 정규화한다.
+     * - 키워드: 앞뒤 공백 제거, 연속 공백 축약. searchKeywords는 keyword 필드(대소문자 구분)이므로 대소문자는 유지한다
+     * - 키워드/상태는 검색 쿼리도 같은 정규화 값으로 만든다 ({@link #normalizeKeyword}, {@link #normalizeStatus})
+     * - 빈 문자열 조건은 조건 없음과 같게 취급
+     * - 정렬: toPageable()과 같은 규칙으로 "필드,asc|desc" 형식으로 통일, 미지정 시 기본 정렬
+     */
+    static String normalize(ProductSearchRequest request) {
+        return normalizeConditions(request)
+                + "|p=" + request.getPage()
+                + "|n=" + request.getSize();
+    }
+
+    /**
+     * 페이지를 제외한 검색 조건(키워드, 필터, 정렬) 정규화 - 커서가 같은 검색에 속하는지 확인할 때도 사용한다
+     */
+    static String normalizeConditions(ProductSearchRequest request) {
+        return normalizeFilters(request)
+                + "|sort=" + normalizeSort(request.getSort());
+    }
+
+    /**
+     * 결과 집합을 결정하는 조건(키워드, 필터)만 정규화 - 정렬/페이지와 무관한 패싯의 캐시 키로 사용한다
+     */
+    static String normalizeFilters(ProductSearchRequest request) {
+        return "q=" + normalizeKeyword(request.getProductName())
+                + "|c=" + nullToEmpty(request.getCategoryId())
+                + "|st=" + normalizeStatus(request.getStatus())
+                + "|min=" + nullToEmpty(request.getMinPrice())
+                + "|max=" + nullToEmpty(request.getMaxPrice());
+    }
+
+    static String normalizeKeyword(String keyword) {
+        if (!hasText(keyword)) {
+            return "";
+        }
+        return keyword.trim().replaceAll("\\s+", " ");
+    }
+
+    static String normalizeStatus(String status) {
+        return hasText(status) ? status.trim() : "";
+    }
+
+    private static String normalizeSort(String sort) {
+        if (!hasText(sort)) {
+            return "";
+        }
+        String[] parts = sort.split(",");
+        String direction = parts.length > 1 && "desc".equalsIgnoreCase(parts[1]) ? "desc" : "asc";
+        return parts[0] + "," + direction;
+    }
+
+    private static String redisKey(String cacheKey) {
+        return KEY_PREFIX + md5(cacheKey);
+    }
+
+    private static String md5(String value) {
+        return DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private SearchResultCache readRedis(String redisKey) {
+        try {
+            Object value = redisTemplate.opsForValue().get(redisKey);
+            return value instanceof SearchResultCache result ? result : null;
+        } catch (RuntimeException e) {
+            log.warn("Failed to read search cache from Redis: key={}", redisKey, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(String redisKey, SearchResultCache result) {
+        try {
+            redisTemplate.opsForValue().set(redisKey, result, REDIS_TTL);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write search cache to Redis: key={}", redisKey, e);
+        }
+    }
+
+    private void recordHit(Counter hits, Timer lookupTimer, long startedAt) {
+        long elapsed = System.nanoTime() - startedAt;
+        hits.increment();
+        lookupTimer.record(elapsed, TimeUnit.NANOSECONDS);
+
+        double saved = loadTimer.mean(TimeUnit.NANOSECONDS) - elapsed;
+        if (saved > 0) {
+            latencySaved.increment(saved / TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+
+    private static Page<ProductDocument> toPage(SearchResultCache cached, Pageable pageable) {
+        return new PageImpl<>(cached.getContent(), pageable, cached.getTotalElements());
+    }
+
+    double hitRatio() {
+        double hits = localHits.count() + redisHits.count();
+        double total = hits + misses.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("catalog.search.cache.requests")
+                .description("검색 결과 캐시 조회 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter facetsRequestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("catalog.search.facets.cache.requests")
+                .description("검색 패싯 캐시 조회 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Timer lookupTimer(MeterRegistry meterRegistry, String tier) {
+        return Timer.builder("catalog.search.cache.lookup")
+                .description("캐시 적중 시 조회 시간")
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+
+    private static String nullToEmpty(Object value) {
+        return value != null ? String.valueOf(value) : "";
+    }
+
+    private static boolean hasText(String str) {
+        return str != null && !str.isBlank();
+    }
+}
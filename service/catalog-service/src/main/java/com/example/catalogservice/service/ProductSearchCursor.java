@@ -0,0 +1,67 @@
+package com.example.catalogservice.service;
+
+import com.example.catalogservice.controller.dto.ProductSearchRequest;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 커서 기반 검색의 이어보기 토큰
+ *
+ * 마지막 상품의 정렬 값(search_after)과 point-in-time ID를 담아 Base64URL 문자열로 주고받는다.
+ * 클라이언트에게는 불투명한 값이며, 검색 조건의 지문을 함께 담아 다른 조건의 검색에 재사용되지 않도록 한다.
+ *
+ * @param conditions  검색 조건 지문 (페이지 제외)
+ * @param searchAfter 마지막 상품의 정렬 값
+ * @param pitId       point-in-time ID (사용하지 않으면 null)
+ */
+record ProductSearchCursor(
+        @JsonProperty("c") String conditions,
+        @JsonProperty("a") List<Object> searchAfter,
+        @JsonProperty("p") String pitId
+) {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    static String fingerprint(ProductSearchRequest request) {
+        return DigestUtils.md5DigestAsHex(
+                ProductSearchCache.normalizeConditions(request).getBytes(StandardCharsets.UTF_8));
+    }
+
+    String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(OBJECT_MAPPER.writeValueAsBytes(this));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode search cursor", e);
+        }
+    }
+
+    /**
+     * 토큰을 해석하고 요청한 검색 조건과 같은 검색에서 발급된 것인지 확인한다
+     *
+     * @throws IllegalArgumentException 토큰 형식이 잘못되었거나 검색 조건이 다른 경우
+     */
+    static ProductSearchCursor decode(String token, String fingerprint) {
+        ProductSearchCursor cursor;
+        try {
+            cursor = OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(token), ProductSearchCursor.class);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        if (cursor.searchAfter() == null || cursor.searchAfter().isEmpty()) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (!fingerprint.equals(cursor.conditions())) {
+            throw new IllegalArgumentException("Cursor does not match the search conditions");
+        }
+        return cursor;
+    }
+}
@@ -1,36 +1,91 @@
 package com.example.catalogservice.service;
 
 import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
+import co.elastic.clients.elasticsearch._types.mapping.FieldType;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import com.example.catalogservice.controller.dto.ProductSearchRequest;
+import com.example.catalogservice.domain.CategoryIndex;
+import com.example.catalogservice.domain.CategoryTreeNode;
+import com.example.catalogservice.domain.CursorPage;
+import com.example.catalogservice.domain.ProductSearchResult;
+import com.example.catalogservice.domain.SearchFacets;
 import com.example.catalogservice.domain.document.ProductDocument;
+import com.example.catalogservice.exception.CursorExpiredException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregation;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHitSupport;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.data.elasticsearch.core.query.Query.PointInTime;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @RequiredArgsConstructor
 public class ProductSearchService {
 
+    /**
+     * 커서 조회 사이에 point-in-time을 유지하는 시간 (다음 페이지 요청마다 연장된다)
+     */
+    static final Duration POINT_IN_TIME_KEEP_ALIVE = Duration.ofMinutes(1);
+
+    /**
+     * 인스턴스가 POINT_IN_TIME_KEEP_ALIVE 동안 새로 열 수 있는 point-in-time 수.
+     * PIT는 열려 있는 동안 세그먼트를 붙잡으므로, 공개 API에서 열리는 수를 제한하고 넘으면 PIT 없이 조회한다
+     */
+    static final int MAX_POINT_IN_TIME_OPENS = 100;
+
+    /**
+     * 가격 패싯의 구간 크기 (원)
+     */
+    static final long PRICE_HISTOGRAM_INTERVAL = 10_000L;
+
+    private static final int AUTOCOMPLETE_SIZE = 5;
+
+    private static final String AGG_CATEGORIES = "categories";
+    private static final String AGG_PRICE = "price";
+    private static final String AGG_STATUS = "status";
+
     private final ElasticsearchOperations elasticsearchOperations;
+    private final ProductSearchCache productSearchCache;
     private final CategorySyncService categorySyncService;
+    private final AutocompleteService autocompleteService;
+    private final SearchQueryRecorder searchQueryRecorder;
+
+    // PIT 열기 토큰 버킷 (guarded by this)
+    private double pointInTimePermits = MAX_POINT_IN_TIME_OPENS;
+    private long pointInTimeRefilledAt = System.nanoTime();
 
+    /**
+     * 상품명/키워드 자동완성 - 인메모리 트라이로 답하고, 트라이가 준비되지 않았거나 너무 긴 접두어면 Elasticsearch로 조회한다
+     */
     public List<String> autocompleteProductName(String keyword) {
         if (!hasText(keyword)) {
             return List.of();
         }
 
+        return autocompleteService.suggest(keyword, AUTOCOMPLETE_SIZE)
+                .orElseGet(() -> searchAutocomplete(keyword));
+    }
+
+    private List<String> searchAutocomplete(String keyword) {
         NativeQuery nativeQuery = NativeQuery.builder()
                 .withQuery(q -> q
                         .match(m -> m
@@ -40,7 +95,7 @@ public class ProductSearchService {
                 )
                 .withSourceFilter(new org.springframework.data.elasticsearch.core.query.FetchSourceFilter(
                         true, new String[]{"productName"}, null))
-                .withMaxResults(5)
+                .withMaxResults(AUTOCOMPLETE_SIZE)
                 .build();
 
         SearchHits<ProductDocument> searchHits = elasticsearchOperations.search(nativeQuery, ProductDocument.class);
@@ -48,17 +103,70 @@ public class ProductSearchService {
         return searchHits.getSearchHits().stream()
                 .map(hit -> hit.getContent().getProductName())
                 .distinct()
-                .limit(5)
+                .limit(AUTOCOMPLETE_SIZE)
                 .toList();
     }
 
+    /**
+     * 상품 검색 - 같은 조건의 결과는 카탈로그가 바뀌기 전까지 캐시에서 반환한다.
+     * 첫 페이지 검색어는 캐시 적중 여부와 관계없이 검색어 집계({@link SearchQueryRecorder})에 기록한다.
+     */
     public Page<ProductDocument> searchProducts(ProductSearchRequest request) {
+        Page<ProductDocument> products = productSearchCache.get(request, () -> search(request));
+        if (request.getPage() == 0) {
+            searchQueryRecorder.record(request.getProductName(), products.getTotalElements() > 0);
+        }
+        return products;
+    }
+
+    /**
+     * 패싯을 포함한 상품 검색
+     *
+     * 패싯(하위 카테고리별 수, 가격 구간별 수, 상태별 수)은 검색과 같은 Elasticsearch 요청의 집계로 계산한다.
+     * 패싯은 정렬/페이지와 무관하므로 필터 조건 단위로 캐싱하며, 캐시에 있으면 집계 없이 검색한다.
+     * 검색 결과만 캐시에 있고 패싯이 없으면 집계만 하는 요청(size=0)을 한 번 보낸다.
+     */
+    public ProductSearchResult searchProductsWithFacets(ProductSearchRequest request) {
+        SearchFacets cachedFacets = productSearchCache.getFacets(request);
+        CategoryIndex categoryIndex = cachedFacets == null ? categorySyncService.getCategoryIndex() : null;
+
+        AtomicReference<SearchFacets> loadedFacets = new AtomicReference<>();
+        Page<ProductDocument> products = productSearchCache.get(request, () -> {
+            SearchHits<ProductDocument> searchHits = executeSearch(request, categoryIndex);
+            if (categoryIndex != null) {
+                loadedFacets.set(toFacets(searchHits, request, categoryIndex));
+            }
+            return toPage(searchHits, request);
+        });
+
+        SearchFacets facets = cachedFacets;
+        if (facets == null) {
+            facets = loadedFacets.get() != null ? loadedFacets.get() : aggregateFacets(request, categoryIndex);
+            productSearchCache.putFacets(request, facets);
+        }
+        if (request.getPage() == 0) {
+            searchQueryRecorder.record(request.getProductName(), products.getTotalElements() > 0);
+        }
+        return new ProductSearchResult(products, facets);
+    }
+
+    private Page<ProductDocument> search(ProductSearchRequest request) {
+        return toPage(executeSearch(request, null), request);
+    }
+
+    /**
+     * 검색 실행, categoryIndex가 있으면 같은 요청에 패싯 집계를 포함한다
+     */
+    private SearchHits<ProductDocument> executeSearch(ProductSearchRequest request, CategoryIndex categoryIndex) {
         Query query = buildQuery(request);
         boolean hasKeyword = hasText(request.getProductName());
 
         NativeQueryBuilder queryBuilder = NativeQuery.builder()
                 .withQuery(query)
                 .withPageable(PageRequest.of(request.getPage(), request.getSize()));
+        if (categoryIndex != null) {
+            addFacetAggregations(queryBuilder, request, categoryIndex);
+        }
 
         // 키워드 검색이 있으면 _score 우선 정렬, 없으면 요청된 정렬만 적용
         if (hasKeyword) {
@@ -69,15 +177,236 @@ public class ProductSearchService {
         // 요청된 정렬 또는 기본 정렬 적용
         applySort(queryBuilder, request);
 
-        NativeQuery nativeQuery = queryBuilder.build();
+        return elasticsearchOperations.search(queryBuilder.build(), ProductDocument.class);
+    }
 
-        SearchHits<ProductDocument> searchHits = elasticsearchOperations.search(nativeQuery, ProductDocument.class);
+    private Page<ProductDocument> toPage(SearchHits<ProductDocument> searchHits, ProductSearchRequest request) {
         SearchPage<ProductDocument> searchPage = SearchHitSupport.searchPageFor(
                 searchHits, PageRequest.of(request.getPage(), request.getSize()));
 
         return (Page<ProductDocument>) SearchHitSupport.unwrapSearchHits(searchPage);
     }
 
+    /**
+     * 커서 기반 상품 검색 (search_after)
+     *
+     * 정렬 값(_score 또는 요청 정렬 필드, 마지막으로 productId)을 기준으로 이어서 조회하므로
+     * 깊은 페이지도 from/size처럼 앞선 결과를 건너뛰는 비용이 들지 않는다.
+     * - 전체 건수는 계산하지 않는다 (track_total_hits=false)
+     * - usePointInTime이면 첫 페이지 직후의 스냅샷으로 끝까지 조회한다 (마지막 페이지에서 닫는다)
+     *   다음 페이지가 있을 때만 열고, 인스턴스당 MAX_POINT_IN_TIME_OPENS / POINT_IN_TIME_KEEP_ALIVE를 넘으면 PIT 없이 이어서 조회한다
+     * - 페이지마다 결과가 달라지므로 검색 결과 캐시를 거치지 않는다
+     * - 첫 조회의 검색어만 검색어 집계에 기록한다 (전체 건수가 없으므로 첫 페이지가 비었는지로 결과 없음을 판단한다)
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 조회는 null
+     * @throws IllegalArgumentException 커서가 잘못되었거나 다른 검색 조건에서 발급된 경우
+     * @throws CursorExpiredException   커서의 point-in-time이 만료된 경우
+     */
+    public CursorPage<ProductDocument> searchProductsAfter(ProductSearchRequest request,
+                                                           String cursor,
+                                                           boolean usePointInTime) {
+        String fingerprint = ProductSearchCursor.fingerprint(request);
+        ProductSearchCursor previous = hasText(cursor) ? ProductSearchCursor.decode(cursor, fingerprint) : null;
+        int size = request.getSize();
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be greater than 0");
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
+                .withQuery(buildQuery(request))
+                .withMaxResults(size + 1)
+                .withTrackTotalHits(false);
+
+        if (hasText(request.getProductName())) {
+            queryBuilder.withSort(s -> s.score(sc -> sc.order(SortOrder.Desc)));
+        }
+        applySort(queryBuilder, request);
+        // 정렬 값이 같은 상품 사이의 순서를 고정하는 tiebreaker
+        queryBuilder.withSort(s -> s.field(f -> f.field("productId").order(SortOrder.Asc)));
+
+        if (previous != null) {
+            queryBuilder.withSearchAfter(previous.searchAfter());
+        }
+
+        String pitId = previous != null ? previous.pitId() : null;
+        if (pitId != null) {
+            queryBuilder.withPointInTime(new PointInTime(pitId, POINT_IN_TIME_KEEP_ALIVE));
+        }
+
+        SearchHits<ProductDocument> searchHits = searchAfter(queryBuilder.build(), pitId);
+        List<SearchHit<ProductDocument>> hits = searchHits.getSearchHits();
+        if (previous == null) {
+            searchQueryRecorder.record(request.getProductName(), !hits.isEmpty());
+        }
+
+        // 응답마다 갱신된 PIT ID가 올 수 있으므로 최신 값을 이어서 사용
+        if (pitId != null && searchHits.getPointInTimeId() != null) {
+            pitId = searchHits.getPointInTimeId();
+        }
+
+        if (hits.size() <= size) {
+            if (pitId != null) {
+                elasticsearchOperations.closePointInTime(pitId);
+            }
+            return new CursorPage<>(hits.stream().map(SearchHit::getContent).toList(), null);
+        }
+
+        // 한 페이지로 끝나는 조회는 PIT를 열지 않는다
+        if (pitId == null && previous == null && usePointInTime && tryAcquirePointInTime()) {
+            pitId = elasticsearchOperations.openPointInTime(
+                    elasticsearchOperations.getIndexCoordinatesFor(ProductDocument.class), POINT_IN_TIME_KEEP_ALIVE);
+        }
+
+        List<SearchHit<ProductDocument>> pageHits = hits.subList(0, size);
+        String nextCursor = new ProductSearchCursor(
+                fingerprint, pageHits.get(size - 1).getSortValues(), pitId).encode();
+        return new CursorPage<>(pageHits.stream().map(SearchHit::getContent).toList(), nextCursor);
+    }
+
+    private SearchHits<ProductDocument> searchAfter(NativeQuery query, String pitId) {
+        try {
+            return elasticsearchOperations.search(query, ProductDocument.class);
+        } catch (RuntimeException e) {
+            if (pitId != null && isSearchContextMissing(e)) {
+                throw new CursorExpiredException("Point-in-time expired: " + e.getMessage(), e);
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isSearchContextMissing(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("search_context_missing")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized boolean tryAcquirePointInTime() {
+        long now = System.nanoTime();
+        double refill = (double) (now - pointInTimeRefilledAt) / POINT_IN_TIME_KEEP_ALIVE.toNanos() * MAX_POINT_IN_TIME_OPENS;
+        pointInTimePermits = Math.min(MAX_POINT_IN_TIME_OPENS, pointInTimePermits + refill);
+        pointInTimeRefilledAt = now;
+        if (pointInTimePermits < 1) {
+            return false;
+        }
+        pointInTimePermits--;
+        return true;
+    }
+
+    private SearchFacets aggregateFacets(ProductSearchRequest request, CategoryIndex categoryIndex) {
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
+                .withQuery(buildQuery(request))
+                .withMaxResults(0);
+        addFacetAggregations(queryBuilder, request, categoryIndex);
+
+        SearchHits<ProductDocument> searchHits = elasticsearchOperations.search(queryBuilder.build(), ProductDocument.class);
+        return toFacets(searchHits, request, categoryIndex);
+    }
+
+    private void addFacetAggregations(NativeQueryBuilder queryBuilder,
+                                      ProductSearchRequest request,
+                                      CategoryIndex categoryIndex) {
+        // 선택한 카테고리의 직계 하위 카테고리만 집계 - categoryPath에 조상이 모두 있으므로 하위 상품까지 포함된 수
+        List<String> childIds = categoryIndex.getChildIds(request.getCategoryId()).stream()
+                .map(String::valueOf)
+                .toList();
+        if (!childIds.isEmpty()) {
+            queryBuilder.withAggregation(AGG_CATEGORIES, Aggregation.of(a -> a
+                    .terms(t -> t
+                            .field("categoryPath")
+                            .include(i -> i.terms(childIds))
+                            .size(childIds.size())
+                    )
+            ));
+        }
+
+        queryBuilder.withAggregation(AGG_PRICE, Aggregation.of(a -> a
+                .histogram(h -> h
+                        .field("salePrice")
+                        .interval((double) PRICE_HISTOGRAM_INTERVAL)
+                        .minDocCount(1)
+                )
+        ));
+        queryBuilder.withAggregation(AGG_STATUS, Aggregation.of(a -> a
+                .terms(t -> t.field("status"))
+        ));
+    }
+
+    private SearchFacets toFacets(SearchHits<ProductDocument> searchHits,
+                                  ProductSearchRequest request,
+                                  CategoryIndex categoryIndex) {
+        Map<String, Aggregate> aggregates = new HashMap<>();
+        if (searchHits.getAggregations() instanceof ElasticsearchAggregations aggregations) {
+            for (ElasticsearchAggregation aggregation : aggregations.aggregations()) {
+                aggregates.put(aggregation.aggregation().getName(), aggregation.aggregation().getAggregate());
+            }
+        }
+
+        // Redis 직렬화(기본 타이핑) 후 복원할 수 있도록 가변 리스트로 담는다
+        return SearchFacets.builder()
+                .categories(new ArrayList<>(toCategoryCounts(aggregates.get(AGG_CATEGORIES), request, categoryIndex)))
+                .priceRanges(new ArrayList<>(toPriceBuckets(aggregates.get(AGG_PRICE))))
+                .statuses(new ArrayList<>(toStatusCounts(aggregates.get(AGG_STATUS))))
+                .build();
+    }
+
+    private List<SearchFacets.CategoryCount> toCategoryCounts(Aggregate aggregate,
+                                                              ProductSearchRequest request,
+                                                              CategoryIndex categoryIndex) {
+        if (aggregate == null || !aggregate.isSterms()) {
+            return List.of();
+        }
+
+        Map<String, Long> counts = new HashMap<>();
+        for (StringTermsBucket bucket : aggregate.sterms().buckets().array()) {
+            counts.put(bucket.key().stringValue(), bucket.docCount());
+        }
+
+        // 카테고리 트리의 표시 순서를 유지하고 상품이 없는 카테고리는 제외
+        List<SearchFacets.CategoryCount> result = new ArrayList<>();
+        for (Long childId : categoryIndex.getChildIds(request.getCategoryId())) {
+            Long count = counts.get(String.valueOf(childId));
+            if (count == null || count == 0) {
+                continue;
+            }
+            CategoryTreeNode node = categoryIndex.getNode(childId);
+            result.add(SearchFacets.CategoryCount.builder()
+                    .categoryId(childId)
+                    .categoryName(node != null ? node.getCategoryName() : null)
+                    .count(count)
+                    .build());
+        }
+        return result;
+    }
+
+    private List<SearchFacets.PriceBucket> toPriceBuckets(Aggregate aggregate) {
+        if (aggregate == null || !aggregate.isHistogram()) {
+            return List.of();
+        }
+        return aggregate.histogram().buckets().array().stream()
+                .map(bucket -> SearchFacets.PriceBucket.builder()
+                        .from((long) bucket.key())
+                        .to((long) bucket.key() + PRICE_HISTOGRAM_INTERVAL)
+                        .count(bucket.docCount())
+                        .build())
+                .toList();
+    }
+
+    private List<SearchFacets.StatusCount> toStatusCounts(Aggregate aggregate) {
+        if (aggregate == null || !aggregate.isSterms()) {
+            return List.of();
+        }
+        return aggregate.sterms().buckets().array().stream()
+                .map(bucket -> SearchFacets.StatusCount.builder()
+                        .status(bucket.key().stringValue())
+                        .count(bucket.docCount())
+                        .build())
+                .toList();
+    }
+
     private void applySort(NativeQueryBuilder queryBuilder, ProductSearchRequest request) {
         String sort = request.getSort();
 
@@ -87,6 +416,12 @@ public class ProductSearchService {
             SortOrder order = parts.length > 1 && "desc".equalsIgnoreCase(parts[1])
                     ? SortOrder.Desc
                     : SortOrder.Asc;
+            if ("popularity".equals(field)) {
+                // 판매 집계 전 생성된 인덱스에는 popularity 매핑이 없을 수 있다. 값이 없는 상품은 뒤로 보낸다
+                queryBuilder.withSort(s -> s.field(f -> f.field(field).order(order)
+                        .unmappedType(FieldType.Long).missing("_last")));
+                return;
+            }
             queryBuilder.withSort(s -> s.field(f -> f.field(field).order(order)));
         } else {
             // 기본 정렬: createdAt DESC
@@ -102,22 +437,19 @@ public class ProductSearchService {
         if (hasText(request.getProductName())) {
             mustQueries.add(Query.of(q -> q
                     .multiMatch(mm -> mm
-                            .query(request.getProductName())
+                            .query(ProductSearchCache.normalizeKeyword(request.getProductName()))
                             .fields("productName^2", "searchKeywords")
                     )
             ));
         }
 
         // 카테고리 필터 (filter - 점수에 영향 없음, 캐싱 가능)
-        // 상위 카테고리 선택 시 하위 카테고리도 함께 검색
+        // categoryPath에 조상 카테고리가 모두 색인되어 있으므로 상위 카테고리도 term 하나로 하위 상품까지 조회된다
         if (request.getCategoryId() != null) {
-            List<Long> categoryIds = categorySyncService.getCategoryIdWithDescendants(request.getCategoryId());
             filterQueries.add(Query.of(q -> q
-                    .terms(t -> t
-                            .field("categoryIds")
-                            .terms(tv -> tv.value(categoryIds.stream()
-                                    .map(id -> co.elastic.clients.elasticsearch._types.FieldValue.of(id))
-                                    .toList()))
+                    .term(t -> t
+                            .field("categoryPath")
+                            .value(request.getCategoryId())
                     )
             ));
         }
@@ -127,7 +459,7 @@ public class ProductSearchService {
             filterQueries.add(Query.of(q -> q
                     .term(t -> t
                             .field("status")
-                            .value(request.getStatus())
+                            .value(ProductSearchCache.normalizeStatus(request.getStatus()))
                     )
             ));
         }
@@ -1,60 +1,116 @@
 package com.example.catalogservice.service;
 
+import com.example.catalogservice.client.ProductExportReader;
 import com.example.catalogservice.client.ProductServiceClient;
+import com.example.catalogservice.client.dto.CatalogSyncChangesResponse;
 import com.example.catalogservice.client.dto.CatalogSyncProductResponse;
-import com.example.catalogservice.client.dto.PageResponse;
 import com.example.catalogservice.consumer.event.ProductCreatedEvent;
 import com.example.catalogservice.consumer.event.ProductUpdatedEvent;
 import com.example.catalogservice.domain.document.ProductDocument;
-import com.example.catalogservice.repository.ProductSearchRepository;
+import com.example.catalogservice.service.ElasticsearchIndexService.BulkIndexSettings;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
 import org.springframework.data.elasticsearch.core.query.IndexQuery;
 import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductSyncService {
 
+    private final ProductExportReader productExportReader;
     private final ProductServiceClient productServiceClient;
     private final ElasticsearchOperations elasticsearchOperations;
     private final ElasticsearchIndexService elasticsearchIndexService;
-    private final ProductSearchRepository productSearchRepository;
+    private final ProductBulkIndexer productBulkIndexer;
+    private final ProductReindexMetrics reindexMetrics;
+    private final CatalogVersion catalogVersion;
+    private final CategorySyncService categorySyncService;
+    private final AutocompleteService autocompleteService;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    static final String DELTA_WATERMARK_KEY = "catalog:sync:delta:watermark";
+    /**
+     * 전체/증분 동기화가 함께 쓰는 락 - 여러 인스턴스 중 한 곳에서 한 가지 동기화만 실행한다
+     */
+    static final String SYNC_LOCK_KEY = "catalog:sync:lock";
+    static final RedisScript<Long> RELEASE_LOCK_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+    static final int DELTA_PAGE_SIZE = 500;
+    /**
+     * 증분 동기화는 워터마크보다 이만큼 앞에서부터 다시 읽는다.
+     * updatedAt은 커밋 전에 정해지므로 늦게 커밋된 트랜잭션과 서버 간 시계 차이를 흡수한다 (upsert/삭제는 다시 적용해도 결과가 같다)
+     */
+    static final Duration DELTA_OVERLAP = Duration.ofMinutes(1);
+    private static final Duration DELTA_LOCK_TTL = Duration.ofMinutes(10);
+    /**
+     * 전체 동기화는 재색인 시간만큼 락을 잡는다. 인스턴스가 죽어도 이 시간이 지나면 락이 풀린다
+     */
+    private static final Duration FULL_SYNC_LOCK_TTL = Duration.ofHours(2);
 
-    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int WRITE_CONCURRENCY = 4;
+    private static final int QUEUE_CAPACITY = 8;
     private static final String PRODUCTS_ALIAS = "products";
 
     /**
      * alias 기반 reindex를 통한 Full Sync.
-     * 1. 새 인덱스 생성
-     * 2. 새 인덱스에 데이터 동기화
-     * 3. alias를 새 인덱스로 전환
+     * 1. 새 인덱스 생성 (색인 중에는 refresh/replica 비활성화)
+     * 2. 새 인덱스에 데이터 동기화 (상품 스트림 읽기와 병렬 bulk 색인을 파이프라인으로 실행)
+     * 3. refresh/replica 설정 복원 후 alias를 새 인덱스로 전환
      * 4. 이전 인덱스 삭제
      *
      * 이 방식은 삭제된 상품도 자동으로 처리된다 (새 인덱스에는 현재 존재하는 상품만 포함).
+     * 완료 후 증분 동기화 워터마크를 시작 시각으로 옮겨, 색인 중에 바뀐 상품은 다음 증분 동기화가 반영한다.
+     * 증분 동기화와 같은 Redis 락을 잡으므로 다른 인스턴스의 전체/증분 동기화와 겹치지 않는다
+     * (겹치면 서로의 새 인덱스를 이전 인덱스로 보고 지울 수 있다).
+     *
+     * @throws IllegalStateException 다른 동기화가 실행 중인 경우
      */
     public int fullSync() {
         log.info("Starting full sync with alias-based reindex strategy");
 
+        String lockOwner = tryLock(FULL_SYNC_LOCK_TTL);
+        if (lockOwner == null) {
+            throw new IllegalStateException("Another product sync is already running");
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
         String newIndexName = null;
         try {
             // 1. 새 인덱스 생성
             newIndexName = elasticsearchIndexService.createNewIndex();
             IndexCoordinates indexCoordinates = IndexCoordinates.of(newIndexName);
+            BulkIndexSettings previousSettings = elasticsearchIndexService.disableRefreshAndReplicas(newIndexName);
 
             // 2. 새 인덱스에 데이터 동기화
             int totalSynced = syncToIndex(indexCoordinates);
 
-            // 3. alias를 새 인덱스로 전환
+            // 3. 색인 설정 복원 후 alias를 새 인덱스로 전환 (복원 전에는 검색 트래픽을 받지 않는다)
+            elasticsearchIndexService.restoreRefreshAndReplicas(newIndexName, previousSettings);
             elasticsearchIndexService.switchAlias(newIndexName);
+            catalogVersion.increment();
+            autocompleteService.requestRebuild();
+
+            writeWatermark(startedAt);
 
             // 4. 이전 인덱스 삭제
             elasticsearchIndexService.deleteOldIndices(newIndexName);
@@ -73,45 +129,166 @@ public class ProductSyncService {
                 }
             }
             throw new RuntimeException("Full sync failed", e);
+        } finally {
+            releaseLock(lockOwner);
         }
     }
 
-    private int syncToIndex(IndexCoordinates indexCoordinates) {
-        int page = 0;
-        int totalSynced = 0;
+    /**
+     * 워터마크 기반 증분 동기화.
+     * 1. 워터마크(마지막으로 반영한 상품 updatedAt) 이후 수정된 상품을 (updatedAt, productId) 순서로 페이지 단위로 조회
+     * 2. 노출 상품은 live alias에 bulk 부분 upsert, 툼스톤(비활성/진열 중지 상품)은 인덱스에서 삭제
+     * 3. 페이지마다 워터마크를 전진시켜, 중간에 실패해도 다음 실행은 마지막으로 반영한 페이지부터 이어서 처리
+     *
+     * 전체 동기화나 다른 증분 동기화가 실행 중이면(어느 인스턴스든) 건너뛴다.
+     * 워터마크가 없으면(첫 실행) 현재 시각을 기준점으로 기록만 한다 - 그 이전의 불일치는 전체 동기화로 복구한다.
+     * DB에서 물리 삭제된 상품은 툼스톤이 남지 않으므로 전체 동기화에서만 정리된다.
+     */
+    public DeltaSyncResult deltaSync() {
+        String lockOwner = tryLock(DELTA_LOCK_TTL);
+        if (lockOwner == null) {
+            log.info("Skipping delta sync - another product sync holds the lock");
+            return DeltaSyncResult.SKIPPED;
+        }
+
+        try {
+            LocalDateTime watermark = readWatermark();
+            if (watermark == null) {
+                LocalDateTime now = LocalDateTime.now();
+                writeWatermark(now);
+                log.info("Delta sync watermark initialized: {}", now);
+                return new DeltaSyncResult(false, 0, 0, now);
+            }
+            return syncChangesSince(watermark);
+        } finally {
+            releaseLock(lockOwner);
+        }
+    }
+
+    private DeltaSyncResult syncChangesSince(LocalDateTime watermark) {
+        LocalDateTime cursorUpdatedAt = watermark.minus(DELTA_OVERLAP);
+        Long cursorProductId = null;
+        LocalDateTime latest = watermark;
+        int upserted = 0;
+        int deleted = 0;
+
+        CatalogSyncChangesResponse page;
+        do {
+            page = productServiceClient.getProductChangesForSync(
+                    cursorUpdatedAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), cursorProductId, DELTA_PAGE_SIZE);
+
+            List<CatalogSyncProductResponse> products = page.getProducts() != null ? page.getProducts() : List.of();
+            if (!products.isEmpty()) {
+                Map<String, RuntimeException> failures =
+                        productBulkIndexer.upsertAll(products.stream().map(this::toProductDocument).toList());
+                if (!failures.isEmpty()) {
+                    throw new IllegalStateException("Failed to index products: productIds=" + failures.keySet());
+                }
+                products.forEach(product ->
+                        autocompleteService.productChanged(product.getProductId(), product.getProductName()));
+                upserted += products.size();
+            }
 
-        while (true) {
-            PageResponse<CatalogSyncProductResponse> response = productServiceClient.getProductsForSync(page, DEFAULT_PAGE_SIZE);
+            List<Long> tombstones = page.getDeletedProductIds() != null ? page.getDeletedProductIds() : List.of();
+            if (!tombstones.isEmpty()) {
+                deleteFromIndex(tombstones);
+                tombstones.forEach(autocompleteService::productRemoved);
+                deleted += tombstones.size();
+            }
 
-            if (response == null || response.getContent() == null || response.getContent().isEmpty()) {
-                log.info("No more products to sync at page {}", page);
-                break;
+            if (page.getNextUpdatedAt() != null) {
+                cursorUpdatedAt = page.getNextUpdatedAt();
+                cursorProductId = page.getNextProductId();
+                if (cursorUpdatedAt.isAfter(latest)) {
+                    latest = cursorUpdatedAt;
+                    writeWatermark(latest);
+                }
             }
+        } while (page.isHasNext());
 
-            List<IndexQuery> indexQueries = response.getContent().stream()
-                    .map(this::toProductDocument)
-                    .map(doc -> new IndexQueryBuilder()
-                            .withId(doc.getProductId())
-                            .withObject(doc)
-                            .build())
-                    .toList();
+        if (upserted > 0 || deleted > 0) {
+            catalogVersion.increment();
+        }
+        log.info("Delta sync completed: since={}, upserted={}, deleted={}, watermark={}",
+                watermark, upserted, deleted, latest);
+        return new DeltaSyncResult(false, upserted, deleted, latest);
+    }
 
-            elasticsearchOperations.bulkIndex(indexQueries, indexCoordinates);
-            totalSynced += indexQueries.size();
+    private void deleteFromIndex(List<Long> productIds) {
+        List<String> ids = productIds.stream().map(String::valueOf).toList();
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.ids(i -> i.values(ids)))
+                .build();
+        ByQueryResponse response = elasticsearchOperations.delete(DeleteQuery.builder(query).build(), ProductDocument.class);
+        log.debug("Deleted tombstoned products from index: requested={}, deleted={}", ids.size(), response.getDeleted());
+    }
 
-            log.info("Synced page {} with {} products (total: {})", page, indexQueries.size(), totalSynced);
+    private LocalDateTime readWatermark() {
+        Object value = redisTemplate.opsForValue().get(DELTA_WATERMARK_KEY);
+        return value instanceof String text ? LocalDateTime.parse(text) : null;
+    }
 
-            if (response.isLast()) {
-                break;
-            }
+    private void writeWatermark(LocalDateTime watermark) {
+        try {
+            redisTemplate.opsForValue().set(DELTA_WATERMARK_KEY, watermark.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        } catch (RuntimeException e) {
+            log.warn("Failed to store delta sync watermark: {}", watermark, e);
+        }
+    }
+
+    /**
+     * @return 락을 잡았으면 해제할 때 확인할 소유자 값, 다른 동기화가 잡고 있으면 null
+     */
+    private String tryLock(Duration ttl) {
+        String lockOwner = UUID.randomUUID().toString();
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(SYNC_LOCK_KEY, lockOwner, ttl))
+                ? lockOwner : null;
+    }
 
-            page++;
+    /**
+     * 자신이 건 락일 때만 지운다 - 조회와 삭제 사이에 TTL이 지나 다른 인스턴스가 잡은 락을 지우지 않도록 스크립트로 한 번에 처리한다
+     */
+    private void releaseLock(String lockOwner) {
+        try {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(SYNC_LOCK_KEY), lockOwner);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release product sync lock, it expires on its own", e);
         }
+    }
+
+    /**
+     * 증분 동기화 결과
+     *
+     * @param skipped   전체 동기화나 다른 증분 동기화가 락을 잡고 있어 건너뛰었는지
+     * @param upserted  색인한 상품 수
+     * @param deleted   툼스톤으로 삭제한 상품 수
+     * @param watermark 실행 후 워터마크
+     */
+    public record DeltaSyncResult(boolean skipped, int upserted, int deleted, LocalDateTime watermark) {
+
+        static final DeltaSyncResult SKIPPED = new DeltaSyncResult(true, 0, 0, null);
+    }
 
-        // 인덱스 refresh하여 즉시 검색 가능하도록 함
-        elasticsearchOperations.indexOps(indexCoordinates).refresh();
+    /**
+     * product-service 내보내기 스트림을 읽으면서 bulk 색인을 병렬로 실행한다.
+     * refresh는 fullSync에서 색인 설정을 복원하면서 한 번만 수행한다.
+     */
+    private int syncToIndex(IndexCoordinates indexCoordinates) {
+        ProductReindexPipeline pipeline = new ProductReindexPipeline(
+                handler -> productExportReader.read(DEFAULT_BATCH_SIZE, handler),
+                products -> elasticsearchOperations.bulkIndex(toIndexQueries(products), indexCoordinates),
+                WRITE_CONCURRENCY, QUEUE_CAPACITY, reindexMetrics);
+        return pipeline.run();
+    }
 
-        return totalSynced;
+    private List<IndexQuery> toIndexQueries(List<CatalogSyncProductResponse> products) {
+        return products.stream()
+                .map(this::toProductDocument)
+                .map(doc -> new IndexQueryBuilder()
+                        .withId(doc.getProductId())
+                        .withObject(doc)
+                        .build())
+                .toList();
     }
 
     private ProductDocument toProductDocument(CatalogSyncProductResponse product) {
@@ -124,6 +301,7 @@ public class ProductSyncService {
                 .status(product.getStatus())
                 .primaryImageUrl(product.getPrimaryImageUrl())
                 .categoryIds(product.getCategoryIds())
+                .categoryPath(categoryPath(product.getCategoryIds()))
                 .searchKeywords(product.getSearchKeywords())
                 .skus(toSkuInfoListFromSync(product.getSkus()))
                 .createdAt(product.getCreatedAt())
@@ -177,31 +355,44 @@ public class ProductSyncService {
     }
 
     /**
-     * 상품 생성 이벤트 처리 - Elasticsearch에 신규 상품 인덱싱
+     * 상품 생성 이벤트 묶음 처리 - Elasticsearch에 신규 상품 인덱싱
+     *
+     * @return 색인에 실패한 상품 ID별 예외
      */
-    public void indexProduct(ProductCreatedEvent event) {
-        log.info("Indexing new product: productId={}", event.getProductId());
-
-        ProductDocument document = toProductDocument(event);
-        productSearchRepository.save(document);
-
-        log.info("Successfully indexed new product: productId={}", event.getProductId());
+    public Map<Long, RuntimeException> indexProducts(List<ProductCreatedEvent> events) {
+        log.info("Indexing new products: count={}", events.size());
+        return upsertProducts(events.stream().map(this::toProductDocument).toList());
     }
 
     /**
-     * 상품 수정 이벤트 처리 - Elasticsearch에 상품 정보 갱신
-     * 기존 문서의 createdAt을 보존합니다.
+     * 상품 수정 이벤트 묶음 처리 - Elasticsearch에 상품 정보 갱신
+     * 부분 upsert로 반영하므로 기존 문서의 createdAt과 searchKeywords는 그대로 유지됩니다.
+     *
+     * @return 색인에 실패한 상품 ID별 예외
      */
-    public void updateProduct(ProductUpdatedEvent event) {
-        log.info("Updating product: productId={}", event.getProductId());
-
-        String productId = String.valueOf(event.getProductId());
-        ProductDocument existingDocument = productSearchRepository.findById(productId).orElse(null);
+    public Map<Long, RuntimeException> updateProducts(List<ProductUpdatedEvent> events) {
+        log.info("Updating products: count={}", events.size());
+        return upsertProducts(events.stream().map(this::toProductDocument).toList());
+    }
 
-        ProductDocument document = toProductDocument(event, existingDocument);
-        productSearchRepository.save(document);
+    private Map<Long, RuntimeException> upsertProducts(List<ProductDocument> documents) {
+        Map<String, RuntimeException> failures = productBulkIndexer.upsertAll(documents);
+
+        // 같은 상품이 여러 번 있으면 마지막 상품명만 자동완성에 반영한다
+        Map<String, String> indexedNames = new LinkedHashMap<>();
+        documents.stream()
+                .filter(document -> !failures.containsKey(document.getProductId()))
+                .forEach(document -> indexedNames.put(document.getProductId(), document.getProductName()));
+        if (!indexedNames.isEmpty()) {
+            catalogVersion.increment();
+            indexedNames.forEach((productId, productName) ->
+                    autocompleteService.productChanged(Long.valueOf(productId), productName));
+        }
 
-        log.info("Successfully updated product: productId={}", event.getProductId());
+        log.info("Indexed products: indexed={}, failed={}", indexedNames.size(), failures.keySet());
+        Map<Long, RuntimeException> failuresByProductId = new LinkedHashMap<>();
+        failures.forEach((productId, failure) -> failuresByProductId.put(Long.valueOf(productId), failure));
+        return failuresByProductId;
     }
 
     private ProductDocument toProductDocument(ProductCreatedEvent event) {
@@ -214,12 +405,13 @@ public class ProductSyncService {
                 .status(event.getStatus())
                 .primaryImageUrl(event.getPrimaryImageUrl())
                 .categoryIds(event.getCategoryIds())
+                .categoryPath(categoryPath(event.getCategoryIds()))
                 .skus(toSkuInfoListFromCreatedEvent(event.getSkus()))
                 .createdAt(event.getCreatedAt())
                 .build();
     }
 
-    private ProductDocument toProductDocument(ProductUpdatedEvent event, ProductDocument existingDocument) {
+    private ProductDocument toProductDocument(ProductUpdatedEvent event) {
         return ProductDocument.builder()
                 .productId(String.valueOf(event.getProductId()))
                 .productName(event.getProductName())
@@ -229,12 +421,19 @@ public class ProductSyncService {
                 .status(event.getStatus())
                 .primaryImageUrl(event.getPrimaryImageUrl())
                 .categoryIds(event.getCategoryIds())
+                .categoryPath(categoryPath(event.getCategoryIds()))
                 .skus(toSkuInfoListFromUpdatedEvent(event.getSkus()))
-                .createdAt(existingDocument != null ? existingDocument.getCreatedAt() : null)
                 .updatedAt(event.getUpdatedAt())
                 .build();
     }
 
+    /**
+     * 상품 카테고리들의 조상 경로 합집합 - 상위 카테고리 필터를 term 쿼리 하나로 처리하기 위해 함께 색인한다
+     */
+    private List<Long> categoryPath(List<Long> categoryIds) {
+        return categorySyncService.getCategoryIndex().getCategoryPath(categoryIds);
+    }
+
     private Long convertToLong(java.math.BigDecimal value) {
         return value != null ? value.longValue() : null;
     }
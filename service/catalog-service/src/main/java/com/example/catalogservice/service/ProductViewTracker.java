@@ -0,0 +1,147 @@
+package com.example.catalogservice.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 상세 조회수 집계
+ *
+ * 기동 시 미리 읽어 둘 상품(많이 조회된 상품)을 고르기 위한 근사 조회수다.
+ * - 조회마다 Redis를 호출하지 않고 인스턴스 메모리에 모았다가 FLUSH_INTERVAL마다 파이프라인 한 번으로 일별 Sorted Set에 더한다
+ * - 일별 키는 KEY_TTL 뒤 만료되므로 오늘과 어제 조회수만 남는다
+ * - HTTP 캐시(304, 게이트웨이 캐시)로 응답된 조회는 세지 않으며, 비정상 종료 시 FLUSH_INTERVAL 동안의 조회는 유실된다
+ */
+@Slf4j
+@Component
+public class ProductViewTracker {
+
+    static final String KEY_PREFIX = "catalog:product:views:";
+    static final Duration FLUSH_INTERVAL = Duration.ofSeconds(10);
+    private static final Duration KEY_TTL = Duration.ofDays(2);
+    private static final DateTimeFormatter KEY_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Clock clock;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public ProductViewTracker(RedisTemplate<String, Object> redisTemplate) {
+        this(redisTemplate, Clock.systemDefaultZone());
+    }
+
+    ProductViewTracker(RedisTemplate<String, Object> redisTemplate, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-view-tracker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL.toMillis(), FLUSH_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        flush();
+    }
+
+    /**
+     * 상품 상세 조회 1회 기록
+     */
+    public void record(Long productId) {
+        pending.computeIfAbsent(productId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 모아 둔 조회수를 오늘 키에 더한다. 실패한 조회수는 버린다 (근사치이므로 재시도하지 않는다)
+     */
+    void flush() {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Long productId : pending.keySet()) {
+            LongAdder adder = pending.remove(productId);
+            if (adder != null) {
+                counts.put(productId, adder.sum());
+            }
+        }
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        String key = key(LocalDate.now(clock));
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    counts.forEach((productId, count) -> ops.opsForZSet().incrementScore(key, productId, count));
+                    ops.expire(key, KEY_TTL);
+                    return null;
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush product view counts: products={}", counts.size(), e);
+        }
+    }
+
+    /**
+     * 많이 조회된 상품 ID - 오늘 조회수 순으로, 부족하면 어제 조회수 순으로 채운다
+     */
+    public List<Long> topViewed(int limit) {
+        Set<Long> productIds = new LinkedHashSet<>();
+        LocalDate today = LocalDate.now(clock);
+        for (LocalDate date : List.of(today, today.minusDays(1))) {
+            if (productIds.size() >= limit) {
+                break;
+            }
+            Set<Object> members = redisTemplate.opsForZSet().reverseRange(key(date), 0, limit - 1);
+            if (members == null) {
+                continue;
+            }
+            for (Object member : members) {
+                if (productIds.size() >= limit) {
+                    break;
+                }
+                if (member instanceof Number number) {
+                    productIds.add(number.longValue());
+                }
+            }
+        }
+        return new ArrayList<>(productIds);
+    }
+
+    private static String key(LocalDate date) {
+        return KEY_PREFIX + date.format(KEY_DATE);
+    }
+}
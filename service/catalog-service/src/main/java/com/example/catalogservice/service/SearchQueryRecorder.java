@@ -0,0 +1,253 @@
+package com.example.catalogservice.service;
+
+import com.example.catalogservice.domain.AutocompleteTrie;
+import com.example.catalogservice.domain.SlidingTopK;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 검색어 집계 (인기 검색어, 결과 없는 검색어)
+ *
+ * 검색 요청 스레드는 표본으로 고른 검색어를 큐에 넣기만 하고, 집계는 별도 스레드가 DRAIN_INTERVAL마다 모아서 한다.
+ * - 검색어는 sampleRate 비율로만 기록한다. 집계 빈도는 1 / sampleRate를 곱한 추정값이다
+ * - 큐가 가득 차면 검색어를 버린다 (검색 응답을 기다리게 하지 않는다)
+ * - 최근 1시간(BUCKET x BUCKET_COUNT) 빈도를 {@link SlidingTopK}로 근사하며, 결과가 있는 검색어와 없는 검색어를 따로 센다
+ * - 첫 페이지 검색만 기록한다 (다음 페이지 조회는 같은 검색으로 본다)
+ * - BOOST_INTERVAL마다 인기 검색어를 자동완성 가중치에 더한다 ({@link AutocompleteService#updateQueryBoosts})
+ * - 인스턴스마다 자기가 받은 검색만 집계한다. 로드밸런서가 고르게 나누므로 전체 트래픽의 근사로 쓴다
+ *
+ * 지표:
+ * - catalog.search.queries{result=sampled|dropped}: 큐에 넣은/큐가 가득 차 버린 검색어 수
+ * - catalog.search.queries.pending: 집계를 기다리는 검색어 수
+ */
+@Slf4j
+@Component
+public class SearchQueryRecorder {
+
+    public static final int MAX_SIZE = 50;
+
+    static final Duration BUCKET = Duration.ofMinutes(5);
+    static final int BUCKET_COUNT = 12;
+    static final int SKETCH_WIDTH = 2048;
+    static final int SKETCH_DEPTH = 4;
+    static final int CANDIDATES = 200;
+    static final int QUEUE_CAPACITY = 10_000;
+    static final int MAX_QUERY_LENGTH = 50;
+    static final Duration DRAIN_INTERVAL = Duration.ofSeconds(1);
+    static final Duration BOOST_INTERVAL = Duration.ofMinutes(1);
+    static final int BOOST_SIZE = 100;
+    static final long MIN_BOOST_COUNT = 10;
+
+    private final AutocompleteService autocompleteService;
+    private final double sampleRate;
+    private final LongSupplier clock;
+    private final BlockingQueue<SearchQuery> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final SlidingTopK<String> trending;
+    private final SlidingTopK<String> zeroResult;
+    private ScheduledExecutorService scheduler;
+
+    private final Counter sampledQueries;
+    private final Counter droppedQueries;
+
+    @Autowired
+    public SearchQueryRecorder(AutocompleteService autocompleteService,
+                               MeterRegistry meterRegistry,
+                               @Value("${catalog.search.query-log.sample-rate:0.1}") double sampleRate) {
+        this(autocompleteService, meterRegistry, sampleRate, System::currentTimeMillis);
+    }
+
+    SearchQueryRecorder(AutocompleteService autocompleteService,
+                        MeterRegistry meterRegistry,
+                        double sampleRate,
+                        LongSupplier clock) {
+        if (sampleRate <= 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("sampleRate must be in (0, 1]: " + sampleRate);
+        }
+        this.autocompleteService = autocompleteService;
+        this.sampleRate = sampleRate;
+        this.clock = clock;
+        this.trending = newTopK();
+        this.zeroResult = newTopK();
+
+        this.sampledQueries = queryCounter(meterRegistry, "sampled");
+        this.droppedQueries = queryCounter(meterRegistry, "dropped");
+        Gauge.builder("catalog.search.queries.pending", queue, BlockingQueue::size)
+                .description("집계를 기다리는 검색어 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검색어와 윈도우 검색 횟수 추정값
+     */
+    public record TrendingKeyword(String keyword, long count) {
+    }
+
+    private record SearchQuery(String query, boolean found) {
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-query-recorder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::drain, DRAIN_INTERVAL.toMillis(), DRAIN_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::refreshBoostsSafely,
+                BOOST_INTERVAL.toMillis(), BOOST_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 검색 1회 기록 - 표본으로 뽑힌 검색어만 큐에 넣는다 (정규화와 집계는 집계 스레드에서 한다)
+     *
+     * @param found 검색 결과가 있었는지
+     */
+    public void record(String query, boolean found) {
+        if (query == null || query.isBlank()) {
+            return;
+        }
+        if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        if (queue.offer(new SearchQuery(query, found))) {
+            sampledQueries.increment();
+        } else {
+            droppedQueries.increment();
+        }
+    }
+
+    /**
+     * 최근 1시간 동안 결과가 있었던 검색어 상위 size개 (횟수 내림차순)
+     *
+     * @param size 최대 {@link #MAX_SIZE}
+     */
+    public List<TrendingKeyword> getTrendingKeywords(int size) {
+        return top(trending, size);
+    }
+
+    /**
+     * 최근 1시간 동안 결과가 없었던 검색어 상위 size개 (횟수 내림차순) - 동의어/키워드 보강 대상
+     *
+     * @param size 최대 {@link #MAX_SIZE}
+     */
+    public List<TrendingKeyword> getZeroResultKeywords(int size) {
+        return top(zeroResult, size);
+    }
+
+    /**
+     * 큐에 쌓인 검색어를 검색어별로 합친 뒤 집계에 더한다
+     */
+    void drain() {
+        List<SearchQuery> batch = new ArrayList<>();
+        queue.drainTo(batch);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> found = new HashMap<>();
+        Map<String, Long> notFound = new HashMap<>();
+        for (SearchQuery query : batch) {
+            String key = AutocompleteTrie.normalize(query.query());
+            if (key.isEmpty() || key.length() > MAX_QUERY_LENGTH) {
+                continue;
+            }
+            (query.found() ? found : notFound).merge(key, 1L, Long::sum);
+        }
+
+        long now = clock.getAsLong();
+        found.forEach((key, count) -> trending.add(key, count, now));
+        notFound.forEach((key, count) -> zeroResult.add(key, count, now));
+    }
+
+    private void refreshBoostsSafely() {
+        try {
+            refreshBoosts();
+        } catch (RuntimeException e) {
+            log.warn("Failed to update autocomplete query boosts", e);
+        }
+    }
+
+    /**
+     * 인기 검색어를 자동완성 가중치 보정값으로 넘긴다.
+     * 보정값은 검색 횟수의 로그(비트 수)라서 검색이 몰려도 상품 수 기반 가중치를 압도하지 않는다.
+     * 기준(MIN_BOOST_COUNT)은 1 / sampleRate를 곱하기 전의 표본 횟수로 본다 (표본 몇 건이 배율로 부풀려져 기준을 넘지 않도록).
+     */
+    void refreshBoosts() {
+        autocompleteService.updateQueryBoosts(boosts(trending.top(BOOST_SIZE, clock.getAsLong()), sampleRate));
+    }
+
+    /**
+     * @param sampled 표본 횟수 기준 상위 검색어
+     */
+    static Map<String, Long> boosts(List<SlidingTopK.Entry<String>> sampled, double sampleRate) {
+        Map<String, Long> boosts = new LinkedHashMap<>();
+        for (SlidingTopK.Entry<String> entry : sampled) {
+            if (entry.count() >= MIN_BOOST_COUNT) {
+                boosts.put(entry.key(), boostWeight(Math.round(entry.count() / sampleRate)));
+            }
+        }
+        return boosts;
+    }
+
+    static long boostWeight(long count) {
+        return Long.SIZE - Long.numberOfLeadingZeros(count);
+    }
+
+    private List<TrendingKeyword> top(SlidingTopK<String> topK, int size) {
+        return topK.top(size, clock.getAsLong()).stream()
+                .map(entry -> new TrendingKeyword(entry.key(), Math.round(entry.count() / sampleRate)))
+                .toList();
+    }
+
+    private static SlidingTopK<String> newTopK() {
+        return new SlidingTopK<>(BUCKET.toMillis(), BUCKET_COUNT, SKETCH_WIDTH, SKETCH_DEPTH, CANDIDATES,
+                SearchQueryRecorder::hash);
+    }
+
+    /**
+     * 64비트 문자열 해시 - String.hashCode()의 32비트보다 스케치 칸 충돌이 적다
+     */
+    private static long hash(String key) {
+        long hash = 1125899906842597L;
+        for (int i = 0; i < key.length(); i++) {
+            hash = 31 * hash + key.charAt(i);
+        }
+        return hash;
+    }
+
+    private static Counter queryCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("catalog.search.queries")
+                .description("집계할 검색어 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.catalogservice.client;
+
+import com.example.catalogservice.client.dto.CatalogSyncProductResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductExportReader 단위 테스트")
+class ProductExportReaderTest {
+
+    @Mock
+    private ProductServiceClient productServiceClient;
+
+    private ProductExportReader productExportReader;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+        productExportReader = new ProductExportReader(productServiceClient, objectMapper);
+    }
+
+    @Test
+    @DisplayName("NDJSON 스트림을 batchSize 단위로 묶어 순서대로 전달한다")
+    void read_GroupsLinesIntoBatches() throws IOException {
+        // given - 상품 5개, 빈 줄 포함
+        String body = IntStream.rangeClosed(1, 5)
+                .mapToObj(id -> "{\"productId\":" + id + ",\"productName\":\"상품" + id
+                        + "\",\"createdAt\":\"2024-01-01T10:00:00\"}")
+                .collect(Collectors.joining("\n", "", "\n\n" + trailer(5)));
+        when(productServiceClient.streamProductsForSync(anyInt())).thenReturn(response(200, body));
+
+        List<List<Long>> batches = new ArrayList<>();
+
+        // when
+        productExportReader.read(2, batch -> batches.add(
+                batch.stream().map(CatalogSyncProductResponse::getProductId).toList()));
+
+        // then
+        assertThat(batches).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+    }
+
+    @Test
+    @DisplayName("handler가 false를 반환하면 남은 스트림을 읽지 않는다")
+    void read_StopsWhenHandlerRejects() throws IOException {
+        // given
+        String body = IntStream.rangeClosed(1, 6)
+                .mapToObj(id -> "{\"productId\":" + id + "}")
+                .collect(Collectors.joining("\n"));
+        when(productServiceClient.streamProductsForSync(anyInt())).thenReturn(response(200, body));
+
+        List<Integer> batchSizes = new ArrayList<>();
+
+        // when
+        productExportReader.read(2, batch -> {
+            batchSizes.add(batch.size());
+            return false;
+        });
+
+        // then
+        assertThat(batchSizes).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("트레일러가 없거나 상품 수가 맞지 않으면 IOException을 던지고 마지막 배치를 전달하지 않는다")
+    void read_FailsWithoutValidTrailer() {
+        // given - 중간에 끊긴 스트림, 상품 수가 다른 트레일러
+        String products = IntStream.rangeClosed(1, 3)
+                .mapToObj(id -> "{\"productId\":" + id + "}")
+                .collect(Collectors.joining("\n", "", "\n"));
+        when(productServiceClient.streamProductsForSync(anyInt()))
+                .thenReturn(response(200, products), response(200, products + trailer(4)));
+
+        List<Integer> batchSizes = new ArrayList<>();
+
+        // when & then
+        assertThatThrownBy(() -> productExportReader.read(2, batch -> batchSizes.add(batch.size())))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("without trailer");
+        assertThatThrownBy(() -> productExportReader.read(2, batch -> batchSizes.add(batch.size())))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("expected=4, read=3");
+        assertThat(batchSizes).containsExactly(2, 2);
+    }
+
+    @Test
+    @DisplayName("스트림 응답이 실패하면 IOException을 던진다")
+    void read_FailsOnErrorStatus() {
+        // given
+        when(productServiceClient.streamProductsForSync(anyInt())).thenReturn(response(503, ""));
+
+        // when & then
+        assertThatThrownBy(() -> productExportReader.read(100, batch -> true))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("status=503");
+    }
+
+    private static String trailer(long count) {
+        return "{\"end\":true,\"count\":" + count + "}\n";
+    }
+
+    private Response response(int status, String body) {
+        Request request = Request.create(Request.HttpMethod.GET, "/api/internal/products/sync/stream",
+                Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+        return Response.builder()
+                .status(status)
+                .request(request)
+                .headers(Collections.emptyMap())
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+    }
+}
@@ -2,7 +2,7 @@ package com.example.catalogservice.consumer;
 
 import com.example.catalogservice.consumer.event.ProductCreatedEvent;
 import com.example.catalogservice.consumer.event.ProductUpdatedEvent;
-import com.example.catalogservice.service.ProductDetailService;
+import com.example.catalogservice.service.ProductDetailRefreshScheduler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,13 +23,13 @@ import static org.mockito.Mockito.*;
 class ProductDetailEventConsumerTest {
 
     @Mock
-    private ProductDetailService productDetailService;
+    private ProductDetailRefreshScheduler refreshScheduler;
 
     @InjectMocks
     private ProductDetailEventConsumer productDetailEventConsumer;
 
     @Test
-    @DisplayName("product.created 이벤트 수신 - refreshCache 호출 성공")
+    @DisplayName("product.created 이벤트 수신 - 갱신 요청 등록")
     void consumeProductCreatedEvent_Success() {
         // Given
         ProductCreatedEvent event = ProductCreatedEvent.builder()
@@ -45,18 +45,18 @@ class ProductDetailEventConsumerTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        doNothing().when(productDetailService).refreshCache(any(Long.class));
+        doNothing().when(refreshScheduler).request(any(Long.class));
 
         // When
         productDetailEventConsumer.consumeProductCreatedEvent(event, "product.created", 0L);
 
         // Then
-        verify(productDetailService, times(1)).refreshCache(1L);
+        verify(refreshScheduler, times(1)).request(1L);
     }
 
     @Test
-    @DisplayName("product.created 이벤트 수신 - refreshCache 실패 시 예외 전파")
-    void consumeProductCreatedEvent_RefreshCacheFailure_ExceptionRethrown() {
+    @DisplayName("product.created 이벤트 수신 - 갱신 요청 실패 시 예외 전파")
+    void consumeProductCreatedEvent_RefreshRequestFailure_ExceptionRethrown() {
         // Given
         ProductCreatedEvent event = ProductCreatedEvent.builder()
                 .productId(1L)
@@ -72,18 +72,18 @@ class ProductDetailEventConsumerTest {
                 .build();
 
         RuntimeException expectedException = new RuntimeException("Redis connection failed");
-        doThrow(expectedException).when(productDetailService).refreshCache(any(Long.class));
+        doThrow(expectedException).when(refreshScheduler).request(any(Long.class));
 
         // When & Then
         assertThatThrownBy(() -> productDetailEventConsumer.consumeProductCreatedEvent(event, "product.created", 0L))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("Redis connection failed");
 
-        verify(productDetailService, times(1)).refreshCache(1L);
+        verify(refreshScheduler, times(1)).request(1L);
     }
 
     @Test
-    @DisplayName("product.updated 이벤트 수신 - refreshCache 호출 성공")
+    @DisplayName("product.updated 이벤트 수신 - 갱신 요청 등록")
     void consumeProductUpdatedEvent_Success() {
         // Given
         ProductUpdatedEvent event = ProductUpdatedEvent.builder()
@@ -99,18 +99,18 @@ class ProductDetailEventConsumerTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        doNothing().when(productDetailService).refreshCache(any(Long.class));
+        doNothing().when(refreshScheduler).request(any(Long.class));
 
         // When
         productDetailEventConsumer.consumeProductUpdatedEvent(event, "product.updated", 0L);
 
         // Then
-        verify(productDetailService, times(1)).refreshCache(2L);
+        verify(refreshScheduler, times(1)).request(2L);
     }
 
     @Test
-    @DisplayName("product.updated 이벤트 수신 - refreshCache 실패 시 예외 전파")
-    void consumeProductUpdatedEvent_RefreshCacheFailure_ExceptionRethrown() {
+    @DisplayName("product.updated 이벤트 수신 - 갱신 요청 실패 시 예외 전파")
+    void consumeProductUpdatedEvent_RefreshRequestFailure_ExceptionRethrown() {
         // Given
         ProductUpdatedEvent event = ProductUpdatedEvent.builder()
                 .productId(2L)
@@ -126,14 +126,14 @@ class ProductDetailEventConsumerTest {
                 .build();
 
         RuntimeException expectedException = new RuntimeException("Feign client error");
-        doThrow(expectedException).when(productDetailService).refreshCache(any(Long.class));
+        doThrow(expectedException).when(refreshScheduler).request(any(Long.class));
 
         // When & Then
         assertThatThrownBy(() -> productDetailEventConsumer.consumeProductUpdatedEvent(event, "product.updated", 0L))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("Feign client error");
 
-        verify(productDetailService, times(1)).refreshCache(2L);
+        verify(refreshScheduler, times(1)).request(2L);
     }
 
     @Test
@@ -234,13 +234,13 @@ class ProductDetailEventConsumerTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        doNothing().when(productDetailService).refreshCache(any(Long.class));
+        doNothing().when(refreshScheduler).request(any(Long.class));
 
         // When
         productDetailEventConsumer.consumeProductCreatedEvent(event, "product.created", 0L);
 
         // Then
-        verify(productDetailService, times(1)).refreshCache(3L);
+        verify(refreshScheduler, times(1)).request(3L);
     }
 
     @Test
@@ -260,12 +260,12 @@ class ProductDetailEventConsumerTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        doNothing().when(productDetailService).refreshCache(any(Long.class));
+        doNothing().when(refreshScheduler).request(any(Long.class));
 
         // When
         productDetailEventConsumer.consumeProductUpdatedEvent(event, "product.updated", 0L);
 
         // Then
-        verify(productDetailService, times(1)).refreshCache(4L);
+        verify(refreshScheduler, times(1)).request(4L);
     }
 }
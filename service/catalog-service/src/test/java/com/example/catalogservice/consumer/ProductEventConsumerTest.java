@@ -3,19 +3,24 @@ package com.example.catalogservice.consumer;
 import com.example.catalogservice.consumer.event.ProductCreatedEvent;
 import com.example.catalogservice.consumer.event.ProductUpdatedEvent;
 import com.example.catalogservice.service.ProductSyncService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,8 +34,8 @@ class ProductEventConsumerTest {
     private ProductEventConsumer productEventConsumer;
 
     @Test
-    @DisplayName("상품 생성 이벤트 수신 - 성공")
-    void consumeProductCreatedEvent_Success() {
+    @DisplayName("상품 생성 이벤트 묶음 수신 - 성공")
+    void consumeProductCreatedEvents_Success() {
         // Given
         ProductCreatedEvent event = ProductCreatedEvent.builder()
                 .productId(1L)
@@ -45,72 +50,48 @@ class ProductEventConsumerTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        doNothing().when(productSyncService).indexProduct(any(ProductCreatedEvent.class));
+        when(productSyncService.indexProducts(anyList())).thenReturn(Map.of());
 
         // When
-        productEventConsumer.consumeProductCreatedEvent(event, "product.created", 0L);
+        productEventConsumer.consumeProductCreatedEvents(records("product.created", event));
 
         // Then
-        verify(productSyncService, times(1)).indexProduct(event);
+        verify(productSyncService, times(1)).indexProducts(List.of(event));
     }
 
     @Test
-    @DisplayName("상품 생성 이벤트 수신 - ProductSyncService 예외 발생 시 재전파")
-    void consumeProductCreatedEvent_ServiceExceptionRethrown() {
+    @DisplayName("상품 생성 이벤트 묶음 수신 - 실패한 상품의 첫 레코드 위치를 에러 핸들러에 알린다")
+    void consumeProductCreatedEvents_FailureReportsFirstFailedRecord() {
         // Given
-        ProductCreatedEvent event = ProductCreatedEvent.builder()
-                .productId(1L)
-                .productCode("P001")
-                .productName("테스트 상품")
-                .description("테스트 설명")
-                .basePrice(BigDecimal.valueOf(10000))
-                .salePrice(BigDecimal.valueOf(8000))
-                .status("ACTIVE")
-                .isDisplayed(true)
-                .categoryIds(List.of(1L, 2L, 3L))
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        RuntimeException expectedException = new RuntimeException("Elasticsearch indexing failed");
-        doThrow(expectedException).when(productSyncService).indexProduct(any(ProductCreatedEvent.class));
+        ProductCreatedEvent first = created(1L);
+        ProductCreatedEvent failed = created(2L);
+        ProductCreatedEvent failedAgain = created(2L);
+        RuntimeException failure = new IllegalStateException("Failed to index product: productId=2");
+        when(productSyncService.indexProducts(anyList())).thenReturn(Map.of(2L, failure));
 
         // When & Then
-        assertThatThrownBy(() -> productEventConsumer.consumeProductCreatedEvent(event, "product.created", 0L))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessage("Elasticsearch indexing failed");
-
-        verify(productSyncService, times(1)).indexProduct(event);
+        assertThatThrownBy(() -> productEventConsumer.consumeProductCreatedEvents(
+                records("product.created", first, failed, failedAgain)))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .hasCause(failure)
+                .satisfies(e -> assertThat(((BatchListenerFailedException) e).getIndex()).isEqualTo(1));
     }
 
     @Test
-    @DisplayName("상품 수정 이벤트 수신 - 성공")
-    void consumeProductUpdatedEvent_Success() {
+    @DisplayName("상품 생성 이벤트 묶음 수신 - ProductSyncService 예외 발생 시 재전파")
+    void consumeProductCreatedEvents_ServiceExceptionRethrown() {
         // Given
-        ProductUpdatedEvent event = ProductUpdatedEvent.builder()
-                .productId(1L)
-                .productCode("P001")
-                .productName("수정된 상품")
-                .description("수정된 설명")
-                .basePrice(BigDecimal.valueOf(15000))
-                .salePrice(BigDecimal.valueOf(12000))
-                .status("ON_SALE")
-                .isDisplayed(true)
-                .categoryIds(List.of(1L, 2L))
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-        doNothing().when(productSyncService).updateProduct(any(ProductUpdatedEvent.class));
+        RuntimeException expectedException = new RuntimeException("Catalog version update failed");
+        when(productSyncService.indexProducts(anyList())).thenThrow(expectedException);
 
-        // When
-        productEventConsumer.consumeProductUpdatedEvent(event, "product.updated", 0L);
-
-        // Then
-        verify(productSyncService, times(1)).updateProduct(event);
+        // When & Then
+        assertThatThrownBy(() -> productEventConsumer.consumeProductCreatedEvents(records("product.created", created(1L))))
+                .isSameAs(expectedException);
     }
 
     @Test
-    @DisplayName("상품 수정 이벤트 수신 - ProductSyncService 예외 발생 시 재전파")
-    void consumeProductUpdatedEvent_ServiceExceptionRethrown() {
+    @DisplayName("상품 수정 이벤트 묶음 수신 - 같은 상품의 이벤트도 순서대로 넘긴다")
+    void consumeProductUpdatedEvents_Success() {
         // Given
         ProductUpdatedEvent event = ProductUpdatedEvent.builder()
                 .productId(1L)
@@ -124,89 +105,33 @@ class ProductEventConsumerTest {
                 .categoryIds(List.of(1L, 2L))
                 .updatedAt(LocalDateTime.now())
                 .build();
-
-        RuntimeException expectedException = new RuntimeException("Elasticsearch update failed");
-        doThrow(expectedException).when(productSyncService).updateProduct(any(ProductUpdatedEvent.class));
-
-        // When & Then
-        assertThatThrownBy(() -> productEventConsumer.consumeProductUpdatedEvent(event, "product.updated", 0L))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessage("Elasticsearch update failed");
-
-        verify(productSyncService, times(1)).updateProduct(event);
-    }
-
-    @Test
-    @DisplayName("상품 생성 이벤트 - 최소 필드만 있는 경우")
-    void consumeProductCreatedEvent_MinimalFields() {
-        // Given
-        ProductCreatedEvent event = ProductCreatedEvent.builder()
-                .productId(1L)
-                .productCode("P001")
-                .productName("최소 필드 상품")
-                .status("ACTIVE")
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        doNothing().when(productSyncService).indexProduct(any(ProductCreatedEvent.class));
-
-        // When
-        productEventConsumer.consumeProductCreatedEvent(event, "product.created", 0L);
-
-        // Then
-        verify(productSyncService, times(1)).indexProduct(event);
-    }
-
-    @Test
-    @DisplayName("상품 수정 이벤트 - 카테고리가 비어있는 경우")
-    void consumeProductUpdatedEvent_EmptyCategoryIds() {
-        // Given
-        ProductUpdatedEvent event = ProductUpdatedEvent.builder()
+        ProductUpdatedEvent later = ProductUpdatedEvent.builder()
                 .productId(1L)
-                .productCode("P001")
-                .productName("카테고리 없는 상품")
-                .description("카테고리 제거됨")
-                .basePrice(BigDecimal.valueOf(10000))
-                .salePrice(BigDecimal.valueOf(8000))
-                .status("ACTIVE")
-                .isDisplayed(true)
+                .productName("다시 수정된 상품")
                 .categoryIds(List.of())
-                .updatedAt(LocalDateTime.now())
                 .build();
 
-        doNothing().when(productSyncService).updateProduct(any(ProductUpdatedEvent.class));
+        when(productSyncService.updateProducts(anyList())).thenReturn(Map.of());
 
         // When
-        productEventConsumer.consumeProductUpdatedEvent(event, "product.updated", 0L);
+        productEventConsumer.consumeProductUpdatedEvents(records("product.updated", event, later));
 
         // Then
-        verify(productSyncService, times(1)).updateProduct(event);
+        verify(productSyncService, times(1)).updateProducts(List.of(event, later));
     }
 
     @Test
-    @DisplayName("상품 생성 이벤트 - 판매가가 null인 경우")
-    void consumeProductCreatedEvent_NullSalePrice() {
+    @DisplayName("상품 수정 이벤트 묶음 수신 - 실패한 상품이 있으면 BatchListenerFailedException")
+    void consumeProductUpdatedEvents_Failure() {
         // Given
-        ProductCreatedEvent event = ProductCreatedEvent.builder()
-                .productId(1L)
-                .productCode("P001")
-                .productName("정상가 상품")
-                .description("할인 없음")
-                .basePrice(BigDecimal.valueOf(10000))
-                .salePrice(null)
-                .status("ACTIVE")
-                .isDisplayed(true)
-                .categoryIds(List.of(1L))
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        doNothing().when(productSyncService).indexProduct(any(ProductCreatedEvent.class));
+        ProductUpdatedEvent event = ProductUpdatedEvent.builder().productId(1L).productName("수정된 상품").build();
+        RuntimeException failure = new IllegalStateException("Elasticsearch update failed");
+        when(productSyncService.updateProducts(anyList())).thenReturn(Map.of(1L, failure));
 
-        // When
-        productEventConsumer.consumeProductCreatedEvent(event, "product.created", 0L);
-
-        // Then
-        verify(productSyncService, times(1)).indexProduct(event);
+        // When & Then
+        assertThatThrownBy(() -> productEventConsumer.consumeProductUpdatedEvents(records("product.updated", event)))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .hasMessageContaining("Elasticsearch update failed");
     }
 
     @Test
@@ -294,4 +219,21 @@ class ProductEventConsumerTest {
                 "Unknown error"
         );
     }
+
+    private static ProductCreatedEvent created(Long productId) {
+        return ProductCreatedEvent.builder()
+                .productId(productId)
+                .productName("상품" + productId)
+                .status("ACTIVE")
+                .build();
+    }
+
+    @SafeVarargs
+    private static <T> List<ConsumerRecord<String, T>> records(String topic, T... events) {
+        List<ConsumerRecord<String, T>> records = new ArrayList<>();
+        for (int i = 0; i < events.length; i++) {
+            records.add(new ConsumerRecord<>(topic, 0, i, "Product-" + i, events[i]));
+        }
+        return records;
+    }
 }
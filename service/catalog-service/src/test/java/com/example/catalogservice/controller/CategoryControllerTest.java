@@ -1,5 +1,6 @@
 package com.example.catalogservice.controller;
 
+import com.example.catalogservice.domain.CategoryIndex;
 import com.example.catalogservice.domain.CategoryTreeNode;
 import com.example.catalogservice.service.CategorySyncService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -11,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
@@ -19,10 +21,13 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -31,6 +36,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @DisplayName("CategoryController 단위 테스트")
 class CategoryControllerTest {
 
+    private static final long CATEGORY_VERSION = 7L;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -43,6 +50,7 @@ class CategoryControllerTest {
     @BeforeEach
     void setUp() {
         Mockito.reset(categorySyncService);
+        when(categorySyncService.getCategoryIndex()).thenReturn(CategoryIndex.of(CATEGORY_VERSION, List.of()));
     }
 
     @Configuration
@@ -85,7 +93,7 @@ class CategoryControllerTest {
                         .build()
         );
 
-        when(categorySyncService.getCategoryTree()).thenReturn(tree);
+        when(categorySyncService.getCategoryIndex()).thenReturn(CategoryIndex.of(CATEGORY_VERSION, tree));
 
         // When & Then
         mockMvc.perform(get("/api/catalog/categories/tree")
@@ -106,15 +114,47 @@ class CategoryControllerTest {
                 .andExpect(jsonPath("$[1].categoryName", is("의류")))
                 .andExpect(jsonPath("$[1].children", hasSize(0)));
 
-        verify(categorySyncService).getCategoryTree();
+        // 본문도 ETag를 만든 스냅샷에서 꺼내므로 Redis의 트리를 따로 읽지 않는다
+        verify(categorySyncService, never()).getCategoryTree();
+    }
+
+    @Test
+    @DisplayName("GET /api/catalog/categories/tree - 카테고리 버전을 ETag로, 캐시 허용 헤더와 함께 응답")
+    void getCategoryTree_EtagAndCacheControl() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/catalog/categories/tree"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"category-tree-7\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, public"));
+    }
+
+    @Test
+    @DisplayName("GET /api/catalog/categories/tree - If-None-Match가 현재 버전이면 본문 없이 304")
+    void getCategoryTree_NotModified() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/catalog/categories/tree")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"category-tree-7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"category-tree-7\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, public"));
+
+        verify(categorySyncService, never()).getCategoryTree();
+    }
+
+    @Test
+    @DisplayName("GET /api/catalog/categories/tree - 카테고리 버전이 바뀌었으면 새 트리와 새 ETag")
+    void getCategoryTree_VersionChanged() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/catalog/categories/tree")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"category-tree-6\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"category-tree-7\""));
     }
 
     @Test
     @DisplayName("GET /api/catalog/categories/tree - 빈 트리인 경우 200 OK와 빈 배열 반환")
     void getCategoryTree_EmptyTree() throws Exception {
-        // Given
-        when(categorySyncService.getCategoryTree()).thenReturn(List.of());
-
         // When & Then
         mockMvc.perform(get("/api/catalog/categories/tree")
                         .contentType(MediaType.APPLICATION_JSON))
@@ -122,7 +162,7 @@ class CategoryControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(0)));
 
-        verify(categorySyncService).getCategoryTree();
+        verify(categorySyncService, never()).getCategoryTree();
     }
 
     @Test
@@ -166,7 +206,7 @@ class CategoryControllerTest {
                         .build()
         );
 
-        when(categorySyncService.getCategoryTree()).thenReturn(tree);
+        when(categorySyncService.getCategoryIndex()).thenReturn(CategoryIndex.of(CATEGORY_VERSION, tree));
 
         // When & Then
         mockMvc.perform(get("/api/catalog/categories/tree")
@@ -189,7 +229,7 @@ class CategoryControllerTest {
                 .andExpect(jsonPath("$[0].children[0].children[1].categoryName", is("애플")))
                 .andExpect(jsonPath("$[0].children[0].children[1].depth", is(2)));
 
-        verify(categorySyncService).getCategoryTree();
+        verify(categorySyncService, never()).getCategoryTree();
     }
 
     @Test
@@ -223,7 +263,7 @@ class CategoryControllerTest {
                         .build()
         );
 
-        when(categorySyncService.getCategoryTree()).thenReturn(tree);
+        when(categorySyncService.getCategoryIndex()).thenReturn(CategoryIndex.of(CATEGORY_VERSION, tree));
 
         // When & Then
         mockMvc.perform(get("/api/catalog/categories/tree")
@@ -241,6 +281,6 @@ class CategoryControllerTest {
                 .andExpect(jsonPath("$[2].categoryName", is("식품")))
                 .andExpect(jsonPath("$[2].depth", is(0)));
 
-        verify(categorySyncService).getCategoryTree();
+        verify(categorySyncService, never()).getCategoryTree();
     }
 }
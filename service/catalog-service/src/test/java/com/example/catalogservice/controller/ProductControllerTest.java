@@ -2,9 +2,15 @@ package com.example.catalogservice.controller;
 
 import com.example.catalogservice.controller.dto.ProductDetailResponse;
 import com.example.catalogservice.controller.dto.ProductSearchRequest;
+import com.example.catalogservice.domain.CursorPage;
+import com.example.catalogservice.domain.ProductSearchResult;
+import com.example.catalogservice.domain.SearchFacets;
 import com.example.catalogservice.domain.document.ProductDocument;
+import com.example.catalogservice.service.BestSellerService;
 import com.example.catalogservice.service.ProductDetailService;
 import com.example.catalogservice.service.ProductSearchService;
+import com.example.catalogservice.service.ProductViewTracker;
+import com.example.catalogservice.service.SearchQueryRecorder;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,16 +19,21 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -38,6 +49,15 @@ class ProductControllerTest {
     @MockBean
     private ProductDetailService productDetailService;
 
+    @MockBean
+    private ProductViewTracker productViewTracker;
+
+    @MockBean
+    private BestSellerService bestSellerService;
+
+    @MockBean
+    private SearchQueryRecorder searchQueryRecorder;
+
     @Test
     @DisplayName("GET /api/catalog/products - 조건 없이 전체 조회")
     void getProducts_withoutConditions() throws Exception {
@@ -546,8 +566,8 @@ class ProductControllerTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        given(productDetailService.getProductDetail(productId))
-                .willReturn(response);
+        given(productDetailService.getCachedProductDetail(productId))
+                .willReturn(cached(response, "hash"));
 
         // when & then
         mockMvc.perform(get("/api/catalog/products/{productId}", productId))
@@ -582,7 +602,63 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.createdAt").exists())
                 .andExpect(jsonPath("$.updatedAt").exists());
 
-        verify(productDetailService).getProductDetail(productId);
+        verify(productDetailService).getCachedProductDetail(productId);
+    }
+
+    @Test
+    @DisplayName("GET /api/catalog/products/{productId} - 캐시에 저장된 본문 해시로 ETag, Cache-Control 응답 (Last-Modified는 보내지 않음)")
+    void getProductDetail_conditionalHeaders() throws Exception {
+        // given
+        given(productDetailService.getCachedProductDetail(1L)).willReturn(cached(detailWithStock(1L, 10), "hash-1"));
+
+        // when & then
+        mockMvc.perform(get("/api/catalog/products/{productId}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"product-1-hash-1\""))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, public"));
+
+        verify(productViewTracker).record(1L);
+    }
+
+    @Test
+    @DisplayName("GET /api/catalog/products/{productId} - If-None-Match가 저장된 해시와 같으면 본문 없이 304")
+    void getProductDetail_notModified() throws Exception {
+        // given
+        given(productDetailService.getCachedProductDetail(1L)).willReturn(cached(detailWithStock(1L, 10), "hash-1"));
+
+        // when & then
+        mockMvc.perform(get("/api/catalog/products/{productId}", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"product-1-hash-1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"product-1-hash-1\""));
+    }
+
+    @Test
+    @DisplayName("GET /api/catalog/products/{productId} - 저장된 해시가 바뀌었으면 새 본문과 새 ETag로 200")
+    void getProductDetail_hashChanged_modified() throws Exception {
+        // given
+        given(productDetailService.getCachedProductDetail(1L)).willReturn(cached(detailWithStock(1L, 9), "hash-2"));
+
+        // when & then
+        mockMvc.perform(get("/api/catalog/products/{productId}", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"product-1-hash-1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"product-1-hash-2\""))
+                .andExpect(jsonPath("$.skus[0].stockQty").value(9));
+    }
+
+    @Test
+    @DisplayName("GET /api/catalog/products/{productId} - 해시가 없으면 ETag 없이 200")
+    void getProductDetail_withoutHash_noEtag() throws Exception {
+        // given
+        given(productDetailService.getCachedProductDetail(1L)).willReturn(cached(detailWithStock(1L, 10), null));
+
+        // when & then
+        mockMvc.perform(get("/api/catalog/products/{productId}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
     }
 
     @Test
@@ -591,7 +667,7 @@ class ProductControllerTest {
         // given
         Long productId = 999L;
 
-        given(productDetailService.getProductDetail(productId))
+        given(productDetailService.getCachedProductDetail(productId))
                 .willReturn(null);
 
         // when & then
@@ -599,7 +675,8 @@ class ProductControllerTest {
                 .andDo(print())
                 .andExpect(status().isNotFound());
 
-        verify(productDetailService).getProductDetail(productId);
+        verify(productDetailService).getCachedProductDetail(productId);
+        verify(productViewTracker, never()).record(any());
     }
 
     @Test
@@ -628,8 +705,8 @@ class ProductControllerTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        given(productDetailService.getProductDetail(productId))
-                .willReturn(response);
+        given(productDetailService.getCachedProductDetail(productId))
+                .willReturn(cached(response, "hash"));
 
         // when & then
         mockMvc.perform(get("/api/catalog/products/{productId}", productId))
@@ -639,7 +716,185 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.productName").value("갤럭시 S24"))
                 .andExpect(jsonPath("$.skus").isEmpty());
 
-        verify(productDetailService).getProductDetail(productId);
+        verify(productDetailService).getCachedProductDetail(productId);
+    }
+
+    @Test
+    @DisplayName("GET /api/catalog/products/best-sellers - 카테고리 베스트셀러를 순위와 함께 반환")
+    void getBestSellers_byCategory() throws Exception {
+        // given
+        given(bestSellerService.getBestSellers(1L, 2)).willReturn(List.of(
+                new BestSellerService.BestSeller(10L, "맥북 프로", 30),
+                new BestSellerService.BestSeller(20L, "갤럭시 S24", 12)));
+
+        // when & then
+        mockMvc.perform(get("/api/catalog/products/best-sellers")
+                        .param("categoryId", "1")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].rank").value(1))
+                .andExpect(jsonPath("$[0].productId").value(10))
+                .andExpect(jsonPath("$[0].salesCount").value(30))
+                .andExpect(jsonPath("$[1].rank").value(2))
+                .andExpect(jsonPath("$[1].productName").value("갤럭시 S24"));
+    }
+
+    @Test
+    @DisplayName("GET /api/catalog/products/best-sellers - 최대 개수 초과 시 400")
+    void getBestSellers_tooLarge() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/catalog/products/best-sellers")
+                        .param("size", String.valueOf(BestSellerService.MAX_SIZE + 1)))
+                .andExpect(status().isBadRequest());
+
+        verify(bestSellerService, never()).getBestSellers(any(), eq(BestSellerService.MAX_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("GET /api/catalog/products/trending-keywords - 인기 검색어를 순위와 함께 반환")
+    void getTrendingKeywords() throws Exception {
+        // given
+        given(searchQueryRecorder.getTrendingKeywords(2)).willReturn(List.of(
+                new SearchQueryRecorder.TrendingKeyword("노트북", 120),
+                new SearchQueryRecorder.TrendingKeyword("갤럭시", 40)));
+
+        // when & then
+        mockMvc.perform(get("/api/catalog/products/trending-keywords")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].rank").value(1))
+                .andExpect(jsonPath("$[0].keyword").value("노트북"))
+                .andExpect(jsonPath("$[0].count").value(120))
+                .andExpect(jsonPath("$[1].rank").value(2))
+                .andExpect(jsonPath("$[1].keyword").value("갤럭시"));
+    }
+
+    private ProductDetailResponse detailWithStock(Long productId, int stockQty) {
+        return ProductDetailResponse.builder()
+                .productId(productId)
+                .productName("맥북 프로")
+                .basePrice(3300000L)
+                .status("ACTIVE")
+                .skus(List.of(ProductDetailResponse.SkuResponse.builder()
+                        .id(1L).skuCode("SKU-1").price(3300000L).stockQty(stockQty).status("ACTIVE").build()))
+                .updatedAt(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .build();
+    }
+
+    private ProductDetailService.CachedProductDetail cached(ProductDetailResponse detail, String contentHash) {
+        return new ProductDetailService.CachedProductDetail(detail, contentHash);
+    }
+
+    @Test
+    @DisplayName("GET /api/catalog/products/cards - 요청 순서대로 카드 반환, 없는 상품은 제외")
+    void getProductCards() throws Exception {
+        // given
+        ProductDetailResponse galaxy = ProductDetailResponse.builder()
+                .productId(2L)
+                .productName("갤럭시 S24")
+                .basePrice(1500000L)
+                .salePrice(1400000L)
+                .status("ACTIVE")
+                .images(List.of(
+                        ProductDetailResponse.ImageResponse.builder()
+                                .imageUrl("https://example.com/galaxy-back.jpg").isPrimary(false).displayOrder(1).build(),
+                        ProductDetailResponse.ImageResponse.builder()
+                                .imageUrl("https://example.com/galaxy.jpg").isPrimary(true).displayOrder(2).build()))
+                .build();
+        ProductDetailResponse macbook = ProductDetailResponse.builder()
+                .productId(1L)
+                .productName("맥북 프로")
+                .basePrice(3300000L)
+                .status("ACTIVE")
+                .build();
+        given(productDetailService.getProductDetails(List.of(2L, 999L, 1L)))
+                .willReturn(List.of(galaxy, macbook));
+
+        // when & then
+        mockMvc.perform(get("/api/catalog/products/cards").param("productIds", "2", "999", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].productId").value(2))
+                .andExpect(jsonPath("$[0].salePrice").value(1400000))
+                .andExpect(jsonPath("$[0].primaryImageUrl").value("https://example.com/galaxy.jpg"))
+                .andExpect(jsonPath("$[1].productId").value(1))
+                .andExpect(jsonPath("$[1].primaryImageUrl").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/catalog/products/cards - 최대 개수 초과 시 400")
+    void getProductCards_tooMany() throws Exception {
+        // given
+        String[] productIds = java.util.stream.LongStream.rangeClosed(1, 101).mapToObj(String::valueOf).toArray(String[]::new);
+
+        // when & then
+        mockMvc.perform(get("/api/catalog/products/cards").param("productIds", productIds))
+                .andExpect(status().isBadRequest());
+        verify(productDetailService, never()).getProductDetails(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/catalog/products?facets=true - 검색 결과와 패싯을 함께 반환")
+    void getProducts_withFacets() throws Exception {
+        // given
+        PageImpl<ProductDocument> page = new PageImpl<>(
+                List.of(createProduct("1", "갤럭시 S24", 1400000L)),
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")),
+                1
+        );
+        SearchFacets facets = SearchFacets.builder()
+                .categories(List.of(new SearchFacets.CategoryCount(2L, "스마트폰", 1L)))
+                .priceRanges(List.of(new SearchFacets.PriceBucket(1400000L, 1410000L, 1L)))
+                .statuses(List.of(new SearchFacets.StatusCount("ACTIVE", 1L)))
+                .build();
+
+        given(productSearchService.searchProductsWithFacets(any(ProductSearchRequest.class)))
+                .willReturn(new ProductSearchResult(page, facets));
+
+        // when & then
+        mockMvc.perform(get("/api/catalog/products")
+                        .param("categoryId", "1")
+                        .param("facets", "true"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.facets.categories[0].categoryName").value("스마트폰"))
+                .andExpect(jsonPath("$.facets.priceRanges[0].from").value(1400000))
+                .andExpect(jsonPath("$.facets.statuses[0].status").value("ACTIVE"));
+
+        verify(productSearchService).searchProductsWithFacets(any(ProductSearchRequest.class));
+    }
+
+    @Test
+    @DisplayName("GET /api/catalog/products/scroll - 커서로 이어서 조회")
+    void scrollProducts_withCursor() throws Exception {
+        // given
+        CursorPage<ProductDocument> page = new CursorPage<>(
+                List.of(createProduct("3", "아이폰 15", 1250000L)),
+                "next-cursor"
+        );
+
+        given(productSearchService.searchProductsAfter(any(ProductSearchRequest.class), eq("cursor-1"), eq(true)))
+                .willReturn(page);
+
+        // when & then
+        mockMvc.perform(get("/api/catalog/products/scroll")
+                        .param("categoryId", "1")
+                        .param("size", "1")
+                        .param("cursor", "cursor-1")
+                        .param("pit", "true"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].productId").value("3"))
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        verify(productSearchService).searchProductsAfter(any(ProductSearchRequest.class), eq("cursor-1"), eq(true));
     }
 
     private ProductDocument createProduct(String id, String name, Long salePrice) {
@@ -1,6 +1,7 @@
 package com.example.catalogservice.controller;
 
 import com.example.catalogservice.service.ProductSyncService;
+import com.example.catalogservice.service.ProductSyncService.DeltaSyncResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
+
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -148,4 +151,20 @@ class ProductSyncControllerTest {
 
         verify(productSyncService, never()).fullSync();
     }
+
+    @Test
+    @DisplayName("POST /api/internal/sync/delta - 반영 건수와 워터마크 응답")
+    void deltaSync_Success() throws Exception {
+        // Given
+        when(productSyncService.deltaSync()).thenReturn(
+                new DeltaSyncResult(false, 12, 3, LocalDateTime.of(2024, 1, 1, 10, 30)));
+
+        // When & Then
+        mockMvc.perform(post("/api/internal/sync/delta"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.skipped", is(false)))
+                .andExpect(jsonPath("$.upserted", is(12)))
+                .andExpect(jsonPath("$.deleted", is(3)))
+                .andExpect(jsonPath("$.watermark", is("2024-01-01T10:30:00")));
+    }
 }
@@ -0,0 +1,62 @@
+package com.example.catalogservice.controller;
+
+import com.example.catalogservice.service.SearchQueryRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(SearchKeywordController.class)
+@ContextConfiguration(classes = {SearchKeywordController.class, SearchKeywordControllerTest.TestConfig.class})
+@DisplayName("SearchKeywordController 통합 테스트")
+class SearchKeywordControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SearchQueryRecorder searchQueryRecorder;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.reset(searchQueryRecorder);
+    }
+
+    @Configuration
+    static class TestConfig {
+        @Bean
+        public SearchQueryRecorder searchQueryRecorder() {
+            return Mockito.mock(SearchQueryRecorder.class);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/internal/search-keywords/zero-result - 결과 없는 검색어 반환, 최대 개수 초과 시 400")
+    void getZeroResultKeywords() throws Exception {
+        // given
+        given(searchQueryRecorder.getZeroResultKeywords(10)).willReturn(List.of(
+                new SearchQueryRecorder.TrendingKeyword("갤럭시 s99", 30)));
+
+        // when & then
+        mockMvc.perform(get("/api/internal/search-keywords/zero-result"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].rank").value(1))
+                .andExpect(jsonPath("$[0].keyword").value("갤럭시 s99"));
+        mockMvc.perform(get("/api/internal/search-keywords/zero-result")
+                        .param("size", String.valueOf(SearchQueryRecorder.MAX_SIZE + 1)))
+                .andExpect(status().isBadRequest());
+    }
+}
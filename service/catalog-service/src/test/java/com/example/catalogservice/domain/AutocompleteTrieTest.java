@@ -0,0 +1,196 @@
+package com.example.catalogservice.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class AutocompleteTrieTest {
+
+    @Test
+    @DisplayName("접두어 조회 - 단어 시작 위치마다 찾고 가중치 높은 순으로 반환")
+    void suggest_RankedByWeight() {
+        // given
+        AutocompleteTrie trie = new AutocompleteTrie(10);
+        trie.add("삼성 노트북", 1);
+        trie.add("노트북 파우치", 3);
+        trie.add("노트", 2);
+        trie.add("마우스", 5);
+
+        // then
+        assertThat(texts(trie.suggest("노트", 10))).containsExactly("노트북 파우치", "노트", "삼성 노트북");
+        assertThat(texts(trie.suggest("노트북", 10))).containsExactly("노트북 파우치", "삼성 노트북");
+        assertThat(texts(trie.suggest("  삼성  노", 10))).containsExactly("삼성 노트북");
+        assertThat(trie.suggest("키보드", 10)).isEmpty();
+        assertThat(trie.suggest("", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대소문자/공백이 달라도 같은 추천어로 합치고 처음 등록된 표기를 유지")
+    void add_NormalizesKey() {
+        // given
+        AutocompleteTrie trie = new AutocompleteTrie(10);
+        trie.add("Apple Watch", 1);
+        trie.add("  apple   WATCH ", 1);
+
+        // then
+        assertThat(trie.size()).isEqualTo(1);
+        assertThat(trie.get("apple watch").weight()).isEqualTo(2);
+        assertThat(texts(trie.suggest("WAT", 10))).containsExactly("Apple Watch");
+    }
+
+    @Test
+    @DisplayName("가중치 변경 - 상위 K개가 경로를 따라 다시 계산되고, 0이 되면 제거")
+    void add_UpdatesTopKAlongPath() {
+        // given - 상위 2개만 유지
+        AutocompleteTrie trie = new AutocompleteTrie(2);
+        trie.add("갤럭시 s24", 3);
+        trie.add("갤럭시 탭", 2);
+        trie.add("갤럭시 버즈", 1);
+        assertThat(texts(trie.suggest("갤", 5))).containsExactly("갤럭시 s24", "갤럭시 탭");
+
+        // when - 인기도 역전과 제거
+        trie.add("갤럭시 버즈", 4);
+        trie.add("갤럭시 s24", -3);
+
+        // then - 상위 목록 밖에 있던 추천어도 다시 올라온다
+        assertThat(texts(trie.suggest("갤", 5))).containsExactly("갤럭시 버즈", "갤럭시 탭");
+        assertThat(texts(trie.suggest("s2", 5))).isEmpty();
+        assertThat(trie.get("갤럭시 s24")).isNull();
+        assertThat(trie.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("가중치 보정 - 있는 추천어에만 더하고, 나중에 생긴 추천어에도 더하며, 보정값만으로 추천어를 남기지 않는다")
+    void setBoosts_OnlyExistingSuggestions() {
+        // given
+        AutocompleteTrie trie = new AutocompleteTrie(10);
+        trie.add("삼성 노트북", 1);
+        trie.add("lg 노트북", 2);
+
+        // when
+        trie.setBoosts(Map.of("삼성 노트북", 3L, "노트북 파우치", 5L));
+
+        // then - 없는 검색어로 추천어를 만들지 않는다
+        assertThat(texts(trie.suggest("노트", 10))).containsExactly("삼성 노트북", "lg 노트북");
+        assertThat(trie.get("노트북 파우치")).isNull();
+
+        // when - 보정 대상 추천어가 생기고, 원래 가중치가 0이 된다
+        trie.add("노트북 파우치", 1);
+        trie.add("삼성 노트북", -1);
+
+        // then
+        assertThat(trie.get("노트북 파우치").weight()).isEqualTo(6);
+        assertThat(trie.get("삼성 노트북")).isNull();
+
+        // when - 보정값을 바꾼다
+        trie.setBoosts(Map.of("lg 노트북", 1L));
+
+        // then
+        assertThat(trie.get("노트북 파우치").weight()).isEqualTo(1);
+        assertThat(trie.get("lg 노트북").weight()).isEqualTo(3);
+        trie.add("삼성 노트북", 1);
+        assertThat(trie.get("삼성 노트북").weight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 개수 제한과 색인 길이를 넘는 접두어")
+    void suggest_LimitAndLongPrefix() {
+        // given
+        AutocompleteTrie trie = new AutocompleteTrie(10);
+        trie.add("아이폰 15", 3);
+        trie.add("아이폰 15 프로", 2);
+        trie.add("아이폰 케이스", 1);
+
+        // then
+        assertThat(texts(trie.suggest("아이", 2))).containsExactly("아이폰 15", "아이폰 15 프로");
+        assertThat(trie.suggest("가".repeat(AutocompleteTrie.MAX_KEY_LENGTH + 1), 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 적재 - 끝날 때 한 번에 계산한 상위 K개가 하나씩 추가한 결과와 같고, 이후 변경도 같게 반영")
+    void bulkLoad_MatchesIncremental() {
+        // given - 접두어를 많이 공유하도록 작은 음절 집합으로 만든 추천어
+        Random random = new Random(42);
+        String syllables = "가나다라마";
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder text = new StringBuilder();
+            int length = 1 + random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                text.append(j > 0 && random.nextInt(4) == 0 ? " " : "").append(syllables.charAt(random.nextInt(5)));
+            }
+            texts.add(text.toString());
+        }
+        AutocompleteTrie incremental = new AutocompleteTrie(5);
+        AutocompleteTrie bulk = new AutocompleteTrie(5);
+
+        // when
+        bulk.beginBulkLoad();
+        for (String text : texts) {
+            long delta = random.nextInt(5) - 1;
+            incremental.add(text, delta);
+            bulk.add(text, delta);
+        }
+        bulk.finishBulkLoad();
+
+        // then
+        assertSameSuggestions(bulk, incremental, syllables);
+
+        // when - 적재 후 변경 (가중치 감소로 상위 목록에서 빠지는 경우 포함)
+        for (int i = 0; i < 500; i++) {
+            String text = texts.get(random.nextInt(texts.size()));
+            long delta = random.nextInt(7) - 3;
+            incremental.add(text, delta);
+            bulk.add(text, delta);
+        }
+
+        // then
+        assertSameSuggestions(bulk, incremental, syllables);
+    }
+
+    @Test
+    @DisplayName("전체 적재는 추천어 수에 비례하는 시간에 끝난다 (추천어마다 루트까지 다시 계산하면 수 분이 걸리는 규모)")
+    void bulkLoad_Scales() {
+        // given
+        Random random = new Random(7);
+        AutocompleteTrie trie = new AutocompleteTrie(10);
+
+        // when & then
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            trie.beginBulkLoad();
+            for (int i = 0; i < 50_000; i++) {
+                trie.add((char) ('가' + random.nextInt(2000)) + " 상품 " + i, 1 + random.nextInt(100));
+            }
+            trie.finishBulkLoad();
+        });
+        assertThat(trie.size()).isEqualTo(50_000);
+        assertThat(trie.suggest("상품", 10)).hasSize(10);
+    }
+
+    private void assertSameSuggestions(AutocompleteTrie actual, AutocompleteTrie expected, String syllables) {
+        assertThat(actual.size()).isEqualTo(expected.size());
+        List<String> prefixes = new ArrayList<>();
+        for (char first : syllables.toCharArray()) {
+            prefixes.add(String.valueOf(first));
+            for (char second : syllables.toCharArray()) {
+                prefixes.add("" + first + second);
+                prefixes.add(first + " " + second);
+            }
+        }
+        for (String prefix : prefixes) {
+            assertThat(actual.suggest(prefix, 5)).as(prefix).isEqualTo(expected.suggest(prefix, 5));
+        }
+    }
+
+    private List<String> texts(List<AutocompleteTrie.Suggestion> suggestions) {
+        return suggestions.stream().map(AutocompleteTrie.Suggestion::text).toList();
+    }
+}
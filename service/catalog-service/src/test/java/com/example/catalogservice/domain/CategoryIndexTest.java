@@ -0,0 +1,131 @@
+package com.example.catalogservice.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryIndexTest {
+
+    @Test
+    @DisplayName("트리로 스냅샷 생성 - 노드, 하위 카테고리, 조상 경로를 미리 계산")
+    void of_precomputesDescendantsAndAncestors() {
+        // given - 전자제품(1) > 스마트폰(2) > 삼성(4), 애플(5)
+        //                     > 노트북(3)
+        //         의류(10)
+        List<CategoryTreeNode> tree = List.of(
+                node(1L, null,
+                        node(2L, 1L, node(4L, 2L), node(5L, 2L)),
+                        node(3L, 1L)),
+                node(10L, null));
+
+        // when
+        CategoryIndex index = CategoryIndex.of(7L, tree);
+
+        // then
+        assertThat(index.getVersion()).isEqualTo(7L);
+        assertThat(index.size()).isEqualTo(6);
+        assertThat(index.getNode(5L).getParentId()).isEqualTo(2L);
+
+        assertThat(index.getDescendantIds(1L)).containsExactly(1L, 2L, 4L, 5L, 3L);
+        assertThat(index.getDescendantIds(2L)).containsExactly(2L, 4L, 5L);
+        assertThat(index.getDescendantIds(3L)).containsExactly(3L);
+        assertThat(index.getDescendantIds(10L)).containsExactly(10L);
+
+        assertThat(index.getAncestorPath(1L)).containsExactly(1L);
+        assertThat(index.getAncestorPath(5L)).containsExactly(1L, 2L, 5L);
+        assertThat(index.getAncestorPath(10L)).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("직계 하위 카테고리 - null이면 루트, 리프나 없는 카테고리는 빈 목록")
+    void getChildIds() {
+        // given - 전자제품(1) > 스마트폰(2), 노트북(3) / 의류(10)
+        CategoryIndex index = CategoryIndex.of(1L, List.of(
+                node(1L, null, node(2L, 1L), node(3L, 1L)),
+                node(10L, null)));
+
+        // then
+        assertThat(index.getChildIds(null)).containsExactly(1L, 10L);
+        assertThat(index.getChildIds(1L)).containsExactly(2L, 3L);
+        assertThat(index.getChildIds(2L)).isEmpty();
+        assertThat(index.getChildIds(999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("계층 트리 - 스냅샷을 만든 루트 노드를 표시 순서대로 반환")
+    void getTree_returnsRootsInOrder() {
+        // given
+        List<CategoryTreeNode> tree = List.of(
+                node(10L, null),
+                node(1L, null, node(2L, 1L)));
+
+        // when
+        CategoryIndex index = CategoryIndex.of(1L, tree);
+
+        // then
+        assertThat(index.getTree()).containsExactlyElementsOf(tree);
+        assertThat(CategoryIndex.EMPTY.getTree()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 카테고리는 null 반환")
+    void unknownCategory_returnsNull() {
+        // given
+        CategoryIndex index = CategoryIndex.of(1L, List.of(node(1L, null)));
+
+        // then
+        assertThat(index.getNode(999L)).isNull();
+        assertThat(index.getDescendantIds(999L)).isNull();
+        assertThat(index.getAncestorPath(999L)).isNull();
+    }
+
+    @Test
+    @DisplayName("상품 카테고리 경로 - 각 카테고리의 조상 경로 합집합, 트리에 없는 카테고리는 자기 자신만")
+    void getCategoryPath_unionOfAncestorPaths() {
+        // given - 전자제품(1) > 스마트폰(2) > 삼성(4), 전자제품(1) > 노트북(3)
+        CategoryIndex index = CategoryIndex.of(1L, List.of(
+                node(1L, null, node(2L, 1L, node(4L, 2L)), node(3L, 1L))));
+
+        // then
+        assertThat(index.getCategoryPath(List.of(4L, 3L, 99L))).containsExactly(1L, 2L, 4L, 3L, 99L);
+        assertThat(index.getCategoryPath(List.of())).isEmpty();
+        assertThat(index.getCategoryPath(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이동된 카테고리 탐지 - 조상 경로가 바뀐 카테고리만 반환")
+    void findMovedCategories() {
+        // given - 스마트폰(2)을 전자제품(1)에서 가전(3) 아래로 이동, 삼성(4)은 스마트폰과 함께 이동
+        CategoryIndex before = CategoryIndex.of(1L, List.of(
+                node(1L, null, node(2L, 1L, node(4L, 2L))),
+                node(3L, null)));
+        CategoryIndex after = CategoryIndex.of(2L, List.of(
+                node(1L, null),
+                node(3L, null, node(2L, 3L, node(4L, 2L))),
+                node(5L, null)));
+
+        // then - 새로 생긴 카테고리(5)는 이동이 아니다
+        assertThat(before.findMovedCategories(after)).containsExactlyInAnyOrder(2L, 4L);
+        assertThat(after.findMovedCategories(after)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("빈 트리 또는 null 트리는 빈 스냅샷")
+    void emptyTree() {
+        assertThat(CategoryIndex.of(1L, List.of()).isEmpty()).isTrue();
+        assertThat(CategoryIndex.of(1L, null).isEmpty()).isTrue();
+        assertThat(CategoryIndex.EMPTY.isEmpty()).isTrue();
+    }
+
+    private CategoryTreeNode node(Long categoryId, Long parentId, CategoryTreeNode... children) {
+        return CategoryTreeNode.builder()
+                .categoryId(categoryId)
+                .parentId(parentId)
+                .categoryName("카테고리" + categoryId)
+                .children(children.length > 0 ? List.of(children) : null)
+                .build();
+    }
+}
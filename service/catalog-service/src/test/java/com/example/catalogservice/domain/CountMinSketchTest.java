@@ -0,0 +1,49 @@
+package com.example.catalogservice.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CountMinSketchTest {
+
+    @Test
+    @DisplayName("추정값은 실제 값 이상이고, 충돌이 적으면 정확하며, 음수는 0으로 본다")
+    void estimate_neverUnderestimates() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+        for (long key = 1; key <= 100; key++) {
+            sketch.add(key, key);
+        }
+        sketch.add(500L, -3);
+
+        // then
+        for (long key = 1; key <= 100; key++) {
+            assertThat(sketch.estimate(key)).isGreaterThanOrEqualTo(key);
+        }
+        assertThat(sketch.estimate(42L)).isEqualTo(42L);
+        assertThat(sketch.estimate(500L)).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 크기의 스케치를 더하고 뺄 수 있고, 칸 값으로 복원된다")
+    void merge_andRestore() {
+        // given
+        CountMinSketch first = new CountMinSketch(64, 2);
+        CountMinSketch second = new CountMinSketch(64, 2);
+        first.add(1L, 5);
+        second.add(1L, 3);
+
+        // when
+        first.merge(second, 1);
+        CountMinSketch restored = CountMinSketch.of(64, 2, first.counts());
+        restored.merge(second, -1);
+
+        // then
+        assertThat(first.estimate(1L)).isEqualTo(8);
+        assertThat(restored.estimate(1L)).isEqualTo(5);
+        assertThatThrownBy(() -> first.merge(new CountMinSketch(32, 2), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
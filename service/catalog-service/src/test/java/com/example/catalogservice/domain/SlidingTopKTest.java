@@ -0,0 +1,109 @@
+package com.example.catalogservice.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SlidingTopKTest {
+
+    private static final long HOUR = 3_600_000L;
+    private static final long START = 100 * HOUR;
+
+    @Test
+    @DisplayName("빈도 상위 K개만 후보로 유지 - 더 큰 키가 들어오면 최솟값을 밀어낸다")
+    void top_keepsHeavyHitters() {
+        // given
+        SlidingTopK<Long> topK = newTopK(3);
+        topK.add(1L, 10, START);
+        topK.add(2L, 5, START);
+        topK.add(3L, 1, START);
+
+        // when
+        topK.add(4L, 7, START);
+        topK.add(5L, 1, START);
+
+        // then
+        assertThat(topK.top(10, START)).containsExactly(
+                new SlidingTopK.Entry<>(1L, 10), new SlidingTopK.Entry<>(4L, 7), new SlidingTopK.Entry<>(2L, 5));
+    }
+
+    @Test
+    @DisplayName("음수 delta(취소)로 빈도가 줄면 순위가 바뀌고, 0이 되면 후보에서 빠진다")
+    void add_negativeDelta_reordersAndRemoves() {
+        // given
+        SlidingTopK<Long> topK = newTopK(10);
+        topK.add(1L, 3, START);
+        topK.add(2L, 2, START);
+
+        // when
+        topK.add(1L, -2, START);
+        topK.add(2L, -2, START);
+
+        // then
+        assertThat(topK.top(10, START)).containsExactly(new SlidingTopK.Entry<>(1L, 1));
+    }
+
+    @Test
+    @DisplayName("이벤트 시각의 버킷에 더하고, 윈도우를 벗어난 시각이면 반영하지 않는다")
+    void add_eventTime_usesEventBucket() {
+        // given - 버킷 1시간 x 3개 = 3시간 윈도우
+        SlidingTopK<Long> topK = newTopK(10);
+        topK.add(1L, 3, START);
+        topK.add(1L, 2, START + 2 * HOUR);
+
+        // when - 첫 버킷의 주문 취소, 윈도우 밖 취소
+        assertThat(topK.add(1L, -3, START, START + 2 * HOUR)).isTrue();
+        assertThat(topK.add(1L, -2, START - HOUR, START + 2 * HOUR)).isFalse();
+
+        // then - 첫 버킷이 빠져도 남은 빈도는 그대로다
+        assertThat(topK.estimate(1L, START + 2 * HOUR)).isEqualTo(2);
+        assertThat(topK.estimate(1L, START + 3 * HOUR)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 버킷의 빈도는 빠진다")
+    void top_expiresOldBuckets() {
+        // given - 버킷 1시간 x 3개 = 3시간 윈도우
+        SlidingTopK<Long> topK = newTopK(10);
+        topK.add(1L, 5, START);
+        topK.add(2L, 3, START + HOUR);
+        topK.add(1L, 1, START + 2 * HOUR);
+
+        // when & then - 첫 버킷이 빠지면 1번 상품은 1만 남는다
+        assertThat(topK.top(10, START + 2 * HOUR)).containsExactly(
+                new SlidingTopK.Entry<>(1L, 6), new SlidingTopK.Entry<>(2L, 3));
+        assertThat(topK.top(10, START + 3 * HOUR)).containsExactly(
+                new SlidingTopK.Entry<>(2L, 3), new SlidingTopK.Entry<>(1L, 1));
+        assertThat(topK.estimate(1L, START + 10 * HOUR)).isZero();
+        assertThat(topK.top(10, START + 10 * HOUR)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("체크포인트로 복원하면 같은 순위를 갖고, 그 사이 지난 버킷은 빠진다")
+    void snapshot_restore() {
+        // given
+        SlidingTopK<Long> original = newTopK(10);
+        original.add(1L, 5, START);
+        original.add(2L, 3, START + HOUR);
+        SlidingTopK.Snapshot<Long> snapshot = original.snapshot();
+
+        // when
+        SlidingTopK<Long> restored = newTopK(10);
+        restored.restore(snapshot, START + HOUR);
+        SlidingTopK<Long> restoredLater = newTopK(10);
+        restoredLater.restore(snapshot, START + 3 * HOUR);
+
+        // then
+        assertThat(restored.top(10, START + HOUR)).containsExactly(
+                new SlidingTopK.Entry<>(1L, 5), new SlidingTopK.Entry<>(2L, 3));
+        assertThat(restoredLater.top(10, START + 3 * HOUR)).containsExactly(new SlidingTopK.Entry<>(2L, 3));
+        assertThatThrownBy(() -> new SlidingTopK<Long>(HOUR, 2, 256, 4, 10, Long::longValue).restore(snapshot, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private SlidingTopK<Long> newTopK(int capacity) {
+        return new SlidingTopK<>(HOUR, 3, 256, 4, capacity, Long::longValue);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.catalogservice.infrastructure.redis;
+
+import com.example.catalogservice.controller.dto.ProductDetailResponse;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 상품 상세 캐시 값의 형식별 크기와 직렬화/역직렬화 시간 비교
+ *
+ * 일반 테스트 실행에서는 건너뛴다. 실행:
+ *   CATALOG_BENCHMARK=true ./gradlew test --tests '*CatalogRedisSerializerBenchmark'
+ * CATALOG_BENCHMARK_PAYLOADS에 product-service 상세 응답 JSON 파일(*.json) 디렉터리를 지정하면 실제 응답으로 측정하고,
+ * 없으면 옵션/SKU 수가 다른 예시 상품으로 측정한다.
+ */
+@EnabledIfEnvironmentVariable(named = "CATALOG_BENCHMARK", matches = "true")
+class CatalogRedisSerializerBenchmark {
+
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURE_ROUNDS = 10_000;
+
+    /**
+     * 측정 결과를 모아 두는 곳 - 결과를 쓰지 않는 직렬화 호출을 JIT가 없애지 못하게 한다
+     */
+    static volatile long sink;
+
+    @Test
+    @DisplayName("상품 상세 - JSON / 바이너리 / 바이너리+압축")
+    void productDetail() throws IOException {
+        List<ProductDetailResponse> payloads = loadPayloads();
+
+        List<Result> results = List.of(
+                measure("json (legacy)", new CatalogRedisSerializer(
+                        CatalogRedisSerializer.Format.JSON, Integer.MAX_VALUE, new SimpleMeterRegistry()), payloads),
+                measure("binary", new CatalogRedisSerializer(
+                        CatalogRedisSerializer.Format.BINARY, Integer.MAX_VALUE, new SimpleMeterRegistry()), payloads),
+                measure("binary+deflate", new CatalogRedisSerializer(
+                        CatalogRedisSerializer.Format.BINARY, 1024, new SimpleMeterRegistry()), payloads));
+
+        System.out.printf("%nproduct detail payloads: %d%n", payloads.size());
+        System.out.printf("%-16s %12s %14s %14s%n", "format", "avg bytes", "serialize ns", "deserialize ns");
+        results.forEach(result -> System.out.printf("%-16s %12d %14d %14d%n",
+                result.format(), result.averageBytes(), result.serializeNanos(), result.deserializeNanos()));
+    }
+
+    private static Result measure(String format, CatalogRedisSerializer serializer, List<ProductDetailResponse> payloads) {
+        List<byte[]> encoded = new ArrayList<>();
+        for (ProductDetailResponse payload : payloads) {
+            encoded.add(serializer.serialize(payload));
+        }
+
+        long consumed = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            int index = i % payloads.size();
+            consumed += serializer.serialize(payloads.get(index)).length;
+            consumed += serializer.deserialize(encoded.get(index)).hashCode();
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            consumed += serializer.serialize(payloads.get(i % payloads.size())).length;
+        }
+        long serializeNanos = (System.nanoTime() - startedAt) / MEASURE_ROUNDS;
+
+        startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            consumed += serializer.deserialize(encoded.get(i % encoded.size())).hashCode();
+        }
+        long deserializeNanos = (System.nanoTime() - startedAt) / MEASURE_ROUNDS;
+
+        sink += consumed;
+        long averageBytes = (long) encoded.stream().mapToInt(bytes -> bytes.length).average().orElse(0);
+        return new Result(format, averageBytes, serializeNanos, deserializeNanos);
+    }
+
+    private static List<ProductDetailResponse> loadPayloads() throws IOException {
+        String directory = System.getenv("CATALOG_BENCHMARK_PAYLOADS");
+        if (directory == null || directory.isBlank()) {
+            return List.of(
+                    CatalogRedisSerializerTest.productDetail(1, 3, 3, 3),
+                    CatalogRedisSerializerTest.productDetail(2, 4, 12, 6),
+                    CatalogRedisSerializerTest.productDetail(3, 5, 40, 10));
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        List<ProductDetailResponse> payloads = new ArrayList<>();
+        try (Stream<Path> files = Files.list(Path.of(directory))) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".json")).sorted().toList()) {
+                payloads.add(objectMapper.readValue(file.toFile(), ProductDetailResponse.class));
+            }
+        }
+        if (payloads.isEmpty()) {
+            throw new IllegalStateException("No *.json payloads in " + directory);
+        }
+        return payloads;
+    }
+
+    private record Result(String format, long averageBytes, long serializeNanos, long deserializeNanos) {
+    }
+}
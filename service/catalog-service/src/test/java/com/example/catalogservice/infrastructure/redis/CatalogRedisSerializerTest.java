@@ -0,0 +1,270 @@
+package com.example.catalogservice.infrastructure.redis;
+
+import com.example.catalogservice.controller.dto.ProductDetailResponse;
+import com.example.catalogservice.domain.BestSellerCheckpoint;
+import com.example.catalogservice.domain.CategoryCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogRedisSerializerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CatalogRedisSerializer serializer =
+            new CatalogRedisSerializer(CatalogRedisSerializer.Format.BINARY, 1024, meterRegistry);
+    private final CatalogRedisSerializer jsonSerializer =
+            new CatalogRedisSerializer(CatalogRedisSerializer.Format.JSON, 1024, new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("상품 상세 - 바이너리로 저장 후 모든 필드 복원")
+    void productDetail_RoundTrip() {
+        // Given
+        ProductDetailResponse detail = productDetail(3, 4, 12, 6);
+
+        // When
+        byte[] bytes = serializer.serialize(detail);
+        Object restored = serializer.deserialize(bytes);
+
+        // Then
+        assertThat(bytes[0]).isEqualTo(CompactBinaryCodec.MAGIC);
+        assertThat(restored).isInstanceOf(ProductDetailResponse.class)
+                .usingRecursiveComparison()
+                .isEqualTo(detail);
+    }
+
+    @Test
+    @DisplayName("베스트셀러 체크포인트 - 스케치 칸 배열을 압축해 저장 후 복원")
+    void bestSellerCheckpoint_RoundTrip() {
+        // Given - 대부분 0인 스케치 칸
+        long[] counts = new long[2048 * 4];
+        counts[7] = 12;
+        counts[4000] = -3;
+        BestSellerCheckpoint checkpoint = BestSellerCheckpoint.builder()
+                .bucketMillis(3_600_000L)
+                .sketchWidth(2048)
+                .sketchDepth(4)
+                .currentBucket(490_000L)
+                .buckets(List.of(counts, new long[2048 * 4]))
+                .candidates(List.of(10L, 20L))
+                .build();
+
+        // When
+        byte[] bytes = serializer.serialize(checkpoint);
+        Object restored = serializer.deserialize(bytes);
+
+        // Then
+        assertThat(bytes.length).isLessThan(2048);
+        assertThat(restored).isInstanceOf(BestSellerCheckpoint.class)
+                .usingRecursiveComparison()
+                .isEqualTo(checkpoint);
+    }
+
+    @Test
+    @DisplayName("상품 상세 - 클래스 이름과 필드 이름이 빠져 기존 JSON보다 작음")
+    void productDetail_SmallerThanJson() {
+        // Given
+        ProductDetailResponse detail = productDetail(3, 4, 12, 6);
+
+        // When
+        byte[] binary = serializer.serialize(detail);
+        byte[] json = jsonSerializer.serialize(detail);
+
+        // Then
+        assertThat(new String(json, StandardCharsets.UTF_8)).contains(ProductDetailResponse.class.getName());
+        assertThat(new String(binary, StandardCharsets.UTF_8)).doesNotContain("ProductDetailResponse", "optionGroupName");
+        assertThat(binary.length).isLessThan(json.length / 2);
+    }
+
+    @Test
+    @DisplayName("큰 값은 압축하고, 작은 값은 압축하지 않음")
+    void compression_AppliedAboveThreshold() {
+        // Given
+        CategoryCache small = category(1L);
+        ProductDetailResponse large = productDetail(3, 5, 40, 10);
+        CatalogRedisSerializer uncompressed =
+                new CatalogRedisSerializer(CatalogRedisSerializer.Format.BINARY, Integer.MAX_VALUE, new SimpleMeterRegistry());
+
+        // When
+        byte[] smallBytes = serializer.serialize(small);
+        byte[] largeBytes = serializer.serialize(large);
+        byte[] largeUncompressed = uncompressed.serialize(large);
+
+        // Then - flags 바이트의 압축 표시
+        assertThat(smallBytes[1] & 1).isZero();
+        assertThat(largeBytes[1] & 1).isEqualTo(1);
+        assertThat(largeBytes.length).isLessThan(largeUncompressed.length);
+        assertThat(serializer.deserialize(largeBytes)).usingRecursiveComparison().isEqualTo(large);
+    }
+
+    @Test
+    @DisplayName("기존 JSON 형식으로 저장된 값도 읽음 (전환 기간)")
+    void deserialize_ReadsLegacyJson() {
+        // Given - 바이너리 도입 전 형식으로 저장된 값
+        CategoryCache category = category(7L);
+        byte[] legacy = jsonSerializer.serialize(category);
+
+        // When
+        Object restored = serializer.deserialize(legacy);
+
+        // Then
+        assertThat(restored).usingRecursiveComparison().isEqualTo(category);
+        assertThat(meterRegistry.get("catalog.redis.codec.reads").tag("format", "json").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JSON 쓰기 형식이어도 바이너리 값을 읽음 (순차 배포 중 혼재)")
+    void jsonFormat_ReadsBinary() {
+        // Given
+        CategoryCache category = category(7L);
+
+        // When
+        Object restored = jsonSerializer.deserialize(serializer.serialize(category));
+
+        // Then
+        assertThat(restored).usingRecursiveComparison().isEqualTo(category);
+        assertThat(jsonSerializer.serialize(category)[0]).isEqualTo((byte) '{');
+    }
+
+    @Test
+    @DisplayName("문자열은 JSON 이스케이프 없이 UTF-8 그대로 저장")
+    void string_StoredAsRawUtf8() {
+        // Given - index:all처럼 JSON 문자열을 값으로 저장하는 경우
+        String json = "[{\"categoryId\":1,\"categoryName\":\"전자제품\"}]";
+
+        // When
+        byte[] bytes = serializer.serialize(json);
+
+        // Then
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).contains(json);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(json);
+    }
+
+    @Test
+    @DisplayName("숫자는 기존 JSON 그대로 저장 - INCR로 올리는 버전 카운터와 호환")
+    void number_StoredAsJson() {
+        // When
+        byte[] bytes = serializer.serialize(42L);
+
+        // Then
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo("42");
+        assertThat(serializer.deserialize("43".getBytes(StandardCharsets.UTF_8))).isEqualTo(43);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 타입은 JSON으로 저장")
+    void unregisteredType_StoredAsJson() {
+        // Given - 기존 JSON 형식과 같이 변경 가능한 컬렉션이어야 타입 정보가 기록된다
+        Map<String, Object> value = new HashMap<>(Map.of("key", "value"));
+
+        // When
+        byte[] bytes = serializer.serialize(value);
+
+        // Then
+        assertThat(bytes[0]).isEqualTo((byte) '{');
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("null과 빈 값")
+    void nullAndEmpty() {
+        assertThat(serializer.deserialize(null)).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+        assertThat(serializer.deserialize(serializer.serialize(null))).isNull();
+    }
+
+    @Test
+    @DisplayName("손상된 바이너리 값은 SerializationException")
+    void corruptedBinary_Throws() {
+        // Given
+        byte[] bytes = serializer.serialize(productDetail(1, 2, 2, 1));
+        byte[] truncated = java.util.Arrays.copyOf(bytes, bytes.length / 2);
+
+        // When & Then
+        assertThatThrownBy(() -> serializer.deserialize(truncated))
+                .isInstanceOf(org.springframework.data.redis.serializer.SerializationException.class);
+    }
+
+    /**
+     * product-service 상세 응답과 같은 구조의 상품 (옵션 그룹 x 옵션 값 조합의 SKU, 이미지, 카테고리)
+     */
+    static ProductDetailResponse productDetail(int optionGroups, int valuesPerGroup, int skus, int images) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 15, 10, 30, 15, 123_000_000);
+        List<ProductDetailResponse.OptionGroupResponse> groups = new ArrayList<>();
+        long optionValueId = 1000;
+        for (int g = 0; g < optionGroups; g++) {
+            List<ProductDetailResponse.OptionValueResponse> values = new ArrayList<>();
+            for (int v = 0; v < valuesPerGroup; v++) {
+                values.add(ProductDetailResponse.OptionValueResponse.builder()
+                        .id(optionValueId++)
+                        .optionValueName(List.of("블랙", "화이트", "네이비", "그레이", "베이지").get(v % 5) + " " + (v + 1))
+                        .displayOrder(v + 1)
+                        .build());
+            }
+            groups.add(ProductDetailResponse.OptionGroupResponse.builder()
+                    .id(100L + g)
+                    .optionGroupName(List.of("색상", "사이즈", "소재").get(g % 3))
+                    .displayOrder(g + 1)
+                    .optionValues(values)
+                    .build());
+        }
+
+        return ProductDetailResponse.builder()
+                .productId(123_456L)
+                .productName("베이직 오버핏 코튼 라운드 반팔 티셔츠")
+                .productCode("TS-2024-SS-0001")
+                .description("부드러운 면 100% 원단으로 제작한 오버핏 반팔 티셔츠입니다. ".repeat(8))
+                .basePrice(29_900L)
+                .salePrice(19_900L)
+                .status("ON_SALE")
+                .isDisplayed(true)
+                .optionGroups(groups)
+                .skus(IntStream.range(0, skus)
+                        .mapToObj(i -> ProductDetailResponse.SkuResponse.builder()
+                                .id(5000L + i)
+                                .skuCode("TS-2024-SS-0001-" + i)
+                                .price(19_900L + (i % 3) * 1000L)
+                                .stockQty(i * 7 % 50)
+                                .status(i % 5 == 0 ? "SOLD_OUT" : "ON_SALE")
+                                .optionValueIds(new ArrayList<>(List.of(1000L + i % valuesPerGroup,
+                                        1000L + valuesPerGroup + i / valuesPerGroup % valuesPerGroup)))
+                                .build())
+                        .collect(java.util.stream.Collectors.toCollection(ArrayList::new)))
+                .images(IntStream.range(0, images)
+                        .mapToObj(i -> ProductDetailResponse.ImageResponse.builder()
+                                .id(9000L + i)
+                                .fileId(70_000L + i)
+                                .imageUrl("https://cdn.example.com/products/123456/images/" + i + ".jpg")
+                                .isPrimary(i == 0)
+                                .displayOrder(i + 1)
+                                .build())
+                        .collect(java.util.stream.Collectors.toCollection(ArrayList::new)))
+                .categories(new ArrayList<>(List.of(
+                        ProductDetailResponse.CategoryResponse.builder().categoryId(1L).categoryName("의류").displayOrder(1).build(),
+                        ProductDetailResponse.CategoryResponse.builder().categoryId(12L).categoryName("티셔츠").displayOrder(2).build())))
+                .createdAt(createdAt)
+                .updatedAt(createdAt.plusDays(3))
+                .build();
+    }
+
+    private static CategoryCache category(Long categoryId) {
+        return CategoryCache.builder()
+                .categoryId(categoryId)
+                .parentId(1L)
+                .categoryName("스마트폰")
+                .displayOrder(2)
+                .depth(1)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 9, 0))
+                .build();
+    }
+}
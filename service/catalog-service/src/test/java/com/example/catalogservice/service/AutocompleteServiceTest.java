@@ -0,0 +1,244 @@
+package com.example.catalogservice.service;
+
+import com.example.catalogservice.config.RedisConfig;
+import com.example.catalogservice.domain.AutocompleteChange;
+import com.example.catalogservice.domain.document.ProductDocument;
+import com.example.catalogservice.infrastructure.redis.CatalogRedisSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AutocompleteService 단위 테스트")
+class AutocompleteServiceTest {
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AutocompleteService autocompleteService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        autocompleteService = new AutocompleteService(elasticsearchOperations, redisTemplate, listenerContainer, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        autocompleteService.shutdown();
+    }
+
+    @Test
+    @DisplayName("트라이 준비 전에는 대체 경로(Elasticsearch)로 조회하도록 empty 반환, 채널 구독")
+    void suggest_NotReady_Fallback() {
+        assertThat(autocompleteService.suggest("노트", 5)).isEmpty();
+        assertThat(meterRegistry.get("catalog.autocomplete.requests").tag("source", "fallback").counter().count())
+                .isEqualTo(1);
+        verify(listenerContainer).addMessageListener(autocompleteService, new ChannelTopic(AutocompleteService.CHANNEL));
+    }
+
+    @Test
+    @DisplayName("재구성 - Elasticsearch 상품명/키워드로 트라이를 만들고 상품 수로 순위")
+    void rebuild_LoadsProductsAndKeywords() {
+        // Given
+        givenProducts(
+                product("1", "삼성 노트북", "노트북", "가성비"),
+                product("2", "LG 노트북", "노트북"),
+                product("3", "노트 필기구"));
+
+        // When
+        autocompleteService.rebuild();
+
+        // Then - "노트북" 키워드는 두 상품이 가져 가장 높은 순위, 같은 가중치는 짧은 순
+        assertThat(autocompleteService.isReady()).isTrue();
+        assertThat(autocompleteService.suggest("노트", 5)).contains(List.of("노트북", "LG 노트북", "노트 필기구", "삼성 노트북"));
+        assertThat(autocompleteService.suggest("가성", 5)).contains(List.of("가성비"));
+        assertThat(autocompleteService.suggest("가".repeat(30), 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이벤트 반영 - 상품명 변경/키워드 추가·삭제를 차이로 반영하고 다른 인스턴스에 전파")
+    void events_AppliedIncrementallyAndPublished() {
+        // Given
+        givenProducts(product("1", "갤럭시 S24", "스마트폰"));
+        autocompleteService.rebuild();
+
+        // When
+        autocompleteService.productChanged(1L, "갤럭시 S24 울트라");
+        autocompleteService.keywordAdded(1L, "스마트폰");    // 이미 있는 키워드 - 무시
+        autocompleteService.keywordRemoved(1L, "스마트폰");
+        autocompleteService.keywordAdded(2L, "갤럭시 버즈");
+
+        // Then
+        assertThat(autocompleteService.suggest("갤럭시", 5)).contains(List.of("갤럭시 버즈", "갤럭시 S24 울트라"));
+        assertThat(autocompleteService.suggest("스마", 5)).contains(List.of());
+        verify(redisTemplate, times(4)).convertAndSend(eq(AutocompleteService.CHANNEL), any(AutocompleteChange.class));
+    }
+
+    @Test
+    @DisplayName("상품 삭제 - 상품명과 키워드 가중치를 모두 뺀다")
+    void productRemoved_RemovesNameAndKeywords() {
+        // Given
+        givenProducts(
+                product("1", "삼성 노트북", "노트북", "가성비"),
+                product("2", "LG 노트북", "노트북"));
+        autocompleteService.rebuild();
+
+        // When
+        autocompleteService.productRemoved(1L);
+        autocompleteService.productRemoved(1L);    // 이미 삭제된 상품 - 무시
+
+        // Then - "노트북" 키워드는 남은 상품 하나만 가진다
+        assertThat(autocompleteService.suggest("노트", 5)).contains(List.of("노트북", "LG 노트북"));
+        assertThat(autocompleteService.suggest("삼성", 5)).contains(List.of());
+        assertThat(autocompleteService.suggest("가성", 5)).contains(List.of());
+    }
+
+    @Test
+    @DisplayName("인기 검색어 보정 - 있는 추천어의 순위만 바꾸고(검색어로 추천어를 만들지 않는다), 빠진 검색어는 보정값을 빼며, 재구성 후에도 유지")
+    void updateQueryBoosts_AdjustsRanking() {
+        // Given
+        givenProducts(
+                product("1", "삼성 노트북", "노트북"),
+                product("2", "LG 노트북", "노트북"));
+        autocompleteService.rebuild();
+
+        // When
+        autocompleteService.updateQueryBoosts(Map.of("lg 노트북", 3L, "노트북 파우치", 1L));
+
+        // Then
+        assertThat(autocompleteService.suggest("노트", 5)).contains(List.of("LG 노트북", "노트북", "삼성 노트북"));
+
+        // When - 파우치 상품이 등록되면 보정값을 더하고, 삭제되면 보정값과 상관없이 뺀다
+        autocompleteService.productChanged(3L, "노트북 파우치");
+        assertThat(autocompleteService.suggest("노트", 5)).contains(List.of("LG 노트북", "노트북", "노트북 파우치", "삼성 노트북"));
+        autocompleteService.productRemoved(3L);
+        assertThat(autocompleteService.suggest("노트", 5)).contains(List.of("LG 노트북", "노트북", "삼성 노트북"));
+
+        // When - 파우치가 인기 검색어에서 빠지고 재구성
+        autocompleteService.updateQueryBoosts(Map.of("lg 노트북", 3L));
+        givenProducts(
+                product("1", "삼성 노트북", "노트북"),
+                product("2", "LG 노트북", "노트북"));
+        autocompleteService.rebuild();
+
+        // Then
+        assertThat(autocompleteService.suggest("노트", 5)).contains(List.of("LG 노트북", "노트북", "삼성 노트북"));
+    }
+
+    @Test
+    @DisplayName("Redis 채널로 받은 변경을 적용 - RedisConfig 직렬화기로 복원")
+    void onMessage_AppliesChange() {
+        // Given
+        givenProducts();
+        autocompleteService.rebuild();
+        RedisTemplate<String, Object> template = new RedisConfig().redisTemplate(mock(RedisConnectionFactory.class),
+                new CatalogRedisSerializer(CatalogRedisSerializer.Format.BINARY, 1024, new SimpleMeterRegistry()));
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> serializer = (RedisSerializer<Object>) template.getValueSerializer();
+        doReturn(serializer).when(redisTemplate).getValueSerializer();
+
+        byte[] body = serializer.serialize(AutocompleteChange.builder()
+                .type(AutocompleteChange.Type.PRODUCT)
+                .productId(7L)
+                .productName("에어팟 프로")
+                .build());
+
+        // When
+        autocompleteService.onMessage(new DefaultMessage(AutocompleteService.CHANNEL.getBytes(), body), null);
+
+        // Then
+        assertThat(autocompleteService.suggest("에어", 5)).contains(List.of("에어팟 프로"));
+    }
+
+    @Test
+    @DisplayName("Redis 전파 실패 시에도 이 인스턴스에는 반영")
+    void publishFailure_AppliedLocally() {
+        // Given
+        givenProducts();
+        autocompleteService.rebuild();
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(redisTemplate).convertAndSend(eq(AutocompleteService.CHANNEL), any(AutocompleteChange.class));
+
+        // When
+        autocompleteService.productChanged(1L, "맥북 에어");
+
+        // Then
+        assertThat(autocompleteService.suggest("맥북", 5)).contains(List.of("맥북 에어"));
+    }
+
+    @Test
+    @DisplayName("재구성 실패 시 준비되지 않은 상태 유지 (대체 경로 사용)")
+    void rebuild_Failure_StaysNotReady() {
+        // Given
+        when(elasticsearchOperations.searchForStream(any(NativeQuery.class), eq(ProductDocument.class)))
+                .thenThrow(new RuntimeException("Elasticsearch unavailable"));
+
+        // When
+        autocompleteService.rebuild();
+
+        // Then
+        assertThat(autocompleteService.isReady()).isFalse();
+        assertThat(autocompleteService.suggest("노트", 5)).isEqualTo(Optional.empty());
+    }
+
+    private void givenProducts(ProductDocument... products) {
+        SearchHitsIterator<ProductDocument> iterator = iterator(List.of(products));
+        when(elasticsearchOperations.searchForStream(any(NativeQuery.class), eq(ProductDocument.class)))
+                .thenReturn(iterator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private SearchHitsIterator<ProductDocument> iterator(List<ProductDocument> products) {
+        Iterator<SearchHit<ProductDocument>> source = products.stream()
+                .map(product -> new SearchHit<>(null, product.getProductId(), null, 1.0f, null,
+                        null, null, null, null, null, product))
+                .iterator();
+        SearchHitsIterator<ProductDocument> iterator = mock(SearchHitsIterator.class);
+        when(iterator.hasNext()).thenAnswer(invocation -> source.hasNext());
+        lenient().when(iterator.next()).thenAnswer(invocation -> source.next());
+        return iterator;
+    }
+
+    private ProductDocument product(String productId, String productName, String... keywords) {
+        return ProductDocument.builder()
+                .productId(productId)
+                .productName(productName)
+                .searchKeywords(new ArrayList<>(List.of(keywords)))
+                .build();
+    }
+}
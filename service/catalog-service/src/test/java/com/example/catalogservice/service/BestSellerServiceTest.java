@@ -0,0 +1,255 @@
+package com.example.catalogservice.service;
+
+import com.example.catalogservice.consumer.event.OrderCancelledEvent;
+import com.example.catalogservice.consumer.event.OrderCreatedEvent;
+import com.example.catalogservice.domain.BestSellerCheckpoint;
+import com.example.catalogservice.domain.document.ProductDocument;
+import com.example.catalogservice.service.BestSellerService.BestSeller;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BestSellerService 단위 테스트")
+class BestSellerServiceTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private ProductBulkIndexer productBulkIndexer;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong now;
+    private BestSellerService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        now = new AtomicLong(1_000 * HOUR);
+        service = new BestSellerService(elasticsearchOperations, productBulkIndexer, redisTemplate, meterRegistry, now::get);
+    }
+
+    @Test
+    @DisplayName("주문 수량에서 취소 수량을 뺀 판매량 순으로 전체/카테고리(조상 포함) 순위를 만든다")
+    void refresh_BuildsRankingPerCategory() {
+        // Given - 전자제품(1) > 노트북(2): 10번, 전자제품(1) > 스마트폰(3): 20번
+        givenNoLease();
+        givenProducts(product(10L, "맥북", 1L, 2L), product(20L, "갤럭시", 1L, 3L));
+        service.recordOrder(order(item(10L, 3), item(20L, 2)));
+        service.recordOrder(order(item(20L, 4)));
+        service.recordCancellation(cancellation(20L, 4));
+
+        // When
+        service.refresh();
+
+        // Then
+        assertThat(service.getBestSellers(null, 10)).containsExactly(
+                new BestSeller(10L, "맥북", 3), new BestSeller(20L, "갤럭시", 2));
+        assertThat(service.getBestSellers(1L, 1)).containsExactly(new BestSeller(10L, "맥북", 3));
+        assertThat(service.getBestSellers(3L, 10)).containsExactly(new BestSeller(20L, "갤럭시", 2));
+        assertThat(service.getBestSellers(99L, 10)).isEmpty();
+        assertThat(meterRegistry.get("catalog.best-seller.events").tag("type", "created").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("취소는 원래 주문 시각의 버킷에서 빼고, 주문이 윈도우를 벗어난 취소는 무시한다")
+    void recordCancellation_SubtractsFromOrderBucket() {
+        // Given - 23시간 전 10번 주문, 지금 10번/20번 주문
+        givenNoLease();
+        givenProducts(product(10L, "맥북", 1L), product(20L, "갤럭시", 1L));
+        long orderedAt = now.get();
+        service.recordOrder(order(item(10L, 2)));
+        now.addAndGet(23 * HOUR);
+        service.recordOrder(order(item(10L, 1), item(20L, 3)));
+
+        // When - 23시간 전 주문의 취소, 윈도우(24시간)를 벗어난 주문의 취소, 주문 시각이 없는 취소
+        service.recordCancellation(cancellation(10L, 2, orderedAt));
+        service.recordCancellation(cancellation(20L, 3, orderedAt - 2 * HOUR));
+        service.recordCancellation(OrderCancelledEvent.builder().orderId(2L)
+                .cancelledItems(List.of(OrderCancelledEvent.CancelledOrderItem.builder().productId(20L).quantity(3).build()))
+                .build());
+        service.refresh();
+
+        // Then
+        assertThat(service.getBestSellers(null, 10)).containsExactly(
+                new BestSeller(20L, "갤럭시", 3), new BestSeller(10L, "맥북", 1));
+        assertThat(meterRegistry.get("catalog.best-seller.events").tag("type", "cancel-ignored").counter().count()).isEqualTo(2);
+
+        // 취소를 주문 버킷에서 뺐으므로 그 버킷이 빠져도 지금 주문의 판매량은 그대로다
+        now.addAndGet(HOUR);
+        service.refresh();
+        assertThat(service.getBestSellers(null, 10)).containsExactly(
+                new BestSeller(20L, "갤럭시", 3), new BestSeller(10L, "맥북", 1));
+    }
+
+    @Test
+    @DisplayName("색인에 없는 상품은 순위에서 뺀다")
+    void refresh_ProductNotIndexed_Excluded() {
+        // Given
+        givenNoLease();
+        givenProducts(product(10L, "맥북", 1L));
+        service.recordOrder(order(item(10L, 1), item(30L, 5)));
+
+        // When
+        service.refresh();
+
+        // Then
+        assertThat(service.getBestSellers(null, 10)).extracting(BestSeller::productId).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("리스가 없으면 체크포인트와 popularity를 갱신하지 않는다")
+    void refresh_WithoutLease_OnlyBuildsRanking() {
+        // Given
+        givenNoLease();
+        givenProducts(product(10L, "맥북", 1L));
+        service.recordOrder(order(item(10L, 1)));
+
+        // When
+        service.refresh();
+
+        // Then
+        then(productBulkIndexer).should(never()).updatePopularity(anyMap());
+        then(productBulkIndexer).should(never()).resetPopularityExcept(any());
+        then(valueOperations).should(never()).set(eq(BestSellerService.CHECKPOINT_KEY), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("리스를 가지면 체크포인트를 쓰고 popularity를 갱신하며, 후보 밖 상품의 popularity는 색인에서 0으로 되돌린다")
+    @SuppressWarnings("unchecked")
+    void refresh_WithLease_CheckpointsAndPushesPopularity() {
+        // Given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(BestSellerService.LEASE_KEY), anyString(), any(Duration.class)))
+                .willReturn(true);
+        givenProducts(product(10L, "맥북", 1L), product(20L, "갤럭시", 1L));
+        service.recordOrder(order(item(10L, 3), item(20L, 1)));
+        service.refresh();
+
+        // When - 20번 주문이 취소되어 순위에서 빠진다
+        service.recordCancellation(cancellation(20L, 1));
+        service.refresh();
+
+        // Then
+        ArgumentCaptor<Map<Long, Long>> popularity = ArgumentCaptor.forClass(Map.class);
+        then(productBulkIndexer).should(times(2)).updatePopularity(popularity.capture());
+        assertThat(popularity.getAllValues().get(0)).containsExactlyInAnyOrderEntriesOf(Map.of(10L, 3L, 20L, 1L));
+        assertThat(popularity.getAllValues().get(1)).containsExactlyInAnyOrderEntriesOf(Map.of(10L, 3L));
+        ArgumentCaptor<Collection<Long>> kept = ArgumentCaptor.forClass(Collection.class);
+        then(productBulkIndexer).should(times(2)).resetPopularityExcept(kept.capture());
+        assertThat(kept.getAllValues().get(1)).containsExactly(10L);
+
+        ArgumentCaptor<BestSellerCheckpoint> checkpoint = ArgumentCaptor.forClass(BestSellerCheckpoint.class);
+        then(valueOperations).should(times(2)).set(eq(BestSellerService.CHECKPOINT_KEY), checkpoint.capture(), any(Duration.class));
+        assertThat(checkpoint.getValue().getCandidates()).containsExactly(10L);
+        assertThat(checkpoint.getValue().getBuckets()).hasSize(BestSellerService.BUCKET_COUNT);
+    }
+
+    @Test
+    @DisplayName("기동 시 체크포인트로 판매량을 복원한다")
+    void restore_FromCheckpoint() {
+        // Given - 다른 인스턴스가 남긴 체크포인트
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(BestSellerService.LEASE_KEY), anyString(), any(Duration.class)))
+                .willReturn(true);
+        givenProducts(product(10L, "맥북", 1L));
+        service.recordOrder(order(item(10L, 4)));
+        service.refresh();
+        ArgumentCaptor<BestSellerCheckpoint> checkpoint = ArgumentCaptor.forClass(BestSellerCheckpoint.class);
+        then(valueOperations).should().set(eq(BestSellerService.CHECKPOINT_KEY), checkpoint.capture(), any(Duration.class));
+
+        BestSellerService restarted = new BestSellerService(
+                elasticsearchOperations, productBulkIndexer, redisTemplate, meterRegistry, now::get);
+        given(valueOperations.get(anyString())).willAnswer(invocation ->
+                BestSellerService.CHECKPOINT_KEY.equals(invocation.getArgument(0)) ? checkpoint.getValue() : null);
+        given(valueOperations.setIfAbsent(eq(BestSellerService.LEASE_KEY), anyString(), any(Duration.class)))
+                .willReturn(false);
+
+        // When
+        now.addAndGet(HOUR);
+        restarted.restore();
+        restarted.refresh();
+
+        // Then
+        assertThat(restarted.getBestSellers(null, 10)).containsExactly(new BestSeller(10L, "맥북", 4));
+    }
+
+    private void givenNoLease() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(BestSellerService.LEASE_KEY), anyString(), any(Duration.class)))
+                .willReturn(false);
+    }
+
+    private void givenProducts(ProductDocument... products) {
+        given(elasticsearchOperations.multiGet(any(Query.class), eq(ProductDocument.class)))
+                .willReturn(Arrays.stream(products).map(product -> MultiGetItem.of(product, null)).toList());
+    }
+
+    private static ProductDocument product(Long productId, String productName, Long... categoryPath) {
+        return ProductDocument.builder()
+                .productId(String.valueOf(productId))
+                .productName(productName)
+                .categoryPath(List.of(categoryPath))
+                .build();
+    }
+
+    private static OrderCreatedEvent.OrderItemSnapshot item(Long productId, int quantity) {
+        return OrderCreatedEvent.OrderItemSnapshot.builder().productId(productId).quantity(quantity).build();
+    }
+
+    private static OrderCreatedEvent order(OrderCreatedEvent.OrderItemSnapshot... items) {
+        return OrderCreatedEvent.builder().orderId(1L).orderItems(List.of(items)).build();
+    }
+
+    private OrderCancelledEvent cancellation(Long productId, int quantity) {
+        return cancellation(productId, quantity, now.get());
+    }
+
+    private static OrderCancelledEvent cancellation(Long productId, int quantity, long orderedAt) {
+        return OrderCancelledEvent.builder()
+                .orderId(1L)
+                .orderedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(orderedAt), ZoneId.systemDefault()))
+                .cancelledItems(List.of(OrderCancelledEvent.CancelledOrderItem.builder()
+                        .productId(productId).quantity(quantity).build()))
+                .build();
+    }
+}
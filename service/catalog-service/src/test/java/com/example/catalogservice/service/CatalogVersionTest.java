@@ -0,0 +1,118 @@
+package com.example.catalogservice.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogVersion 단위 테스트")
+class CatalogVersionTest {
+
+    private static final Duration SETTLE_DELAY = Duration.ofMillis(100);
+    private static final Duration NO_SETTLE = Duration.ofMinutes(10);
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private CatalogVersion catalogVersion;
+
+    @AfterEach
+    void tearDown() {
+        catalogVersion.shutdown();
+    }
+
+    @Test
+    @DisplayName("변경 직후 버전을 올리고, 이어진 변경이 끝난 뒤 SETTLE_DELAY가 지나면 한 번만 더 올린다")
+    void increment_BumpsAgainAfterSettleDelay() {
+        // Given
+        catalogVersion = new CatalogVersion(redisTemplate, SETTLE_DELAY);
+        given(script(redisTemplate, "1")).willReturn(List.<Object>of("e", 1L), List.<Object>of("e", 2L), List.<Object>of("e", 3L), List.<Object>of("e", 4L));
+
+        // When
+        catalogVersion.increment();
+        catalogVersion.increment();
+
+        // Then - 즉시 2번, 지연 1번
+        script(verify(redisTemplate, timeout(2000).times(3)), "1");
+        script(verify(redisTemplate, after(SETTLE_DELAY.toMillis() * 3).times(3)), "1");
+    }
+
+    @Test
+    @DisplayName("Redis 증가에 실패해도 이후 조회에서 버전이 이전 값으로 돌아가지 않는다")
+    void increment_RedisFailure_NeverGoesBack() {
+        // Given
+        catalogVersion = new CatalogVersion(redisTemplate, NO_SETTLE);
+        given(script(redisTemplate, "0")).willReturn(List.<Object>of("e", 5L));
+        String before = catalogVersion.current();
+        given(script(redisTemplate, "1")).willThrow(new QueryTimeoutException("timeout"));
+
+        // When
+        catalogVersion.increment();
+        String afterFailure = catalogVersion.current();
+
+        // Then - 로컬 증가분이 토큰에 남아 Redis 값(5)으로 덮이지 않는다
+        assertThat(before).isEqualTo("e.5");
+        assertThat(afterFailure).startsWith("e.5.").isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("같은 epoch에서 Redis 카운터가 로컬보다 작으면 로컬 버전을 유지한다")
+    void current_SameEpoch_KeepsMax() throws InterruptedException {
+        // Given
+        catalogVersion = new CatalogVersion(redisTemplate, NO_SETTLE);
+        given(script(redisTemplate, "1")).willReturn(List.<Object>of("e", 7L));
+        given(script(redisTemplate, "0")).willReturn(List.<Object>of("e", 3L));
+        catalogVersion.increment();
+
+        // When
+        String first = catalogVersion.current();
+        Thread.sleep(1100);
+        String refreshed = catalogVersion.current();
+
+        // Then
+        assertThat(first).isEqualTo("e.7");
+        assertThat(refreshed).isEqualTo("e.7");
+    }
+
+    @Test
+    @DisplayName("Redis 키가 새로 만들어져 epoch가 바뀌면 카운터가 작아도 이전과 다른 버전이 된다")
+    void current_NewEpoch_NeverReusesVersion() throws InterruptedException {
+        // Given
+        catalogVersion = new CatalogVersion(redisTemplate, NO_SETTLE);
+        given(script(redisTemplate, "0")).willReturn(List.<Object>of("e1", 7L), List.<Object>of("e2", 1L));
+
+        // When
+        String before = catalogVersion.current();
+        Thread.sleep(1100);
+        String afterEviction = catalogVersion.current();
+
+        // Then
+        assertThat(before).isEqualTo("e1.7");
+        assertThat(afterEviction).isEqualTo("e2.1");
+    }
+
+    private static Object script(RedisTemplate<String, Object> template, String delta) {
+        return template.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class),
+                anyList(), anyString(), eq(delta));
+    }
+}
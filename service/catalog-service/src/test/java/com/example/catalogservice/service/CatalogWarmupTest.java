@@ -0,0 +1,136 @@
+package com.example.catalogservice.service;
+
+import com.example.catalogservice.controller.dto.ProductDetailResponse;
+import com.example.catalogservice.domain.CategoryIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogWarmup 단위 테스트")
+class CatalogWarmupTest {
+
+    @Mock
+    private CategorySyncService categorySyncService;
+
+    @Mock
+    private CategoryPathUpdater categoryPathUpdater;
+
+    @Mock
+    private ProductDetailService productDetailService;
+
+    @Mock
+    private ProductViewTracker productViewTracker;
+
+    @Mock
+    private AutocompleteService autocompleteService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("카테고리, 카테고리 경로 채우기, 많이 조회된 상품(100개 단위), 자동완성을 모두 미리 읽는다")
+    void warmUp_AllSteps_Completed() {
+        // Given
+        List<Long> productIds = LongStream.rangeClosed(1, 150).boxed().toList();
+        CategoryIndex categoryIndex = CategoryIndex.of(1L, List.of());
+        given(autocompleteService.rebuildAsync()).willReturn(CompletableFuture.completedFuture(null));
+        given(autocompleteService.isReady()).willReturn(true);
+        given(categorySyncService.getCategoryIndex()).willReturn(categoryIndex);
+        given(categoryPathUpdater.backfillMissingPaths(categoryIndex)).willReturn(CompletableFuture.completedFuture(null));
+        given(productViewTracker.topViewed(500)).willReturn(productIds);
+        given(productDetailService.getProductDetails(anyList()))
+                .willAnswer(invocation -> invocation.<List<Long>>getArgument(0).stream()
+                        .map(id -> ProductDetailResponse.builder().productId(id).build())
+                        .toList());
+
+        // When
+        boolean completed = warmup(Duration.ofSeconds(30)).warmUp();
+
+        // Then
+        assertThat(completed).isTrue();
+        then(productDetailService).should().getProductDetails(productIds.subList(0, 100));
+        then(productDetailService).should().getProductDetails(productIds.subList(100, 150));
+        assertThat(meterRegistry.get("catalog.warmup.products").counter().count()).isEqualTo(150);
+        assertThat(stepCount("category", "success")).isEqualTo(1);
+        assertThat(stepCount("category-path", "success")).isEqualTo(1);
+        assertThat(stepCount("products", "success")).isEqualTo(1);
+        assertThat(stepCount("autocomplete", "success")).isEqualTo(1);
+        assertThat(meterRegistry.get("catalog.warmup.duration").tag("result", "completed").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("단계가 실패해도 나머지 단계를 진행하고 기동을 막지 않는다")
+    void warmUp_StepFailure_Continues() {
+        // Given
+        given(autocompleteService.rebuildAsync()).willReturn(CompletableFuture.completedFuture(null));
+        given(autocompleteService.isReady()).willReturn(true);
+        given(categorySyncService.getCategoryIndex()).willThrow(new IllegalStateException("redis down"));
+        given(categoryPathUpdater.backfillMissingPaths(CategoryIndex.EMPTY))
+                .willReturn(CompletableFuture.completedFuture(null));
+        given(productViewTracker.topViewed(500)).willThrow(new IllegalStateException("redis down"));
+
+        // When
+        boolean completed = warmup(Duration.ofSeconds(30)).warmUp();
+
+        // Then
+        assertThat(completed).isTrue();
+        assertThat(stepCount("category", "failure")).isEqualTo(1);
+        assertThat(stepCount("products", "failure")).isEqualTo(1);
+        assertThat(stepCount("autocomplete", "success")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시간 예산을 넘으면 남은 상품을 건너뛰고 카테고리 경로와 자동완성을 기다리지 않는다")
+    void warmUp_BudgetExceeded_StopsWaiting() {
+        // Given
+        given(autocompleteService.rebuildAsync()).willReturn(new CompletableFuture<>());
+        given(categorySyncService.getCategoryIndex()).willReturn(CategoryIndex.of(1L, List.of()));
+        given(categoryPathUpdater.backfillMissingPaths(any())).willReturn(new CompletableFuture<>());
+        given(productViewTracker.topViewed(500)).willReturn(List.of(1L, 2L));
+
+        // When
+        boolean completed = warmup(Duration.ZERO).warmUp();
+
+        // Then
+        assertThat(completed).isFalse();
+        then(productDetailService).should(never()).getProductDetails(any());
+        assertThat(stepCount("products", "timeout")).isEqualTo(1);
+        assertThat(stepCount("category-path", "timeout")).isEqualTo(1);
+        assertThat(stepCount("autocomplete", "timeout")).isEqualTo(1);
+        assertThat(meterRegistry.get("catalog.warmup.duration").tag("result", "timeout").timer().count())
+                .isEqualTo(1);
+        then(autocompleteService).should(times(1)).rebuildAsync();
+    }
+
+    private CatalogWarmup warmup(Duration budget) {
+        return new CatalogWarmup(categorySyncService, categoryPathUpdater, productDetailService, productViewTracker, autocompleteService,
+                meterRegistry, budget, 500);
+    }
+
+    private long stepCount(String step, String result) {
+        return meterRegistry.get("catalog.warmup.step").tag("step", step).tag("result", result).timer().count();
+    }
+}
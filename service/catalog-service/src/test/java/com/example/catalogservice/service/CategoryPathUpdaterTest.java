@@ -0,0 +1,181 @@
+package com.example.catalogservice.service;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import com.example.catalogservice.domain.CategoryIndex;
+import com.example.catalogservice.domain.CategoryTreeNode;
+import com.example.catalogservice.domain.document.ProductDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryPathUpdater 단위 테스트")
+class CategoryPathUpdaterTest {
+
+    private static final IndexCoordinates PRODUCTS = IndexCoordinates.of("products");
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    private CategoryPathUpdater categoryPathUpdater;
+
+    // 가전(3) > 스마트폰(2) > 삼성(4), 전자제품(1)
+    private final CategoryIndex index = CategoryIndex.of(2L, List.of(
+            node(1L, null),
+            node(3L, null, node(2L, 3L, node(4L, 2L)))));
+
+    @BeforeEach
+    void setUp() {
+        categoryPathUpdater = new CategoryPathUpdater(elasticsearchOperations, catalogVersion);
+    }
+
+    @AfterEach
+    void tearDown() {
+        categoryPathUpdater.shutdown();
+    }
+
+    @Test
+    @DisplayName("이동된 카테고리와 하위 카테고리의 상품만 update-by-query로 갱신하고 캐시를 무효화")
+    void updatePaths_UpdatesMovedSubtree() throws Exception {
+        // Given
+        when(elasticsearchOperations.getIndexCoordinatesFor(ProductDocument.class)).thenReturn(PRODUCTS);
+        when(elasticsearchOperations.updateByQuery(any(UpdateQuery.class), eq(PRODUCTS)))
+                .thenReturn(ByQueryResponse.builder().withUpdated(5).build());
+
+        // When
+        categoryPathUpdater.updatePaths(List.of(2L), index).get(5, TimeUnit.SECONDS);
+
+        // Then
+        ArgumentCaptor<UpdateQuery> captor = ArgumentCaptor.forClass(UpdateQuery.class);
+        verify(elasticsearchOperations).updateByQuery(captor.capture(), eq(PRODUCTS));
+        UpdateQuery updateQuery = captor.getValue();
+
+        Query query = ((NativeQuery) updateQuery.getQuery()).getQuery();
+        assertThat(query.terms().field()).isEqualTo("categoryIds");
+        assertThat(query.terms().terms().value())
+                .extracting(value -> value.longValue())
+                .containsExactly(2L, 4L);
+
+        assertThat(updateQuery.getScript()).isEqualTo(CategoryPathUpdater.UPDATE_SCRIPT);
+        assertThat(updateQuery.getAbortOnVersionConflict()).isFalse();
+        assertThat(updateQuery.getRefreshPolicy()).isEqualTo(RefreshPolicy.IMMEDIATE);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> paths = (Map<String, Object>) updateQuery.getParams().get("paths");
+        assertThat(paths).containsEntry("4", List.of(3L, 2L, 4L))
+                .containsEntry("1", List.of(1L));
+
+        verify(catalogVersion).increment();
+    }
+
+    @Test
+    @DisplayName("버전 충돌이 남으면 같은 update-by-query를 다시 실행하고, 재시도 횟수를 넘기지 않음")
+    void updatePaths_VersionConflicts_Retries() throws Exception {
+        // Given
+        when(elasticsearchOperations.getIndexCoordinatesFor(ProductDocument.class)).thenReturn(PRODUCTS);
+        when(elasticsearchOperations.updateByQuery(any(UpdateQuery.class), eq(PRODUCTS)))
+                .thenReturn(ByQueryResponse.builder().withUpdated(3).withVersionConflicts(2).build(),
+                        ByQueryResponse.builder().withUpdated(5).build());
+
+        // When
+        categoryPathUpdater.updatePaths(List.of(2L), index).get(5, TimeUnit.SECONDS);
+
+        // Then
+        verify(elasticsearchOperations, times(2)).updateByQuery(any(UpdateQuery.class), eq(PRODUCTS));
+        verify(catalogVersion).increment();
+
+        // Given - 충돌이 계속 남는 경우
+        reset(elasticsearchOperations);
+        when(elasticsearchOperations.getIndexCoordinatesFor(ProductDocument.class)).thenReturn(PRODUCTS);
+        when(elasticsearchOperations.updateByQuery(any(UpdateQuery.class), eq(PRODUCTS)))
+                .thenReturn(ByQueryResponse.builder().withVersionConflicts(1).build());
+
+        // When
+        categoryPathUpdater.updatePaths(List.of(2L), index).get(5, TimeUnit.SECONDS);
+
+        // Then
+        verify(elasticsearchOperations, times(1 + CategoryPathUpdater.MAX_CONFLICT_RETRIES))
+                .updateByQuery(any(UpdateQuery.class), eq(PRODUCTS));
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 카테고리만 이동된 경우 갱신하지 않음")
+    void updatePaths_NoAffectedCategories() throws Exception {
+        // When
+        categoryPathUpdater.updatePaths(List.of(999L), index).get(5, TimeUnit.SECONDS);
+
+        // Then
+        verifyNoInteractions(elasticsearchOperations, catalogVersion);
+    }
+
+    @Test
+    @DisplayName("기동 시 채우기 - categoryPath가 없는 상품만 전체 스냅샷 경로로 갱신, 빈 스냅샷이면 건너뜀")
+    void backfillMissingPaths_OnlyDocumentsWithoutPath() throws Exception {
+        // Given
+        when(elasticsearchOperations.getIndexCoordinatesFor(ProductDocument.class)).thenReturn(PRODUCTS);
+        when(elasticsearchOperations.updateByQuery(any(UpdateQuery.class), eq(PRODUCTS)))
+                .thenReturn(ByQueryResponse.builder().withUpdated(100).build());
+
+        // When
+        categoryPathUpdater.backfillMissingPaths(CategoryIndex.EMPTY).get(5, TimeUnit.SECONDS);
+        categoryPathUpdater.backfillMissingPaths(index).get(5, TimeUnit.SECONDS);
+
+        // Then
+        ArgumentCaptor<UpdateQuery> captor = ArgumentCaptor.forClass(UpdateQuery.class);
+        verify(elasticsearchOperations).updateByQuery(captor.capture(), eq(PRODUCTS));
+        Query query = ((NativeQuery) captor.getValue().getQuery()).getQuery();
+        assertThat(query.bool().filter()).singleElement()
+                .satisfies(filter -> assertThat(filter.exists().field()).isEqualTo("categoryIds"));
+        assertThat(query.bool().mustNot()).singleElement()
+                .satisfies(mustNot -> assertThat(mustNot.exists().field()).isEqualTo("categoryPath"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> paths = (Map<String, Object>) captor.getValue().getParams().get("paths");
+        assertThat(paths).containsOnlyKeys("1", "2", "3", "4");
+        verify(catalogVersion).increment();
+    }
+
+    @Test
+    @DisplayName("update-by-query 실패는 로그만 남기고 future는 정상 완료")
+    void updatePaths_Failure_CompletesNormally() throws Exception {
+        // Given
+        when(elasticsearchOperations.getIndexCoordinatesFor(ProductDocument.class)).thenReturn(PRODUCTS);
+        when(elasticsearchOperations.updateByQuery(any(UpdateQuery.class), eq(PRODUCTS)))
+                .thenThrow(new RuntimeException("Elasticsearch unavailable"));
+
+        // When
+        categoryPathUpdater.updatePaths(List.of(3L), index).get(5, TimeUnit.SECONDS);
+
+        // Then
+        verify(catalogVersion, never()).increment();
+    }
+
+    private static CategoryTreeNode node(Long categoryId, Long parentId, CategoryTreeNode... children) {
+        return CategoryTreeNode.builder()
+                .categoryId(categoryId)
+                .parentId(parentId)
+                .children(children.length > 0 ? List.of(children) : null)
+                .build();
+    }
+}
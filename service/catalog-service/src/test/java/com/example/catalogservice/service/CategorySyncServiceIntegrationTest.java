@@ -42,8 +42,8 @@ class CategorySyncServiceIntegrationTest {
     private ProductServiceClient productServiceClient;
 
     private static final String KEY_PREFIX = "catalog:category:";
-    private static final String KEY_TEMP_PREFIX = "catalog:category:temp:";
-    private static final String KEY_OLD_PREFIX = "catalog:category:old:";
+    private static final String KEY_DATA_PREFIX = "catalog:category:data:";
+    private static final String KEY_CURRENT = "catalog:category:current";
     private static final String KEY_INDEX_ALL = "catalog:category:index:all";
     private static final String KEY_DISPLAY_TREE = "catalog:category:display:tree";
 
@@ -72,9 +72,9 @@ class CategorySyncServiceIntegrationTest {
         assertThat(result).isEqualTo(3);
 
         // Redis에 실제로 저장되었는지 확인
-        CategoryCache category1 = (CategoryCache) redisTemplate.opsForValue().get(KEY_PREFIX + "1");
-        CategoryCache category2 = (CategoryCache) redisTemplate.opsForValue().get(KEY_PREFIX + "2");
-        CategoryCache category3 = (CategoryCache) redisTemplate.opsForValue().get(KEY_PREFIX + "3");
+        CategoryCache category1 = categorySyncService.getCategoryById(1L);
+        CategoryCache category2 = categorySyncService.getCategoryById(2L);
+        CategoryCache category3 = categorySyncService.getCategoryById(3L);
 
         assertThat(category1).isNotNull();
         assertThat(category1.getCategoryId()).isEqualTo(1L);
@@ -97,17 +97,16 @@ class CategorySyncServiceIntegrationTest {
         assertThat(indexAll.toString()).contains("\"categoryId\":2");
         assertThat(indexAll.toString()).contains("\"categoryId\":3");
 
-        // temp, old 키가 정리되었는지 확인
-        Set<String> tempKeys = redisTemplate.keys(KEY_TEMP_PREFIX + "*");
-        Set<String> oldKeys = redisTemplate.keys(KEY_OLD_PREFIX + "*");
-        assertThat(tempKeys).isEmpty();
-        assertThat(oldKeys).isEmpty();
+        // 카테고리는 current 포인터가 가리키는 버전 해시 하나에만 저장됨
+        Set<String> dataKeys = redisTemplate.keys(KEY_DATA_PREFIX + "[0-9]*");
+        assertThat(dataKeys).containsExactly(currentDataKey());
+        assertThat(redisTemplate.opsForHash().size(currentDataKey())).isEqualTo(3);
     }
 
     @Test
-    @DisplayName("전체 동기화 - 기존 데이터 갱신 (rename 전략)")
+    @DisplayName("전체 동기화 - 기존 데이터 갱신 (이전 레이아웃의 카테고리별 키에서 전환)")
     void fullSync_UpdateExistingData() {
-        // Given - 초기 데이터 저장
+        // Given - 이전 레이아웃으로 저장된 초기 데이터
         CategoryCache oldCategory1 = CategoryCache.builder()
                 .categoryId(1L)
                 .categoryName("구형 전자제품")
@@ -139,16 +138,19 @@ class CategorySyncServiceIntegrationTest {
         assertThat(result).isEqualTo(2);
 
         // 카테고리 1은 갱신됨
-        CategoryCache category1 = (CategoryCache) redisTemplate.opsForValue().get(KEY_PREFIX + "1");
+        CategoryCache category1 = categorySyncService.getCategoryById(1L);
         assertThat(category1).isNotNull();
         assertThat(category1.getCategoryName()).isEqualTo("최신 전자제품");
 
-        // 카테고리 2는 삭제됨 (rename 전략으로 자동 처리)
-        CategoryCache category2 = (CategoryCache) redisTemplate.opsForValue().get(KEY_PREFIX + "2");
+        // 카테고리 2는 삭제됨 (새 버전 해시에 없음)
+        CategoryCache category2 = categorySyncService.getCategoryById(2L);
         assertThat(category2).isNull();
 
+        // 이전 레이아웃의 카테고리별 키는 정리됨
+        assertThat(redisTemplate.keys(KEY_PREFIX + "[0-9]*")).isEmpty();
+
         // 카테고리 3은 추가됨
-        CategoryCache category3 = (CategoryCache) redisTemplate.opsForValue().get(KEY_PREFIX + "3");
+        CategoryCache category3 = categorySyncService.getCategoryById(3L);
         assertThat(category3).isNotNull();
         assertThat(category3.getCategoryName()).isEqualTo("태블릿");
     }
@@ -167,17 +169,16 @@ class CategorySyncServiceIntegrationTest {
         assertThat(result).isEqualTo(100);
 
         // 일부 샘플 검증
-        CategoryCache first = (CategoryCache) redisTemplate.opsForValue().get(KEY_PREFIX + "0");
-        CategoryCache middle = (CategoryCache) redisTemplate.opsForValue().get(KEY_PREFIX + "50");
-        CategoryCache last = (CategoryCache) redisTemplate.opsForValue().get(KEY_PREFIX + "99");
+        CategoryCache first = categorySyncService.getCategoryById(0L);
+        CategoryCache middle = categorySyncService.getCategoryById(50L);
+        CategoryCache last = categorySyncService.getCategoryById(99L);
 
         assertThat(first).isNotNull();
         assertThat(middle).isNotNull();
         assertThat(last).isNotNull();
 
-        // 전체 키 개수 확인
-        Set<String> allKeys = redisTemplate.keys(KEY_PREFIX + "[0-9]*");
-        assertThat(allKeys).hasSize(100);
+        // 버전 해시의 필드 개수 확인
+        assertThat(redisTemplate.opsForHash().size(currentDataKey())).isEqualTo(100);
     }
 
     @Test
@@ -244,8 +245,8 @@ class CategorySyncServiceIntegrationTest {
     }
 
     @Test
-    @DisplayName("rename 전략 - temp 키가 실패 시 정리됨")
-    void fullSync_TempKeysCleanedOnFailure() {
+    @DisplayName("전체 동기화 실패 시 새 버전 해시가 남지 않음")
+    void fullSync_DataHashCleanedOnFailure() {
         // Given
         when(productServiceClient.getCategoriesForSync())
                 .thenThrow(new RuntimeException("External service failure"));
@@ -258,8 +259,8 @@ class CategorySyncServiceIntegrationTest {
         }
 
         // Then
-        Set<String> tempKeys = redisTemplate.keys(KEY_TEMP_PREFIX + "*");
-        assertThat(tempKeys).isEmpty();
+        Set<String> dataKeys = redisTemplate.keys(KEY_DATA_PREFIX + "[0-9]*");
+        assertThat(dataKeys).isEmpty();
     }
 
     @Test
@@ -277,7 +278,7 @@ class CategorySyncServiceIntegrationTest {
         categorySyncService.fullSync();
 
         // Then
-        CategoryCache result = (CategoryCache) redisTemplate.opsForValue().get(KEY_PREFIX + "1");
+        CategoryCache result = categorySyncService.getCategoryById(1L);
 
         assertThat(result).isNotNull();
         assertThat(result.getCategoryId()).isEqualTo(1L);
@@ -289,6 +290,10 @@ class CategorySyncServiceIntegrationTest {
         assertThat(result.getUpdatedAt()).isNotNull();
     }
 
+    private String currentDataKey() {
+        return KEY_DATA_PREFIX + redisTemplate.opsForValue().get(KEY_CURRENT);
+    }
+
     private void cleanupAllKeys() {
         Set<String> allKeys = redisTemplate.keys("catalog:category:*");
         if (allKeys != null && !allKeys.isEmpty()) {
@@ -6,6 +6,7 @@ import com.example.catalogservice.consumer.event.CategoryCreatedEvent;
 import com.example.catalogservice.consumer.event.CategoryDeletedEvent;
 import com.example.catalogservice.consumer.event.CategoryUpdatedEvent;
 import com.example.catalogservice.domain.CategoryCache;
+import com.example.catalogservice.domain.CategoryIndex;
 import com.example.catalogservice.domain.CategoryTreeNode;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,13 +17,21 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -42,6 +51,15 @@ class CategorySyncServiceTest {
     @Mock
     private ValueOperations<String, Object> valueOperations;
 
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private CategoryPathUpdater categoryPathUpdater;
+
     private CategorySyncService categorySyncService;
 
     @Captor
@@ -51,15 +69,35 @@ class CategorySyncServiceTest {
     private ArgumentCaptor<Object> valueCaptor;
 
     private static final String KEY_PREFIX = "catalog:category:";
-    private static final String KEY_TEMP_PREFIX = "catalog:category:temp:";
-    private static final String KEY_OLD_PREFIX = "catalog:category:old:";
+    private static final String KEY_DATA_PREFIX = "catalog:category:data:";
+    private static final String KEY_DATA_SEQUENCE = "catalog:category:data:seq";
+    private static final String KEY_CURRENT = "catalog:category:current";
     private static final String KEY_INDEX_ALL = "catalog:category:index:all";
     private static final String KEY_DISPLAY_TREE = "catalog:category:display:tree";
+    private static final String KEY_INDEX_VERSION = "catalog:category:index:version";
+
+    private static final String SAMPLE_TREE_JSON = "[{\"categoryId\":1,\"parentId\":null,\"categoryName\":\"전자제품\",\"displayOrder\":1,\"depth\":0," +
+            "\"children\":[{\"categoryId\":2,\"parentId\":1,\"categoryName\":\"스마트폰\",\"displayOrder\":1,\"depth\":1,\"children\":null}]}]";
 
     @BeforeEach
     void setUp() {
-        categorySyncService = new CategorySyncService(productServiceClient, redisTemplate);
+        categorySyncService = new CategorySyncService(productServiceClient, redisTemplate, catalogVersion,
+                categoryPathUpdater);
         lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.get(KEY_INDEX_VERSION)).thenReturn(null);
+        lenient().when(valueOperations.get(KEY_DISPLAY_TREE)).thenReturn(null);
+        lenient().doReturn(hashOperations).when(redisTemplate).opsForHash();
+
+        // 세션/파이프라인 콜백은 목 템플릿으로 바로 실행한다
+        lenient().when(redisTemplate.execute(any(SessionCallback.class))).thenAnswer(invocation ->
+                invocation.<SessionCallback<?>>getArgument(0).execute(redisTemplate));
+        lenient().when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            invocation.<SessionCallback<?>>getArgument(0).execute(redisTemplate);
+            return List.of();
+        });
+        // 새 버전 2, 이전 버전 1, 카테고리 버전 1
+        lenient().when(valueOperations.increment(KEY_DATA_SEQUENCE)).thenReturn(2L);
+        lenient().when(redisTemplate.exec()).thenReturn(List.of(1L, true, true, 1L));
     }
 
     @Test
@@ -73,13 +111,6 @@ class CategorySyncServiceTest {
         );
 
         when(productServiceClient.getCategoriesForSync()).thenReturn(categories);
-        when(redisTemplate.keys(KEY_PREFIX + "[0-9]*")).thenReturn(Set.of());
-        when(redisTemplate.keys(KEY_TEMP_PREFIX + "*")).thenReturn(Set.of(
-                KEY_TEMP_PREFIX + "1",
-                KEY_TEMP_PREFIX + "2",
-                KEY_TEMP_PREFIX + "3"
-        ));
-        when(redisTemplate.keys(KEY_OLD_PREFIX + "*")).thenReturn(Set.of());
 
         // When
         int result = categorySyncService.fullSync();
@@ -87,9 +118,15 @@ class CategorySyncServiceTest {
         // Then
         assertThat(result).isEqualTo(3);
         verify(productServiceClient).getCategoriesForSync();
-        verify(valueOperations, times(3)).set(startsWith(KEY_TEMP_PREFIX), any(CategoryCache.class));
+        verify(hashOperations).putAll(eq(KEY_DATA_PREFIX + "2"), argThat(fields ->
+                fields.size() == 3 && fields.keySet().containsAll(List.of("1", "2", "3"))));
+        verify(valueOperations).getAndSet(KEY_CURRENT, 2L);
         verify(valueOperations, times(1)).set(eq(KEY_INDEX_ALL), anyString());
-        verify(redisTemplate, times(3)).rename(startsWith(KEY_TEMP_PREFIX), startsWith(KEY_PREFIX));
+        verify(valueOperations).increment(KEY_INDEX_VERSION);
+        verify(redisTemplate).exec();
+        // 이전 버전 해시는 UNLINK로 삭제하고 KEYS는 사용하지 않는다
+        verify(redisTemplate).unlink(KEY_DATA_PREFIX + "1");
+        verify(redisTemplate, never()).keys(anyString());
     }
 
     @Test
@@ -123,60 +160,54 @@ class CategorySyncServiceTest {
     }
 
     @Test
-    @DisplayName("전체 동기화 - 기존 키 rename 동작 검증")
-    void fullSync_ExistingKeysRenamed() {
-        // Given
+    @DisplayName("전체 동기화 - 첫 동기화면 이전 레이아웃의 카테고리별 키를 SCAN으로 찾아 정리")
+    void fullSync_FirstSync_RemovesLegacyKeysWithScan() {
+        // Given - 이전 포인터 없음
         List<CatalogSyncCategoryResponse> categories = List.of(
                 createMockCategory(1L, null, "전자제품", 1, 0)
         );
 
-        Set<String> existingKeys = Set.of(
-                KEY_PREFIX + "1",
-                KEY_PREFIX + "2",
-                KEY_PREFIX + "999"  // 삭제될 카테고리
-        );
-
         when(productServiceClient.getCategoriesForSync()).thenReturn(categories);
-        when(redisTemplate.keys(KEY_PREFIX + "[0-9]*")).thenReturn(existingKeys);
-        when(redisTemplate.keys(KEY_TEMP_PREFIX + "*")).thenReturn(Set.of(KEY_TEMP_PREFIX + "1"));
-        when(redisTemplate.keys(KEY_OLD_PREFIX + "*")).thenReturn(Set.of(
-                KEY_OLD_PREFIX + "1",
-                KEY_OLD_PREFIX + "2",
-                KEY_OLD_PREFIX + "999"
-        ));
+        when(redisTemplate.exec()).thenReturn(Arrays.asList(null, true, true, 1L));
+        Cursor<String> legacyKeys = cursorOf(KEY_PREFIX + "1", KEY_PREFIX + "999");
+        Cursor<String> tempKeys = cursorOf(KEY_PREFIX + "temp:1");
+        Cursor<String> oldKeys = cursorOf();
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(legacyKeys, tempKeys, oldKeys);
+        when(redisTemplate.unlink(anyCollection())).thenAnswer(invocation ->
+                (long) invocation.<Collection<?>>getArgument(0).size());
 
         // When
         int result = categorySyncService.fullSync();
 
         // Then
         assertThat(result).isEqualTo(1);
-        // 기존 키들이 old 키로 rename되었는지 확인
-        verify(redisTemplate, times(3)).rename(startsWith(KEY_PREFIX), startsWith(KEY_OLD_PREFIX));
-        // old 키들이 삭제되었는지 확인
-        verify(redisTemplate).delete(argThat((Set<String> keys) ->
-            keys != null && keys.size() == 3
-        ));
+        ArgumentCaptor<ScanOptions> scanCaptor = ArgumentCaptor.forClass(ScanOptions.class);
+        verify(redisTemplate, times(3)).scan(scanCaptor.capture());
+        assertThat(scanCaptor.getAllValues()).extracting(ScanOptions::getPattern)
+                .containsExactly(KEY_PREFIX + "[0-9]*", KEY_PREFIX + "temp:*", KEY_PREFIX + "old:*");
+        verify(redisTemplate).unlink(List.of(KEY_PREFIX + "1", KEY_PREFIX + "999"));
+        verify(redisTemplate).unlink(List.of(KEY_PREFIX + "temp:1"));
+        verify(redisTemplate, never()).keys(anyString());
     }
 
     @Test
-    @DisplayName("전체 동기화 - temp 키에서 정규 키로 rename 검증")
-    void fullSync_TempKeysRenamedToRegular() {
+    @DisplayName("전체 동기화 - 대량 카테고리는 HSET을 나눠 한 번의 파이프라인으로 저장")
+    void fullSync_LargeDataset_SinglePipeline() {
         // Given
-        List<CatalogSyncCategoryResponse> categories = List.of(
-                createMockCategory(10L, null, "신규 카테고리", 1, 0)
-        );
+        List<CatalogSyncCategoryResponse> categories = java.util.stream.LongStream.rangeClosed(1, 1200)
+                .mapToObj(id -> createMockCategory(id, null, "카테고리" + id, (int) id, 0))
+                .toList();
 
         when(productServiceClient.getCategoriesForSync()).thenReturn(categories);
-        when(redisTemplate.keys(KEY_PREFIX + "[0-9]*")).thenReturn(Set.of());
-        when(redisTemplate.keys(KEY_TEMP_PREFIX + "*")).thenReturn(Set.of(KEY_TEMP_PREFIX + "10"));
-        when(redisTemplate.keys(KEY_OLD_PREFIX + "*")).thenReturn(Set.of());
 
         // When
         int result = categorySyncService.fullSync();
 
         // Then
-        assertThat(result).isEqualTo(1);
-        verify(redisTemplate).rename(KEY_TEMP_PREFIX + "10", KEY_PREFIX + "10");
+        assertThat(result).isEqualTo(1200);
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(hashOperations, times(3)).putAll(eq(KEY_DATA_PREFIX + "2"), anyMap());
+        verify(valueOperations, never()).set(startsWith(KEY_PREFIX), any(CategoryCache.class));
     }
 
     @Test
@@ -189,12 +220,6 @@ class CategorySyncServiceTest {
         );
 
         when(productServiceClient.getCategoriesForSync()).thenReturn(categories);
-        when(redisTemplate.keys(KEY_PREFIX + "[0-9]*")).thenReturn(Set.of());
-        when(redisTemplate.keys(KEY_TEMP_PREFIX + "*")).thenReturn(Set.of(
-                KEY_TEMP_PREFIX + "1",
-                KEY_TEMP_PREFIX + "2"
-        ));
-        when(redisTemplate.keys(KEY_OLD_PREFIX + "*")).thenReturn(Set.of());
 
         // When
         categorySyncService.fullSync();
@@ -210,36 +235,35 @@ class CategorySyncServiceTest {
     }
 
     @Test
-    @DisplayName("전체 동기화 실패 시 temp 키 정리")
-    void fullSync_Failure_CleanupTempKeys() {
-        // Given
-        when(productServiceClient.getCategoriesForSync())
-                .thenThrow(new RuntimeException("External service failure"));
-
-        Set<String> tempKeys = Set.of(KEY_TEMP_PREFIX + "1", KEY_TEMP_PREFIX + "2");
-        when(redisTemplate.keys(KEY_TEMP_PREFIX + "*")).thenReturn(tempKeys);
+    @DisplayName("전체 동기화 실패 시 새 버전 해시 정리")
+    void fullSync_Failure_CleanupNewDataHash() {
+        // Given - 포인터 교체 트랜잭션이 취소됨
+        when(productServiceClient.getCategoriesForSync()).thenReturn(List.of(
+                createMockCategory(1L, null, "전자제품", 1, 0)));
+        when(redisTemplate.exec()).thenReturn(List.of());
 
         // When & Then
         assertThatThrownBy(() -> categorySyncService.fullSync())
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Category full sync failed");
 
-        verify(redisTemplate).delete(tempKeys);
+        verify(redisTemplate).unlink(KEY_DATA_PREFIX + "2");
+        verify(redisTemplate, never()).unlink(KEY_DATA_PREFIX + "1");
+        verify(catalogVersion, never()).increment();
     }
 
     @Test
-    @DisplayName("전체 동기화 실패 시 temp 키가 없으면 정리 생략")
-    void fullSync_Failure_NoTempKeysToCleanup() {
+    @DisplayName("전체 동기화 실패 시 저장 전이면 정리 생략")
+    void fullSync_Failure_NothingToCleanup() {
         // Given
         when(productServiceClient.getCategoriesForSync())
                 .thenThrow(new RuntimeException("External service failure"));
-        when(redisTemplate.keys(KEY_TEMP_PREFIX + "*")).thenReturn(Set.of());
 
         // When & Then
         assertThatThrownBy(() -> categorySyncService.fullSync())
                 .isInstanceOf(RuntimeException.class);
 
-        verify(redisTemplate, never()).delete(anySet());
+        verify(redisTemplate, never()).unlink(anyString());
     }
 
     @Test
@@ -298,7 +322,8 @@ class CategorySyncServiceTest {
                 .depth(0)
                 .build();
 
-        when(valueOperations.get(KEY_PREFIX + "1")).thenReturn(category);
+        when(valueOperations.get(KEY_CURRENT)).thenReturn(3);
+        when(hashOperations.get(KEY_DATA_PREFIX + "3", "1")).thenReturn(category);
 
         // When
         CategoryCache result = categorySyncService.getCategoryById(1L);
@@ -313,7 +338,8 @@ class CategorySyncServiceTest {
     @DisplayName("getCategoryById - 데이터 없음")
     void getCategoryById_NoData() {
         // Given
-        when(valueOperations.get(KEY_PREFIX + "999")).thenReturn(null);
+        when(valueOperations.get(KEY_CURRENT)).thenReturn(3);
+        when(hashOperations.get(KEY_DATA_PREFIX + "3", "999")).thenReturn(null);
 
         // When
         CategoryCache result = categorySyncService.getCategoryById(999L);
@@ -322,11 +348,26 @@ class CategorySyncServiceTest {
         assertThat(result).isNull();
     }
 
+    @Test
+    @DisplayName("getCategoryById - 동기화 전(포인터 없음)이면 null 반환")
+    void getCategoryById_NoCurrentVersion() {
+        // Given
+        when(valueOperations.get(KEY_CURRENT)).thenReturn(null);
+
+        // When
+        CategoryCache result = categorySyncService.getCategoryById(1L);
+
+        // Then
+        assertThat(result).isNull();
+        verify(hashOperations, never()).get(anyString(), any());
+    }
+
     @Test
     @DisplayName("getCategoryById - CategoryCache 타입이 아니면 null 반환")
     void getCategoryById_WrongType() {
         // Given
-        when(valueOperations.get(KEY_PREFIX + "1")).thenReturn("wrong type");
+        when(valueOperations.get(KEY_CURRENT)).thenReturn(3);
+        when(hashOperations.get(KEY_DATA_PREFIX + "3", "1")).thenReturn("wrong type");
 
         // When
         CategoryCache result = categorySyncService.getCategoryById(1L);
@@ -347,17 +388,14 @@ class CategorySyncServiceTest {
         List<CatalogSyncCategoryResponse> categories = List.of(response);
 
         when(productServiceClient.getCategoriesForSync()).thenReturn(categories);
-        when(redisTemplate.keys(KEY_PREFIX + "[0-9]*")).thenReturn(Set.of());
-        when(redisTemplate.keys(KEY_TEMP_PREFIX + "*")).thenReturn(Set.of(KEY_TEMP_PREFIX + "100"));
-        when(redisTemplate.keys(KEY_OLD_PREFIX + "*")).thenReturn(Set.of());
 
         // When
         categorySyncService.fullSync();
 
         // Then
-        verify(valueOperations).set(eq(KEY_TEMP_PREFIX + "100"), argThat(value -> {
-            if (value instanceof CategoryCache) {
-                CategoryCache cache = (CategoryCache) value;
+        verify(hashOperations).putAll(eq(KEY_DATA_PREFIX + "2"), argThat(fields -> {
+            if (fields.get("100") instanceof CategoryCache) {
+                CategoryCache cache = (CategoryCache) fields.get("100");
                 return cache.getCategoryId().equals(100L) &&
                         cache.getParentId().equals(10L) &&
                         cache.getCategoryName().equals("테스트 카테고리") &&
@@ -383,15 +421,6 @@ class CategorySyncServiceTest {
         );
 
         when(productServiceClient.getCategoriesForSync()).thenReturn(categories);
-        when(redisTemplate.keys(KEY_PREFIX + "[0-9]*")).thenReturn(Set.of());
-        when(redisTemplate.keys(KEY_TEMP_PREFIX + "*")).thenReturn(Set.of(
-                KEY_TEMP_PREFIX + "1",
-                KEY_TEMP_PREFIX + "2",
-                KEY_TEMP_PREFIX + "3",
-                KEY_TEMP_PREFIX + "4",
-                KEY_TEMP_PREFIX + "5"
-        ));
-        when(redisTemplate.keys(KEY_OLD_PREFIX + "*")).thenReturn(Set.of());
 
         // When
         categorySyncService.fullSync();
@@ -486,13 +515,6 @@ class CategorySyncServiceTest {
         );
 
         when(productServiceClient.getCategoriesForSync()).thenReturn(categories);
-        when(redisTemplate.keys(KEY_PREFIX + "[0-9]*")).thenReturn(Set.of());
-        when(redisTemplate.keys(KEY_TEMP_PREFIX + "*")).thenReturn(Set.of(
-                KEY_TEMP_PREFIX + "1", KEY_TEMP_PREFIX + "2", KEY_TEMP_PREFIX + "3",
-                KEY_TEMP_PREFIX + "4", KEY_TEMP_PREFIX + "5", KEY_TEMP_PREFIX + "6",
-                KEY_TEMP_PREFIX + "7", KEY_TEMP_PREFIX + "8"
-        ));
-        when(redisTemplate.keys(KEY_OLD_PREFIX + "*")).thenReturn(Set.of());
 
         // When
         categorySyncService.fullSync();
@@ -527,12 +549,6 @@ class CategorySyncServiceTest {
         );
 
         when(productServiceClient.getCategoriesForSync()).thenReturn(categories);
-        when(redisTemplate.keys(KEY_PREFIX + "[0-9]*")).thenReturn(Set.of());
-        when(redisTemplate.keys(KEY_TEMP_PREFIX + "*")).thenReturn(Set.of(
-                KEY_TEMP_PREFIX + "1", KEY_TEMP_PREFIX + "2", KEY_TEMP_PREFIX + "3",
-                KEY_TEMP_PREFIX + "4", KEY_TEMP_PREFIX + "5"
-        ));
-        when(redisTemplate.keys(KEY_OLD_PREFIX + "*")).thenReturn(Set.of());
 
         // When
         categorySyncService.fullSync();
@@ -552,11 +568,6 @@ class CategorySyncServiceTest {
         );
 
         when(productServiceClient.getCategoriesForSync()).thenReturn(categories);
-        when(redisTemplate.keys(KEY_PREFIX + "[0-9]*")).thenReturn(Set.of());
-        when(redisTemplate.keys(KEY_TEMP_PREFIX + "*")).thenReturn(Set.of(
-                KEY_TEMP_PREFIX + "1", KEY_TEMP_PREFIX + "2", KEY_TEMP_PREFIX + "3"
-        ));
-        when(redisTemplate.keys(KEY_OLD_PREFIX + "*")).thenReturn(Set.of());
 
         // When
         categorySyncService.fullSync();
@@ -700,6 +711,141 @@ class CategorySyncServiceTest {
         assertThat(result).containsExactlyInAnyOrder(10L, 11L, 12L);
     }
 
+    @Test
+    @DisplayName("getCategoryIdWithDescendants - 스냅샷을 재사용하여 요청마다 Redis에서 트리를 읽지 않음")
+    void getCategoryIdWithDescendants_ReusesSnapshot() {
+        // Given
+        when(valueOperations.get(KEY_DISPLAY_TREE)).thenReturn(SAMPLE_TREE_JSON);
+
+        // When
+        List<Long> first = categorySyncService.getCategoryIdWithDescendants(1L);
+        List<Long> second = categorySyncService.getCategoryIdWithDescendants(2L);
+
+        // Then
+        assertThat(first).containsExactly(1L, 2L);
+        assertThat(second).containsExactly(2L);
+        verify(valueOperations, times(1)).get(KEY_DISPLAY_TREE);
+    }
+
+    @Test
+    @DisplayName("getCategoryIdWithDescendants - 다른 인스턴스가 카테고리 버전을 올리면 트리를 다시 읽음")
+    void getCategoryIdWithDescendants_ReloadsOnVersionChange() {
+        // Given
+        when(valueOperations.get(KEY_DISPLAY_TREE)).thenReturn(SAMPLE_TREE_JSON);
+        assertThat(categorySyncService.getCategoryIdWithDescendants(1L)).containsExactly(1L, 2L);
+
+        String updatedTree = "[{\"categoryId\":1,\"parentId\":null,\"categoryName\":\"전자제품\",\"displayOrder\":1,\"depth\":0," +
+                "\"children\":[{\"categoryId\":2,\"parentId\":1,\"categoryName\":\"스마트폰\",\"displayOrder\":1,\"depth\":1,\"children\":null}," +
+                "{\"categoryId\":3,\"parentId\":1,\"categoryName\":\"노트북\",\"displayOrder\":2,\"depth\":1,\"children\":null}]}]";
+        when(valueOperations.get(KEY_INDEX_VERSION)).thenReturn(1L);
+        when(valueOperations.get(KEY_DISPLAY_TREE)).thenReturn(updatedTree);
+        expireIndexCheck();
+
+        // When
+        List<Long> result = categorySyncService.getCategoryIdWithDescendants(1L);
+
+        // Then
+        assertThat(result).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("getCategoryIdWithDescendants - 버전이 같으면 확인 주기가 지나도 트리를 다시 읽지 않음")
+    void getCategoryIdWithDescendants_SameVersionKeepsSnapshot() {
+        // Given
+        when(valueOperations.get(KEY_DISPLAY_TREE)).thenReturn(SAMPLE_TREE_JSON);
+        categorySyncService.getCategoryIdWithDescendants(1L);
+        expireIndexCheck();
+
+        // When
+        categorySyncService.getCategoryIdWithDescendants(1L);
+
+        // Then
+        verify(valueOperations, times(1)).get(KEY_DISPLAY_TREE);
+        verify(valueOperations, times(2)).get(KEY_INDEX_VERSION);
+    }
+
+    @Test
+    @DisplayName("getCategoryIdWithDescendants - Redis 장애 시 자기 자신만 반환")
+    void getCategoryIdWithDescendants_RedisFailure() {
+        // Given
+        when(valueOperations.get(KEY_INDEX_VERSION)).thenThrow(new RuntimeException("Redis down"));
+
+        // When
+        List<Long> result = categorySyncService.getCategoryIdWithDescendants(1L);
+
+        // Then
+        assertThat(result).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("카테고리 이벤트 처리 후 스냅샷이 즉시 교체되어 Redis 트리를 읽지 않고 조회됨")
+    void syncCategory_PublishesSnapshot() {
+        // Given - 전자제품(1) 아래 스마트폰(2) 생성
+        CategoryCache parent = CategoryCache.builder()
+                .categoryId(1L)
+                .categoryName("전자제품")
+                .displayOrder(1)
+                .depth(0)
+                .build();
+        givenCurrentCategories(parent);
+        when(redisTemplate.exec()).thenReturn(List.of(true, true, true, 5L));
+
+        CategoryCreatedEvent event = CategoryCreatedEvent.builder()
+                .categoryId(2L)
+                .parentId(1L)
+                .categoryName("스마트폰")
+                .displayOrder(1)
+                .build();
+
+        // When
+        categorySyncService.syncCategory(event);
+
+        // Then
+        CategoryIndex index = categorySyncService.getCategoryIndex();
+        assertThat(index.getVersion()).isEqualTo(5L);
+        assertThat(index.getAncestorPath(2L)).containsExactly(1L, 2L);
+        assertThat(categorySyncService.getCategoryIdWithDescendants(1L)).containsExactly(1L, 2L);
+        // 변경 전 스냅샷을 만들 때 한 번만 읽는다
+        verify(valueOperations, times(1)).get(KEY_DISPLAY_TREE);
+        verify(categoryPathUpdater, never()).updatePaths(any(), any());
+    }
+
+    @Test
+    @DisplayName("카테고리 이동 시 이동된 카테고리의 상품 categoryPath 갱신을 예약")
+    void updateCategory_MovedCategory_SchedulesPathUpdate() {
+        // Given - 변경 전: 전자제품(1) > 스마트폰(2), 가전(3)
+        String treeBefore = "[{\"categoryId\":1,\"parentId\":null,\"categoryName\":\"전자제품\",\"displayOrder\":1,\"depth\":0," +
+                "\"children\":[{\"categoryId\":2,\"parentId\":1,\"categoryName\":\"스마트폰\",\"displayOrder\":1,\"depth\":1,\"children\":null}]}," +
+                "{\"categoryId\":3,\"parentId\":null,\"categoryName\":\"가전\",\"displayOrder\":2,\"depth\":0,\"children\":null}]";
+        when(valueOperations.get(KEY_DISPLAY_TREE)).thenReturn(treeBefore);
+
+        CategoryCache electronics = CategoryCache.builder().categoryId(1L).categoryName("전자제품").displayOrder(1).depth(0).build();
+        CategoryCache appliances = CategoryCache.builder().categoryId(3L).categoryName("가전").displayOrder(2).depth(0).build();
+        CategoryCache smartphone = CategoryCache.builder().categoryId(2L).parentId(1L).categoryName("스마트폰").displayOrder(1).depth(1).build();
+        givenCurrentCategories(electronics, smartphone, appliances);
+        when(redisTemplate.exec()).thenReturn(List.of(true, true, true, 2L));
+
+        // 변경 후: 스마트폰(2)을 가전(3) 아래로 이동
+        CategoryUpdatedEvent event = CategoryUpdatedEvent.builder()
+                .categoryId(2L)
+                .parentId(3L)
+                .categoryName("스마트폰")
+                .displayOrder(1)
+                .build();
+
+        // When
+        categorySyncService.updateCategory(event);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> movedCaptor = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<CategoryIndex> indexCaptor = ArgumentCaptor.forClass(CategoryIndex.class);
+        verify(categoryPathUpdater).updatePaths(movedCaptor.capture(), indexCaptor.capture());
+        assertThat(movedCaptor.getValue()).containsExactly(2L);
+        assertThat(indexCaptor.getValue().getAncestorPath(2L)).containsExactly(3L, 2L);
+        assertThat(categorySyncService.getCategoryIdWithDescendants(3L)).containsExactly(3L, 2L);
+    }
+
     @Test
     @DisplayName("syncCategory - 카테고리 생성 이벤트 처리 성공")
     void syncCategory_Success() {
@@ -712,13 +858,16 @@ class CategorySyncServiceTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        when(redisTemplate.keys(KEY_PREFIX + "[0-9]*")).thenReturn(Set.of());
+        givenCurrentCategories();
 
         // When
         categorySyncService.syncCategory(event);
 
-        // Then
-        verify(valueOperations).set(eq(KEY_PREFIX + "1"), argThat(value -> {
+        // Then - 카테고리, index:all, display:tree, 카테고리 버전을 한 트랜잭션으로 반영
+        verify(redisTemplate).watch(KEY_CURRENT);
+        verify(redisTemplate).watch(KEY_DATA_PREFIX + "3");
+        verify(redisTemplate).multi();
+        verify(hashOperations).put(eq(KEY_DATA_PREFIX + "3"), eq("1"), argThat(value -> {
             if (value instanceof CategoryCache) {
                 CategoryCache cache = (CategoryCache) value;
                 return cache.getCategoryId().equals(1L) &&
@@ -731,6 +880,98 @@ class CategorySyncServiceTest {
         }));
         verify(valueOperations).set(eq(KEY_INDEX_ALL), anyString());
         verify(valueOperations).set(eq(KEY_DISPLAY_TREE), anyString());
+        verify(valueOperations).increment(KEY_INDEX_VERSION);
+        verify(redisTemplate).exec();
+        verify(catalogVersion).increment();
+    }
+
+    @Test
+    @DisplayName("syncCategory - 전체 동기화 전 첫 이벤트면 빈 해시에서 시작하지 않고 전체 동기화를 실행")
+    void syncCategory_NoCurrentVersion_RunsFullSync() {
+        // Given
+        when(valueOperations.get(KEY_CURRENT)).thenReturn(null);
+        when(productServiceClient.getCategoriesForSync()).thenReturn(List.of(
+                createMockCategory(1L, null, "전자제품", 1, 0),
+                createMockCategory(2L, 1L, "스마트폰", 1, 1)));
+
+        CategoryCreatedEvent event = CategoryCreatedEvent.builder()
+                .categoryId(2L)
+                .parentId(1L)
+                .categoryName("스마트폰")
+                .displayOrder(1)
+                .build();
+
+        // When
+        categorySyncService.syncCategory(event);
+
+        // Then - 카테고리 하나짜리 부분 스냅샷을 발행하지 않고 전체 카테고리로 새 버전을 만든다
+        verify(hashOperations, never()).put(anyString(), any(), any());
+        verify(hashOperations).putAll(eq(KEY_DATA_PREFIX + "2"), argThat(fields ->
+                fields.keySet().containsAll(List.of("1", "2"))));
+        verify(valueOperations).getAndSet(KEY_CURRENT, 2L);
+        assertThat(categorySyncService.getCategoryIdWithDescendants(1L)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("syncCategory - 전체 동기화 전 첫 이벤트인데 카테고리를 받지 못하면 실패")
+    void syncCategory_NoCurrentVersion_EmptyFullSync_Fails() {
+        // Given
+        when(valueOperations.get(KEY_CURRENT)).thenReturn(null);
+        when(productServiceClient.getCategoriesForSync()).thenReturn(List.of());
+
+        CategoryCreatedEvent event = CategoryCreatedEvent.builder()
+                .categoryId(1L)
+                .categoryName("전자제품")
+                .displayOrder(1)
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> categorySyncService.syncCategory(event))
+                .isInstanceOf(IllegalStateException.class);
+        verify(redisTemplate, never()).multi();
+        verify(catalogVersion, never()).increment();
+    }
+
+    @Test
+    @DisplayName("syncCategory - 다른 변경과 충돌해 트랜잭션이 취소되면 다시 읽어서 재시도")
+    void syncCategory_WatchConflict_Retries() {
+        // Given - 첫 EXEC는 WATCH 충돌로 취소됨
+        givenCurrentCategories();
+        when(redisTemplate.exec()).thenReturn(List.of(), List.of(true, true, true, 7L));
+
+        CategoryCreatedEvent event = CategoryCreatedEvent.builder()
+                .categoryId(1L)
+                .categoryName("전자제품")
+                .displayOrder(1)
+                .build();
+
+        // When
+        categorySyncService.syncCategory(event);
+
+        // Then
+        verify(hashOperations, times(2)).entries(KEY_DATA_PREFIX + "3");
+        verify(redisTemplate, times(2)).exec();
+        assertThat(categorySyncService.getCategoryIndex().getVersion()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("syncCategory - 계속 충돌하면 재시도 횟수를 넘긴 뒤 실패")
+    void syncCategory_WatchConflict_GivesUp() {
+        // Given
+        givenCurrentCategories();
+        when(redisTemplate.exec()).thenReturn(List.of());
+
+        CategoryCreatedEvent event = CategoryCreatedEvent.builder()
+                .categoryId(1L)
+                .categoryName("전자제품")
+                .displayOrder(1)
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> categorySyncService.syncCategory(event))
+                .isInstanceOf(IllegalStateException.class);
+        verify(redisTemplate, times(5)).exec();
+        verify(catalogVersion, never()).increment();
     }
 
     @Test
@@ -744,8 +985,7 @@ class CategorySyncServiceTest {
                 .depth(0)
                 .build();
 
-        when(valueOperations.get(KEY_PREFIX + "1")).thenReturn(parentCategory);
-        when(redisTemplate.keys(KEY_PREFIX + "[0-9]*")).thenReturn(Set.of(KEY_PREFIX + "1"));
+        givenCurrentCategories(parentCategory);
 
         CategoryCreatedEvent event = CategoryCreatedEvent.builder()
                 .categoryId(10L)
@@ -759,7 +999,7 @@ class CategorySyncServiceTest {
         categorySyncService.syncCategory(event);
 
         // Then
-        verify(valueOperations).set(eq(KEY_PREFIX + "10"), argThat(value -> {
+        verify(hashOperations).put(eq(KEY_DATA_PREFIX + "3"), eq("10"), argThat(value -> {
             if (value instanceof CategoryCache) {
                 CategoryCache cache = (CategoryCache) value;
                 return cache.getCategoryId().equals(10L) &&
@@ -775,8 +1015,7 @@ class CategorySyncServiceTest {
     @DisplayName("syncCategory - 부모 카테고리가 없는 경우 depth=1로 가정")
     void syncCategory_ParentNotFoundDepthAssumed() {
         // Given - 부모 ID는 있지만 실제 부모 카테고리가 Redis에 없음
-        when(valueOperations.get(KEY_PREFIX + "999")).thenReturn(null);
-        when(redisTemplate.keys(KEY_PREFIX + "[0-9]*")).thenReturn(Set.of());
+        givenCurrentCategories();
 
         CategoryCreatedEvent event = CategoryCreatedEvent.builder()
                 .categoryId(10L)
@@ -790,7 +1029,7 @@ class CategorySyncServiceTest {
         categorySyncService.syncCategory(event);
 
         // Then
-        verify(valueOperations).set(eq(KEY_PREFIX + "10"), argThat(value -> {
+        verify(hashOperations).put(eq(KEY_DATA_PREFIX + "3"), eq("10"), argThat(value -> {
             if (value instanceof CategoryCache) {
                 CategoryCache cache = (CategoryCache) value;
                 return cache.getDepth().equals(1);  // 부모를 찾지 못하면 depth=1로 가정
@@ -812,8 +1051,7 @@ class CategorySyncServiceTest {
                 .createdAt(LocalDateTime.now().minusDays(1))
                 .build();
 
-        when(valueOperations.get(KEY_PREFIX + "1")).thenReturn(existingCategory);
-        when(redisTemplate.keys(KEY_PREFIX + "[0-9]*")).thenReturn(Set.of(KEY_PREFIX + "1"));
+        givenCurrentCategories(existingCategory);
 
         CategoryUpdatedEvent event = CategoryUpdatedEvent.builder()
                 .categoryId(1L)
@@ -827,7 +1065,7 @@ class CategorySyncServiceTest {
         categorySyncService.updateCategory(event);
 
         // Then
-        verify(valueOperations).set(eq(KEY_PREFIX + "1"), argThat(value -> {
+        verify(hashOperations).put(eq(KEY_DATA_PREFIX + "3"), eq("1"), argThat(value -> {
             if (value instanceof CategoryCache) {
                 CategoryCache cache = (CategoryCache) value;
                 return cache.getCategoryId().equals(1L) &&
@@ -846,8 +1084,7 @@ class CategorySyncServiceTest {
     @DisplayName("updateCategory - 존재하지 않는 카테고리 수정 시 새로 생성")
     void updateCategory_CategoryNotFoundCreatesNew() {
         // Given - 카테고리가 존재하지 않음
-        when(valueOperations.get(KEY_PREFIX + "999")).thenReturn(null);
-        when(redisTemplate.keys(KEY_PREFIX + "[0-9]*")).thenReturn(Set.of());
+        givenCurrentCategories();
 
         CategoryUpdatedEvent event = CategoryUpdatedEvent.builder()
                 .categoryId(999L)
@@ -861,7 +1098,7 @@ class CategorySyncServiceTest {
         categorySyncService.updateCategory(event);
 
         // Then - 새로운 카테고리로 생성됨
-        verify(valueOperations).set(eq(KEY_PREFIX + "999"), argThat(value -> {
+        verify(hashOperations).put(eq(KEY_DATA_PREFIX + "3"), eq("999"), argThat(value -> {
             if (value instanceof CategoryCache) {
                 CategoryCache cache = (CategoryCache) value;
                 return cache.getCategoryId().equals(999L) &&
@@ -890,9 +1127,7 @@ class CategorySyncServiceTest {
                 .depth(0)
                 .build();
 
-        when(valueOperations.get(KEY_PREFIX + "10")).thenReturn(existingCategory);
-        when(valueOperations.get(KEY_PREFIX + "2")).thenReturn(newParentCategory);
-        when(redisTemplate.keys(KEY_PREFIX + "[0-9]*")).thenReturn(Set.of(KEY_PREFIX + "10", KEY_PREFIX + "2"));
+        givenCurrentCategories(existingCategory, newParentCategory);
 
         CategoryUpdatedEvent event = CategoryUpdatedEvent.builder()
                 .categoryId(10L)
@@ -906,7 +1141,7 @@ class CategorySyncServiceTest {
         categorySyncService.updateCategory(event);
 
         // Then
-        verify(valueOperations).set(eq(KEY_PREFIX + "10"), argThat(value -> {
+        verify(hashOperations).put(eq(KEY_DATA_PREFIX + "3"), eq("10"), argThat(value -> {
             if (value instanceof CategoryCache) {
                 CategoryCache cache = (CategoryCache) value;
                 return cache.getParentId().equals(2L) &&
@@ -920,8 +1155,7 @@ class CategorySyncServiceTest {
     @DisplayName("deleteCategory - 카테고리 삭제 이벤트 처리 성공")
     void deleteCategory_Success() {
         // Given
-        when(redisTemplate.delete(KEY_PREFIX + "1")).thenReturn(true);
-        when(redisTemplate.keys(KEY_PREFIX + "[0-9]*")).thenReturn(Set.of());
+        givenCurrentCategories(CategoryCache.builder().categoryId(1L).categoryName("전자제품").depth(0).build());
 
         CategoryDeletedEvent event = CategoryDeletedEvent.builder()
                 .categoryId(1L)
@@ -932,16 +1166,17 @@ class CategorySyncServiceTest {
         categorySyncService.deleteCategory(event);
 
         // Then
-        verify(redisTemplate).delete(KEY_PREFIX + "1");
+        verify(hashOperations).delete(KEY_DATA_PREFIX + "3", "1");
         verify(valueOperations).set(eq(KEY_INDEX_ALL), anyString());
         verify(valueOperations).set(eq(KEY_DISPLAY_TREE), anyString());
+        verify(catalogVersion).increment();
     }
 
     @Test
     @DisplayName("deleteCategory - 존재하지 않는 카테고리 삭제 시 경고 로그만")
     void deleteCategory_CategoryNotFound() {
         // Given
-        when(redisTemplate.delete(KEY_PREFIX + "999")).thenReturn(false);
+        givenCurrentCategories();
 
         CategoryDeletedEvent event = CategoryDeletedEvent.builder()
                 .categoryId(999L)
@@ -951,19 +1186,19 @@ class CategorySyncServiceTest {
         // When
         categorySyncService.deleteCategory(event);
 
-        // Then
-        verify(redisTemplate).delete(KEY_PREFIX + "999");
-        // index:all과 display:tree는 재구성되지 않음 (삭제 실패)
+        // Then - 트랜잭션 없이 WATCH만 해제하고 index:all과 display:tree는 재구성되지 않음
+        verify(redisTemplate).unwatch();
+        verify(redisTemplate, never()).multi();
         verify(valueOperations, never()).set(eq(KEY_INDEX_ALL), anyString());
         verify(valueOperations, never()).set(eq(KEY_DISPLAY_TREE), anyString());
+        verify(catalogVersion, never()).increment();
     }
 
     @Test
     @DisplayName("deleteCategory - 모든 카테고리 삭제 시 빈 목록으로 저장")
     void deleteCategory_AllCategoriesDeleted() {
         // Given - 마지막 남은 카테고리 삭제
-        when(redisTemplate.delete(KEY_PREFIX + "1")).thenReturn(true);
-        when(redisTemplate.keys(KEY_PREFIX + "[0-9]*")).thenReturn(Set.of());
+        givenCurrentCategories(CategoryCache.builder().categoryId(1L).categoryName("전자제품").depth(0).build());
 
         CategoryDeletedEvent event = CategoryDeletedEvent.builder()
                 .categoryId(1L)
@@ -979,9 +1214,9 @@ class CategorySyncServiceTest {
     }
 
     @Test
-    @DisplayName("rebuildIndexAndTree - 개별 카테고리 키들로부터 index와 tree 재구성")
-    void rebuildIndexAndTree_ReconstructFromIndividualKeys() {
-        // Given - 여러 개별 카테고리 키가 존재
+    @DisplayName("이벤트 처리 - 버전 해시를 HGETALL 한 번으로 읽어 index와 tree 재구성")
+    void applyCategoryChange_ReconstructFromDataHash() {
+        // Given - 버전 해시에 여러 카테고리가 존재
         CategoryCache category1 = CategoryCache.builder()
                 .categoryId(1L)
                 .categoryName("전자제품")
@@ -997,25 +1232,57 @@ class CategorySyncServiceTest {
                 .depth(1)
                 .build();
 
-        when(redisTemplate.keys(KEY_PREFIX + "[0-9]*")).thenReturn(Set.of(
-                KEY_PREFIX + "1",
-                KEY_PREFIX + "2"
-        ));
-        when(valueOperations.get(KEY_PREFIX + "1")).thenReturn(category1);
-        when(valueOperations.get(KEY_PREFIX + "2")).thenReturn(category2);
-        when(redisTemplate.delete(KEY_PREFIX + "1")).thenReturn(true);
+        CategoryCache category3 = CategoryCache.builder()
+                .categoryId(3L)
+                .categoryName("의류")
+                .displayOrder(2)
+                .depth(0)
+                .build();
+
+        givenCurrentCategories(category1, category2, category3);
 
         CategoryDeletedEvent event = CategoryDeletedEvent.builder()
-                .categoryId(1L)
+                .categoryId(3L)
                 .deletedAt(LocalDateTime.now())
                 .build();
 
         // When
         categorySyncService.deleteCategory(event);
 
-        // Then - index:all과 display:tree가 재구성됨
-        verify(valueOperations).set(eq(KEY_INDEX_ALL), anyString());
+        // Then - 남은 카테고리로 index:all과 display:tree가 재구성됨
+        verify(hashOperations, times(1)).entries(KEY_DATA_PREFIX + "3");
+        verify(valueOperations).set(eq(KEY_INDEX_ALL), argThat(value -> value instanceof String json
+                && json.contains("\"categoryId\":1") && json.contains("\"categoryId\":2")
+                && !json.contains("\"categoryId\":3")));
         verify(valueOperations).set(eq(KEY_DISPLAY_TREE), anyString());
+        assertThat(categorySyncService.getCategoryIdWithDescendants(1L)).containsExactly(1L, 2L);
+        verify(redisTemplate, never()).keys(anyString());
+    }
+
+    /**
+     * current 포인터가 버전 3을 가리키고, 그 해시에 주어진 카테고리가 있는 상태
+     */
+    private void givenCurrentCategories(CategoryCache... categories) {
+        Map<Object, Object> entries = new HashMap<>();
+        for (CategoryCache category : categories) {
+            entries.put(String.valueOf(category.getCategoryId()), category);
+        }
+        when(valueOperations.get(KEY_CURRENT)).thenReturn(3);
+        when(hashOperations.entries(KEY_DATA_PREFIX + "3")).thenReturn(entries);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cursor<String> cursorOf(String... keys) {
+        Cursor<String> cursor = mock(Cursor.class);
+        java.util.Iterator<String> iterator = List.of(keys).iterator();
+        lenient().when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        lenient().when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        return cursor;
+    }
+
+    private void expireIndexCheck() {
+        ReflectionTestUtils.setField(categorySyncService, "indexCheckedAt",
+                System.nanoTime() - TimeUnit.SECONDS.toNanos(2));
     }
 
     private CatalogSyncCategoryResponse createMockCategory(Long id, Long parentId, String name,
@@ -3,7 +3,6 @@ package com.example.catalogservice.service;
 import com.example.catalogservice.consumer.event.KeywordCreatedEvent;
 import com.example.catalogservice.consumer.event.KeywordDeletedEvent;
 import com.example.catalogservice.domain.document.ProductDocument;
-import com.example.catalogservice.repository.ProductSearchRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,16 +10,25 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,494 +36,238 @@ import static org.mockito.Mockito.*;
 class KeywordSyncServiceTest {
 
     @Mock
-    private ProductSearchRepository productSearchRepository;
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private AutocompleteService autocompleteService;
 
     @InjectMocks
     private KeywordSyncService keywordSyncService;
 
     @Test
-    @DisplayName("키워드 추가 - 성공 (기존 키워드가 없는 경우)")
-    void addKeyword_Success_NoExistingKeywords() {
-        // Given
-        Long productId = 1L;
-        String keyword = "프리미엄";
-
-        KeywordCreatedEvent event = KeywordCreatedEvent.builder()
-                .keywordId(100L)
-                .productId(productId)
-                .keyword(keyword)
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        ProductDocument existingDocument = ProductDocument.builder()
-                .productId(String.valueOf(productId))
-                .productName("테스트 상품")
-                .description("테스트 설명")
-                .basePrice(10000L)
-                .salePrice(8000L)
-                .status("ACTIVE")
-                .primaryImageUrl("http://example.com/image.jpg")
-                .categoryIds(List.of(1L, 2L))
-                .searchKeywords(null)  // 키워드 없음
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-        when(productSearchRepository.findById(String.valueOf(productId)))
-                .thenReturn(Optional.of(existingDocument));
-        when(productSearchRepository.save(any(ProductDocument.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-
+    @DisplayName("키워드 추가 - searchKeywords 배열에 대한 스크립트 부분 업데이트로 반영")
+    void addKeyword_ScriptedPartialUpdate() {
         // When
-        keywordSyncService.addKeyword(event);
+        keywordSyncService.addKeyword(createdEvent(1L, "프리미엄"));
 
         // Then
-        ArgumentCaptor<ProductDocument> captor = ArgumentCaptor.forClass(ProductDocument.class);
-        verify(productSearchRepository, times(1)).findById(String.valueOf(productId));
-        verify(productSearchRepository, times(1)).save(captor.capture());
+        List<UpdateQuery> queries = captureBulkUpdates().get(0);
+        assertThat(queries).hasSize(1);
 
-        ProductDocument savedDocument = captor.getValue();
-        assertThat(savedDocument.getSearchKeywords()).hasSize(1);
-        assertThat(savedDocument.getSearchKeywords()).contains(keyword);
-    }
+        UpdateQuery query = queries.get(0);
+        assertThat(query.getId()).isEqualTo("1");
+        assertThat(query.getScript()).isEqualTo(KeywordSyncService.UPDATE_SCRIPT);
+        assertThat(query.getLang()).isEqualTo("painless");
+        assertThat(query.getParams()).containsEntry("add", List.of("프리미엄"))
+                .containsEntry("remove", List.of());
+        assertThat(query.getRetryOnConflict()).isEqualTo(3);
 
-    @Test
-    @DisplayName("키워드 추가 - 성공 (기존 키워드가 있는 경우)")
-    void addKeyword_Success_WithExistingKeywords() {
-        // Given
-        Long productId = 1L;
-        String newKeyword = "신상품";
-        List<String> existingKeywords = new ArrayList<>(List.of("프리미엄", "베스트"));
+        // 문서 전체를 다시 저장하지 않으므로 다른 필드(skus 등)를 건드리지 않는다
+        assertThat(query.getDocument()).isNull();
 
-        KeywordCreatedEvent event = KeywordCreatedEvent.builder()
-                .keywordId(100L)
-                .productId(productId)
-                .keyword(newKeyword)
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        ProductDocument existingDocument = ProductDocument.builder()
-                .productId(String.valueOf(productId))
-                .productName("테스트 상품")
-                .description("테스트 설명")
-                .basePrice(10000L)
-                .salePrice(8000L)
-                .status("ACTIVE")
-                .primaryImageUrl("http://example.com/image.jpg")
-                .categoryIds(List.of(1L, 2L))
-                .searchKeywords(existingKeywords)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-        when(productSearchRepository.findById(String.valueOf(productId)))
-                .thenReturn(Optional.of(existingDocument));
-        when(productSearchRepository.save(any(ProductDocument.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        verify(autocompleteService).keywordAdded(1L, "프리미엄");
+    }
 
+    @Test
+    @DisplayName("키워드 삭제 - remove 파라미터로 스크립트 부분 업데이트")
+    void removeKeyword_ScriptedPartialUpdate() {
         // When
-        keywordSyncService.addKeyword(event);
+        keywordSyncService.removeKeyword(deletedEvent(1L, "프리미엄"));
 
         // Then
-        ArgumentCaptor<ProductDocument> captor = ArgumentCaptor.forClass(ProductDocument.class);
-        verify(productSearchRepository, times(1)).save(captor.capture());
+        UpdateQuery query = captureBulkUpdates().get(0).get(0);
+        assertThat(query.getId()).isEqualTo("1");
+        assertThat(query.getParams()).containsEntry("add", List.of())
+                .containsEntry("remove", List.of("프리미엄"));
 
-        ProductDocument savedDocument = captor.getValue();
-        assertThat(savedDocument.getSearchKeywords()).hasSize(3);
-        assertThat(savedDocument.getSearchKeywords()).containsExactlyInAnyOrder("프리미엄", "베스트", "신상품");
+        verify(autocompleteService).keywordRemoved(1L, "프리미엄");
     }
 
     @Test
-    @DisplayName("키워드 추가 - 중복 키워드는 추가하지 않음")
-    void addKeyword_DuplicateKeyword_NotAdded() {
-        // Given
-        Long productId = 1L;
-        String duplicateKeyword = "프리미엄";
-        List<String> existingKeywords = new ArrayList<>(List.of("프리미엄", "베스트"));
-
-        KeywordCreatedEvent event = KeywordCreatedEvent.builder()
-                .keywordId(100L)
-                .productId(productId)
-                .keyword(duplicateKeyword)
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        ProductDocument existingDocument = ProductDocument.builder()
-                .productId(String.valueOf(productId))
-                .productName("테스트 상품")
-                .description("테스트 설명")
-                .basePrice(10000L)
-                .salePrice(8000L)
-                .status("ACTIVE")
-                .primaryImageUrl("http://example.com/image.jpg")
-                .categoryIds(List.of(1L, 2L))
-                .searchKeywords(existingKeywords)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-        when(productSearchRepository.findById(String.valueOf(productId)))
-                .thenReturn(Optional.of(existingDocument));
-        when(productSearchRepository.save(any(ProductDocument.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-
-        // When
-        keywordSyncService.addKeyword(event);
-
-        // Then
-        ArgumentCaptor<ProductDocument> captor = ArgumentCaptor.forClass(ProductDocument.class);
-        verify(productSearchRepository, times(1)).save(captor.capture());
-
-        ProductDocument savedDocument = captor.getValue();
-        assertThat(savedDocument.getSearchKeywords()).hasSize(2);
-        assertThat(savedDocument.getSearchKeywords()).containsExactlyInAnyOrder("프리미엄", "베스트");
+    @DisplayName("스크립트 - 중복 추가 방지, null 배열 초기화, 변경 없으면 noop")
+    void updateScript_Idempotent() {
+        assertThat(KeywordSyncService.UPDATE_SCRIPT)
+                .contains("keywords == null")
+                .contains("!keywords.contains(keyword)")
+                .contains("removeIf")
+                .contains("ctx.op = 'noop'");
     }
 
     @Test
-    @DisplayName("키워드 추가 - 상품이 Elasticsearch에 존재하지 않으면 예외 발생")
+    @DisplayName("상품이 Elasticsearch에 존재하지 않으면 예외 발생 (Kafka 재시도 대상)")
     void addKeyword_ProductNotFound_ThrowsException() {
         // Given
-        Long productId = 999L;
-        String keyword = "프리미엄";
-
-        KeywordCreatedEvent event = KeywordCreatedEvent.builder()
-                .keywordId(100L)
-                .productId(productId)
-                .keyword(keyword)
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        when(productSearchRepository.findById(String.valueOf(productId)))
-                .thenReturn(Optional.empty());
+        doThrow(new BulkFailureException("Bulk operation has failures",
+                Map.of("999", new BulkFailureException.FailureDetails(404, "document_missing_exception"))))
+                .when(elasticsearchOperations).bulkUpdate(anyList(), eq(ProductDocument.class));
 
         // When & Then
-        assertThatThrownBy(() -> keywordSyncService.addKeyword(event))
+        assertThatThrownBy(() -> keywordSyncService.addKeyword(createdEvent(999L, "프리미엄")))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("Product not found in Elasticsearch")
-                .hasMessageContaining("productId=" + productId);
-
-        verify(productSearchRepository, times(1)).findById(String.valueOf(productId));
-        verify(productSearchRepository, never()).save(any(ProductDocument.class));
+                .hasMessageContaining("productId=999");
     }
 
     @Test
-    @DisplayName("키워드 추가 - 모든 필드가 정상적으로 유지됨")
-    void addKeyword_AllFieldsPreserved() {
+    @DisplayName("상품 단위 실패 - 404 이외의 실패도 예외로 전달")
+    void removeKeyword_BulkItemFailure_ThrowsException() {
         // Given
-        Long productId = 1L;
-        String keyword = "신상품";
-        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
-        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 15, 0, 0);
-
-        KeywordCreatedEvent event = KeywordCreatedEvent.builder()
-                .keywordId(100L)
-                .productId(productId)
-                .keyword(keyword)
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        ProductDocument existingDocument = ProductDocument.builder()
-                .productId(String.valueOf(productId))
-                .productName("원본 상품명")
-                .description("원본 설명")
-                .basePrice(20000L)
-                .salePrice(15000L)
-                .status("ON_SALE")
-                .primaryImageUrl("http://example.com/original.jpg")
-                .categoryIds(List.of(1L, 2L, 3L))
-                .searchKeywords(List.of("기존키워드"))
-                .createdAt(createdAt)
-                .updatedAt(updatedAt)
-                .build();
+        doThrow(new BulkFailureException("Bulk operation has failures",
+                Map.of("1", new BulkFailureException.FailureDetails(429, "es_rejected_execution_exception"))))
+                .when(elasticsearchOperations).bulkUpdate(anyList(), eq(ProductDocument.class));
 
-        when(productSearchRepository.findById(String.valueOf(productId)))
-                .thenReturn(Optional.of(existingDocument));
-        when(productSearchRepository.save(any(ProductDocument.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-
-        // When
-        keywordSyncService.addKeyword(event);
-
-        // Then
-        ArgumentCaptor<ProductDocument> captor = ArgumentCaptor.forClass(ProductDocument.class);
-        verify(productSearchRepository, times(1)).save(captor.capture());
-
-        ProductDocument savedDocument = captor.getValue();
-        assertThat(savedDocument.getProductId()).isEqualTo(String.valueOf(productId));
-        assertThat(savedDocument.getProductName()).isEqualTo("원본 상품명");
-        assertThat(savedDocument.getDescription()).isEqualTo("원본 설명");
-        assertThat(savedDocument.getBasePrice()).isEqualTo(20000L);
-        assertThat(savedDocument.getSalePrice()).isEqualTo(15000L);
-        assertThat(savedDocument.getStatus()).isEqualTo("ON_SALE");
-        assertThat(savedDocument.getPrimaryImageUrl()).isEqualTo("http://example.com/original.jpg");
-        assertThat(savedDocument.getCategoryIds()).containsExactly(1L, 2L, 3L);
-        assertThat(savedDocument.getCreatedAt()).isEqualTo(createdAt);
-        assertThat(savedDocument.getUpdatedAt()).isEqualTo(updatedAt);
-        assertThat(savedDocument.getSearchKeywords()).containsExactly("기존키워드", "신상품");
+        // When & Then
+        assertThatThrownBy(() -> keywordSyncService.removeKeyword(deletedEvent(1L, "프리미엄")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("productId=1")
+                .hasMessageContaining("es_rejected_execution_exception");
     }
 
     @Test
-    @DisplayName("키워드 삭제 - 성공")
-    void removeKeyword_Success() {
+    @DisplayName("Elasticsearch 호출 자체가 실패하면 원래 예외를 그대로 던진다")
+    void addKeyword_RequestFailure_Propagates() {
         // Given
-        Long productId = 1L;
-        String keywordToRemove = "프리미엄";
-        List<String> existingKeywords = new ArrayList<>(List.of("프리미엄", "베스트", "신상품"));
+        RuntimeException failure = new RuntimeException("connection refused");
+        doThrow(failure).when(elasticsearchOperations).bulkUpdate(anyList(), eq(ProductDocument.class));
 
-        KeywordDeletedEvent event = KeywordDeletedEvent.builder()
-                .keywordId(100L)
-                .productId(productId)
-                .keyword(keywordToRemove)
-                .deletedAt(LocalDateTime.now())
-                .build();
-
-        ProductDocument existingDocument = ProductDocument.builder()
-                .productId(String.valueOf(productId))
-                .productName("테스트 상품")
-                .description("테스트 설명")
-                .basePrice(10000L)
-                .salePrice(8000L)
-                .status("ACTIVE")
-                .primaryImageUrl("http://example.com/image.jpg")
-                .categoryIds(List.of(1L, 2L))
-                .searchKeywords(existingKeywords)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-        when(productSearchRepository.findById(String.valueOf(productId)))
-                .thenReturn(Optional.of(existingDocument));
-        when(productSearchRepository.save(any(ProductDocument.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-
-        // When
-        keywordSyncService.removeKeyword(event);
+        // When & Then
+        assertThatThrownBy(() -> keywordSyncService.addKeyword(createdEvent(1L, "프리미엄")))
+                .isSameAs(failure);
 
-        // Then
-        ArgumentCaptor<ProductDocument> captor = ArgumentCaptor.forClass(ProductDocument.class);
-        verify(productSearchRepository, times(1)).findById(String.valueOf(productId));
-        verify(productSearchRepository, times(1)).save(captor.capture());
-
-        ProductDocument savedDocument = captor.getValue();
-        assertThat(savedDocument.getSearchKeywords()).hasSize(2);
-        assertThat(savedDocument.getSearchKeywords()).containsExactlyInAnyOrder("베스트", "신상품");
-        assertThat(savedDocument.getSearchKeywords()).doesNotContain(keywordToRemove);
+        // 실패 후에도 다음 변경은 정상 처리된다
+        doNothing().when(elasticsearchOperations).bulkUpdate(anyList(), eq(ProductDocument.class));
+        keywordSyncService.addKeyword(createdEvent(1L, "프리미엄"));
+        verify(elasticsearchOperations, times(2)).bulkUpdate(anyList(), eq(ProductDocument.class));
     }
 
     @Test
-    @DisplayName("키워드 삭제 - 키워드가 없는 경우 (빈 배열)")
-    void removeKeyword_EmptyKeywords() {
-        // Given
-        Long productId = 1L;
-        String keywordToRemove = "프리미엄";
-
-        KeywordDeletedEvent event = KeywordDeletedEvent.builder()
-                .keywordId(100L)
-                .productId(productId)
-                .keyword(keywordToRemove)
-                .deletedAt(LocalDateTime.now())
-                .build();
-
-        ProductDocument existingDocument = ProductDocument.builder()
-                .productId(String.valueOf(productId))
-                .productName("테스트 상품")
-                .description("테스트 설명")
-                .basePrice(10000L)
-                .salePrice(8000L)
-                .status("ACTIVE")
-                .primaryImageUrl("http://example.com/image.jpg")
-                .categoryIds(List.of(1L, 2L))
-                .searchKeywords(new ArrayList<>())  // 빈 배열
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-        when(productSearchRepository.findById(String.valueOf(productId)))
-                .thenReturn(Optional.of(existingDocument));
-        when(productSearchRepository.save(any(ProductDocument.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-
-        // When
-        keywordSyncService.removeKeyword(event);
-
-        // Then
-        ArgumentCaptor<ProductDocument> captor = ArgumentCaptor.forClass(ProductDocument.class);
-        verify(productSearchRepository, times(1)).save(captor.capture());
-
-        ProductDocument savedDocument = captor.getValue();
-        assertThat(savedDocument.getSearchKeywords()).isEmpty();
+    @DisplayName("bulk 요청 진행 중 들어온 변경은 상품별로 합쳐 다음 요청 하나로 보낸다")
+    void concurrentChanges_GroupedPerProduct() throws Exception {
+        // Given - 첫 번째 bulk 요청을 붙잡아 두고 그 사이에 다른 스레드의 변경을 쌓는다
+        CountDownLatch firstBulkStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBulk = new CountDownLatch(1);
+        List<List<UpdateQuery>> bulkRequests = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            bulkRequests.add(List.copyOf(invocation.getArgument(0)));
+            if (bulkRequests.size() == 1) {
+                firstBulkStarted.countDown();
+                assertThat(releaseFirstBulk.await(5, TimeUnit.SECONDS)).isTrue();
+            }
+            return null;
+        }).when(elasticsearchOperations).bulkUpdate(anyList(), eq(ProductDocument.class));
+
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            CompletableFuture<Void> first = CompletableFuture.runAsync(
+                    () -> keywordSyncService.addKeyword(createdEvent(1L, "첫번째")), executor);
+            assertThat(firstBulkStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When - 같은 상품 2에 대한 추가/삭제/재추가와 상품 3에 대한 추가
+            List<CompletableFuture<Void>> grouped = List.of(
+                    CompletableFuture.runAsync(() -> keywordSyncService.addKeyword(createdEvent(2L, "여름")), executor),
+                    CompletableFuture.runAsync(() -> keywordSyncService.removeKeyword(deletedEvent(2L, "겨울")), executor),
+                    CompletableFuture.runAsync(() -> keywordSyncService.addKeyword(createdEvent(3L, "세일")), executor));
+            awaitPendingChanges(3);
+            CompletableFuture<Void> last = CompletableFuture.runAsync(
+                    () -> keywordSyncService.addKeyword(createdEvent(2L, "겨울")), executor);
+            awaitPendingChanges(4);
+
+            releaseFirstBulk.countDown();
+            CompletableFuture.allOf(first, last, grouped.get(0), grouped.get(1), grouped.get(2))
+                    .get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then - 대기 중이던 변경 4건이 bulk 요청 하나, 상품별 업데이트 하나로 합쳐진다
+        assertThat(bulkRequests).hasSize(2);
+        List<UpdateQuery> groupedRequest = bulkRequests.get(1);
+        Map<String, UpdateQuery> byProductId = groupedRequest.stream()
+                .collect(Collectors.toMap(UpdateQuery::getId, query -> query));
+        assertThat(byProductId).containsOnlyKeys("2", "3");
+
+        // 같은 키워드에 대한 변경은 마지막 것(재추가)만 반영된다
+        assertThat(byProductId.get("2").getParams())
+                .containsEntry("add", List.of("여름", "겨울"))
+                .containsEntry("remove", List.of());
+        assertThat(byProductId.get("3").getParams())
+                .containsEntry("add", List.of("세일"));
     }
 
     @Test
-    @DisplayName("키워드 삭제 - 키워드가 null인 경우")
-    void removeKeyword_NullKeywords() {
+    @DisplayName("묶음 안에서 일부 상품만 실패하면 해당 상품의 호출만 실패한다")
+    void groupedChanges_PartialFailure() throws Exception {
         // Given
-        Long productId = 1L;
-        String keywordToRemove = "프리미엄";
-
-        KeywordDeletedEvent event = KeywordDeletedEvent.builder()
-                .keywordId(100L)
-                .productId(productId)
-                .keyword(keywordToRemove)
-                .deletedAt(LocalDateTime.now())
-                .build();
-
-        ProductDocument existingDocument = ProductDocument.builder()
-                .productId(String.valueOf(productId))
-                .productName("테스트 상품")
-                .description("테스트 설명")
-                .basePrice(10000L)
-                .salePrice(8000L)
-                .status("ACTIVE")
-                .primaryImageUrl("http://example.com/image.jpg")
-                .categoryIds(List.of(1L, 2L))
-                .searchKeywords(null)  // null
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-        when(productSearchRepository.findById(String.valueOf(productId)))
-                .thenReturn(Optional.of(existingDocument));
-        when(productSearchRepository.save(any(ProductDocument.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-
-        // When
-        keywordSyncService.removeKeyword(event);
-
-        // Then
-        ArgumentCaptor<ProductDocument> captor = ArgumentCaptor.forClass(ProductDocument.class);
-        verify(productSearchRepository, times(1)).save(captor.capture());
-
-        ProductDocument savedDocument = captor.getValue();
-        assertThat(savedDocument.getSearchKeywords()).isEmpty();
+        CountDownLatch firstBulkStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBulk = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            firstBulkStarted.countDown();
+            assertThat(releaseFirstBulk.await(5, TimeUnit.SECONDS)).isTrue();
+            return null;
+        }).doThrow(new BulkFailureException("Bulk operation has failures",
+                        Map.of("2", new BulkFailureException.FailureDetails(404, "document_missing_exception"))))
+                .when(elasticsearchOperations).bulkUpdate(anyList(), eq(ProductDocument.class));
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            CompletableFuture<Void> first = CompletableFuture.runAsync(
+                    () -> keywordSyncService.addKeyword(createdEvent(1L, "첫번째")), executor);
+            assertThat(firstBulkStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            CompletableFuture<Void> missing = CompletableFuture.runAsync(
+                    () -> keywordSyncService.addKeyword(createdEvent(2L, "여름")), executor);
+            CompletableFuture<Void> present = CompletableFuture.runAsync(
+                    () -> keywordSyncService.addKeyword(createdEvent(3L, "세일")), executor);
+            awaitPendingChanges(2);
+
+            // When
+            releaseFirstBulk.countDown();
+
+            // Then
+            first.get(5, TimeUnit.SECONDS);
+            present.get(5, TimeUnit.SECONDS);
+            assertThatThrownBy(() -> missing.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("productId=2");
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(elasticsearchOperations, times(2)).bulkUpdate(anyList(), eq(ProductDocument.class));
     }
 
-    @Test
-    @DisplayName("키워드 삭제 - 존재하지 않는 키워드 삭제 시도 (무해함)")
-    void removeKeyword_NonExistentKeyword() {
-        // Given
-        Long productId = 1L;
-        String keywordToRemove = "없는키워드";
-        List<String> existingKeywords = new ArrayList<>(List.of("프리미엄", "베스트"));
-
-        KeywordDeletedEvent event = KeywordDeletedEvent.builder()
-                .keywordId(100L)
-                .productId(productId)
-                .keyword(keywordToRemove)
-                .deletedAt(LocalDateTime.now())
-                .build();
-
-        ProductDocument existingDocument = ProductDocument.builder()
-                .productId(String.valueOf(productId))
-                .productName("테스트 상품")
-                .description("테스트 설명")
-                .basePrice(10000L)
-                .salePrice(8000L)
-                .status("ACTIVE")
-                .primaryImageUrl("http://example.com/image.jpg")
-                .categoryIds(List.of(1L, 2L))
-                .searchKeywords(existingKeywords)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-        when(productSearchRepository.findById(String.valueOf(productId)))
-                .thenReturn(Optional.of(existingDocument));
-        when(productSearchRepository.save(any(ProductDocument.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-
-        // When
-        keywordSyncService.removeKeyword(event);
-
-        // Then
-        ArgumentCaptor<ProductDocument> captor = ArgumentCaptor.forClass(ProductDocument.class);
-        verify(productSearchRepository, times(1)).save(captor.capture());
-
-        ProductDocument savedDocument = captor.getValue();
-        assertThat(savedDocument.getSearchKeywords()).hasSize(2);
-        assertThat(savedDocument.getSearchKeywords()).containsExactlyInAnyOrder("프리미엄", "베스트");
+    private List<List<UpdateQuery>> captureBulkUpdates() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UpdateQuery>> captor = ArgumentCaptor.forClass(List.class);
+        verify(elasticsearchOperations, atLeastOnce()).bulkUpdate(captor.capture(), eq(ProductDocument.class));
+        return captor.getAllValues();
     }
 
-    @Test
-    @DisplayName("키워드 삭제 - 상품이 Elasticsearch에 존재하지 않으면 예외 발생")
-    void removeKeyword_ProductNotFound_ThrowsException() {
-        // Given
-        Long productId = 999L;
-        String keyword = "프리미엄";
+    private void awaitPendingChanges(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (keywordSyncService.pendingChangeCount() < expected) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
 
-        KeywordDeletedEvent event = KeywordDeletedEvent.builder()
+    private KeywordCreatedEvent createdEvent(Long productId, String keyword) {
+        return KeywordCreatedEvent.builder()
                 .keywordId(100L)
                 .productId(productId)
                 .keyword(keyword)
-                .deletedAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
                 .build();
-
-        when(productSearchRepository.findById(String.valueOf(productId)))
-                .thenReturn(Optional.empty());
-
-        // When & Then
-        assertThatThrownBy(() -> keywordSyncService.removeKeyword(event))
-                .isInstanceOf(IllegalStateException.class)
-                .hasMessageContaining("Product not found in Elasticsearch")
-                .hasMessageContaining("productId=" + productId);
-
-        verify(productSearchRepository, times(1)).findById(String.valueOf(productId));
-        verify(productSearchRepository, never()).save(any(ProductDocument.class));
     }
 
-    @Test
-    @DisplayName("키워드 삭제 - 모든 필드가 정상적으로 유지됨")
-    void removeKeyword_AllFieldsPreserved() {
-        // Given
-        Long productId = 1L;
-        String keywordToRemove = "프리미엄";
-        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
-        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 15, 0, 0);
-
-        KeywordDeletedEvent event = KeywordDeletedEvent.builder()
+    private KeywordDeletedEvent deletedEvent(Long productId, String keyword) {
+        return KeywordDeletedEvent.builder()
                 .keywordId(100L)
                 .productId(productId)
-                .keyword(keywordToRemove)
+                .keyword(keyword)
                 .deletedAt(LocalDateTime.now())
                 .build();
-
-        ProductDocument existingDocument = ProductDocument.builder()
-                .productId(String.valueOf(productId))
-                .productName("원본 상품명")
-                .description("원본 설명")
-                .basePrice(20000L)
-                .salePrice(15000L)
-                .status("ON_SALE")
-                .primaryImageUrl("http://example.com/original.jpg")
-                .categoryIds(List.of(1L, 2L, 3L))
-                .searchKeywords(new ArrayList<>(List.of("프리미엄", "베스트")))
-                .createdAt(createdAt)
-                .updatedAt(updatedAt)
-                .build();
-
-        when(productSearchRepository.findById(String.valueOf(productId)))
-                .thenReturn(Optional.of(existingDocument));
-        when(productSearchRepository.save(any(ProductDocument.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-
-        // When
-        keywordSyncService.removeKeyword(event);
-
-        // Then
-        ArgumentCaptor<ProductDocument> captor = ArgumentCaptor.forClass(ProductDocument.class);
-        verify(productSearchRepository, times(1)).save(captor.capture());
-
-        ProductDocument savedDocument = captor.getValue();
-        assertThat(savedDocument.getProductId()).isEqualTo(String.valueOf(productId));
-        assertThat(savedDocument.getProductName()).isEqualTo("원본 상품명");
-        assertThat(savedDocument.getDescription()).isEqualTo("원본 설명");
-        assertThat(savedDocument.getBasePrice()).isEqualTo(20000L);
-        assertThat(savedDocument.getSalePrice()).isEqualTo(15000L);
-        assertThat(savedDocument.getStatus()).isEqualTo("ON_SALE");
-        assertThat(savedDocument.getPrimaryImageUrl()).isEqualTo("http://example.com/original.jpg");
-        assertThat(savedDocument.getCategoryIds()).containsExactly(1L, 2L, 3L);
-        assertThat(savedDocument.getCreatedAt()).isEqualTo(createdAt);
-        assertThat(savedDocument.getUpdatedAt()).isEqualTo(updatedAt);
-        assertThat(savedDocument.getSearchKeywords()).containsExactly("베스트");
     }
 }
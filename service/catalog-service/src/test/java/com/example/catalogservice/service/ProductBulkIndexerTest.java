@@ -0,0 +1,203 @@
+package com.example.catalogservice.service;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import com.example.catalogservice.domain.document.ProductDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductBulkIndexer 단위 테스트")
+class ProductBulkIndexerTest {
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    private MappingElasticsearchConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext());
+        converter.afterPropertiesSet();
+    }
+
+    @Test
+    @DisplayName("부분 upsert - 이벤트 필드는 null도 덮어쓰고, createdAt/searchKeywords는 값이 없으면 보내지 않는다")
+    void upsertAll_PartialDocument() {
+        // Given
+        ProductBulkIndexer indexer = createIndexer(ProductBulkIndexer.MAX_BATCH_SIZE);
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 15, 14, 30);
+
+        // When
+        Map<String, RuntimeException> failures = indexer.upsertAll(List.of(ProductDocument.builder()
+                .productId("100")
+                .productName("Updated Product")
+                .salePrice(15000L)
+                .skus(List.of())
+                .updatedAt(updatedAt)
+                .build()));
+
+        // Then
+        assertThat(failures).isEmpty();
+        UpdateQuery query = captureBulkUpdates().get(0).get(0);
+        assertThat(query.getId()).isEqualTo("100");
+        assertThat(query.getDocAsUpsert()).isTrue();
+        assertThat(query.getRetryOnConflict()).isEqualTo(3);
+
+        Document fields = query.getDocument();
+        assertThat(fields).containsEntry("productName", "Updated Product")
+                .containsEntry("salePrice", 15000L)
+                .containsEntry("description", null)
+                .containsEntry("primaryImageUrl", null)
+                .containsKey("updatedAt")
+                .doesNotContainKeys("createdAt", "searchKeywords");
+    }
+
+    @Test
+    @DisplayName("같은 상품의 변경은 하나로 합쳐지고 나중 값이 우선한다")
+    void upsertAll_MergesSameProduct() {
+        // Given
+        ProductBulkIndexer indexer = createIndexer(ProductBulkIndexer.MAX_BATCH_SIZE);
+
+        // When - 상품 2의 생성(createdAt 포함)과 수정, 상품 3의 수정
+        indexer.upsertAll(List.of(
+                product("2", "생성", 2000L, LocalDateTime.of(2024, 1, 1, 0, 0)),
+                product("3", "다른 상품", 3000L, null),
+                product("2", "수정", 2500L, null)));
+
+        // Then - bulk 요청 하나, 상품별 업데이트 하나
+        List<List<UpdateQuery>> bulkRequests = captureBulkUpdates();
+        assertThat(bulkRequests).hasSize(1);
+        Map<String, Document> byProductId = bulkRequests.get(0).stream()
+                .collect(Collectors.toMap(UpdateQuery::getId, UpdateQuery::getDocument));
+        assertThat(bulkRequests.get(0)).extracting(UpdateQuery::getId).containsExactly("2", "3");
+        assertThat(byProductId.get("2"))
+                .containsEntry("productName", "수정")
+                .containsEntry("salePrice", 2500L)
+                .containsKey("createdAt");
+    }
+
+    @Test
+    @DisplayName("크기 제한 - 합친 상품을 maxBatchSize개씩 나눠 보낸다")
+    void upsertAll_SplitsByBatchSize() {
+        // Given
+        ProductBulkIndexer indexer = createIndexer(2);
+
+        // When
+        indexer.upsertAll(List.of(
+                product("1", "상품1", 1000L, null),
+                product("2", "상품2", 2000L, null),
+                product("3", "상품3", 3000L, null)));
+
+        // Then
+        assertThat(captureBulkUpdates()).extracting(List::size).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("bulk 항목 실패 시 해당 상품의 예외를 돌려준다 (Kafka 재시도 대상)")
+    void upsertAll_BulkItemFailure_ReturnsFailures() {
+        // Given
+        ProductBulkIndexer indexer = createIndexer(ProductBulkIndexer.MAX_BATCH_SIZE);
+        doThrow(new BulkFailureException("Bulk operation has failures",
+                Map.of("2", new BulkFailureException.FailureDetails(400, "mapper_parsing_exception"))))
+                .when(elasticsearchOperations).bulkUpdate(anyList(), eq(ProductDocument.class));
+
+        // When
+        Map<String, RuntimeException> failures = indexer.upsertAll(List.of(
+                product("1", "상품1", 1000L, null),
+                product("2", "상품2", 2000L, null)));
+
+        // Then
+        assertThat(failures).containsOnlyKeys("2");
+        assertThat(failures.get("2"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("productId=2")
+                .hasMessageContaining("mapper_parsing_exception");
+    }
+
+    @Test
+    @DisplayName("bulk 요청 자체가 실패하면 묶음의 모든 상품을 실패로 돌려준다")
+    void upsertAll_RequestFailure_FailsAllProducts() {
+        // Given
+        ProductBulkIndexer indexer = createIndexer(ProductBulkIndexer.MAX_BATCH_SIZE);
+        RuntimeException failure = new IllegalStateException("connection refused");
+        doThrow(failure).when(elasticsearchOperations).bulkUpdate(anyList(), eq(ProductDocument.class));
+
+        // When
+        Map<String, RuntimeException> failures = indexer.upsertAll(List.of(
+                product("1", "상품1", 1000L, null),
+                product("2", "상품2", 2000L, null)));
+
+        // Then
+        assertThat(failures).containsOnlyKeys("1", "2").containsValue(failure);
+    }
+
+    @Test
+    @DisplayName("후보 밖에서 popularity가 남은 상품만 update-by-query로 0으로 되돌린다")
+    void resetPopularityExcept_ResetsOthers() {
+        // Given
+        ProductBulkIndexer indexer = createIndexer(ProductBulkIndexer.MAX_BATCH_SIZE);
+        IndexCoordinates products = IndexCoordinates.of("products");
+        when(elasticsearchOperations.getIndexCoordinatesFor(ProductDocument.class)).thenReturn(products);
+        when(elasticsearchOperations.updateByQuery(any(UpdateQuery.class), eq(products)))
+                .thenReturn(ByQueryResponse.builder().withUpdated(2).build());
+
+        // When
+        long reset = indexer.resetPopularityExcept(List.of(10L, 20L));
+
+        // Then
+        assertThat(reset).isEqualTo(2);
+        ArgumentCaptor<UpdateQuery> captor = ArgumentCaptor.forClass(UpdateQuery.class);
+        verify(elasticsearchOperations).updateByQuery(captor.capture(), eq(products));
+        Query query = ((NativeQuery) captor.getValue().getQuery()).getQuery();
+        assertThat(query.bool().filter()).singleElement()
+                .satisfies(filter -> assertThat(filter.range().number().field()).isEqualTo("popularity"));
+        assertThat(query.bool().mustNot()).singleElement()
+                .satisfies(mustNot -> assertThat(mustNot.ids().values()).containsExactly("10", "20"));
+        assertThat(captor.getValue().getAbortOnVersionConflict()).isFalse();
+    }
+
+    private ProductBulkIndexer createIndexer(int maxBatchSize) {
+        return new ProductBulkIndexer(elasticsearchOperations, converter, new SimpleMeterRegistry(), maxBatchSize);
+    }
+
+    private List<List<UpdateQuery>> captureBulkUpdates() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UpdateQuery>> captor = ArgumentCaptor.forClass(List.class);
+        verify(elasticsearchOperations, atLeastOnce()).bulkUpdate(captor.capture(), eq(ProductDocument.class));
+        return captor.getAllValues();
+    }
+
+    private ProductDocument product(String productId, String productName, Long salePrice, LocalDateTime createdAt) {
+        return ProductDocument.builder()
+                .productId(productId)
+                .productName(productName)
+                .salePrice(salePrice)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.catalogservice.service;
+
+import com.example.catalogservice.service.ProductSyncService.DeltaSyncResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductDeltaSyncScheduler 단위 테스트")
+class ProductDeltaSyncSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 10, 10);
+
+    @Mock
+    private ProductSyncService productSyncService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductDeltaSyncScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ZoneId zone = ZoneId.systemDefault();
+        scheduler = new ProductDeltaSyncScheduler(productSyncService, meterRegistry,
+                Clock.fixed(NOW.atZone(zone).toInstant(), zone));
+    }
+
+    @Test
+    @DisplayName("성공 - 반영 건수와 워터마크 지연을 기록")
+    void run_Success_RecordsMetrics() {
+        // Given
+        given(productSyncService.deltaSync()).willReturn(new DeltaSyncResult(false, 5, 2, NOW.minusMinutes(3)));
+
+        // When
+        scheduler.run();
+
+        // Then
+        assertThat(meterRegistry.get("catalog.product.delta.products").tag("change", "upserted").counter().count())
+                .isEqualTo(5);
+        assertThat(meterRegistry.get("catalog.product.delta.products").tag("change", "deleted").counter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("catalog.product.delta.sync").tag("result", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("catalog.product.delta.lag").gauge().value()).isEqualTo(180);
+    }
+
+    @Test
+    @DisplayName("건너뜀 - 반영 건수와 워터마크는 그대로")
+    void run_Skipped() {
+        // Given
+        given(productSyncService.deltaSync()).willReturn(DeltaSyncResult.SKIPPED);
+
+        // When
+        scheduler.run();
+
+        // Then
+        assertThat(meterRegistry.get("catalog.product.delta.sync").tag("result", "skipped").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("catalog.product.delta.lag").gauge().value()).isNaN();
+    }
+
+    @Test
+    @DisplayName("실패 - 예외를 삼키고 다음 주기에 재시도")
+    void run_Failure_Swallowed() {
+        // Given
+        given(productSyncService.deltaSync()).willThrow(new IllegalStateException("Failed to index products"));
+
+        // When
+        scheduler.run();
+
+        // Then
+        assertThat(meterRegistry.get("catalog.product.delta.sync").tag("result", "failure").timer().count()).isEqualTo(1);
+    }
+}
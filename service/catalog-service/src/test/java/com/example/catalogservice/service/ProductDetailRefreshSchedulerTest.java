@@ -0,0 +1,188 @@
+package com.example.catalogservice.service;
+
+import com.example.catalogservice.consumer.event.ProductUpdatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductDetailRefreshScheduler 단위 테스트")
+class ProductDetailRefreshSchedulerTest {
+
+    private static final long QUIET_MILLIS = 2_000;
+    private static final long MAX_DELAY_MILLIS = 10_000;
+
+    @Mock
+    private ProductDetailService productDetailService;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong now;
+    private ProductDetailRefreshScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        now = new AtomicLong(1_000_000);
+        scheduler = new ProductDetailRefreshScheduler(
+                productDetailService, kafkaTemplate, meterRegistry, QUIET_MILLIS, MAX_DELAY_MILLIS, 3, now::get);
+    }
+
+    @Test
+    @DisplayName("같은 상품의 연속 이벤트 - 조용한 구간이 지난 뒤 한 번만 갱신")
+    void request_SameProduct_MergedIntoOneRefresh() {
+        // Given - 1초 간격으로 5번 저장
+        for (int i = 0; i < 5; i++) {
+            scheduler.request(1L);
+            now.addAndGet(1_000);
+            scheduler.flushDue();
+        }
+        verify(productDetailService, never()).refreshCaches(anyCollection());
+
+        // When
+        now.addAndGet(QUIET_MILLIS);
+        scheduler.flushDue();
+
+        // Then
+        verify(productDetailService, times(1)).refreshCaches(List.of(1L));
+        assertThat(scheduler.pendingCount()).isZero();
+        assertThat(meterRegistry.get("catalog.product.detail.refresh.merged").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("연속 수정이 계속되어도 최대 대기 시간이 지나면 갱신")
+    void request_ContinuousUpdates_RefreshedWithinMaxDelay() {
+        // Given - 1초마다 계속 수정
+        long startedAt = now.get();
+        while (now.get() - startedAt < MAX_DELAY_MILLIS) {
+            scheduler.request(1L);
+            scheduler.flushDue();
+            now.addAndGet(1_000);
+        }
+
+        // When
+        scheduler.flushDue();
+
+        // Then
+        verify(productDetailService, times(1)).refreshCaches(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("여러 상품 - 묶음 크기 단위로 일괄 갱신")
+    @SuppressWarnings("unchecked")
+    void flushDue_MultipleProducts_Batched() {
+        // Given
+        for (long productId = 1; productId <= 5; productId++) {
+            scheduler.request(productId);
+        }
+        now.addAndGet(QUIET_MILLIS);
+
+        // When
+        scheduler.flushDue();
+
+        // Then - 최대 3개씩
+        ArgumentCaptor<List<Long>> captor = ArgumentCaptor.forClass(List.class);
+        verify(productDetailService, times(2)).refreshCaches(captor.capture());
+        assertThat(captor.getAllValues().get(0)).hasSize(3);
+        assertThat(captor.getAllValues().stream().flatMap(List::stream))
+                .containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+        assertThat(meterRegistry.get("catalog.product.detail.refresh.batch.size").summary().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("갱신 실패 - 백오프 후 재시도")
+    void flushDue_Failure_RetriedWithBackoff() {
+        // Given
+        given(productDetailService.refreshCaches(any()))
+                .willThrow(new IllegalStateException("product-service unavailable"))
+                .willReturn(1);
+        scheduler.request(1L);
+        now.addAndGet(QUIET_MILLIS);
+        scheduler.flushDue();
+
+        // When - 백오프(1초) 전에는 재시도하지 않음
+        now.addAndGet(500);
+        scheduler.flushDue();
+        verify(productDetailService, times(1)).refreshCaches(List.of(1L));
+        now.addAndGet(500);
+        scheduler.flushDue();
+
+        // Then
+        verify(productDetailService, times(2)).refreshCaches(List.of(1L));
+        assertThat(scheduler.pendingCount()).isZero();
+        assertThat(meterRegistry.get("catalog.product.detail.refresh.failures").tag("result", "retried").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("갱신 실패 - 최대 시도 후 DLT로 전송")
+    void flushDue_RepeatedFailure_DeadLettered() {
+        // Given
+        given(productDetailService.refreshCaches(any())).willThrow(new IllegalStateException("product-service unavailable"));
+        CompletableFuture<SendResult<String, Object>> sent = new CompletableFuture<>();
+        given(kafkaTemplate.send(any(ProducerRecord.class))).willReturn(sent);
+        scheduler.request(1L);
+        now.addAndGet(QUIET_MILLIS);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            scheduler.flushDue();
+            now.addAndGet(10_000);
+        }
+
+        // Then
+        verify(productDetailService, times(ProductDetailRefreshScheduler.MAX_ATTEMPTS)).refreshCaches(List.of(1L));
+        assertThat(scheduler.pendingCount()).isZero();
+        assertThat(meterRegistry.get("catalog.product.detail.refresh.failures").tag("result", "dead-lettered").counter().count())
+                .isEqualTo(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, Object>> recordCaptor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(recordCaptor.capture());
+        ProducerRecord<String, Object> record = recordCaptor.getValue();
+        assertThat(record.topic()).isEqualTo("product.updated-detail-dlt");
+        assertThat(record.key()).isEqualTo("1");
+        assertThat(((ProductUpdatedEvent) record.value()).getProductId()).isEqualTo(1L);
+        assertThat(new String(record.headers().lastHeader(KafkaHeaders.DLT_EXCEPTION_MESSAGE).value(), StandardCharsets.UTF_8))
+                .isEqualTo("product-service unavailable");
+    }
+
+    @Test
+    @DisplayName("종료 시 대기 중인 요청은 대기 시간과 관계없이 갱신")
+    void stop_FlushesPending() throws Exception {
+        // Given
+        scheduler.request(1L);
+        scheduler.request(2L);
+
+        // When
+        scheduler.stop();
+
+        // Then
+        verify(productDetailService, times(1)).refreshCaches(List.of(1L, 2L));
+        assertThat(scheduler.pendingCount()).isZero();
+    }
+}
@@ -2,24 +2,39 @@ package com.example.catalogservice.service;
 
 import com.example.catalogservice.client.ProductServiceClient;
 import com.example.catalogservice.controller.dto.ProductDetailResponse;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
@@ -35,9 +50,22 @@ class ProductDetailServiceTest {
     @Mock
     private ProductServiceClient productServiceClient;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
+    private FakeTicker ticker;
+    private List<Runnable> refreshTasks;
     private ProductDetailService productDetailService;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ticker = new FakeTicker();
+        // 백그라운드 재조회는 모아 두었다가 runRefreshes()로 실행한다
+        refreshTasks = new ArrayList<>();
+        productDetailService = new ProductDetailService(
+                redisTemplate, productServiceClient, JsonMapper.builder().findAndAddModules().build(),
+                meterRegistry, ticker, refreshTasks::add);
+    }
+
     @Test
     @DisplayName("캐시 히트 - Redis에서 상품 상세 정보 조회 성공")
     void getProductDetail_cacheHit() {
@@ -225,39 +253,356 @@ class ProductDetailServiceTest {
     }
 
     @Test
-    @DisplayName("refreshCache - 정상 캐싱")
-    void refreshCache_success() {
+    @DisplayName("refreshCaches - 일괄 조회 한 번, 파이프라인 한 번으로 Redis에 저장")
+    void refreshCaches_bulkFetchAndPipelinedWrite() {
+        // given - 999는 product-service에 없는 상품
+        ProductDetailResponse first = createProductDetailResponse(1L, "맥북 프로");
+        ProductDetailResponse second = createProductDetailResponse(2L, "갤럭시 S24");
+        givenPipelineRunsOnTemplate();
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(productServiceClient.getProductDetails(List.of(1L, 2L, 999L))).willReturn(List.of(first, second));
+
+        // when
+        int cached = productDetailService.refreshCaches(List.of(1L, 2L, 999L));
+
+        // then
+        assertThat(cached).isEqualTo(2);
+        then(productServiceClient).should(times(1)).getProductDetails(List.of(1L, 2L, 999L));
+        then(productServiceClient).should(never()).getProductDetail(any());
+        then(redisTemplate).should(times(1)).executePipelined(any(SessionCallback.class));
+        then(valueOperations).should().set(eq("product:detail:1"), eq(first), eq(Duration.ofMinutes(30)));
+        then(valueOperations).should().set(eq("product:detail:2"), eq(second), eq(Duration.ofMinutes(30)));
+        then(valueOperations).should(times(2)).set(any(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("refreshCaches - 조회된 상품이 없으면 Redis에 쓰지 않음")
+    void refreshCaches_nothingFound_notCached() {
+        // given
+        given(productServiceClient.getProductDetails(List.of(999L))).willReturn(List.of());
+
+        // when
+        int cached = productDetailService.refreshCaches(List.of(999L));
+
+        // then
+        assertThat(cached).isZero();
+        then(redisTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("refreshCaches - 일괄 조회 크기(100개) 단위로 나누어 조회")
+    void refreshCaches_chunked() {
+        // given
+        List<Long> productIds = LongStream.rangeClosed(1, 150).boxed().toList();
+        given(productServiceClient.getProductDetails(any())).willReturn(List.of());
+
+        // when
+        productDetailService.refreshCaches(productIds);
+
+        // then
+        then(productServiceClient).should().getProductDetails(productIds.subList(0, 100));
+        then(productServiceClient).should().getProductDetails(productIds.subList(100, 150));
+    }
+
+    @Test
+    @DisplayName("L1 적중 - 두 번째 조회는 Redis를 거치지 않음")
+    void getProductDetail_localHit() {
         // given
         Long productId = 1L;
         String cacheKey = "product:detail:" + productId;
-        ProductDetailResponse serviceResponse = createProductDetailResponse(productId, "맥북 프로");
+        ProductDetailResponse cachedResponse = createProductDetailResponse(productId, "맥북 프로");
 
         given(redisTemplate.opsForValue()).willReturn(valueOperations);
-        given(productServiceClient.getProductDetail(productId)).willReturn(serviceResponse);
+        given(valueOperations.get(cacheKey)).willReturn(cachedResponse);
+
+        // when
+        productDetailService.getProductDetail(productId);
+        ProductDetailResponse result = productDetailService.getProductDetail(productId);
+
+        // then
+        assertThat(result).isSameAs(cachedResponse);
+        then(valueOperations).should(times(1)).get(cacheKey);
+        assertThat(requests("local")).isEqualTo(1);
+        assertThat(requests("redis")).isEqualTo(1);
+        assertThat(meterRegistry.get("catalog.product.detail.cache.hit.ratio").tag("tier", "local").gauge().value())
+                .isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("본문 해시 - L1에 넣을 때 계산해 두고, 적중 시 같은 해시를 다시 계산하지 않고 반환")
+    void getCachedProductDetail_hashStoredWithEntry() {
+        // given
+        Long productId = 1L;
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("product:detail:" + productId))
+                .willReturn(createProductDetailResponse(productId, "맥북 프로"));
 
         // when
-        productDetailService.refreshCache(productId);
+        ProductDetailService.CachedProductDetail first = productDetailService.getCachedProductDetail(productId);
+        ProductDetailService.CachedProductDetail second = productDetailService.getCachedProductDetail(productId);
 
         // then
+        assertThat(first.contentHash()).isNotBlank();
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("본문 해시 - 재고나 이미지가 바뀌면 갱신된 값의 해시도 달라짐")
+    void refreshCaches_contentChanged_hashChanged() {
+        // given - updatedAt은 같고 재고, 이미지만 바뀐 세 버전
+        ProductDetailResponse original = detailWith(10, "https://example.com/macbook.jpg");
+        ProductDetailResponse stockChanged = detailWith(9, "https://example.com/macbook.jpg");
+        ProductDetailResponse imageChanged = detailWith(9, "https://example.com/macbook-new.jpg");
+        givenPipelineRunsOnTemplate();
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(productServiceClient.getProductDetails(List.of(1L)))
+                .willReturn(List.of(original), List.of(stockChanged), List.of(imageChanged));
+
+        // when
+        productDetailService.refreshCaches(List.of(1L));
+        String originalHash = productDetailService.getCachedProductDetail(1L).contentHash();
+        productDetailService.refreshCaches(List.of(1L));
+        String stockHash = productDetailService.getCachedProductDetail(1L).contentHash();
+        productDetailService.refreshCaches(List.of(1L));
+        String imageHash = productDetailService.getCachedProductDetail(1L).contentHash();
+
+        // then
+        assertThat(stockHash).isNotEqualTo(originalHash);
+        assertThat(imageHash).isNotEqualTo(originalHash).isNotEqualTo(stockHash);
+    }
+
+    @Test
+    @DisplayName("동시 미스 - 같은 상품의 동시 요청은 product-service를 한 번만 호출")
+    void getProductDetail_concurrentMisses_singleLoad() throws Exception {
+        // given
+        Long productId = 2L;
+        ProductDetailResponse serviceResponse = createProductDetailResponse(productId, "갤럭시 S24");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(productServiceClient.getProductDetail(productId)).willAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return serviceResponse;
+        });
+
+        int concurrency = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            // when - 첫 요청의 로드가 진행 중일 때 나머지 요청이 도착
+            List<Future<ProductDetailResponse>> results = new ArrayList<>();
+            results.add(executor.submit(() -> productDetailService.getProductDetail(productId)));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i < concurrency; i++) {
+                results.add(executor.submit(() -> productDetailService.getProductDetail(productId)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            for (Future<ProductDetailResponse> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(serviceResponse);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
         then(productServiceClient).should(times(1)).getProductDetail(productId);
-        then(redisTemplate).should(times(1)).opsForValue();
-        then(valueOperations).should(times(1)).set(eq(cacheKey), eq(serviceResponse), eq(Duration.ofMinutes(30)));
+        then(valueOperations).should(times(1)).set(any(), any(), any(Duration.class));
+        assertThat(requests("miss")).isEqualTo(1);
+        assertThat(requests("shared") + requests("local")).isEqualTo(concurrency - 1);
     }
 
     @Test
-    @DisplayName("refreshCache - product-service가 null 반환 시 캐싱하지 않음")
-    void refreshCache_serviceReturnsNull_notCached() {
+    @DisplayName("stale-while-revalidate - 재조회 시점이 지나면 기존 값을 응답하고 백그라운드로 다시 읽음")
+    void getProductDetail_staleWhileRevalidate() {
         // given
-        Long productId = 999L;
+        Long productId = 3L;
+        String cacheKey = "product:detail:" + productId;
+        ProductDetailResponse oldResponse = createProductDetailResponse(productId, "아이폰 15");
+        ProductDetailResponse newResponse = createProductDetailResponse(productId, "아이폰 15 (가격 인하)");
 
-        given(productServiceClient.getProductDetail(productId)).willReturn(null);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(cacheKey)).willReturn(null);
+        given(productServiceClient.getProductDetail(productId)).willReturn(oldResponse, newResponse);
+        productDetailService.getProductDetail(productId);
+
+        // when - Redis TTL 만료 후 로컬 재조회 시점 경과
+        ticker.advance(Duration.ofSeconds(31));
+        ProductDetailResponse stale = productDetailService.getProductDetail(productId);
+
+        // then - 요청은 기존 값을 바로 받고, 백그라운드 재조회 후에는 새 값
+        assertThat(stale).isSameAs(oldResponse);
+        then(productServiceClient).should(times(1)).getProductDetail(productId);
+        runRefreshes();
+        ProductDetailResponse refreshed = productDetailService.getProductDetail(productId);
+        assertThat(refreshed).isSameAs(newResponse);
+        then(productServiceClient).should(times(2)).getProductDetail(productId);
+        assertThat(meterRegistry.get("catalog.product.detail.cache.refreshes").tag("result", "success").counter().count())
+                .isEqualTo(1);
+        // 백그라운드 재조회는 요청이 아니므로 계층별 지표는 요청 3번(미스 1, 로컬 2)만 센다
+        assertThat(meterRegistry.get("catalog.product.detail.cache.requests").tag("result", "miss").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("catalog.product.detail.cache.requests").tag("result", "local").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("백그라운드 재조회 실패 - 기존 값을 계속 응답하고, 로컬 만료 후에는 다시 로드")
+    void getProductDetail_refreshFailure_servesStaleUntilExpiry() {
+        // given
+        Long productId = 4L;
+        ProductDetailResponse oldResponse = createProductDetailResponse(productId, "에어팟");
+        RuntimeException failure = new IllegalStateException("product-service unavailable");
+
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(productServiceClient.getProductDetail(productId)).willReturn(oldResponse).willThrow(failure);
+        productDetailService.getProductDetail(productId);
+
+        // when
+        ticker.advance(Duration.ofSeconds(31));
+        ProductDetailResponse stale = productDetailService.getProductDetail(productId);
+        runRefreshes();
+
+        // then
+        assertThat(stale).isSameAs(oldResponse);
+        assertThat(productDetailService.getProductDetail(productId)).isSameAs(oldResponse);
+        assertThat(meterRegistry.get("catalog.product.detail.cache.refreshes").tag("result", "failure").counter().count())
+                .isEqualTo(1);
+
+        // when - 로컬 만료 후에는 요청 스레드에서 로드하고 실패를 그대로 전달
+        ticker.advance(Duration.ofMinutes(10));
+        assertThatThrownBy(() -> productDetailService.getProductDetail(productId)).isSameAs(failure);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 - product-service로 조회")
+    void getProductDetail_redisFailure_fallsBackToProductService() {
+        // given
+        Long productId = 5L;
+        ProductDetailResponse serviceResponse = createProductDetailResponse(productId, "아이패드");
+
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(any())).willThrow(new RedisConnectionFailureException("down"));
+        willThrow(new RedisConnectionFailureException("down"))
+                .given(valueOperations).set(any(), any(), any(Duration.class));
+        given(productServiceClient.getProductDetail(productId)).willReturn(serviceResponse);
 
         // when
-        productDetailService.refreshCache(productId);
+        ProductDetailResponse result = productDetailService.getProductDetail(productId);
 
         // then
+        assertThat(result).isSameAs(serviceResponse);
+        assertThat(productDetailService.getProductDetail(productId)).isSameAs(serviceResponse);
         then(productServiceClient).should(times(1)).getProductDetail(productId);
-        then(redisTemplate).should(never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("refreshCaches - 로컬 캐시에도 반영")
+    void refreshCaches_updatesLocalCache() {
+        // given
+        Long productId = 6L;
+        ProductDetailResponse serviceResponse = createProductDetailResponse(productId, "맥북 에어");
+
+        givenPipelineRunsOnTemplate();
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(productServiceClient.getProductDetails(List.of(productId))).willReturn(List.of(serviceResponse));
+
+        // when
+        productDetailService.refreshCaches(List.of(productId));
+        ProductDetailResponse result = productDetailService.getProductDetail(productId);
+
+        // then
+        assertThat(result).isSameAs(serviceResponse);
+        then(valueOperations).should(never()).get(any());
+        then(productServiceClient).should(never()).getProductDetail(any());
+    }
+
+    @Test
+    @DisplayName("getProductDetails - L1, Redis MGET, product-service 일괄 조회 순서로 채우고 요청 순서 유지")
+    void getProductDetails_tieredBatchLookup() {
+        // given - 1은 L1, 2는 Redis, 3은 product-service, 999는 어디에도 없음
+        ProductDetailResponse first = createProductDetailResponse(1L, "맥북 프로");
+        ProductDetailResponse second = createProductDetailResponse(2L, "갤럭시 S24");
+        ProductDetailResponse third = createProductDetailResponse(3L, "아이패드");
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("product:detail:1")).willReturn(first);
+        productDetailService.getProductDetail(1L);
+
+        given(valueOperations.multiGet(List.of("product:detail:3", "product:detail:999", "product:detail:2")))
+                .willReturn(java.util.Arrays.asList(null, null, second));
+        given(productServiceClient.getProductDetails(List.of(3L, 999L))).willReturn(List.of(third));
+        givenPipelineRunsOnTemplate();
+
+        // when
+        List<ProductDetailResponse> result = productDetailService.getProductDetails(List.of(3L, 1L, 999L, 2L, 3L));
+
+        // then
+        assertThat(result).extracting(ProductDetailResponse::getProductId).containsExactly(3L, 1L, 2L);
+        then(productServiceClient).should(never()).getProductDetail(any());
+        then(valueOperations).should().set(eq("product:detail:3"), eq(third), eq(Duration.ofMinutes(30)));
+        assertThat(requests("local")).isEqualTo(1);
+        assertThat(requests("redis")).isEqualTo(2);
+        assertThat(requests("miss")).isEqualTo(2);
+
+        // 채운 상품은 L1에 올라가 다음 조회는 Redis/product-service를 거치지 않는다
+        productDetailService.getProductDetails(List.of(2L, 3L));
+        then(valueOperations).should(times(1)).multiGet(any());
+        assertThat(requests("local")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("getProductDetails - Redis와 product-service 장애 시 찾은 상품만 반환")
+    void getProductDetails_partialFailure() {
+        // given
+        ProductDetailResponse first = createProductDetailResponse(1L, "맥북 프로");
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("product:detail:1")).willReturn(first);
+        productDetailService.getProductDetail(1L);
+
+        willThrow(new RedisConnectionFailureException("Redis down")).given(valueOperations).multiGet(any());
+        given(productServiceClient.getProductDetails(List.of(2L))).willThrow(new IllegalStateException("product-service down"));
+
+        // when
+        List<ProductDetailResponse> result = productDetailService.getProductDetails(List.of(1L, 2L));
+
+        // then
+        assertThat(result).containsExactly(first);
+        then(redisTemplate).should(never()).executePipelined(any(SessionCallback.class));
+    }
+
+    /**
+     * 파이프라인 콜백을 mock RedisTemplate에 그대로 실행한다
+     */
+    private ProductDetailResponse detailWith(int stockQty, String imageUrl) {
+        return ProductDetailResponse.builder()
+                .productId(1L)
+                .productName("맥북 프로")
+                .basePrice(3300000L)
+                .status("ACTIVE")
+                .skus(List.of(ProductDetailResponse.SkuResponse.builder()
+                        .id(1L).skuCode("SKU-1").price(3300000L).stockQty(stockQty).status("ACTIVE").build()))
+                .images(List.of(ProductDetailResponse.ImageResponse.builder()
+                        .imageUrl(imageUrl).isPrimary(true).displayOrder(1).build()))
+                .updatedAt(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .build();
+    }
+
+    private void givenPipelineRunsOnTemplate() {
+        given(redisTemplate.executePipelined(any(SessionCallback.class))).willAnswer(invocation -> {
+            invocation.<SessionCallback<?>>getArgument(0).execute(redisTemplate);
+            return List.of();
+        });
+    }
+
+    private void runRefreshes() {
+        List<Runnable> tasks = new ArrayList<>(refreshTasks);
+        refreshTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("catalog.product.detail.cache.requests").tag("result", result).counter().count();
     }
 
     private ProductDetailResponse createProductDetailResponse(Long productId, String productName) {
@@ -274,4 +619,18 @@ class ProductDetailServiceTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
     }
+
+    private static final class FakeTicker implements Ticker {
+
+        private final AtomicLong nanos = new AtomicLong();
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+
+        void advance(Duration duration) {
+            nanos.addAndGet(duration.toNanos());
+        }
+    }
 }
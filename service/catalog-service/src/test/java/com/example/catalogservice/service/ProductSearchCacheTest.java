@@ -0,0 +1,296 @@
+package com.example.catalogservice.service;
+
+import com.example.catalogservice.config.RedisConfig;
+import com.example.catalogservice.controller.dto.ProductSearchRequest;
+import com.example.catalogservice.domain.SearchFacets;
+import com.example.catalogservice.domain.SearchResultCache;
+import com.example.catalogservice.domain.document.ProductDocument;
+import com.example.catalogservice.infrastructure.redis.CatalogRedisSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductSearchCache 단위 테스트")
+class ProductSearchCacheTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductSearchCache productSearchCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productSearchCache = new ProductSearchCache(redisTemplate, catalogVersion, meterRegistry);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(catalogVersion.current()).thenReturn("e.1");
+    }
+
+    @Test
+    @DisplayName("정규화 - 키워드/상태 공백, 빈 조건, 정렬 표기가 달라도 같은 키")
+    void normalize_EquivalentRequests() {
+        ProductSearchRequest a = ProductSearchRequest.builder()
+                .productName("  Apple   Watch ")
+                .status(" ACTIVE ")
+                .sort("salePrice")
+                .build();
+        ProductSearchRequest b = ProductSearchRequest.builder()
+                .productName("Apple Watch")
+                .status("ACTIVE")
+                .sort("salePrice,asc")
+                .build();
+
+        assertThat(ProductSearchCache.normalize(a)).isEqualTo(ProductSearchCache.normalize(b));
+        assertThat(ProductSearchCache.normalize(ProductSearchRequest.builder().status("").build()))
+                .isEqualTo(ProductSearchCache.normalize(ProductSearchRequest.builder().build()));
+    }
+
+    @Test
+    @DisplayName("정규화 - 카테고리, 가격 범위, 페이지가 다르면 다른 키")
+    void normalize_DifferentRequests() {
+        ProductSearchRequest base = ProductSearchRequest.builder().categoryId(10L).build();
+
+        assertThat(ProductSearchCache.normalize(base))
+                .isNotEqualTo(ProductSearchCache.normalize(ProductSearchRequest.builder().categoryId(11L).build()))
+                .isNotEqualTo(ProductSearchCache.normalize(ProductSearchRequest.builder().categoryId(10L).minPrice(0L).build()))
+                .isNotEqualTo(ProductSearchCache.normalize(ProductSearchRequest.builder().categoryId(10L).page(1).build()))
+                .isNotEqualTo(ProductSearchCache.normalize(ProductSearchRequest.builder().categoryId(10L).sort("salePrice,desc").build()));
+
+        // searchKeywords는 대소문자를 구분하는 keyword 필드라 결과가 다를 수 있다
+        assertThat(ProductSearchCache.normalize(ProductSearchRequest.builder().productName("Nike").build()))
+                .isNotEqualTo(ProductSearchCache.normalize(ProductSearchRequest.builder().productName("nike").build()));
+    }
+
+    @Test
+    @DisplayName("캐시 미스 - 검색 후 로컬과 Redis에 저장하고, 다음 요청은 로컬에서 반환")
+    void get_MissThenLocalHit() {
+        // Given
+        ProductSearchRequest request = ProductSearchRequest.builder().categoryId(10L).build();
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Page<ProductDocument>> loader = () -> {
+            loads.incrementAndGet();
+            return page(request, 42L, createProduct("1"), createProduct("2"));
+        };
+
+        // When
+        Page<ProductDocument> first = productSearchCache.get(request, loader);
+        Page<ProductDocument> second = productSearchCache.get(request, loader);
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second.getContent()).extracting(ProductDocument::getProductId).containsExactly("1", "2");
+        assertThat(second.getTotalElements()).isEqualTo(42L);
+        assertThat(second.getPageable()).isEqualTo(first.getPageable());
+
+        verify(valueOperations).set(anyString(), any(SearchResultCache.class), eq(Duration.ofMinutes(10)));
+        assertThat(meterRegistry.get("catalog.search.cache.requests").tag("result", "local").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("catalog.search.cache.requests").tag("result", "miss").counter().count())
+                .isEqualTo(1);
+        assertThat(productSearchCache.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Redis 적중 - 다른 인스턴스가 저장한 결과를 검색 없이 반환")
+    void get_RedisHit() {
+        // Given
+        ProductSearchRequest request = ProductSearchRequest.builder().productName("노트북").build();
+        SearchResultCache cached = new SearchResultCache(new ArrayList<>(List.of(createProduct("7"))), 1L);
+        given(valueOperations.get(anyString())).willReturn(cached);
+
+        // When
+        Page<ProductDocument> result = productSearchCache.get(request, () -> {
+            throw new AssertionError("검색하지 않아야 한다");
+        });
+
+        // Then
+        assertThat(result.getContent()).extracting(ProductDocument::getProductId).containsExactly("7");
+        assertThat(meterRegistry.get("catalog.search.cache.requests").tag("result", "redis").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카탈로그 버전이 바뀌면 이전 결과를 사용하지 않는다")
+    void get_VersionChangeInvalidates() {
+        // Given
+        ProductSearchRequest request = ProductSearchRequest.builder().categoryId(10L).build();
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Page<ProductDocument>> loader = () -> {
+            loads.incrementAndGet();
+            return page(request, 1L, createProduct("1"));
+        };
+        productSearchCache.get(request, loader);
+
+        // When
+        given(catalogVersion.current()).willReturn("e.2");
+        productSearchCache.get(request, loader);
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations, times(2)).get(keyCaptor.capture());
+        assertThat(keyCaptor.getAllValues().get(0)).isNotEqualTo(keyCaptor.getAllValues().get(1))
+                .startsWith("catalog:search:");
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 검색은 정상 동작하고 로컬 캐시는 채워진다")
+    void get_RedisFailure() {
+        // Given
+        ProductSearchRequest request = ProductSearchRequest.builder().categoryId(10L).build();
+        given(valueOperations.get(anyString())).willThrow(new RedisConnectionFailureException("down"));
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(valueOperations).set(anyString(), any(), any(Duration.class));
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        Page<ProductDocument> first = productSearchCache.get(request, () -> {
+            loads.incrementAndGet();
+            return page(request, 1L, createProduct("1"));
+        });
+        productSearchCache.get(request, () -> {
+            loads.incrementAndGet();
+            return page(request, 1L, createProduct("1"));
+        });
+
+        // Then
+        assertThat(first.getContent()).hasSize(1);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 직렬화 - RedisConfig 직렬화기로 저장한 결과를 그대로 복원")
+    void searchResultCache_RedisRoundTrip() {
+        // Given
+        RedisTemplate<String, Object> template = new RedisConfig().redisTemplate(mock(RedisConnectionFactory.class),
+                new CatalogRedisSerializer(CatalogRedisSerializer.Format.BINARY, 1024, new SimpleMeterRegistry()));
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> serializer = (RedisSerializer<Object>) template.getValueSerializer();
+        ProductDocument product = ProductDocument.builder()
+                .productId("1")
+                .productName("노트북")
+                .salePrice(15000L)
+                .categoryIds(new ArrayList<>(List.of(10L, 20L)))
+                .skus(new ArrayList<>(List.of(ProductDocument.SkuInfo.builder().skuId(1L).price(15000L).build())))
+                .createdAt(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .build();
+
+        // When
+        Object restored = serializer.deserialize(serializer.serialize(
+                new SearchResultCache(new ArrayList<>(List.of(product)), 3L)));
+
+        // Then
+        assertThat(restored).isInstanceOf(SearchResultCache.class);
+        SearchResultCache result = (SearchResultCache) restored;
+        assertThat(result.getTotalElements()).isEqualTo(3L);
+        assertThat(result.getContent().get(0).getProductName()).isEqualTo("노트북");
+        assertThat(result.getContent().get(0).getCategoryIds()).containsExactly(10L, 20L);
+        assertThat(result.getContent().get(0).getSkus().get(0).getPrice()).isEqualTo(15000L);
+        assertThat(result.getContent().get(0).getCreatedAt()).isEqualTo(LocalDateTime.of(2024, 1, 1, 10, 0));
+    }
+
+    @Test
+    @DisplayName("패싯 캐시 - 정렬/페이지가 달라도 같은 필터면 공유, Redis에 저장한 패싯은 다른 인스턴스에서 적중")
+    void facets_SharedAcrossPagesAndSorts() {
+        // Given
+        ProductSearchRequest request = ProductSearchRequest.builder().categoryId(10L).build();
+        ProductSearchRequest otherPage = ProductSearchRequest.builder().categoryId(10L).page(3).sort("salePrice,desc").build();
+        SearchFacets facets = facets();
+
+        // When
+        assertThat(productSearchCache.getFacets(request)).isNull();
+        productSearchCache.putFacets(request, facets);
+
+        // Then
+        assertThat(productSearchCache.getFacets(otherPage)).isSameAs(facets);
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(keyCaptor.capture(), eq(facets), eq(Duration.ofMinutes(10)));
+        assertThat(keyCaptor.getValue()).startsWith("catalog:search:facets:");
+
+        ProductSearchCache otherInstance = new ProductSearchCache(redisTemplate, catalogVersion, new SimpleMeterRegistry());
+        given(valueOperations.get(keyCaptor.getValue())).willReturn(facets);
+        assertThat(otherInstance.getFacets(otherPage)).isSameAs(facets);
+
+        assertThat(meterRegistry.get("catalog.search.facets.cache.requests").tag("result", "miss").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("catalog.search.facets.cache.requests").tag("result", "local").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 직렬화 - 패싯을 RedisConfig 직렬화기로 저장 후 복원")
+    void searchFacets_RedisRoundTrip() {
+        // Given
+        RedisTemplate<String, Object> template = new RedisConfig().redisTemplate(mock(RedisConnectionFactory.class),
+                new CatalogRedisSerializer(CatalogRedisSerializer.Format.BINARY, 1024, new SimpleMeterRegistry()));
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> serializer = (RedisSerializer<Object>) template.getValueSerializer();
+
+        // When
+        Object restored = serializer.deserialize(serializer.serialize(facets()));
+
+        // Then
+        assertThat(restored).isInstanceOf(SearchFacets.class);
+        SearchFacets result = (SearchFacets) restored;
+        assertThat(result.getCategories().get(0).getCategoryName()).isEqualTo("스마트폰");
+        assertThat(result.getPriceRanges().get(0).getTo()).isEqualTo(20_000L);
+        assertThat(result.getStatuses().get(0).getCount()).isEqualTo(5L);
+    }
+
+    private SearchFacets facets() {
+        return SearchFacets.builder()
+                .categories(new ArrayList<>(List.of(new SearchFacets.CategoryCount(2L, "스마트폰", 3L))))
+                .priceRanges(new ArrayList<>(List.of(new SearchFacets.PriceBucket(10_000L, 20_000L, 3L))))
+                .statuses(new ArrayList<>(List.of(new SearchFacets.StatusCount("ACTIVE", 5L))))
+                .build();
+    }
+
+    private Page<ProductDocument> page(ProductSearchRequest request, long total, ProductDocument... products) {
+        return new PageImpl<>(List.of(products), request.toPageable(), total);
+    }
+
+    private ProductDocument createProduct(String productId) {
+        return ProductDocument.builder()
+                .productId(productId)
+                .productName("상품" + productId)
+                .build();
+    }
+}
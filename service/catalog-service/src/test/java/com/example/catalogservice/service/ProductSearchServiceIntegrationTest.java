@@ -513,6 +513,7 @@ class ProductSearchServiceIntegrationTest {
                 .status(status)
                 .primaryImageUrl("https://example.com/image.jpg")
                 .categoryIds(categoryIds)
+                .categoryPath(categoryIds)
                 .searchKeywords(searchKeywords)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
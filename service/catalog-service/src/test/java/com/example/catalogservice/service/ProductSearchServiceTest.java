@@ -1,27 +1,47 @@
 package com.example.catalogservice.service;
 
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.HistogramBucket;
+import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import com.example.catalogservice.controller.dto.ProductSearchRequest;
+import com.example.catalogservice.domain.CategoryIndex;
+import com.example.catalogservice.domain.CategoryTreeNode;
+import com.example.catalogservice.domain.CursorPage;
+import com.example.catalogservice.domain.ProductSearchResult;
+import com.example.catalogservice.domain.SearchFacets;
 import com.example.catalogservice.domain.document.ProductDocument;
+import com.example.catalogservice.exception.CursorExpiredException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,12 +53,30 @@ class ProductSearchServiceTest {
     @Mock
     private ElasticsearchOperations elasticsearchOperations;
 
+    @Mock
+    private ProductSearchCache productSearchCache;
+
     @Mock
     private CategorySyncService categorySyncService;
 
+    @Mock
+    private AutocompleteService autocompleteService;
+
+    @Mock
+    private SearchQueryRecorder searchQueryRecorder;
+
     @InjectMocks
     private ProductSearchService productSearchService;
 
+    @BeforeEach
+    void setUp() {
+        // 캐시는 ProductSearchCacheTest에서 검증하고, 여기서는 항상 Elasticsearch 검색을 실행한다
+        when(productSearchCache.get(any(ProductSearchRequest.class), any())).thenAnswer(invocation -> {
+            Supplier<Page<ProductDocument>> loader = invocation.getArgument(1);
+            return loader.get();
+        });
+    }
+
     @Test
     @DisplayName("카테고리 ID로 상품 검색 - 단일 카테고리 매칭")
     void searchProducts_SingleCategoryMatch() {
@@ -54,7 +92,6 @@ class ProductSearchServiceTest {
                 createProductDocument("2", "마우스", List.of(10L, 30L))
         );
 
-        when(categorySyncService.getCategoryIdWithDescendants(10L)).thenReturn(List.of(10L));
         SearchHits<ProductDocument> searchHits = createSearchHits(products, 2L);
         when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
                 .thenReturn(searchHits);
@@ -81,7 +118,6 @@ class ProductSearchServiceTest {
                 .size(10)
                 .build();
 
-        when(categorySyncService.getCategoryIdWithDescendants(99L)).thenReturn(List.of(99L));
         SearchHits<ProductDocument> searchHits = createSearchHits(List.of(), 0L);
         when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
                 .thenReturn(searchHits);
@@ -109,7 +145,6 @@ class ProductSearchServiceTest {
                 createProductDocument("2", "상품 2", List.of(100L))
         );
 
-        when(categorySyncService.getCategoryIdWithDescendants(100L)).thenReturn(List.of(100L));
         SearchHits<ProductDocument> searchHits = createSearchHits(products, 25L);
         when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
                 .thenReturn(searchHits);
@@ -251,7 +286,6 @@ class ProductSearchServiceTest {
                 createProductDocument("1", "삼성 노트북", List.of(10L))
         );
 
-        when(categorySyncService.getCategoryIdWithDescendants(10L)).thenReturn(List.of(10L));
         SearchHits<ProductDocument> searchHits = createSearchHits(products, 1L);
         when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
                 .thenReturn(searchHits);
@@ -282,10 +316,6 @@ class ProductSearchServiceTest {
                 createProductDocument("4", "액세서리", List.of(1L, 2L))   // 상위 + 하위
         );
 
-        // CategorySyncService가 하위 카테고리 ID들을 반환하도록 설정
-        when(categorySyncService.getCategoryIdWithDescendants(1L))
-                .thenReturn(List.of(1L, 2L, 3L, 4L));
-
         SearchHits<ProductDocument> searchHits = createSearchHits(products, 4L);
         when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
                 .thenReturn(searchHits);
@@ -299,8 +329,8 @@ class ProductSearchServiceTest {
                 .extracting(ProductDocument::getProductName)
                 .containsExactlyInAnyOrder("스마트폰", "노트북", "태블릿", "액세서리");
 
-        // CategorySyncService가 호출되었는지 검증
-        verify(categorySyncService).getCategoryIdWithDescendants(1L);
+        // 하위 카테고리 ID를 나열하지 않고 categoryPath term 하나로 필터링
+        assertCategoryPathFilter(1L);
     }
 
     @Test
@@ -318,10 +348,6 @@ class ProductSearchServiceTest {
                 createProductDocument("2", "상품2", List.of(10L))
         );
 
-        // 리프 카테고리는 자기 자신만 반환
-        when(categorySyncService.getCategoryIdWithDescendants(10L))
-                .thenReturn(List.of(10L));
-
         SearchHits<ProductDocument> searchHits = createSearchHits(products, 2L);
         when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
                 .thenReturn(searchHits);
@@ -331,7 +357,8 @@ class ProductSearchServiceTest {
 
         // Then
         assertThat(result.getTotalElements()).isEqualTo(2);
-        verify(categorySyncService).getCategoryIdWithDescendants(10L);
+        // 하위 카테고리 ID를 나열하지 않고 categoryPath term 하나로 필터링
+        assertCategoryPathFilter(10L);
     }
 
     @Test
@@ -350,10 +377,6 @@ class ProductSearchServiceTest {
                 createProductDocument("3", "스마트폰 케이스", List.of(2L, 4L))  // 스마트폰 + 삼성
         );
 
-        // 스마트폰 카테고리와 하위 카테고리 (삼성, 애플)
-        when(categorySyncService.getCategoryIdWithDescendants(2L))
-                .thenReturn(List.of(2L, 4L, 5L));
-
         SearchHits<ProductDocument> searchHits = createSearchHits(products, 3L);
         when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
                 .thenReturn(searchHits);
@@ -367,7 +390,8 @@ class ProductSearchServiceTest {
                 .extracting(ProductDocument::getProductName)
                 .containsExactlyInAnyOrder("갤럭시 S24", "아이폰 15", "스마트폰 케이스");
 
-        verify(categorySyncService).getCategoryIdWithDescendants(2L);
+        // 하위 카테고리 ID를 나열하지 않고 categoryPath term 하나로 필터링
+        assertCategoryPathFilter(2L);
     }
 
     @Test
@@ -399,6 +423,21 @@ class ProductSearchServiceTest {
         verify(elasticsearchOperations).search(any(NativeQuery.class), eq(ProductDocument.class));
     }
 
+    @Test
+    @DisplayName("상품명 자동완성 - 자동완성 트라이가 답하면 Elasticsearch를 조회하지 않음")
+    void autocompleteProductName_FromTrie() {
+        // Given
+        when(autocompleteService.suggest("노트", 5))
+                .thenReturn(java.util.Optional.of(List.of("노트북", "삼성 노트북")));
+
+        // When
+        List<String> result = productSearchService.autocompleteProductName("노트");
+
+        // Then
+        assertThat(result).containsExactly("노트북", "삼성 노트북");
+        org.mockito.Mockito.verifyNoInteractions(elasticsearchOperations);
+    }
+
     @Test
     @DisplayName("상품명 자동완성 - 빈 키워드 입력 시 빈 리스트 반환")
     void autocompleteProductName_withEmptyKeyword() {
@@ -557,6 +596,34 @@ class ProductSearchServiceTest {
         verify(elasticsearchOperations).search(any(NativeQuery.class), eq(ProductDocument.class));
     }
 
+    @Test
+    @DisplayName("첫 페이지 검색만 검색어 집계에 결과 유무와 함께 기록")
+    void searchProducts_RecordsFirstPageQuery() {
+        // Given
+        ProductSearchRequest firstPage = ProductSearchRequest.builder().productName("노트북").page(0).size(10).build();
+        ProductSearchRequest secondPage = ProductSearchRequest.builder().productName("노트북").page(1).size(10).build();
+        ProductSearchRequest notFound = ProductSearchRequest.builder().productName("없는상품").page(0).size(10).build();
+        SearchHits<ProductDocument> firstHits = createSearchHits(
+                List.of(createProductDocument("1", "삼성 노트북", List.of(10L))), 11L);
+        SearchHits<ProductDocument> secondHits = createSearchHits(
+                List.of(createProductDocument("11", "LG 노트북", List.of(10L))), 11L);
+        SearchHits<ProductDocument> emptyHits = createSearchHits(List.of(), 0L);
+        when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
+                .thenReturn(firstHits)
+                .thenReturn(secondHits)
+                .thenReturn(emptyHits);
+
+        // When
+        productSearchService.searchProducts(firstPage);
+        productSearchService.searchProducts(secondPage);
+        productSearchService.searchProducts(notFound);
+
+        // Then
+        verify(searchQueryRecorder).record("노트북", true);
+        verify(searchQueryRecorder).record("없는상품", false);
+        org.mockito.Mockito.verifyNoMoreInteractions(searchQueryRecorder);
+    }
+
     @Test
     @DisplayName("키워드 없이 필터만 있을 때 사용자 지정 정렬만 적용")
     void searchProducts_WithoutKeyword_CustomSortOnly() {
@@ -573,7 +640,6 @@ class ProductSearchServiceTest {
                 createProductDocument("2", "상품2", List.of(10L))
         );
 
-        when(categorySyncService.getCategoryIdWithDescendants(10L)).thenReturn(List.of(10L));
         SearchHits<ProductDocument> searchHits = createSearchHits(products, 2L);
         when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
                 .thenReturn(searchHits);
@@ -601,7 +667,6 @@ class ProductSearchServiceTest {
                 createProductDocument("2", "상품2", List.of(10L))
         );
 
-        when(categorySyncService.getCategoryIdWithDescendants(10L)).thenReturn(List.of(10L));
         SearchHits<ProductDocument> searchHits = createSearchHits(products, 2L);
         when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
                 .thenReturn(searchHits);
@@ -629,7 +694,6 @@ class ProductSearchServiceTest {
                 createProductDocument("1", "상품1", List.of(10L))
         );
 
-        when(categorySyncService.getCategoryIdWithDescendants(10L)).thenReturn(List.of(10L));
         SearchHits<ProductDocument> searchHits = createSearchHits(products, 1L);
         when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
                 .thenReturn(searchHits);
@@ -657,7 +721,6 @@ class ProductSearchServiceTest {
                 createProductDocument("1", "상품1", List.of(10L))
         );
 
-        when(categorySyncService.getCategoryIdWithDescendants(10L)).thenReturn(List.of(10L));
         SearchHits<ProductDocument> searchHits = createSearchHits(products, 1L);
         when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
                 .thenReturn(searchHits);
@@ -670,6 +733,300 @@ class ProductSearchServiceTest {
         verify(elasticsearchOperations).search(any(NativeQuery.class), eq(ProductDocument.class));
     }
 
+    @Test
+    @DisplayName("커서 검색 첫 페이지 - productId tiebreaker 정렬, 한 건 더 조회해 다음 커서 발급")
+    void searchProductsAfter_FirstPage() {
+        // Given
+        ProductSearchRequest request = ProductSearchRequest.builder()
+                .categoryId(10L)
+                .size(2)
+                .sort("salePrice,asc")
+                .build();
+
+        SearchHits<ProductDocument> searchHits = createCursorHits(
+                cursorHit("1", 1000L), cursorHit("2", 2000L), cursorHit("3", 3000L));
+        when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
+                .thenReturn(searchHits);
+
+        // When
+        CursorPage<ProductDocument> result = productSearchService.searchProductsAfter(request, null, false);
+
+        // Then
+        assertThat(result.getContent()).extracting(ProductDocument::getProductId).containsExactly("1", "2");
+        assertThat(result.hasNext()).isTrue();
+
+        ArgumentCaptor<NativeQuery> queryCaptor = ArgumentCaptor.forClass(NativeQuery.class);
+        verify(elasticsearchOperations).search(queryCaptor.capture(), eq(ProductDocument.class));
+        NativeQuery query = queryCaptor.getValue();
+        assertThat(query.getMaxResults()).isEqualTo(3);
+        assertThat(query.getTrackTotalHits()).isFalse();
+        assertThat(query.getSearchAfter()).isNull();
+        assertThat(query.getSortOptions())
+                .extracting(sort -> sort.field().field())
+                .containsExactly("salePrice", "productId");
+        verify(elasticsearchOperations, never()).openPointInTime(any(), any());
+    }
+
+    @Test
+    @DisplayName("커서 검색 다음 페이지 - 커서의 정렬 값으로 search_after 적용, 마지막 페이지는 커서 없음")
+    void searchProductsAfter_NextPage() {
+        // Given
+        ProductSearchRequest request = ProductSearchRequest.builder()
+                .categoryId(10L)
+                .size(2)
+                .sort("salePrice,asc")
+                .build();
+
+        SearchHits<ProductDocument> firstHits = createCursorHits(
+                cursorHit("1", 1000L), cursorHit("2", 2000L), cursorHit("3", 3000L));
+        SearchHits<ProductDocument> lastHits = createCursorHits(cursorHit("3", 3000L));
+        when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
+                .thenReturn(firstHits)
+                .thenReturn(lastHits);
+        String cursor = productSearchService.searchProductsAfter(request, null, false).getNextCursor();
+
+        // When
+        CursorPage<ProductDocument> result = productSearchService.searchProductsAfter(request, cursor, false);
+
+        // Then
+        assertThat(result.getContent()).extracting(ProductDocument::getProductId).containsExactly("3");
+        assertThat(result.hasNext()).isFalse();
+
+        ArgumentCaptor<NativeQuery> queryCaptor = ArgumentCaptor.forClass(NativeQuery.class);
+        verify(elasticsearchOperations, org.mockito.Mockito.times(2))
+                .search(queryCaptor.capture(), eq(ProductDocument.class));
+        assertThat(queryCaptor.getAllValues().get(1).getSearchAfter()).containsExactly(2000, "2");
+        verify(searchQueryRecorder).record(null, true);
+    }
+
+    @Test
+    @DisplayName("커서 검색 point-in-time - 다음 페이지가 있을 때 열어 커서로 이어가고 마지막 페이지에서 닫음")
+    void searchProductsAfter_PointInTime() {
+        // Given
+        ProductSearchRequest request = ProductSearchRequest.builder().size(1).build();
+        IndexCoordinates products = IndexCoordinates.of("products");
+        when(elasticsearchOperations.getIndexCoordinatesFor(ProductDocument.class)).thenReturn(products);
+        when(elasticsearchOperations.openPointInTime(products, ProductSearchService.POINT_IN_TIME_KEEP_ALIVE))
+                .thenReturn("pit-1");
+
+        SearchHits<ProductDocument> firstHits = createCursorHits(cursorHit("1", 1L), cursorHit("2", 2L));
+        SearchHits<ProductDocument> lastHits = createCursorHits(cursorHit("2", 2L));
+        when(lastHits.getPointInTimeId()).thenReturn("pit-2");
+        when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
+                .thenReturn(firstHits)
+                .thenReturn(lastHits);
+
+        // When
+        String cursor = productSearchService.searchProductsAfter(request, null, true).getNextCursor();
+        CursorPage<ProductDocument> result = productSearchService.searchProductsAfter(request, cursor, true);
+
+        // Then - 첫 페이지는 PIT 없이 조회하고, 두 번째 조회는 열어 둔 PIT를 사용한 뒤 응답의 최신 PIT ID로 닫는다
+        assertThat(result.hasNext()).isFalse();
+        ArgumentCaptor<NativeQuery> queryCaptor = ArgumentCaptor.forClass(NativeQuery.class);
+        verify(elasticsearchOperations, org.mockito.Mockito.times(2))
+                .search(queryCaptor.capture(), eq(ProductDocument.class));
+        assertThat(queryCaptor.getAllValues().get(0).getPointInTime()).isNull();
+        assertThat(queryCaptor.getAllValues().get(1).getPointInTime().id()).isEqualTo("pit-1");
+        verify(elasticsearchOperations).openPointInTime(any(), any());
+        verify(elasticsearchOperations).closePointInTime("pit-2");
+    }
+
+    @Test
+    @DisplayName("커서 검색 point-in-time - 한 페이지로 끝나면 열지 않고, 열기 한도를 넘으면 PIT 없이 커서 발급")
+    void searchProductsAfter_PointInTimeLimited() {
+        // Given
+        ProductSearchRequest request = ProductSearchRequest.builder().size(1).build();
+        when(elasticsearchOperations.getIndexCoordinatesFor(ProductDocument.class)).thenReturn(IndexCoordinates.of("products"));
+        when(elasticsearchOperations.openPointInTime(any(), any())).thenReturn("pit");
+        SearchHits<ProductDocument> singlePage = createCursorHits(cursorHit("1", 1L));
+        SearchHits<ProductDocument> hasNext = createCursorHits(cursorHit("1", 1L), cursorHit("2", 2L));
+        when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class))).thenReturn(singlePage);
+        productSearchService.searchProductsAfter(request, null, true);
+        verify(elasticsearchOperations, never()).openPointInTime(any(), any());
+
+        when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class))).thenReturn(hasNext);
+
+        // When
+        for (int i = 0; i < ProductSearchService.MAX_POINT_IN_TIME_OPENS; i++) {
+            productSearchService.searchProductsAfter(request, null, true);
+        }
+        String cursor = productSearchService.searchProductsAfter(request, null, true).getNextCursor();
+
+        // Then
+        verify(elasticsearchOperations, org.mockito.Mockito.times(ProductSearchService.MAX_POINT_IN_TIME_OPENS))
+                .openPointInTime(any(), any());
+        assertThat(cursor).isNotNull();
+    }
+
+    @Test
+    @DisplayName("커서 검색 point-in-time - 만료된 PIT로 이어서 조회하면 CursorExpiredException")
+    void searchProductsAfter_PointInTimeExpired() {
+        // Given
+        ProductSearchRequest request = ProductSearchRequest.builder().size(1).build();
+        when(elasticsearchOperations.getIndexCoordinatesFor(ProductDocument.class)).thenReturn(IndexCoordinates.of("products"));
+        when(elasticsearchOperations.openPointInTime(any(), any())).thenReturn("pit-1");
+        SearchHits<ProductDocument> firstHits = createCursorHits(cursorHit("1", 1L), cursorHit("2", 2L));
+        when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
+                .thenReturn(firstHits)
+                .thenThrow(new RuntimeException("[es/search] failed: [search_context_missing_exception] No search context found"));
+        String cursor = productSearchService.searchProductsAfter(request, null, true).getNextCursor();
+
+        // When & Then
+        assertThatThrownBy(() -> productSearchService.searchProductsAfter(request, cursor, true))
+                .isInstanceOf(CursorExpiredException.class);
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 잘못된 커서나 다른 검색 조건의 커서는 거부")
+    void searchProductsAfter_InvalidCursor() {
+        // Given
+        ProductSearchRequest request = ProductSearchRequest.builder().categoryId(10L).size(1).build();
+        SearchHits<ProductDocument> searchHits = createCursorHits(cursorHit("1", 1L), cursorHit("2", 2L));
+        when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
+                .thenReturn(searchHits);
+        String cursor = productSearchService.searchProductsAfter(request, null, false).getNextCursor();
+
+        ProductSearchRequest otherRequest = ProductSearchRequest.builder().categoryId(20L).size(1).build();
+
+        // When & Then
+        assertThatThrownBy(() -> productSearchService.searchProductsAfter(otherRequest, cursor, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> productSearchService.searchProductsAfter(request, "not-a-cursor", false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    @DisplayName("패싯 검색 - 같은 요청에서 하위 카테고리/가격 구간/상태 집계 후 패싯 캐싱")
+    void searchProductsWithFacets_AggregatesInSameQuery() {
+        // Given - 전자제품(1) > 스마트폰(2), 노트북(3), 태블릿(4)
+        ProductSearchRequest request = ProductSearchRequest.builder().categoryId(1L).size(10).build();
+        when(categorySyncService.getCategoryIndex()).thenReturn(CategoryIndex.of(1L, List.of(
+                category(1L, null, category(2L, 1L), category(3L, 1L), category(4L, 1L)))));
+
+        SearchHits<ProductDocument> searchHits = createSearchHits(
+                List.of(createProductDocument("1", "갤럭시", List.of(2L))), 3L);
+        doReturn(facetAggregations()).when(searchHits).getAggregations();
+        when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
+                .thenReturn(searchHits);
+
+        // When
+        ProductSearchResult result = productSearchService.searchProductsWithFacets(request);
+
+        // Then - 검색 요청은 한 번, 집계가 포함된다
+        ArgumentCaptor<NativeQuery> queryCaptor = ArgumentCaptor.forClass(NativeQuery.class);
+        verify(elasticsearchOperations).search(queryCaptor.capture(), eq(ProductDocument.class));
+        assertThat(queryCaptor.getValue().getAggregations()).containsOnlyKeys("categories", "price", "status");
+        assertThat(queryCaptor.getValue().getAggregations().get("categories").terms().include().terms())
+                .containsExactly("2", "3", "4");
+
+        assertThat(result.getProducts().getContent()).hasSize(1);
+        SearchFacets facets = result.getFacets();
+        // 트리 표시 순서 유지, 상품이 없는 태블릿(4)은 제외
+        assertThat(facets.getCategories())
+                .extracting(SearchFacets.CategoryCount::getCategoryName, SearchFacets.CategoryCount::getCount)
+                .containsExactly(
+                        org.assertj.core.groups.Tuple.tuple("카테고리2", 2L),
+                        org.assertj.core.groups.Tuple.tuple("카테고리3", 1L));
+        assertThat(facets.getPriceRanges())
+                .extracting(SearchFacets.PriceBucket::getFrom, SearchFacets.PriceBucket::getTo,
+                        SearchFacets.PriceBucket::getCount)
+                .containsExactly(org.assertj.core.groups.Tuple.tuple(10_000L, 20_000L, 3L));
+        assertThat(facets.getStatuses())
+                .extracting(SearchFacets.StatusCount::getStatus)
+                .containsExactly("ACTIVE", "SOLD_OUT");
+        verify(productSearchCache).putFacets(request, facets);
+    }
+
+    @Test
+    @DisplayName("패싯 검색 - 캐시된 패싯이 있으면 집계 없이 검색")
+    void searchProductsWithFacets_CachedFacets() {
+        // Given
+        ProductSearchRequest request = ProductSearchRequest.builder().size(10).build();
+        SearchFacets cached = SearchFacets.builder()
+                .categories(List.of()).priceRanges(List.of()).statuses(List.of()).build();
+        when(productSearchCache.getFacets(request)).thenReturn(cached);
+
+        SearchHits<ProductDocument> searchHits = createSearchHits(List.of(), 0L);
+        when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
+                .thenReturn(searchHits);
+
+        // When
+        ProductSearchResult result = productSearchService.searchProductsWithFacets(request);
+
+        // Then
+        assertThat(result.getFacets()).isSameAs(cached);
+        ArgumentCaptor<NativeQuery> queryCaptor = ArgumentCaptor.forClass(NativeQuery.class);
+        verify(elasticsearchOperations).search(queryCaptor.capture(), eq(ProductDocument.class));
+        assertThat(queryCaptor.getValue().getAggregations()).isEmpty();
+        verify(productSearchCache, never()).putFacets(any(), any());
+        org.mockito.Mockito.verifyNoInteractions(categorySyncService);
+    }
+
+    @Test
+    @DisplayName("패싯 검색 - 검색 결과만 캐시에 있으면 집계만 하는 요청(size=0)으로 패싯 계산")
+    void searchProductsWithFacets_CachedPageOnly() {
+        // Given
+        ProductSearchRequest request = ProductSearchRequest.builder().size(10).build();
+        when(categorySyncService.getCategoryIndex()).thenReturn(CategoryIndex.EMPTY);
+        when(productSearchCache.get(any(ProductSearchRequest.class), any()))
+                .thenReturn(new PageImpl<>(List.of(), request.toPageable(), 0));
+
+        SearchHits<ProductDocument> searchHits = createSearchHits(List.of(), 3L);
+        doReturn(facetAggregations()).when(searchHits).getAggregations();
+        when(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductDocument.class)))
+                .thenReturn(searchHits);
+
+        // When
+        ProductSearchResult result = productSearchService.searchProductsWithFacets(request);
+
+        // Then - 카테고리 스냅샷이 비어 있으면 카테고리 패싯은 빈 목록
+        ArgumentCaptor<NativeQuery> queryCaptor = ArgumentCaptor.forClass(NativeQuery.class);
+        verify(elasticsearchOperations).search(queryCaptor.capture(), eq(ProductDocument.class));
+        assertThat(queryCaptor.getValue().getMaxResults()).isZero();
+        assertThat(queryCaptor.getValue().getAggregations()).containsOnlyKeys("price", "status");
+        assertThat(result.getFacets().getCategories()).isEmpty();
+        assertThat(result.getFacets().getStatuses()).hasSize(2);
+        verify(productSearchCache).putFacets(request, result.getFacets());
+    }
+
+    private ElasticsearchAggregations facetAggregations() {
+        Aggregate categories = Aggregate.of(a -> a.sterms(t -> t
+                .sumOtherDocCount(0L)
+                .buckets(b -> b.array(List.of(
+                        StringTermsBucket.of(x -> x.key("3").docCount(1)),
+                        StringTermsBucket.of(x -> x.key("2").docCount(2)))))));
+        Aggregate price = Aggregate.of(a -> a.histogram(h -> h
+                .buckets(b -> b.array(List.of(
+                        HistogramBucket.of(x -> x.key(10_000.0).docCount(3)))))));
+        Aggregate status = Aggregate.of(a -> a.sterms(t -> t
+                .sumOtherDocCount(0L)
+                .buckets(b -> b.array(List.of(
+                        StringTermsBucket.of(x -> x.key("ACTIVE").docCount(2)),
+                        StringTermsBucket.of(x -> x.key("SOLD_OUT").docCount(1)))))));
+        return new ElasticsearchAggregations(Map.of("categories", categories, "price", price, "status", status));
+    }
+
+    private CategoryTreeNode category(Long categoryId, Long parentId, CategoryTreeNode... children) {
+        return CategoryTreeNode.builder()
+                .categoryId(categoryId)
+                .parentId(parentId)
+                .categoryName("카테고리" + categoryId)
+                .children(children.length > 0 ? List.of(children) : null)
+                .build();
+    }
+
+    private void assertCategoryPathFilter(Long categoryId) {
+        ArgumentCaptor<NativeQuery> queryCaptor = ArgumentCaptor.forClass(NativeQuery.class);
+        verify(elasticsearchOperations).search(queryCaptor.capture(), eq(ProductDocument.class));
+
+        List<Query> filters = queryCaptor.getValue().getQuery().bool().filter();
+        assertThat(filters).hasSize(1);
+        assertThat(filters.get(0).isTerm()).isTrue();
+        assertThat(filters.get(0).term().field()).isEqualTo("categoryPath");
+        assertThat(filters.get(0).term().value().longValue()).isEqualTo(categoryId);
+    }
+
     private ProductDocument createProductDocument(String id, String name, List<Long> categoryIds) {
         return ProductDocument.builder()
                 .productId(id)
@@ -713,4 +1070,18 @@ class ProductSearchServiceTest {
 
         return searchHits;
     }
+
+    private SearchHit<ProductDocument> cursorHit(String id, long salePrice) {
+        ProductDocument product = createProductDocument(id, "상품" + id, List.of(10L));
+        return new SearchHit<>(null, id, null, Float.NaN, new Object[]{salePrice, id},
+                null, null, null, null, null, product);
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private SearchHits<ProductDocument> createCursorHits(SearchHit<ProductDocument>... hits) {
+        SearchHits<ProductDocument> searchHits = mock(SearchHits.class);
+        when(searchHits.getSearchHits()).thenReturn(List.of(hits));
+        return searchHits;
+    }
 }
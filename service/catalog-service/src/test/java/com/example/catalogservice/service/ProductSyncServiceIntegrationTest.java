@@ -1,9 +1,8 @@
 package com.example.catalogservice.service;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import com.example.catalogservice.client.ProductServiceClient;
+import com.example.catalogservice.client.ProductExportReader;
 import com.example.catalogservice.client.dto.CatalogSyncProductResponse;
-import com.example.catalogservice.client.dto.PageResponse;
 import com.example.catalogservice.config.ElasticsearchTestContainerConfig;
 import com.example.catalogservice.domain.document.ProductDocument;
 import org.junit.jupiter.api.*;
@@ -22,11 +21,14 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 
 @SpringBootTest(properties = {
         "spring.cloud.config.enabled=false",
@@ -51,7 +53,7 @@ class ProductSyncServiceIntegrationTest {
     private ElasticsearchOperations elasticsearchOperations;
 
     @MockitoBean
-    private ProductServiceClient productServiceClient;
+    private ProductExportReader productExportReader;
 
     @BeforeEach
     void setUp() throws IOException {
@@ -97,16 +99,13 @@ class ProductSyncServiceIntegrationTest {
     @DisplayName("fullSync - 새 인덱스 생성 후 alias가 새 인덱스를 가리킨다")
     void fullSync_CreatesNewIndexAndSwitchesAlias() throws IOException {
         // given
-        PageResponse<CatalogSyncProductResponse> page = createPageResponse(
-                List.of(
-                        createMockProduct(1L, "상품1"),
-                        createMockProduct(2L, "상품2"),
-                        createMockProduct(3L, "상품3")
-                ),
-                0, 100, 3, 1, true, true
+        List<CatalogSyncProductResponse> batch = List.of(
+                createMockProduct(1L, "상품1"),
+                createMockProduct(2L, "상품2"),
+                createMockProduct(3L, "상품3")
         );
 
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(page);
+        givenExportedBatches(batch);
 
         // when
         int totalSynced = productSyncService.fullSync();
@@ -139,16 +138,13 @@ class ProductSyncServiceIntegrationTest {
     @DisplayName("fullSync - 삭제된 상품이 새 인덱스에 포함되지 않는다 (핵심 테스트)")
     void fullSync_DeletedProductsNotIncludedInNewIndex() throws IOException {
         // given - 첫 번째 fullSync: 상품 3개
-        PageResponse<CatalogSyncProductResponse> firstSync = createPageResponse(
-                List.of(
-                        createMockProduct(1L, "상품1"),
-                        createMockProduct(2L, "상품2"),
-                        createMockProduct(3L, "상품3")
-                ),
-                0, 100, 3, 1, true, true
+        List<CatalogSyncProductResponse> firstSync = List.of(
+                createMockProduct(1L, "상품1"),
+                createMockProduct(2L, "상품2"),
+                createMockProduct(3L, "상품3")
         );
 
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(firstSync);
+        givenExportedBatches(firstSync);
         productSyncService.fullSync();
 
         // 첫 번째 동기화 후 상태 확인
@@ -160,15 +156,12 @@ class ProductSyncServiceIntegrationTest {
         assertThat(afterFirstSync.getTotalHits()).isEqualTo(3);
 
         // when - 두 번째 fullSync: 상품2가 삭제되어 2개만 반환
-        PageResponse<CatalogSyncProductResponse> secondSync = createPageResponse(
-                List.of(
-                        createMockProduct(1L, "상품1"),
-                        createMockProduct(3L, "상품3")
-                ),
-                0, 100, 2, 1, true, true
+        List<CatalogSyncProductResponse> secondSync = List.of(
+                createMockProduct(1L, "상품1"),
+                createMockProduct(3L, "상품3")
         );
 
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(secondSync);
+        givenExportedBatches(secondSync);
         int totalSynced = productSyncService.fullSync();
 
         // then
@@ -199,35 +192,24 @@ class ProductSyncServiceIntegrationTest {
 
     @Test
     @Order(3)
-    @DisplayName("fullSync - 여러 페이지 데이터를 새 인덱스에 동기화")
-    void fullSync_MultiplePages() throws IOException {
+    @DisplayName("fullSync - 여러 배치 데이터를 새 인덱스에 동기화")
+    void fullSync_MultipleBatches() throws IOException {
         // given
-        PageResponse<CatalogSyncProductResponse> page0 = createPageResponse(
-                List.of(
-                        createMockProduct(1L, "상품1"),
-                        createMockProduct(2L, "상품2")
-                ),
-                0, 2, 5, 3, true, false
+        List<CatalogSyncProductResponse> batch0 = List.of(
+                createMockProduct(1L, "상품1"),
+                createMockProduct(2L, "상품2")
         );
 
-        PageResponse<CatalogSyncProductResponse> page1 = createPageResponse(
-                List.of(
-                        createMockProduct(3L, "상품3"),
-                        createMockProduct(4L, "상품4")
-                ),
-                1, 2, 5, 3, false, false
+        List<CatalogSyncProductResponse> batch1 = List.of(
+                createMockProduct(3L, "상품3"),
+                createMockProduct(4L, "상품4")
         );
 
-        PageResponse<CatalogSyncProductResponse> page2 = createPageResponse(
-                List.of(
-                        createMockProduct(5L, "상품5")
-                ),
-                2, 2, 5, 3, false, true
+        List<CatalogSyncProductResponse> batch2 = List.of(
+                createMockProduct(5L, "상품5")
         );
 
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(page0);
-        when(productServiceClient.getProductsForSync(1, 100)).thenReturn(page1);
-        when(productServiceClient.getProductsForSync(2, 100)).thenReturn(page2);
+        givenExportedBatches(batch0, batch1, batch2);
 
         // when
         int totalSynced = productSyncService.fullSync();
@@ -250,12 +232,9 @@ class ProductSyncServiceIntegrationTest {
     @DisplayName("fullSync - 이전 인덱스가 삭제된다")
     void fullSync_DeletesOldIndices() throws IOException {
         // given - 첫 번째 동기화
-        PageResponse<CatalogSyncProductResponse> firstSync = createPageResponse(
-                List.of(createMockProduct(1L, "상품1")),
-                0, 100, 1, 1, true, true
-        );
+        List<CatalogSyncProductResponse> firstSync = List.of(createMockProduct(1L, "상품1"));
 
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(firstSync);
+        givenExportedBatches(firstSync);
         productSyncService.fullSync();
 
         Set<String> firstIndices = elasticsearchIndexService.getIndicesByAlias(ElasticsearchIndexService.ALIAS_NAME);
@@ -263,12 +242,9 @@ class ProductSyncServiceIntegrationTest {
         String firstIndexName = firstIndices.iterator().next();
 
         // when - 두 번째 동기화
-        PageResponse<CatalogSyncProductResponse> secondSync = createPageResponse(
-                List.of(createMockProduct(2L, "상품2")),
-                0, 100, 1, 1, true, true
-        );
+        List<CatalogSyncProductResponse> secondSync = List.of(createMockProduct(2L, "상품2"));
 
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(secondSync);
+        givenExportedBatches(secondSync);
         productSyncService.fullSync();
 
         // then - 첫 번째 인덱스는 삭제되어야 함
@@ -287,9 +263,9 @@ class ProductSyncServiceIntegrationTest {
     @Order(5)
     @DisplayName("fullSync - 실패 시 새 인덱스가 롤백된다")
     void fullSync_RollbackOnFailure() throws IOException {
-        // given - ProductServiceClient가 예외를 던지도록 설정
-        when(productServiceClient.getProductsForSync(anyInt(), anyInt()))
-                .thenThrow(new RuntimeException("External API failure"));
+        // given - 상품 스트림 읽기가 예외를 던지도록 설정
+        doThrow(new IOException("External API failure"))
+                .when(productExportReader).read(anyInt(), any());
 
         // when & then
         assertThatThrownBy(() -> productSyncService.fullSync())
@@ -317,12 +293,9 @@ class ProductSyncServiceIntegrationTest {
         ReflectionTestUtils.setField(product, "createdAt", now);
         ReflectionTestUtils.setField(product, "updatedAt", now);
 
-        PageResponse<CatalogSyncProductResponse> page = createPageResponse(
-                List.of(product),
-                0, 100, 1, 1, true, true
-        );
+        List<CatalogSyncProductResponse> batch = List.of(product);
 
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(page);
+        givenExportedBatches(batch);
 
         // when
         productSyncService.fullSync();
@@ -350,12 +323,9 @@ class ProductSyncServiceIntegrationTest {
         CatalogSyncProductResponse product = createMockProduct(200L, "카테고리 없는 상품");
         ReflectionTestUtils.setField(product, "categoryIds", null);
 
-        PageResponse<CatalogSyncProductResponse> page = createPageResponse(
-                List.of(product),
-                0, 100, 1, 1, true, true
-        );
+        List<CatalogSyncProductResponse> batch = List.of(product);
 
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(page);
+        givenExportedBatches(batch);
 
         // when
         int totalSynced = productSyncService.fullSync();
@@ -375,31 +345,25 @@ class ProductSyncServiceIntegrationTest {
     @DisplayName("fullSync - 연속 동기화 시나리오 (실제 운영 환경 시뮬레이션)")
     void fullSync_ConsecutiveSyncScenario() throws IOException {
         // given - 첫 번째 동기화: 상품 5개
-        PageResponse<CatalogSyncProductResponse> sync1 = createPageResponse(
-                List.of(
-                        createMockProduct(1L, "상품1"),
-                        createMockProduct(2L, "상품2"),
-                        createMockProduct(3L, "상품3"),
-                        createMockProduct(4L, "상품4"),
-                        createMockProduct(5L, "상품5")
-                ),
-                0, 100, 5, 1, true, true
+        List<CatalogSyncProductResponse> sync1 = List.of(
+                createMockProduct(1L, "상품1"),
+                createMockProduct(2L, "상품2"),
+                createMockProduct(3L, "상품3"),
+                createMockProduct(4L, "상품4"),
+                createMockProduct(5L, "상품5")
         );
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(sync1);
+        givenExportedBatches(sync1);
         productSyncService.fullSync();
 
         // when - 두 번째 동기화: 상품 2, 4 삭제, 상품 6, 7 추가
-        PageResponse<CatalogSyncProductResponse> sync2 = createPageResponse(
-                List.of(
-                        createMockProduct(1L, "상품1"),
-                        createMockProduct(3L, "상품3"),
-                        createMockProduct(5L, "상품5"),
-                        createMockProduct(6L, "상품6"),
-                        createMockProduct(7L, "상품7")
-                ),
-                0, 100, 5, 1, true, true
+        List<CatalogSyncProductResponse> sync2 = List.of(
+                createMockProduct(1L, "상품1"),
+                createMockProduct(3L, "상품3"),
+                createMockProduct(5L, "상품5"),
+                createMockProduct(6L, "상품6"),
+                createMockProduct(7L, "상품7")
         );
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(sync2);
+        givenExportedBatches(sync2);
         productSyncService.fullSync();
 
         // then
@@ -420,15 +384,12 @@ class ProductSyncServiceIntegrationTest {
         assertThat(productIds).doesNotContain("2", "4");
 
         // when - 세 번째 동기화: 모든 상품 삭제, 새 상품 10, 11, 12 추가
-        PageResponse<CatalogSyncProductResponse> sync3 = createPageResponse(
-                List.of(
-                        createMockProduct(10L, "상품10"),
-                        createMockProduct(11L, "상품11"),
-                        createMockProduct(12L, "상품12")
-                ),
-                0, 100, 3, 1, true, true
+        List<CatalogSyncProductResponse> sync3 = List.of(
+                createMockProduct(10L, "상품10"),
+                createMockProduct(11L, "상품11"),
+                createMockProduct(12L, "상품12")
         );
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(sync3);
+        givenExportedBatches(sync3);
         productSyncService.fullSync();
 
         // then
@@ -448,28 +409,17 @@ class ProductSyncServiceIntegrationTest {
         assertThat(finalProductIds).containsExactlyInAnyOrder("10", "11", "12");
     }
 
-    private PageResponse<CatalogSyncProductResponse> createPageResponse(
-            List<CatalogSyncProductResponse> content,
-            int page, int size, long totalElements, int totalPages,
-            boolean first, boolean last) {
-
-        try {
-            java.lang.reflect.Constructor<PageResponse> constructor =
-                    (java.lang.reflect.Constructor<PageResponse>) PageResponse.class.getDeclaredConstructor();
-            constructor.setAccessible(true);
-            PageResponse<CatalogSyncProductResponse> pageResponse = constructor.newInstance();
-
-            ReflectionTestUtils.setField(pageResponse, "content", content);
-            ReflectionTestUtils.setField(pageResponse, "page", page);
-            ReflectionTestUtils.setField(pageResponse, "size", size);
-            ReflectionTestUtils.setField(pageResponse, "totalElements", totalElements);
-            ReflectionTestUtils.setField(pageResponse, "totalPages", totalPages);
-            ReflectionTestUtils.setField(pageResponse, "first", first);
-            ReflectionTestUtils.setField(pageResponse, "last", last);
-            return pageResponse;
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to create PageResponse", e);
-        }
+    @SafeVarargs
+    private void givenExportedBatches(List<CatalogSyncProductResponse>... batches) throws IOException {
+        doAnswer(invocation -> {
+            Predicate<List<CatalogSyncProductResponse>> handler = invocation.getArgument(1);
+            for (List<CatalogSyncProductResponse> batch : batches) {
+                if (!handler.test(batch)) {
+                    break;
+                }
+            }
+            return null;
+        }).when(productExportReader).read(anyInt(), any());
     }
 
     private CatalogSyncProductResponse createMockProduct(Long id, String name) {
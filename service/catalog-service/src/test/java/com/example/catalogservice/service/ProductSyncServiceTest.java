@@ -1,29 +1,42 @@
 package com.example.catalogservice.service;
 
+import com.example.catalogservice.client.ProductExportReader;
 import com.example.catalogservice.client.ProductServiceClient;
+import com.example.catalogservice.client.dto.CatalogSyncChangesResponse;
 import com.example.catalogservice.client.dto.CatalogSyncProductResponse;
-import com.example.catalogservice.client.dto.PageResponse;
 import com.example.catalogservice.consumer.event.ProductCreatedEvent;
 import com.example.catalogservice.consumer.event.ProductUpdatedEvent;
+import com.example.catalogservice.domain.CategoryIndex;
+import com.example.catalogservice.domain.CategoryTreeNode;
 import com.example.catalogservice.domain.document.ProductDocument;
-import com.example.catalogservice.repository.ProductSearchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.IndexOperations;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
 import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -34,6 +47,9 @@ import static org.mockito.Mockito.*;
 @DisplayName("ProductSyncService 단위 테스트")
 class ProductSyncServiceTest {
 
+    @Mock
+    private ProductExportReader productExportReader;
+
     @Mock
     private ProductServiceClient productServiceClient;
 
@@ -44,11 +60,26 @@ class ProductSyncServiceTest {
     private ElasticsearchIndexService elasticsearchIndexService;
 
     @Mock
-    private ProductSearchRepository productSearchRepository;
+    private ProductBulkIndexer productBulkIndexer;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private CategorySyncService categorySyncService;
+
+    @Mock
+    private AutocompleteService autocompleteService;
 
     @Mock
     private IndexOperations indexOperations;
 
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
     private ProductSyncService productSyncService;
 
     @Captor
@@ -62,11 +93,24 @@ class ProductSyncServiceTest {
     @BeforeEach
     void setUp() {
         productSyncService = new ProductSyncService(
+                productExportReader,
                 productServiceClient,
                 elasticsearchOperations,
                 elasticsearchIndexService,
-                productSearchRepository
+                productBulkIndexer,
+                new ProductReindexMetrics(new SimpleMeterRegistry()),
+                catalogVersion,
+                categorySyncService,
+                autocompleteService,
+                redisTemplate
         );
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        givenSyncLock();
+
+        // 카테고리 트리: 가전(1) > TV(10), 생활(2) > 주방(20)
+        lenient().when(categorySyncService.getCategoryIndex()).thenReturn(CategoryIndex.of(1L, List.of(
+                categoryNode(1L, null, categoryNode(10L, 1L)),
+                categoryNode(2L, null, categoryNode(20L, 2L)))));
 
         // indexOps().refresh() 호출을 위한 mock 설정
         // lenient: 일부 테스트에서는 이 stubbing이 사용되지 않을 수 있음 (예: 인덱스 생성 실패 시)
@@ -74,19 +118,16 @@ class ProductSyncServiceTest {
     }
 
     @Test
-    @DisplayName("전체 동기화 - 단일 페이지 성공")
-    void fullSync_SinglePage_Success() throws IOException {
+    @DisplayName("전체 동기화 - 단일 배치 성공")
+    void fullSync_SingleBatch_Success() throws IOException {
         // Given
-        PageResponse<CatalogSyncProductResponse> firstPage = createPageResponse(
-                List.of(
-                        createMockProduct(1L, "Product 1"),
-                        createMockProduct(2L, "Product 2")
-                ),
-                0, 100, 2, 1, true, true
+        List<CatalogSyncProductResponse> firstBatch = List.of(
+                createMockProduct(1L, "Product 1"),
+                createMockProduct(2L, "Product 2")
         );
 
         when(elasticsearchIndexService.createNewIndex()).thenReturn(TEST_INDEX_NAME);
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(firstPage);
+        givenExportedBatches(firstBatch);
 
         // When
         int result = productSyncService.fullSync();
@@ -94,43 +135,33 @@ class ProductSyncServiceTest {
         // Then
         assertThat(result).isEqualTo(2);
         verify(elasticsearchIndexService).createNewIndex();
-        verify(productServiceClient, times(1)).getProductsForSync(0, 100);
+        verify(productExportReader, times(1)).read(eq(100), any());
         verify(elasticsearchOperations, times(1)).bulkIndex(anyList(), any(IndexCoordinates.class));
         verify(elasticsearchIndexService).switchAlias(TEST_INDEX_NAME);
         verify(elasticsearchIndexService).deleteOldIndices(TEST_INDEX_NAME);
+        verify(autocompleteService).requestRebuild();
     }
 
     @Test
-    @DisplayName("전체 동기화 - 다중 페이지 성공")
-    void fullSync_MultiplePages_Success() throws IOException {
+    @DisplayName("전체 동기화 - 다중 배치 성공")
+    void fullSync_MultipleBatches_Success() throws IOException {
         // Given
-        PageResponse<CatalogSyncProductResponse> page0 = createPageResponse(
-                List.of(
-                        createMockProduct(1L, "Product 1"),
-                        createMockProduct(2L, "Product 2")
-                ),
-                0, 2, 5, 3, true, false
+        List<CatalogSyncProductResponse> batch0 = List.of(
+                createMockProduct(1L, "Product 1"),
+                createMockProduct(2L, "Product 2")
         );
 
-        PageResponse<CatalogSyncProductResponse> page1 = createPageResponse(
-                List.of(
-                        createMockProduct(3L, "Product 3"),
-                        createMockProduct(4L, "Product 4")
-                ),
-                1, 2, 5, 3, false, false
+        List<CatalogSyncProductResponse> batch1 = List.of(
+                createMockProduct(3L, "Product 3"),
+                createMockProduct(4L, "Product 4")
         );
 
-        PageResponse<CatalogSyncProductResponse> page2 = createPageResponse(
-                List.of(
-                        createMockProduct(5L, "Product 5")
-                ),
-                2, 2, 5, 3, false, true
+        List<CatalogSyncProductResponse> batch2 = List.of(
+                createMockProduct(5L, "Product 5")
         );
 
         when(elasticsearchIndexService.createNewIndex()).thenReturn(TEST_INDEX_NAME);
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(page0);
-        when(productServiceClient.getProductsForSync(1, 100)).thenReturn(page1);
-        when(productServiceClient.getProductsForSync(2, 100)).thenReturn(page2);
+        givenExportedBatches(batch0, batch1, batch2);
 
         // When
         int result = productSyncService.fullSync();
@@ -138,20 +169,70 @@ class ProductSyncServiceTest {
         // Then
         assertThat(result).isEqualTo(5);
         verify(elasticsearchIndexService).createNewIndex();
-        verify(productServiceClient, times(1)).getProductsForSync(0, 100);
-        verify(productServiceClient, times(1)).getProductsForSync(1, 100);
-        verify(productServiceClient, times(1)).getProductsForSync(2, 100);
+        verify(productExportReader, times(1)).read(eq(100), any());
         verify(elasticsearchOperations, times(3)).bulkIndex(anyList(), any(IndexCoordinates.class));
         verify(elasticsearchIndexService).switchAlias(TEST_INDEX_NAME);
         verify(elasticsearchIndexService).deleteOldIndices(TEST_INDEX_NAME);
     }
 
     @Test
-    @DisplayName("전체 동기화 - 빈 응답 처리")
-    void fullSync_EmptyResponse() throws IOException {
+    @DisplayName("전체 동기화 - 색인 중 refresh/replica를 끄고 alias 전환 전에 복원")
+    void fullSync_DisablesRefreshDuringBulkAndRestoresBeforeAliasSwitch() throws IOException {
         // Given
+        List<CatalogSyncProductResponse> batch = List.of(createMockProduct(1L, "Product 1"));
+        ElasticsearchIndexService.BulkIndexSettings previous =
+                new ElasticsearchIndexService.BulkIndexSettings("1s", "1");
+
         when(elasticsearchIndexService.createNewIndex()).thenReturn(TEST_INDEX_NAME);
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(null);
+        when(elasticsearchIndexService.disableRefreshAndReplicas(TEST_INDEX_NAME)).thenReturn(previous);
+        givenExportedBatches(batch);
+
+        // When
+        productSyncService.fullSync();
+
+        // Then
+        InOrder inOrder = inOrder(elasticsearchIndexService, elasticsearchOperations);
+        inOrder.verify(elasticsearchIndexService).disableRefreshAndReplicas(TEST_INDEX_NAME);
+        inOrder.verify(elasticsearchOperations).bulkIndex(anyList(), any(IndexCoordinates.class));
+        inOrder.verify(elasticsearchIndexService).restoreRefreshAndReplicas(TEST_INDEX_NAME, previous);
+        inOrder.verify(elasticsearchIndexService).switchAlias(TEST_INDEX_NAME);
+    }
+
+    @Test
+    @DisplayName("전체 동기화 - bulk 색인 실패 시 스트림 읽기를 멈추고 새 인덱스 삭제")
+    void fullSync_BulkIndexFailed_StopsPipeline() throws IOException {
+        // Given
+        AtomicInteger deliveredBatches = new AtomicInteger();
+        when(elasticsearchIndexService.createNewIndex()).thenReturn(TEST_INDEX_NAME);
+        doAnswer(invocation -> {
+            Predicate<List<CatalogSyncProductResponse>> handler = invocation.getArgument(1);
+            for (int i = 0; i < 50; i++) {
+                if (!handler.test(createMultipleProducts(i * 10, 10))) {
+                    return null;
+                }
+                deliveredBatches.incrementAndGet();
+            }
+            return null;
+        }).when(productExportReader).read(eq(100), any());
+        when(elasticsearchOperations.bulkIndex(anyList(), any(IndexCoordinates.class)))
+                .thenThrow(new RuntimeException("bulk rejected"));
+
+        // When & Then
+        assertThatThrownBy(() -> productSyncService.fullSync())
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Full sync failed");
+
+        assertThat(deliveredBatches.get()).isLessThan(50);
+        verify(elasticsearchIndexService, never()).switchAlias(anyString());
+        verify(elasticsearchIndexService).deleteIndex(TEST_INDEX_NAME);
+    }
+
+    @Test
+    @DisplayName("전체 동기화 - 빈 스트림 처리")
+    void fullSync_EmptyStream() throws IOException {
+        // Given
+        when(elasticsearchIndexService.createNewIndex()).thenReturn(TEST_INDEX_NAME);
+        givenExportedBatches();
 
         // When
         int result = productSyncService.fullSync();
@@ -159,23 +240,18 @@ class ProductSyncServiceTest {
         // Then
         assertThat(result).isEqualTo(0);
         verify(elasticsearchIndexService).createNewIndex();
-        verify(productServiceClient, times(1)).getProductsForSync(0, 100);
+        verify(productExportReader, times(1)).read(eq(100), any());
         verify(elasticsearchOperations, never()).bulkIndex(anyList(), any(IndexCoordinates.class));
         verify(elasticsearchIndexService).switchAlias(TEST_INDEX_NAME);
         verify(elasticsearchIndexService).deleteOldIndices(TEST_INDEX_NAME);
     }
 
     @Test
-    @DisplayName("전체 동기화 - 빈 컨텐츠 처리")
-    void fullSync_EmptyContent() throws IOException {
+    @DisplayName("전체 동기화 - 빈 배치 처리")
+    void fullSync_EmptyBatch() throws IOException {
         // Given
-        PageResponse<CatalogSyncProductResponse> emptyPage = createPageResponse(
-                List.of(),
-                0, 100, 0, 0, true, true
-        );
-
         when(elasticsearchIndexService.createNewIndex()).thenReturn(TEST_INDEX_NAME);
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(emptyPage);
+        givenExportedBatches(List.of());
 
         // When
         int result = productSyncService.fullSync();
@@ -183,7 +259,7 @@ class ProductSyncServiceTest {
         // Then
         assertThat(result).isEqualTo(0);
         verify(elasticsearchIndexService).createNewIndex();
-        verify(productServiceClient, times(1)).getProductsForSync(0, 100);
+        verify(productExportReader, times(1)).read(eq(100), any());
         verify(elasticsearchOperations, never()).bulkIndex(anyList(), any(IndexCoordinates.class));
         verify(elasticsearchIndexService).switchAlias(TEST_INDEX_NAME);
         verify(elasticsearchIndexService).deleteOldIndices(TEST_INDEX_NAME);
@@ -211,13 +287,10 @@ class ProductSyncServiceTest {
         );
         ReflectionTestUtils.setField(product, "skus", skus);
 
-        PageResponse<CatalogSyncProductResponse> page = createPageResponse(
-                List.of(product),
-                0, 100, 1, 1, true, true
-        );
+        List<CatalogSyncProductResponse> batch = List.of(product);
 
         when(elasticsearchIndexService.createNewIndex()).thenReturn(TEST_INDEX_NAME);
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(page);
+        givenExportedBatches(batch);
 
         // When
         productSyncService.fullSync();
@@ -240,6 +313,8 @@ class ProductSyncServiceTest {
         assertThat(doc.getStatus()).isEqualTo("ACTIVE");
         assertThat(doc.getPrimaryImageUrl()).isEqualTo("https://test.com/image.jpg");
         assertThat(doc.getCategoryIds()).containsExactly(10L, 20L, 30L);
+        // 트리에 없는 카테고리(30)는 자기 자신만 포함
+        assertThat(doc.getCategoryPath()).containsExactly(1L, 10L, 2L, 20L, 30L);
         assertThat(doc.getCreatedAt()).isEqualTo(now);
         assertThat(doc.getUpdatedAt()).isEqualTo(now);
 
@@ -268,15 +343,12 @@ class ProductSyncServiceTest {
         // Given
         when(elasticsearchIndexService.createNewIndex()).thenReturn(TEST_INDEX_NAME);
 
-        // 10페이지, 각 100개씩 = 총 1000개
+        // 10배치, 각 100개씩 = 총 1000개
+        List<List<CatalogSyncProductResponse>> batches = new ArrayList<>();
         for (int i = 0; i < 10; i++) {
-            List<CatalogSyncProductResponse> products = createMultipleProducts(i * 100, 100);
-            PageResponse<CatalogSyncProductResponse> page = createPageResponse(
-                    products,
-                    i, 100, 1000, 10, i == 0, i == 9
-            );
-            when(productServiceClient.getProductsForSync(i, 100)).thenReturn(page);
+            batches.add(createMultipleProducts(i * 100, 100));
         }
+        givenExportedBatches(batches.toArray(List[]::new));
 
         // When
         int result = productSyncService.fullSync();
@@ -284,7 +356,7 @@ class ProductSyncServiceTest {
         // Then
         assertThat(result).isEqualTo(1000);
         verify(elasticsearchIndexService).createNewIndex();
-        verify(productServiceClient, times(10)).getProductsForSync(anyInt(), eq(100));
+        verify(productExportReader, times(1)).read(eq(100), any());
         verify(elasticsearchOperations, times(10)).bulkIndex(anyList(), any(IndexCoordinates.class));
         verify(elasticsearchIndexService).switchAlias(TEST_INDEX_NAME);
         verify(elasticsearchIndexService).deleteOldIndices(TEST_INDEX_NAME);
@@ -295,8 +367,8 @@ class ProductSyncServiceTest {
     void fullSync_Failure_RollbackNewIndex() throws IOException {
         // Given
         when(elasticsearchIndexService.createNewIndex()).thenReturn(TEST_INDEX_NAME);
-        when(productServiceClient.getProductsForSync(0, 100))
-                .thenThrow(new RuntimeException("Full sync failed"));
+        doThrow(new IOException("Full sync failed"))
+                .when(productExportReader).read(eq(100), any());
 
         // When & Then
         assertThatThrownBy(() -> productSyncService.fullSync())
@@ -322,20 +394,17 @@ class ProductSyncServiceTest {
                 .hasMessageContaining("Full sync failed");
 
         verify(elasticsearchIndexService).createNewIndex();
-        verify(productServiceClient, never()).getProductsForSync(anyInt(), anyInt());
+        verify(productExportReader, never()).read(anyInt(), any());
     }
 
     @Test
     @DisplayName("전체 동기화 - alias 전환 실패 시 새 인덱스 삭제")
     void fullSync_AliasSwitchFailed_RollbackNewIndex() throws IOException {
         // Given
-        PageResponse<CatalogSyncProductResponse> page = createPageResponse(
-                List.of(createMockProduct(1L, "Product 1")),
-                0, 100, 1, 1, true, true
-        );
+        List<CatalogSyncProductResponse> batch = List.of(createMockProduct(1L, "Product 1"));
 
         when(elasticsearchIndexService.createNewIndex()).thenReturn(TEST_INDEX_NAME);
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(page);
+        givenExportedBatches(batch);
         doThrow(new IOException("Failed to switch alias"))
                 .when(elasticsearchIndexService).switchAlias(TEST_INDEX_NAME);
 
@@ -351,28 +420,181 @@ class ProductSyncServiceTest {
         verify(elasticsearchIndexService).deleteIndex(TEST_INDEX_NAME);
     }
 
-    private PageResponse<CatalogSyncProductResponse> createPageResponse(
-            List<CatalogSyncProductResponse> content,
-            int page, int size, long totalElements, int totalPages,
-            boolean first, boolean last) {
+    @Test
+    @DisplayName("전체 동기화 - 완료 후 증분 동기화 워터마크를 시작 시각으로 이동")
+    void fullSync_ResetsDeltaWatermark() throws IOException {
+        // Given
+        LocalDateTime before = LocalDateTime.now();
+        when(elasticsearchIndexService.createNewIndex()).thenReturn(TEST_INDEX_NAME);
+        givenExportedBatches(List.of(createMockProduct(1L, "Product 1")));
 
-        try {
-            java.lang.reflect.Constructor<PageResponse> constructor =
-                    (java.lang.reflect.Constructor<PageResponse>) PageResponse.class.getDeclaredConstructor();
-            constructor.setAccessible(true);
-            PageResponse<CatalogSyncProductResponse> pageResponse = constructor.newInstance();
-
-            ReflectionTestUtils.setField(pageResponse, "content", content);
-            ReflectionTestUtils.setField(pageResponse, "page", page);
-            ReflectionTestUtils.setField(pageResponse, "size", size);
-            ReflectionTestUtils.setField(pageResponse, "totalElements", totalElements);
-            ReflectionTestUtils.setField(pageResponse, "totalPages", totalPages);
-            ReflectionTestUtils.setField(pageResponse, "first", first);
-            ReflectionTestUtils.setField(pageResponse, "last", last);
-            return pageResponse;
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to create PageResponse", e);
-        }
+        // When
+        productSyncService.fullSync();
+
+        // Then
+        ArgumentCaptor<Object> watermark = ArgumentCaptor.forClass(Object.class);
+        verify(valueOperations).set(eq(ProductSyncService.DELTA_WATERMARK_KEY), watermark.capture());
+        assertThat(LocalDateTime.parse((String) watermark.getValue())).isBetween(before, LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("전체 동기화 - 증분 동기화와 같은 락을 잡고, 끝나면 해제")
+    void fullSync_HoldsSyncLock() throws IOException {
+        // Given
+        when(elasticsearchIndexService.createNewIndex()).thenReturn(TEST_INDEX_NAME);
+        givenExportedBatches(List.of(createMockProduct(1L, "Product 1")));
+
+        // When
+        productSyncService.fullSync();
+
+        // Then
+        verify(valueOperations).setIfAbsent(eq(ProductSyncService.SYNC_LOCK_KEY), anyString(), any(Duration.class));
+        verify(redisTemplate).execute(eq(ProductSyncService.RELEASE_LOCK_SCRIPT), eq(List.of(ProductSyncService.SYNC_LOCK_KEY)), anyString());
+    }
+
+    @Test
+    @DisplayName("전체 동기화 - 다른 인스턴스가 동기화 중이면 새 인덱스를 만들지 않고 실패")
+    void fullSync_LockHeld_Fails() throws IOException {
+        // Given
+        when(valueOperations.setIfAbsent(eq(ProductSyncService.SYNC_LOCK_KEY), anyString(), any(Duration.class)))
+                .thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> productSyncService.fullSync()).isInstanceOf(IllegalStateException.class);
+        verify(elasticsearchIndexService, never()).createNewIndex();
+        verify(redisTemplate, never()).execute(eq(ProductSyncService.RELEASE_LOCK_SCRIPT), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("증분 동기화 - 워터마크 이후 변경을 페이지 단위로 upsert하고 툼스톤은 삭제")
+    @SuppressWarnings("unchecked")
+    void deltaSync_UpsertsChangesAndDeletesTombstones() {
+        // Given
+        LocalDateTime watermark = LocalDateTime.of(2024, 1, 1, 10, 0);
+        when(valueOperations.get(ProductSyncService.DELTA_WATERMARK_KEY)).thenReturn("2024-01-01T10:00:00");
+        when(productServiceClient.getProductChangesForSync("2024-01-01T09:59:00", null, ProductSyncService.DELTA_PAGE_SIZE))
+                .thenReturn(new CatalogSyncChangesResponse(
+                        List.of(createMockProduct(1L, "Product 1"), createMockProduct(2L, "Product 2")),
+                        List.of(), watermark.plusMinutes(5), 2L, true));
+        when(productServiceClient.getProductChangesForSync("2024-01-01T10:05:00", 2L, ProductSyncService.DELTA_PAGE_SIZE))
+                .thenReturn(new CatalogSyncChangesResponse(
+                        List.of(), List.of(3L), watermark.plusMinutes(7), 3L, false));
+        when(elasticsearchOperations.delete(any(DeleteQuery.class), eq(ProductDocument.class)))
+                .thenReturn(ByQueryResponse.builder().withDeleted(1).build());
+
+        // When
+        ProductSyncService.DeltaSyncResult result = productSyncService.deltaSync();
+
+        // Then
+        assertThat(result.skipped()).isFalse();
+        assertThat(result.upserted()).isEqualTo(2);
+        assertThat(result.deleted()).isEqualTo(1);
+        assertThat(result.watermark()).isEqualTo(watermark.plusMinutes(7));
+
+        ArgumentCaptor<List<ProductDocument>> documents = ArgumentCaptor.forClass(List.class);
+        verify(productBulkIndexer).upsertAll(documents.capture());
+        assertThat(documents.getValue()).extracting(ProductDocument::getProductId).containsExactly("1", "2");
+        verify(elasticsearchOperations).delete(any(DeleteQuery.class), eq(ProductDocument.class));
+        verify(autocompleteService).productChanged(1L, "Product 1");
+        verify(autocompleteService).productRemoved(3L);
+
+        // 페이지마다 워터마크 전진, 변경이 있었으므로 검색 캐시 무효화
+        InOrder inOrder = inOrder(valueOperations);
+        inOrder.verify(valueOperations).set(ProductSyncService.DELTA_WATERMARK_KEY, "2024-01-01T10:05:00");
+        inOrder.verify(valueOperations).set(ProductSyncService.DELTA_WATERMARK_KEY, "2024-01-01T10:07:00");
+        verify(catalogVersion).increment();
+        verify(redisTemplate).execute(eq(ProductSyncService.RELEASE_LOCK_SCRIPT), eq(List.of(ProductSyncService.SYNC_LOCK_KEY)), anyString());
+    }
+
+    @Test
+    @DisplayName("증분 동기화 - 겹쳐 읽은 구간만 있으면 워터마크를 되돌리지 않음")
+    void deltaSync_OverlapOnly_KeepsWatermark() {
+        // Given
+        when(valueOperations.get(ProductSyncService.DELTA_WATERMARK_KEY)).thenReturn("2024-01-01T10:00:00");
+        when(productServiceClient.getProductChangesForSync(anyString(), any(), anyInt()))
+                .thenReturn(new CatalogSyncChangesResponse(
+                        List.of(createMockProduct(1L, "Product 1")), List.of(),
+                        LocalDateTime.of(2024, 1, 1, 9, 59, 30), 1L, false));
+
+        // When
+        ProductSyncService.DeltaSyncResult result = productSyncService.deltaSync();
+
+        // Then
+        assertThat(result.watermark()).isEqualTo(LocalDateTime.of(2024, 1, 1, 10, 0));
+        verify(valueOperations, never()).set(eq(ProductSyncService.DELTA_WATERMARK_KEY), any());
+    }
+
+    @Test
+    @DisplayName("증분 동기화 - 워터마크가 없으면 현재 시각을 기준점으로 기록만 한다")
+    void deltaSync_NoWatermark_Initializes() {
+        // Given
+        when(valueOperations.get(ProductSyncService.DELTA_WATERMARK_KEY)).thenReturn(null);
+
+        // When
+        ProductSyncService.DeltaSyncResult result = productSyncService.deltaSync();
+
+        // Then
+        assertThat(result.upserted()).isZero();
+        assertThat(result.watermark()).isNotNull();
+        verify(valueOperations).set(eq(ProductSyncService.DELTA_WATERMARK_KEY), anyString());
+        verifyNoInteractions(productServiceClient, productBulkIndexer);
+    }
+
+    @Test
+    @DisplayName("증분 동기화 - 다른 인스턴스가 실행 중이면 건너뜀")
+    void deltaSync_LockHeld_Skipped() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(ProductSyncService.SYNC_LOCK_KEY), anyString(), any(Duration.class)))
+                .thenReturn(false);
+
+        // When
+        ProductSyncService.DeltaSyncResult result = productSyncService.deltaSync();
+
+        // Then
+        assertThat(result.skipped()).isTrue();
+        verifyNoInteractions(productServiceClient);
+        verify(redisTemplate, never()).execute(eq(ProductSyncService.RELEASE_LOCK_SCRIPT), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("증분 동기화 - 실패해도 락은 해제")
+    void deltaSync_Failure_ReleasesLock() {
+        // Given
+        when(valueOperations.get(ProductSyncService.DELTA_WATERMARK_KEY)).thenReturn("2024-01-01T10:00:00");
+        when(productServiceClient.getProductChangesForSync(anyString(), any(), anyInt()))
+                .thenThrow(new RuntimeException("product-service unavailable"));
+
+        // When & Then
+        assertThatThrownBy(() -> productSyncService.deltaSync()).isInstanceOf(RuntimeException.class);
+        verify(redisTemplate).execute(eq(ProductSyncService.RELEASE_LOCK_SCRIPT), eq(List.of(ProductSyncService.SYNC_LOCK_KEY)), anyString());
+        verify(catalogVersion, never()).increment();
+    }
+
+    /**
+     * 락 획득 성공 - 해제 스크립트는 저장한 값과 같을 때만 지운다
+     */
+    private void givenSyncLock() {
+        String[] owner = new String[1];
+        lenient().when(valueOperations.setIfAbsent(eq(ProductSyncService.SYNC_LOCK_KEY), anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> {
+                    owner[0] = invocation.getArgument(1);
+                    return true;
+                });
+        lenient().when(redisTemplate.execute(eq(ProductSyncService.RELEASE_LOCK_SCRIPT), anyList(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(2).equals(owner[0]) ? 1L : 0L);
+    }
+
+    @SafeVarargs
+    private void givenExportedBatches(List<CatalogSyncProductResponse>... batches) throws IOException {
+        doAnswer(invocation -> {
+            Predicate<List<CatalogSyncProductResponse>> handler = invocation.getArgument(1);
+            for (List<CatalogSyncProductResponse> batch : batches) {
+                if (!handler.test(batch)) {
+                    break;
+                }
+            }
+            return null;
+        }).when(productExportReader).read(eq(100), any());
     }
 
     private CatalogSyncProductResponse createMockProduct(Long id, String name) {
@@ -432,15 +654,11 @@ class ProductSyncServiceTest {
                 .createdAt(createdAt)
                 .build();
 
-        ArgumentCaptor<ProductDocument> documentCaptor = ArgumentCaptor.forClass(ProductDocument.class);
-
         // When
-        productSyncService.indexProduct(event);
+        productSyncService.indexProducts(List.of(event));
 
         // Then
-        verify(productSearchRepository).save(documentCaptor.capture());
-
-        ProductDocument savedDoc = documentCaptor.getValue();
+        ProductDocument savedDoc = upsertedDocument();
         assertThat(savedDoc.getProductId()).isEqualTo("100");
         assertThat(savedDoc.getProductName()).isEqualTo("New Product");
         assertThat(savedDoc.getDescription()).isEqualTo("New Product Description");
@@ -449,6 +667,7 @@ class ProductSyncServiceTest {
         assertThat(savedDoc.getStatus()).isEqualTo("ACTIVE");
         assertThat(savedDoc.getPrimaryImageUrl()).isEqualTo("https://example.com/new.jpg");
         assertThat(savedDoc.getCategoryIds()).containsExactly(10L, 20L);
+        assertThat(savedDoc.getCategoryPath()).containsExactly(1L, 10L, 2L, 20L);
         assertThat(savedDoc.getCreatedAt()).isEqualTo(createdAt);
         assertThat(savedDoc.getUpdatedAt()).isNull();
 
@@ -459,38 +678,51 @@ class ProductSyncServiceTest {
         assertThat(savedDoc.getSkus().get(0).getPrice()).isEqualTo(15000L);
         assertThat(savedDoc.getSkus().get(0).getStockQty()).isEqualTo(100);
         assertThat(savedDoc.getSkus().get(0).getStatus()).isEqualTo("ACTIVE");
+
+        verify(autocompleteService).productChanged(100L, "New Product");
+    }
+
+    @Test
+    @DisplayName("상품 이벤트 묶음 처리 - 색인에 실패한 상품은 돌려주고 자동완성에 반영하지 않는다")
+    void indexProducts_PartialFailure() {
+        // Given
+        RuntimeException failure = new IllegalStateException("Failed to index product: productId=2");
+        when(productBulkIndexer.upsertAll(anyList())).thenReturn(Map.of("2", failure));
+
+        // When
+        Map<Long, RuntimeException> failures = productSyncService.indexProducts(List.of(
+                ProductCreatedEvent.builder().productId(1L).productName("상품1").build(),
+                ProductCreatedEvent.builder().productId(2L).productName("상품2").build(),
+                ProductCreatedEvent.builder().productId(1L).productName("상품1 수정").build()));
+
+        // Then
+        assertThat(failures).containsExactly(Map.entry(2L, failure));
+        verify(autocompleteService).productChanged(1L, "상품1 수정");
+        verify(autocompleteService, never()).productChanged(eq(2L), any());
+        verify(catalogVersion).increment();
     }
 
     @Test
-    @DisplayName("상품 수정 이벤트 처리 - 기존 문서의 createdAt 보존")
+    @DisplayName("상품 이벤트 묶음 처리 - 모두 실패하면 카탈로그 버전을 올리지 않는다")
+    void updateProducts_AllFailed_KeepsVersion() {
+        // Given
+        when(productBulkIndexer.upsertAll(anyList())).thenReturn(Map.of("1", new IllegalStateException("down")));
+
+        // When
+        Map<Long, RuntimeException> failures = productSyncService.updateProducts(List.of(
+                ProductUpdatedEvent.builder().productId(1L).productName("상품1").build()));
+
+        // Then
+        assertThat(failures).containsOnlyKeys(1L);
+        verifyNoInteractions(catalogVersion, autocompleteService);
+    }
+
+    @Test
+    @DisplayName("상품 수정 이벤트 처리 - 기존 문서 조회 없이 부분 upsert로 createdAt 보존")
     void updateProduct_PreservesCreatedAt() {
         // Given
-        LocalDateTime originalCreatedAt = LocalDateTime.of(2024, 1, 1, 10, 0);
         LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 15, 14, 30);
 
-        // 기존 ES 문서
-        ProductDocument existingDocument = ProductDocument.builder()
-                .productId("100")
-                .productName("Old Product Name")
-                .description("Old Description")
-                .basePrice(10000L)
-                .salePrice(8000L)
-                .status("ACTIVE")
-                .primaryImageUrl("https://example.com/old.jpg")
-                .categoryIds(List.of(1L, 2L))
-                .skus(List.of(
-                        ProductDocument.SkuInfo.builder()
-                                .skuId(1L)
-                                .skuCode("SKU-OLD")
-                                .price(8000L)
-                                .stockQty(50)
-                                .status("ACTIVE")
-                                .build()
-                ))
-                .createdAt(originalCreatedAt)
-                .updatedAt(LocalDateTime.of(2024, 1, 10, 9, 0))
-                .build();
-
         // 업데이트 이벤트 (createdAt 포함하지 않음)
         ProductUpdatedEvent event = ProductUpdatedEvent.builder()
                 .productId(100L)
@@ -522,19 +754,11 @@ class ProductSyncServiceTest {
                 .updatedAt(updatedAt)
                 .build();
 
-        when(productSearchRepository.findById("100"))
-                .thenReturn(java.util.Optional.of(existingDocument));
-
-        ArgumentCaptor<ProductDocument> documentCaptor = ArgumentCaptor.forClass(ProductDocument.class);
-
         // When
-        productSyncService.updateProduct(event);
+        productSyncService.updateProducts(List.of(event));
 
         // Then
-        verify(productSearchRepository).findById("100");
-        verify(productSearchRepository).save(documentCaptor.capture());
-
-        ProductDocument savedDoc = documentCaptor.getValue();
+        ProductDocument savedDoc = upsertedDocument();
         assertThat(savedDoc.getProductId()).isEqualTo("100");
         assertThat(savedDoc.getProductName()).isEqualTo("Updated Product Name");
         assertThat(savedDoc.getDescription()).isEqualTo("Updated Description");
@@ -544,10 +768,11 @@ class ProductSyncServiceTest {
         assertThat(savedDoc.getPrimaryImageUrl()).isEqualTo("https://example.com/updated.jpg");
         assertThat(savedDoc.getCategoryIds()).containsExactly(10L, 20L, 30L);
 
-        // 핵심 검증: createdAt이 기존 문서의 값으로 보존되어야 함
+        // 핵심 검증: createdAt을 비워 보내 부분 upsert에서 기존 문서 값이 유지되어야 함
         assertThat(savedDoc.getCreatedAt())
-                .as("createdAt should be preserved from existing document")
-                .isEqualTo(originalCreatedAt);
+                .as("createdAt should be left to the existing document")
+                .isNull();
+        verifyNoInteractions(elasticsearchOperations);
 
         assertThat(savedDoc.getUpdatedAt()).isEqualTo(updatedAt);
 
@@ -565,7 +790,7 @@ class ProductSyncServiceTest {
     }
 
     @Test
-    @DisplayName("상품 수정 이벤트 처리 - 기존 문서가 없을 때 createdAt null")
+    @DisplayName("상품 수정 이벤트 처리 - 기존 문서가 없어도 조회 없이 upsert")
     void updateProduct_NoExistingDocument_CreatedAtIsNull() {
         // Given
         LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 15, 14, 30);
@@ -584,25 +809,17 @@ class ProductSyncServiceTest {
                 .updatedAt(updatedAt)
                 .build();
 
-        when(productSearchRepository.findById("999"))
-                .thenReturn(java.util.Optional.empty());
-
-        ArgumentCaptor<ProductDocument> documentCaptor = ArgumentCaptor.forClass(ProductDocument.class);
-
         // When
-        productSyncService.updateProduct(event);
+        productSyncService.updateProducts(List.of(event));
 
         // Then
-        verify(productSearchRepository).findById("999");
-        verify(productSearchRepository).save(documentCaptor.capture());
-
-        ProductDocument savedDoc = documentCaptor.getValue();
+        ProductDocument savedDoc = upsertedDocument();
         assertThat(savedDoc.getProductId()).isEqualTo("999");
         assertThat(savedDoc.getProductName()).isEqualTo("New Product via Update Event");
 
-        // 기존 문서가 없으므로 createdAt은 null이어야 함
+        // 수정 이벤트에는 createdAt이 없으므로 null로 보낸다
         assertThat(savedDoc.getCreatedAt())
-                .as("createdAt should be null when no existing document found")
+                .as("createdAt should be null for update events")
                 .isNull();
 
         assertThat(savedDoc.getUpdatedAt()).isEqualTo(updatedAt);
@@ -612,15 +829,8 @@ class ProductSyncServiceTest {
     @DisplayName("상품 수정 이벤트 처리 - BigDecimal null 값 처리")
     void updateProduct_WithNullPrices() {
         // Given
-        LocalDateTime originalCreatedAt = LocalDateTime.of(2024, 1, 1, 10, 0);
         LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 15, 14, 30);
 
-        ProductDocument existingDocument = ProductDocument.builder()
-                .productId("100")
-                .productName("Product")
-                .createdAt(originalCreatedAt)
-                .build();
-
         ProductUpdatedEvent event = ProductUpdatedEvent.builder()
                 .productId(100L)
                 .productName("Updated Product")
@@ -629,21 +839,14 @@ class ProductSyncServiceTest {
                 .updatedAt(updatedAt)
                 .build();
 
-        when(productSearchRepository.findById("100"))
-                .thenReturn(java.util.Optional.of(existingDocument));
-
-        ArgumentCaptor<ProductDocument> documentCaptor = ArgumentCaptor.forClass(ProductDocument.class);
-
         // When
-        productSyncService.updateProduct(event);
+        productSyncService.updateProducts(List.of(event));
 
         // Then
-        verify(productSearchRepository).save(documentCaptor.capture());
-
-        ProductDocument savedDoc = documentCaptor.getValue();
+        ProductDocument savedDoc = upsertedDocument();
         assertThat(savedDoc.getBasePrice()).isNull();
         assertThat(savedDoc.getSalePrice()).isNull();
-        assertThat(savedDoc.getCreatedAt()).isEqualTo(originalCreatedAt);
+        assertThat(savedDoc.getCreatedAt()).isNull();
     }
 
     @Test
@@ -653,13 +856,10 @@ class ProductSyncServiceTest {
         CatalogSyncProductResponse product = createMockProduct(100L, "Product without SKUs");
         ReflectionTestUtils.setField(product, "skus", null);
 
-        PageResponse<CatalogSyncProductResponse> page = createPageResponse(
-                List.of(product),
-                0, 100, 1, 1, true, true
-        );
+        List<CatalogSyncProductResponse> batch = List.of(product);
 
         when(elasticsearchIndexService.createNewIndex()).thenReturn(TEST_INDEX_NAME);
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(page);
+        givenExportedBatches(batch);
 
         // When
         productSyncService.fullSync();
@@ -680,13 +880,10 @@ class ProductSyncServiceTest {
         CatalogSyncProductResponse product = createMockProduct(100L, "Product with empty SKUs");
         ReflectionTestUtils.setField(product, "skus", List.of());
 
-        PageResponse<CatalogSyncProductResponse> page = createPageResponse(
-                List.of(product),
-                0, 100, 1, 1, true, true
-        );
+        List<CatalogSyncProductResponse> batch = List.of(product);
 
         when(elasticsearchIndexService.createNewIndex()).thenReturn(TEST_INDEX_NAME);
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(page);
+        givenExportedBatches(batch);
 
         // When
         productSyncService.fullSync();
@@ -711,14 +908,11 @@ class ProductSyncServiceTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        ArgumentCaptor<ProductDocument> documentCaptor = ArgumentCaptor.forClass(ProductDocument.class);
-
         // When
-        productSyncService.indexProduct(event);
+        productSyncService.indexProducts(List.of(event));
 
         // Then
-        verify(productSearchRepository).save(documentCaptor.capture());
-        ProductDocument savedDoc = documentCaptor.getValue();
+        ProductDocument savedDoc = upsertedDocument();
 
         assertThat(savedDoc.getSkus()).isEmpty();
     }
@@ -727,11 +921,6 @@ class ProductSyncServiceTest {
     @DisplayName("상품 수정 이벤트 - SKU가 null인 경우 빈 리스트 처리")
     void updateProduct_WithNullSkus_EmptyList() {
         // Given
-        ProductDocument existingDocument = ProductDocument.builder()
-                .productId("100")
-                .productName("Product")
-                .createdAt(LocalDateTime.now())
-                .build();
 
         ProductUpdatedEvent event = ProductUpdatedEvent.builder()
                 .productId(100L)
@@ -740,17 +929,11 @@ class ProductSyncServiceTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        when(productSearchRepository.findById("100"))
-                .thenReturn(java.util.Optional.of(existingDocument));
-
-        ArgumentCaptor<ProductDocument> documentCaptor = ArgumentCaptor.forClass(ProductDocument.class);
-
         // When
-        productSyncService.updateProduct(event);
+        productSyncService.updateProducts(List.of(event));
 
         // Then
-        verify(productSearchRepository).save(documentCaptor.capture());
-        ProductDocument savedDoc = documentCaptor.getValue();
+        ProductDocument savedDoc = upsertedDocument();
 
         assertThat(savedDoc.getSkus()).isEmpty();
     }
@@ -765,13 +948,10 @@ class ProductSyncServiceTest {
         );
         ReflectionTestUtils.setField(product, "skus", skus);
 
-        PageResponse<CatalogSyncProductResponse> page = createPageResponse(
-                List.of(product),
-                0, 100, 1, 1, true, true
-        );
+        List<CatalogSyncProductResponse> batch = List.of(product);
 
         when(elasticsearchIndexService.createNewIndex()).thenReturn(TEST_INDEX_NAME);
-        when(productServiceClient.getProductsForSync(0, 100)).thenReturn(page);
+        givenExportedBatches(batch);
 
         // When
         productSyncService.fullSync();
@@ -785,4 +965,19 @@ class ProductSyncServiceTest {
         assertThat(doc.getSkus()).hasSize(1);
         assertThat(doc.getSkus().get(0).getPrice()).isNull();
     }
+
+    private CategoryTreeNode categoryNode(Long categoryId, Long parentId, CategoryTreeNode... children) {
+        return CategoryTreeNode.builder()
+                .categoryId(categoryId)
+                .parentId(parentId)
+                .children(children.length > 0 ? List.of(children) : null)
+                .build();
+    }
+
+    private ProductDocument upsertedDocument() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ProductDocument>> documents = ArgumentCaptor.forClass(List.class);
+        verify(productBulkIndexer).upsertAll(documents.capture());
+        return documents.getValue().get(0);
+    }
 }
@@ -0,0 +1,97 @@
+package com.example.catalogservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductViewTracker 단위 테스트")
+class ProductViewTrackerTest {
+
+    private static final String TODAY_KEY = ProductViewTracker.KEY_PREFIX + "20261018";
+    private static final String YESTERDAY_KEY = ProductViewTracker.KEY_PREFIX + "20261017";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, Object> zSetOperations;
+
+    private ProductViewTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2026-10-18T03:00:00Z"), ZoneId.of("Asia/Seoul"));
+        tracker = new ProductViewTracker(redisTemplate, clock);
+    }
+
+    @Test
+    @DisplayName("모아 둔 조회수를 상품별로 합쳐 오늘 키에 파이프라인으로 더한다")
+    void flush_AddsMergedCountsToTodayKey() {
+        // Given
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(redisTemplate.executePipelined(any(SessionCallback.class))).willAnswer(invocation -> {
+            invocation.<SessionCallback<?>>getArgument(0).execute(redisTemplate);
+            return List.of();
+        });
+        tracker.record(1L);
+        tracker.record(1L);
+        tracker.record(2L);
+
+        // When
+        tracker.flush();
+
+        // Then
+        then(zSetOperations).should().incrementScore(TODAY_KEY, 1L, 2);
+        then(zSetOperations).should().incrementScore(TODAY_KEY, 2L, 1);
+        then(redisTemplate).should().expire(TODAY_KEY, Duration.ofDays(2));
+
+        // 한 번 반영한 조회수는 다시 더하지 않는다
+        tracker.flush();
+        then(redisTemplate).should().executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("조회가 없으면 Redis를 호출하지 않는다")
+    void flush_NoViews_SkipsRedis() {
+        // When
+        tracker.flush();
+
+        // Then
+        then(redisTemplate).should(never()).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("오늘 조회수 순으로, 부족하면 어제 조회수로 채우고 중복은 제외")
+    void topViewed_FillsFromYesterday() {
+        // Given
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.reverseRange(TODAY_KEY, 0, 2)).willReturn(new LinkedHashSet<>(List.of(3L, 1L)));
+        given(zSetOperations.reverseRange(YESTERDAY_KEY, 0, 2)).willReturn(new LinkedHashSet<>(List.of(1L, 5L, 7L)));
+
+        // When
+        List<Long> result = tracker.topViewed(3);
+
+        // Then
+        assertThat(result).containsExactly(3L, 1L, 5L);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.catalogservice.service;
+
+import com.example.catalogservice.domain.SlidingTopK;
+import com.example.catalogservice.service.SearchQueryRecorder.TrendingKeyword;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchQueryRecorder 단위 테스트")
+class SearchQueryRecorderTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    @Mock
+    private AutocompleteService autocompleteService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong now;
+    private SearchQueryRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        now = new AtomicLong(1_000 * HOUR);
+        recorder = new SearchQueryRecorder(autocompleteService, meterRegistry, 1.0, now::get);
+    }
+
+    @Test
+    @DisplayName("검색어를 정규화해 결과 있음/없음으로 나눠 센다 - 집계 스레드가 비우기 전에는 반영되지 않는다")
+    void drain_AggregatesTrendingAndZeroResult() {
+        // Given
+        recorder.record("노트북", true);
+        recorder.record("  노트북 ", true);
+        recorder.record("Galaxy  S24", true);
+        recorder.record("갤럭시 s99", false);
+        recorder.record(" ", true);
+        recorder.record("가".repeat(SearchQueryRecorder.MAX_QUERY_LENGTH + 1), true);
+        assertThat(recorder.getTrendingKeywords(10)).isEmpty();
+
+        // When
+        recorder.drain();
+
+        // Then
+        assertThat(recorder.getTrendingKeywords(10)).containsExactly(
+                new TrendingKeyword("노트북", 2), new TrendingKeyword("galaxy s24", 1));
+        assertThat(recorder.getZeroResultKeywords(10)).containsExactly(new TrendingKeyword("갤럭시 s99", 1));
+        assertThat(meterRegistry.get("catalog.search.queries").tag("result", "sampled").counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 검색어를 버리고, 1시간이 지난 검색어는 순위에서 빠진다")
+    void record_QueueFull_DropsAndWindowExpires() {
+        // Given
+        for (int i = 0; i <= SearchQueryRecorder.QUEUE_CAPACITY; i++) {
+            recorder.record("노트북", true);
+        }
+
+        // When
+        recorder.drain();
+
+        // Then
+        assertThat(meterRegistry.get("catalog.search.queries").tag("result", "dropped").counter().count()).isEqualTo(1);
+        assertThat(recorder.getTrendingKeywords(10))
+                .containsExactly(new TrendingKeyword("노트북", SearchQueryRecorder.QUEUE_CAPACITY));
+
+        now.addAndGet(HOUR);
+        assertThat(recorder.getTrendingKeywords(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 횟수가 기준 이상인 인기 검색어만 횟수의 로그로 자동완성 가중치를 보정한다")
+    void refreshBoosts_PushesLogWeights() {
+        // Given
+        for (int i = 0; i < 1000; i++) {
+            recorder.record("맥북", true);
+        }
+        for (int i = 0; i < SearchQueryRecorder.MIN_BOOST_COUNT - 1; i++) {
+            recorder.record("아이패드", true);
+        }
+        recorder.record("없는상품", false);
+        recorder.drain();
+
+        // When
+        recorder.refreshBoosts();
+
+        // Then
+        then(autocompleteService).should().updateQueryBoosts(Map.of("맥북", 10L));
+    }
+
+    @Test
+    @DisplayName("보정 기준은 표본 횟수로 보고, 보정값은 표본 비율로 환산한 횟수로 계산한다")
+    void boosts_ThresholdOnSampledCount() {
+        // Given - 표본 비율 0.1: 아이패드는 환산하면 90번이지만 표본은 기준 미만이다
+        List<SlidingTopK.Entry<String>> sampled = List.of(
+                new SlidingTopK.Entry<>("맥북", 600),
+                new SlidingTopK.Entry<>("아이패드", SearchQueryRecorder.MIN_BOOST_COUNT - 1));
+
+        // When
+        Map<String, Long> boosts = SearchQueryRecorder.boosts(sampled, 0.1);
+
+        // Then
+        assertThat(boosts).containsExactlyEntriesOf(Map.of("맥북", SearchQueryRecorder.boostWeight(6000)));
+    }
+
+    @Test
+    @DisplayName("표본 비율은 0 초과 1 이하")
+    void constructor_InvalidSampleRate() {
+        assertThatThrownBy(() -> new SearchQueryRecorder(autocompleteService, meterRegistry, 0, now::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
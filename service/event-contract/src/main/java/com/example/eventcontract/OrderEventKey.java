@@ -0,0 +1,27 @@
+package com.example.eventcontract;
+
+/**
+ * 주문 라이프사이클 이벤트의 Kafka 파티션 키 정책
+ *
+ * 주문/결제/배송/반품/교환 이벤트는 발행 서비스와 관계없이 모두 주문 ID 기반 키(Order-{orderId})로 발행한다.
+ * Kafka는 같은 토픽 안에서만 키 단위 순서를 보장하므로, 보장 범위는 "한 토픽 안에서 같은 주문의 이벤트 순서"까지다.
+ * 토픽이 다른 이벤트(예: payment.confirmed와 shipping.started) 사이의 순서는 보장되지 않으며,
+ * 컨슈머는 주문 상태 전이 규칙으로 순서 역전을 처리해야 한다.
+ *
+ * order/payment/shipping 서비스가 이 클래스를 함께 사용하여 키 형식이 서비스마다 달라지지 않게 한다.
+ */
+public final class OrderEventKey {
+
+	public static final String PREFIX = "Order-";
+
+	private OrderEventKey() {
+		throw new AssertionError("Utility class should not be instantiated");
+	}
+
+	public static String of(Long orderId) {
+		if (orderId == null) {
+			throw new IllegalArgumentException("주문 ID가 없는 이벤트는 주문 키를 만들 수 없습니다.");
+		}
+		return PREFIX + orderId;
+	}
+}
@@ -0,0 +1,23 @@
+package com.example.eventcontract;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderEventKeyTest {
+
+	@Test
+	@DisplayName("주문 키 형식 - Order-{orderId}")
+	void of() {
+		assertThat(OrderEventKey.of(123L)).isEqualTo("Order-123");
+	}
+
+	@Test
+	@DisplayName("주문 ID가 없으면 키를 만들 수 없다")
+	void of_nullOrderId() {
+		assertThatThrownBy(() -> OrderEventKey.of(null))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
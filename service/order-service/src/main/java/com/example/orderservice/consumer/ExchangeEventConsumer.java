@@ -9,11 +9,14 @@ import com.example.orderservice.client.dto.ExchangeItemDto;
 import com.example.orderservice.domain.entity.Order;
 import com.example.orderservice.domain.entity.OrderStatus;
 import com.example.orderservice.domain.entity.Outbox;
+import com.example.orderservice.domain.entity.TrackingKind;
 import com.example.orderservice.domain.event.InventoryDecreaseEvent;
 import com.example.orderservice.domain.event.InventoryIncreaseEvent;
 import com.example.orderservice.global.common.EventTypeConstants;
 import com.example.orderservice.repository.OrderRepository;
 import com.example.orderservice.repository.OutboxRepository;
+import com.example.orderservice.service.OrderStateMachine;
+import com.example.orderservice.service.OrderSummaryService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -27,7 +30,6 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -53,8 +55,10 @@ import java.util.List;
 public class ExchangeEventConsumer {
 
     private final OrderRepository orderRepository;
+    private final OrderStateMachine orderStateMachine;
     private final OutboxRepository outboxRepository;
     private final ObjectMapper objectMapper;
+    private final OrderSummaryService orderSummaryService;
 
     /**
      * exchange.approved 이벤트 소비
@@ -75,8 +79,7 @@ public class ExchangeEventConsumer {
             retryTopicSuffix = "-order-retry",
             dltTopicSuffix = "-order-dlt"
     )
-    @KafkaListener(topics = "exchange.approved", groupId = "${spring.kafka.consumer.group-id:order-service}")
-    @Transactional
+    @KafkaListener(topics = "exchange.approved", groupId = "${spring.kafka.consumer.group-id:order-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeExchangeApprovedEvent(
             @Payload ExchangeApprovedEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -86,46 +89,39 @@ public class ExchangeEventConsumer {
                 event.getExchangeId(), event.getOrderId(), event.getCollectCourier(), event.getCollectTrackingNumber(), topic, offset);
 
         try {
-            Order order = orderRepository.findByIdWithOrderItems(event.getOrderId())
-                    .orElse(null);
-
-            if (order == null) {
-                log.warn("Order not found for exchange approval: orderId={}", event.getOrderId());
-                return;
-            }
-
             // 멱등성 보장: EXCHANGE_REQUESTED 상태에서만 EXCHANGE_APPROVED로 변경
-            if (order.getOrderStatus() != OrderStatus.EXCHANGE_REQUESTED) {
-                log.info("주문 상태가 EXCHANGE_REQUESTED가 아님 - 건너뜀: orderId={}, currentStatus={}",
-                        event.getOrderId(), order.getOrderStatus());
+            OrderStateMachine.Result result = orderStateMachine.transition(event.getOrderId(),
+                    () -> orderRepository.findByIdWithOrderItems(event.getOrderId()),
+                    OrderStatus.EXCHANGE_APPROVED,
+                    order -> {
+                        orderSummaryService.projectWithTracking(order, TrackingKind.EXCHANGE_COLLECT,
+                                event.getCollectCourier(), event.getCollectTrackingNumber());
+
+                        // 신규 옵션(newOptionId != originalOptionId)에 대한 재고 차감 이벤트 발행
+                        List<ExchangeItemDto> exchangeItems = event.getExchangeItems();
+                        if (exchangeItems != null && !exchangeItems.isEmpty()) {
+                            List<InventoryDecreaseEvent.DecreaseItem> decreaseItems = exchangeItems.stream()
+                                    .filter(item -> !item.getNewOptionId().equals(item.getOriginalOptionId()))
+                                    .map(item -> InventoryDecreaseEvent.DecreaseItem.builder()
+                                            .skuId(item.getNewOptionId())
+                                            .quantity(item.getQuantity())
+                                            .build())
+                                    .toList();
+
+                            if (!decreaseItems.isEmpty()) {
+                                saveInventoryDecreaseOutbox(order, event.getExchangeId(), decreaseItems);
+                                log.info("inventory.decrease Outbox 저장 완료: orderId={}, exchangeId={}, 차감 항목 수={}",
+                                        event.getOrderId(), event.getExchangeId(), decreaseItems.size());
+                            } else {
+                                log.info("신규 옵션 없음 - inventory.decrease 이벤트 발행 생략: orderId={}, exchangeId={}",
+                                        event.getOrderId(), event.getExchangeId());
+                            }
+                        }
+                    });
+            if (result != OrderStateMachine.Result.APPLIED) {
                 return;
             }
 
-            // 주문 상태 → EXCHANGE_APPROVED 변경
-            order.updateStatus(OrderStatus.EXCHANGE_APPROVED);
-            orderRepository.save(order);
-
-            // 신규 옵션(newOptionId != originalOptionId)에 대한 재고 차감 이벤트 발행
-            List<ExchangeItemDto> exchangeItems = event.getExchangeItems();
-            if (exchangeItems != null && !exchangeItems.isEmpty()) {
-                List<InventoryDecreaseEvent.DecreaseItem> decreaseItems = exchangeItems.stream()
-                        .filter(item -> !item.getNewOptionId().equals(item.getOriginalOptionId()))
-                        .map(item -> InventoryDecreaseEvent.DecreaseItem.builder()
-                                .skuId(item.getNewOptionId())
-                                .quantity(item.getQuantity())
-                                .build())
-                        .toList();
-
-                if (!decreaseItems.isEmpty()) {
-                    saveInventoryDecreaseOutbox(order, event.getExchangeId(), decreaseItems);
-                    log.info("inventory.decrease Outbox 저장 완료: orderId={}, exchangeId={}, 차감 항목 수={}",
-                            event.getOrderId(), event.getExchangeId(), decreaseItems.size());
-                } else {
-                    log.info("신규 옵션 없음 - inventory.decrease 이벤트 발행 생략: orderId={}, exchangeId={}",
-                            event.getOrderId(), event.getExchangeId());
-                }
-            }
-
             log.info("교환 승인 처리 성공: orderId={}, exchangeId={}, collectCourier={}, collectTrackingNumber={}",
                     event.getOrderId(), event.getExchangeId(), event.getCollectCourier(), event.getCollectTrackingNumber());
 
@@ -158,8 +154,7 @@ public class ExchangeEventConsumer {
             retryTopicSuffix = "-order-retry",
             dltTopicSuffix = "-order-dlt"
     )
-    @KafkaListener(topics = "exchange.collecting", groupId = "${spring.kafka.consumer.group-id:order-service}")
-    @Transactional
+    @KafkaListener(topics = "exchange.collecting", groupId = "${spring.kafka.consumer.group-id:order-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeExchangeCollectingEvent(
             @Payload ExchangeCollectingEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -169,25 +164,16 @@ public class ExchangeEventConsumer {
                 event.getExchangeId(), event.getOrderId(), event.getCourier(), event.getTrackingNumber(), topic, offset);
 
         try {
-            Order order = orderRepository.findById(event.getOrderId())
-                    .orElse(null);
-
-            if (order == null) {
-                log.warn("Order not found for exchange collecting: orderId={}", event.getOrderId());
-                return;
-            }
-
             // 멱등성 보장: EXCHANGE_APPROVED 상태에서만 EXCHANGE_COLLECTING으로 변경
-            if (order.getOrderStatus() != OrderStatus.EXCHANGE_APPROVED) {
-                log.info("주문 상태가 EXCHANGE_APPROVED가 아님 - 건너뜀: orderId={}, currentStatus={}",
-                        event.getOrderId(), order.getOrderStatus());
+            OrderStateMachine.Result result = orderStateMachine.transition(event.getOrderId(),
+                    () -> orderRepository.findById(event.getOrderId()),
+                    OrderStatus.EXCHANGE_COLLECTING,
+                    order -> orderSummaryService.projectWithTracking(order, TrackingKind.EXCHANGE_COLLECT,
+                            event.getCourier(), event.getTrackingNumber()));
+            if (result != OrderStateMachine.Result.APPLIED) {
                 return;
             }
 
-            // 주문 상태 → EXCHANGE_COLLECTING 변경
-            order.updateStatus(OrderStatus.EXCHANGE_COLLECTING);
-            orderRepository.save(order);
-
             log.info("교환 물품 회수 중 처리 성공: orderId={}, exchangeId={}, courier={}, trackingNumber={}",
                     event.getOrderId(), event.getExchangeId(), event.getCourier(), event.getTrackingNumber());
 
@@ -219,8 +205,7 @@ public class ExchangeEventConsumer {
             retryTopicSuffix = "-order-retry",
             dltTopicSuffix = "-order-dlt"
     )
-    @KafkaListener(topics = "exchange.shipping", groupId = "${spring.kafka.consumer.group-id:order-service}")
-    @Transactional
+    @KafkaListener(topics = "exchange.shipping", groupId = "${spring.kafka.consumer.group-id:order-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeExchangeShippingEvent(
             @Payload ExchangeShippingEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -230,25 +215,16 @@ public class ExchangeEventConsumer {
                 event.getExchangeId(), event.getOrderId(), event.getCourier(), event.getTrackingNumber(), topic, offset);
 
         try {
-            Order order = orderRepository.findById(event.getOrderId())
-                    .orElse(null);
-
-            if (order == null) {
-                log.warn("Order not found for exchange shipping: orderId={}", event.getOrderId());
-                return;
-            }
-
             // 멱등성 보장: EXCHANGE_RETURN_COMPLETED 상태에서만 EXCHANGE_SHIPPING으로 변경
-            if (order.getOrderStatus() != OrderStatus.EXCHANGE_RETURN_COMPLETED) {
-                log.info("주문 상태가 EXCHANGE_RETURN_COMPLETED가 아님 - 건너뜀: orderId={}, currentStatus={}",
-                        event.getOrderId(), order.getOrderStatus());
+            OrderStateMachine.Result result = orderStateMachine.transition(event.getOrderId(),
+                    () -> orderRepository.findById(event.getOrderId()),
+                    OrderStatus.EXCHANGE_SHIPPING,
+                    order -> orderSummaryService.projectWithTracking(order, TrackingKind.EXCHANGE_DELIVERY,
+                            event.getCourier(), event.getTrackingNumber()));
+            if (result != OrderStateMachine.Result.APPLIED) {
                 return;
             }
 
-            // 주문 상태 → EXCHANGE_SHIPPING 변경
-            order.updateStatus(OrderStatus.EXCHANGE_SHIPPING);
-            orderRepository.save(order);
-
             log.info("교환 새 물품 배송 중 처리 성공: orderId={}, exchangeId={}, courier={}, trackingNumber={}",
                     event.getOrderId(), event.getExchangeId(), event.getCourier(), event.getTrackingNumber());
 
@@ -281,8 +257,7 @@ public class ExchangeEventConsumer {
             retryTopicSuffix = "-order-retry",
             dltTopicSuffix = "-order-dlt"
     )
-    @KafkaListener(topics = "exchange.return-completed", groupId = "${spring.kafka.consumer.group-id:order-service}")
-    @Transactional
+    @KafkaListener(topics = "exchange.return-completed", groupId = "${spring.kafka.consumer.group-id:order-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeExchangeReturnCompletedEvent(
             @Payload ExchangeReturnCompletedEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -292,44 +267,37 @@ public class ExchangeEventConsumer {
                 event.getExchangeId(), event.getOrderId(), event.getCourier(), event.getTrackingNumber(), topic, offset);
 
         try {
-            Order order = orderRepository.findById(event.getOrderId())
-                    .orElse(null);
-
-            if (order == null) {
-                log.warn("Order not found for exchange return completed: orderId={}", event.getOrderId());
-                return;
-            }
-
             // 멱등성 보장: EXCHANGE_COLLECTING 상태에서만 EXCHANGE_RETURN_COMPLETED로 변경
-            if (order.getOrderStatus() != OrderStatus.EXCHANGE_COLLECTING) {
-                log.info("주문 상태가 EXCHANGE_COLLECTING가 아님 - 건너뜀: orderId={}, currentStatus={}",
-                        event.getOrderId(), order.getOrderStatus());
+            OrderStateMachine.Result result = orderStateMachine.transition(event.getOrderId(),
+                    () -> orderRepository.findById(event.getOrderId()),
+                    OrderStatus.EXCHANGE_RETURN_COMPLETED,
+                    order -> {
+                        orderSummaryService.projectWithTracking(order, TrackingKind.EXCHANGE_COLLECT,
+                                event.getCourier(), event.getTrackingNumber());
+
+                        // 원래 옵션(originalOptionId)에 대한 재고 증가 이벤트 발행
+                        // 신규 옵션과 다른 경우에만 발행 (승인 시 차감이 일어난 경우에만 복구)
+                        List<ExchangeItemDto> exchangeItems = event.getExchangeItems();
+                        if (exchangeItems != null && !exchangeItems.isEmpty()) {
+                            List<InventoryIncreaseEvent.IncreaseItem> increaseItems = exchangeItems.stream()
+                                    .filter(item -> !item.getNewOptionId().equals(item.getOriginalOptionId()))
+                                    .map(item -> InventoryIncreaseEvent.IncreaseItem.builder()
+                                            .skuId(item.getOriginalOptionId())
+                                            .quantity(item.getQuantity())
+                                            .build())
+                                    .toList();
+
+                            if (!increaseItems.isEmpty()) {
+                                saveInventoryIncreaseOutbox(order, event.getExchangeId(), increaseItems);
+                                log.info("inventory.increase Outbox 저장 완료: orderId={}, exchangeId={}, 증가 항목 수={}",
+                                        event.getOrderId(), event.getExchangeId(), increaseItems.size());
+                            }
+                        }
+                    });
+            if (result != OrderStateMachine.Result.APPLIED) {
                 return;
             }
 
-            // 주문 상태 → EXCHANGE_RETURN_COMPLETED 변경
-            order.updateStatus(OrderStatus.EXCHANGE_RETURN_COMPLETED);
-            orderRepository.save(order);
-
-            // 원래 옵션(originalOptionId)에 대한 재고 증가 이벤트 발행
-            // 신규 옵션과 다른 경우에만 발행 (승인 시 차감이 일어난 경우에만 복구)
-            List<ExchangeItemDto> exchangeItems = event.getExchangeItems();
-            if (exchangeItems != null && !exchangeItems.isEmpty()) {
-                List<InventoryIncreaseEvent.IncreaseItem> increaseItems = exchangeItems.stream()
-                        .filter(item -> !item.getNewOptionId().equals(item.getOriginalOptionId()))
-                        .map(item -> InventoryIncreaseEvent.IncreaseItem.builder()
-                                .skuId(item.getOriginalOptionId())
-                                .quantity(item.getQuantity())
-                                .build())
-                        .toList();
-
-                if (!increaseItems.isEmpty()) {
-                    saveInventoryIncreaseOutbox(order, event.getExchangeId(), increaseItems);
-                    log.info("inventory.increase Outbox 저장 완료: orderId={}, exchangeId={}, 증가 항목 수={}",
-                            event.getOrderId(), event.getExchangeId(), increaseItems.size());
-                }
-            }
-
             log.info("교환 물품 회수 완료 처리 성공: orderId={}, exchangeId={}, courier={}, trackingNumber={}",
                     event.getOrderId(), event.getExchangeId(), event.getCourier(), event.getTrackingNumber());
 
@@ -361,8 +329,7 @@ public class ExchangeEventConsumer {
             retryTopicSuffix = "-order-retry",
             dltTopicSuffix = "-order-dlt"
     )
-    @KafkaListener(topics = "exchange.completed", groupId = "${spring.kafka.consumer.group-id:order-service}")
-    @Transactional
+    @KafkaListener(topics = "exchange.completed", groupId = "${spring.kafka.consumer.group-id:order-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeExchangeCompletedEvent(
             @Payload ExchangeCompletedEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -372,26 +339,15 @@ public class ExchangeEventConsumer {
                 event.getExchangeId(), event.getOrderId(), topic, offset);
 
         try {
-            Order order = orderRepository.findById(event.getOrderId())
-                    .orElse(null);
-
-            if (order == null) {
-                log.warn("Order not found for exchange completion: orderId={}", event.getOrderId());
-                return;
-            }
-
             // 멱등성 보장: 이미 EXCHANGED 또는 CANCELED 상태이면 skip
-            if (order.getOrderStatus() == OrderStatus.EXCHANGED
-                    || order.getOrderStatus() == OrderStatus.CANCELED) {
-                log.info("주문이 이미 {} 상태 - 건너뜀: orderId={}",
-                        order.getOrderStatus(), event.getOrderId());
+            OrderStateMachine.Result result = orderStateMachine.transition(event.getOrderId(),
+                    () -> orderRepository.findById(event.getOrderId()),
+                    OrderStatus.EXCHANGED,
+                    orderSummaryService::project);
+            if (result != OrderStateMachine.Result.APPLIED) {
                 return;
             }
 
-            // 주문 상태 → EXCHANGED 변경
-            order.updateStatus(OrderStatus.EXCHANGED);
-            orderRepository.save(order);
-
             log.info("교환 최종 완료 처리 성공: orderId={}, exchangeId={}", event.getOrderId(), event.getExchangeId());
 
             // TODO: 필요시 사용자 알림 발송 로직 추가
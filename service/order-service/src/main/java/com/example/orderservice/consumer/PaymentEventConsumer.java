@@ -13,6 +13,9 @@ import com.example.orderservice.domain.event.CouponRestoredEvent;
 import com.example.orderservice.global.common.EventTypeConstants;
 import com.example.orderservice.repository.OrderRepository;
 import com.example.orderservice.repository.OutboxRepository;
+import com.example.orderservice.service.OrderCancellationService;
+import com.example.orderservice.service.OrderStateMachine;
+import com.example.orderservice.service.OrderSummaryService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.springwolf.bindings.kafka.annotations.KafkaAsyncOperationBinding;
@@ -30,7 +33,6 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -47,6 +49,9 @@ import java.time.format.DateTimeFormatter;
  * 멱등성:
  * - 주문 상태 기반 중복 체크로 이미 결제 완료된 주문에 대해
  *   멱등성을 보장함
+ *
+ * 보상:
+ * - 이미 취소된 주문에 결제 확인이 도착하면 주문을 되살리지 않고 결제 취소를 요청함
  */
 @Slf4j
 @Component
@@ -54,8 +59,11 @@ import java.time.format.DateTimeFormatter;
 public class PaymentEventConsumer {
 
 	private final OrderRepository orderRepository;
+	private final OrderStateMachine orderStateMachine;
 	private final OutboxRepository outboxRepository;
 	private final ObjectMapper objectMapper;
+	private final OrderSummaryService orderSummaryService;
+	private final OrderCancellationService orderCancellationService;
 
 	@AsyncListener(
 			operation = @AsyncOperation(
@@ -81,8 +89,7 @@ public class PaymentEventConsumer {
 			retryTopicSuffix = "-order-retry",
 			dltTopicSuffix = "-order-dlt"
 	)
-	@KafkaListener(topics = "payment.confirmed", groupId = "${spring.kafka.consumer.group-id:order-service}")
-	@Transactional
+	@KafkaListener(topics = "payment.confirmed", groupId = "${spring.kafka.consumer.group-id:order-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
 	public void consumePaymentConfirmedEvent(
 			@Payload PaymentConfirmedEvent event,
 			@Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -92,35 +99,34 @@ public class PaymentEventConsumer {
 				event.getOrderNumber(), event.getPaymentKey(), topic, offset);
 
 		try {
-			Order order = orderRepository.findByOrderNumber(event.getOrderNumber())
-					.orElse(null);
-
-			if (order == null) {
-				log.warn("Order not found for payment confirmation: orderNumber={}", event.getOrderNumber());
-				return;
-			}
+			// 이미 결제 완료된 주문이면 건너뜀 (멱등성 보장)
+			OrderStateMachine.Result result = orderStateMachine.transition(event.getOrderNumber(),
+					() -> orderRepository.findByOrderNumber(event.getOrderNumber()),
+					OrderStatus.PAID,
+					order -> {
+						// OrderPayment 생성
+						LocalDateTime paidAt = parsePaidAt(event.getPaidAt());
+						OrderPayment orderPayment = OrderPayment.builder()
+								.paymentMethod(parsePaymentMethod(event.getPaymentMethod()))
+								.paymentAmount(BigDecimal.valueOf(event.getPaymentAmount()))
+								.paymentStatus(PaymentStatus.PAID)
+								.paymentKey(event.getPaymentKey())
+								.paidAt(paidAt)
+								.build();
+						order.addOrderPayment(orderPayment);
 
-			// 이미 결제 완료된 주문인지 확인 (멱등성 보장)
-			if (order.getOrderStatus() == OrderStatus.PAID) {
-				log.info("Order already paid, skipping: orderNumber={}", event.getOrderNumber());
+						orderSummaryService.project(order);
+					},
+					order -> {
+						// 만료/사용자 취소 이후 도착한 결제는 환불한다
+						if (order.getOrderStatus() == OrderStatus.CANCELED) {
+							orderCancellationService.requestLatePaymentRefund(order, event.getPaymentKey());
+						}
+					});
+			if (result != OrderStateMachine.Result.APPLIED) {
 				return;
 			}
 
-			// 주문 상태를 PAID로 변경
-			order.updateStatus(OrderStatus.PAID);
-
-			// OrderPayment 생성
-			LocalDateTime paidAt = parsePaidAt(event.getPaidAt());
-			OrderPayment orderPayment = OrderPayment.builder()
-					.paymentMethod(parsePaymentMethod(event.getPaymentMethod()))
-					.paymentAmount(BigDecimal.valueOf(event.getPaymentAmount()))
-					.paymentStatus(PaymentStatus.PAID)
-					.paymentKey(event.getPaymentKey())
-					.paidAt(paidAt)
-					.build();
-			order.addOrderPayment(orderPayment);
-
-			orderRepository.save(order);
 			log.info("Successfully updated order to PAID: orderNumber={}, paymentKey={}",
 					event.getOrderNumber(), event.getPaymentKey());
 		} catch (Exception e) {
@@ -183,44 +189,35 @@ public class PaymentEventConsumer {
 			retryTopicSuffix = "-order-retry",
 			dltTopicSuffix = "-order-dlt"
 	)
-	@KafkaListener(topics = "payment.cancelled", groupId = "${spring.kafka.consumer.group-id:order-service}")
-	@Transactional
+	@KafkaListener(topics = "payment.cancelled", groupId = "${spring.kafka.consumer.group-id:order-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
 	public void consumePaymentCancelledEvent(
 			@Payload PaymentCancelledEvent event,
 			@Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
 			@Header(value = KafkaHeaders.OFFSET, required = false) Long offset
 	) {
-		log.info("Received payment.cancelled event: orderId={}, cancelReason={}, topic={}, offset={}",
-				event.getOrderId(), event.getCancelReason(), topic, offset);
+		log.info("Received payment.cancelled event: orderNumber={}, cancelReason={}, topic={}, offset={}",
+				event.getOrderNumber(), event.getCancelReason(), topic, offset);
 
 		try {
-			Order order = orderRepository.findByOrderNumber(event.getOrderId())
-					.orElse(null);
+			// 이미 실패 처리된 주문이면 건너뜀 (멱등성 보장)
+			OrderStateMachine.Result result = orderStateMachine.transition(event.getOrderNumber(),
+					() -> orderRepository.findByOrderNumber(event.getOrderNumber()),
+					OrderStatus.FAILED,
+					order -> {
+						orderSummaryService.project(order);
 
-			if (order == null) {
-				log.warn("Order not found for payment cancellation: orderNumber={}", event.getOrderId());
+						// 쿠폰 복원 이벤트 발행
+						saveCouponRestoredOutboxes(order);
+					});
+			if (result != OrderStateMachine.Result.APPLIED) {
 				return;
 			}
 
-			// 이미 실패 처리된 주문인지 확인 (멱등성 보장)
-			if (order.getOrderStatus() == OrderStatus.FAILED) {
-				log.info("Order already failed, skipping: orderNumber={}", event.getOrderId());
-				return;
-			}
-
-			// 주문 상태를 FAILED로 변경
-			order.updateStatus(OrderStatus.FAILED);
-
-			orderRepository.save(order);
-
-			// 쿠폰 복원 이벤트 발행
-			saveCouponRestoredOutboxes(order);
-
 			log.info("Successfully updated order to FAILED: orderNumber={}, cancelReason={}",
-					event.getOrderId(), event.getCancelReason());
+					event.getOrderNumber(), event.getCancelReason());
 		} catch (Exception e) {
 			log.error("Failed to process payment.cancelled event: orderNumber={}, cancelReason={}",
-					event.getOrderId(), event.getCancelReason(), e);
+					event.getOrderNumber(), event.getCancelReason(), e);
 			throw e;
 		}
 	}
@@ -282,7 +279,7 @@ public class PaymentEventConsumer {
 					event.getOrderNumber(), event.getPaymentKey());
 		} else if (payload instanceof PaymentCancelledEvent event) {
 			log.error("DLQ 처리 필요 - payment.cancelled 실패: orderNumber={}, cancelReason={}",
-					event.getOrderId(), event.getCancelReason());
+					event.getOrderNumber(), event.getCancelReason());
 		} else {
 			log.error("DLQ 알 수 없는 payload 타입: {}", payload.getClass().getName());
 		}
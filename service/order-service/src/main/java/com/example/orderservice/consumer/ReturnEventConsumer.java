@@ -6,10 +6,13 @@ import com.example.orderservice.consumer.event.ReturnInTransitEvent;
 import com.example.orderservice.domain.entity.Order;
 import com.example.orderservice.domain.entity.OrderStatus;
 import com.example.orderservice.domain.entity.Outbox;
+import com.example.orderservice.domain.entity.TrackingKind;
 import com.example.orderservice.domain.event.OrderCancelledEvent;
 import com.example.orderservice.global.common.EventTypeConstants;
 import com.example.orderservice.repository.OrderRepository;
 import com.example.orderservice.repository.OutboxRepository;
+import com.example.orderservice.service.OrderStateMachine;
+import com.example.orderservice.service.OrderSummaryService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +26,6 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
@@ -48,6 +50,8 @@ import java.time.LocalDateTime;
 public class ReturnEventConsumer {
 
     private final OrderRepository orderRepository;
+    private final OrderStateMachine orderStateMachine;
+    private final OrderSummaryService orderSummaryService;
     private final OutboxRepository outboxRepository;
     private final ObjectMapper objectMapper;
 
@@ -69,8 +73,7 @@ public class ReturnEventConsumer {
             retryTopicSuffix = "-order-retry",
             dltTopicSuffix = "-order-dlt"
     )
-    @KafkaListener(topics = "return.approved", groupId = "${spring.kafka.consumer.group-id:order-service}")
-    @Transactional
+    @KafkaListener(topics = "return.approved", groupId = "${spring.kafka.consumer.group-id:order-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeReturnApprovedEvent(
             @Payload ReturnApprovedEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -80,25 +83,15 @@ public class ReturnEventConsumer {
                 event.getReturnId(), event.getOrderId(), event.getCourier(), event.getTrackingNumber(), topic, offset);
 
         try {
-            Order order = orderRepository.findById(event.getOrderId())
-                    .orElse(null);
-
-            if (order == null) {
-                log.warn("Order not found for return approval: orderId={}", event.getOrderId());
-                return;
-            }
-
             // 멱등성 보장: RETURN_REQUESTED 상태에서만 RETURN_APPROVED로 변경
-            if (order.getOrderStatus() != OrderStatus.RETURN_REQUESTED) {
-                log.info("주문 상태가 RETURN_REQUESTED가 아님 - 건너뜀: orderId={}, currentStatus={}",
-                        event.getOrderId(), order.getOrderStatus());
+            OrderStateMachine.Result result = orderStateMachine.transition(event.getOrderId(),
+                    () -> orderRepository.findById(event.getOrderId()),
+                    OrderStatus.RETURN_APPROVED,
+                    order -> orderSummaryService.projectWithTracking(order, TrackingKind.RETURN, event.getCourier(), event.getTrackingNumber()));
+            if (result != OrderStateMachine.Result.APPLIED) {
                 return;
             }
 
-            // 주문 상태 → RETURN_APPROVED 변경
-            order.updateStatus(OrderStatus.RETURN_APPROVED);
-            orderRepository.save(order);
-
             log.info("반품 승인 처리 성공: orderId={}, returnId={}, courier={}, trackingNumber={}",
                     event.getOrderId(), event.getReturnId(), event.getCourier(), event.getTrackingNumber());
 
@@ -131,8 +124,7 @@ public class ReturnEventConsumer {
             retryTopicSuffix = "-order-retry",
             dltTopicSuffix = "-order-dlt"
     )
-    @KafkaListener(topics = "return.in-transit", groupId = "${spring.kafka.consumer.group-id:order-service}")
-    @Transactional
+    @KafkaListener(topics = "return.in-transit", groupId = "${spring.kafka.consumer.group-id:order-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeReturnInTransitEvent(
             @Payload ReturnInTransitEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -142,25 +134,15 @@ public class ReturnEventConsumer {
                 event.getReturnId(), event.getOrderId(), event.getCourier(), event.getTrackingNumber(), topic, offset);
 
         try {
-            Order order = orderRepository.findById(event.getOrderId())
-                    .orElse(null);
-
-            if (order == null) {
-                log.warn("Order not found for return in-transit: orderId={}", event.getOrderId());
-                return;
-            }
-
             // 멱등성 보장: RETURN_APPROVED 상태에서만 RETURN_IN_TRANSIT으로 변경
-            if (order.getOrderStatus() != OrderStatus.RETURN_APPROVED) {
-                log.info("주문 상태가 RETURN_APPROVED가 아님 - 건너뜀: orderId={}, currentStatus={}",
-                        event.getOrderId(), order.getOrderStatus());
+            OrderStateMachine.Result result = orderStateMachine.transition(event.getOrderId(),
+                    () -> orderRepository.findById(event.getOrderId()),
+                    OrderStatus.RETURN_IN_TRANSIT,
+                    order -> orderSummaryService.projectWithTracking(order, TrackingKind.RETURN, event.getCourier(), event.getTrackingNumber()));
+            if (result != OrderStateMachine.Result.APPLIED) {
                 return;
             }
 
-            // 주문 상태 → RETURN_IN_TRANSIT 변경
-            order.updateStatus(OrderStatus.RETURN_IN_TRANSIT);
-            orderRepository.save(order);
-
             log.info("반품 수거 중 처리 성공: orderId={}, returnId={}, courier={}, trackingNumber={}",
                     event.getOrderId(), event.getReturnId(), event.getCourier(), event.getTrackingNumber());
 
@@ -194,8 +176,7 @@ public class ReturnEventConsumer {
             retryTopicSuffix = "-order-retry",
             dltTopicSuffix = "-order-dlt"
     )
-    @KafkaListener(topics = "return.completed", groupId = "${spring.kafka.consumer.group-id:order-service}")
-    @Transactional
+    @KafkaListener(topics = "return.completed", groupId = "${spring.kafka.consumer.group-id:order-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeReturnCompletedEvent(
             @Payload ReturnCompletedEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -205,29 +186,20 @@ public class ReturnEventConsumer {
                 event.getReturnId(), event.getOrderId(), topic, offset);
 
         try {
-            Order order = orderRepository.findByIdWithOrderItems(event.getOrderId())
-                    .orElse(null);
-
-            if (order == null) {
-                log.warn("Order not found for return completion: orderId={}", event.getOrderId());
-                return;
-            }
-
             // 멱등성 보장: 이미 RETURNED 또는 CANCELED 상태이면 skip
-            if (order.getOrderStatus() == OrderStatus.RETURNED
-                    || order.getOrderStatus() == OrderStatus.CANCELED) {
-                log.info("주문이 이미 {}  상태 - 건너뜀: orderId={}",
-                        order.getOrderStatus(), event.getOrderId());
+            OrderStateMachine.Result result = orderStateMachine.transition(event.getOrderId(),
+                    () -> orderRepository.findByIdWithOrderItems(event.getOrderId()),
+                    OrderStatus.RETURNED,
+                    order -> {
+                        orderSummaryService.project(order);
+
+                        // order.cancelled Outbox 저장 (환불 + 재고 복구 트리거)
+                        saveOrderCancelledOutbox(order, "RETURN_COMPLETED");
+                    });
+            if (result != OrderStateMachine.Result.APPLIED) {
                 return;
             }
 
-            // 주문 상태 → RETURNED 변경
-            order.updateStatus(OrderStatus.RETURNED);
-            orderRepository.save(order);
-
-            // order.cancelled Outbox 저장 (환불 + 재고 복구 트리거)
-            saveOrderCancelledOutbox(order, "RETURN_COMPLETED");
-
             log.info("반품 완료 처리 성공: orderId={}, returnId={}", event.getOrderId(), event.getReturnId());
         } catch (Exception e) {
             log.error("Failed to process return.completed event: returnId={}, orderId={}",
@@ -259,6 +231,7 @@ public class ReturnEventConsumer {
                                 .totalPrice(item.getTotalPrice())
                                 .build())
                         .toList())
+                .orderedAt(order.getOrderedAt())
                 .cancelledAt(LocalDateTime.now())
                 .build();
 
@@ -2,9 +2,11 @@ package com.example.orderservice.consumer;
 
 import com.example.orderservice.consumer.event.ShippingDeliveredEvent;
 import com.example.orderservice.consumer.event.ShippingStartedEvent;
-import com.example.orderservice.domain.entity.Order;
 import com.example.orderservice.domain.entity.OrderStatus;
+import com.example.orderservice.domain.entity.TrackingKind;
 import com.example.orderservice.repository.OrderRepository;
+import com.example.orderservice.service.OrderStateMachine;
+import com.example.orderservice.service.OrderSummaryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.DltHandler;
@@ -16,7 +18,6 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 배송 이벤트 컨슈머
@@ -40,6 +41,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class ShippingEventConsumer {
 
     private final OrderRepository orderRepository;
+    private final OrderStateMachine orderStateMachine;
+    private final OrderSummaryService orderSummaryService;
 
     /**
      * 배송 출발 이벤트 처리
@@ -60,8 +63,7 @@ public class ShippingEventConsumer {
             retryTopicSuffix = "-order-retry",
             dltTopicSuffix = "-order-dlt"
     )
-    @KafkaListener(topics = "shipping.started", groupId = "${spring.kafka.consumer.group-id:order-service}")
-    @Transactional
+    @KafkaListener(topics = "shipping.started", groupId = "${spring.kafka.consumer.group-id:order-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeShippingStartedEvent(
             @Payload ShippingStartedEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -71,25 +73,15 @@ public class ShippingEventConsumer {
                 event.getShippingId(), event.getOrderId(), event.getTrackingNumber(), topic, offset);
 
         try {
-            Order order = orderRepository.findById(event.getOrderId())
-                    .orElse(null);
-
-            if (order == null) {
-                log.warn("Order not found for shipping started: orderId={}", event.getOrderId());
-                return;
-            }
-
             // 멱등성 보장: PAID 상태에서만 SHIPPING으로 변경
-            if (order.getOrderStatus() != OrderStatus.PAID) {
-                log.info("주문 상태가 PAID가 아님 - 건너뜀: orderId={}, currentStatus={}",
-                        event.getOrderId(), order.getOrderStatus());
+            OrderStateMachine.Result result = orderStateMachine.transition(event.getOrderId(),
+                    () -> orderRepository.findById(event.getOrderId()),
+                    OrderStatus.SHIPPING,
+                    order -> orderSummaryService.projectWithTracking(order, TrackingKind.DELIVERY, null, event.getTrackingNumber()));
+            if (result != OrderStateMachine.Result.APPLIED) {
                 return;
             }
 
-            // 주문 상태 → SHIPPING 변경
-            order.updateStatus(OrderStatus.SHIPPING);
-            orderRepository.save(order);
-
             log.info("배송 출발 처리 성공: orderId={}, shippingId={}, trackingNumber={}",
                     event.getOrderId(), event.getShippingId(), event.getTrackingNumber());
         } catch (Exception e) {
@@ -118,8 +110,7 @@ public class ShippingEventConsumer {
             retryTopicSuffix = "-order-retry",
             dltTopicSuffix = "-order-dlt"
     )
-    @KafkaListener(topics = "shipping.delivered", groupId = "${spring.kafka.consumer.group-id:order-service}")
-    @Transactional
+    @KafkaListener(topics = "shipping.delivered", groupId = "${spring.kafka.consumer.group-id:order-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeShippingDeliveredEvent(
             @Payload ShippingDeliveredEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -129,26 +120,15 @@ public class ShippingEventConsumer {
                 event.getShippingId(), event.getOrderId(), event.getTrackingNumber(), topic, offset);
 
         try {
-            Order order = orderRepository.findById(event.getOrderId())
-                    .orElse(null);
-
-            if (order == null) {
-                log.warn("Order not found for shipping delivered: orderId={}", event.getOrderId());
-                return;
-            }
-
             // 멱등성 보장: 이미 DELIVERED 또는 CANCELED 상태이면 skip
-            if (order.getOrderStatus() == OrderStatus.DELIVERED
-                    || order.getOrderStatus() == OrderStatus.CANCELED) {
-                log.info("주문이 이미 {} 상태 - 건너뜀: orderId={}",
-                        order.getOrderStatus(), event.getOrderId());
+            OrderStateMachine.Result result = orderStateMachine.transition(event.getOrderId(),
+                    () -> orderRepository.findById(event.getOrderId()),
+                    OrderStatus.DELIVERED,
+                    orderSummaryService::project);
+            if (result != OrderStateMachine.Result.APPLIED) {
                 return;
             }
 
-            // 주문 상태 → DELIVERED 변경
-            order.updateStatus(OrderStatus.DELIVERED);
-            orderRepository.save(order);
-
             log.info("배송 완료 처리 성공: orderId={}, shippingId={}, trackingNumber={}",
                     event.getOrderId(), event.getShippingId(), event.getTrackingNumber());
         } catch (Exception e) {
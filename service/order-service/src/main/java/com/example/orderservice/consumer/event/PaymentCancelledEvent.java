@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class PaymentCancelledEvent {
 
-	private String orderId;
+	private Long orderId;
+	private String orderNumber;
 	private Long amount;
 	private String customerId;
 	private String cancelReason;
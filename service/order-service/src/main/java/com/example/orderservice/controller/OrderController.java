@@ -8,13 +8,16 @@ import com.example.orderservice.dto.response.CancelOrderResponse;
 import com.example.orderservice.dto.response.ExchangeOrderResponse;
 import com.example.orderservice.dto.response.MyOrderResponse;
 import com.example.orderservice.dto.response.OrderResponse;
+import com.example.orderservice.dto.response.OrderSummaryResponse;
 import com.example.orderservice.dto.response.ReturnOrderResponse;
+import com.example.orderservice.global.common.dto.CursorResponse;
 import com.example.orderservice.global.common.dto.PageResponse;
 import com.example.orderservice.global.exception.ErrorResponse;
 import com.example.orderservice.service.OrderCancellationService;
 import com.example.orderservice.service.OrderExchangeService;
 import com.example.orderservice.service.OrderReturnService;
 import com.example.orderservice.service.OrderService;
+import com.example.orderservice.service.OrderSummaryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -41,6 +44,7 @@ public class OrderController {
     private final OrderCancellationService orderCancellationService;
     private final OrderReturnService orderReturnService;
     private final OrderExchangeService orderExchangeService;
+    private final OrderSummaryService orderSummaryService;
 
     @Operation(
             summary = "주문 생성",
@@ -122,6 +126,64 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @Operation(
+            summary = "내 주문 목록 커서 조회",
+            description = "사용자의 주문 목록을 주문 일시 역순으로 커서(키셋) 기반 조회합니다. "
+                    + "첫 페이지는 cursor 없이 호출하고, 이후에는 응답의 nextCursor 를 전달합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "조회 성공",
+                            content = @Content(schema = @Schema(implementation = CursorResponse.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "유효하지 않은 커서",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    )
+            }
+    )
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<MyOrderResponse>> getMyOrdersByCursor(
+            @Parameter(description = "사용자 ID", required = true)
+            @RequestHeader("X-User-Id") Long userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        CursorResponse<MyOrderResponse> orders = orderService.getMyOrdersByCursor(userId, cursor, size);
+        return ResponseEntity.ok(orders);
+    }
+
+    @Operation(
+            summary = "주문 내역 요약 목록 조회",
+            description = "주문 요약 조회 모델(order_summary)에서 주문 상태, 상품 수, 대표 상품명, 최신 운송장 정보를 "
+                    + "주문 일시 역순으로 커서(키셋) 기반 조회합니다. 첫 페이지는 cursor 없이 호출합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "조회 성공",
+                            content = @Content(schema = @Schema(implementation = CursorResponse.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "유효하지 않은 커서",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    )
+            }
+    )
+    @GetMapping("/summaries")
+    public ResponseEntity<CursorResponse<OrderSummaryResponse>> getMyOrderSummaries(
+            @Parameter(description = "사용자 ID", required = true)
+            @RequestHeader("X-User-Id") Long userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        CursorResponse<OrderSummaryResponse> summaries = orderSummaryService.getMyOrderSummaries(userId, cursor, size);
+        return ResponseEntity.ok(summaries);
+    }
+
     @Operation(
             summary = "주문 취소",
             description = "CREATED 또는 PAID 상태의 주문을 취소합니다. 이미 배송 중인 주문은 취소할 수 없습니다.",
@@ -12,7 +12,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_user_ordered_at", columnList = "user_id, ordered_at"),
+        @Index(name = "idx_orders_status", columnList = "order_status")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order {
@@ -50,6 +53,14 @@ public class Order {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * 낙관적 락 버전
+     * 여러 컨슈머가 같은 주문의 상태를 동시에 변경할 때 마지막 쓰기가 앞선 변경을 덮어쓰지 않도록 한다.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> orderItems = new ArrayList<>();
 
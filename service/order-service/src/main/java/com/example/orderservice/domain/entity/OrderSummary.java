@@ -0,0 +1,95 @@
+package com.example.orderservice.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 요약 조회 모델 (비정규화 프로젝션)
+ *
+ * 주문 목록 화면에 필요한 값(상태, 상품 수, 대표 상품명, 최신 운송장)을 주문당 한 행으로 미리 만들어 두어
+ * 조인이나 shipping-service 호출 없이 (user_id, ordered_at) 인덱스 범위 조회만으로 목록을 구성한다.
+ * 주문 상태 변경 및 배송/반품/교환 이벤트 소비 시 {@code OrderSummaryService} 가 갱신한다.
+ */
+@Entity
+@Table(name = "order_summary", indexes = {
+        @Index(name = "idx_order_summary_user_ordered_at", columnList = "user_id, ordered_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderSummary {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "order_number", nullable = false, length = 50)
+    private String orderNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_status", nullable = false, length = 30)
+    private OrderStatus orderStatus;
+
+    @Column(name = "total_payment_amount", nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalPaymentAmount;
+
+    @Column(name = "item_count", nullable = false)
+    private Integer itemCount;
+
+    @Column(name = "representative_product_name", length = 200)
+    private String representativeProductName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tracking_kind", nullable = false, length = 30)
+    private TrackingKind trackingKind;
+
+    @Column(name = "courier", length = 50)
+    private String courier;
+
+    @Column(name = "tracking_number", length = 50)
+    private String trackingNumber;
+
+    @Column(name = "ordered_at", nullable = false, updatable = false)
+    private LocalDateTime orderedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static OrderSummary from(Order order) {
+        OrderSummary summary = new OrderSummary();
+        summary.orderId = order.getId();
+        summary.userId = order.getUserId();
+        summary.orderNumber = order.getOrderNumber();
+        summary.orderedAt = order.getOrderedAt();
+        summary.trackingKind = TrackingKind.NONE;
+        summary.refresh(order);
+        return summary;
+    }
+
+    public void refresh(Order order) {
+        this.orderStatus = order.getOrderStatus();
+        this.totalPaymentAmount = order.getTotalPaymentAmount();
+        this.itemCount = order.getOrderItems().size();
+        this.representativeProductName = order.getOrderItems().isEmpty()
+                ? null : order.getOrderItems().get(0).getProductName();
+    }
+
+    public void updateTracking(TrackingKind trackingKind, String courier, String trackingNumber) {
+        this.trackingKind = trackingKind;
+        this.courier = courier;
+        this.trackingNumber = trackingNumber;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.orderservice.domain.entity;
+
+/**
+ * 주문 요약에 노출되는 최신 운송장 종류
+ */
+public enum TrackingKind {
+    NONE,               // 운송장 없음
+    DELIVERY,           // 일반 배송
+    RETURN,             // 반품 회수
+    EXCHANGE_COLLECT,   // 교환 기존 물품 회수
+    EXCHANGE_DELIVERY   // 교환 새 물품 배송
+}
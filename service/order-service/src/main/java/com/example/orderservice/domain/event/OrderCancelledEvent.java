@@ -22,6 +22,9 @@ public class OrderCancelledEvent {
 	private Long userId;
 	private List<CancelledOrderItem> cancelledItems;
 
+	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSSSS")
+	private LocalDateTime orderedAt;  // 원래 주문 시각 (베스트셀러 집계에서 주문이 더해진 구간을 찾는다)
+
 	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSSSS")
 	private LocalDateTime cancelledAt;
 
@@ -0,0 +1,64 @@
+package com.example.orderservice.dto.response;
+
+import com.example.orderservice.domain.entity.OrderStatus;
+import com.example.orderservice.domain.entity.OrderSummary;
+import com.example.orderservice.domain.entity.TrackingKind;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Schema(description = "주문 요약 응답 (주문 내역 목록용)")
+@Getter
+@Builder
+public class OrderSummaryResponse {
+
+    @Schema(description = "주문 ID", example = "1")
+    private Long orderId;
+
+    @Schema(description = "주문 번호", example = "ORD-20240115-ABCD1234")
+    private String orderNumber;
+
+    @Schema(description = "주문 상태", example = "SHIPPING")
+    private OrderStatus orderStatus;
+
+    @Schema(description = "결제 총 금액", example = "140000")
+    private BigDecimal totalPaymentAmount;
+
+    @Schema(description = "주문 상품 수", example = "3")
+    private Integer itemCount;
+
+    @Schema(description = "대표 상품명", example = "프리미엄 노트북")
+    private String representativeProductName;
+
+    @Schema(description = "최신 운송장 종류", example = "DELIVERY")
+    private TrackingKind trackingKind;
+
+    @Schema(description = "택배사", example = "CJ대한통운")
+    private String courier;
+
+    @Schema(description = "운송장 번호", example = "1234567890")
+    private String trackingNumber;
+
+    @Schema(description = "주문 일시", example = "2024-01-15 10:30:00")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime orderedAt;
+
+    public static OrderSummaryResponse from(OrderSummary summary) {
+        return OrderSummaryResponse.builder()
+                .orderId(summary.getOrderId())
+                .orderNumber(summary.getOrderNumber())
+                .orderStatus(summary.getOrderStatus())
+                .totalPaymentAmount(summary.getTotalPaymentAmount())
+                .itemCount(summary.getItemCount())
+                .representativeProductName(summary.getRepresentativeProductName())
+                .trackingKind(summary.getTrackingKind())
+                .courier(summary.getCourier())
+                .trackingNumber(summary.getTrackingNumber())
+                .orderedAt(summary.getOrderedAt())
+                .build();
+    }
+}
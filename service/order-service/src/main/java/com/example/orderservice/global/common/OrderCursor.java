@@ -0,0 +1,51 @@
+package com.example.orderservice.global.common;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 내 주문 목록 키셋 페이지네이션 커서
+ *
+ * 정렬 키 (orderedAt DESC, orderId DESC) 의 마지막 값을 담으며,
+ * 클라이언트에는 Base64(URL-safe) 로 인코딩된 불투명 문자열로 전달한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class OrderCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime orderedAt;
+    private final Long orderId;
+
+    public static OrderCursor of(LocalDateTime orderedAt, Long orderId) {
+        return new OrderCursor(orderedAt, orderId);
+    }
+
+    public String encode() {
+        String raw = orderedAt + DELIMITER + orderId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor);
+            }
+            LocalDateTime orderedAt = LocalDateTime.parse(raw.substring(0, index));
+            Long orderId = Long.valueOf(raw.substring(index + 1));
+            return new OrderCursor(orderedAt, orderId);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor, e);
+        }
+    }
+}
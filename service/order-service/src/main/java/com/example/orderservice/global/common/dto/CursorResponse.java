@@ -0,0 +1,31 @@
+package com.example.orderservice.global.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "커서 기반 페이지네이션 응답")
+public class CursorResponse<T> {
+
+    @Schema(description = "데이터 목록")
+    private List<T> content;
+
+    @Schema(description = "페이지 크기", example = "10")
+    private int size;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지이면 null)", example = "MjAyNC0wMS0xNVQxMDozMDowMHwxMjM")
+    private String nextCursor;
+}
@@ -1,6 +1,6 @@
 package com.example.orderservice.global.service;
 
-import com.example.orderservice.service.OrderCancellationService;
+import com.example.orderservice.global.service.expiry.OrderExpiryEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -15,10 +15,14 @@ public class OrderCancellationScheduler {
 	private static final String LOCK_NAME = "order_cancellation_scheduler_lock";
 	private static final int LOCK_TIMEOUT_SECONDS = 0;
 
-	private final OrderCancellationService orderCancellationService;
+	private final OrderExpiryEngine orderExpiryEngine;
 	private final JdbcTemplate jdbcTemplate;
 
-	@Scheduled(fixedRate = 60000) // 1분마다 실행
+	/**
+	 * 만료 주문 안전망 스윕
+	 * 정시 만료는 {@link OrderExpiryEngine} 타이밍 휠이 처리하고, 이 스케줄러는 휠이 놓친 주문만 정리한다.
+	 */
+	@Scheduled(fixedRate = 300000) // 5분마다 실행
 	public void scheduleCancelExpiredOrders() {
 		boolean lockAcquired = false;
 		try {
@@ -32,7 +36,7 @@ public class OrderCancellationScheduler {
 			if (lockResult != null && lockResult == 1) {
 				lockAcquired = true;
 				log.info("주문 취소 스케줄러 분산 락 획득 성공: {}", LOCK_NAME);
-				orderCancellationService.cancelExpiredOrders();
+				orderExpiryEngine.sweepExpiredOrders();
 			} else {
 				log.debug("주문 취소 스케줄러 분산 락 획득 실패: {} (다른 서버에서 실행 중일 수 있음)", LOCK_NAME);
 			}
@@ -0,0 +1,216 @@
+package com.example.orderservice.global.service.expiry;
+
+import com.example.orderservice.domain.entity.OrderStatus;
+import com.example.orderservice.repository.OrderExpiryTarget;
+import com.example.orderservice.repository.OrderRepository;
+import com.example.orderservice.service.OrderCancellationService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 미결제 주문 만료 엔진
+ *
+ * - 주문 생성 시 결제 기한(주문 일시 + {@link OrderCancellationService#EXPIRATION_MINUTES}분)을 타이밍 휠에 등록한다.
+ * - 인스턴스마다 주문 ID % instance-count = instance-index 인 주문만 담당하여, 같은 주문을 여러 휠이 중복 취소하지 않는다.
+ *   다른 인스턴스에서 생성된 담당 주문은 {@link #CATCH_UP_INTERVAL_MILLIS} 주기의 키셋 조회로 휠에 반영한다.
+ * - 기동 시 DB 의 담당 CREATED 주문을 키셋 페이지 단위로 읽어 휠을 재구성한다.
+ * - 전용 스레드에서 1초마다 휠을 진행시켜 만료된 주문을 {@link #CHUNK_SIZE}건씩 별도 트랜잭션으로 취소한다.
+ *   기본 스케줄러를 쓰는 다른 작업(안전망 스윕 등)이 길어져도 tick 이 밀리지 않는다.
+ * - 휠이 놓친 주문(키셋 조회 이후 커밋, 취소 실패 등)은 {@link #sweepExpiredOrders()} 안전망 스윕이 정리한다.
+ */
+@Slf4j
+@Component
+public class OrderExpiryEngine {
+
+	private static final long TICK_MILLIS = 1000;
+	private static final int WHEEL_SIZE = 1024; // 1초 * 1024 슬롯 ≒ 17분 (결제 기한 10분을 한 바퀴 안에 수용)
+	private static final int CHUNK_SIZE = 50;
+	private static final int REBUILD_PAGE_SIZE = 500;
+	private static final long CATCH_UP_INTERVAL_MILLIS = 10_000; // 결제 기한(10분)에 비해 충분히 짧은 반영 지연
+
+	private final OrderRepository orderRepository;
+	private final OrderCancellationService orderCancellationService;
+	private final int instanceCount;
+	private final int instanceIndex;
+
+	private final OrderExpiryTimingWheel timingWheel =
+		new OrderExpiryTimingWheel(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+	private final ScheduledExecutorService tickExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "order-expiry-tick");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/** 이 ID 까지의 담당 주문은 키셋 조회로 휠에 반영했다 (rebuild 이후에는 tick 스레드만 접근) */
+	private long lastSeenOrderId = 0L;
+	private long lastCatchUpMillis = 0L;
+
+	public OrderExpiryEngine(OrderRepository orderRepository,
+							 OrderCancellationService orderCancellationService,
+							 @Value("${order.expiry.instance-count:1}") int instanceCount,
+							 @Value("${order.expiry.instance-index:0}") int instanceIndex) {
+		if (instanceCount < 1 || instanceIndex < 0 || instanceIndex >= instanceCount) {
+			throw new IllegalArgumentException(
+				"order.expiry.instance-index 는 0 이상 instance-count 미만이어야 합니다: count=" + instanceCount
+					+ ", index=" + instanceIndex);
+		}
+		this.orderRepository = orderRepository;
+		this.orderCancellationService = orderCancellationService;
+		this.instanceCount = instanceCount;
+		this.instanceIndex = instanceIndex;
+	}
+
+	/**
+	 * 신규 주문의 결제 기한 등록
+	 * 다른 인스턴스 담당 주문은 담당 인스턴스가 키셋 조회로 가져가므로 등록하지 않는다.
+	 */
+	public void register(Long orderId, LocalDateTime orderedAt) {
+		if (orderId == null || orderedAt == null || !owns(orderId)) {
+			return;
+		}
+		timingWheel.schedule(orderId, toDeadlineMillis(orderedAt));
+	}
+
+	/**
+	 * 기동 시 휠을 재구성한 뒤 전용 스레드에서 tick 시작
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		rebuild();
+		tickExecutor.scheduleWithFixedDelay(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+		log.info("주문 만료 엔진 시작: instanceIndex={}, instanceCount={}", instanceIndex, instanceCount);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		tickExecutor.shutdownNow();
+	}
+
+	/**
+	 * 담당 CREATED 주문으로 타이밍 휠 재구성
+	 */
+	void rebuild() {
+		lastCatchUpMillis = System.currentTimeMillis();
+		try {
+			int registered = catchUp();
+			log.info("주문 만료 타이밍 휠 재구성 완료: {}건 등록", registered);
+		} catch (Exception e) {
+			// 재구성 실패 시에도 다음 키셋 조회와 안전망 스윕이 만료 주문을 정리한다
+			log.error("주문 만료 타이밍 휠 재구성 실패: lastSeenOrderId={}", lastSeenOrderId, e);
+		}
+	}
+
+	/**
+	 * 타이밍 휠 진행 및 만료 주문 취소
+	 * 예외가 스케줄러까지 전파되면 이후 tick 이 멈추므로 모두 여기서 처리한다.
+	 */
+	void tick() {
+		try {
+			long now = System.currentTimeMillis();
+			if (now - lastCatchUpMillis >= CATCH_UP_INTERVAL_MILLIS) {
+				lastCatchUpMillis = now;
+				catchUpSafely();
+			}
+			List<Long> expiredOrderIds = timingWheel.advance(now);
+			if (expiredOrderIds.isEmpty()) {
+				return;
+			}
+			log.debug("결제 기한 만료 주문 {}건 처리 시작", expiredOrderIds.size());
+			cancelInChunks(expiredOrderIds);
+		} catch (Exception e) {
+			log.error("주문 만료 tick 처리 실패", e);
+		}
+	}
+
+	/**
+	 * 마지막으로 확인한 주문 ID 이후의 담당 CREATED 주문을 휠에 등록
+	 *
+	 * @return 새로 등록된 주문 수
+	 */
+	private int catchUp() {
+		int registered = 0;
+		while (true) {
+			List<OrderExpiryTarget> targets = orderRepository.findExpiryTargetsInShard(
+				OrderStatus.CREATED, lastSeenOrderId, instanceCount, instanceIndex, PageRequest.of(0, REBUILD_PAGE_SIZE));
+			if (targets.isEmpty()) {
+				return registered;
+			}
+			for (OrderExpiryTarget target : targets) {
+				if (timingWheel.schedule(target.getId(), toDeadlineMillis(target.getOrderedAt()))) {
+					registered++;
+				}
+			}
+			lastSeenOrderId = targets.get(targets.size() - 1).getId();
+		}
+	}
+
+	private void catchUpSafely() {
+		try {
+			catchUp();
+		} catch (Exception e) {
+			// 조회 실패 시에도 이미 등록된 주문의 만료 처리는 계속한다
+			log.warn("담당 주문 키셋 조회 실패: lastSeenOrderId={}", lastSeenOrderId, e);
+		}
+	}
+
+	private boolean owns(long orderId) {
+		return Math.floorMod(orderId, instanceCount) == instanceIndex;
+	}
+
+	/**
+	 * 안전망 스윕: 기한이 지난 CREATED 주문을 주문 ID 키셋 페이지로 읽어 청크 단위로 취소
+	 *
+	 * @return 취소된 주문 수
+	 */
+	public int sweepExpiredOrders() {
+		LocalDateTime expiredBefore = LocalDateTime.now().minusMinutes(OrderCancellationService.EXPIRATION_MINUTES);
+		long afterOrderId = 0L;
+		int cancelledCount = 0;
+		while (true) {
+			List<Long> orderIds = orderRepository.findExpiredOrderIdsByStatus(
+				OrderStatus.CREATED, expiredBefore, afterOrderId, PageRequest.of(0, CHUNK_SIZE));
+			if (orderIds.isEmpty()) {
+				break;
+			}
+			cancelledCount += cancelInChunks(orderIds);
+			afterOrderId = orderIds.get(orderIds.size() - 1);
+		}
+		if (cancelledCount > 0) {
+			log.info("안전망 스윕으로 만료 주문 {}건 취소", cancelledCount);
+		}
+		return cancelledCount;
+	}
+
+	private int cancelInChunks(List<Long> orderIds) {
+		int cancelledCount = 0;
+		for (int from = 0; from < orderIds.size(); from += CHUNK_SIZE) {
+			List<Long> chunk = orderIds.subList(from, Math.min(from + CHUNK_SIZE, orderIds.size()));
+			try {
+				cancelledCount += orderCancellationService.cancelExpiredOrders(chunk);
+			} catch (Exception e) {
+				// 실패한 청크는 안전망 스윕에서 다시 처리된다
+				log.error("만료 주문 청크 취소 실패: orderIds={}", chunk, e);
+			}
+		}
+		return cancelledCount;
+	}
+
+	private long toDeadlineMillis(LocalDateTime orderedAt) {
+		return orderedAt.plusMinutes(OrderCancellationService.EXPIRATION_MINUTES)
+			.atZone(ZoneId.systemDefault())
+			.toInstant()
+			.toEpochMilli();
+	}
+}
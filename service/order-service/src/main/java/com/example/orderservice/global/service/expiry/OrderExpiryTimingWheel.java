@@ -0,0 +1,106 @@
+package com.example.orderservice.global.service.expiry;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 주문 만료 시각을 관리하는 해시드 타이밍 휠
+ *
+ * - 시간을 tick 단위 슬롯으로 나누고, 각 주문을 (만료 tick % 슬롯 수) 슬롯에 등록한다.
+ * - 한 바퀴보다 먼 만료 시각은 같은 슬롯에 함께 두고, 슬롯 방문 시 만료 tick 을 비교해 아직 남은 항목은 유지한다.
+ * - 등록/만료 추출 모두 슬롯 단위 연산이라 전체 주문 스캔 없이 tick 정밀도로 만료를 감지한다.
+ *
+ * 모든 메서드는 동기화되어 있어 주문 생성 스레드와 tick 스레드에서 함께 사용할 수 있다.
+ */
+public class OrderExpiryTimingWheel {
+
+	private final long tickMillis;
+	private final int wheelSize;
+	private final int mask;
+	private final List<List<Entry>> buckets;
+	private final Set<Long> scheduledOrderIds = new HashSet<>();
+
+	private long currentTick;
+
+	/**
+	 * @param tickMillis  tick 간격 (ms)
+	 * @param wheelSize   슬롯 수 (2의 거듭제곱)
+	 * @param startMillis 휠 시작 시각 (epoch ms)
+	 */
+	public OrderExpiryTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+		if (tickMillis <= 0) {
+			throw new IllegalArgumentException("tickMillis는 0보다 커야 합니다: " + tickMillis);
+		}
+		if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+			throw new IllegalArgumentException("wheelSize는 2의 거듭제곱이어야 합니다: " + wheelSize);
+		}
+		this.tickMillis = tickMillis;
+		this.wheelSize = wheelSize;
+		this.mask = wheelSize - 1;
+		this.buckets = new ArrayList<>(wheelSize);
+		for (int i = 0; i < wheelSize; i++) {
+			buckets.add(new ArrayList<>());
+		}
+		this.currentTick = startMillis / tickMillis;
+	}
+
+	/**
+	 * 주문 만료 시각 등록
+	 * 이미 지난 만료 시각은 다음 tick 에 만료되며, 이미 등록된 주문은 무시한다.
+	 *
+	 * @return 새로 등록되었으면 true
+	 */
+	public synchronized boolean schedule(long orderId, long deadlineMillis) {
+		if (!scheduledOrderIds.add(orderId)) {
+			return false;
+		}
+		long deadlineTick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick + 1);
+		buckets.get((int) (deadlineTick & mask)).add(new Entry(orderId, deadlineTick));
+		return true;
+	}
+
+	/**
+	 * 휠을 현재 시각까지 진행시키고 만료된 주문 ID 를 반환
+	 * 오래 멈춰 있었더라도 한 바퀴 이상은 돌지 않고 모든 슬롯을 한 번씩만 확인한다.
+	 */
+	public synchronized List<Long> advance(long nowMillis) {
+		long targetTick = nowMillis / tickMillis;
+		if (targetTick <= currentTick) {
+			return List.of();
+		}
+
+		List<Long> expiredOrderIds = new ArrayList<>();
+		long lastTick = Math.min(targetTick, currentTick + wheelSize);
+		for (long tick = currentTick + 1; tick <= lastTick; tick++) {
+			Iterator<Entry> iterator = buckets.get((int) (tick & mask)).iterator();
+			while (iterator.hasNext()) {
+				Entry entry = iterator.next();
+				if (entry.deadlineTick <= targetTick) {
+					iterator.remove();
+					expiredOrderIds.add(entry.orderId);
+				}
+			}
+		}
+		currentTick = targetTick;
+		expiredOrderIds.forEach(scheduledOrderIds::remove);
+		return expiredOrderIds;
+	}
+
+	public synchronized int size() {
+		return scheduledOrderIds.size();
+	}
+
+	private static final class Entry {
+
+		private final long orderId;
+		private final long deadlineTick;
+
+		private Entry(long orderId, long deadlineTick) {
+			this.orderId = orderId;
+			this.deadlineTick = deadlineTick;
+		}
+	}
+}
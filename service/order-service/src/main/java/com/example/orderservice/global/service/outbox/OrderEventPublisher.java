@@ -8,6 +8,7 @@ import com.example.orderservice.domain.event.InventoryIncreaseEvent;
 import com.example.orderservice.domain.event.OrderCancelledEvent;
 import com.example.orderservice.domain.event.OrderCreatedEvent;
 import com.example.orderservice.global.common.EventTypeConstants;
+import com.example.eventcontract.OrderEventKey;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.springwolf.bindings.kafka.annotations.KafkaAsyncOperationBinding;
@@ -50,24 +51,24 @@ public class OrderEventPublisher {
 	@KafkaAsyncOperationBinding(
 		messageBinding = @KafkaAsyncMessageBinding(
 			key = @KafkaAsyncKey(
-				description = "집계 타입과 집계 ID를 조합한 키 (형식: {aggregateType}-{aggregateId})",
+				description = "주문 ID 기반 파티션 키 (형식: Order-{orderId})",
 				example = "Order-123"
 			)
 		)
 	)
 	public void publishOrderCreatedEvent(Outbox outbox) {
 		String topic = EventTypeConstants.TOPIC_ORDER_CREATED;
-		String key = buildKey(outbox.getAggregateType(), outbox.getAggregateId());
 
 		try {
 			OrderCreatedEvent event = objectMapper.readValue(outbox.getPayload(), OrderCreatedEvent.class);
+			String key = OrderEventKey.of(event.getOrderId());
 			kafkaTemplate.send(topic, key, event).get();
 			log.debug("Kafka 메시지 전송 성공: topic={}, key={}", topic, key);
 		} catch (JsonProcessingException e) {
-			log.error("이벤트 역직렬화 실패: topic={}, key={}", topic, key, e);
+			log.error("이벤트 역직렬화 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("이벤트 역직렬화 실패", e);
 		} catch (Exception e) {
-			log.error("Kafka 메시지 전송 실패: topic={}, key={}", topic, key, e);
+			log.error("Kafka 메시지 전송 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("Kafka 메시지 전송 실패", e);
 		}
 	}
@@ -92,24 +93,24 @@ public class OrderEventPublisher {
 	@KafkaAsyncOperationBinding(
 		messageBinding = @KafkaAsyncMessageBinding(
 			key = @KafkaAsyncKey(
-				description = "집계 타입과 집계 ID를 조합한 키 (형식: {aggregateType}-{aggregateId})",
+				description = "주문 ID 기반 파티션 키 (형식: Order-{orderId})",
 				example = "Order-123"
 			)
 		)
 	)
 	public void publishOrderCancelledEvent(Outbox outbox) {
 		String topic = EventTypeConstants.TOPIC_ORDER_CANCELLED;
-		String key = buildKey(outbox.getAggregateType(), outbox.getAggregateId());
 
 		try {
 			OrderCancelledEvent event = objectMapper.readValue(outbox.getPayload(), OrderCancelledEvent.class);
+			String key = OrderEventKey.of(event.getOrderId());
 			kafkaTemplate.send(topic, key, event).get();
 			log.debug("Kafka 메시지 전송 성공: topic={}, key={}", topic, key);
 		} catch (JsonProcessingException e) {
-			log.error("이벤트 역직렬화 실패: topic={}, key={}", topic, key, e);
+			log.error("이벤트 역직렬화 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("이벤트 역직렬화 실패", e);
 		} catch (Exception e) {
-			log.error("Kafka 메시지 전송 실패: topic={}, key={}", topic, key, e);
+			log.error("Kafka 메시지 전송 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("Kafka 메시지 전송 실패", e);
 		}
 	}
@@ -218,24 +219,24 @@ public class OrderEventPublisher {
 	@KafkaAsyncOperationBinding(
 		messageBinding = @KafkaAsyncMessageBinding(
 			key = @KafkaAsyncKey(
-				description = "집계 타입과 집계 ID를 조합한 키 (형식: {aggregateType}-{aggregateId})",
+				description = "주문 ID 기반 파티션 키 (형식: Order-{orderId})",
 				example = "Order-123"
 			)
 		)
 	)
 	public void publishInventoryIncreaseEvent(Outbox outbox) {
 		String topic = EventTypeConstants.TOPIC_INVENTORY_INCREASE;
-		String key = buildKey(outbox.getAggregateType(), outbox.getAggregateId());
 
 		try {
 			InventoryIncreaseEvent event = objectMapper.readValue(outbox.getPayload(), InventoryIncreaseEvent.class);
+			String key = OrderEventKey.of(event.getOrderId());
 			kafkaTemplate.send(topic, key, event).get();
 			log.debug("Kafka 메시지 전송 성공: topic={}, key={}", topic, key);
 		} catch (JsonProcessingException e) {
-			log.error("이벤트 역직렬화 실패: topic={}, key={}", topic, key, e);
+			log.error("이벤트 역직렬화 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("이벤트 역직렬화 실패", e);
 		} catch (Exception e) {
-			log.error("Kafka 메시지 전송 실패: topic={}, key={}", topic, key, e);
+			log.error("Kafka 메시지 전송 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("Kafka 메시지 전송 실패", e);
 		}
 	}
@@ -264,24 +265,24 @@ public class OrderEventPublisher {
 	@KafkaAsyncOperationBinding(
 		messageBinding = @KafkaAsyncMessageBinding(
 			key = @KafkaAsyncKey(
-				description = "집계 타입과 집계 ID를 조합한 키 (형식: {aggregateType}-{aggregateId})",
+				description = "주문 ID 기반 파티션 키 (형식: Order-{orderId})",
 				example = "Order-123"
 			)
 		)
 	)
 	public void publishInventoryDecreaseEvent(Outbox outbox) {
 		String topic = EventTypeConstants.TOPIC_INVENTORY_DECREASE;
-		String key = buildKey(outbox.getAggregateType(), outbox.getAggregateId());
 
 		try {
 			InventoryDecreaseEvent event = objectMapper.readValue(outbox.getPayload(), InventoryDecreaseEvent.class);
+			String key = OrderEventKey.of(event.getOrderId());
 			kafkaTemplate.send(topic, key, event).get();
 			log.debug("Kafka 메시지 전송 성공: topic={}, key={}", topic, key);
 		} catch (JsonProcessingException e) {
-			log.error("이벤트 역직렬화 실패: topic={}, key={}", topic, key, e);
+			log.error("이벤트 역직렬화 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("이벤트 역직렬화 실패", e);
 		} catch (Exception e) {
-			log.error("Kafka 메시지 전송 실패: topic={}, key={}", topic, key, e);
+			log.error("Kafka 메시지 전송 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("Kafka 메시지 전송 실패", e);
 		}
 	}
@@ -0,0 +1,13 @@
+package com.example.orderservice.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 만료 스케줄링에 필요한 최소 컬럼 프로젝션
+ */
+public interface OrderExpiryTarget {
+
+    Long getId();
+
+    LocalDateTime getOrderedAt();
+}
@@ -2,7 +2,9 @@ package com.example.orderservice.repository;
 
 import com.example.orderservice.domain.entity.Order;
 import com.example.orderservice.domain.entity.OrderStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -10,6 +12,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,9 +38,41 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     boolean existsByOrderNumber(String orderNumber);
 
-    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.orderStatus = :status AND o.orderedAt < :expiredBefore")
-    List<Order> findExpiredOrdersByStatusWithItems(@Param("status") OrderStatus status,
-                                                    @Param("expiredBefore") LocalDateTime expiredBefore);
+    /**
+     * 만료 대상 주문을 행 잠금과 함께 조회
+     * 여러 인스턴스가 같은 주문을 동시에 만료 처리하더라도 잠금 이후 상태를 다시 확인하므로 한 번만 취소된다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems " +
+            "WHERE o.id IN :orderIds AND o.orderStatus = :status AND o.orderedAt < :expiredBefore")
+    List<Order> findExpiredOrdersByIdsForUpdate(@Param("orderIds") Collection<Long> orderIds,
+                                                @Param("status") OrderStatus status,
+                                                @Param("expiredBefore") LocalDateTime expiredBefore);
+
+    /**
+     * 상태별 주문 ID/주문 일시 조회 (주문 ID 키셋 페이지네이션)
+     * 만료 타이밍 휠 재구성에 사용하며, 주문 ID % shardCount = shardIndex 인 주문만 조회한다.
+     */
+    @Query("SELECT o.id AS id, o.orderedAt AS orderedAt FROM Order o " +
+            "WHERE o.orderStatus = :status AND o.id > :afterOrderId AND MOD(o.id, :shardCount) = :shardIndex " +
+            "ORDER BY o.id ASC")
+    List<OrderExpiryTarget> findExpiryTargetsInShard(@Param("status") OrderStatus status,
+                                                     @Param("afterOrderId") Long afterOrderId,
+                                                     @Param("shardCount") int shardCount,
+                                                     @Param("shardIndex") int shardIndex,
+                                                     Pageable pageable);
+
+    /**
+     * 만료된 주문 ID 조회 (주문 ID 키셋 페이지네이션)
+     * 타이밍 휠이 놓친 주문을 정리하는 안전망 스윕에 사용한다.
+     */
+    @Query("SELECT o.id FROM Order o " +
+            "WHERE o.orderStatus = :status AND o.orderedAt < :expiredBefore AND o.id > :afterOrderId " +
+            "ORDER BY o.id ASC")
+    List<Long> findExpiredOrderIdsByStatus(@Param("status") OrderStatus status,
+                                           @Param("expiredBefore") LocalDateTime expiredBefore,
+                                           @Param("afterOrderId") Long afterOrderId,
+                                           Pageable pageable);
 
     @Query("SELECT o FROM Order o WHERE " +
             "(:orderNumber IS NULL OR o.orderNumber LIKE %:orderNumber%) AND " +
@@ -46,9 +81,41 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
                                          @Param("orderStatus") OrderStatus orderStatus,
                                          Pageable pageable);
 
-    @Query(value = "SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.userId = :userId",
+    /**
+     * 사용자 주문 ID 페이지 조회 (1단계)
+     * 컬렉션 fetch join 과 페이지네이션을 함께 쓰면 Hibernate 가 메모리에서 페이징(HHH000104)하므로
+     * ID 만 먼저 페이징하고, 주문 상품은 {@link #findAllWithItemsByIdIn} 으로 일괄 조회한다.
+     */
+    @Query(value = "SELECT o.id FROM Order o WHERE o.userId = :userId",
             countQuery = "SELECT COUNT(o) FROM Order o WHERE o.userId = :userId")
-    Page<Order> findByUserIdWithItems(@Param("userId") Long userId, Pageable pageable);
+    Page<Long> findOrderIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자 주문 ID 첫 페이지 조회 (키셋 페이지네이션)
+     * idx_orders_user_ordered_at (user_id, ordered_at) 인덱스를 역순으로 탐색한다.
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.userId = :userId " +
+            "ORDER BY o.orderedAt DESC, o.id DESC")
+    List<Long> findOrderIdsByUserIdOrderByOrderedAtDesc(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 커서 (orderedAt, id) 이후의 사용자 주문 ID 조회 (키셋 페이지네이션)
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.userId = :userId " +
+            "AND (o.orderedAt < :cursorOrderedAt " +
+            "OR (o.orderedAt = :cursorOrderedAt AND o.id < :cursorOrderId)) " +
+            "ORDER BY o.orderedAt DESC, o.id DESC")
+    List<Long> findOrderIdsByUserIdBeforeCursor(@Param("userId") Long userId,
+                                                @Param("cursorOrderedAt") LocalDateTime cursorOrderedAt,
+                                                @Param("cursorOrderId") Long cursorOrderId,
+                                                Pageable pageable);
+
+    /**
+     * 주문 ID 목록으로 주문 및 주문 상품 일괄 조회 (2단계)
+     * 결과 순서는 보장되지 않으므로 호출 측에서 ID 순서대로 재정렬해야 한다.
+     */
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.id IN :orderIds")
+    List<Order> findAllWithItemsByIdIn(@Param("orderIds") Collection<Long> orderIds);
 
     @Query("SELECT o FROM Order o " +
             "LEFT JOIN FETCH o.orderItems " +
@@ -0,0 +1,26 @@
+package com.example.orderservice.repository;
+
+import com.example.orderservice.domain.entity.OrderSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long> {
+
+    @Query("SELECT s FROM OrderSummary s WHERE s.userId = :userId " +
+            "ORDER BY s.orderedAt DESC, s.orderId DESC")
+    List<OrderSummary> findByUserIdOrderByOrderedAtDesc(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT s FROM OrderSummary s WHERE s.userId = :userId " +
+            "AND (s.orderedAt < :cursorOrderedAt " +
+            "OR (s.orderedAt = :cursorOrderedAt AND s.orderId < :cursorOrderId)) " +
+            "ORDER BY s.orderedAt DESC, s.orderId DESC")
+    List<OrderSummary> findByUserIdBeforeCursor(@Param("userId") Long userId,
+                                                @Param("cursorOrderedAt") LocalDateTime cursorOrderedAt,
+                                                @Param("cursorOrderId") Long cursorOrderId,
+                                                Pageable pageable);
+}
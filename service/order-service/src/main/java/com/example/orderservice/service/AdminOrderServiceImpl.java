@@ -22,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminOrderServiceImpl implements AdminOrderService {
 
     private final OrderRepository orderRepository;
+    private final OrderSummaryService orderSummaryService;
 
     @Override
     public PageResponse<AdminOrderResponse> getOrders(String orderNumber, String orderStatus, Pageable pageable) {
@@ -58,6 +59,7 @@ public class AdminOrderServiceImpl implements AdminOrderService {
 
         order.updateStatus(newStatus);
         order.updateMemo(request.getOrderMemo());
+        orderSummaryService.project(order);
 
         log.info("관리자 주문 수정: orderId={}, status={}, memo={}", orderId, newStatus, request.getOrderMemo());
 
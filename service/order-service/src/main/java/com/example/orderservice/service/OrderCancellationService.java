@@ -29,8 +29,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OrderCancellationService {
 
-    private static final int EXPIRATION_MINUTES = 10;
+    public static final int EXPIRATION_MINUTES = 10;
     private static final String CANCELLATION_REASON_SYSTEM_TIMEOUT = "SYSTEM_TIMEOUT";
+    private static final String CANCELLATION_REASON_LATE_PAYMENT = "LATE_PAYMENT";
     private static final String DEFAULT_CANCELLATION_REASON = "고객 요청";
 
     private static final List<OrderStatus> CANCELLABLE_STATUSES = List.of(
@@ -41,23 +42,38 @@ public class OrderCancellationService {
     private final OutboxRepository outboxRepository;
     private final ObjectMapper objectMapper;
     private final ShippingServiceClient shippingServiceClient;
-
+    private final OrderSummaryService orderSummaryService;
+
+    /**
+     * 결제 기한이 지난 주문을 청크 단위로 취소
+     *
+     * 호출 측(만료 타이밍 휠, 안전망 스윕)이 소량의 주문 ID 청크마다 호출하여 트랜잭션을 작게 유지한다.
+     * 잠금 후 CREATED 상태이면서 기한이 지난 주문만 취소하므로 중복 호출되어도 안전하다.
+     *
+     * @return 실제로 취소된 주문 수
+     */
     @Transactional
-    public void cancelExpiredOrders() {
+    public int cancelExpiredOrders(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+
         LocalDateTime expiredBefore = LocalDateTime.now().minusMinutes(EXPIRATION_MINUTES);
-        List<Order> expiredOrders = orderRepository.findExpiredOrdersByStatusWithItems(
-                OrderStatus.CREATED, expiredBefore);
+        List<Order> expiredOrders = orderRepository.findExpiredOrdersByIdsForUpdate(
+                orderIds, OrderStatus.CREATED, expiredBefore);
 
         if (expiredOrders.isEmpty()) {
-            log.debug("취소할 만료된 주문이 없습니다.");
-            return;
+            log.debug("취소할 만료된 주문이 없습니다. 요청 {}건", orderIds.size());
+            return 0;
         }
 
         log.info("취소할 만료된 주문 {}건을 찾았습니다.", expiredOrders.size());
 
+        int cancelledCount = 0;
         for (Order order : expiredOrders) {
             try {
                 cancelOrder(order);
+                cancelledCount++;
                 log.info("주문 자동 취소 완료: orderId={}, orderNumber={}",
                         order.getId(), order.getOrderNumber());
             } catch (Exception e) {
@@ -65,6 +81,7 @@ public class OrderCancellationService {
                         order.getId(), order.getOrderNumber(), e);
             }
         }
+        return cancelledCount;
     }
 
     @Transactional
@@ -103,6 +120,19 @@ public class OrderCancellationService {
         return CancelOrderResponse.of(order, reason);
     }
 
+    /**
+     * 취소된 주문에 뒤늦게 도착한 결제 확인의 보상 처리
+     *
+     * 주문은 이미 취소되어 재고/쿠폰이 복원되었으므로 취소 항목 없이 order.cancelled를 다시 발행한다.
+     * payment-service는 이 이벤트로 승인된 결제를 취소하고, 재고/배송 컨슈머는 주문 단위 멱등성 체크로 건너뛴다.
+     * 호출 측의 주문 조회 트랜잭션 안에서 Outbox를 저장한다.
+     */
+    public void requestLatePaymentRefund(Order order, String paymentKey) {
+        saveOrderCancelledOutbox(order, CANCELLATION_REASON_LATE_PAYMENT, List.of());
+        log.warn("취소된 주문에 결제 확인 수신 - 결제 취소 요청: orderId={}, orderNumber={}, paymentKey={}",
+                order.getId(), order.getOrderNumber(), paymentKey);
+    }
+
     private void validateCancellable(Order order) {
         if (!CANCELLABLE_STATUSES.contains(order.getOrderStatus())) {
             throw new OrderCancelException(
@@ -131,7 +161,19 @@ public class OrderCancellationService {
     private void cancelOrder(Order order, String cancellationReason) {
         order.updateStatus(OrderStatus.CANCELED);
         orderRepository.save(order);
-        saveOrderCancelledOutbox(order, cancellationReason);
+        orderSummaryService.project(order);
+        saveOrderCancelledOutbox(order, cancellationReason, order.getOrderItems().stream()
+                .map(item -> OrderCancelledEvent.CancelledOrderItem.builder()
+                        .orderItemId(item.getId())
+                        .productId(item.getProductId())
+                        .skuId(item.getSkuId())
+                        .productName(item.getProductName())
+                        .productCode(item.getProductCode())
+                        .quantity(item.getQuantity())
+                        .unitPrice(item.getUnitPrice())
+                        .totalPrice(item.getTotalPrice())
+                        .build())
+                .toList());
         saveCouponRestoredOutboxes(order);
     }
 
@@ -167,24 +209,15 @@ public class OrderCancellationService {
                 });
     }
 
-    private void saveOrderCancelledOutbox(Order order, String cancellationReason) {
+    private void saveOrderCancelledOutbox(Order order, String cancellationReason,
+                                          List<OrderCancelledEvent.CancelledOrderItem> cancelledItems) {
         OrderCancelledEvent event = OrderCancelledEvent.builder()
                 .orderId(order.getId())
                 .orderNumber(order.getOrderNumber())
                 .cancellationReason(cancellationReason)
                 .userId(order.getUserId())
-                .cancelledItems(order.getOrderItems().stream()
-                        .map(item -> OrderCancelledEvent.CancelledOrderItem.builder()
-                                .orderItemId(item.getId())
-                                .productId(item.getProductId())
-                                .skuId(item.getSkuId())
-                                .productName(item.getProductName())
-                                .productCode(item.getProductCode())
-                                .quantity(item.getQuantity())
-                                .unitPrice(item.getUnitPrice())
-                                .totalPrice(item.getTotalPrice())
-                                .build())
-                        .toList())
+                .cancelledItems(cancelledItems)
+                .orderedAt(order.getOrderedAt())
                 .cancelledAt(LocalDateTime.now())
                 .build();
 
@@ -26,6 +26,7 @@ public class OrderExchangeService {
 
     private final OrderRepository orderRepository;
     private final ShippingServiceClient shippingServiceClient;
+    private final OrderSummaryService orderSummaryService;
     private final com.example.orderservice.repository.OrderItemRepository orderItemRepository;
     private final ProductServiceClient productServiceClient;
 
@@ -88,6 +89,7 @@ public class OrderExchangeService {
             CreateExchangeResponse exchangeResponse = shippingServiceClient.createExchange(request);
 
             order.updateStatus(OrderStatus.EXCHANGE_REQUESTED);
+            orderSummaryService.project(order);
 
             log.info("교환 신청 완료 - orderId={}, exchangeId={}", orderId, exchangeResponse.getExchangeId());
 
@@ -20,6 +20,7 @@ public class OrderReturnService {
 
     private final OrderRepository orderRepository;
     private final ShippingServiceClient shippingServiceClient;
+    private final OrderSummaryService orderSummaryService;
 
     @Transactional
     public ReturnOrderResponse requestReturn(Long userId, Long orderId, String reason) {
@@ -48,6 +49,7 @@ public class OrderReturnService {
             CreateReturnResponse returnResponse = shippingServiceClient.createReturn(request);
 
             order.updateStatus(OrderStatus.RETURN_REQUESTED);
+            orderSummaryService.project(order);
 
             log.info("반품 신청 완료 - orderId={}, returnId={}", orderId, returnResponse.getReturnId());
 
@@ -5,6 +5,7 @@ import com.example.orderservice.dto.request.ShippingSyncRequest;
 import com.example.orderservice.dto.response.MyOrderResponse;
 import com.example.orderservice.dto.response.OrderResponse;
 import com.example.orderservice.dto.response.ShippingSyncOrderResponse;
+import com.example.orderservice.global.common.dto.CursorResponse;
 import com.example.orderservice.global.common.dto.PageResponse;
 import org.springframework.data.domain.Pageable;
 
@@ -14,5 +15,7 @@ public interface OrderService {
 
     PageResponse<MyOrderResponse> getMyOrders(Long userId, Pageable pageable);
 
+    CursorResponse<MyOrderResponse> getMyOrdersByCursor(Long userId, String cursor, int size);
+
     PageResponse<ShippingSyncOrderResponse> getOrdersForShippingSync(ShippingSyncRequest request);
 }
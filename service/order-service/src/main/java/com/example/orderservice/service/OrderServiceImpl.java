@@ -25,7 +25,10 @@ import com.example.orderservice.dto.response.MyOrderResponse;
 import com.example.orderservice.dto.response.OrderResponse;
 import com.example.orderservice.dto.response.ShippingSyncOrderResponse;
 import com.example.orderservice.global.common.EventTypeConstants;
+import com.example.orderservice.global.common.OrderCursor;
+import com.example.orderservice.global.common.dto.CursorResponse;
 import com.example.orderservice.global.common.dto.PageResponse;
+import com.example.orderservice.global.service.expiry.OrderExpiryEngine;
 import com.example.orderservice.repository.OrderRepository;
 import com.example.orderservice.repository.OutboxRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -36,6 +39,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
@@ -44,6 +48,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -53,11 +58,15 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class OrderServiceImpl implements OrderService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+
     private final OrderRepository orderRepository;
     private final OutboxRepository outboxRepository;
     private final ProductServiceClient productServiceClient;
     private final PromotionServiceClient promotionServiceClient;
     private final ObjectMapper objectMapper;
+    private final OrderSummaryService orderSummaryService;
+    private final OrderExpiryEngine orderExpiryEngine;
 
     @Override
     @Transactional
@@ -131,6 +140,8 @@ public class OrderServiceImpl implements OrderService {
         order.setOrderDelivery(orderDelivery);
 
         Order savedOrder = orderRepository.save(order);
+        orderSummaryService.project(savedOrder);
+        orderExpiryEngine.register(savedOrder.getId(), savedOrder.getOrderedAt());
 
         saveOrderCreatedOutbox(savedOrder);
         saveCouponUsedOutboxes(savedOrder);
@@ -140,11 +151,65 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     public PageResponse<MyOrderResponse> getMyOrders(Long userId, Pageable pageable) {
-        Page<Order> orderPage = orderRepository.findByUserIdWithItems(userId, pageable);
-        Page<MyOrderResponse> responsePage = orderPage.map(MyOrderResponse::from);
+        Page<Long> orderIdPage = orderRepository.findOrderIdsByUserId(userId, pageable);
+        List<Order> orders = findOrdersWithItemsInOrder(orderIdPage.getContent());
+        Page<MyOrderResponse> responsePage = new PageImpl<>(
+                orders.stream().map(MyOrderResponse::from).toList(),
+                pageable,
+                orderIdPage.getTotalElements());
         return PageResponse.from(responsePage);
     }
 
+    @Override
+    public CursorResponse<MyOrderResponse> getMyOrdersByCursor(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        // 다음 페이지 존재 여부 판단을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Long> orderIds;
+        if (cursor == null || cursor.isBlank()) {
+            orderIds = orderRepository.findOrderIdsByUserIdOrderByOrderedAtDesc(userId, limit);
+        } else {
+            OrderCursor orderCursor = OrderCursor.decode(cursor);
+            orderIds = orderRepository.findOrderIdsByUserIdBeforeCursor(
+                    userId, orderCursor.getOrderedAt(), orderCursor.getOrderId(), limit);
+        }
+
+        boolean hasNext = orderIds.size() > pageSize;
+        if (hasNext) {
+            orderIds = orderIds.subList(0, pageSize);
+        }
+
+        List<Order> orders = findOrdersWithItemsInOrder(orderIds);
+        String nextCursor = null;
+        if (hasNext && !orders.isEmpty()) {
+            Order last = orders.get(orders.size() - 1);
+            nextCursor = OrderCursor.of(last.getOrderedAt(), last.getId()).encode();
+        }
+
+        return CursorResponse.<MyOrderResponse>builder()
+                .content(orders.stream().map(MyOrderResponse::from).toList())
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 주문 ID 목록의 주문과 주문 상품을 한 번의 쿼리로 조회한 뒤, 전달받은 ID 순서대로 정렬하여 반환
+     */
+    private List<Order> findOrdersWithItemsInOrder(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Order> orderMap = orderRepository.findAllWithItemsByIdIn(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, order -> order));
+        return orderIds.stream()
+                .map(orderMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @Override
     public PageResponse<ShippingSyncOrderResponse> getOrdersForShippingSync(ShippingSyncRequest request) {
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
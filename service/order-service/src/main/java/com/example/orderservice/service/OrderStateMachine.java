@@ -0,0 +1,143 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.domain.entity.Order;
+import com.example.orderservice.domain.entity.OrderStatus;
+import com.example.orderservice.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 주문 상태 전이 서비스
+ *
+ * 결제/배송/반품/교환 컨슈머의 상태 변경을 한 곳에서 처리한다.
+ * - 전이 테이블로 허용된 이전 상태에서만 변경하고, 그 외에는 건너뛴다 (멱등성 보장)
+ * - Order의 @Version으로 동시 변경을 감지하고, 충돌 시 새 트랜잭션에서 다시 조회하여 재시도한다
+ *
+ * 주문 단위 행 락을 잡지 않으므로 서로 다른 주문의 이벤트는 컨슈머 스레드 수만큼 병렬로 처리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStateMachine {
+
+    static final int MAX_ATTEMPTS = 3;
+
+    private static final Map<OrderStatus, Set<OrderStatus>> ALLOWED_SOURCES = new EnumMap<>(OrderStatus.class);
+
+    static {
+        // 결제 결과는 순서가 뒤바뀌어 도착할 수 있으므로 결제 단계(CREATED/PAID/FAILED) 안에서는 서로 덮어쓴다.
+        // 취소되었거나 배송 이후 단계로 넘어간 주문은 되돌리지 않는다 (취소 후 도착한 결제는 컨슈머가 환불 처리)
+        ALLOWED_SOURCES.put(OrderStatus.PAID, EnumSet.of(OrderStatus.CREATED, OrderStatus.FAILED));
+        ALLOWED_SOURCES.put(OrderStatus.FAILED, EnumSet.of(OrderStatus.CREATED, OrderStatus.PAID));
+
+        ALLOWED_SOURCES.put(OrderStatus.SHIPPING, EnumSet.of(OrderStatus.PAID));
+        ALLOWED_SOURCES.put(OrderStatus.DELIVERED, allExcept(OrderStatus.DELIVERED, OrderStatus.CANCELED));
+
+        ALLOWED_SOURCES.put(OrderStatus.RETURN_APPROVED, EnumSet.of(OrderStatus.RETURN_REQUESTED));
+        ALLOWED_SOURCES.put(OrderStatus.RETURN_IN_TRANSIT, EnumSet.of(OrderStatus.RETURN_APPROVED));
+        ALLOWED_SOURCES.put(OrderStatus.RETURNED, allExcept(OrderStatus.RETURNED, OrderStatus.CANCELED));
+
+        ALLOWED_SOURCES.put(OrderStatus.EXCHANGE_APPROVED, EnumSet.of(OrderStatus.EXCHANGE_REQUESTED));
+        ALLOWED_SOURCES.put(OrderStatus.EXCHANGE_COLLECTING, EnumSet.of(OrderStatus.EXCHANGE_APPROVED));
+        ALLOWED_SOURCES.put(OrderStatus.EXCHANGE_RETURN_COMPLETED, EnumSet.of(OrderStatus.EXCHANGE_COLLECTING));
+        ALLOWED_SOURCES.put(OrderStatus.EXCHANGE_SHIPPING, EnumSet.of(OrderStatus.EXCHANGE_RETURN_COMPLETED));
+        ALLOWED_SOURCES.put(OrderStatus.EXCHANGED, allExcept(OrderStatus.EXCHANGED, OrderStatus.CANCELED));
+    }
+
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public enum Result {
+        APPLIED,
+        SKIPPED,
+        NOT_FOUND
+    }
+
+    /**
+     * 현재 상태에서 목표 상태로 전이 가능한지 확인
+     */
+    public static boolean canTransition(OrderStatus from, OrderStatus to) {
+        return ALLOWED_SOURCES.getOrDefault(to, Collections.emptySet()).contains(from);
+    }
+
+    /**
+     * 주문 상태 전이
+     *
+     * 시도마다 새 트랜잭션에서 주문을 다시 조회하므로 loader는 재호출 가능해야 한다.
+     * afterTransition(Outbox 저장, 조회 모델 반영 등)은 상태 변경과 같은 트랜잭션에서 실행되며,
+     * 버전 충돌로 롤백되면 다음 시도에서 함께 다시 실행된다.
+     *
+     * @param orderKey 로그용 주문 식별자 (주문 ID 또는 주문 번호)
+     * @param loader 주문 조회 함수
+     * @param target 목표 상태
+     * @param afterTransition 상태 변경 직후 실행할 작업
+     * @return 전이 결과
+     */
+    public Result transition(Object orderKey, Supplier<Optional<Order>> loader,
+                             OrderStatus target, Consumer<Order> afterTransition) {
+        return transition(orderKey, loader, target, afterTransition, order -> { });
+    }
+
+    /**
+     * 주문 상태 전이 - 전이가 허용되지 않을 때 실행할 작업 포함
+     *
+     * onRejected(보상 Outbox 저장 등)는 현재 상태를 조회한 트랜잭션 안에서 실행되며,
+     * 실행되어도 결과는 SKIPPED이다.
+     *
+     * @param onRejected 허용되지 않은 상태일 때 실행할 작업
+     */
+    public Result transition(Object orderKey, Supplier<Optional<Order>> loader,
+                             OrderStatus target, Consumer<Order> afterTransition, Consumer<Order> onRejected) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> apply(orderKey, loader, target, afterTransition, onRejected));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    log.error("주문 상태 전이 재시도 한도 초과: orderKey={}, target={}, attempts={}",
+                            orderKey, target, attempt);
+                    throw e;
+                }
+                log.info("주문 버전 충돌 - 재시도: orderKey={}, target={}, attempt={}", orderKey, target, attempt);
+            }
+        }
+    }
+
+    private Result apply(Object orderKey, Supplier<Optional<Order>> loader,
+                         OrderStatus target, Consumer<Order> afterTransition, Consumer<Order> onRejected) {
+        Order order = loader.get().orElse(null);
+        if (order == null) {
+            log.warn("상태 전이 대상 주문 없음: orderKey={}, target={}", orderKey, target);
+            return Result.NOT_FOUND;
+        }
+
+        if (!canTransition(order.getOrderStatus(), target)) {
+            log.info("허용되지 않은 상태 전이 - 건너뜀: orderKey={}, currentStatus={}, target={}",
+                    orderKey, order.getOrderStatus(), target);
+            onRejected.accept(order);
+            return Result.SKIPPED;
+        }
+
+        order.updateStatus(target);
+        afterTransition.accept(order);
+
+        // 버전 충돌을 트랜잭션 커밋이 아닌 여기서 감지하여 재시도 루프로 전달
+        orderRepository.saveAndFlush(order);
+        return Result.APPLIED;
+    }
+
+    private static Set<OrderStatus> allExcept(OrderStatus first, OrderStatus... rest) {
+        return EnumSet.complementOf(EnumSet.of(first, rest));
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.domain.entity.Order;
+import com.example.orderservice.domain.entity.OrderSummary;
+import com.example.orderservice.domain.entity.TrackingKind;
+import com.example.orderservice.dto.response.OrderSummaryResponse;
+import com.example.orderservice.global.common.OrderCursor;
+import com.example.orderservice.global.common.dto.CursorResponse;
+import com.example.orderservice.repository.OrderSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 주문 요약 조회 모델 관리 서비스
+ *
+ * 주문 상태가 바뀌는 모든 경로(주문 생성, 결제/배송/반품/교환 이벤트 소비, 취소, 관리자 수정)에서
+ * 같은 트랜잭션 안에서 호출되어 order_summary 행을 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderSummaryService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final OrderSummaryRepository orderSummaryRepository;
+
+    /**
+     * 주문의 현재 상태로 요약 행을 생성하거나 갱신
+     */
+    @Transactional
+    public void project(Order order) {
+        OrderSummary summary = orderSummaryRepository.findById(order.getId())
+                .orElseGet(() -> OrderSummary.from(order));
+
+        summary.refresh(order);
+        orderSummaryRepository.save(summary);
+        log.debug("주문 요약 갱신: orderId={}, status={}", order.getId(), order.getOrderStatus());
+    }
+
+    /**
+     * 주문의 현재 상태와 함께 최신 운송장 정보를 요약 행에 반영
+     */
+    @Transactional
+    public void projectWithTracking(Order order, TrackingKind trackingKind, String courier, String trackingNumber) {
+        OrderSummary summary = orderSummaryRepository.findById(order.getId())
+                .orElseGet(() -> OrderSummary.from(order));
+
+        summary.refresh(order);
+        if (trackingNumber != null && !trackingNumber.isBlank()) {
+            summary.updateTracking(trackingKind, courier, trackingNumber);
+        }
+        orderSummaryRepository.save(summary);
+        log.debug("주문 요약 운송장 갱신: orderId={}, trackingKind={}, trackingNumber={}",
+                order.getId(), trackingKind, trackingNumber);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<OrderSummaryResponse> getMyOrderSummaries(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 판단을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<OrderSummary> summaries;
+        if (cursor == null || cursor.isBlank()) {
+            summaries = orderSummaryRepository.findByUserIdOrderByOrderedAtDesc(userId, limit);
+        } else {
+            OrderCursor orderCursor = OrderCursor.decode(cursor);
+            summaries = orderSummaryRepository.findByUserIdBeforeCursor(
+                    userId, orderCursor.getOrderedAt(), orderCursor.getOrderId(), limit);
+        }
+
+        boolean hasNext = summaries.size() > pageSize;
+        if (hasNext) {
+            summaries = summaries.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            OrderSummary last = summaries.get(summaries.size() - 1);
+            nextCursor = OrderCursor.of(last.getOrderedAt(), last.getOrderId()).encode();
+        }
+
+        return CursorResponse.<OrderSummaryResponse>builder()
+                .content(summaries.stream().map(OrderSummaryResponse::from).toList())
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
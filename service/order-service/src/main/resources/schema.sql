@@ -15,7 +15,10 @@ CREATE TABLE orders (
     order_memo TEXT COMMENT '관리자 메모 / CS 메모',
     ordered_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '주문 일시',
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
-        ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 일시'
+        ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 일시',
+    version BIGINT NOT NULL DEFAULT 0 COMMENT '낙관적 락 버전',
+    INDEX idx_orders_user_ordered_at (user_id, ordered_at) COMMENT '내 주문 목록 키셋 페이지네이션 인덱스',
+    INDEX idx_orders_status (order_status) COMMENT '상태별 주문 ID 키셋 조회 인덱스 (만료 주문 스윕)'
 ) COMMENT='주문 정보 테이블';
 
 -- 주문 상품 테이블
@@ -106,3 +109,32 @@ CREATE TABLE order_discount (
         REFERENCES orders(order_id)
         ON DELETE CASCADE
 ) COMMENT='주문 할인 정보 스냅샷 테이블';
+
+
+-- 주문 요약 조회 모델 테이블 (주문 내역 목록용 비정규화 프로젝션)
+CREATE TABLE order_summary (
+    order_id BIGINT NOT NULL PRIMARY KEY COMMENT '주문 ID',
+    user_id BIGINT NOT NULL COMMENT '주문자 ID',
+    order_number VARCHAR(50) NOT NULL COMMENT '주문 번호',
+    order_status VARCHAR(30) NOT NULL COMMENT '주문 상태',
+    total_payment_amount DECIMAL(12,2) NOT NULL COMMENT '최종 결제 금액',
+    item_count INT NOT NULL COMMENT '주문 상품 수',
+    representative_product_name VARCHAR(200) NULL COMMENT '대표 상품명',
+    tracking_kind VARCHAR(30) NOT NULL DEFAULT 'NONE' COMMENT '최신 운송장 종류
+    (NONE, DELIVERY, RETURN, EXCHANGE_COLLECT, EXCHANGE_DELIVERY)',
+    courier VARCHAR(50) NULL COMMENT '택배사',
+    tracking_number VARCHAR(50) NULL COMMENT '운송장 번호',
+    ordered_at TIMESTAMP NOT NULL COMMENT '주문 일시',
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+        ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 일시',
+    INDEX idx_order_summary_user_ordered_at (user_id, ordered_at) COMMENT '주문 내역 키셋 페이지네이션 인덱스'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='주문 요약 조회 모델 테이블';
+
+-- 기존 주문 백필 (운송장 정보는 이후 배송/반품/교환 이벤트 수신 시 채워짐)
+INSERT IGNORE INTO order_summary (order_id, user_id, order_number, order_status, total_payment_amount,
+                                  item_count, representative_product_name, tracking_kind, ordered_at)
+SELECT o.order_id, o.user_id, o.order_number, o.order_status, o.total_payment_amount,
+       (SELECT COUNT(*) FROM order_item i WHERE i.order_id = o.order_id),
+       (SELECT i.product_name FROM order_item i WHERE i.order_id = o.order_id ORDER BY i.order_item_id LIMIT 1),
+       'NONE', o.ordered_at
+FROM orders o;
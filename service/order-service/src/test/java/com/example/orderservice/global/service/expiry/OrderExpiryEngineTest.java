@@ -0,0 +1,174 @@
+package com.example.orderservice.global.service.expiry;
+
+import com.example.orderservice.domain.entity.OrderStatus;
+import com.example.orderservice.repository.OrderExpiryTarget;
+import com.example.orderservice.repository.OrderRepository;
+import com.example.orderservice.service.OrderCancellationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExpiryEngineTest {
+
+	@Mock
+	private OrderRepository orderRepository;
+
+	@Mock
+	private OrderCancellationService orderCancellationService;
+
+	private OrderExpiryEngine orderExpiryEngine;
+
+	@BeforeEach
+	void setUp() {
+		orderExpiryEngine = new OrderExpiryEngine(orderRepository, orderCancellationService, 1, 0);
+	}
+
+	@AfterEach
+	void tearDown() {
+		orderExpiryEngine.shutdown();
+	}
+
+	@Test
+	@DisplayName("결제 기한이 지난 주문은 다음 tick 에 청크 단위로 취소된다")
+	void tick_CancelsExpiredOrders() {
+		// given
+		orderExpiryEngine.register(1L, LocalDateTime.now().minusMinutes(OrderCancellationService.EXPIRATION_MINUTES + 1));
+		orderExpiryEngine.register(2L, LocalDateTime.now());
+		given(orderCancellationService.cancelExpiredOrders(List.of(1L))).willReturn(1);
+
+		// when
+		sleepOneTick();
+		orderExpiryEngine.tick();
+
+		// then
+		verify(orderCancellationService).cancelExpiredOrders(List.of(1L));
+	}
+
+	@Test
+	@DisplayName("결제 기한이 남은 주문은 취소하지 않는다")
+	void tick_SkipsPendingOrders() {
+		// given
+		orderExpiryEngine.register(1L, LocalDateTime.now());
+
+		// when
+		sleepOneTick();
+		orderExpiryEngine.tick();
+
+		// then
+		verify(orderCancellationService, never()).cancelExpiredOrders(anyList());
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스 담당 주문은 등록하지 않는다")
+	void register_SkipsOrdersOfOtherInstances() {
+		// given - 2개 인스턴스 중 0번: 짝수 주문만 담당
+		OrderExpiryEngine shardedEngine = new OrderExpiryEngine(orderRepository, orderCancellationService, 2, 0);
+		LocalDateTime expiredAt = LocalDateTime.now().minusMinutes(OrderCancellationService.EXPIRATION_MINUTES + 1);
+		shardedEngine.register(1L, expiredAt);
+		shardedEngine.register(2L, expiredAt);
+		given(orderCancellationService.cancelExpiredOrders(List.of(2L))).willReturn(1);
+
+		// when
+		sleepOneTick();
+		shardedEngine.tick();
+		shardedEngine.shutdown();
+
+		// then
+		verify(orderCancellationService).cancelExpiredOrders(List.of(2L));
+		verify(orderCancellationService, never()).cancelExpiredOrders(List.of(1L));
+	}
+
+	@Test
+	@DisplayName("재구성은 담당 샤드의 CREATED 주문만 키셋 페이지로 읽어 등록한다")
+	void rebuild_LoadsOwnShardOnly() {
+		// given
+		OrderExpiryEngine shardedEngine = new OrderExpiryEngine(orderRepository, orderCancellationService, 3, 1);
+		OrderExpiryTarget target = expiryTarget(4L,
+			LocalDateTime.now().minusMinutes(OrderCancellationService.EXPIRATION_MINUTES + 1));
+		given(orderRepository.findExpiryTargetsInShard(eq(OrderStatus.CREATED), eq(0L), eq(3), eq(1), any(Pageable.class)))
+			.willReturn(List.of(target));
+		given(orderCancellationService.cancelExpiredOrders(List.of(4L))).willReturn(1);
+
+		// when
+		shardedEngine.rebuild();
+		sleepOneTick();
+		shardedEngine.tick();
+		shardedEngine.shutdown();
+
+		// then - 다음 키셋 조회는 마지막으로 읽은 주문 이후부터
+		verify(orderRepository).findExpiryTargetsInShard(eq(OrderStatus.CREATED), eq(4L), eq(3), eq(1), any(Pageable.class));
+		verify(orderCancellationService).cancelExpiredOrders(List.of(4L));
+	}
+
+	@Test
+	@DisplayName("인스턴스 번호가 인스턴스 수 범위를 벗어나면 기동에 실패한다")
+	void constructor_RejectsInvalidShard() {
+		assertThatThrownBy(() -> new OrderExpiryEngine(orderRepository, orderCancellationService, 2, 2))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("안전망 스윕은 키셋 페이지마다 청크 트랜잭션으로 취소한다")
+	void sweepExpiredOrders_PagesByOrderId() {
+		// given
+		List<Long> firstPage = LongStream.rangeClosed(1, 50).boxed().toList();
+		List<Long> secondPage = List.of(51L, 52L);
+		given(orderRepository.findExpiredOrderIdsByStatus(eq(OrderStatus.CREATED), any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+			.willReturn(firstPage);
+		given(orderRepository.findExpiredOrderIdsByStatus(eq(OrderStatus.CREATED), any(LocalDateTime.class), eq(50L), any(Pageable.class)))
+			.willReturn(secondPage);
+		given(orderRepository.findExpiredOrderIdsByStatus(eq(OrderStatus.CREATED), any(LocalDateTime.class), eq(52L), any(Pageable.class)))
+			.willReturn(List.of());
+		given(orderCancellationService.cancelExpiredOrders(firstPage)).willReturn(50);
+		given(orderCancellationService.cancelExpiredOrders(secondPage)).willReturn(2);
+
+		// when
+		int cancelled = orderExpiryEngine.sweepExpiredOrders();
+
+		// then
+		assertThat(cancelled).isEqualTo(52);
+		verify(orderCancellationService, times(2)).cancelExpiredOrders(anyList());
+	}
+
+	private OrderExpiryTarget expiryTarget(Long id, LocalDateTime orderedAt) {
+		return new OrderExpiryTarget() {
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public LocalDateTime getOrderedAt() {
+				return orderedAt;
+			}
+		};
+	}
+
+	private void sleepOneTick() {
+		try {
+			Thread.sleep(1100);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
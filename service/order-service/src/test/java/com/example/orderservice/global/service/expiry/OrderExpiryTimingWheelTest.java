@@ -0,0 +1,84 @@
+package com.example.orderservice.global.service.expiry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderExpiryTimingWheelTest {
+
+	private static final long START = 1_000_000L;
+
+	@Test
+	@DisplayName("만료 시각 이전에는 반환되지 않고, 만료 tick 에 반환된다")
+	void advance_ReturnsOrdersAtDeadline() {
+		// given
+		OrderExpiryTimingWheel wheel = new OrderExpiryTimingWheel(1000, 8, START);
+		wheel.schedule(1L, START + 3000);
+		wheel.schedule(2L, START + 5000);
+
+		// when & then
+		assertThat(wheel.advance(START + 2999)).isEmpty();
+		assertThat(wheel.advance(START + 3000)).containsExactly(1L);
+		assertThat(wheel.advance(START + 4000)).isEmpty();
+		assertThat(wheel.advance(START + 5000)).containsExactly(2L);
+		assertThat(wheel.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("휠 한 바퀴보다 먼 만료 시각은 해당 바퀴가 될 때까지 유지된다")
+	void advance_KeepsOrdersBeyondOneRevolution() {
+		// given
+		OrderExpiryTimingWheel wheel = new OrderExpiryTimingWheel(1000, 4, START);
+		wheel.schedule(1L, START + 6000); // 4칸 휠에서 2번 슬롯을 공유하는 두 번째 바퀴
+
+		// when & then
+		assertThat(wheel.advance(START + 2000)).isEmpty();
+		assertThat(wheel.advance(START + 5000)).isEmpty();
+		assertThat(wheel.advance(START + 6000)).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("오래 멈춘 뒤 진행해도 지난 만료 주문을 모두 한 번씩 반환한다")
+	void advance_CatchesUpAfterLongPause() {
+		// given
+		OrderExpiryTimingWheel wheel = new OrderExpiryTimingWheel(1000, 4, START);
+		wheel.schedule(1L, START + 1000);
+		wheel.schedule(2L, START + 3000);
+		wheel.schedule(3L, START + 9000);
+		wheel.schedule(4L, START + 60000);
+
+		// when
+		List<Long> expired = wheel.advance(START + 30000);
+
+		// then
+		assertThat(expired).containsExactlyInAnyOrder(1L, 2L, 3L);
+		assertThat(wheel.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("이미 지난 만료 시각은 다음 tick 에 반환되고, 중복 등록은 무시된다")
+	void schedule_PastDeadlineAndDuplicate() {
+		// given
+		OrderExpiryTimingWheel wheel = new OrderExpiryTimingWheel(1000, 8, START);
+
+		// when
+		boolean first = wheel.schedule(1L, START - 60000);
+		boolean duplicate = wheel.schedule(1L, START + 5000);
+
+		// then
+		assertThat(first).isTrue();
+		assertThat(duplicate).isFalse();
+		assertThat(wheel.advance(START + 1000)).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("슬롯 수가 2의 거듭제곱이 아니면 예외")
+	void constructor_InvalidWheelSize() {
+		assertThatThrownBy(() -> new OrderExpiryTimingWheel(1000, 6, START))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -6,9 +6,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +24,9 @@ class OrderRepositoryTest {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Order testOrder;
 
     @BeforeEach
@@ -140,6 +146,81 @@ class OrderRepositoryTest {
         assertThat(updatedOrder.getOrderStatus()).isEqualTo(OrderStatus.PAID);
     }
 
+    @Test
+    @DisplayName("사용자 주문 ID 키셋 페이지네이션 및 주문 상품 일괄 조회 테스트")
+    void findOrderIdsByUserIdWithKeyset() {
+        // given
+        for (int i = 1; i <= 3; i++) {
+            Order order = Order.builder()
+                    .orderNumber("ORD-20240101-10" + i)
+                    .userId(7L)
+                    .orderStatus(OrderStatus.CREATED)
+                    .totalProductAmount(new BigDecimal("10000.00"))
+                    .totalDiscountAmount(BigDecimal.ZERO)
+                    .totalPaymentAmount(new BigDecimal("10000.00"))
+                    .build();
+            order.addOrderItem(OrderItem.builder()
+                    .productId(100L + i)
+                    .skuId(200L + i)
+                    .productName("상품" + i)
+                    .quantity(1)
+                    .unitPrice(new BigDecimal("10000.00"))
+                    .totalPrice(new BigDecimal("10000.00"))
+                    .build());
+            orderRepository.save(order);
+        }
+        // 커서 값은 DB 에 저장된 정밀도의 orderedAt 으로 만들어져야 하므로 영속성 컨텍스트를 비운다
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Long> firstPage = orderRepository.findOrderIdsByUserIdOrderByOrderedAtDesc(7L, PageRequest.of(0, 2));
+        Order last = orderRepository.findById(firstPage.get(1)).orElseThrow();
+        List<Long> secondPage = orderRepository.findOrderIdsByUserIdBeforeCursor(
+                7L, last.getOrderedAt(), last.getId(), PageRequest.of(0, 2));
+        List<Order> ordersWithItems = orderRepository.findAllWithItemsByIdIn(firstPage);
+
+        // then
+        assertThat(firstPage).hasSize(2);
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage).doesNotContainAnyElementsOf(firstPage);
+        assertThat(ordersWithItems).hasSize(2);
+        assertThat(ordersWithItems).allSatisfy(order -> assertThat(order.getOrderItems()).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("만료 대상 주문 키셋/샤드 조회 및 잠금 조회 테스트")
+    void findExpiryTargetsAndExpiredOrders() {
+        // given
+        Order createdOrder = orderRepository.save(testOrder);
+        Order paidOrder = orderRepository.save(Order.builder()
+                .orderNumber("ORD-20240101-002")
+                .userId(1L)
+                .orderStatus(OrderStatus.PAID)
+                .totalProductAmount(new BigDecimal("30000.00"))
+                .totalDiscountAmount(BigDecimal.ZERO)
+                .totalPaymentAmount(new BigDecimal("30000.00"))
+                .build());
+        LocalDateTime expiredBefore = LocalDateTime.now().plusMinutes(1);
+
+        // when
+        List<OrderExpiryTarget> targets = orderRepository.findExpiryTargetsInShard(
+                OrderStatus.CREATED, 0L, 1, 0, PageRequest.of(0, 10));
+        List<OrderExpiryTarget> otherShard = orderRepository.findExpiryTargetsInShard(
+                OrderStatus.CREATED, 0L, 2, (int) ((createdOrder.getId() + 1) % 2), PageRequest.of(0, 10));
+        List<Long> expiredIds = orderRepository.findExpiredOrderIdsByStatus(
+                OrderStatus.CREATED, expiredBefore, 0L, PageRequest.of(0, 10));
+        List<Order> lockedOrders = orderRepository.findExpiredOrdersByIdsForUpdate(
+                List.of(createdOrder.getId(), paidOrder.getId()), OrderStatus.CREATED, expiredBefore);
+
+        // then
+        assertThat(targets).extracting(OrderExpiryTarget::getId).containsExactly(createdOrder.getId());
+        assertThat(targets.get(0).getOrderedAt()).isNotNull();
+        assertThat(otherShard).isEmpty();
+        assertThat(expiredIds).containsExactly(createdOrder.getId());
+        assertThat(lockedOrders).extracting(Order::getId).containsExactly(createdOrder.getId());
+    }
+
     @Test
     @DisplayName("주문 삭제 테스트")
     void deleteOrder() {
@@ -0,0 +1,99 @@
+package com.example.orderservice.repository;
+
+import com.example.orderservice.domain.entity.Order;
+import com.example.orderservice.domain.entity.OrderItem;
+import com.example.orderservice.domain.entity.OrderStatus;
+import com.example.orderservice.domain.entity.OrderSummary;
+import com.example.orderservice.domain.entity.TrackingKind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class OrderSummaryRepositoryTest {
+
+    @Autowired
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("주문 요약 저장 및 운송장 갱신 테스트")
+    void saveAndUpdateTracking() {
+        // given
+        Order order = orderRepository.save(createOrder("ORD-20240101-201", 1L));
+        orderSummaryRepository.save(OrderSummary.from(order));
+
+        // when
+        OrderSummary summary = orderSummaryRepository.findById(order.getId()).orElseThrow();
+        summary.updateTracking(TrackingKind.DELIVERY, "CJ대한통운", "1234567890");
+        orderSummaryRepository.saveAndFlush(summary);
+        entityManager.clear();
+
+        // then
+        OrderSummary found = orderSummaryRepository.findById(order.getId()).orElseThrow();
+        assertThat(found.getItemCount()).isEqualTo(1);
+        assertThat(found.getRepresentativeProductName()).isEqualTo("테스트 상품");
+        assertThat(found.getTrackingKind()).isEqualTo(TrackingKind.DELIVERY);
+        assertThat(found.getTrackingNumber()).isEqualTo("1234567890");
+        assertThat(found.getUpdatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("사용자 주문 요약 키셋 페이지네이션 테스트")
+    void findByUserIdWithKeyset() {
+        // given
+        for (int i = 1; i <= 3; i++) {
+            Order order = orderRepository.save(createOrder("ORD-20240101-30" + i, 9L));
+            orderSummaryRepository.save(OrderSummary.from(order));
+        }
+        orderRepository.save(createOrder("ORD-20240101-399", 10L));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<OrderSummary> firstPage = orderSummaryRepository.findByUserIdOrderByOrderedAtDesc(9L, PageRequest.of(0, 2));
+        OrderSummary last = firstPage.get(1);
+        List<OrderSummary> secondPage = orderSummaryRepository.findByUserIdBeforeCursor(
+                9L, last.getOrderedAt(), last.getOrderId(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(firstPage).hasSize(2);
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage.get(0).getOrderId()).isNotIn(firstPage.get(0).getOrderId(), last.getOrderId());
+    }
+
+    private Order createOrder(String orderNumber, Long userId) {
+        Order order = Order.builder()
+                .orderNumber(orderNumber)
+                .userId(userId)
+                .orderStatus(OrderStatus.CREATED)
+                .totalProductAmount(new BigDecimal("10000.00"))
+                .totalDiscountAmount(BigDecimal.ZERO)
+                .totalPaymentAmount(new BigDecimal("10000.00"))
+                .build();
+        order.addOrderItem(OrderItem.builder()
+                .productId(100L)
+                .skuId(200L)
+                .productName("테스트 상품")
+                .quantity(1)
+                .unitPrice(new BigDecimal("10000.00"))
+                .totalPrice(new BigDecimal("10000.00"))
+                .build());
+        return order;
+    }
+}
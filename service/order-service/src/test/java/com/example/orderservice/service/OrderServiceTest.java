@@ -8,11 +8,15 @@ import com.example.orderservice.domain.entity.OrderStatus;
 import com.example.orderservice.dto.request.DeliveryInfoRequest;
 import com.example.orderservice.dto.request.OrderCreateRequest;
 import com.example.orderservice.dto.request.OrderItemRequest;
+import com.example.orderservice.dto.response.MyOrderResponse;
 import com.example.orderservice.dto.response.OrderResponse;
 import com.example.orderservice.client.dto.ProductDetailResponse;
 import com.example.orderservice.client.dto.ProductDetailResponse.OptionGroupResponse;
 import com.example.orderservice.client.dto.ProductDetailResponse.OptionValueResponse;
 import com.example.orderservice.client.dto.ProductDetailResponse.SkuResponse;
+import com.example.orderservice.global.common.OrderCursor;
+import com.example.orderservice.global.common.dto.CursorResponse;
+import com.example.orderservice.global.service.expiry.OrderExpiryEngine;
 import com.example.orderservice.repository.OrderRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,11 +25,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -40,6 +48,12 @@ class OrderServiceTest {
     @Mock
     private ProductServiceClient productServiceClient;
 
+    @Mock
+    private OrderSummaryService orderSummaryService;
+
+    @Mock
+    private OrderExpiryEngine orderExpiryEngine;
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -260,4 +274,60 @@ class OrderServiceTest {
         verify(productServiceClient).getProductDetail(100L);
         verify(productServiceClient).getProductDetail(101L);
     }
+
+    @Test
+    @DisplayName("내 주문 커서 조회 - 다음 페이지가 있으면 마지막 주문으로 커서 생성")
+    void getMyOrdersByCursor_HasNext() {
+        // given
+        Order order1 = createCursorTestOrder(3L, LocalDateTime.of(2024, 1, 15, 10, 0));
+        Order order2 = createCursorTestOrder(2L, LocalDateTime.of(2024, 1, 14, 10, 0));
+        given(orderRepository.findOrderIdsByUserIdOrderByOrderedAtDesc(eq(1L), any(Pageable.class)))
+                .willReturn(List.of(3L, 2L, 1L));
+        given(orderRepository.findAllWithItemsByIdIn(List.of(3L, 2L)))
+                .willReturn(List.of(order2, order1));
+
+        // when
+        CursorResponse<MyOrderResponse> response = orderService.getMyOrdersByCursor(1L, null, 2);
+
+        // then
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getContent()).extracting(MyOrderResponse::getOrderId).containsExactly(3L, 2L);
+        OrderCursor nextCursor = OrderCursor.decode(response.getNextCursor());
+        assertThat(nextCursor.getOrderId()).isEqualTo(2L);
+        assertThat(nextCursor.getOrderedAt()).isEqualTo(LocalDateTime.of(2024, 1, 14, 10, 0));
+    }
+
+    @Test
+    @DisplayName("내 주문 커서 조회 - 커서 이후 마지막 페이지")
+    void getMyOrdersByCursor_LastPage() {
+        // given
+        LocalDateTime cursorOrderedAt = LocalDateTime.of(2024, 1, 14, 10, 0);
+        String cursor = OrderCursor.of(cursorOrderedAt, 2L).encode();
+        Order order1 = createCursorTestOrder(1L, LocalDateTime.of(2024, 1, 13, 10, 0));
+        given(orderRepository.findOrderIdsByUserIdBeforeCursor(eq(1L), eq(cursorOrderedAt), eq(2L), any(Pageable.class)))
+                .willReturn(List.of(1L));
+        given(orderRepository.findAllWithItemsByIdIn(List.of(1L))).willReturn(List.of(order1));
+
+        // when
+        CursorResponse<MyOrderResponse> response = orderService.getMyOrdersByCursor(1L, cursor, 2);
+
+        // then
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+        assertThat(response.getContent()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("내 주문 커서 조회 - 유효하지 않은 커서")
+    void getMyOrdersByCursor_InvalidCursor() {
+        assertThatThrownBy(() -> orderService.getMyOrdersByCursor(1L, "invalid-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Order createCursorTestOrder(Long orderId, LocalDateTime orderedAt) {
+        Order order = createTestOrder();
+        ReflectionTestUtils.setField(order, "id", orderId);
+        ReflectionTestUtils.setField(order, "orderedAt", orderedAt);
+        return order;
+    }
 }
@@ -0,0 +1,183 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.domain.entity.Order;
+import com.example.orderservice.domain.entity.OrderStatus;
+import com.example.orderservice.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStateMachineTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private OrderStateMachine orderStateMachine;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    @Test
+    @DisplayName("허용된 상태에서는 상태를 변경하고 후속 작업을 실행한다")
+    void transition_applied() {
+        // given
+        Order order = createOrder(OrderStatus.PAID);
+        AtomicInteger afterCount = new AtomicInteger();
+
+        // when
+        OrderStateMachine.Result result = orderStateMachine.transition(1L,
+                () -> Optional.of(order), OrderStatus.SHIPPING, o -> afterCount.incrementAndGet());
+
+        // then
+        assertThat(result).isEqualTo(OrderStateMachine.Result.APPLIED);
+        assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.SHIPPING);
+        assertThat(afterCount.get()).isEqualTo(1);
+        verify(orderRepository).saveAndFlush(order);
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 상태에서는 변경 없이 건너뛴다")
+    void transition_skipped() {
+        // given
+        Order order = createOrder(OrderStatus.SHIPPING);
+        AtomicInteger afterCount = new AtomicInteger();
+
+        // when
+        OrderStateMachine.Result result = orderStateMachine.transition(1L,
+                () -> Optional.of(order), OrderStatus.SHIPPING, o -> afterCount.incrementAndGet());
+
+        // then
+        assertThat(result).isEqualTo(OrderStateMachine.Result.SKIPPED);
+        assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.SHIPPING);
+        assertThat(afterCount.get()).isZero();
+        verify(orderRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 상태에서는 같은 트랜잭션에서 거절 작업을 실행하고 건너뛴다")
+    void transition_rejectedRunsOnRejected() {
+        // given - 만료로 취소된 주문에 결제 확인이 늦게 도착
+        Order order = createOrder(OrderStatus.CANCELED);
+        AtomicInteger afterCount = new AtomicInteger();
+        AtomicInteger rejectedCount = new AtomicInteger();
+
+        // when
+        OrderStateMachine.Result result = orderStateMachine.transition(1L,
+                () -> Optional.of(order), OrderStatus.PAID,
+                o -> afterCount.incrementAndGet(), o -> rejectedCount.incrementAndGet());
+
+        // then
+        assertThat(result).isEqualTo(OrderStateMachine.Result.SKIPPED);
+        assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.CANCELED);
+        assertThat(afterCount.get()).isZero();
+        assertThat(rejectedCount.get()).isEqualTo(1);
+        verify(orderRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("주문이 없으면 NOT_FOUND를 반환한다")
+    void transition_notFound() {
+        // when
+        OrderStateMachine.Result result = orderStateMachine.transition(1L,
+                Optional::empty, OrderStatus.DELIVERED, o -> { });
+
+        // then
+        assertThat(result).isEqualTo(OrderStateMachine.Result.NOT_FOUND);
+        verify(orderRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("버전 충돌 시 주문을 다시 조회하여 최신 상태 기준으로 재시도한다")
+    void transition_retryOnVersionConflict() {
+        // given - 첫 시도는 충돌, 재조회한 주문은 다른 컨슈머가 이미 SHIPPING으로 변경한 상태
+        Order stale = createOrder(OrderStatus.PAID);
+        Order fresh = createOrder(OrderStatus.SHIPPING);
+        AtomicInteger loadCount = new AtomicInteger();
+        given(orderRepository.saveAndFlush(stale))
+                .willThrow(new ObjectOptimisticLockingFailureException(Order.class, 1L));
+
+        // when
+        OrderStateMachine.Result result = orderStateMachine.transition(1L,
+                () -> Optional.of(loadCount.getAndIncrement() == 0 ? stale : fresh),
+                OrderStatus.DELIVERED, o -> { });
+
+        // then
+        assertThat(result).isEqualTo(OrderStateMachine.Result.APPLIED);
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(fresh.getOrderStatus()).isEqualTo(OrderStatus.DELIVERED);
+        verify(orderRepository).saveAndFlush(fresh);
+    }
+
+    @Test
+    @DisplayName("재시도 한도를 넘으면 예외를 던져 Kafka 재시도로 넘긴다")
+    void transition_exceedsMaxAttempts() {
+        // given
+        given(orderRepository.saveAndFlush(any()))
+                .willThrow(new ObjectOptimisticLockingFailureException(Order.class, 1L));
+
+        // when & then
+        assertThatThrownBy(() -> orderStateMachine.transition(1L,
+                () -> Optional.of(createOrder(OrderStatus.PAID)), OrderStatus.SHIPPING, o -> { }))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(orderRepository, times(OrderStateMachine.MAX_ATTEMPTS)).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("전이 테이블 - 기존 컨슈머의 멱등성 규칙을 따르고, 취소/배송 이후 주문은 결제 결과로 되돌리지 않는다")
+    void canTransition() {
+        assertThat(OrderStateMachine.canTransition(OrderStatus.CREATED, OrderStatus.PAID)).isTrue();
+        assertThat(OrderStateMachine.canTransition(OrderStatus.FAILED, OrderStatus.PAID)).isTrue();
+        assertThat(OrderStateMachine.canTransition(OrderStatus.PAID, OrderStatus.FAILED)).isTrue();
+        assertThat(OrderStateMachine.canTransition(OrderStatus.PAID, OrderStatus.PAID)).isFalse();
+        assertThat(OrderStateMachine.canTransition(OrderStatus.CANCELED, OrderStatus.PAID)).isFalse();
+        assertThat(OrderStateMachine.canTransition(OrderStatus.SHIPPING, OrderStatus.PAID)).isFalse();
+        assertThat(OrderStateMachine.canTransition(OrderStatus.DELIVERED, OrderStatus.PAID)).isFalse();
+        assertThat(OrderStateMachine.canTransition(OrderStatus.RETURNED, OrderStatus.PAID)).isFalse();
+        assertThat(OrderStateMachine.canTransition(OrderStatus.CANCELED, OrderStatus.FAILED)).isFalse();
+        assertThat(OrderStateMachine.canTransition(OrderStatus.DELIVERED, OrderStatus.FAILED)).isFalse();
+        assertThat(OrderStateMachine.canTransition(OrderStatus.CANCELED, OrderStatus.DELIVERED)).isFalse();
+        assertThat(OrderStateMachine.canTransition(OrderStatus.RETURN_IN_TRANSIT, OrderStatus.RETURNED)).isTrue();
+        assertThat(OrderStateMachine.canTransition(OrderStatus.EXCHANGE_APPROVED, OrderStatus.EXCHANGE_SHIPPING)).isFalse();
+        assertThat(OrderStateMachine.canTransition(OrderStatus.DELIVERED, OrderStatus.CANCELED)).isFalse();
+    }
+
+    private Order createOrder(OrderStatus status) {
+        return Order.builder()
+                .orderNumber("ORD-20240101-0001")
+                .userId(1L)
+                .orderStatus(status)
+                .totalProductAmount(BigDecimal.valueOf(10000))
+                .totalPaymentAmount(BigDecimal.valueOf(10000))
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.domain.entity.Order;
+import com.example.orderservice.domain.entity.OrderItem;
+import com.example.orderservice.domain.entity.OrderStatus;
+import com.example.orderservice.domain.entity.OrderSummary;
+import com.example.orderservice.domain.entity.TrackingKind;
+import com.example.orderservice.dto.response.OrderSummaryResponse;
+import com.example.orderservice.global.common.OrderCursor;
+import com.example.orderservice.global.common.dto.CursorResponse;
+import com.example.orderservice.repository.OrderSummaryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSummaryServiceTest {
+
+    @Mock
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @InjectMocks
+    private OrderSummaryService orderSummaryService;
+
+    @Test
+    @DisplayName("주문 요약 생성 - 상품 수와 대표 상품명을 주문에서 계산")
+    void project_CreatesSummary() {
+        // given
+        Order order = createOrder(1L, LocalDateTime.of(2024, 1, 15, 10, 0));
+        given(orderSummaryRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when
+        orderSummaryService.project(order);
+
+        // then
+        ArgumentCaptor<OrderSummary> captor = ArgumentCaptor.forClass(OrderSummary.class);
+        verify(orderSummaryRepository).save(captor.capture());
+        OrderSummary summary = captor.getValue();
+        assertThat(summary.getOrderId()).isEqualTo(1L);
+        assertThat(summary.getOrderStatus()).isEqualTo(OrderStatus.CREATED);
+        assertThat(summary.getItemCount()).isEqualTo(2);
+        assertThat(summary.getRepresentativeProductName()).isEqualTo("상품1");
+        assertThat(summary.getTrackingKind()).isEqualTo(TrackingKind.NONE);
+    }
+
+    @Test
+    @DisplayName("주문 요약 운송장 갱신 - 기존 요약에 상태와 최신 운송장 반영")
+    void projectWithTracking_UpdatesExistingSummary() {
+        // given
+        Order order = createOrder(1L, LocalDateTime.of(2024, 1, 15, 10, 0));
+        OrderSummary summary = OrderSummary.from(order);
+        order.updateStatus(OrderStatus.RETURN_APPROVED);
+        given(orderSummaryRepository.findById(1L)).willReturn(Optional.of(summary));
+
+        // when
+        orderSummaryService.projectWithTracking(order, TrackingKind.RETURN, "CJ대한통운", "1234567890");
+
+        // then
+        verify(orderSummaryRepository).save(summary);
+        assertThat(summary.getOrderStatus()).isEqualTo(OrderStatus.RETURN_APPROVED);
+        assertThat(summary.getTrackingKind()).isEqualTo(TrackingKind.RETURN);
+        assertThat(summary.getCourier()).isEqualTo("CJ대한통운");
+        assertThat(summary.getTrackingNumber()).isEqualTo("1234567890");
+    }
+
+    @Test
+    @DisplayName("주문 요약 목록 조회 - 다음 페이지가 있으면 커서 생성")
+    void getMyOrderSummaries_HasNext() {
+        // given
+        OrderSummary first = OrderSummary.from(createOrder(3L, LocalDateTime.of(2024, 1, 15, 10, 0)));
+        OrderSummary second = OrderSummary.from(createOrder(2L, LocalDateTime.of(2024, 1, 14, 10, 0)));
+        OrderSummary third = OrderSummary.from(createOrder(1L, LocalDateTime.of(2024, 1, 13, 10, 0)));
+        given(orderSummaryRepository.findByUserIdOrderByOrderedAtDesc(eq(1L), any(Pageable.class)))
+                .willReturn(List.of(first, second, third));
+
+        // when
+        CursorResponse<OrderSummaryResponse> response = orderSummaryService.getMyOrderSummaries(1L, null, 2);
+
+        // then
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getContent()).extracting(OrderSummaryResponse::getOrderId).containsExactly(3L, 2L);
+        assertThat(OrderCursor.decode(response.getNextCursor()).getOrderId()).isEqualTo(2L);
+    }
+
+    private Order createOrder(Long orderId, LocalDateTime orderedAt) {
+        Order order = Order.builder()
+                .orderNumber("ORD-20240115-" + orderId)
+                .userId(1L)
+                .orderStatus(OrderStatus.CREATED)
+                .totalProductAmount(new BigDecimal("30000"))
+                .totalDiscountAmount(BigDecimal.ZERO)
+                .totalPaymentAmount(new BigDecimal("30000"))
+                .build();
+        order.addOrderItem(OrderItem.builder()
+                .productId(100L).skuId(1001L).productName("상품1")
+                .quantity(1).unitPrice(new BigDecimal("10000"))
+                .totalPrice(new BigDecimal("10000")).build());
+        order.addOrderItem(OrderItem.builder()
+                .productId(101L).skuId(1002L).productName("상품2")
+                .quantity(1).unitPrice(new BigDecimal("20000"))
+                .totalPrice(new BigDecimal("20000")).build());
+        ReflectionTestUtils.setField(order, "id", orderId);
+        ReflectionTestUtils.setField(order, "orderedAt", orderedAt);
+        return order;
+    }
+}
@@ -65,7 +65,7 @@ public class OrderEventConsumer {
 			retryTopicSuffix = "-payment-retry",
 			dltTopicSuffix = "-payment-dlt"
 	)
-	@KafkaListener(topics = "order.created", groupId = "${spring.kafka.consumer.group-id:payment-service}")
+	@KafkaListener(topics = "order.created", groupId = "${spring.kafka.consumer.group-id:payment-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
 	public void consumeOrderCreatedEvent(
 			@Payload OrderCreatedEvent event,
 			@Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -83,6 +83,7 @@ public class OrderEventConsumer {
 
 			// 결제 대기 상태로 주문 정보 저장
 			Order order = Order.builder()
+					.orderId(event.getOrderId())
 					.orderNumber(event.getOrderNumber())
 					.orderName(event.generateOrderName())
 					.amount(event.getTotalPaymentAmount().longValue())
@@ -125,7 +126,7 @@ public class OrderEventConsumer {
 			retryTopicSuffix = "-payment-retry",
 			dltTopicSuffix = "-payment-dlt"
 	)
-	@KafkaListener(topics = "order.cancelled", groupId = "${spring.kafka.consumer.group-id:payment-service}")
+	@KafkaListener(topics = "order.cancelled", groupId = "${spring.kafka.consumer.group-id:payment-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
 	public void consumeOrderCancelledEvent(
 			@Payload OrderCancelledEvent event,
 			@Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -23,6 +23,11 @@ public class Order {
     @Version
     private Long version;
 
+    /**
+     * Order Service의 주문 ID (Kafka 파티션 키 Order-{orderId} 생성용)
+     */
+    private Long orderId;
+
     private String orderNumber;
     private String orderName;
     private Long amount;
@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class PaymentCancelledEvent {
 
+	private Long orderId;
 	private String orderNumber;
 	private Long amount;
 	private String customerId;
@@ -4,6 +4,7 @@ import com.example.paymentservice.domain.entity.Outbox;
 import com.example.paymentservice.domain.event.PaymentCancelledEvent;
 import com.example.paymentservice.domain.event.PaymentConfirmedEvent;
 import com.example.paymentservice.global.common.EventTypeConstants;
+import com.example.eventcontract.OrderEventKey;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -21,39 +22,46 @@ public class PaymentEventPublisher {
 
 	public void publishPaymentCancelledEvent(Outbox outbox) {
 		String topic = EventTypeConstants.TOPIC_PAYMENT_CANCELLED;
-		String key = buildKey(outbox.getAggregateType(), outbox.getAggregateId());
 
 		try {
 			PaymentCancelledEvent event = objectMapper.readValue(outbox.getPayload(), PaymentCancelledEvent.class);
+			String key = resolveKey(outbox, event.getOrderId());
 			kafkaTemplate.send(topic, key, event).get();
 			log.debug("Kafka 메시지 전송 성공: topic={}, key={}", topic, key);
 		} catch (JsonProcessingException e) {
-			log.error("이벤트 역직렬화 실패: topic={}, key={}", topic, key, e);
+			log.error("이벤트 역직렬화 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("이벤트 역직렬화 실패", e);
 		} catch (Exception e) {
-			log.error("Kafka 메시지 전송 실패: topic={}, key={}", topic, key, e);
+			log.error("Kafka 메시지 전송 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("Kafka 메시지 전송 실패", e);
 		}
 	}
 
 	public void publishPaymentConfirmedEvent(Outbox outbox) {
 		String topic = EventTypeConstants.TOPIC_PAYMENT_CONFIRMED;
-		String key = buildKey(outbox.getAggregateType(), outbox.getAggregateId());
 
 		try {
 			PaymentConfirmedEvent event = objectMapper.readValue(outbox.getPayload(), PaymentConfirmedEvent.class);
+			String key = resolveKey(outbox, event.getOrderId());
 			kafkaTemplate.send(topic, key, event).get();
 			log.debug("Kafka 메시지 전송 성공: topic={}, key={}", topic, key);
 		} catch (JsonProcessingException e) {
-			log.error("이벤트 역직렬화 실패: topic={}, key={}", topic, key, e);
+			log.error("이벤트 역직렬화 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("이벤트 역직렬화 실패", e);
 		} catch (Exception e) {
-			log.error("Kafka 메시지 전송 실패: topic={}, key={}", topic, key, e);
+			log.error("Kafka 메시지 전송 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("Kafka 메시지 전송 실패", e);
 		}
 	}
 
-	private String buildKey(String aggregateType, String aggregateId) {
-		return aggregateType + "-" + aggregateId;
+	/**
+	 * 주문 ID 기반 키(Order-{orderId})로 발행하여 Order Service가 발행한 같은 주문의 이벤트와 파티션을 맞춘다.
+	 * orderId 저장 이전에 생성된 결제 주문은 기존 키(Order-{orderNumber})로 발행한다.
+	 */
+	private String resolveKey(Outbox outbox, Long orderId) {
+		if (orderId != null) {
+			return OrderEventKey.of(orderId);
+		}
+		return outbox.getAggregateType() + "-" + outbox.getAggregateId();
 	}
 }
@@ -116,6 +116,7 @@ public class PaymentService {
 
     private void savePaymentConfirmedOutbox(Order order, TossPaymentResponse tossResponse) {
         PaymentConfirmedEvent event = PaymentConfirmedEvent.builder()
+                .orderId(order.getOrderId())
                 .orderNumber(order.getOrderNumber())
                 .paymentKey(tossResponse.getPaymentKey())
                 .paymentMethod(tossResponse.getMethod())
@@ -144,6 +145,7 @@ public class PaymentService {
 
     private void savePaymentCancelledOutbox(Order order, String cancelReason) {
         PaymentCancelledEvent event = PaymentCancelledEvent.builder()
+                .orderId(order.getOrderId())
                 .orderNumber(order.getOrderNumber())
                 .amount(order.getAmount())
                 .customerId(order.getCustomerId())
@@ -62,7 +62,7 @@ public class InventoryEventConsumer {
             retryTopicSuffix = "-product-retry",
             dltTopicSuffix = "-product-dlt"
     )
-    @KafkaListener(topics = "inventory.decrease", groupId = "${spring.kafka.consumer.group-id:product-service}")
+    @KafkaListener(topics = "inventory.decrease", groupId = "${spring.kafka.consumer.group-id:product-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeInventoryDecreaseEvent(
             @Payload InventoryDecreaseEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -107,7 +107,7 @@ public class InventoryEventConsumer {
             retryTopicSuffix = "-product-retry",
             dltTopicSuffix = "-product-dlt"
     )
-    @KafkaListener(topics = "inventory.increase", groupId = "${spring.kafka.consumer.group-id:product-service}")
+    @KafkaListener(topics = "inventory.increase", groupId = "${spring.kafka.consumer.group-id:product-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeInventoryIncreaseEvent(
             @Payload InventoryIncreaseEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -62,7 +62,7 @@ public class OrderEventConsumer {
             retryTopicSuffix = "-product-retry",
             dltTopicSuffix = "-product-dlt"
     )
-    @KafkaListener(topics = "order.created", groupId = "${spring.kafka.consumer.group-id:product-service}")
+    @KafkaListener(topics = "order.created", groupId = "${spring.kafka.consumer.group-id:product-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeOrderCreatedEvent(
             @Payload OrderCreatedEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -106,7 +106,7 @@ public class OrderEventConsumer {
             retryTopicSuffix = "-product-retry",
             dltTopicSuffix = "-product-dlt"
     )
-    @KafkaListener(topics = "order.cancelled", groupId = "${spring.kafka.consumer.group-id:product-service}")
+    @KafkaListener(topics = "order.cancelled", groupId = "${spring.kafka.consumer.group-id:product-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumeOrderCancelledEvent(
             @Payload OrderCancelledEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
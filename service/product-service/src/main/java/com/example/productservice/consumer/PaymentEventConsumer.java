@@ -60,7 +60,7 @@ public class PaymentEventConsumer {
             retryTopicSuffix = "-product-retry",
             dltTopicSuffix = "-product-dlt"
     )
-    @KafkaListener(topics = "payment.cancelled", groupId = "${spring.kafka.consumer.group-id:product-service}")
+    @KafkaListener(topics = "payment.cancelled", groupId = "${spring.kafka.consumer.group-id:product-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     public void consumePaymentCancelledEvent(
             @Payload PaymentCancelledEvent event,
             @Header(value = KafkaHeaders.RECEIVED_TOPIC, required = false) String topic,
@@ -1,11 +1,14 @@
 package com.example.productservice.product.controller;
 
 import com.example.productservice.global.common.dto.PageResponse;
+import com.example.productservice.product.dto.CatalogSyncChangesResponse;
 import com.example.productservice.product.dto.CatalogSyncProductResponse;
 import com.example.productservice.product.dto.CatalogSyncRequest;
+import com.example.productservice.product.dto.ProductDetailResponse;
 import com.example.productservice.product.dto.ProductResponse;
 import com.example.productservice.product.service.ProductService;
 import com.example.productservice.product.service.SampleDataService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,8 +16,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,7 +29,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/internal/products")
@@ -34,6 +45,10 @@ public class InternalProductController {
 
     private final ProductService productService;
     private final SampleDataService sampleDataService;
+    private final ObjectMapper objectMapper;
+
+    private static final int MAX_EXPORT_CHUNK_SIZE = 1000;
+    private static final int MAX_DETAIL_BATCH_SIZE = 100;
 
     @GetMapping("/sync")
     @Operation(
@@ -63,6 +78,109 @@ public class InternalProductController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/sync/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "카탈로그 동기화용 상품 스트리밍 내보내기",
+            description = "ACTIVE 상태이고 진열 중인 상품을 productId 오름차순 NDJSON(한 줄에 상품 하나)으로 스트리밍합니다. "
+                    + "offset 대신 마지막 productId 기준으로 청크를 이어서 조회하므로 상품 수에 비례한 시간과 일정한 메모리로 전체를 내보냅니다. "
+                    + "마지막 줄은 {\"end\":true,\"count\":N} 트레일러이며, 트레일러가 없으면 스트림이 중간에 끊긴 것입니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "스트리밍 시작",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = CatalogSyncProductResponse.class))
+            )
+    })
+    public void streamProductsForSync(
+            @Parameter(description = "이 상품 ID 다음부터 내보내기 (미지정 시 처음부터)") @RequestParam(name = "afterProductId", required = false) Long afterProductId,
+            @Parameter(description = "DB 조회 청크 크기") @RequestParam(name = "chunkSize", required = false, defaultValue = "500") Integer chunkSize,
+            HttpServletResponse response
+    ) throws IOException {
+        log.info("GET /api/internal/products/sync/stream - afterProductId: {}, chunkSize: {}", afterProductId, chunkSize);
+
+        int size = Math.max(1, Math.min(chunkSize, MAX_EXPORT_CHUNK_SIZE));
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        // 비동기 요청 타임아웃에 걸리지 않도록 요청 스레드에서 직접 기록하고, 청크마다 flush하여 chunked 전송
+        OutputStream outputStream = response.getOutputStream();
+        Long cursor = afterProductId;
+        long exported = 0;
+        while (true) {
+            List<CatalogSyncProductResponse> chunk = productService.getProductsForCatalogSyncAfter(cursor, size);
+            for (CatalogSyncProductResponse product : chunk) {
+                outputStream.write(objectMapper.writeValueAsBytes(product));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+            exported += chunk.size();
+
+            if (chunk.size() < size) {
+                break;
+            }
+            cursor = chunk.get(chunk.size() - 1).getProductId();
+        }
+
+        // 끝까지 내보냈음을 알리는 트레일러 - 수신측은 이 줄과 상품 수가 맞아야 전체 동기화를 완료한다
+        outputStream.write(objectMapper.writeValueAsBytes(Map.of("end", true, "count", exported)));
+        outputStream.write('\n');
+        outputStream.flush();
+
+        log.info("Catalog sync stream completed - exported: {}", exported);
+    }
+
+    @GetMapping("/sync/changes")
+    @Operation(
+            summary = "카탈로그 증분 동기화용 상품 변경 조회",
+            description = "커서 이후 상품 정보, SKU 재고, 검색 키워드가 바뀐 상품을 (변경일시, productId) 오름차순으로 조회합니다. "
+                    + "ACTIVE 상태이고 진열 중인 상품은 색인 대상으로, 그 외 상품은 삭제 대상 ID(툼스톤)로 반환합니다. "
+                    + "응답의 nextUpdatedAt/nextProductId를 다음 요청의 커서로 사용합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CatalogSyncChangesResponse.class))
+            )
+    })
+    public ResponseEntity<CatalogSyncChangesResponse> getProductChangesForSync(
+            @Parameter(description = "커서 수정일시 (ISO-8601)", example = "2024-01-01T10:00:00")
+            @RequestParam(name = "updatedAfter") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedAfter,
+            @Parameter(description = "커서와 수정일시가 같은 상품 중 이 상품 ID 다음부터 (미지정 시 모두 포함)") @RequestParam(name = "afterProductId", required = false) Long afterProductId,
+            @Parameter(description = "조회 크기") @RequestParam(name = "size", required = false, defaultValue = "500") Integer size
+    ) {
+        log.info("GET /api/internal/products/sync/changes - updatedAfter: {}, afterProductId: {}, size: {}",
+                updatedAfter, afterProductId, size);
+
+        int limit = Math.max(1, Math.min(size, MAX_EXPORT_CHUNK_SIZE));
+        return ResponseEntity.ok(productService.getCatalogSyncChanges(updatedAfter, afterProductId, limit));
+    }
+
+    @GetMapping("/details")
+    @Operation(
+            summary = "상품 상세 일괄 조회",
+            description = "여러 상품의 상세 정보(옵션 그룹, SKU, 이미지, 카테고리)를 한 번에 조회합니다. "
+                    + "카탈로그 상세 캐시 갱신용이며, 존재하지 않는 상품은 결과에서 제외됩니다. 최대 " + MAX_DETAIL_BATCH_SIZE + "개"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "상품 ID 개수 초과")
+    })
+    public ResponseEntity<List<ProductDetailResponse>> getProductDetails(
+            @Parameter(description = "상품 ID 목록") @RequestParam(name = "productIds") List<Long> productIds
+    ) {
+        log.info("GET /api/internal/products/details - count: {}", productIds.size());
+
+        if (productIds.size() > MAX_DETAIL_BATCH_SIZE) {
+            log.warn("Too many product IDs for detail batch: {}", productIds.size());
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(productService.getProductDetails(productIds));
+    }
+
     @Schema(name = "PageResponseCatalogSyncProductResponse", description = "카탈로그 동기화 상품 페이지 응답")
     private static class PageResponseCatalogSyncProductResponse extends PageResponse<CatalogSyncProductResponse> {
     }
@@ -0,0 +1,27 @@
+package com.example.productservice.product.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 행 밖에서 일어난 카탈로그 변경의 상품별 마지막 시각
+ *
+ * 검색 키워드 추가/삭제는 상품 행을 바꾸지 않으므로 상품 updatedAt으로는 찾을 수 없다.
+ * 카탈로그 증분 동기화는 상품 updatedAt, SKU updatedAt과 함께 이 시각을 커서로 읽는다.
+ */
+@Entity
+@Table(name = "catalog_change")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogChange {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,33 @@
+package com.example.productservice.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "카탈로그 증분 동기화용 상품 변경 응답")
+public class CatalogSyncChangesResponse {
+
+    @Schema(description = "색인할 상품 (ACTIVE 상태이고 진열 중)")
+    private List<CatalogSyncProductResponse> products;
+
+    @Schema(description = "카탈로그에서 삭제할 상품 ID (비활성 또는 진열 중지)", example = "[3, 7]")
+    private List<Long> deletedProductIds;
+
+    @Schema(description = "다음 조회 커서 - 마지막 상품의 수정일시 (변경이 없으면 null)", example = "2024-01-01T10:00:00")
+    private LocalDateTime nextUpdatedAt;
+
+    @Schema(description = "다음 조회 커서 - 마지막 상품 ID (변경이 없으면 null)", example = "42")
+    private Long nextProductId;
+
+    @Schema(description = "다음 변경 존재 여부", example = "false")
+    private boolean hasNext;
+}
@@ -0,0 +1,34 @@
+package com.example.productservice.product.repository;
+
+import com.example.productservice.product.domain.CatalogChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CatalogChangeRepository extends JpaRepository<CatalogChange, Long> {
+
+    /**
+     * 상품의 카탈로그 변경 시각을 기록 - 같은 상품의 동시 변경도 한 행으로 합친다
+     */
+    @Modifying
+    @Query(value = "INSERT INTO catalog_change (product_id, changed_at) VALUES (:productId, :changedAt) " +
+            "ON DUPLICATE KEY UPDATE changed_at = GREATEST(changed_at, VALUES(changed_at))", nativeQuery = true)
+    void upsert(@Param("productId") Long productId, @Param("changedAt") LocalDateTime changedAt);
+
+    /**
+     * 카탈로그 증분 동기화용 keyset 조회 - (changedAt, productId)가 커서 다음인 변경을 시각 순으로
+     */
+    @Query("SELECT c FROM CatalogChange c " +
+            "WHERE c.changedAt > :changedAt OR (c.changedAt = :changedAt AND c.productId > :afterProductId) " +
+            "ORDER BY c.changedAt ASC, c.productId ASC")
+    List<CatalogChange> findChangedAfter(@Param("changedAt") LocalDateTime changedAt,
+                                         @Param("afterProductId") Long afterProductId,
+                                         Limit limit);
+}
@@ -2,6 +2,8 @@ package com.example.productservice.product.repository;
 
 import com.example.productservice.product.domain.ProductOptionGroup;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +12,10 @@ import java.util.List;
 public interface ProductOptionGroupRepository extends JpaRepository<ProductOptionGroup, Long> {
 
     List<ProductOptionGroup> findByProduct_ProductId(Long productId);
+
+    /**
+     * 영속성 컨텍스트에 로딩된 상품들의 옵션 그룹별 옵션 값 컬렉션을 한 번에 초기화
+     */
+    @Query("SELECT DISTINCT g FROM ProductOptionGroup g LEFT JOIN FETCH g.optionValues WHERE g.product.productId IN :productIds")
+    List<ProductOptionGroup> fetchOptionValuesByProductIdIn(@Param("productIds") List<Long> productIds);
 }
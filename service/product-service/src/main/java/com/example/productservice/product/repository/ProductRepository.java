@@ -1,13 +1,17 @@
 package com.example.productservice.product.repository;
 
 import com.example.productservice.product.domain.Product;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,10 +19,53 @@ public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpec
 
     Optional<Product> findByProductCode(String productCode);
 
-    @Query(value = "SELECT DISTINCT p FROM Product p " +
-            "LEFT JOIN FETCH p.images " +
-            "LEFT JOIN FETCH p.categories " +
-            "WHERE p.status = 'ACTIVE' AND p.isDisplayed = true",
-            countQuery = "SELECT COUNT(DISTINCT p) FROM Product p WHERE p.status = 'ACTIVE' AND p.isDisplayed = true")
-    Page<Product> findActiveDisplayedProductsWithDetails(Pageable pageable);
+    /**
+     * 카탈로그 동기화용 상품 페이지 조회
+     * 컬렉션을 fetch join하지 않으므로 페이지네이션이 DB에서 처리된다. 연관 데이터는 fetch*ByProductIdIn으로 일괄 로딩한다.
+     */
+    @Query(value = "SELECT p FROM Product p WHERE p.status = 'ACTIVE' AND p.isDisplayed = true",
+            countQuery = "SELECT COUNT(p) FROM Product p WHERE p.status = 'ACTIVE' AND p.isDisplayed = true")
+    Page<Product> findActiveDisplayedProducts(Pageable pageable);
+
+    /**
+     * 카탈로그 내보내기용 keyset 조회 - afterProductId 다음 상품부터 productId 오름차순
+     */
+    @Query("SELECT p FROM Product p " +
+            "WHERE p.status = 'ACTIVE' AND p.isDisplayed = true AND p.productId > :afterProductId " +
+            "ORDER BY p.productId ASC")
+    List<Product> findActiveDisplayedProductsAfter(@Param("afterProductId") Long afterProductId, Limit limit);
+
+    /**
+     * 카탈로그 증분 동기화용 keyset 조회 - (updatedAt, productId)가 커서 다음인 상품을 상태와 관계없이 수정 순으로
+     */
+    @Query("SELECT p FROM Product p " +
+            "WHERE p.updatedAt > :updatedAt OR (p.updatedAt = :updatedAt AND p.productId > :afterProductId) " +
+            "ORDER BY p.updatedAt ASC, p.productId ASC")
+    List<Product> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                   @Param("afterProductId") Long afterProductId,
+                                   Limit limit);
+
+    /**
+     * 영속성 컨텍스트에 로딩된 상품들의 옵션 그룹 컬렉션을 한 번에 초기화
+     */
+    @Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.optionGroups WHERE p.productId IN :productIds")
+    List<Product> fetchOptionGroupsByProductIdIn(@Param("productIds") List<Long> productIds);
+
+    /**
+     * 영속성 컨텍스트에 로딩된 상품들의 이미지 컬렉션을 한 번에 초기화
+     */
+    @Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.images WHERE p.productId IN :productIds")
+    List<Product> fetchImagesByProductIdIn(@Param("productIds") List<Long> productIds);
+
+    /**
+     * 영속성 컨텍스트에 로딩된 상품들의 SKU 컬렉션을 한 번에 초기화
+     */
+    @Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.skus WHERE p.productId IN :productIds")
+    List<Product> fetchSkusByProductIdIn(@Param("productIds") List<Long> productIds);
+
+    /**
+     * 영속성 컨텍스트에 로딩된 상품들의 카테고리 컬렉션을 한 번에 초기화
+     */
+    @Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.categories WHERE p.productId IN :productIds")
+    List<Product> fetchCategoriesByProductIdIn(@Param("productIds") List<Long> productIds);
 }
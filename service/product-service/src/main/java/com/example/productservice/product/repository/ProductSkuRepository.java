@@ -2,12 +2,14 @@ package com.example.productservice.product.repository;
 
 import com.example.productservice.product.domain.ProductSku;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +20,23 @@ public interface ProductSkuRepository extends JpaRepository<ProductSku, Long> {
 
     List<ProductSku> findByProduct_ProductId(Long productId);
 
+    /**
+     * 영속성 컨텍스트에 로딩된 상품들의 SKU별 옵션 구성(옵션 값 포함)을 한 번에 초기화
+     */
+    @Query("SELECT DISTINCT s FROM ProductSku s LEFT JOIN FETCH s.skuOptions so LEFT JOIN FETCH so.optionValue " +
+            "WHERE s.product.productId IN :productIds")
+    List<ProductSku> fetchSkuOptionsByProductIdIn(@Param("productIds") List<Long> productIds);
+
+    /**
+     * 카탈로그 증분 동기화용 keyset 조회 - (updatedAt, productId)가 커서 다음인 SKU를 수정 순으로 (재고 변경 반영용)
+     */
+    @Query("SELECT s FROM ProductSku s " +
+            "WHERE s.updatedAt > :updatedAt OR (s.updatedAt = :updatedAt AND s.product.productId > :afterProductId) " +
+            "ORDER BY s.updatedAt ASC, s.product.productId ASC")
+    List<ProductSku> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                      @Param("afterProductId") Long afterProductId,
+                                      Limit limit);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT s FROM ProductSku s WHERE s.skuId = :skuId")
     Optional<ProductSku> findByIdForUpdate(@Param("skuId") Long skuId);
@@ -9,6 +9,7 @@ import com.example.productservice.product.domain.event.KeywordCreatedEvent;
 import com.example.productservice.product.domain.event.KeywordDeletedEvent;
 import com.example.productservice.product.dto.SearchKeywordRequest;
 import com.example.productservice.product.dto.SearchKeywordResponse;
+import com.example.productservice.product.repository.CatalogChangeRepository;
 import com.example.productservice.product.repository.ProductRepository;
 import com.example.productservice.product.repository.ProductSearchKeywordRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -32,6 +33,7 @@ public class ProductSearchKeywordServiceImpl implements ProductSearchKeywordServ
 
     private final ProductSearchKeywordRepository keywordRepository;
     private final ProductRepository productRepository;
+    private final CatalogChangeRepository catalogChangeRepository;
     private final OutboxRepository outboxRepository;
     private final ObjectMapper objectMapper;
 
@@ -74,6 +76,8 @@ public class ProductSearchKeywordServiceImpl implements ProductSearchKeywordServ
                 .build();
 
         ProductSearchKeyword savedKeyword = keywordRepository.save(searchKeyword);
+        // 카탈로그 증분 동기화가 키워드 변경을 찾을 수 있도록 변경 시각을 남긴다 (상품 행은 건드리지 않는다)
+        catalogChangeRepository.upsert(productId, LocalDateTime.now());
 
         // 이벤트 발행을 위한 Outbox 저장
         saveKeywordCreatedEvent(savedKeyword);
@@ -101,6 +105,7 @@ public class ProductSearchKeywordServiceImpl implements ProductSearchKeywordServ
         saveKeywordDeletedEvent(keyword);
 
         keywordRepository.delete(keyword);
+        catalogChangeRepository.upsert(productId, LocalDateTime.now());
 
         log.info("키워드 삭제 완료 - productId: {}, keywordId: {}", productId, keywordId);
     }
@@ -1,6 +1,7 @@
 package com.example.productservice.product.service;
 
 import com.example.productservice.global.common.dto.PageResponse;
+import com.example.productservice.product.dto.CatalogSyncChangesResponse;
 import com.example.productservice.product.dto.CatalogSyncProductResponse;
 import com.example.productservice.product.dto.CatalogSyncRequest;
 import com.example.productservice.product.dto.ProductCreateRequest;
@@ -8,6 +9,9 @@ import com.example.productservice.product.dto.ProductDetailResponse;
 import com.example.productservice.product.dto.ProductResponse;
 import com.example.productservice.product.dto.ProductSearchRequest;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface ProductService {
 
     PageResponse<ProductResponse> searchProducts(ProductSearchRequest request);
@@ -16,9 +20,35 @@ public interface ProductService {
 
     ProductDetailResponse getProductDetail(Long productId);
 
+    /**
+     * 상품 상세 일괄 조회 - 연관 데이터를 상품별로 조회하지 않고 목록 단위로 한 번씩 일괄 로딩한다
+     *
+     * @return productId 오름차순 상품 상세 목록 (존재하지 않는 상품은 제외)
+     */
+    List<ProductDetailResponse> getProductDetails(List<Long> productIds);
+
     ProductResponse updateProduct(Long productId, ProductCreateRequest request);
 
     PageResponse<CatalogSyncProductResponse> getProductsForCatalogSync(CatalogSyncRequest request);
 
+    /**
+     * 카탈로그 내보내기용 keyset 청크 조회
+     *
+     * @param afterProductId 이전 청크의 마지막 상품 ID (null이면 처음부터)
+     * @param size 청크 크기
+     * @return productId 오름차순 상품 목록 (size보다 적으면 마지막 청크)
+     */
+    List<CatalogSyncProductResponse> getProductsForCatalogSyncAfter(Long afterProductId, int size);
+
+    /**
+     * 카탈로그 증분 동기화용 변경 조회 - 커서 이후 상품, SKU(재고), 검색 키워드가 바뀐 상품을 (변경일시, productId) 오름차순으로 조회한다
+     *
+     * @param updatedAt 커서 변경일시 (이 시각 이후 바뀐 상품부터)
+     * @param afterProductId 커서와 수정일시가 같은 상품 중 이 ID 다음부터 (null이면 수정일시가 같은 상품 모두 포함)
+     * @param size 조회 크기
+     * @return 동기화 대상 상품과 더 이상 노출되지 않는 상품 ID(툼스톤), 다음 커서
+     */
+    CatalogSyncChangesResponse getCatalogSyncChanges(LocalDateTime updatedAt, Long afterProductId, int size);
+
     void deleteAllProducts();
 }
@@ -15,11 +15,16 @@ import com.example.productservice.product.dto.*;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.data.jpa.domain.Specification;
+import com.example.productservice.product.repository.CatalogChangeRepository;
+import com.example.productservice.product.repository.ProductOptionGroupRepository;
 import com.example.productservice.product.repository.ProductRepository;
 import com.example.productservice.product.repository.ProductSearchKeywordRepository;
+import com.example.productservice.product.repository.ProductSkuRepository;
 import com.example.productservice.product.repository.ProductSpecification;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -27,8 +32,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -42,12 +51,16 @@ public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
     private final ProductSearchKeywordRepository productSearchKeywordRepository;
+    private final ProductOptionGroupRepository productOptionGroupRepository;
+    private final ProductSkuRepository productSkuRepository;
+    private final CatalogChangeRepository catalogChangeRepository;
     private final CategoryRepository categoryRepository;
     private final FileStorageService fileStorageService;
     private final FileUploadRepository fileUploadRepository;
     private final OutboxRepository outboxRepository;
     private final ObjectMapper objectMapper;
     private final ProductSkuHistoryService productSkuHistoryService;
+    private final EntityManager entityManager;
 
     @Override
     public PageResponse<ProductResponse> searchProducts(ProductSearchRequest request) {
@@ -203,6 +216,36 @@ public class ProductServiceImpl implements ProductService {
         return ProductDetailResponse.from(product);
     }
 
+    @Override
+    public List<ProductDetailResponse> getProductDetails(List<Long> productIds) {
+        List<Long> distinctIds = productIds.stream().distinct().collect(Collectors.toList());
+        if (distinctIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Product> products = productRepository.findAllById(distinctIds);
+        if (products.isEmpty()) {
+            return List.of();
+        }
+        List<Long> foundIds = products.stream()
+                .map(Product::getProductId)
+                .collect(Collectors.toList());
+
+        // 컬렉션별로 나눠 fetch join하여 영속성 컨텍스트의 상품 컬렉션을 초기화 (여러 bag 동시 fetch join 불가)
+        productRepository.fetchOptionGroupsByProductIdIn(foundIds);
+        productOptionGroupRepository.fetchOptionValuesByProductIdIn(foundIds);
+        productRepository.fetchSkusByProductIdIn(foundIds);
+        productSkuRepository.fetchSkuOptionsByProductIdIn(foundIds);
+        productRepository.fetchImagesByProductIdIn(foundIds);
+        productRepository.fetchCategoriesByProductIdIn(foundIds);
+
+        log.info("Getting product details: requested={}, found={}", distinctIds.size(), products.size());
+        return products.stream()
+                .sorted(Comparator.comparing(Product::getProductId))
+                .map(ProductDetailResponse::from)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional
     public ProductResponse updateProduct(Long productId, ProductCreateRequest request) {
@@ -376,14 +419,111 @@ public class ProductServiceImpl implements ProductService {
                 Sort.by("productId").ascending()
         );
 
-        // ACTIVE 상태이고 진열 중인 상품만 조회 (images, categories fetch join)
-        Page<Product> productPage = productRepository.findActiveDisplayedProductsWithDetails(pageable);
+        // ACTIVE 상태이고 진열 중인 상품만 조회 (연관 데이터는 페이지 단위로 일괄 로딩)
+        Page<Product> productPage = productRepository.findActiveDisplayedProducts(pageable);
+        Map<Long, CatalogSyncProductResponse> responseByProductId = toCatalogSyncResponses(productPage.getContent()).stream()
+                .collect(Collectors.toMap(CatalogSyncProductResponse::getProductId, response -> response));
 
-        // 조회된 상품 ID 목록 추출
-        List<Long> productIds = productPage.getContent().stream()
+        Page<CatalogSyncProductResponse> responsePage = productPage.map(product ->
+                responseByProductId.get(product.getProductId()));
+
+        log.info("Found {} products for catalog sync (page {}/{})",
+                responsePage.getNumberOfElements(),
+                responsePage.getNumber() + 1,
+                responsePage.getTotalPages());
+
+        return PageResponse.from(responsePage);
+    }
+
+    @Override
+    public List<CatalogSyncProductResponse> getProductsForCatalogSyncAfter(Long afterProductId, int size) {
+        long cursor = afterProductId != null ? afterProductId : 0L;
+        List<Product> products = productRepository.findActiveDisplayedProductsAfter(cursor, Limit.of(size));
+        List<CatalogSyncProductResponse> responses = toCatalogSyncResponses(products);
+
+        // 스트리밍 내보내기는 요청 하나에서 청크를 반복 조회하므로, 변환이 끝난 엔티티를 비워 메모리를 일정하게 유지
+        entityManager.clear();
+
+        log.debug("Exported {} products for catalog sync after productId {}", responses.size(), cursor);
+        return responses;
+    }
+
+    @Override
+    public CatalogSyncChangesResponse getCatalogSyncChanges(LocalDateTime updatedAt, Long afterProductId, int size) {
+        long cursor = afterProductId != null ? afterProductId : 0L;
+
+        // 상품 행, SKU(재고), 카탈로그 변경 기록(검색 키워드)을 각각 커서 다음부터 size개씩 읽어 (시각, 상품 ID) 순으로 합친다.
+        // 세 목록이 모두 같은 순서로 정렬되어 있으므로 합친 목록의 앞 size개가 전체 변경 중 커서 다음 size개다
+        List<ChangeMark> marks = new ArrayList<>();
+        productRepository.findChangedAfter(updatedAt, cursor, Limit.of(size))
+                .forEach(product -> marks.add(new ChangeMark(product.getUpdatedAt(), product.getProductId())));
+        productSkuRepository.findChangedAfter(updatedAt, cursor, Limit.of(size))
+                .forEach(sku -> marks.add(new ChangeMark(sku.getUpdatedAt(), sku.getProduct().getProductId())));
+        catalogChangeRepository.findChangedAfter(updatedAt, cursor, Limit.of(size))
+                .forEach(change -> marks.add(new ChangeMark(change.getChangedAt(), change.getProductId())));
+        marks.sort(ChangeMark.ORDER);
+        List<ChangeMark> page = marks.subList(0, Math.min(size, marks.size()));
+
+        // 같은 상품의 변경이 여러 번 있어도 현재 상태로 한 번만 내보낸다
+        Set<Long> changedProductIds = new LinkedHashSet<>();
+        page.forEach(mark -> changedProductIds.add(mark.productId()));
+        Map<Long, Product> productById = productRepository.findAllById(changedProductIds).stream()
+                .collect(Collectors.toMap(Product::getProductId, product -> product));
+
+        // 전체 동기화 대상(ACTIVE, 진열 중)에서 빠진 상품은 카탈로그에서 지우도록 툼스톤으로 내보낸다
+        List<Product> indexable = new ArrayList<>();
+        List<Long> deletedProductIds = new ArrayList<>();
+        for (Long productId : changedProductIds) {
+            Product product = productById.get(productId);
+            if (product != null && "ACTIVE".equals(product.getStatus()) && Boolean.TRUE.equals(product.getIsDisplayed())) {
+                indexable.add(product);
+            } else {
+                deletedProductIds.add(productId);
+            }
+        }
+
+        CatalogSyncChangesResponse.CatalogSyncChangesResponseBuilder response = CatalogSyncChangesResponse.builder()
+                .products(toCatalogSyncResponses(indexable))
+                .deletedProductIds(deletedProductIds)
+                .hasNext(marks.size() >= size);
+        if (!page.isEmpty()) {
+            ChangeMark last = page.get(page.size() - 1);
+            response.nextUpdatedAt(last.changedAt())
+                    .nextProductId(last.productId());
+        }
+
+        log.debug("Found {} changed products for catalog sync after ({}, {}) - tombstones: {}",
+                changedProductIds.size(), updatedAt, cursor, deletedProductIds.size());
+        return response.build();
+    }
+
+    /**
+     * 카탈로그 증분 동기화 커서 위치 - 변경 시각과 상품 ID
+     */
+    private record ChangeMark(LocalDateTime changedAt, Long productId) {
+
+        static final Comparator<ChangeMark> ORDER = Comparator.comparing(ChangeMark::changedAt)
+                .thenComparing(ChangeMark::productId);
+    }
+
+    /**
+     * 상품 목록을 카탈로그 동기화 응답으로 변환
+     * 이미지, SKU, 카테고리, 검색 키워드를 상품별로 조회하지 않고 목록 단위로 한 번씩 일괄 로딩한다.
+     */
+    private List<CatalogSyncProductResponse> toCatalogSyncResponses(List<Product> products) {
+        if (products.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> productIds = products.stream()
                 .map(Product::getProductId)
                 .collect(Collectors.toList());
 
+        // 컬렉션별로 나눠 fetch join하여 영속성 컨텍스트의 상품 컬렉션을 초기화 (여러 bag 동시 fetch join 불가)
+        productRepository.fetchImagesByProductIdIn(productIds);
+        productRepository.fetchSkusByProductIdIn(productIds);
+        productRepository.fetchCategoriesByProductIdIn(productIds);
+
         // 검색 키워드 별도 조회 및 productId별 그룹핑
         Map<Long, List<String>> keywordsByProductId = productSearchKeywordRepository
                 .findByProductProductIdIn(productIds).stream()
@@ -392,20 +532,12 @@ public class ProductServiceImpl implements ProductService {
                         Collectors.mapping(ProductSearchKeyword::getKeyword, Collectors.toList())
                 ));
 
-        // 응답 매핑 (키워드 포함)
-        Page<CatalogSyncProductResponse> responsePage = productPage.map(product ->
-                CatalogSyncProductResponse.from(
+        return products.stream()
+                .map(product -> CatalogSyncProductResponse.from(
                         product,
                         keywordsByProductId.getOrDefault(product.getProductId(), List.of())
-                )
-        );
-
-        log.info("Found {} products for catalog sync (page {}/{})",
-                responsePage.getNumberOfElements(),
-                responsePage.getNumber() + 1,
-                responsePage.getTotalPages());
-
-        return PageResponse.from(responsePage);
+                ))
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -13,7 +13,8 @@ CREATE TABLE product (
     status VARCHAR(20) NOT NULL COMMENT '상품 상태: ACTIVE, INACTIVE, SOLD_OUT',
     is_displayed TINYINT(1) NOT NULL DEFAULT 1 COMMENT '진열 여부',
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
-    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시'
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+    INDEX idx_product_updated_at (updated_at, product_id)
 ) COMMENT='상품 정보를 저장하는 테이블';
 
 -- 상품 옵션 그룹 테이블
@@ -55,7 +56,8 @@ CREATE TABLE product_sku (
     CONSTRAINT fk_sku_product
         FOREIGN KEY (product_id)
         REFERENCES product(product_id)
-        ON DELETE CASCADE
+        ON DELETE CASCADE,
+    INDEX idx_product_sku_updated_at (updated_at, product_id)
 ) COMMENT='상품 SKU 정보를 저장하는 테이블';
 
 -- SKU와 옵션 값 연결 테이블
@@ -168,6 +170,17 @@ CREATE TABLE product_search_keyword (
         UNIQUE (product_id, keyword)
 ) COMMENT='상품별 검색 키워드 매핑 테이블';
 
+-- 카탈로그 변경 기록 테이블 (상품 행을 바꾸지 않는 변경을 카탈로그 증분 동기화에 알린다)
+CREATE TABLE catalog_change (
+    product_id BIGINT NOT NULL PRIMARY KEY COMMENT '상품 ID',
+    changed_at TIMESTAMP NOT NULL COMMENT '마지막 변경일시',
+    CONSTRAINT fk_catalog_change_product
+        FOREIGN KEY (product_id)
+        REFERENCES product(product_id)
+        ON DELETE CASCADE,
+    INDEX idx_catalog_change_changed_at (changed_at, product_id)
+) COMMENT='상품 행 밖의 카탈로그 변경(검색 키워드) 시각';
+
 
 -- 이벤트 메시지 테이블
 CREATE TABLE outbox (
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +17,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -258,4 +260,43 @@ class ProductRepositoryTest {
         assertThat(result.getContent().get(1).getBasePrice())
                 .isGreaterThanOrEqualTo(result.getContent().get(2).getBasePrice());
     }
+
+    @Test
+    @DisplayName("카탈로그 내보내기 - 마지막 상품 ID 다음부터 productId 오름차순으로 진열 상품만 조회")
+    void findActiveDisplayedProductsAfter() {
+        // when
+        List<Product> firstChunk = productRepository.findActiveDisplayedProductsAfter(0L, Limit.of(1));
+        List<Product> secondChunk = productRepository.findActiveDisplayedProductsAfter(
+                firstChunk.get(0).getProductId(), Limit.of(1));
+        List<Product> lastChunk = productRepository.findActiveDisplayedProductsAfter(
+                secondChunk.get(0).getProductId(), Limit.of(1));
+
+        // then
+        assertThat(firstChunk).extracting(Product::getProductCode).containsExactly("NIKE-001");
+        assertThat(secondChunk).extracting(Product::getProductCode).containsExactly("ADIDAS-001");
+        assertThat(lastChunk).isEmpty();
+    }
+
+    @Test
+    @DisplayName("카탈로그 내보내기 - 청크 상품의 이미지와 SKU를 일괄 로딩")
+    void fetchCollectionsByProductIdIn() {
+        // given
+        List<Long> productIds = List.of(product1.getProductId(), product2.getProductId());
+
+        // when
+        List<Product> withImages = productRepository.fetchImagesByProductIdIn(productIds);
+        List<Product> withSkus = productRepository.fetchSkusByProductIdIn(productIds);
+
+        // then
+        assertThat(withImages).hasSize(2);
+        assertThat(withSkus).hasSize(2);
+        Product nike = withSkus.stream()
+                .filter(product -> product.getProductCode().equals("NIKE-001"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(nike.getImages()).extracting(ProductImage::getImageUrl)
+                .containsExactly("https://example.com/nike1.jpg");
+        assertThat(nike.getSkus()).extracting(ProductSku::getSkuCode)
+                .containsExactly("NIKE-001-RED-250");
+    }
 }
@@ -5,14 +5,20 @@ import com.example.productservice.category.repository.CategoryRepository;
 import com.example.productservice.file.service.FileStorageService;
 import com.example.productservice.global.common.dto.PageResponse;
 import com.example.productservice.global.repository.OutboxRepository;
+import com.example.productservice.product.domain.CatalogChange;
 import com.example.productservice.product.domain.Product;
 import com.example.productservice.product.domain.ProductImage;
 import com.example.productservice.product.domain.ProductSearchKeyword;
+import com.example.productservice.product.domain.ProductSku;
+import com.example.productservice.product.dto.CatalogSyncChangesResponse;
 import com.example.productservice.product.dto.CatalogSyncProductResponse;
 import com.example.productservice.product.dto.CatalogSyncRequest;
+import com.example.productservice.product.repository.CatalogChangeRepository;
 import com.example.productservice.product.repository.ProductRepository;
 import com.example.productservice.product.repository.ProductSearchKeywordRepository;
+import com.example.productservice.product.repository.ProductSkuRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,6 +27,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -47,6 +54,12 @@ class CatalogSyncServiceTest {
     @Mock
     private ProductSearchKeywordRepository productSearchKeywordRepository;
 
+    @Mock
+    private ProductSkuRepository productSkuRepository;
+
+    @Mock
+    private CatalogChangeRepository catalogChangeRepository;
+
     @Mock
     private CategoryRepository categoryRepository;
 
@@ -59,6 +72,9 @@ class CatalogSyncServiceTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -161,7 +177,7 @@ class CatalogSyncServiceTest {
             List<Product> products = List.of(product1, product2);
             Page<Product> productPage = new PageImpl<>(products);
 
-            when(productRepository.findActiveDisplayedProductsWithDetails(any(Pageable.class)))
+            when(productRepository.findActiveDisplayedProducts(any(Pageable.class)))
                     .thenReturn(productPage);
             when(productSearchKeywordRepository.findByProductProductIdIn(anyList()))
                     .thenReturn(List.of(keyword1, keyword2, keyword3));
@@ -187,7 +203,7 @@ class CatalogSyncServiceTest {
             assertThat(response2.getProductName()).isEqualTo("아디다스 울트라부스트");
             assertThat(response2.getSearchKeywords()).containsExactly("러닝화");
 
-            verify(productRepository).findActiveDisplayedProductsWithDetails(any(Pageable.class));
+            verify(productRepository).findActiveDisplayedProducts(any(Pageable.class));
             verify(productSearchKeywordRepository).findByProductProductIdIn(List.of(1L, 2L));
         }
 
@@ -203,7 +219,7 @@ class CatalogSyncServiceTest {
             List<Product> products = List.of(product2);
             Page<Product> productPage = new PageImpl<>(products);
 
-            when(productRepository.findActiveDisplayedProductsWithDetails(any(Pageable.class)))
+            when(productRepository.findActiveDisplayedProducts(any(Pageable.class)))
                     .thenReturn(productPage);
             when(productSearchKeywordRepository.findByProductProductIdIn(anyList()))
                     .thenReturn(List.of()); // 키워드 없음
@@ -227,10 +243,8 @@ class CatalogSyncServiceTest {
 
             Page<Product> emptyPage = new PageImpl<>(List.of());
 
-            when(productRepository.findActiveDisplayedProductsWithDetails(any(Pageable.class)))
+            when(productRepository.findActiveDisplayedProducts(any(Pageable.class)))
                     .thenReturn(emptyPage);
-            when(productSearchKeywordRepository.findByProductProductIdIn(anyList()))
-                    .thenReturn(List.of());
 
             // when
             PageResponse<CatalogSyncProductResponse> result = productService.getProductsForCatalogSync(request);
@@ -238,6 +252,7 @@ class CatalogSyncServiceTest {
             // then
             assertThat(result.getContent()).isEmpty();
             assertThat(result.getTotalElements()).isEqualTo(0);
+            verify(productSearchKeywordRepository, never()).findByProductProductIdIn(anyList());
         }
 
         @Test
@@ -253,7 +268,7 @@ class CatalogSyncServiceTest {
             Page<Product> productPage = new PageImpl<>(products,
                     org.springframework.data.domain.PageRequest.of(1, 1), 2);
 
-            when(productRepository.findActiveDisplayedProductsWithDetails(any(Pageable.class)))
+            when(productRepository.findActiveDisplayedProducts(any(Pageable.class)))
                     .thenReturn(productPage);
             when(productSearchKeywordRepository.findByProductProductIdIn(anyList()))
                     .thenReturn(List.of(keyword3));
@@ -277,7 +292,7 @@ class CatalogSyncServiceTest {
 
             Page<Product> productPage = new PageImpl<>(List.of(product1));
 
-            when(productRepository.findActiveDisplayedProductsWithDetails(any(Pageable.class)))
+            when(productRepository.findActiveDisplayedProducts(any(Pageable.class)))
                     .thenReturn(productPage);
             when(productSearchKeywordRepository.findByProductProductIdIn(anyList()))
                     .thenReturn(List.of(keyword1, keyword2));
@@ -287,7 +302,139 @@ class CatalogSyncServiceTest {
 
             // then
             assertThat(result).isNotNull();
-            verify(productRepository).findActiveDisplayedProductsWithDetails(any(Pageable.class));
+            verify(productRepository).findActiveDisplayedProducts(any(Pageable.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("getProductsForCatalogSyncAfter")
+    class GetProductsForCatalogSyncAfter {
+
+        @Test
+        @DisplayName("성공 - 마지막 상품 ID 이후 청크를 연관 데이터 일괄 로딩으로 조회")
+        void getProductsForCatalogSyncAfter_batchLoadsAssociations() {
+            // given
+            when(productRepository.findActiveDisplayedProductsAfter(0L, Limit.of(2)))
+                    .thenReturn(List.of(product1, product2));
+            when(productSearchKeywordRepository.findByProductProductIdIn(List.of(1L, 2L)))
+                    .thenReturn(List.of(keyword1, keyword2, keyword3));
+
+            // when
+            List<CatalogSyncProductResponse> result = productService.getProductsForCatalogSyncAfter(null, 2);
+
+            // then
+            assertThat(result).extracting(CatalogSyncProductResponse::getProductId).containsExactly(1L, 2L);
+            assertThat(result.get(0).getSearchKeywords()).containsExactlyInAnyOrder("운동화", "나이키");
+            assertThat(result.get(0).getPrimaryImageUrl()).isEqualTo("https://example.com/nike1.jpg");
+
+            // 상품별 조회 없이 청크 단위로 한 번씩만 로딩
+            verify(productRepository).fetchImagesByProductIdIn(List.of(1L, 2L));
+            verify(productRepository).fetchSkusByProductIdIn(List.of(1L, 2L));
+            verify(productRepository).fetchCategoriesByProductIdIn(List.of(1L, 2L));
+            verify(productSearchKeywordRepository).findByProductProductIdIn(List.of(1L, 2L));
+            verify(entityManager).clear();
+        }
+
+        @Test
+        @DisplayName("성공 - 더 이상 상품이 없으면 연관 데이터를 조회하지 않음")
+        void getProductsForCatalogSyncAfter_empty() {
+            // given
+            when(productRepository.findActiveDisplayedProductsAfter(2L, Limit.of(100)))
+                    .thenReturn(List.of());
+
+            // when
+            List<CatalogSyncProductResponse> result = productService.getProductsForCatalogSyncAfter(2L, 100);
+
+            // then
+            assertThat(result).isEmpty();
+            verify(productRepository, never()).fetchImagesByProductIdIn(anyList());
+            verify(productSearchKeywordRepository, never()).findByProductProductIdIn(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("getCatalogSyncChanges")
+    class GetCatalogSyncChanges {
+
+        private final LocalDateTime watermark = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+        @Test
+        @DisplayName("성공 - 노출 상품은 색인 대상, 비활성/진열 중지 상품은 툼스톤으로 분리")
+        void getCatalogSyncChanges_splitsTombstones() {
+            // given
+            Product hidden = Product.builder()
+                    .productId(3L)
+                    .productName("단종 상품")
+                    .basePrice(new BigDecimal("10000"))
+                    .status("ACTIVE")
+                    .isDisplayed(false)
+                    .updatedAt(watermark.plusMinutes(2))
+                    .build();
+            product1.setUpdatedAt(watermark.plusMinutes(1));
+            product2.setUpdatedAt(watermark.plusMinutes(1));
+            product2.setStatus("INACTIVE");
+            when(productRepository.findChangedAfter(watermark, 0L, Limit.of(3)))
+                    .thenReturn(List.of(product1, product2, hidden));
+            when(productRepository.findAllById(Set.of(1L, 2L, 3L))).thenReturn(List.of(product1, product2, hidden));
+            when(productSearchKeywordRepository.findByProductProductIdIn(List.of(1L)))
+                    .thenReturn(List.of(keyword1, keyword2));
+
+            // when
+            CatalogSyncChangesResponse result = productService.getCatalogSyncChanges(watermark, null, 3);
+
+            // then
+            assertThat(result.getProducts()).extracting(CatalogSyncProductResponse::getProductId).containsExactly(1L);
+            assertThat(result.getDeletedProductIds()).containsExactly(2L, 3L);
+            assertThat(result.getNextUpdatedAt()).isEqualTo(hidden.getUpdatedAt());
+            assertThat(result.getNextProductId()).isEqualTo(3L);
+            assertThat(result.isHasNext()).isTrue();
+
+            // 툼스톤 상품의 연관 데이터는 로딩하지 않음
+            verify(productRepository).fetchImagesByProductIdIn(List.of(1L));
+        }
+
+        @Test
+        @DisplayName("성공 - 상품 행이 그대로여도 SKU 재고나 검색 키워드가 바뀐 상품을 변경 시각 순으로 한 번씩 내보낸다")
+        void getCatalogSyncChanges_mergesSkuAndKeywordChanges() {
+            // given - 상품 1: SKU 재고 변경 2번, 상품 2: 키워드 변경, size보다 뒤의 변경은 다음 페이지
+            product1.setUpdatedAt(watermark.minusDays(1));
+            product2.setUpdatedAt(watermark.minusDays(1));
+            ProductSku sku1 = ProductSku.builder().skuId(10L).product(product1).updatedAt(watermark.plusMinutes(1)).build();
+            ProductSku sku2 = ProductSku.builder().skuId(11L).product(product1).updatedAt(watermark.plusMinutes(3)).build();
+            when(productRepository.findChangedAfter(watermark, 0L, Limit.of(3))).thenReturn(List.of());
+            when(productSkuRepository.findChangedAfter(watermark, 0L, Limit.of(3))).thenReturn(List.of(sku1, sku2));
+            when(catalogChangeRepository.findChangedAfter(watermark, 0L, Limit.of(3)))
+                    .thenReturn(List.of(new CatalogChange(2L, watermark.plusMinutes(2)),
+                            new CatalogChange(3L, watermark.plusMinutes(4))));
+            when(productRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(product2, product1));
+
+            // when
+            CatalogSyncChangesResponse result = productService.getCatalogSyncChanges(watermark, null, 3);
+
+            // then
+            assertThat(result.getProducts()).extracting(CatalogSyncProductResponse::getProductId).containsExactly(1L, 2L);
+            assertThat(result.getDeletedProductIds()).isEmpty();
+            assertThat(result.getNextUpdatedAt()).isEqualTo(watermark.plusMinutes(3));
+            assertThat(result.getNextProductId()).isEqualTo(1L);
+            assertThat(result.isHasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공 - 변경이 없으면 커서 없이 마지막 페이지")
+        void getCatalogSyncChanges_noChanges() {
+            // given
+            when(productRepository.findChangedAfter(watermark, 5L, Limit.of(100)))
+                    .thenReturn(List.of());
+
+            // when
+            CatalogSyncChangesResponse result = productService.getCatalogSyncChanges(watermark, 5L, 100);
+
+            // then
+            assertThat(result.getProducts()).isEmpty();
+            assertThat(result.getDeletedProductIds()).isEmpty();
+            assertThat(result.getNextUpdatedAt()).isNull();
+            assertThat(result.isHasNext()).isFalse();
+            verify(productRepository, never()).fetchImagesByProductIdIn(anyList());
         }
     }
 }
@@ -7,6 +7,7 @@ import com.example.productservice.product.domain.Product;
 import com.example.productservice.product.domain.ProductSearchKeyword;
 import com.example.productservice.product.dto.SearchKeywordRequest;
 import com.example.productservice.product.dto.SearchKeywordResponse;
+import com.example.productservice.product.repository.CatalogChangeRepository;
 import com.example.productservice.product.repository.ProductRepository;
 import com.example.productservice.product.repository.ProductSearchKeywordRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -31,6 +32,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +45,9 @@ class ProductSearchKeywordServiceImplTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private CatalogChangeRepository catalogChangeRepository;
+
     @Mock
     private OutboxRepository outboxRepository;
 
@@ -58,7 +63,7 @@ class ProductSearchKeywordServiceImplTest {
     void setUp() {
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
-        keywordService = new ProductSearchKeywordServiceImpl(keywordRepository, productRepository, outboxRepository, objectMapper);
+        keywordService = new ProductSearchKeywordServiceImpl(keywordRepository, productRepository, catalogChangeRepository, outboxRepository, objectMapper);
 
         product = Product.builder()
                 .productId(1L)
@@ -179,6 +184,10 @@ class ProductSearchKeywordServiceImplTest {
             assertThat(savedOutbox.getAggregateId()).isEqualTo("3");
             assertThat(savedOutbox.getEventType()).isEqualTo(EventTypeConstants.TOPIC_KEYWORD_CREATED);
             assertThat(savedOutbox.getPayload()).contains("에어맥스");
+
+            // 카탈로그 증분 동기화가 찾을 수 있도록 변경 시각을 남기고, 상품 행은 건드리지 않는다
+            verify(catalogChangeRepository).upsert(eq(1L), any(LocalDateTime.class));
+            assertThat(product.getUpdatedAt()).isNull();
         }
 
         @Test
@@ -272,6 +281,7 @@ class ProductSearchKeywordServiceImplTest {
             assertThat(savedOutbox.getAggregateId()).isEqualTo("1");
             assertThat(savedOutbox.getEventType()).isEqualTo(EventTypeConstants.TOPIC_KEYWORD_DELETED);
             assertThat(savedOutbox.getPayload()).contains("운동화");
+            verify(catalogChangeRepository).upsert(eq(1L), any(LocalDateTime.class));
         }
 
         @Test
@@ -6,8 +6,10 @@ import com.example.productservice.global.common.dto.PageResponse;
 import com.example.productservice.global.repository.OutboxRepository;
 import com.example.productservice.product.domain.*;
 import com.example.productservice.product.dto.*;
+import com.example.productservice.product.repository.ProductOptionGroupRepository;
 import com.example.productservice.product.repository.ProductRepository;
 import com.example.productservice.product.repository.ProductSearchKeywordRepository;
+import com.example.productservice.product.repository.ProductSkuRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -39,6 +41,12 @@ class ProductServiceImplTest {
     @Mock
     private ProductSearchKeywordRepository productSearchKeywordRepository;
 
+    @Mock
+    private ProductOptionGroupRepository productOptionGroupRepository;
+
+    @Mock
+    private ProductSkuRepository productSkuRepository;
+
     @Mock
     private CategoryRepository categoryRepository;
 
@@ -588,6 +596,42 @@ class ProductServiceImplTest {
         verify(productRepository, times(1)).findById(2L);
     }
 
+    @Test
+    @DisplayName("상품 상세 일괄 조회 - 연관 데이터를 목록 단위로 한 번씩 로딩")
+    void getProductDetails_batchLoadsAssociations() {
+        // given - 중복 ID와 존재하지 않는 ID 포함
+        Product product = createProductWithFullDetails();
+        when(productRepository.findAllById(List.of(1L, 999L))).thenReturn(List.of(product));
+
+        // when
+        List<ProductDetailResponse> responses = productService.getProductDetails(List.of(1L, 999L, 1L));
+
+        // then
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0).getProductId()).isEqualTo(1L);
+        assertThat(responses.get(0).getOptionGroups().get(0).getOptionValues()).hasSize(2);
+        assertThat(responses.get(0).getSkus()).hasSize(2);
+
+        verify(productRepository, times(1)).fetchOptionGroupsByProductIdIn(List.of(1L));
+        verify(productOptionGroupRepository, times(1)).fetchOptionValuesByProductIdIn(List.of(1L));
+        verify(productRepository, times(1)).fetchSkusByProductIdIn(List.of(1L));
+        verify(productSkuRepository, times(1)).fetchSkuOptionsByProductIdIn(List.of(1L));
+        verify(productRepository, times(1)).fetchImagesByProductIdIn(List.of(1L));
+        verify(productRepository, times(1)).fetchCategoriesByProductIdIn(List.of(1L));
+        verify(productRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("상품 상세 일괄 조회 - 빈 요청이면 조회하지 않음")
+    void getProductDetails_empty() {
+        // when
+        List<ProductDetailResponse> responses = productService.getProductDetails(List.of());
+
+        // then
+        assertThat(responses).isEmpty();
+        verifyNoInteractions(productRepository, productOptionGroupRepository, productSkuRepository);
+    }
+
     // ==================== 상품 수정 테스트 ====================
 
     @Test
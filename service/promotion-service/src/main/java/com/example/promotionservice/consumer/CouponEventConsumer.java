@@ -58,7 +58,8 @@ public class CouponEventConsumer {
     )
     @KafkaListener(
             topics = "coupon.used",
-            groupId = "${spring.kafka.consumer.group-id:promotion-service}"
+            groupId = "${spring.kafka.consumer.group-id:promotion-service}",
+            concurrency = "${spring.kafka.listener.concurrency:3}"
     )
     @Transactional
     public void consumeCouponUsedEvent(
@@ -123,7 +124,8 @@ public class CouponEventConsumer {
     )
     @KafkaListener(
             topics = "coupon.restored",
-            groupId = "${spring.kafka.consumer.group-id:promotion-service}"
+            groupId = "${spring.kafka.consumer.group-id:promotion-service}",
+            concurrency = "${spring.kafka.listener.concurrency:3}"
     )
     @Transactional
     public void consumeCouponRestoredEvent(
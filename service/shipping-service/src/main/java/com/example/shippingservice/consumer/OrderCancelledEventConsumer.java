@@ -64,7 +64,7 @@ public class OrderCancelledEventConsumer {
             retryTopicSuffix = "-shipping-retry",
             dltTopicSuffix = "-shipping-dlt"
     )
-    @KafkaListener(topics = "order.cancelled", groupId = "${spring.kafka.consumer.group-id:shipping-service}")
+    @KafkaListener(topics = "order.cancelled", groupId = "${spring.kafka.consumer.group-id:shipping-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     @Transactional
     public void consumeOrderCancelledEvent(
             @Payload OrderCancelledEvent event,
@@ -57,7 +57,7 @@ public class OrderCreatedEventConsumer {
             retryTopicSuffix = "-shipping-retry",
             dltTopicSuffix = "-shipping-dlt"
     )
-    @KafkaListener(topics = "order.created", groupId = "${spring.kafka.consumer.group-id:shipping-service}")
+    @KafkaListener(topics = "order.created", groupId = "${spring.kafka.consumer.group-id:shipping-service}", concurrency = "${spring.kafka.listener.concurrency:3}")
     @Transactional
     public void consumeOrderCreatedEvent(
             @Payload OrderCreatedEvent event,
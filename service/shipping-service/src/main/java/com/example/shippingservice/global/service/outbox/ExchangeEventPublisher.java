@@ -7,6 +7,7 @@ import com.example.shippingservice.domain.event.ExchangeCompletedEvent;
 import com.example.shippingservice.domain.event.ExchangeReturnCompletedEvent;
 import com.example.shippingservice.domain.event.ExchangeShippingEvent;
 import com.example.shippingservice.global.common.EventTypeConstants;
+import com.example.eventcontract.OrderEventKey;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.springwolf.bindings.kafka.annotations.KafkaAsyncOperationBinding;
@@ -49,24 +50,24 @@ public class ExchangeEventPublisher {
 	@KafkaAsyncOperationBinding(
 		messageBinding = @KafkaAsyncMessageBinding(
 			key = @KafkaAsyncKey(
-				description = "집계 타입과 집계 ID를 조합한 키 (형식: {aggregateType}-{aggregateId})",
-				example = "Exchange-123"
+				description = "주문 ID 기반 파티션 키 (형식: Order-{orderId})",
+				example = "Order-123"
 			)
 		)
 	)
 	public void publishExchangeApprovedEvent(Outbox outbox) {
 		String topic = EventTypeConstants.TOPIC_EXCHANGE_APPROVED;
-		String key = buildKey(outbox.getAggregateType(), outbox.getAggregateId());
 
 		try {
 			ExchangeApprovedEvent event = objectMapper.readValue(outbox.getPayload(), ExchangeApprovedEvent.class);
+			String key = OrderEventKey.of(event.getOrderId());
 			kafkaTemplate.send(topic, key, event).get();
 			log.debug("Kafka 메시지 전송 성공: topic={}, key={}", topic, key);
 		} catch (JsonProcessingException e) {
-			log.error("이벤트 역직렬화 실패: topic={}, key={}", topic, key, e);
+			log.error("이벤트 역직렬화 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("이벤트 역직렬화 실패", e);
 		} catch (Exception e) {
-			log.error("Kafka 메시지 전송 실패: topic={}, key={}", topic, key, e);
+			log.error("Kafka 메시지 전송 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("Kafka 메시지 전송 실패", e);
 		}
 	}
@@ -91,24 +92,24 @@ public class ExchangeEventPublisher {
 	@KafkaAsyncOperationBinding(
 		messageBinding = @KafkaAsyncMessageBinding(
 			key = @KafkaAsyncKey(
-				description = "집계 타입과 집계 ID를 조합한 키 (형식: {aggregateType}-{aggregateId})",
-				example = "Exchange-123"
+				description = "주문 ID 기반 파티션 키 (형식: Order-{orderId})",
+				example = "Order-123"
 			)
 		)
 	)
 	public void publishExchangeCollectingEvent(Outbox outbox) {
 		String topic = EventTypeConstants.TOPIC_EXCHANGE_COLLECTING;
-		String key = buildKey(outbox.getAggregateType(), outbox.getAggregateId());
 
 		try {
 			ExchangeCollectingEvent event = objectMapper.readValue(outbox.getPayload(), ExchangeCollectingEvent.class);
+			String key = OrderEventKey.of(event.getOrderId());
 			kafkaTemplate.send(topic, key, event).get();
 			log.debug("Kafka 메시지 전송 성공: topic={}, key={}", topic, key);
 		} catch (JsonProcessingException e) {
-			log.error("이벤트 역직렬화 실패: topic={}, key={}", topic, key, e);
+			log.error("이벤트 역직렬화 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("이벤트 역직렬화 실패", e);
 		} catch (Exception e) {
-			log.error("Kafka 메시지 전송 실패: topic={}, key={}", topic, key, e);
+			log.error("Kafka 메시지 전송 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("Kafka 메시지 전송 실패", e);
 		}
 	}
@@ -133,24 +134,24 @@ public class ExchangeEventPublisher {
 	@KafkaAsyncOperationBinding(
 		messageBinding = @KafkaAsyncMessageBinding(
 			key = @KafkaAsyncKey(
-				description = "집계 타입과 집계 ID를 조합한 키 (형식: {aggregateType}-{aggregateId})",
-				example = "Exchange-123"
+				description = "주문 ID 기반 파티션 키 (형식: Order-{orderId})",
+				example = "Order-123"
 			)
 		)
 	)
 	public void publishExchangeReturnCompletedEvent(Outbox outbox) {
 		String topic = EventTypeConstants.TOPIC_EXCHANGE_RETURN_COMPLETED;
-		String key = buildKey(outbox.getAggregateType(), outbox.getAggregateId());
 
 		try {
 			ExchangeReturnCompletedEvent event = objectMapper.readValue(outbox.getPayload(), ExchangeReturnCompletedEvent.class);
+			String key = OrderEventKey.of(event.getOrderId());
 			kafkaTemplate.send(topic, key, event).get();
 			log.debug("Kafka 메시지 전송 성공: topic={}, key={}", topic, key);
 		} catch (JsonProcessingException e) {
-			log.error("이벤트 역직렬화 실패: topic={}, key={}", topic, key, e);
+			log.error("이벤트 역직렬화 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("이벤트 역직렬화 실패", e);
 		} catch (Exception e) {
-			log.error("Kafka 메시지 전송 실패: topic={}, key={}", topic, key, e);
+			log.error("Kafka 메시지 전송 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("Kafka 메시지 전송 실패", e);
 		}
 	}
@@ -175,24 +176,24 @@ public class ExchangeEventPublisher {
 	@KafkaAsyncOperationBinding(
 		messageBinding = @KafkaAsyncMessageBinding(
 			key = @KafkaAsyncKey(
-				description = "집계 타입과 집계 ID를 조합한 키 (형식: {aggregateType}-{aggregateId})",
-				example = "Exchange-123"
+				description = "주문 ID 기반 파티션 키 (형식: Order-{orderId})",
+				example = "Order-123"
 			)
 		)
 	)
 	public void publishExchangeShippingEvent(Outbox outbox) {
 		String topic = EventTypeConstants.TOPIC_EXCHANGE_SHIPPING;
-		String key = buildKey(outbox.getAggregateType(), outbox.getAggregateId());
 
 		try {
 			ExchangeShippingEvent event = objectMapper.readValue(outbox.getPayload(), ExchangeShippingEvent.class);
+			String key = OrderEventKey.of(event.getOrderId());
 			kafkaTemplate.send(topic, key, event).get();
 			log.debug("Kafka 메시지 전송 성공: topic={}, key={}", topic, key);
 		} catch (JsonProcessingException e) {
-			log.error("이벤트 역직렬화 실패: topic={}, key={}", topic, key, e);
+			log.error("이벤트 역직렬화 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("이벤트 역직렬화 실패", e);
 		} catch (Exception e) {
-			log.error("Kafka 메시지 전송 실패: topic={}, key={}", topic, key, e);
+			log.error("Kafka 메시지 전송 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("Kafka 메시지 전송 실패", e);
 		}
 	}
@@ -217,29 +218,25 @@ public class ExchangeEventPublisher {
 	@KafkaAsyncOperationBinding(
 		messageBinding = @KafkaAsyncMessageBinding(
 			key = @KafkaAsyncKey(
-				description = "집계 타입과 집계 ID를 조합한 키 (형식: {aggregateType}-{aggregateId})",
-				example = "Exchange-123"
+				description = "주문 ID 기반 파티션 키 (형식: Order-{orderId})",
+				example = "Order-123"
 			)
 		)
 	)
 	public void publishExchangeCompletedEvent(Outbox outbox) {
 		String topic = EventTypeConstants.TOPIC_EXCHANGE_COMPLETED;
-		String key = buildKey(outbox.getAggregateType(), outbox.getAggregateId());
 
 		try {
 			ExchangeCompletedEvent event = objectMapper.readValue(outbox.getPayload(), ExchangeCompletedEvent.class);
+			String key = OrderEventKey.of(event.getOrderId());
 			kafkaTemplate.send(topic, key, event).get();
 			log.debug("Kafka 메시지 전송 성공: topic={}, key={}", topic, key);
 		} catch (JsonProcessingException e) {
-			log.error("이벤트 역직렬화 실패: topic={}, key={}", topic, key, e);
+			log.error("이벤트 역직렬화 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("이벤트 역직렬화 실패", e);
 		} catch (Exception e) {
-			log.error("Kafka 메시지 전송 실패: topic={}, key={}", topic, key, e);
+			log.error("Kafka 메시지 전송 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("Kafka 메시지 전송 실패", e);
 		}
 	}
-
-	private String buildKey(String aggregateType, String aggregateId) {
-		return aggregateType + "-" + aggregateId;
-	}
 }
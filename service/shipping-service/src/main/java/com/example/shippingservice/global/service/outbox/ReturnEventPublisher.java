@@ -4,6 +4,7 @@ import com.example.shippingservice.domain.entity.Outbox;
 import com.example.shippingservice.domain.event.ReturnApprovedEvent;
 import com.example.shippingservice.domain.event.ReturnCompletedEvent;
 import com.example.shippingservice.global.common.EventTypeConstants;
+import com.example.eventcontract.OrderEventKey;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.springwolf.bindings.kafka.annotations.KafkaAsyncOperationBinding;
@@ -46,24 +47,24 @@ public class ReturnEventPublisher {
 	@KafkaAsyncOperationBinding(
 		messageBinding = @KafkaAsyncMessageBinding(
 			key = @KafkaAsyncKey(
-				description = "집계 타입과 집계 ID를 조합한 키 (형식: {aggregateType}-{aggregateId})",
-				example = "Return-123"
+				description = "주문 ID 기반 파티션 키 (형식: Order-{orderId})",
+				example = "Order-123"
 			)
 		)
 	)
 	public void publishReturnApprovedEvent(Outbox outbox) {
 		String topic = EventTypeConstants.TOPIC_RETURN_APPROVED;
-		String key = buildKey(outbox.getAggregateType(), outbox.getAggregateId());
 
 		try {
 			ReturnApprovedEvent event = objectMapper.readValue(outbox.getPayload(), ReturnApprovedEvent.class);
+			String key = OrderEventKey.of(event.getOrderId());
 			kafkaTemplate.send(topic, key, event).get();
 			log.debug("Kafka 메시지 전송 성공: topic={}, key={}", topic, key);
 		} catch (JsonProcessingException e) {
-			log.error("이벤트 역직렬화 실패: topic={}, key={}", topic, key, e);
+			log.error("이벤트 역직렬화 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("이벤트 역직렬화 실패", e);
 		} catch (Exception e) {
-			log.error("Kafka 메시지 전송 실패: topic={}, key={}", topic, key, e);
+			log.error("Kafka 메시지 전송 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("Kafka 메시지 전송 실패", e);
 		}
 	}
@@ -88,24 +89,24 @@ public class ReturnEventPublisher {
 	@KafkaAsyncOperationBinding(
 		messageBinding = @KafkaAsyncMessageBinding(
 			key = @KafkaAsyncKey(
-				description = "집계 타입과 집계 ID를 조합한 키 (형식: {aggregateType}-{aggregateId})",
-				example = "Return-123"
+				description = "주문 ID 기반 파티션 키 (형식: Order-{orderId})",
+				example = "Order-123"
 			)
 		)
 	)
 	public void publishReturnInTransitEvent(Outbox outbox) {
 		String topic = EventTypeConstants.TOPIC_RETURN_IN_TRANSIT;
-		String key = buildKey(outbox.getAggregateType(), outbox.getAggregateId());
 
 		try {
 			com.example.shippingservice.domain.event.ReturnInTransitEvent event = objectMapper.readValue(outbox.getPayload(), com.example.shippingservice.domain.event.ReturnInTransitEvent.class);
+			String key = OrderEventKey.of(event.getOrderId());
 			kafkaTemplate.send(topic, key, event).get();
 			log.debug("Kafka 메시지 전송 성공: topic={}, key={}", topic, key);
 		} catch (JsonProcessingException e) {
-			log.error("이벤트 역직렬화 실패: topic={}, key={}", topic, key, e);
+			log.error("이벤트 역직렬화 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("이벤트 역직렬화 실패", e);
 		} catch (Exception e) {
-			log.error("Kafka 메시지 전송 실패: topic={}, key={}", topic, key, e);
+			log.error("Kafka 메시지 전송 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("Kafka 메시지 전송 실패", e);
 		}
 	}
@@ -130,29 +131,25 @@ public class ReturnEventPublisher {
 	@KafkaAsyncOperationBinding(
 		messageBinding = @KafkaAsyncMessageBinding(
 			key = @KafkaAsyncKey(
-				description = "집계 타입과 집계 ID를 조합한 키 (형식: {aggregateType}-{aggregateId})",
-				example = "Return-123"
+				description = "주문 ID 기반 파티션 키 (형식: Order-{orderId})",
+				example = "Order-123"
 			)
 		)
 	)
 	public void publishReturnCompletedEvent(Outbox outbox) {
 		String topic = EventTypeConstants.TOPIC_RETURN_COMPLETED;
-		String key = buildKey(outbox.getAggregateType(), outbox.getAggregateId());
 
 		try {
 			ReturnCompletedEvent event = objectMapper.readValue(outbox.getPayload(), ReturnCompletedEvent.class);
+			String key = OrderEventKey.of(event.getOrderId());
 			kafkaTemplate.send(topic, key, event).get();
 			log.debug("Kafka 메시지 전송 성공: topic={}, key={}", topic, key);
 		} catch (JsonProcessingException e) {
-			log.error("이벤트 역직렬화 실패: topic={}, key={}", topic, key, e);
+			log.error("이벤트 역직렬화 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("이벤트 역직렬화 실패", e);
 		} catch (Exception e) {
-			log.error("Kafka 메시지 전송 실패: topic={}, key={}", topic, key, e);
+			log.error("Kafka 메시지 전송 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("Kafka 메시지 전송 실패", e);
 		}
 	}
-
-	private String buildKey(String aggregateType, String aggregateId) {
-		return aggregateType + "-" + aggregateId;
-	}
 }
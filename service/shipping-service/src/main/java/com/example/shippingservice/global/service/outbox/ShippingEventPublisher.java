@@ -4,6 +4,7 @@ import com.example.shippingservice.domain.entity.Outbox;
 import com.example.shippingservice.domain.event.ShippingDeliveredEvent;
 import com.example.shippingservice.domain.event.ShippingStartedEvent;
 import com.example.shippingservice.global.common.EventTypeConstants;
+import com.example.eventcontract.OrderEventKey;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.springwolf.bindings.kafka.annotations.KafkaAsyncOperationBinding;
@@ -46,24 +47,24 @@ public class ShippingEventPublisher {
 	@KafkaAsyncOperationBinding(
 		messageBinding = @KafkaAsyncMessageBinding(
 			key = @KafkaAsyncKey(
-				description = "집계 타입과 집계 ID를 조합한 키 (형식: {aggregateType}-{aggregateId})",
-				example = "Shipping-123"
+				description = "주문 ID 기반 파티션 키 (형식: Order-{orderId})",
+				example = "Order-123"
 			)
 		)
 	)
 	public void publishShippingStartedEvent(Outbox outbox) {
 		String topic = EventTypeConstants.TOPIC_SHIPPING_STARTED;
-		String key = buildKey(outbox.getAggregateType(), outbox.getAggregateId());
 
 		try {
 			ShippingStartedEvent event = objectMapper.readValue(outbox.getPayload(), ShippingStartedEvent.class);
+			String key = OrderEventKey.of(event.getOrderId());
 			kafkaTemplate.send(topic, key, event).get();
 			log.debug("Kafka 메시지 전송 성공: topic={}, key={}", topic, key);
 		} catch (JsonProcessingException e) {
-			log.error("이벤트 역직렬화 실패: topic={}, key={}", topic, key, e);
+			log.error("이벤트 역직렬화 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("이벤트 역직렬화 실패", e);
 		} catch (Exception e) {
-			log.error("Kafka 메시지 전송 실패: topic={}, key={}", topic, key, e);
+			log.error("Kafka 메시지 전송 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("Kafka 메시지 전송 실패", e);
 		}
 	}
@@ -88,29 +89,25 @@ public class ShippingEventPublisher {
 	@KafkaAsyncOperationBinding(
 		messageBinding = @KafkaAsyncMessageBinding(
 			key = @KafkaAsyncKey(
-				description = "집계 타입과 집계 ID를 조합한 키 (형식: {aggregateType}-{aggregateId})",
-				example = "Shipping-123"
+				description = "주문 ID 기반 파티션 키 (형식: Order-{orderId})",
+				example = "Order-123"
 			)
 		)
 	)
 	public void publishShippingDeliveredEvent(Outbox outbox) {
 		String topic = EventTypeConstants.TOPIC_SHIPPING_DELIVERED;
-		String key = buildKey(outbox.getAggregateType(), outbox.getAggregateId());
 
 		try {
 			ShippingDeliveredEvent event = objectMapper.readValue(outbox.getPayload(), ShippingDeliveredEvent.class);
+			String key = OrderEventKey.of(event.getOrderId());
 			kafkaTemplate.send(topic, key, event).get();
 			log.debug("Kafka 메시지 전송 성공: topic={}, key={}", topic, key);
 		} catch (JsonProcessingException e) {
-			log.error("이벤트 역직렬화 실패: topic={}, key={}", topic, key, e);
+			log.error("이벤트 역직렬화 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("이벤트 역직렬화 실패", e);
 		} catch (Exception e) {
-			log.error("Kafka 메시지 전송 실패: topic={}, key={}", topic, key, e);
+			log.error("Kafka 메시지 전송 실패: topic={}, aggregateId={}", topic, outbox.getAggregateId(), e);
 			throw new RuntimeException("Kafka 메시지 전송 실패", e);
 		}
 	}
-
-	private String buildKey(String aggregateType, String aggregateId) {
-		return aggregateType + "-" + aggregateId;
-	}
 }